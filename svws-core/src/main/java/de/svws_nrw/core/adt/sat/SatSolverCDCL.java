@@ -0,0 +1,685 @@
+package de.svws_nrw.core.adt.sat;
+
+import de.svws_nrw.core.exceptions.DeveloperNotificationException;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Ein SAT-Solver nach dem CDCL-Verfahren (Conflict Driven Clause Learning). <br>
+ * Die Unit-Propagation verwendet zwei beobachtete Literale pro Klausel, die Variablenwahl erfolgt nach ihrer Aktivität
+ * in Konflikten (VSIDS) mit Speicherung der letzten Belegung. Aus jedem Konflikt wird eine Klausel (1-UIP) gelernt
+ * und um redundante Literale verkürzt.
+ * Die Suche wird nach der Luby-Folge neu gestartet, dabei werden gelernte Klauseln mit hoher LBD wieder gelöscht. <br>
+ * Intern wird die Variable v als Literal 2*v (positiv) bzw. 2*v+1 (negiert) kodiert.
+ *
+ * @author Benjamin A. Bartsch
+ */
+public final class SatSolverCDCL extends SatSolver {
+
+	/** Die Anzahl an Konflikten einer Luby-Einheit zwischen zwei Neustarts. */
+	private static final int RESTART_BASIS = 100;
+
+	/** Der Faktor, mit dem die Variablen-Aktivität nach jedem Konflikt wächst (entspricht einem Zerfall von 0.95). */
+	private static final double AKTIVITAET_WACHSTUM = 1.0 / 0.95;
+
+	/** Ab dieser Aktivität werden alle Aktivitäten herunterskaliert. */
+	private static final double AKTIVITAET_GRENZE = 1e100;
+
+	/** Die Anzahl an Konflikten bis zum ersten Löschen gelernter Klauseln. */
+	private static final int REDUKTION_BASIS = 2000;
+
+	/** Der Zuwachs an Konflikten zwischen zwei Löschvorgängen. */
+	private static final int REDUKTION_ZUWACHS = 300;
+
+	/** Gelernte Klauseln mit einer LBD bis zu diesem Wert werden nie gelöscht. */
+	private static final int LBD_BEHALTEN = 2;
+
+	/** Die größte unterschiedene LBD beim Löschen gelernter Klauseln. */
+	private static final int LBD_MAXIMUM = 64;
+
+	/** Die Anzahl an Variablen. */
+	private int _nVars = 0;
+
+	/** Alle Klauseln (kodierte Literale). Die Literale an Position 0 und 1 werden beobachtet. */
+	private @NotNull int @NotNull [][] _klauseln = new int[0][0];
+
+	/** Die Anzahl der Klauseln in {@link #_klauseln}. */
+	private int _nKlauseln = 0;
+
+	/** Die Anzahl der Original-Klauseln. Alle Klauseln ab diesem Index sind gelernt. */
+	private int _nOriginal = 0;
+
+	/** Die LBD (Anzahl unterschiedlicher Entscheidungsebenen) jeder gelernten Klausel. */
+	private @NotNull int[] _klauselLbd = new int[0];
+
+	/**
+	 * Pro kodiertem Literal die Klauseln, die dieses Literal beobachten. Es werden jeweils Paare aus dem Index der
+	 * Klausel und einem weiteren Literal der Klausel (Blocker) gespeichert. Ist der Blocker TRUE, muss die Klausel
+	 * selbst nicht betrachtet werden.
+	 */
+	private @NotNull int @NotNull [][] _watches = new int[0][0];
+
+	/** Pro kodiertem Literal die Anzahl der Einträge in {@link #_watches}. */
+	private @NotNull int[] _watchesAnzahl = new int[0];
+
+	/** Die Belegung jeder Variablen: 1 (TRUE), -1 (FALSE) oder 0 (unbelegt). */
+	private @NotNull int[] _wert = new int[0];
+
+	/** Die Entscheidungsebene jeder belegten Variablen. */
+	private @NotNull int[] _ebene = new int[0];
+
+	/** Die Klausel, welche die Belegung der Variablen erzwungen hat, oder -1. */
+	private @NotNull int[] _grund = new int[0];
+
+	/** Die zuletzt belegte Polarität jeder Variablen (Phase-Saving). */
+	private @NotNull boolean[] _phase = new boolean[0];
+
+	/** Markierung der Variablen während der Konfliktanalyse. */
+	private @NotNull boolean[] _gesehen = new boolean[0];
+
+	/** Die Aktivität jeder Variablen (VSIDS). */
+	private @NotNull double[] _aktivitaet = new double[0];
+
+	/** Der aktuelle Zuwachs der Aktivität. */
+	private double _aktivitaetZuwachs = 1.0;
+
+	/** Ein Max-Heap der Variablen nach ihrer Aktivität. */
+	private @NotNull int[] _heap = new int[0];
+
+	/** Die Position jeder Variablen in {@link #_heap} oder -1. */
+	private @NotNull int[] _heapPos = new int[0];
+
+	/** Die Anzahl an Variablen in {@link #_heap}. */
+	private int _heapAnzahl = 0;
+
+	/** Alle belegten Literale in der Reihenfolge ihrer Belegung. */
+	private @NotNull int[] _trail = new int[0];
+
+	/** Die Anzahl der Einträge in {@link #_trail}. */
+	private int _trailAnzahl = 0;
+
+	/** Der Index in {@link #_trail}, ab dem noch propagiert werden muss. */
+	private int _trailKopf = 0;
+
+	/** Pro Entscheidungsebene der Beginn der Ebene in {@link #_trail}. */
+	private @NotNull int[] _ebenenBeginn = new int[0];
+
+	/** Die aktuelle Entscheidungsebene. */
+	private int _ebeneAktuell = 0;
+
+	/** Ein Puffer für die gerade gelernte Klausel. */
+	private @NotNull int[] _gelernt = new int[0];
+
+	/** Die Anzahl der Literale in {@link #_gelernt}. */
+	private int _gelerntAnzahl = 0;
+
+	/** Ein Stapel für die Prüfung, ob ein Literal der gelernten Klausel redundant ist. */
+	private @NotNull int[] _stapel = new int[0];
+
+	/** Alle Literale, die während der Redundanz-Prüfung zusätzlich markiert wurden. */
+	private @NotNull int[] _markiert = new int[0];
+
+	/** Die Anzahl der Einträge in {@link #_markiert}. */
+	private int _markiertAnzahl = 0;
+
+	/** Die Markierung der Ebenen bei der Berechnung der LBD. */
+	private @NotNull int[] _ebeneStempel = new int[0];
+
+	/** Der aktuelle Stempel für {@link #_ebeneStempel}. */
+	private int _stempel = 0;
+
+	/**
+	 * Ein SAT-Solver nach dem CDCL-Verfahren.
+	 */
+	public SatSolverCDCL() {
+		// Die Datenstrukturen werden erst später erzeugt,
+		// da Preprozessoren ggf. SatInput manipulieren.
+	}
+
+	@Override
+	public @NotNull SatOutput apply(final @NotNull SatInput t) {
+		final long timeEnd = System.currentTimeMillis() + maxTimeMillis;
+
+		final int nVars = t.getVarCount();
+		DeveloperNotificationException.ifSmaller("nVars", nVars, 1);
+		initialisiere(nVars);
+
+		// Klauseln übernehmen, dabei Duplikate entfernen und Tautologien ignorieren.
+		for (final @NotNull Integer @NotNull [] clause : t.getClauses())
+			if (!fuegeOriginalKlauselHinzu(clause))
+				return SatOutput.createUNSATISFIABLE();
+		if (propagiere() >= 0)
+			return SatOutput.createUNSATISFIABLE();
+
+		int reduktionen = 0;
+		int konflikteBisReduktion = REDUKTION_BASIS;
+		int neustarts = 0;
+		int konflikteBisNeustart = luby(neustarts) * RESTART_BASIS;
+
+		while (System.currentTimeMillis() <= timeEnd) {
+			final int konflikt = propagiere();
+
+			if (konflikt >= 0) {
+				if (_ebeneAktuell == 0)
+					return SatOutput.createUNSATISFIABLE();
+				final int ruecksprung = analysiere(konflikt);
+				setzeZurueck(ruecksprung);
+				lerne();
+				_aktivitaetZuwachs *= AKTIVITAET_WACHSTUM;
+				konflikteBisNeustart--;
+				konflikteBisReduktion--;
+				continue;
+			}
+
+			// Neustart und ggf. gelernte Klauseln löschen.
+			if (konflikteBisNeustart <= 0) {
+				setzeZurueck(0);
+				neustarts++;
+				konflikteBisNeustart = luby(neustarts) * RESTART_BASIS;
+				if (konflikteBisReduktion <= 0) {
+					reduziereGelernteKlauseln();
+					reduktionen++;
+					konflikteBisReduktion = REDUKTION_BASIS + REDUKTION_ZUWACHS * reduktionen;
+				}
+				continue;
+			}
+
+			// Entscheidung
+			final int v = gibEntscheidungsVariable();
+			if (v == 0)
+				return SatOutput.createSATISFIABLE(gibLoesung());
+			_ebenenBeginn[_ebeneAktuell] = _trailAnzahl;
+			_ebeneAktuell++;
+			belege(_phase[v] ? (2 * v) : (2 * v + 1), -1);
+		}
+
+		return SatOutput.createUNKNOWN();
+	}
+
+	private void initialisiere(final int nVars) {
+		_nVars = nVars;
+		_klauseln = new int[16][0];
+		_nKlauseln = 0;
+		_nOriginal = 0;
+		_klauselLbd = new int[16];
+		_watches = new int[2 * nVars + 2][0];
+		_watchesAnzahl = new int[2 * nVars + 2];
+		_wert = new int[nVars + 1];
+		_ebene = new int[nVars + 1];
+		_grund = new int[nVars + 1];
+		_phase = new boolean[nVars + 1];
+		_gesehen = new boolean[nVars + 1];
+		_aktivitaet = new double[nVars + 1];
+		_aktivitaetZuwachs = 1.0;
+		_heap = new int[nVars];
+		_heapPos = new int[nVars + 1];
+		_heapAnzahl = 0;
+		_trail = new int[nVars];
+		_trailAnzahl = 0;
+		_trailKopf = 0;
+		_ebenenBeginn = new int[nVars + 1];
+		_ebeneAktuell = 0;
+		_gelernt = new int[nVars];
+		_gelerntAnzahl = 0;
+		_stapel = new int[nVars];
+		_markiert = new int[nVars];
+		_markiertAnzahl = 0;
+		_ebeneStempel = new int[nVars + 1];
+		_stempel = 0;
+		for (int v = 1; v <= nVars; v++) {
+			_grund[v] = -1;
+			_heapPos[v] = -1;
+			_phase[v] = true;
+			heapEinfuegen(v);
+		}
+	}
+
+	/**
+	 * Fügt eine Original-Klausel hinzu. Einelementige Klauseln werden direkt auf Ebene 0 belegt, eine leere Klausel
+	 * ist nie erfüllbar.
+	 *
+	 * @return FALSE, falls die Formel dadurch offensichtlich unlösbar wird.
+	 */
+	private boolean fuegeOriginalKlauselHinzu(final @NotNull Integer @NotNull [] clause) {
+		_stempel++;
+		_gelerntAnzahl = 0;
+		for (final int literal : clause) {
+			final int v = Math.abs(literal);
+			final int kodiert = (literal > 0) ? (2 * v) : (2 * v + 1);
+			if (_ebeneStempel[v] == _stempel) {
+				if (enthaeltGelernt(kodiert))
+					continue;
+				return true; // Tautologie (v OR NOT v)
+			}
+			_ebeneStempel[v] = _stempel;
+			_gelernt[_gelerntAnzahl++] = kodiert;
+		}
+
+		if (_gelerntAnzahl == 0)
+			return false;
+
+		if (_gelerntAnzahl == 1) {
+			final int lit = _gelernt[0];
+			final int wert = gibWert(lit);
+			if (wert == 0)
+				belege(lit, -1);
+			return wert >= 0;
+		}
+
+		final @NotNull int[] klausel = new int[_gelerntAnzahl];
+		System.arraycopy(_gelernt, 0, klausel, 0, _gelerntAnzahl);
+		fuegeKlauselHinzu(klausel, 0);
+		_nOriginal = _nKlauseln;
+		return true;
+	}
+
+	private boolean enthaeltGelernt(final int lit) {
+		for (int i = 0; i < _gelerntAnzahl; i++)
+			if (_gelernt[i] == lit)
+				return true;
+		return false;
+	}
+
+	private int fuegeKlauselHinzu(final @NotNull int[] klausel, final int lbd) {
+		if (_nKlauseln == _klauseln.length) {
+			final @NotNull int @NotNull [][] temp = new int[2 * _klauseln.length][0];
+			System.arraycopy(_klauseln, 0, temp, 0, _nKlauseln);
+			_klauseln = temp;
+			final @NotNull int[] tempLbd = new int[2 * _klauselLbd.length];
+			System.arraycopy(_klauselLbd, 0, tempLbd, 0, _nKlauseln);
+			_klauselLbd = tempLbd;
+		}
+		final int index = _nKlauseln++;
+		_klauseln[index] = klausel;
+		_klauselLbd[index] = lbd;
+		beobachte(klausel[0], index, klausel[1]);
+		beobachte(klausel[1], index, klausel[0]);
+		return index;
+	}
+
+	private void beobachte(final int lit, final int klausel, final int blocker) {
+		final int anzahl = _watchesAnzahl[lit];
+		if (anzahl == _watches[lit].length) {
+			final @NotNull int[] temp = new int[Math.max(8, 2 * anzahl)];
+			System.arraycopy(_watches[lit], 0, temp, 0, anzahl);
+			_watches[lit] = temp;
+		}
+		_watches[lit][anzahl] = klausel;
+		_watches[lit][anzahl + 1] = blocker;
+		_watchesAnzahl[lit] = anzahl + 2;
+	}
+
+	/** Liefert 1 (TRUE), -1 (FALSE) oder 0 (unbelegt) für das kodierte Literal. */
+	private int gibWert(final int lit) {
+		final int wert = _wert[lit >> 1];
+		return ((lit & 1) == 0) ? wert : -wert;
+	}
+
+	private void belege(final int lit, final int grund) {
+		final int v = lit >> 1;
+		_wert[v] = ((lit & 1) == 0) ? 1 : -1;
+		_ebene[v] = _ebeneAktuell;
+		_grund[v] = grund;
+		_trail[_trailAnzahl++] = lit;
+	}
+
+	/**
+	 * Propagiert alle noch nicht propagierten Belegungen.
+	 *
+	 * @return den Index der Konflikt-Klausel oder -1, falls kein Konflikt auftrat.
+	 */
+	private int propagiere() {
+		while (_trailKopf < _trailAnzahl) {
+			final int falsch = _trail[_trailKopf++] ^ 1;
+			final @NotNull int[] ws = _watches[falsch];
+			final int n = _watchesAnzahl[falsch];
+			int i = 0;
+			int j = 0;
+			while (i < n) {
+				final int ki = ws[i];
+				final int blocker = ws[i + 1];
+				i += 2;
+
+				// Ist die Klausel über den Blocker bereits erfüllt?
+				if (gibWert(blocker) == 1) {
+					ws[j++] = ki;
+					ws[j++] = blocker;
+					continue;
+				}
+
+				// Das falsche Literal an Position 1 bringen.
+				final @NotNull int[] k = _klauseln[ki];
+				if (k[0] == falsch) {
+					k[0] = k[1];
+					k[1] = falsch;
+				}
+
+				// Ist die Klausel bereits erfüllt?
+				final int erstes = k[0];
+				if ((erstes != blocker) && (gibWert(erstes) == 1)) {
+					ws[j++] = ki;
+					ws[j++] = erstes;
+					continue;
+				}
+
+				// Ein neues, nicht falsches Literal zum Beobachten suchen.
+				boolean gefunden = false;
+				for (int p = 2; p < k.length; p++)
+					if (gibWert(k[p]) != -1) {
+						k[1] = k[p];
+						k[p] = falsch;
+						beobachte(k[1], ki, erstes);
+						gefunden = true;
+						break;
+					}
+				if (gefunden)
+					continue;
+
+				// Die Klausel ist unit oder im Konflikt.
+				ws[j++] = ki;
+				ws[j++] = erstes;
+				if (gibWert(erstes) == -1) {
+					while (i < n)
+						ws[j++] = ws[i++];
+					_watchesAnzahl[falsch] = j;
+					_trailKopf = _trailAnzahl;
+					return ki;
+				}
+				belege(erstes, ki);
+			}
+			_watchesAnzahl[falsch] = j;
+		}
+		return -1;
+	}
+
+	/**
+	 * Analysiert den Konflikt und speichert die gelernte Klausel (1-UIP) in {@link #_gelernt}. Das erste Literal ist
+	 * das nach dem Rücksprung erzwungene Literal, das zweite Literal hat die höchste verbleibende Ebene.
+	 *
+	 * @return die Ebene, auf die zurückgesprungen werden muss.
+	 */
+	private int analysiere(final int konflikt) {
+		_gelerntAnzahl = 1; // Position 0 wird am Ende gesetzt.
+		int offen = 0;
+		int lit = -1;
+		int index = _trailAnzahl - 1;
+		int klausel = konflikt;
+
+		do {
+			final @NotNull int[] k = _klauseln[klausel];
+			for (int p = (lit < 0) ? 0 : 1; p < k.length; p++) {
+				final int q = k[p];
+				final int v = q >> 1;
+				if (_gesehen[v] || (_ebene[v] == 0))
+					continue;
+				erhoeheAktivitaet(v);
+				_gesehen[v] = true;
+				if (_ebene[v] >= _ebeneAktuell)
+					offen++;
+				else
+					_gelernt[_gelerntAnzahl++] = q;
+			}
+			while (!_gesehen[_trail[index] >> 1])
+				index--;
+			lit = _trail[index];
+			index--;
+			klausel = _grund[lit >> 1];
+			_gesehen[lit >> 1] = false;
+			offen--;
+		} while (offen > 0);
+		_gelernt[0] = lit ^ 1;
+
+		// Literale entfernen, die (rekursiv über ihre Gründe) aus den übrigen Literalen folgen.
+		// Die entfernten Literale bleiben hinter Position j erhalten, damit ihre Markierung zurückgesetzt werden kann.
+		int ebenen = 0;
+		for (int i = 1; i < _gelerntAnzahl; i++)
+			ebenen |= gibEbenenBit(_gelernt[i] >> 1);
+		_markiertAnzahl = 0;
+		int j = 1;
+		for (int i = 1; i < _gelerntAnzahl; i++) {
+			final int q = _gelernt[i];
+			if ((_grund[q >> 1] < 0) || (!istRedundant(q, ebenen))) {
+				_gelernt[i] = _gelernt[j];
+				_gelernt[j++] = q;
+			}
+		}
+		for (int i = 1; i < _gelerntAnzahl; i++)
+			_gesehen[_gelernt[i] >> 1] = false;
+		for (int i = 0; i < _markiertAnzahl; i++)
+			_gesehen[_markiert[i] >> 1] = false;
+		_gelerntAnzahl = j;
+
+		// Rücksprung-Ebene bestimmen und das zugehörige Literal an Position 1 bringen.
+		if (_gelerntAnzahl == 1)
+			return 0;
+		int maxI = 1;
+		for (int i = 2; i < _gelerntAnzahl; i++)
+			if (_ebene[_gelernt[i] >> 1] > _ebene[_gelernt[maxI] >> 1])
+				maxI = i;
+		final int temp = _gelernt[1];
+		_gelernt[1] = _gelernt[maxI];
+		_gelernt[maxI] = temp;
+		return _ebene[_gelernt[1] >> 1];
+	}
+
+	private int gibEbenenBit(final int v) {
+		return 1 << (_ebene[v] & 31);
+	}
+
+	/**
+	 * Liefert TRUE, falls das Literal der gelernten Klausel aus den markierten Literalen folgt. Dazu werden die Gründe
+	 * rekursiv (mit einem Stapel) verfolgt. Nur Variablen auf Ebenen der gelernten Klausel können dabei helfen.
+	 */
+	private boolean istRedundant(final int lit, final int ebenen) {
+		final int markiertStart = _markiertAnzahl;
+		int oben = 0;
+		_stapel[oben++] = lit;
+		while (oben > 0) {
+			final @NotNull int[] k = _klauseln[_grund[_stapel[--oben] >> 1]];
+			for (int p = 1; p < k.length; p++) {
+				final int q = k[p];
+				final int v = q >> 1;
+				if (_gesehen[v] || (_ebene[v] == 0))
+					continue;
+				if ((_grund[v] < 0) || ((gibEbenenBit(v) & ebenen) == 0)) {
+					for (int i = markiertStart; i < _markiertAnzahl; i++)
+						_gesehen[_markiert[i] >> 1] = false;
+					_markiertAnzahl = markiertStart;
+					return false;
+				}
+				_gesehen[v] = true;
+				_stapel[oben++] = q;
+				_markiert[_markiertAnzahl++] = q;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Speichert die Klausel aus {@link #_gelernt} und belegt ihr erstes Literal.
+	 */
+	private void lerne() {
+		if (_gelerntAnzahl == 1) {
+			belege(_gelernt[0], -1);
+			return;
+		}
+		final @NotNull int[] klausel = new int[_gelerntAnzahl];
+		System.arraycopy(_gelernt, 0, klausel, 0, _gelerntAnzahl);
+		final int index = fuegeKlauselHinzu(klausel, berechneLbd(klausel));
+		belege(klausel[0], index);
+	}
+
+	private int berechneLbd(final @NotNull int[] klausel) {
+		_stempel++;
+		int lbd = 0;
+		for (final int lit : klausel) {
+			final int e = _ebene[lit >> 1];
+			if (_ebeneStempel[e] != _stempel) {
+				_ebeneStempel[e] = _stempel;
+				lbd++;
+			}
+		}
+		return lbd;
+	}
+
+	/**
+	 * Nimmt alle Belegungen oberhalb der übergebenen Ebene zurück.
+	 */
+	private void setzeZurueck(final int ebene) {
+		if (_ebeneAktuell <= ebene)
+			return;
+		final int beginn = _ebenenBeginn[ebene];
+		for (int i = _trailAnzahl - 1; i >= beginn; i--) {
+			final int v = _trail[i] >> 1;
+			_phase[v] = _wert[v] > 0;
+			_wert[v] = 0;
+			_grund[v] = -1;
+			if (_heapPos[v] < 0)
+				heapEinfuegen(v);
+		}
+		_trailAnzahl = beginn;
+		_trailKopf = beginn;
+		_ebeneAktuell = ebene;
+	}
+
+	/**
+	 * Löscht etwa die Hälfte der gelernten Klauseln mit der höchsten LBD. Darf nur auf Ebene 0 aufgerufen werden, da
+	 * sich die Indizes der Klauseln ändern.
+	 */
+	private void reduziereGelernteKlauseln() {
+		// Die LBD-Grenze bestimmen, ab der gelöscht wird.
+		final @NotNull int[] histogramm = new int[LBD_MAXIMUM + 1];
+		for (int i = _nOriginal; i < _nKlauseln; i++)
+			histogramm[Math.min(LBD_MAXIMUM, _klauselLbd[i])]++;
+		final int zielAnzahl = (_nKlauseln - _nOriginal) / 2;
+		int grenze = LBD_MAXIMUM;
+		int geloescht = histogramm[LBD_MAXIMUM];
+		while ((grenze > LBD_BEHALTEN + 1) && (geloescht < zielAnzahl)) {
+			grenze--;
+			geloescht += histogramm[grenze];
+		}
+
+		// Verbleibende Klauseln nach vorne schieben.
+		int j = _nOriginal;
+		for (int i = _nOriginal; i < _nKlauseln; i++)
+			if (Math.min(LBD_MAXIMUM, _klauselLbd[i]) < grenze) {
+				_klauseln[j] = _klauseln[i];
+				_klauselLbd[j] = _klauselLbd[i];
+				j++;
+			}
+		for (int i = j; i < _nKlauseln; i++)
+			_klauseln[i] = new int[0];
+		_nKlauseln = j;
+
+		// Auf Ebene 0 werden die Gründe nicht mehr benötigt, die Beobachtungen werden neu aufgebaut.
+		for (int i = 0; i < _trailAnzahl; i++)
+			_grund[_trail[i] >> 1] = -1;
+		for (int lit = 0; lit < _watchesAnzahl.length; lit++)
+			_watchesAnzahl[lit] = 0;
+		for (int i = 0; i < _nKlauseln; i++) {
+			beobachte(_klauseln[i][0], i, _klauseln[i][1]);
+			beobachte(_klauseln[i][1], i, _klauseln[i][0]);
+		}
+	}
+
+	private void erhoeheAktivitaet(final int v) {
+		_aktivitaet[v] += _aktivitaetZuwachs;
+		if (_aktivitaet[v] > AKTIVITAET_GRENZE) {
+			for (int w = 1; w <= _nVars; w++)
+				_aktivitaet[w] *= 1e-100;
+			_aktivitaetZuwachs *= 1e-100;
+		}
+		if (_heapPos[v] >= 0)
+			heapNachOben(_heapPos[v]);
+	}
+
+	/**
+	 * Liefert die unbelegte Variable mit der höchsten Aktivität oder 0, falls alle Variablen belegt sind.
+	 */
+	private int gibEntscheidungsVariable() {
+		while (_heapAnzahl > 0) {
+			final int v = heapEntferneMaximum();
+			if (_wert[v] == 0)
+				return v;
+		}
+		return 0;
+	}
+
+	private @NotNull int[] gibLoesung() {
+		final @NotNull int[] loesung = new int[_nVars + 1];
+		for (int v = 1; v <= _nVars; v++)
+			loesung[v] = (_wert[v] > 0) ? v : -v;
+		return loesung;
+	}
+
+	/** Liefert das i-te Element (0-indiziert) der Luby-Folge 1, 1, 2, 1, 1, 2, 4, 1, ... */
+	private static int luby(final int i) {
+		int groesse = 1;
+		int potenz = 0;
+		while (groesse < i + 1) {
+			potenz++;
+			groesse = 2 * groesse + 1;
+		}
+		int x = i;
+		while (groesse - 1 != x) {
+			groesse = (groesse - 1) >> 1;
+			potenz--;
+			x = x % groesse;
+		}
+		int ergebnis = 1;
+		for (int p = 0; p < potenz; p++)
+			ergebnis *= 2;
+		return ergebnis;
+	}
+
+	private void heapEinfuegen(final int v) {
+		_heap[_heapAnzahl] = v;
+		_heapPos[v] = _heapAnzahl;
+		_heapAnzahl++;
+		heapNachOben(_heapAnzahl - 1);
+	}
+
+	private int heapEntferneMaximum() {
+		final int v = _heap[0];
+		_heapAnzahl--;
+		_heapPos[v] = -1;
+		if (_heapAnzahl > 0) {
+			_heap[0] = _heap[_heapAnzahl];
+			_heapPos[_heap[0]] = 0;
+			heapNachUnten(0);
+		}
+		return v;
+	}
+
+	private void heapNachOben(final int pos) {
+		final int v = _heap[pos];
+		int i = pos;
+		while (i > 0) {
+			final int eltern = (i - 1) >> 1;
+			if (_aktivitaet[_heap[eltern]] >= _aktivitaet[v])
+				break;
+			_heap[i] = _heap[eltern];
+			_heapPos[_heap[i]] = i;
+			i = eltern;
+		}
+		_heap[i] = v;
+		_heapPos[v] = i;
+	}
+
+	private void heapNachUnten(final int pos) {
+		final int v = _heap[pos];
+		int i = pos;
+		while (2 * i + 1 < _heapAnzahl) {
+			int kind = 2 * i + 1;
+			if ((kind + 1 < _heapAnzahl) && (_aktivitaet[_heap[kind + 1]] > _aktivitaet[_heap[kind]]))
+				kind++;
+			if (_aktivitaet[_heap[kind]] <= _aktivitaet[v])
+				break;
+			_heap[i] = _heap[kind];
+			_heapPos[_heap[i]] = i;
+			i = kind;
+		}
+		_heap[i] = v;
+		_heapPos[v] = i;
+	}
+
+}
@@ -33,7 +33,7 @@ public class Adressbuch {
 
 	/** Versionskennzeichen des Adressbuchs */
 	@Schema(description = "Versionskennzeichen des Adressbuchs", example = "98")
-	public int synctoken;
+	public long synctoken;
 
 	/**
 	 * der Typ des Adressbuchs
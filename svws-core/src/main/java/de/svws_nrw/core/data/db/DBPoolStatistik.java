@@ -0,0 +1,73 @@
+package de.svws_nrw.core.data.db;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import de.svws_nrw.core.transpiler.TranspilerDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Diese Klasse wird bei der Kommunikation über die Open-API-Schnittstelle verwendet.
+ * Sie beinhaltet die Kennzahlen des Connection-Pools eines Verbindungs-Managers für ein Datenbank-Schema.
+ */
+@XmlRootElement
+@Schema(description = "die Kennzahlen des Connection-Pools für ein Datenbank-Schema.")
+@TranspilerDTO
+public class DBPoolStatistik {
+
+	/** Der Name des Schemas. */
+	@Schema(description = "der Name des Schemas", example = "svwsdb")
+	public @NotNull String schema = "";
+
+	/** Der Ort, an dem sich die Datenbank befindet. */
+	@Schema(description = "der Ort, an dem sich die Datenbank befindet", example = "localhost")
+	public @NotNull String location = "";
+
+	/** Der Datenbank-Benutzer, mit welchem die Verbindungen aufgebaut werden. */
+	@Schema(description = "der Datenbank-Benutzer, mit welchem die Verbindungen aufgebaut werden", example = "svwsadmin")
+	public @NotNull String username = "";
+
+	/** Die Anzahl der aktuell genutzten Datenbank-Verbindungen. */
+	@Schema(description = "die Anzahl der aktuell genutzten Datenbank-Verbindungen", example = "4")
+	public int verbindungenAktiv = 0;
+
+	/** Die Anzahl der aktuell freien Datenbank-Verbindungen im Pool. */
+	@Schema(description = "die Anzahl der aktuell freien Datenbank-Verbindungen im Pool", example = "2")
+	public int verbindungenFrei = 0;
+
+	/** Die maximale Anzahl an Datenbank-Verbindungen des Pools. */
+	@Schema(description = "die maximale Anzahl an Datenbank-Verbindungen des Pools", example = "64")
+	public int verbindungenMaximal = 0;
+
+	/** Die Anzahl der aktuell geöffneten Datenbank-Zugriffe (Entity-Manager). */
+	@Schema(description = "die Anzahl der aktuell geöffneten Datenbank-Zugriffe (Entity-Manager)", example = "5")
+	public int belegungenAktiv = 0;
+
+	/** Die Anzahl der Anfragen, die aktuell auf einen freien Datenbank-Zugriff warten. */
+	@Schema(description = "die Anzahl der Anfragen, die aktuell auf einen freien Datenbank-Zugriff warten", example = "0")
+	public int belegungenWartend = 0;
+
+	/** Die maximale Anzahl an gleichzeitig geöffneten Datenbank-Zugriffen. */
+	@Schema(description = "die maximale Anzahl an gleichzeitig geöffneten Datenbank-Zugriffen", example = "32")
+	public int belegungenMaximal = 0;
+
+	/** Die Anzahl aller bisher angeforderten Datenbank-Zugriffe. */
+	@Schema(description = "die Anzahl aller bisher angeforderten Datenbank-Zugriffe", example = "12345")
+	public long anzahlBelegungen = 0;
+
+	/** Die gesamte Wartezeit aller Anforderungen von Datenbank-Zugriffen in Millisekunden. */
+	@Schema(description = "die gesamte Wartezeit aller Anforderungen von Datenbank-Zugriffen in Millisekunden", example = "250")
+	public long wartezeitGesamtMillis = 0;
+
+	/** Die maximale Wartezeit einer Anforderung eines Datenbank-Zugriffs in Millisekunden. */
+	@Schema(description = "die maximale Wartezeit einer Anforderung eines Datenbank-Zugriffs in Millisekunden", example = "20")
+	public long wartezeitMaxMillis = 0;
+
+	/** Die Anzahl der Anforderungen, die wegen einer Zeitüberschreitung abgelehnt wurden. */
+	@Schema(description = "die Anzahl der Anforderungen, die wegen einer Zeitüberschreitung abgelehnt wurden", example = "0")
+	public long anzahlZeitueberschreitungen = 0;
+
+	/** Die Anzahl der Datenbank-Zugriffe, die nicht rechtzeitig geschlossen wurden und als Leck gemeldet wurden. */
+	@Schema(description = "die Anzahl der Datenbank-Zugriffe, die nicht rechtzeitig geschlossen wurden und als Leck gemeldet wurden", example = "0")
+	public long anzahlLecks = 0;
+
+}
@@ -0,0 +1,52 @@
+package de.svws_nrw.core.data.gost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.svws_nrw.core.transpiler.TranspilerDTO;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Diese Klasse beschreibt den Zustand einer auf dem Server im Hintergrund laufenden
+ * Berechnung einer Blockung der gymnasialen Oberstufe.
+ */
+@XmlRootElement
+@Schema(description = "Informationen zum Zustand einer Berechnung einer Blockung der gymnasialen Oberstufe.")
+@TranspilerDTO
+public class GostBlockungsberechnung {
+
+	/** Die ID der Berechnung */
+	public long id = -1;
+
+	/** Die ID der Blockung, für welche die Berechnung durchgeführt wird */
+	public long idBlockung = -1;
+
+	/** Der Status der Berechnung (wartend, laeuft, beendet, abgebrochen oder fehler) */
+	public @NotNull String status = "wartend";
+
+	/** Die maximale Zeit in Millisekunden, welche der Algorithmus für die Berechnung verwenden darf */
+	public long zeitMaximal = 0;
+
+	/** Die Zeit in Millisekunden, welche seit dem Start der Berechnung vergangen ist */
+	public long zeitVergangen = 0;
+
+	/** Die Anzahl der Instanzen des Algorithmus, welche parallel rechnen */
+	public int anzahlInstanzen = 0;
+
+	/** Die Anzahl der Instanzen des Algorithmus, welche ihre Berechnung bereits beendet haben */
+	public int anzahlInstanzenBeendet = 0;
+
+	/** Die Anzahl der bisher über alle Instanzen hinweg durchgeführten Durchläufe des Algorithmus */
+	public long anzahlDurchlaeufe = 0;
+
+	/** Die IDs der in der Datenbank gespeicherten Zwischenergebnisse, sobald die Berechnung beendet wurde */
+	@ArraySchema(schema = @Schema(implementation = Long.class))
+	public @NotNull List<@NotNull Long> ergebnisse = new ArrayList<>();
+
+	/** Eine Fehlermeldung, falls bei der Berechnung ein Fehler aufgetreten ist, ansonsten null */
+	public String fehlermeldung = null;
+
+}
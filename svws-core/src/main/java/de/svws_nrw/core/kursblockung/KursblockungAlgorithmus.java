@@ -2,6 +2,7 @@ package de.svws_nrw.core.kursblockung;
 
 import java.util.Random;
 import java.util.ArrayList;
+import java.util.function.Predicate;
 
 import de.svws_nrw.core.Service;
 import de.svws_nrw.core.logger.LogLevel;
@@ -22,13 +23,53 @@ public final class KursblockungAlgorithmus extends Service<@NotNull GostBlockung
 
 	private final @NotNull Random _random = new Random();
 
+	/** Die maximale Anzahl an Ergebnissen, welche ein Durchlauf zurückliefert. */
+	private int _maxErgebnisse = KursblockungErgebnisSpeicher.MAX_ERGEBNISSE_STANDARD;
+
+	/**
+	 * Setzt die maximale Anzahl an Ergebnissen, welche ein Durchlauf zurückliefert. Es werden dabei nur die besten,
+	 * paarweise verschiedenen Ergebnisse behalten.
+	 *
+	 * @param maxErgebnisse   die maximale Anzahl an Ergebnissen (mindestens 1)
+	 */
+	public void setMaxErgebnisse(final int maxErgebnisse) {
+		_maxErgebnisse = Math.max(1, maxErgebnisse);
+	}
+
+	/**
+	 * Liefert die maximale Anzahl an Ergebnissen, welche ein Durchlauf zurückliefert.
+	 *
+	 * @return die maximale Anzahl an Ergebnissen
+	 */
+	public int getMaxErgebnisse() {
+		return _maxErgebnisse;
+	}
+
 	@Override
 	public @NotNull ArrayList<@NotNull GostBlockungsergebnisManager> handle(final @NotNull GostBlockungsdatenManager pInput) {
+		// Random-Objekt erzeugen (Größter Integer Wert in TypeScript --> 9007199254740991L).
+		final long seed = _random.nextLong();
+		return handleMitSeed(pInput, seed, (final @NotNull Long anzahlDurchlaeufe) -> true);
+	}
+
+	/**
+	 * Führt den Kursblockungsalgorithmus mit einem vorgegebenen Seed aus. Dies ermöglicht es, mehrere unabhängige
+	 * Instanzen mit unterschiedlichen Seeds (z.B. parallel auf dem Server) zu starten und deren Ergebnisse
+	 * anschließend zusammenzuführen. Nach jedem Durchlauf eines K-Algorithmus wird das Prädikat mit der Anzahl
+	 * der bisherigen Durchläufe aufgerufen. Liefert dieses false, so wird die Berechnung vorzeitig beendet.
+	 *
+	 * @param pInput       die Eingabedaten
+	 * @param seed         der Anfangs-Seed für das {@link Random}-Objekt
+	 * @param fortsetzen   das Prädikat, welches angibt, ob die Berechnung fortgesetzt werden soll
+	 *
+	 * @return die besten, paarweise verschiedenen Blockungsergebnisse dieses Durchlaufs, das beste Ergebnis zuerst
+	 */
+	public @NotNull ArrayList<@NotNull GostBlockungsergebnisManager> handleMitSeed(final @NotNull GostBlockungsdatenManager pInput, final long seed,
+			final @NotNull Predicate<@NotNull Long> fortsetzen) {
 		// Logger-Einrückung (relativ +4).
 		logger.modifyIndent(+4);
 
-		// Random-Objekt erzeugen (Größter Integer Wert in TypeScript --> 9007199254740991L).
-		final long seed = _random.nextLong();
+		// Random-Objekt erzeugen.
 		final @NotNull Random random = new Random(seed);
 		logger.log(LogLevel.APP, "Erster nextInt() Aufruf liefert " + seed);
 
@@ -37,8 +78,8 @@ public final class KursblockungAlgorithmus extends Service<@NotNull GostBlockung
 		final long zeitBedarf = dynDaten.gibBlockungszeitMillis();
 		final long zeitEndeGesamt = System.currentTimeMillis() + zeitBedarf;
 
-		// Vorbereitung der Rückgabe an die GUI.
-		final @NotNull ArrayList<@NotNull GostBlockungsergebnisManager> kursblockungOutputs = new ArrayList<>();
+		// Vorbereitung der Rückgabe an die GUI (nur die besten, paarweise verschiedenen Ergebnisse werden behalten).
+		final @NotNull KursblockungErgebnisSpeicher kursblockungOutputs = new KursblockungErgebnisSpeicher(_maxErgebnisse);
 
 		final @NotNull KursblockungAlgorithmusK @NotNull [] algorithmenK = new KursblockungAlgorithmusK @NotNull [] {
 			// Alle Algorithmen zur Verteilung von Kursen auf ihre Schienen ...
@@ -61,16 +102,20 @@ public final class KursblockungAlgorithmus extends Service<@NotNull GostBlockung
 
 		// Hauptschleife: Jeder Algorithmus-K erhält stetig mehr Zeit.
 		long zeitProK = 100L; // weniger als 100 führt zu unnützen Ergebnissen
+		long anzahlDurchlaeufe = 0;
+		boolean abbruch = false;
 		do {
 			// Jeder Algorithmus-K wird ausprobiert.
-			for (int iK = 0; iK < algorithmenK.length; iK++) {
+			for (int iK = 0; (iK < algorithmenK.length) && (!abbruch); iK++) {
 
 				// Ggf. läuft ein AlgorithmusK auch erneut, falls er schneller als seine Maximalzeit war.
 				final long zeitEndeK = System.currentTimeMillis() + zeitProK;
 				do {
 					// System.out.println("Zeit " + zeitProK + " Algorithmus " + iK)
 					verwendeAlgorithmusK(algorithmenK[iK], zeitEndeK, dynDaten, algorithmenS, kursblockungOutputs, pInput);
-				} while (System.currentTimeMillis() < zeitEndeK);
+					anzahlDurchlaeufe++;
+					abbruch = !fortsetzen.test(anzahlDurchlaeufe);
+				} while ((System.currentTimeMillis() < zeitEndeK) && (!abbruch));
 
 				// Zeit abgelaufen?
 				if (System.currentTimeMillis() + zeitProK > zeitEndeGesamt)
@@ -79,18 +124,18 @@ public final class KursblockungAlgorithmus extends Service<@NotNull GostBlockung
 			}
 			// Nächster Durchgang hat mehr Zeit.
 			zeitProK *= 2;
-		} while (System.currentTimeMillis() < zeitEndeGesamt);
+		} while ((System.currentTimeMillis() < zeitEndeGesamt) && (!abbruch));
 
 		// Logger-Einrückung (relativ -4)
 		logger.modifyIndent(-4);
 
-		// Rückgabe aller Blockungsergebnisse.
-		return kursblockungOutputs;
+		// Rückgabe der besten Blockungsergebnisse.
+		return kursblockungOutputs.gibErgebnisse();
 	}
 
 	private static void verwendeAlgorithmusK(final @NotNull KursblockungAlgorithmusK kursblockungAlgorithmusK, final long zeitEndeK,
 			final @NotNull KursblockungDynDaten dynDaten, final @NotNull KursblockungAlgorithmusS @NotNull [] algorithmenS,
-			final @NotNull ArrayList<@NotNull GostBlockungsergebnisManager> outputs, final @NotNull GostBlockungsdatenManager pInput) {
+			final @NotNull KursblockungErgebnisSpeicher outputs, final @NotNull GostBlockungsdatenManager pInput) {
 
 		// Verteilung der Kurse.
 		kursblockungAlgorithmusK.berechne(zeitEndeK);
@@ -118,9 +163,8 @@ public final class KursblockungAlgorithmus extends Service<@NotNull GostBlockung
 			dynDaten.aktionZustandSpeichernG();
 		}
 
-		// Aktuellen Stand der Blockung speichern.
-		final @NotNull GostBlockungsergebnisManager out = dynDaten.gibErzeugtesKursblockungOutput(pInput, outputs.size() + 1L);
-		outputs.add(out);
+		// Aktuellen Stand der Blockung speichern, sofern er neu ist und zu den besten Ergebnissen gehört.
+		outputs.fuegeHinzu(dynDaten, pInput);
 	}
 
 }
@@ -1054,6 +1054,83 @@ public class KursblockungDynDaten {
 		return out;
 	}
 
+	/**
+	 * Liefert einen kompakten Fingerabdruck des aktuellen Zustandes, d.h. der Kurs-Schienen-Zuordnungen und der
+	 * Kurs-Schüler-Zuordnungen. Zwei Zustände derselben Blockungsdaten sind genau dann identisch, wenn ihre
+	 * Fingerabdrücke übereinstimmen. Die Schienen eines Kurses werden dabei sortiert, die Kurswahlen eines Schülers
+	 * werden in der Reihenfolge seiner Fachwahlen durch die interne Kurs-ID (oder -1 bei einer Nichtwahl) kodiert.
+	 * <br>Der Fingerabdruck ermöglicht es, doppelte Ergebnisse zu erkennen, ohne ein {@link GostBlockungsergebnisManager}-Objekt zu erzeugen.
+	 *
+	 * @return ein kompakter Fingerabdruck des aktuellen Zustandes.
+	 */
+	@NotNull int[] gibErgebnisFingerabdruck() {
+		int laenge = 0;
+		for (final @NotNull KursblockungDynKurs dynKurs : _kursArr)
+			laenge += dynKurs.gibSchienenAnzahl();
+		for (final @NotNull KursblockungDynSchueler dynSchueler : _schuelerArr)
+			laenge += dynSchueler.gibKurswahlen().length;
+
+		final @NotNull int[] fingerabdruck = new int[laenge];
+		int index = 0;
+
+		// Kurs-Schienen-Zuordnungen (sortiert je Kurs, da die Reihenfolge der Schienenlage nicht eindeutig ist).
+		for (final @NotNull KursblockungDynKurs dynKurs : _kursArr) {
+			final int start = index;
+			for (final int schienenNr : dynKurs.gibSchienenLage()) {
+				int i = index;
+				while ((i > start) && (fingerabdruck[i - 1] > schienenNr)) {
+					fingerabdruck[i] = fingerabdruck[i - 1];
+					i--;
+				}
+				fingerabdruck[i] = schienenNr;
+				index++;
+			}
+		}
+
+		// Kurs-Schüler-Zuordnungen.
+		for (final @NotNull KursblockungDynSchueler dynSchueler : _schuelerArr)
+			for (final KursblockungDynKurs kurs : dynSchueler.gibKurswahlen())
+				fingerabdruck[index++] = (kurs == null) ? -1 : kurs.gibInternalID();
+
+		return fingerabdruck;
+	}
+
+	/**
+	 * Liefert einen Bewertungsvektor des aktuellen Zustandes, welcher ohne das Erzeugen eines
+	 * {@link GostBlockungsergebnisManager}-Objektes bestimmt wird. Die Einträge folgen der Priorität der Kriterien
+	 * des {@link de.svws_nrw.core.utils.gost.GostBlockungsergebnisBewertungComparator}: (1) Regelverletzungen,
+	 * (2) Nichtwahlen, (3) das Histogramm der Kursdifferenzen beginnend bei der größten Kursdifferenz und (4) die
+	 * Anzahl an Kursen mit gleicher Fachart pro Schiene. Zwei Vektoren werden daher lexikographisch verglichen,
+	 * kleinere Werte sind besser. Alle Vektoren derselben Blockungsdaten haben dieselbe Länge.
+	 * <br>Regelverletzungen, welche erst durch die Regelvalidierung des {@link GostBlockungsergebnisManager} erkannt
+	 * werden, sind im Vektor nicht enthalten.
+	 *
+	 * @return ein Bewertungsvektor des aktuellen Zustandes.
+	 */
+	@NotNull int[] gibBewertungsvektor() {
+		final @NotNull int[] kursdifferenzen = _statistik.gibBewertungKursdifferenzen();
+		final @NotNull int[] vektor = new int[kursdifferenzen.length + 3];
+		vektor[0] = _statistik.gibBewertungRegelverletzungen();
+		vektor[1] = _statistik.gibBewertungNichtwahlen();
+		for (int i = 0; i < kursdifferenzen.length; i++)
+			vektor[2 + i] = kursdifferenzen[kursdifferenzen.length - 1 - i];
+
+		// Kurse mit gleicher Fachart pro Schiene.
+		int gleicheFacharten = 0;
+		for (final @NotNull KursblockungDynFachart fachart : _fachartArr)
+			for (int schienenNr = 0; schienenNr < _schienenArr.length; schienenNr++) {
+				int anzahl = 0;
+				for (final @NotNull KursblockungDynKurs kurs : fachart.gibKurse())
+					if (kurs.gibIstInSchiene(schienenNr))
+						anzahl++;
+				if (anzahl >= 2)
+					gleicheFacharten += anzahl - 1;
+			}
+		vektor[vektor.length - 1] = gleicheFacharten;
+
+		return vektor;
+	}
+
 	/**
 	 * Liefert das Logger-Objekt für Benutzerhinweise, Warnungen und Fehler.
 	 *
@@ -195,6 +195,25 @@ public class KursblockungDynStatistik {
 		return bewertungNichtwahlen;
 	}
 
+	/**
+	 * Liefert die aktuelle Bewertung aller Regelverletzungen.
+	 *
+	 * @return Die aktuelle Bewertung aller Regelverletzungen.
+	 */
+	int gibBewertungRegelverletzungen() {
+		return bewertungRegelverletzungen;
+	}
+
+	/**
+	 * Liefert das aktuelle Histogramm aller Kursdifferenzen. Der Index ist die Kursdifferenz, der Wert die Anzahl
+	 * der Facharten mit dieser Kursdifferenz. Das Array darf nicht verändert werden.
+	 *
+	 * @return Das aktuelle Histogramm aller Kursdifferenzen.
+	 */
+	@NotNull int[] gibBewertungKursdifferenzen() {
+		return bewertungKursdifferenzen;
+	}
+
 	/**
 	 * Liefert die aktuell größte Kursdifferenz (über alle Facharten).
 	 *
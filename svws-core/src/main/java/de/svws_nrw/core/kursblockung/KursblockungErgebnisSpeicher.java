@@ -0,0 +1,170 @@
+package de.svws_nrw.core.kursblockung;
+
+import java.util.ArrayList;
+
+import de.svws_nrw.core.utils.gost.GostBlockungsdatenManager;
+import de.svws_nrw.core.utils.gost.GostBlockungsergebnisBewertungComparator;
+import de.svws_nrw.core.utils.gost.GostBlockungsergebnisManager;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Ein in der Größe beschränkter Speicher für die Ergebnisse des {@link KursblockungAlgorithmus}. Es werden nur die
+ * besten, paarweise verschiedenen Ergebnisse behalten.
+ * <br>Doppelte Ergebnisse werden anhand des Fingerabdrucks aus {@link KursblockungDynDaten#gibErgebnisFingerabdruck()}
+ * erkannt. Die Auswahl der besten Ergebnisse erfolgt anhand des Bewertungsvektors aus
+ * {@link KursblockungDynDaten#gibBewertungsvektor()}, so dass ein {@link GostBlockungsergebnisManager}-Objekt nur für
+ * Ergebnisse erzeugt wird, welche in den Speicher übernommen werden. Verdrängte Ergebnisse werden sofort verworfen,
+ * so dass auch bei langen Berechnungen höchstens die maximale Anzahl an Ergebnissen im Speicher liegt.
+ */
+public final class KursblockungErgebnisSpeicher {
+
+	/** Die Standard-Anzahl an Ergebnissen, welche maximal behalten werden. */
+	public static final int MAX_ERGEBNISSE_STANDARD = 50;
+
+	/** Der Modulus für die Berechnung des Hashwertes eines Fingerabdrucks (eine Primzahl, damit auch in TypeScript kein Überlauf entsteht). */
+	private static final long HASH_MODULUS = 1000000007L;
+
+	/** Die maximale Anzahl an Ergebnissen. */
+	private final int _maxAnzahl;
+
+	/** Die behaltenen Ergebnisse, sortiert nach ihrem Bewertungsvektor (das beste Ergebnis zuerst). */
+	private final @NotNull ArrayList<@NotNull GostBlockungsergebnisManager> _ergebnisse = new ArrayList<>();
+
+	/** Die Fingerabdrücke der behaltenen Ergebnisse (gleiche Indizierung wie {@link #_ergebnisse}). */
+	private final @NotNull ArrayList<@NotNull int[]> _fingerabdruecke = new ArrayList<>();
+
+	/** Die Hashwerte der Fingerabdrücke der behaltenen Ergebnisse (gleiche Indizierung wie {@link #_ergebnisse}). */
+	private final @NotNull ArrayList<@NotNull Long> _hashwerte = new ArrayList<>();
+
+	/** Die Bewertungsvektoren der behaltenen Ergebnisse (gleiche Indizierung wie {@link #_ergebnisse}). */
+	private final @NotNull ArrayList<@NotNull int[]> _bewertungen = new ArrayList<>();
+
+	/** Die Anzahl der bisher erzeugten {@link GostBlockungsergebnisManager}-Objekte, welche auch als Ergebnis-ID dient. */
+	private long _anzahlErzeugt = 0;
+
+	/** Die Anzahl der bisher als Duplikat erkannten Ergebnisse. */
+	private long _anzahlDuplikate = 0;
+
+	/**
+	 * Erzeugt einen neuen, leeren Speicher.
+	 *
+	 * @param maxAnzahl  die maximale Anzahl an Ergebnissen, welche behalten werden (mindestens 1).
+	 */
+	public KursblockungErgebnisSpeicher(final int maxAnzahl) {
+		_maxAnzahl = Math.max(1, maxAnzahl);
+	}
+
+	/**
+	 * Übernimmt den aktuellen Zustand der dynamischen Daten als Ergebnis, sofern dieser Zustand noch nicht im Speicher
+	 * vorhanden ist und sein Bewertungsvektor zu den besten gehört. Nur in diesem Fall wird ein
+	 * {@link GostBlockungsergebnisManager}-Objekt erzeugt.
+	 *
+	 * @param dynDaten      die dynamischen Blockungsdaten mit dem aktuellen Zustand.
+	 * @param pDataManager  der Daten-Manager der Blockung.
+	 *
+	 * @return TRUE, falls das Ergebnis in den Speicher übernommen wurde.
+	 */
+	boolean fuegeHinzu(final @NotNull KursblockungDynDaten dynDaten, final @NotNull GostBlockungsdatenManager pDataManager) {
+		final @NotNull int[] fingerabdruck = dynDaten.gibErgebnisFingerabdruck();
+		final long hashwert = gibHashwert(fingerabdruck);
+
+		// Duplikat?
+		for (int i = 0; i < _ergebnisse.size(); i++)
+			if ((_hashwerte.get(i) == hashwert) && istGleich(_fingerabdruecke.get(i), fingerabdruck)) {
+				_anzahlDuplikate++;
+				return false;
+			}
+
+		// Einfügeposition anhand des Bewertungsvektors bestimmen (bei gleicher Bewertung hinter den vorhandenen Ergebnissen).
+		final @NotNull int[] bewertung = dynDaten.gibBewertungsvektor();
+		int pos = _ergebnisse.size();
+		while ((pos > 0) && (vergleiche(_bewertungen.get(pos - 1), bewertung) > 0))
+			pos--;
+		if (pos >= _maxAnzahl)
+			return false;
+
+		// Erst jetzt wird das (aufwändige) Ergebnis-Objekt erzeugt.
+		_anzahlErzeugt++;
+		final @NotNull GostBlockungsergebnisManager ergebnis = dynDaten.gibErzeugtesKursblockungOutput(pDataManager, _anzahlErzeugt);
+
+		_ergebnisse.add(pos, ergebnis);
+		_fingerabdruecke.add(pos, fingerabdruck);
+		_hashwerte.add(pos, hashwert);
+		_bewertungen.add(pos, bewertung);
+
+		// Das schlechteste Ergebnis verdrängen.
+		if (_ergebnisse.size() > _maxAnzahl) {
+			_ergebnisse.removeLast();
+			_fingerabdruecke.removeLast();
+			_hashwerte.removeLast();
+			_bewertungen.removeLast();
+		}
+		return true;
+	}
+
+	/**
+	 * Liefert die behaltenen Ergebnisse, sortiert nach ihrer Bewertung gemäß {@link GostBlockungsergebnisBewertungComparator}
+	 * (das beste Ergebnis zuerst).
+	 *
+	 * @return die behaltenen Ergebnisse, sortiert nach ihrer Bewertung (das beste Ergebnis zuerst).
+	 */
+	public @NotNull ArrayList<@NotNull GostBlockungsergebnisManager> gibErgebnisse() {
+		final @NotNull ArrayList<@NotNull GostBlockungsergebnisManager> ergebnisse = new ArrayList<>(_ergebnisse);
+		ergebnisse.sort((final @NotNull GostBlockungsergebnisManager a, final @NotNull GostBlockungsergebnisManager b) -> GostBlockungsergebnisBewertungComparator.compareBewertungen(a.getErgebnis().bewertung, b.getErgebnis().bewertung));
+		return ergebnisse;
+	}
+
+	/**
+	 * Liefert die maximale Anzahl an Ergebnissen, welche behalten werden.
+	 *
+	 * @return die maximale Anzahl an Ergebnissen, welche behalten werden.
+	 */
+	public int gibMaxAnzahl() {
+		return _maxAnzahl;
+	}
+
+	/**
+	 * Liefert die Anzahl der bisher erzeugten {@link GostBlockungsergebnisManager}-Objekte.
+	 *
+	 * @return die Anzahl der bisher erzeugten {@link GostBlockungsergebnisManager}-Objekte.
+	 */
+	public long gibAnzahlErzeugt() {
+		return _anzahlErzeugt;
+	}
+
+	/**
+	 * Liefert die Anzahl der bisher als Duplikat erkannten und daher verworfenen Ergebnisse.
+	 *
+	 * @return die Anzahl der bisher als Duplikat erkannten und daher verworfenen Ergebnisse.
+	 */
+	public long gibAnzahlDuplikate() {
+		return _anzahlDuplikate;
+	}
+
+	private static long gibHashwert(final @NotNull int[] fingerabdruck) {
+		long hashwert = 0;
+		for (final int wert : fingerabdruck)
+			hashwert = (hashwert * 31L + wert + 2L) % HASH_MODULUS;
+		return hashwert;
+	}
+
+	private static int vergleiche(final @NotNull int[] a, final @NotNull int[] b) {
+		for (int i = 0; (i < a.length) && (i < b.length); i++) {
+			if (a[i] < b[i])
+				return -1;
+			if (a[i] > b[i])
+				return +1;
+		}
+		return 0;
+	}
+
+	private static boolean istGleich(final @NotNull int[] a, final @NotNull int[] b) {
+		if (a.length != b.length)
+			return false;
+		for (int i = 0; i < a.length; i++)
+			if (a[i] != b[i])
+				return false;
+		return true;
+	}
+
+}
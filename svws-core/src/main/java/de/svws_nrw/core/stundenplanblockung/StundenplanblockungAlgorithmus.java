@@ -1,20 +1,60 @@
 package de.svws_nrw.core.stundenplanblockung;
 
+import java.util.Random;
+
 import de.svws_nrw.core.Service;
-import de.svws_nrw.core.utils.gost.GostBlockungsdatenManager;
+import de.svws_nrw.core.logger.LogLevel;
 import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManager;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerStatistik;
 import jakarta.validation.constraints.NotNull;
 
 /**
- * Dieser Service wandelt die Eingabedaten {@link GostBlockungsdatenManager}. <br>
- * Die Klasse ist noch Fake.
+ * Dieser Service berechnet zu den Lerngruppen eines {@link StundenplanblockungManager} einen Stundenplan. <br>
+ * Zunächst werden alle Stunden konstruktiv verteilt, anschließend wird die Lage bis zum Ablauf der maximalen Zeit
+ * ({@link StundenplanblockungManager#getMaxTimeMillis()}) durch eine lokale Suche verbessert. Kollisionen von
+ * Lehrkräften, Klassen und Räumen werden dabei nie erzeugt. Das Ergebnis wird in die Lerngruppen geschrieben, die
+ * Bewertung in die {@link StundenplanblockungManagerStatistik}.
  *
  * @author Benjamin A. Bartsch
  */
 public final class StundenplanblockungAlgorithmus extends Service<@NotNull StundenplanblockungManager, @NotNull StundenplanblockungManager> {
 
+	/** Die Anzahl an Schritten der lokalen Suche zwischen zwei Zeitabfragen. */
+	private static final int SCHRITTE_PRO_ZEITABFRAGE = 256;
+
 	@Override
 	public @NotNull StundenplanblockungManager handle(final @NotNull StundenplanblockungManager pInput) {
+		return handleMitSeed(pInput, new Random().nextLong());
+	}
+
+	/**
+	 * Berechnet den Stundenplan wie {@link #handle(StundenplanblockungManager)}, aber mit einem vorgegebenen Anfangs-Seed,
+	 * z.B. für reproduzierbare Tests.
+	 *
+	 * @param pInput  Der Manager mit den Eingabedaten, in welchen auch das Ergebnis geschrieben wird.
+	 * @param seed    Der Anfangs-Seed für das {@link Random}-Objekt.
+	 *
+	 * @return Der übergebene Manager mit dem Ergebnis.
+	 */
+	public @NotNull StundenplanblockungManager handleMitSeed(final @NotNull StundenplanblockungManager pInput, final long seed) {
+		final @NotNull Random random = new Random(seed);
+		final long zeitEnde = System.currentTimeMillis() + pInput.getMaxTimeMillis();
+		final @NotNull StundenplanblockungDynDaten dynDaten = new StundenplanblockungDynDaten(random, pInput);
+
+		// Konstruktive Verteilung, danach lokale Suche bis zum Ablauf der Zeit.
+		dynDaten.aktionVerteileKonstruktiv();
+		long schritte = 0;
+		do {
+			for (int i = 0; i < SCHRITTE_PRO_ZEITABFRAGE; i++)
+				dynDaten.aktionVerbessere();
+			schritte += SCHRITTE_PRO_ZEITABFRAGE;
+		} while (System.currentTimeMillis() < zeitEnde);
+
+		// Den besten Zustand übernehmen.
+		dynDaten.aktionZustandLadenBester();
+		dynDaten.aktionSchreibeErgebnis(pInput);
+		logger.log(LogLevel.APP, "Stundenplanblockung: " + schritte + " Schritte, " + dynDaten.gibAnzahlNichtVerteilt() + " von "
+				+ dynDaten.gibAnzahlElemente() + " Stunden nicht verteilt, Bewertung " + dynDaten.gibBewertung() + ".");
 		return pInput;
 	}
 
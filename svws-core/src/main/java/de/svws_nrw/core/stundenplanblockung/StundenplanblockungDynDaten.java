@@ -0,0 +1,570 @@
+package de.svws_nrw.core.stundenplanblockung;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManager;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerKlasse;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerKopplung;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerLehrkraft;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerLerngruppe;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerRaum;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerStatistik;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Diese Klasse speichert alle benötigten Daten während der Berechnung eines Stundenplanes durch den
+ * {@link StundenplanblockungAlgorithmus}. <br>
+ * Gekoppelte Lerngruppen werden zu einer Einheit zusammengefasst. Jede Stunde einer Einheit ist ein Element, welches
+ * einem Zeitslot (Tag * Stunden pro Tag + Stunde) zugeordnet wird. Ein Element belegt dabei alle Lehrkräfte, Klassen
+ * und Räume seiner Lerngruppen. Harte Bedingung: Keine Ressource ist in einem Zeitslot doppelt belegt. Elemente, die
+ * nicht kollisionsfrei verteilt werden können, bleiben unverteilt. Weiche Kriterien sind Springstunden der Klassen und
+ * Lehrkräfte, späte Stunden der Klassen und mehrere Stunden einer Einheit am selben Tag.
+ *
+ * @author Benjamin A. Bartsch
+ */
+public class StundenplanblockungDynDaten {
+
+	/** Die Gewichtung einer Springstunde einer Klasse. */
+	private static final int GEWICHT_SPRINGSTUNDE_KLASSE = 10;
+
+	/** Die Gewichtung einer Springstunde einer Lehrkraft. */
+	private static final int GEWICHT_SPRINGSTUNDE_LEHRKRAFT = 2;
+
+	/** Die Gewichtung einer weiteren Stunde einer Einheit am selben Tag. */
+	private static final int GEWICHT_MEHRFACH_AM_TAG = 20;
+
+	/** Die Gewichtung einer späten Stunde einer Klasse (pro Stunde nach der letzten "frühen" Stunde). */
+	private static final int GEWICHT_SPAETE_STUNDE = 1;
+
+	/** Die Anzahl der "frühen" Stunden eines Tages, welche für Klassen nicht als spät bewertet werden. */
+	private static final int FRUEHE_STUNDEN = 6;
+
+	/** Ressourcen-Typ einer Lehrkraft. */
+	private static final int TYP_LEHRKRAFT = 0;
+
+	/** Ressourcen-Typ einer Klasse. */
+	private static final int TYP_KLASSE = 1;
+
+	/** Ressourcen-Typ eines Raumes. */
+	private static final int TYP_RAUM = 2;
+
+	/** Ein {@link Random}-Objekt zur Steuerung des Zufalls über einen Anfangs-Seed. */
+	private final @NotNull Random _random;
+
+	/** Die Anzahl an Unterrichtstagen in der Woche. */
+	private final int _tage;
+
+	/** Die maximale Anzahl an Stunden pro Tag. */
+	private final int _stundenProTag;
+
+	/** Die Anzahl aller Zeitslots. */
+	private final int _slots;
+
+	/** Der Typ jeder Ressource ({@link #TYP_LEHRKRAFT}, {@link #TYP_KLASSE} oder {@link #TYP_RAUM}). */
+	private final @NotNull int[] _ressourceTyp;
+
+	/** Die Belegung jeder Ressource in jedem Zeitslot mit einem Element oder -1. */
+	private final @NotNull int @NotNull [][] _belegung;
+
+	/** Die Ressourcen jedes Elementes. */
+	private final @NotNull int @NotNull [][] _elementRessourcen;
+
+	/** Die Einheit jedes Elementes. */
+	private final @NotNull int[] _elementEinheit;
+
+	/** Die Lerngruppen jedes Elementes. */
+	private final @NotNull List<@NotNull List<@NotNull StundenplanblockungManagerLerngruppe>> _elementLerngruppen;
+
+	/** Der Zeitslot jedes Elementes oder -1, falls das Element nicht verteilt ist. */
+	private final @NotNull int[] _elementSlot;
+
+	/** Die Anzahl der Elemente jeder Einheit an jedem Tag. */
+	private final @NotNull int @NotNull [][] _einheitTagAnzahl;
+
+	/** Alle Lerngruppen, deren Lage am Ende geschrieben wird. */
+	private final @NotNull List<@NotNull StundenplanblockungManagerLerngruppe> _lerngruppen;
+
+	/** Die Anzahl der nicht verteilten Elemente. */
+	private int _anzahlNichtVerteilt;
+
+	/** Die gewichtete Summe aller weichen Kriterien des aktuellen Zustandes. */
+	private int _bewertung = 0;
+
+	/** Die Zeitslots der Elemente des besten bisher gefundenen Zustandes. */
+	private final @NotNull int[] _besterSlot;
+
+	/** Die Anzahl der nicht verteilten Elemente des besten bisher gefundenen Zustandes. */
+	private int _besterNichtVerteilt;
+
+	/** Die Bewertung des besten bisher gefundenen Zustandes. */
+	private int _besteBewertung;
+
+	/**
+	 * Erzeugt die dynamischen Daten aus den Lerngruppen des übergebenen Managers. Zu Beginn ist kein Element verteilt.
+	 *
+	 * @param pRandom  Ein {@link Random}-Objekt zur Steuerung des Zufalls über einen Anfangs-Seed.
+	 * @param pInput   Der Manager mit den Eingabedaten.
+	 */
+	public StundenplanblockungDynDaten(final @NotNull Random pRandom, final @NotNull StundenplanblockungManager pInput) {
+		_random = pRandom;
+		_tage = pInput.getSchule().get_tage_pro_woche();
+		_stundenProTag = pInput.getSchule().get_stunden_pro_tag();
+		_slots = _tage * _stundenProTag;
+		_lerngruppen = new ArrayList<>(pInput.getLerngruppen().getMenge());
+		final int nGruppen = _lerngruppen.size();
+
+		// Gekoppelte Lerngruppen zu Einheiten zusammenfassen (Union-Find).
+		final @NotNull int[] einheitVon = new int[nGruppen];
+		for (int i = 0; i < nGruppen; i++)
+			einheitVon[i] = i;
+		final @NotNull HashMap<@NotNull Long, @NotNull Integer> mapKopplung = new HashMap<>();
+		for (int i = 0; i < nGruppen; i++)
+			for (final @NotNull StundenplanblockungManagerKopplung ko : _lerngruppen.get(i).getKopplungen()) {
+				final Integer j = mapKopplung.get(ko.getID());
+				if (j == null)
+					mapKopplung.put(ko.getID(), i);
+				else
+					einheitVon[gibWurzel(einheitVon, i)] = gibWurzel(einheitVon, j);
+			}
+
+		// Einheiten nummerieren.
+		final @NotNull int[] einheitNr = new int[nGruppen];
+		int nEinheiten = 0;
+		for (int i = 0; i < nGruppen; i++)
+			if (gibWurzel(einheitVon, i) == i)
+				einheitNr[i] = nEinheiten++;
+		final @NotNull List<@NotNull List<@NotNull StundenplanblockungManagerLerngruppe>> einheiten = new ArrayList<>();
+		for (int u = 0; u < nEinheiten; u++)
+			einheiten.add(new ArrayList<>());
+		for (int i = 0; i < nGruppen; i++)
+			einheiten.get(einheitNr[gibWurzel(einheitVon, i)]).add(_lerngruppen.get(i));
+
+		// Ressourcen nummerieren und Elemente erzeugen.
+		final @NotNull HashMap<@NotNull Long, @NotNull Integer> mapLehrkraft = new HashMap<>();
+		final @NotNull HashMap<@NotNull Long, @NotNull Integer> mapKlasse = new HashMap<>();
+		final @NotNull HashMap<@NotNull Long, @NotNull Integer> mapRaum = new HashMap<>();
+		final @NotNull List<@NotNull Integer> ressourceTyp = new ArrayList<>();
+		final @NotNull List<@NotNull int[]> elementRessourcen = new ArrayList<>();
+		final @NotNull List<@NotNull Integer> elementEinheit = new ArrayList<>();
+		_elementLerngruppen = new ArrayList<>();
+		for (int u = 0; u < nEinheiten; u++) {
+			int maxStunden = 0;
+			for (final @NotNull StundenplanblockungManagerLerngruppe gr : einheiten.get(u))
+				maxStunden = Math.max(maxStunden, gr.getStunden());
+			for (int stunde = 0; stunde < maxStunden; stunde++) {
+				final @NotNull List<@NotNull StundenplanblockungManagerLerngruppe> gruppen = new ArrayList<>();
+				final @NotNull List<@NotNull Integer> ressourcen = new ArrayList<>();
+				for (final @NotNull StundenplanblockungManagerLerngruppe gr : einheiten.get(u)) {
+					if (gr.getStunden() <= stunde)
+						continue;
+					gruppen.add(gr);
+					for (final @NotNull StundenplanblockungManagerLehrkraft le : gr.getLehrkraefte())
+						fuegeRessourceHinzu(ressourcen, gibRessource(mapLehrkraft, le.getID(), TYP_LEHRKRAFT, ressourceTyp));
+					for (final @NotNull StundenplanblockungManagerKlasse kl : gr.getKlassen())
+						fuegeRessourceHinzu(ressourcen, gibRessource(mapKlasse, kl.getID(), TYP_KLASSE, ressourceTyp));
+					for (final @NotNull StundenplanblockungManagerRaum ra : gr.getRaeume())
+						fuegeRessourceHinzu(ressourcen, gibRessource(mapRaum, ra.getID(), TYP_RAUM, ressourceTyp));
+				}
+				final @NotNull int[] arr = new int[ressourcen.size()];
+				for (int i = 0; i < arr.length; i++)
+					arr[i] = ressourcen.get(i);
+				elementRessourcen.add(arr);
+				elementEinheit.add(u);
+				_elementLerngruppen.add(gruppen);
+			}
+		}
+
+		// Arrays aufbauen.
+		final int nRessourcen = ressourceTyp.size();
+		final int nElemente = elementRessourcen.size();
+		_ressourceTyp = new int[nRessourcen];
+		for (int r = 0; r < nRessourcen; r++)
+			_ressourceTyp[r] = ressourceTyp.get(r);
+		_belegung = new int[nRessourcen][_slots];
+		for (int r = 0; r < nRessourcen; r++)
+			for (int s = 0; s < _slots; s++)
+				_belegung[r][s] = -1;
+		_elementRessourcen = new int[nElemente][0];
+		_elementEinheit = new int[nElemente];
+		_elementSlot = new int[nElemente];
+		_besterSlot = new int[nElemente];
+		for (int e = 0; e < nElemente; e++) {
+			_elementRessourcen[e] = elementRessourcen.get(e);
+			_elementEinheit[e] = elementEinheit.get(e);
+			_elementSlot[e] = -1;
+			_besterSlot[e] = -1;
+		}
+		_einheitTagAnzahl = new int[nEinheiten][_tage];
+		_anzahlNichtVerteilt = nElemente;
+		_besterNichtVerteilt = nElemente;
+		_besteBewertung = 0;
+	}
+
+	private static int gibWurzel(final @NotNull int[] einheitVon, final int i) {
+		int w = i;
+		while (einheitVon[w] != w)
+			w = einheitVon[w];
+		return w;
+	}
+
+	private static int gibRessource(final @NotNull HashMap<@NotNull Long, @NotNull Integer> map, final long id, final int typ, final @NotNull List<@NotNull Integer> ressourceTyp) {
+		final Integer r = map.get(id);
+		if (r != null)
+			return r;
+		final int neu = ressourceTyp.size();
+		ressourceTyp.add(typ);
+		map.put(id, neu);
+		return neu;
+	}
+
+	private static void fuegeRessourceHinzu(final @NotNull List<@NotNull Integer> ressourcen, final int r) {
+		if (!ressourcen.contains(r))
+			ressourcen.add(r);
+	}
+
+	/**
+	 * Liefert die Anzahl aller Elemente, d.h. aller zu verteilenden Stunden.
+	 *
+	 * @return Die Anzahl aller Elemente.
+	 */
+	public int gibAnzahlElemente() {
+		return _elementSlot.length;
+	}
+
+	/**
+	 * Liefert die Anzahl der nicht verteilten Elemente des aktuellen Zustandes.
+	 *
+	 * @return Die Anzahl der nicht verteilten Elemente des aktuellen Zustandes.
+	 */
+	public int gibAnzahlNichtVerteilt() {
+		return _anzahlNichtVerteilt;
+	}
+
+	/**
+	 * Liefert die gewichtete Summe aller weichen Kriterien des aktuellen Zustandes.
+	 *
+	 * @return Die gewichtete Summe aller weichen Kriterien des aktuellen Zustandes.
+	 */
+	public int gibBewertung() {
+		return _bewertung;
+	}
+
+	private int gibBewertungRessourceTag(final int r, final int tag) {
+		final int typ = _ressourceTyp[r];
+		if (typ == TYP_RAUM)
+			return 0;
+		final int beginn = tag * _stundenProTag;
+		int erste = -1;
+		int letzte = -1;
+		int anzahl = 0;
+		int spaet = 0;
+		for (int stunde = 0; stunde < _stundenProTag; stunde++)
+			if (_belegung[r][beginn + stunde] >= 0) {
+				if (erste < 0)
+					erste = stunde;
+				letzte = stunde;
+				anzahl++;
+				if (stunde >= FRUEHE_STUNDEN)
+					spaet += stunde - FRUEHE_STUNDEN + 1;
+			}
+		if (anzahl == 0)
+			return 0;
+		final int springstunden = letzte - erste + 1 - anzahl;
+		if (typ == TYP_KLASSE)
+			return springstunden * GEWICHT_SPRINGSTUNDE_KLASSE + spaet * GEWICHT_SPAETE_STUNDE;
+		return springstunden * GEWICHT_SPRINGSTUNDE_LEHRKRAFT;
+	}
+
+	private int gibBewertungElementTag(final int e, final int tag) {
+		int summe = 0;
+		for (final int r : _elementRessourcen[e])
+			summe += gibBewertungRessourceTag(r, tag);
+		final int anzahl = _einheitTagAnzahl[_elementEinheit[e]][tag];
+		if (anzahl > 1)
+			summe += (anzahl - 1) * GEWICHT_MEHRFACH_AM_TAG;
+		return summe;
+	}
+
+	private boolean istFrei(final int e, final int slot) {
+		for (final int r : _elementRessourcen[e])
+			if (_belegung[r][slot] >= 0)
+				return false;
+		return true;
+	}
+
+	private void setze(final int e, final int slot) {
+		final int tag = slot / _stundenProTag;
+		_bewertung -= gibBewertungElementTag(e, tag);
+		for (final int r : _elementRessourcen[e])
+			_belegung[r][slot] = e;
+		_einheitTagAnzahl[_elementEinheit[e]][tag]++;
+		_elementSlot[e] = slot;
+		_anzahlNichtVerteilt--;
+		_bewertung += gibBewertungElementTag(e, tag);
+	}
+
+	private void entferne(final int e) {
+		final int slot = _elementSlot[e];
+		final int tag = slot / _stundenProTag;
+		_bewertung -= gibBewertungElementTag(e, tag);
+		for (final int r : _elementRessourcen[e])
+			_belegung[r][slot] = -1;
+		_einheitTagAnzahl[_elementEinheit[e]][tag]--;
+		_elementSlot[e] = -1;
+		_anzahlNichtVerteilt++;
+		_bewertung += gibBewertungElementTag(e, tag);
+	}
+
+	/**
+	 * Liefert den freien Zeitslot, in welchem das (nicht verteilte) Element die beste Bewertung erzielt, oder -1, falls
+	 * es keinen freien Zeitslot gibt. Bei gleicher Bewertung entscheidet der Zufall über den Startpunkt der Suche.
+	 */
+	private int gibBestenFreienSlot(final int e) {
+		if (_slots == 0)
+			return -1;
+		int bester = -1;
+		int besteBewertung = 0;
+		final int start = _random.nextInt(_slots);
+		for (int i = 0; i < _slots; i++) {
+			final int slot = (start + i) % _slots;
+			if (!istFrei(e, slot))
+				continue;
+			setze(e, slot);
+			if ((bester < 0) || (_bewertung < besteBewertung)) {
+				bester = slot;
+				besteBewertung = _bewertung;
+			}
+			entferne(e);
+		}
+		return bester;
+	}
+
+	private boolean istBesserAlsBester() {
+		return (_anzahlNichtVerteilt < _besterNichtVerteilt) || ((_anzahlNichtVerteilt == _besterNichtVerteilt) && (_bewertung < _besteBewertung));
+	}
+
+	private void speichereZustandFallsBesser() {
+		if (!istBesserAlsBester())
+			return;
+		System.arraycopy(_elementSlot, 0, _besterSlot, 0, _elementSlot.length);
+		_besterNichtVerteilt = _anzahlNichtVerteilt;
+		_besteBewertung = _bewertung;
+	}
+
+	/**
+	 * Verteilt alle Elemente konstruktiv. Elemente mit vielen Ressourcen werden zuerst verteilt und jeweils in den
+	 * freien Zeitslot mit der besten Bewertung gesetzt.
+	 */
+	public void aktionVerteileKonstruktiv() {
+		final int n = _elementSlot.length;
+		for (int e = 0; e < n; e++)
+			if (_elementSlot[e] >= 0)
+				entferne(e);
+
+		// Zufällige Reihenfolge, anschließend stabil nach der Anzahl der Ressourcen sortiert.
+		final @NotNull int[] reihenfolge = new int[n];
+		for (int i = 0; i < n; i++)
+			reihenfolge[i] = i;
+		for (int i = n - 1; i > 0; i--) {
+			final int j = _random.nextInt(i + 1);
+			final int temp = reihenfolge[i];
+			reihenfolge[i] = reihenfolge[j];
+			reihenfolge[j] = temp;
+		}
+		for (int i = 1; i < n; i++) {
+			final int e = reihenfolge[i];
+			int j = i - 1;
+			while ((j >= 0) && (_elementRessourcen[reihenfolge[j]].length < _elementRessourcen[e].length)) {
+				reihenfolge[j + 1] = reihenfolge[j];
+				j--;
+			}
+			reihenfolge[j + 1] = e;
+		}
+
+		for (final int e : reihenfolge) {
+			final int slot = gibBestenFreienSlot(e);
+			if (slot >= 0)
+				setze(e, slot);
+		}
+		speichereZustandFallsBesser();
+	}
+
+	/**
+	 * Führt einen Schritt der lokalen Suche durch. Ein nicht verteiltes Element wird unter Verdrängung von höchstens
+	 * zwei kollidierenden Elementen gesetzt, ein verteiltes Element wird verschoben oder zwei verteilte Elemente werden
+	 * getauscht. Verschlechterungen werden rückgängig gemacht.
+	 */
+	public void aktionVerbessere() {
+		final int n = _elementSlot.length;
+		if ((n == 0) || (_slots == 0))
+			return;
+		if ((_anzahlNichtVerteilt > 0) && _random.nextBoolean())
+			verbessereDurchVerdraengen();
+		else
+			if (_random.nextBoolean())
+				verbessereDurchVerschieben(_random.nextInt(n));
+			else
+				verbessereDurchTauschen(_random.nextInt(n), _random.nextInt(n));
+		speichereZustandFallsBesser();
+	}
+
+	private void verbessereDurchVerdraengen() {
+		// Zufälliges nicht verteiltes Element suchen.
+		final int n = _elementSlot.length;
+		final int start = _random.nextInt(n);
+		int e = -1;
+		for (int i = 0; (i < n) && (e < 0); i++)
+			if (_elementSlot[(start + i) % n] < 0)
+				e = (start + i) % n;
+		if (e < 0)
+			return;
+
+		// Die kollidierenden Elemente im zufälligen Zeitslot bestimmen.
+		final int slot = _random.nextInt(_slots);
+		final @NotNull List<@NotNull Integer> verdraengt = new ArrayList<>();
+		for (final int r : _elementRessourcen[e]) {
+			final int f = _belegung[r][slot];
+			if ((f >= 0) && (!verdraengt.contains(f)))
+				verdraengt.add(f);
+		}
+		if (verdraengt.size() > 2)
+			return;
+
+		// Verdrängen und die verdrängten Elemente neu setzen.
+		final int alteNichtVerteilt = _anzahlNichtVerteilt;
+		final int alteBewertung = _bewertung;
+		for (final int f : verdraengt)
+			entferne(f);
+		setze(e, slot);
+		for (final int f : verdraengt) {
+			final int neuerSlot = gibBestenFreienSlot(f);
+			if (neuerSlot >= 0)
+				setze(f, neuerSlot);
+		}
+		if ((_anzahlNichtVerteilt < alteNichtVerteilt) || ((_anzahlNichtVerteilt == alteNichtVerteilt) && (_bewertung <= alteBewertung)))
+			return;
+
+		// Rückgängig machen.
+		for (final int f : verdraengt)
+			if (_elementSlot[f] >= 0)
+				entferne(f);
+		entferne(e);
+		for (final int f : verdraengt)
+			setze(f, slot);
+	}
+
+	private void verbessereDurchVerschieben(final int e) {
+		final int alterSlot = _elementSlot[e];
+		if (alterSlot < 0)
+			return;
+		final int neuerSlot = _random.nextInt(_slots);
+		if ((neuerSlot == alterSlot) || (!istFrei(e, neuerSlot)))
+			return;
+		final int alteBewertung = _bewertung;
+		entferne(e);
+		setze(e, neuerSlot);
+		if (_bewertung <= alteBewertung)
+			return;
+		entferne(e);
+		setze(e, alterSlot);
+	}
+
+	private void verbessereDurchTauschen(final int e1, final int e2) {
+		final int slot1 = _elementSlot[e1];
+		final int slot2 = _elementSlot[e2];
+		if ((slot1 < 0) || (slot2 < 0) || (slot1 == slot2))
+			return;
+		final int alteBewertung = _bewertung;
+		entferne(e1);
+		entferne(e2);
+		if (istFrei(e1, slot2)) {
+			setze(e1, slot2);
+			if (istFrei(e2, slot1)) {
+				setze(e2, slot1);
+				if (_bewertung <= alteBewertung)
+					return;
+				entferne(e2);
+			}
+			entferne(e1);
+		}
+		setze(e1, slot1);
+		setze(e2, slot2);
+	}
+
+	/**
+	 * Stellt den besten bisher gefundenen Zustand wieder her.
+	 */
+	public void aktionZustandLadenBester() {
+		for (int e = 0; e < _elementSlot.length; e++)
+			if (_elementSlot[e] >= 0)
+				entferne(e);
+		for (int e = 0; e < _besterSlot.length; e++)
+			if (_besterSlot[e] >= 0)
+				setze(e, _besterSlot[e]);
+	}
+
+	/**
+	 * Schreibt die Lage des aktuellen Zustandes in die Lerngruppen und die Bewertung in die Statistik des Managers.
+	 *
+	 * @param pInput  Der Manager, in welchen das Ergebnis geschrieben wird.
+	 */
+	public void aktionSchreibeErgebnis(final @NotNull StundenplanblockungManager pInput) {
+		final @NotNull HashMap<@NotNull Long, @NotNull List<@NotNull Integer>> mapLage = new HashMap<>();
+		for (final @NotNull StundenplanblockungManagerLerngruppe gr : _lerngruppen)
+			mapLage.put(gr.getID(), new ArrayList<>());
+		for (int e = 0; e < _elementSlot.length; e++)
+			if (_elementSlot[e] >= 0)
+				for (final @NotNull StundenplanblockungManagerLerngruppe gr : _elementLerngruppen.get(e)) {
+					final List<@NotNull Integer> lage = mapLage.get(gr.getID());
+					if (lage != null)
+						lage.add(_elementSlot[e]);
+				}
+		for (final @NotNull StundenplanblockungManagerLerngruppe gr : _lerngruppen) {
+			final List<@NotNull Integer> lage = mapLage.get(gr.getID());
+			if (lage != null)
+				gr.setLage(lage);
+		}
+
+		// Statistik
+		int springstundenKlassen = 0;
+		int springstundenLehrkraefte = 0;
+		for (int r = 0; r < _ressourceTyp.length; r++)
+			for (int tag = 0; tag < _tage; tag++)
+				if (_ressourceTyp[r] == TYP_KLASSE)
+					springstundenKlassen += gibAnzahlSpringstunden(r, tag);
+				else
+					if (_ressourceTyp[r] == TYP_LEHRKRAFT)
+						springstundenLehrkraefte += gibAnzahlSpringstunden(r, tag);
+		int mehrfachAmTag = 0;
+		for (final @NotNull int[] anzahlen : _einheitTagAnzahl)
+			for (final int anzahl : anzahlen)
+				if (anzahl > 1)
+					mehrfachAmTag += anzahl - 1;
+		final @NotNull StundenplanblockungManagerStatistik statistik = pInput.getStatistik();
+		statistik.setAnzahlStunden(_elementSlot.length);
+		statistik.setAnzahlNichtVerteilt(_anzahlNichtVerteilt);
+		statistik.setAnzahlSpringstundenKlassen(springstundenKlassen);
+		statistik.setAnzahlSpringstundenLehrkraefte(springstundenLehrkraefte);
+		statistik.setAnzahlMehrfachAmTag(mehrfachAmTag);
+		statistik.setBewertung(_bewertung);
+	}
+
+	private int gibAnzahlSpringstunden(final int r, final int tag) {
+		final int beginn = tag * _stundenProTag;
+		int erste = -1;
+		int letzte = -1;
+		int anzahl = 0;
+		for (int stunde = 0; stunde < _stundenProTag; stunde++)
+			if (_belegung[r][beginn + stunde] >= 0) {
+				if (erste < 0)
+					erste = stunde;
+				letzte = stunde;
+				anzahl++;
+			}
+		return (anzahl == 0) ? 0 : (letzte - erste + 1 - anzahl);
+	}
+
+}
@@ -59,6 +59,15 @@ import jakarta.validation.constraints.NotNull;
  */
 public class GostBlockungsergebnisManager {
 
+	/** Alle Regel-Typen, welche validiert werden, in der Reihenfolge ihrer Validierung. */
+	private static final @NotNull int[] REGELTYPEN_VALIDIERUNG = new int[] {1, 2, 3, 4, 5, 6, 7, 8, 10, 11, 12, 13, 14, 15, 18};
+
+	/** Die Regel-Typen, deren Validierung nur von den Kurs-Schienen-Zuordnungen abhängt. */
+	private static final @NotNull int[] REGELTYPEN_VALIDIERUNG_KURS_SCHIENE = new int[] {1, 2, 3, 6, 7, 8, 10, 18};
+
+	/** Die Regel-Typen, deren Validierung nur von den Kurs-Schüler-Zuordnungen abhängt. */
+	private static final @NotNull int[] REGELTYPEN_VALIDIERUNG_KURS_SCHUELER = new int[] {4, 5, 11, 12, 13, 14, 15};
+
 	/** Der Blockungsdaten-Manager ist das Elternteil dieses Objektes. */
 	private final @NotNull GostBlockungsdatenManager _parent;
 
@@ -162,6 +171,9 @@ public class GostBlockungsergebnisManager {
 	/** Von Regel-ID nach String (Beschreibung der Regelverletzung). */
 	private final @NotNull Map<@NotNull Long, @NotNull String> _regelID_to_verletzungString = new HashMap<>();
 
+	/** Von Regel-TYP nach List (alle IDs der verletzten Regeln des Typs, ggf. mehrfach). */
+	private final @NotNull Map<@NotNull Integer, @NotNull List<@NotNull Long>> _regelTyp_to_regelIDverletzungList = new HashMap<>();
+
 	/** Textuelle Darstellung aller Regelverletzungen der definierten Regeln. */
 	private @NotNull String _regelverletzungen_tooltip1_regeln = "";
 
@@ -286,19 +298,13 @@ public class GostBlockungsergebnisManager {
 			}
 		}
 
-		// Kursmenge pro Schiene sortieren.
-		for (@NotNull final GostBlockungsergebnisSchiene schiene : _ergebnis.schienen) {
-			final @NotNull List<@NotNull GostBlockungsergebnisKurs> kursmenge =  schiene.kurse;
-			if (_fachartmenge_sortierung == 1) {
-				kursmenge.sort(_kursComparator_kursart_fach_kursnummer);
-			} else {
-				kursmenge.sort(_kursComparator_fach_kursart_kursnummer);
-			}
-		}
-
 		// Schienen dem Ergebnis hinzufügen. TODO BAR Schienenmenge sortieren?
 		_ergebnis.schienen.addAll(_schienenID_to_schiene.values());
 
+		// Kursmenge pro Schiene sortieren (erst nachdem die Schienen dem Ergebnis hinzugefügt wurden).
+		for (@NotNull final GostBlockungsergebnisSchiene schiene : _ergebnis.schienen)
+			stateSchieneKursmengeSortieren(schiene);
+
 		// 4) "_ergebnis.bewertung" aktualisieren.
 		stateClearErgebnisBewertung1();
 		stateClearErgebnisBewertung2();
@@ -310,61 +316,22 @@ public class GostBlockungsergebnisManager {
 	}
 
 	private void stateClearErgebnisBewertung1() {
-		// Bewertungskriterium 1a (regelVerletzungen)
-		final @NotNull List<@NotNull Long> regelVerletzungen = _ergebnis.bewertung.regelVerletzungen;
-		regelVerletzungen.clear();
+		// Bewertungskriterium 1a (regelVerletzungen) für alle Regel-Typen neu bestimmen.
 		_regelTyp_to_verletzungList.clear();
 		_regelID_to_verletzungString.clear();
+		_regelTyp_to_regelIDverletzungList.clear();
+		for (final int idRegeltyp : REGELTYPEN_VALIDIERUNG)
+			stateRegelvalidierungOfTyp(idRegeltyp);
 
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURSART_SPERRE_SCHIENEN_VON_BIS))
-			stateRegelvalidierung1_kursart_sperren_in_schiene_von_bis(r, regelVerletzungen);
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURS_FIXIERE_IN_SCHIENE))
-			stateRegelvalidierung2_kurs_fixieren_in_schiene(r, regelVerletzungen);
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURS_SPERRE_IN_SCHIENE))
-			stateRegelvalidierung3_kurs_sperren_in_schiene(r, regelVerletzungen);
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.SCHUELER_FIXIEREN_IN_KURS))
-			stateRegelvalidierung4_schueler_fixieren_in_kurs(r, regelVerletzungen);
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.SCHUELER_VERBIETEN_IN_KURS))
-			stateRegelvalidierung5_schueler_verbieten_in_kurs(r, regelVerletzungen);
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURSART_ALLEIN_IN_SCHIENEN_VON_BIS))
-			stateRegelvalidierung6_kursart_allein_in_schiene_von_bis(r, regelVerletzungen);
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURS_VERBIETEN_MIT_KURS))
-			stateRegelvalidierung7_kurs_verbieten_mit_kurs(r, regelVerletzungen);
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURS_ZUSAMMEN_MIT_KURS))
-			stateRegelvalidierung8_kurs_zusammen_mit_kurs(r, regelVerletzungen);
-
-		// stateRegelvalidierung9 ist nicht nötig
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.LEHRKRAEFTE_BEACHTEN))
-			stateRegelvalidierung10_lehrkraefte_beachten(r, regelVerletzungen);
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.SCHUELER_ZUSAMMEN_MIT_SCHUELER_IN_FACH))
-			stateRegelvalidierung11_schueler_zusammen_mit_schueler_in_fach(r, regelVerletzungen);
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.SCHUELER_VERBIETEN_MIT_SCHUELER_IN_FACH))
-			stateRegelvalidierung12_schueler_verbieten_mit_schueler_in_fach(r, regelVerletzungen);
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.SCHUELER_ZUSAMMEN_MIT_SCHUELER))
-			stateRegelvalidierung13_schueler_zusammen_mit_schueler(r, regelVerletzungen);
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.SCHUELER_VERBIETEN_MIT_SCHUELER))
-			stateRegelvalidierung14_schueler_verbieten_mit_schueler(r, regelVerletzungen);
-
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURS_MAXIMALE_SCHUELERANZAHL))
-			stateRegelvalidierung15_kurs_maximale_schueleranzahl(r, regelVerletzungen);
-
-		// stateRegelvalidierung16 ist nicht nötig
-		// stateRegelvalidierung17 ist nicht nötig
+		stateClearErgebnisBewertung1Zusammenfassen();
+	}
 
-		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(GostKursblockungRegelTyp.FACH_KURSART_MAXIMALE_ANZAHL_PRO_SCHIENE))
-			stateRegelvalidierung18_fach_kursart_maxProSchiene(r, regelVerletzungen);
+	private void stateClearErgebnisBewertung1Zusammenfassen() {
+		// Bewertungskriterium 1a (regelVerletzungen) in der Reihenfolge der Validierung zusammensetzen.
+		final @NotNull List<@NotNull Long> regelVerletzungen = _ergebnis.bewertung.regelVerletzungen;
+		regelVerletzungen.clear();
+		for (final int idRegeltyp : REGELTYPEN_VALIDIERUNG)
+			regelVerletzungen.addAll(MapUtils.getOrCreateArrayList(_regelTyp_to_regelIDverletzungList, idRegeltyp));
 
 		// Bewertungskriterium 1b (anzahlKurseNichtZugeordnet)
 		_ergebnis.bewertung.anzahlKurseNichtZugeordnet = 0;
@@ -799,70 +766,78 @@ public class GostBlockungsergebnisManager {
 		// Leeren und hinzufügen.
 		_fachartID_to_kursdifferenz.clear();
 
-		for (final long idFachart : _fachartID_to_kurseList.keySet()) {
-			final List<@NotNull GostBlockungsergebnisKurs> kursmenge = DeveloperNotificationException.ifMapGetIsNull(_fachartID_to_kurseList, idFachart);
-
-			// Neue Kursdifferenz berechnen
-			int min = 10000; // Dummy-Wert
-			int max = 0;
-			for (final @NotNull GostBlockungsergebnisKurs kurs : kursmenge) {
-				// Wichtig: Kurse die zu ignorieren sind, müssen beachtet werden!
-				final @NotNull LongArrayKey keyIgnoreID = new LongArrayKey(new long[] {GostKursblockungRegelTyp.KURS_KURSDIFFERENZ_BEI_DER_VISUALISIERUNG_IGNORIEREN.typ, kurs.id});
-				if (_parent.regelGetByLongArrayKeyOrNull(keyIgnoreID) != null)
-					continue;
+		for (final long idFachart : _fachartID_to_kurseList.keySet())
+			update_2_fachartID_to_kursdifferenz_ofFachart(idFachart);
+	}
 
-				// Wichtig: DummySuS müssen beachtet werden!
-				final int size = DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schuelerIDSet, kurs.id).size() + DeveloperNotificationException.ifMapGetIsNull(_kursID_to_dummySuS, kurs.id);
-				min = Math.min(min, size);
-				max = Math.max(max, size);
-			}
-			int newKD = max - min;
+	private void update_2_fachartID_to_kursdifferenz_ofFachart(final long idFachart) {
+		final List<@NotNull GostBlockungsergebnisKurs> kursmenge = DeveloperNotificationException.ifMapGetIsNull(_fachartID_to_kurseList, idFachart);
 
-			// Sonderfall: Falls alle Kurse ignoriert wurden, oder es gar keine Kurse gab.
-			if (newKD < 0)
-				newKD = 0;
+		// Neue Kursdifferenz berechnen
+		int min = 10000; // Dummy-Wert
+		int max = 0;
+		for (final @NotNull GostBlockungsergebnisKurs kurs : kursmenge) {
+			// Wichtig: Kurse die zu ignorieren sind, müssen beachtet werden!
+			final @NotNull LongArrayKey keyIgnoreID = new LongArrayKey(new long[] {GostKursblockungRegelTyp.KURS_KURSDIFFERENZ_BEI_DER_VISUALISIERUNG_IGNORIEREN.typ, kurs.id});
+			if (_parent.regelGetByLongArrayKeyOrNull(keyIgnoreID) != null)
+				continue;
 
-			// Kursdifferenz-Map aktualisieren.
-			_fachartID_to_kursdifferenz.put(idFachart, newKD);
+			// Wichtig: DummySuS müssen beachtet werden!
+			final int size = DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schuelerIDSet, kurs.id).size() + DeveloperNotificationException.ifMapGetIsNull(_kursID_to_dummySuS, kurs.id);
+			min = Math.min(min, size);
+			max = Math.max(max, size);
 		}
+		int newKD = max - min;
 
+		// Sonderfall: Falls alle Kurse ignoriert wurden, oder es gar keine Kurse gab.
+		if (newKD < 0)
+			newKD = 0;
+
+		// Kursdifferenz-Map aktualisieren.
+		_fachartID_to_kursdifferenz.put(idFachart, newKD);
 	}
 
 	private void update_2_schienenID_to_kollisionen() {
 		_schienenID_to_kollisionen.clear();
 
-		for (final long idSchiene : _schienenID_to_kursIDSet.keySet()) { // Durchläuft alle Schienen.
-			final @NotNull Set<@NotNull Long> kursmenge = DeveloperNotificationException.ifMapGetIsNull(_schienenID_to_kursIDSet, idSchiene);
+		for (final long idSchiene : _schienenID_to_kursIDSet.keySet()) // Durchläuft alle Schienen.
+			update_2_schienenID_to_kollisionen_ofSchiene(idSchiene);
+	}
 
-			int summeMitDoppelten = 0;
-			final @NotNull HashSet<@NotNull Long> summeOhneDoppelte = new HashSet<>();
+	private void update_2_schienenID_to_kollisionen_ofSchiene(final long idSchiene) {
+		final @NotNull Set<@NotNull Long> kursmenge = DeveloperNotificationException.ifMapGetIsNull(_schienenID_to_kursIDSet, idSchiene);
 
-			for (final long idKurs : kursmenge) {
-				final @NotNull Set<@NotNull Long> schuelermenge = DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schuelerIDSet, idKurs);
-				summeMitDoppelten += schuelermenge.size();
-				summeOhneDoppelte.addAll(schuelermenge);
-			}
+		int summeMitDoppelten = 0;
+		final @NotNull HashSet<@NotNull Long> summeOhneDoppelte = new HashSet<>();
 
-			_schienenID_to_kollisionen.put(idSchiene, summeMitDoppelten - summeOhneDoppelte.size());
+		for (final long idKurs : kursmenge) {
+			final @NotNull Set<@NotNull Long> schuelermenge = DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schuelerIDSet, idKurs);
+			summeMitDoppelten += schuelermenge.size();
+			summeOhneDoppelte.addAll(schuelermenge);
 		}
+
+		_schienenID_to_kollisionen.put(idSchiene, summeMitDoppelten - summeOhneDoppelte.size());
 	}
 
 	private void update_2_schienenID_to_susAnzahl() {
 		// Leeren und hinzufügen.
 		_schienenID_to_susAnzahl.clear();
 
-		for (final long idSchiene : _schienenID_to_kursIDSet.keySet()) { // Durchläuft alle Schienen.
-			final @NotNull Set<@NotNull Long> kursmenge = DeveloperNotificationException.ifMapGetIsNull(_schienenID_to_kursIDSet, idSchiene);
+		for (final long idSchiene : _schienenID_to_kursIDSet.keySet()) // Durchläuft alle Schienen.
+			update_2_schienenID_to_susAnzahl_ofSchiene(idSchiene);
+	}
 
-			int summeMitDoppelten = 0;
+	private void update_2_schienenID_to_susAnzahl_ofSchiene(final long idSchiene) {
+		final @NotNull Set<@NotNull Long> kursmenge = DeveloperNotificationException.ifMapGetIsNull(_schienenID_to_kursIDSet, idSchiene);
 
-			for (final long idKurs : kursmenge) {
-				final @NotNull Set<@NotNull Long> schuelermenge = DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schuelerIDSet, idKurs);
-				summeMitDoppelten += schuelermenge.size();
-			}
+		int summeMitDoppelten = 0;
 
-			_schienenID_to_susAnzahl.put(idSchiene, summeMitDoppelten);
+		for (final long idKurs : kursmenge) {
+			final @NotNull Set<@NotNull Long> schuelermenge = DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schuelerIDSet, idKurs);
+			summeMitDoppelten += schuelermenge.size();
 		}
+
+		_schienenID_to_susAnzahl.put(idSchiene, summeMitDoppelten);
 	}
 
 	private void update_2_schuelerID_schienenID_to_kurseSet() {
@@ -887,35 +862,45 @@ public class GostBlockungsergebnisManager {
 	}
 
 	private void update_2_schienenID_fachartID_to_kurseList() {
-		// Leeren und hinzufügen.
+		// Leeren und hinzufügen (inklusive leerer (Schienen, Fachart) Kombinationen).
 		_schienenID_fachartID_to_kurseList.clear();
-		for (final @NotNull GostBlockungsergebnisKurs eKurs : _kursID_to_kurs.values()) {
-			final long fachartID = GostKursart.getFachartID(eKurs.fachID, eKurs.kursart);
-			for (final @NotNull GostBlockungsergebnisSchiene eSchiene : MapUtils.getOrCreateHashSet(_kursID_to_schienenSet, eKurs.id))
-				Map2DUtils.getOrCreateArrayList(_schienenID_fachartID_to_kurseList, eSchiene.id, fachartID).add(eKurs);
-		}
-
-		// Ergänze leere (Schienen, Fachart) Kombinationen
 		for (final long idSchiene : _schienenIDset)
 			for (final long idFachart : _fachartID_to_kurseList.keySet())
-				Map2DUtils.getOrCreateArrayList(_schienenID_fachartID_to_kurseList, idSchiene, idFachart);
+				update_2_schienenID_fachartID_to_kurseList_ofSchieneUndFachart(idSchiene, idFachart);
+	}
+
+	private void update_2_schienenID_fachartID_to_kurseList_ofSchieneUndFachart(final long idSchiene, final long idFachart) {
+		final @NotNull GostBlockungsergebnisSchiene eSchiene = DeveloperNotificationException.ifMapGetIsNull(_schienenID_to_schiene, idSchiene);
+		final @NotNull List<@NotNull GostBlockungsergebnisKurs> kursmenge = Map2DUtils.getOrCreateArrayList(_schienenID_fachartID_to_kurseList, idSchiene, idFachart);
+		kursmenge.clear();
+
+		// Die Kurse in der Reihenfolge der (sortierten) Kursmenge der Fachart übernehmen.
+		for (final @NotNull GostBlockungsergebnisKurs eKurs : DeveloperNotificationException.ifMapGetIsNull(_fachartID_to_kurseList, idFachart))
+			if (DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schienenSet, eKurs.id).contains(eSchiene))
+				kursmenge.add(eKurs);
 	}
 
 	private void update_3_schuelerID_to_kollisionen() {
 		// Leeren und hinzufügen.
 		_schuelerID_to_kollisionen.clear();
 
-		for (final long idSchueler : _schuelerID_schienenID_to_kurseSet.getKeySet()) {
-			int summeAllerKollisionenDesSchuelers = 0;
+		for (final long idSchueler : _schuelerID_schienenID_to_kurseSet.getKeySet())
+			update_3_schuelerID_to_kollisionen_ofSchueler(idSchueler);
+	}
+
+	private void update_3_schuelerID_to_kollisionen_ofSchueler(final long idSchueler) {
+		if (!_schuelerID_schienenID_to_kurseSet.containsKey1(idSchueler))
+			return;
 
-			for (final long idSchiene : _schuelerID_schienenID_to_kurseSet.getKeySetOf(idSchueler)) {
-				final int kurseInDerSchiene = _schuelerID_schienenID_to_kurseSet.getNonNullOrException(idSchueler, idSchiene).size();
-				if (kurseInDerSchiene >= 2)
-					summeAllerKollisionenDesSchuelers += kurseInDerSchiene - 1;
-			}
+		int summeAllerKollisionenDesSchuelers = 0;
 
-			_schuelerID_to_kollisionen.put(idSchueler, summeAllerKollisionenDesSchuelers);
+		for (final long idSchiene : _schuelerID_schienenID_to_kurseSet.getKeySetOf(idSchueler)) {
+			final int kurseInDerSchiene = _schuelerID_schienenID_to_kurseSet.getNonNullOrException(idSchueler, idSchiene).size();
+			if (kurseInDerSchiene >= 2)
+				summeAllerKollisionenDesSchuelers += kurseInDerSchiene - 1;
 		}
+
+		_schuelerID_to_kollisionen.put(idSchueler, summeAllerKollisionenDesSchuelers);
 	}
 
 	private void update_3_schuelerID_fachID_to_kurs_or_null() {
@@ -931,6 +916,79 @@ public class GostBlockungsergebnisManager {
 				_schuelerID_fachID_to_kurs_or_null.put(gFachwahl.schuelerID, gFachwahl.fachID, null);
 	}
 
+	private void update_3_schuelerID_fachID_to_kurs_or_null_ofSchueler(final long idSchueler) {
+		// Die Fächer des Schülers bleiben erhalten (Fachwahlen), nur die Zuordnungen werden neu gesetzt.
+		if (_schuelerID_fachID_to_kurs_or_null.containsKey1(idSchueler))
+			for (final long idFach : _schuelerID_fachID_to_kurs_or_null.getKeySetOf(idSchueler))
+				_schuelerID_fachID_to_kurs_or_null.put(idSchueler, idFach, null);
+
+		for (final @NotNull GostBlockungsergebnisKurs eKurs : MapUtils.getOrCreateHashSet(_schuelerID_to_kurseSet, idSchueler))
+			_schuelerID_fachID_to_kurs_or_null.put(idSchueler, eKurs.fachID, eKurs);
+	}
+
+	private void stateRegelvalidierungOfTyp(final int idRegeltyp) {
+		// Die bisherigen Verletzungen des Regel-Typs entfernen.
+		for (final long idRegel : MapUtils.getOrCreateArrayList(_regelTyp_to_regelIDverletzungList, idRegeltyp))
+			_regelID_to_verletzungString.remove(idRegel);
+		_regelTyp_to_verletzungList.remove(idRegeltyp);
+
+		final @NotNull List<@NotNull Long> regelVerletzungen = new ArrayList<>();
+		_regelTyp_to_regelIDverletzungList.put(idRegeltyp, regelVerletzungen);
+
+		final @NotNull GostKursblockungRegelTyp typ = GostKursblockungRegelTyp.fromTyp(idRegeltyp);
+		for (final @NotNull GostBlockungRegel r : _parent.regelGetListeOfTyp(typ))
+			switch (typ) {
+				case KURSART_SPERRE_SCHIENEN_VON_BIS:
+					stateRegelvalidierung1_kursart_sperren_in_schiene_von_bis(r, regelVerletzungen);
+					break;
+				case KURS_FIXIERE_IN_SCHIENE:
+					stateRegelvalidierung2_kurs_fixieren_in_schiene(r, regelVerletzungen);
+					break;
+				case KURS_SPERRE_IN_SCHIENE:
+					stateRegelvalidierung3_kurs_sperren_in_schiene(r, regelVerletzungen);
+					break;
+				case SCHUELER_FIXIEREN_IN_KURS:
+					stateRegelvalidierung4_schueler_fixieren_in_kurs(r, regelVerletzungen);
+					break;
+				case SCHUELER_VERBIETEN_IN_KURS:
+					stateRegelvalidierung5_schueler_verbieten_in_kurs(r, regelVerletzungen);
+					break;
+				case KURSART_ALLEIN_IN_SCHIENEN_VON_BIS:
+					stateRegelvalidierung6_kursart_allein_in_schiene_von_bis(r, regelVerletzungen);
+					break;
+				case KURS_VERBIETEN_MIT_KURS:
+					stateRegelvalidierung7_kurs_verbieten_mit_kurs(r, regelVerletzungen);
+					break;
+				case KURS_ZUSAMMEN_MIT_KURS:
+					stateRegelvalidierung8_kurs_zusammen_mit_kurs(r, regelVerletzungen);
+					break;
+				case LEHRKRAEFTE_BEACHTEN:
+					stateRegelvalidierung10_lehrkraefte_beachten(r, regelVerletzungen);
+					break;
+				case SCHUELER_ZUSAMMEN_MIT_SCHUELER_IN_FACH:
+					stateRegelvalidierung11_schueler_zusammen_mit_schueler_in_fach(r, regelVerletzungen);
+					break;
+				case SCHUELER_VERBIETEN_MIT_SCHUELER_IN_FACH:
+					stateRegelvalidierung12_schueler_verbieten_mit_schueler_in_fach(r, regelVerletzungen);
+					break;
+				case SCHUELER_ZUSAMMEN_MIT_SCHUELER:
+					stateRegelvalidierung13_schueler_zusammen_mit_schueler(r, regelVerletzungen);
+					break;
+				case SCHUELER_VERBIETEN_MIT_SCHUELER:
+					stateRegelvalidierung14_schueler_verbieten_mit_schueler(r, regelVerletzungen);
+					break;
+				case KURS_MAXIMALE_SCHUELERANZAHL:
+					stateRegelvalidierung15_kurs_maximale_schueleranzahl(r, regelVerletzungen);
+					break;
+				case FACH_KURSART_MAXIMALE_ANZAHL_PRO_SCHIENE:
+					stateRegelvalidierung18_fach_kursart_maxProSchiene(r, regelVerletzungen);
+					break;
+				default:
+					// stateRegelvalidierung9, 16 und 17 sind nicht nötig
+					break;
+			}
+	}
+
 	private void stateRegelvalidierung1_kursart_sperren_in_schiene_von_bis(final @NotNull GostBlockungRegel r, final @NotNull List<@NotNull Long> regelVerletzungen) {
 		for (int schienenNr = r.parameter.get(1).intValue(); schienenNr <= r.parameter.get(2).intValue(); schienenNr++)
 			for (final GostBlockungsergebnisKurs eKurs : getSchieneEmitNr(schienenNr).kurse)
@@ -1262,8 +1320,231 @@ public class GostBlockungsergebnisManager {
 	 * @param  idSchiene  Die Datenbank-ID der Schiene.
 	 */
 	private void stateKursSchieneHinzufuegen(final long idKurs, final long idSchiene) {
+		final @NotNull GostBlockungsergebnisKursSchienenZuordnungUpdate u = new GostBlockungsergebnisKursSchienenZuordnungUpdate();
+		u.listHinzuzufuegen.add(DTOUtils.newGostBlockungsergebnisKursSchienenZuordnung(idKurs, idSchiene));
+		kursSchienenUpdateExecute(u);
+	}
+
+	/**
+	 * Fügt den Schüler dem Kurs hinzu und aktualisiert dabei direkt die Datenstrukturen, welche nur von der
+	 * Zuordnung abhängen. Alle abgeleiteten Werte werden erst mit {@link #stateRevalidateKursSchuelerInkrementell}
+	 * aktualisiert. <br>
+	 * Hinweis: Die Wahl des Kurses muss für diesen Schüler gültig sein.
+	 *
+	 * @param  idSchueler Die Datenbank-ID des Schülers.
+	 * @param  idKurs     Die Datenbank-ID des Kurses.
+	 */
+	private void stateSchuelerKursHinzufuegenInkrementell(final long idSchueler, final long idKurs) {
+		final @NotNull GostBlockungsergebnisKurs eKurs = getKursE(idKurs);
+		if (!DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schuelerIDSet, idKurs).add(idSchueler))
+			return;
+		stateSchuelerKursHinzufuegenOhneRevalidierung(idSchueler, idKurs);
+		MapUtils.getOrCreateHashSet(_schuelerID_to_kurseSet, idSchueler).add(eKurs);
+		for (final @NotNull GostBlockungsergebnisSchiene eSchiene : DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schienenSet, idKurs))
+			Map2DUtils.getOrCreateHashSet(_schuelerID_schienenID_to_kurseSet, idSchueler, eSchiene.id).add(eKurs);
+	}
+
+	/**
+	 * Entfernt den Schüler aus dem Kurs und aktualisiert dabei direkt die Datenstrukturen, welche nur von der
+	 * Zuordnung abhängen. Alle abgeleiteten Werte werden erst mit {@link #stateRevalidateKursSchuelerInkrementell}
+	 * aktualisiert.
+	 *
+	 * @param  idSchueler Die Datenbank-ID des Schülers.
+	 * @param  idKurs     Die Datenbank-ID des Kurses.
+	 */
+	private void stateSchuelerKursEntfernenInkrementell(final long idSchueler, final long idKurs) {
+		final @NotNull GostBlockungsergebnisKurs eKurs = getKursE(idKurs);
+		if (!DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schuelerIDSet, idKurs).remove(idSchueler))
+			return;
+		stateSchuelerKursEntfernenOhneRevalidierung(idSchueler, idKurs);
+		MapUtils.getOrCreateHashSet(_schuelerID_to_kurseSet, idSchueler).remove(eKurs);
+		for (final @NotNull GostBlockungsergebnisSchiene eSchiene : DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schienenSet, idKurs))
+			Map2DUtils.getOrCreateHashSet(_schuelerID_schienenID_to_kurseSet, idSchueler, eSchiene.id).remove(eKurs);
+	}
+
+	/**
+	 * Fügt den Kurs der Schiene hinzu und aktualisiert dabei direkt die Datenstrukturen, welche nur von der
+	 * Zuordnung abhängen. Alle abgeleiteten Werte werden erst mit {@link #stateRevalidateKursSchienenInkrementell}
+	 * aktualisiert.
+	 *
+	 * @param  idKurs     Die Datenbank-ID des Kurses.
+	 * @param  idSchiene  Die Datenbank-ID der Schiene.
+	 */
+	private void stateKursSchieneHinzufuegenInkrementell(final long idKurs, final long idSchiene) {
+		final @NotNull GostBlockungsergebnisKurs eKurs = getKursE(idKurs);
+		final @NotNull GostBlockungsergebnisSchiene eSchiene = getSchieneE(idSchiene);
+		if (!DeveloperNotificationException.ifMapGetIsNull(_schienenID_to_kursIDSet, idSchiene).add(idKurs))
+			return;
 		stateKursSchieneHinzufuegenOhneRegelvalidierung(idKurs, idSchiene);
-		stateRevalidateEverything();
+		DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schienenSet, idKurs).add(eSchiene);
+		for (final long idSchueler : DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schuelerIDSet, idKurs))
+			Map2DUtils.getOrCreateHashSet(_schuelerID_schienenID_to_kurseSet, idSchueler, idSchiene).add(eKurs);
+	}
+
+	/**
+	 * Entfernt den Kurs aus der Schiene und aktualisiert dabei direkt die Datenstrukturen, welche nur von der
+	 * Zuordnung abhängen. Alle abgeleiteten Werte werden erst mit {@link #stateRevalidateKursSchienenInkrementell}
+	 * aktualisiert.
+	 *
+	 * @param  idKurs     Die Datenbank-ID des Kurses.
+	 * @param  idSchiene  Die Datenbank-ID der Schiene.
+	 */
+	private void stateKursSchieneEntfernenInkrementell(final long idKurs, final long idSchiene) {
+		final @NotNull GostBlockungsergebnisKurs eKurs = getKursE(idKurs);
+		final @NotNull GostBlockungsergebnisSchiene eSchiene = getSchieneE(idSchiene);
+		if (!DeveloperNotificationException.ifMapGetIsNull(_schienenID_to_kursIDSet, idSchiene).remove(idKurs))
+			return;
+		stateKursSchieneEntfernenOhneRegelvalidierung(idKurs, idSchiene);
+		DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schienenSet, idKurs).remove(eSchiene);
+		for (final long idSchueler : DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schuelerIDSet, idKurs))
+			Map2DUtils.getOrCreateHashSet(_schuelerID_schienenID_to_kurseSet, idSchueler, idSchiene).remove(eKurs);
+	}
+
+	/**
+	 * Liefert TRUE, falls die Datenstrukturen nach einem Update inkrementell aktualisiert werden können. Andernfalls
+	 * müssen alle Datenstrukturen mit {@link #stateRevalidateEverything()} neu aufgebaut werden. Dies ist der Fall,
+	 * wenn es ungültige Kurs-Schüler-Zuordnungen gibt oder wenn sich Regeln verändern, welche nicht nur bewertet
+	 * werden, sondern die Datenstrukturen selbst beeinflussen (Dummy-SuS und ignorierte Kursdifferenzen).
+	 *
+	 * @param regelUpdates  Die Regel-Veränderungen des Updates.
+	 *
+	 * @return TRUE, falls die Datenstrukturen nach einem Update inkrementell aktualisiert werden können.
+	 */
+	private boolean stateIstInkrementellMoeglich(final @NotNull GostBlockungRegelUpdate regelUpdates) {
+		if (!_schuelerID_to_ungueltigeKurseSet.isEmpty())
+			return false;
+
+		// Regel-Veränderungen werden nur bei der Blockungsvorlage durchgeführt.
+		if (!_parent.getIstBlockungsVorlage())
+			return true;
+
+		for (final @NotNull GostBlockungRegel r : regelUpdates.listEntfernen)
+			if ((r.typ == GostKursblockungRegelTyp.KURS_MIT_DUMMY_SUS_AUFFUELLEN.typ) || (r.typ == GostKursblockungRegelTyp.KURS_KURSDIFFERENZ_BEI_DER_VISUALISIERUNG_IGNORIEREN.typ))
+				return false;
+
+		for (final @NotNull GostBlockungRegel r : regelUpdates.listHinzuzufuegen)
+			if ((r.typ == GostKursblockungRegelTyp.KURS_MIT_DUMMY_SUS_AUFFUELLEN.typ) || (r.typ == GostKursblockungRegelTyp.KURS_KURSDIFFERENZ_BEI_DER_VISUALISIERUNG_IGNORIEREN.typ))
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Liefert die Menge der Regel-Typen, welche durch die Regel-Veränderungen eines Updates neu validiert werden müssen.
+	 *
+	 * @param regelUpdates  Die Regel-Veränderungen des Updates.
+	 *
+	 * @return die Menge der Regel-Typen, welche durch die Regel-Veränderungen eines Updates neu validiert werden müssen.
+	 */
+	private @NotNull Set<@NotNull Integer> getRegeltypenOfRegelUpdates(final @NotNull GostBlockungRegelUpdate regelUpdates) {
+		final @NotNull Set<@NotNull Integer> regeltypen = new HashSet<>();
+		if (_parent.getIstBlockungsVorlage()) {
+			for (final @NotNull GostBlockungRegel r : regelUpdates.listEntfernen)
+				regeltypen.add(r.typ);
+			for (final @NotNull GostBlockungRegel r : regelUpdates.listHinzuzufuegen)
+				regeltypen.add(r.typ);
+		}
+		return regeltypen;
+	}
+
+	/**
+	 * Aktualisiert nach Veränderungen der Kurs-Schüler-Zuordnungen nur die abgeleiteten Werte der betroffenen Schienen,
+	 * Facharten und Schüler, sowie alle Regeln deren Validierung von den Kurs-Schüler-Zuordnungen abhängt. Das Ergebnis
+	 * entspricht dem von {@link #stateRevalidateEverything()}.
+	 *
+	 * @param kursIDs      Die IDs der Kurse, deren Schülermenge sich verändert hat.
+	 * @param schuelerIDs  Die IDs der Schüler, deren Kursmenge sich verändert hat.
+	 * @param regeltypen   Die Regel-Typen, welche zusätzlich neu validiert werden müssen.
+	 */
+	private void stateRevalidateKursSchuelerInkrementell(final @NotNull Set<@NotNull Long> kursIDs, final @NotNull Set<@NotNull Long> schuelerIDs, final @NotNull Set<@NotNull Integer> regeltypen) {
+		// Betroffene Schienen und Facharten ermitteln.
+		final @NotNull Set<@NotNull Long> schienenIDs = new HashSet<>();
+		final @NotNull Set<@NotNull Long> fachartIDs = new HashSet<>();
+		for (final long idKurs : kursIDs) {
+			final @NotNull GostBlockungsergebnisKurs eKurs = getKursE(idKurs);
+			fachartIDs.add(GostKursart.getFachartID(eKurs.fachID, eKurs.kursart));
+			for (final @NotNull GostBlockungsergebnisSchiene eSchiene : DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schienenSet, idKurs))
+				schienenIDs.add(eSchiene.id);
+		}
+
+		for (final long idSchiene : schienenIDs) {
+			update_2_schienenID_to_kollisionen_ofSchiene(idSchiene);
+			update_2_schienenID_to_susAnzahl_ofSchiene(idSchiene);
+		}
+
+		for (final long idFachart : fachartIDs)
+			update_2_fachartID_to_kursdifferenz_ofFachart(idFachart);
+
+		for (final long idSchueler : schuelerIDs) {
+			update_3_schuelerID_to_kollisionen_ofSchueler(idSchueler);
+			update_3_schuelerID_fachID_to_kurs_or_null_ofSchueler(idSchueler);
+		}
+
+		for (final int idRegeltyp : REGELTYPEN_VALIDIERUNG_KURS_SCHUELER)
+			regeltypen.add(idRegeltyp);
+		stateRevalidateBewertungInkrementell(regeltypen);
+	}
+
+	/**
+	 * Aktualisiert nach Veränderungen der Kurs-Schienen-Zuordnungen nur die abgeleiteten Werte der betroffenen Schienen
+	 * und Schüler, sowie alle Regeln deren Validierung von den Kurs-Schienen-Zuordnungen abhängt. Das Ergebnis
+	 * entspricht dem von {@link #stateRevalidateEverything()}.
+	 *
+	 * @param kursIDs      Die IDs der Kurse, deren Schienenmenge sich verändert hat.
+	 * @param schienenIDs  Die IDs der Schienen, deren Kursmenge sich verändert hat.
+	 * @param regeltypen   Die Regel-Typen, welche zusätzlich neu validiert werden müssen.
+	 */
+	private void stateRevalidateKursSchienenInkrementell(final @NotNull Set<@NotNull Long> kursIDs, final @NotNull Set<@NotNull Long> schienenIDs, final @NotNull Set<@NotNull Integer> regeltypen) {
+		// Betroffene Schüler und Facharten ermitteln.
+		final @NotNull Set<@NotNull Long> schuelerIDs = new HashSet<>();
+		final @NotNull Set<@NotNull Long> fachartIDs = new HashSet<>();
+		for (final long idKurs : kursIDs) {
+			final @NotNull GostBlockungsergebnisKurs eKurs = getKursE(idKurs);
+			fachartIDs.add(GostKursart.getFachartID(eKurs.fachID, eKurs.kursart));
+			schuelerIDs.addAll(DeveloperNotificationException.ifMapGetIsNull(_kursID_to_schuelerIDSet, idKurs));
+		}
+
+		for (final long idSchiene : schienenIDs) {
+			stateSchieneKursmengeSortieren(getSchieneE(idSchiene));
+			update_2_schienenID_to_kollisionen_ofSchiene(idSchiene);
+			update_2_schienenID_to_susAnzahl_ofSchiene(idSchiene);
+			for (final long idFachart : fachartIDs)
+				update_2_schienenID_fachartID_to_kurseList_ofSchieneUndFachart(idSchiene, idFachart);
+		}
+
+		for (final long idSchueler : schuelerIDs)
+			update_3_schuelerID_to_kollisionen_ofSchueler(idSchueler);
+
+		for (final int idRegeltyp : REGELTYPEN_VALIDIERUNG_KURS_SCHIENE)
+			regeltypen.add(idRegeltyp);
+		stateRevalidateBewertungInkrementell(regeltypen);
+	}
+
+	/**
+	 * Validiert die übergebenen Regel-Typen neu und aktualisiert anschließend die Bewertung des Ergebnisses. Die
+	 * Bewertungskriterien 2 bis 4 werden dabei nur aus den bereits aktualisierten Datenstrukturen zusammengefasst.
+	 *
+	 * @param regeltypen  Die Regel-Typen, welche neu validiert werden müssen.
+	 */
+	private void stateRevalidateBewertungInkrementell(final @NotNull Set<@NotNull Integer> regeltypen) {
+		for (final int idRegeltyp : regeltypen)
+			stateRegelvalidierungOfTyp(idRegeltyp);
+
+		stateClearErgebnisBewertung1Zusammenfassen();
+		stateClearErgebnisBewertung2();
+		stateClearErgebnisBewertung3();
+		stateClearErgebnisBewertung4();
+
+		// Die Bewertung im DatenManager aktualisieren.
+		_parent.ergebnisUpdateBewertung(_ergebnis);
+	}
+
+	private void stateSchieneKursmengeSortieren(final @NotNull GostBlockungsergebnisSchiene schiene) {
+		if (_fachartmenge_sortierung == 1) {
+			schiene.kurse.sort(_kursComparator_kursart_fach_kursnummer);
+		} else {
+			schiene.kurse.sort(_kursComparator_fach_kursart_kursnummer);
+		}
 	}
 
 	// #########################################################################
@@ -5205,6 +5486,20 @@ public class GostBlockungsergebnisManager {
 		return u;
 	}
 
+	/**
+	 * Liefert TRUE, falls der Schüler der Kurs-Schüler-Zuordnung dem Kurs zugeordnet ist, wobei die bisher bei einem Update
+	 * bestimmten Veränderungen berücksichtigt werden.
+	 *
+	 * @param zustand  Die Zuordnungen (Schüler-ID, Kurs-ID), welche durch das Update bereits verändert wurden.
+	 * @param z        Die Kurs-Schüler-Zuordnung.
+	 *
+	 * @return TRUE, falls der Schüler der Kurs-Schüler-Zuordnung dem Kurs zugeordnet ist.
+	 */
+	private boolean getOfSchuelerOfKursIstZugeordnetNachUpdate(final @NotNull HashMap2D<@NotNull Long, @NotNull Long, @NotNull Boolean> zustand, final @NotNull GostBlockungsergebnisKursSchuelerZuordnung z) {
+		final Boolean zugeordnet = zustand.getOrNull(z.idSchueler, z.idKurs);
+		return (zugeordnet != null) ? zugeordnet : getOfSchuelerOfKursIstZugeordnet(z.idSchueler, z.idKurs);
+	}
+
 	/**
 	 * Entfernt erst alle Regeln aus {@link GostBlockungsergebnisKursSchuelerZuordnungUpdate#listEntfernen} und
 	 * fügt dann die neuen Regeln aus {@link GostBlockungsergebnisKursSchuelerZuordnungUpdate#listHinzuzufuegen} hinzu.
@@ -5213,25 +5508,65 @@ public class GostBlockungsergebnisManager {
 	 * @param update  Das {@link GostBlockungsergebnisKursSchuelerZuordnungUpdate}-Objekt.
 	 */
 	public void kursSchuelerUpdateExecute(final @NotNull GostBlockungsergebnisKursSchuelerZuordnungUpdate update) {
+		// Die tatsächlichen Veränderungen in der Reihenfolge "erst entfernen, dann hinzufügen" bestimmen. Ein Paar, welches
+		// entfernt und wieder hinzugefügt wird, ist somit in beiden Listen enthalten. Doppelte Paare werden nur einmal berücksichtigt.
+		final @NotNull HashMap2D<@NotNull Long, @NotNull Long, @NotNull Boolean> zustand = new HashMap2D<>();
+		final @NotNull List<@NotNull GostBlockungsergebnisKursSchuelerZuordnung> listEntfernen = new ArrayList<>();
+		for (final @NotNull GostBlockungsergebnisKursSchuelerZuordnung z : update.listEntfernen)
+			if (getOfSchuelerOfKursIstZugeordnetNachUpdate(zustand, z)) { // vorsichtshalber!
+				listEntfernen.add(z);
+				zustand.put(z.idSchueler, z.idKurs, false);
+			}
+
+		final @NotNull List<@NotNull GostBlockungsergebnisKursSchuelerZuordnung> listHinzufuegen = new ArrayList<>();
+		for (final @NotNull GostBlockungsergebnisKursSchuelerZuordnung z : update.listHinzuzufuegen)
+			if (!getOfSchuelerOfKursIstZugeordnetNachUpdate(zustand, z)) { // vorsichtshalber!
+				listHinzufuegen.add(z);
+				zustand.put(z.idSchueler, z.idKurs, true);
+			}
+
+		// Inkrementell nur bei gültigen Wahlen und Kursen mit Schienen, sonst werden die SuS beim Neuaufbau verworfen.
+		boolean inkrementell = stateIstInkrementellMoeglich(update.regelUpdates);
+		for (final @NotNull GostBlockungsergebnisKursSchuelerZuordnung z : listHinzufuegen) {
+			final @NotNull GostBlockungsergebnisKurs eKurs = getKursE(z.idKurs);
+			if ((!_parent.schuelerGetHatFachart(z.idSchueler, eKurs.fachID, eKurs.kursart)) || getOfKursSchienenmenge(z.idKurs).isEmpty())
+				inkrementell = false;
+		}
+
 		// Regeln entfernen.
 		if (_parent.getIstBlockungsVorlage())
 			_parent.regelRemoveListe(update.regelUpdates.listEntfernen);
 
 		// SuS entfernen.
-		for (final @NotNull GostBlockungsergebnisKursSchuelerZuordnung z : update.listEntfernen)
-			if (getOfSchuelerOfKursIstZugeordnet(z.idSchueler, z.idKurs)) // vorsichtshalber!
+		final @NotNull Set<@NotNull Long> kursIDs = new HashSet<>();
+		final @NotNull Set<@NotNull Long> schuelerIDs = new HashSet<>();
+		for (final @NotNull GostBlockungsergebnisKursSchuelerZuordnung z : listEntfernen) {
+			if (inkrementell)
+				stateSchuelerKursEntfernenInkrementell(z.idSchueler, z.idKurs);
+			else
 				stateSchuelerKursEntfernenOhneRevalidierung(z.idSchueler, z.idKurs);
+			kursIDs.add(z.idKurs);
+			schuelerIDs.add(z.idSchueler);
+		}
 
 		// SuS hinzufügen
-		for (final @NotNull GostBlockungsergebnisKursSchuelerZuordnung z : update.listHinzuzufuegen)
-			if (!getOfSchuelerOfKursIstZugeordnet(z.idSchueler, z.idKurs)) // vorsichtshalber!
+		for (final @NotNull GostBlockungsergebnisKursSchuelerZuordnung z : listHinzufuegen) {
+			if (inkrementell)
+				stateSchuelerKursHinzufuegenInkrementell(z.idSchueler, z.idKurs);
+			else
 				stateSchuelerKursHinzufuegenOhneRevalidierung(z.idSchueler, z.idKurs);
+			kursIDs.add(z.idKurs);
+			schuelerIDs.add(z.idSchueler);
+		}
 
 		// Regeln hinzufügen.
 		if (_parent.getIstBlockungsVorlage())
 			_parent.regelAddListe(update.regelUpdates.listHinzuzufuegen);
 
-		stateRevalidateEverything();
+		if (inkrementell)
+			stateRevalidateKursSchuelerInkrementell(kursIDs, schuelerIDs, getRegeltypenOfRegelUpdates(update.regelUpdates));
+		else
+			stateRevalidateEverything();
 	}
 
 	/**
@@ -5305,6 +5640,20 @@ public class GostBlockungsergebnisManager {
 		return u;
 	}
 
+	/**
+	 * Liefert TRUE, falls der Kurs der Kurs-Schienen-Zuordnung der Schiene zugeordnet ist, wobei die bisher bei einem Update
+	 * bestimmten Veränderungen berücksichtigt werden.
+	 *
+	 * @param zustand  Die Zuordnungen (Kurs-ID, Schienen-ID), welche durch das Update bereits verändert wurden.
+	 * @param z        Die Kurs-Schienen-Zuordnung.
+	 *
+	 * @return TRUE, falls der Kurs der Kurs-Schienen-Zuordnung der Schiene zugeordnet ist.
+	 */
+	private boolean getOfKursOfSchieneIstZugeordnetNachUpdate(final @NotNull HashMap2D<@NotNull Long, @NotNull Long, @NotNull Boolean> zustand, final @NotNull GostBlockungsergebnisKursSchienenZuordnung z) {
+		final Boolean zugeordnet = zustand.getOrNull(z.idKurs, z.idSchiene);
+		return (zugeordnet != null) ? zugeordnet : getOfKursOfSchieneIstZugeordnet(z.idKurs, z.idSchiene);
+	}
+
 	/**
 	 * Entfernt erst alle Regeln aus {@link GostBlockungsergebnisKursSchienenZuordnungUpdate#listEntfernen} und
 	 * fügt dann die neuen Regeln aus {@link GostBlockungsergebnisKursSchienenZuordnungUpdate#listHinzuzufuegen} hinzu.
@@ -5313,25 +5662,64 @@ public class GostBlockungsergebnisManager {
 	 * @param update  Das {@link GostBlockungsergebnisKursSchienenZuordnungUpdate}-Objekt.
 	 */
 	public void kursSchienenUpdateExecute(final @NotNull GostBlockungsergebnisKursSchienenZuordnungUpdate update) {
+		// Die tatsächlichen Veränderungen in der Reihenfolge "erst entfernen, dann hinzufügen" bestimmen. Ein Paar, welches
+		// entfernt und wieder hinzugefügt wird, ist somit in beiden Listen enthalten. Doppelte Paare werden nur einmal berücksichtigt.
+		final @NotNull HashMap2D<@NotNull Long, @NotNull Long, @NotNull Boolean> zustand = new HashMap2D<>();
+		final @NotNull List<@NotNull GostBlockungsergebnisKursSchienenZuordnung> listEntfernen = new ArrayList<>();
+		for (final @NotNull GostBlockungsergebnisKursSchienenZuordnung z : update.listEntfernen)
+			if (getOfKursOfSchieneIstZugeordnetNachUpdate(zustand, z)) { // vorsichtshalber!
+				listEntfernen.add(z);
+				zustand.put(z.idKurs, z.idSchiene, false);
+			}
+
+		final @NotNull List<@NotNull GostBlockungsergebnisKursSchienenZuordnung> listHinzufuegen = new ArrayList<>();
+		for (final @NotNull GostBlockungsergebnisKursSchienenZuordnung z : update.listHinzuzufuegen)
+			if (!getOfKursOfSchieneIstZugeordnetNachUpdate(zustand, z)) { // vorsichtshalber!
+				listHinzufuegen.add(z);
+				zustand.put(z.idKurs, z.idSchiene, true);
+			}
+
+		boolean inkrementell = stateIstInkrementellMoeglich(update.regelUpdates);
+
 		// Regeln entfernen.
 		if (_parent.getIstBlockungsVorlage())
 			_parent.regelRemoveListe(update.regelUpdates.listEntfernen);
 
 		// Kurse aus Schienen entfernen.
-		for (final @NotNull GostBlockungsergebnisKursSchienenZuordnung z : update.listEntfernen)
-			if (getOfKursOfSchieneIstZugeordnet(z.idKurs, z.idSchiene)) // vorsichtshalber!
+		final @NotNull Set<@NotNull Long> kursIDs = new HashSet<>();
+		final @NotNull Set<@NotNull Long> schienenIDs = new HashSet<>();
+		for (final @NotNull GostBlockungsergebnisKursSchienenZuordnung z : listEntfernen) {
+			if (inkrementell)
+				stateKursSchieneEntfernenInkrementell(z.idKurs, z.idSchiene);
+			else
 				stateKursSchieneEntfernenOhneRegelvalidierung(z.idKurs, z.idSchiene);
+			kursIDs.add(z.idKurs);
+			schienenIDs.add(z.idSchiene);
+		}
 
 		// Kurse in Schienen setzen.
-		for (final @NotNull GostBlockungsergebnisKursSchienenZuordnung z : update.listHinzuzufuegen)
-			if (!getOfKursOfSchieneIstZugeordnet(z.idKurs, z.idSchiene)) // vorsichtshalber!
+		for (final @NotNull GostBlockungsergebnisKursSchienenZuordnung z : listHinzufuegen) {
+			if (inkrementell)
+				stateKursSchieneHinzufuegenInkrementell(z.idKurs, z.idSchiene);
+			else
 				stateKursSchieneHinzufuegenOhneRegelvalidierung(z.idKurs, z.idSchiene);
+			kursIDs.add(z.idKurs);
+			schienenIDs.add(z.idSchiene);
+		}
 
 		// Regeln hinzufügen.
 		if (_parent.getIstBlockungsVorlage())
 			_parent.regelAddListe(update.regelUpdates.listHinzuzufuegen);
 
-		stateRevalidateEverything();
+		// Ein Kurs ohne Schiene verliert beim Neuaufbau seine SuS, daher ist in diesem Fall ein Neuaufbau nötig.
+		for (final long idKurs : kursIDs)
+			if (getOfKursSchienenmenge(idKurs).isEmpty())
+				inkrementell = false;
+
+		if (inkrementell)
+			stateRevalidateKursSchienenInkrementell(kursIDs, schienenIDs, getRegeltypenOfRegelUpdates(update.regelUpdates));
+		else
+			stateRevalidateEverything();
 	}
 
 	// #########################################################################
@@ -137,6 +137,27 @@ public class StundenplanManager {
 		return Long.compare(a.id, b.id);
 	};
 
+	// Änderungs-Bits für die gezielte Aktualisierung der Datenstrukturen in der Methode update(int)
+	private static final int _UPDATE_AUFSICHTSBEREICH        = 1 << 0;
+	private static final int _UPDATE_FACH                    = 1 << 1;
+	private static final int _UPDATE_JAHRGANG                = 1 << 2;
+	private static final int _UPDATE_KALENDERWOCHENZUORDNUNG = 1 << 3;
+	private static final int _UPDATE_KLASSE                  = 1 << 4;
+	private static final int _UPDATE_KLASSENUNTERRICHT       = 1 << 5;
+	private static final int _UPDATE_KURS                    = 1 << 6;
+	private static final int _UPDATE_LEHRER                  = 1 << 7;
+	private static final int _UPDATE_PAUSENAUFSICHT          = 1 << 8;
+	private static final int _UPDATE_PAUSENZEIT              = 1 << 9;
+	private static final int _UPDATE_RAUM                    = 1 << 10;
+	private static final int _UPDATE_SCHIENE                 = 1 << 11;
+	private static final int _UPDATE_SCHUELER                = 1 << 12;
+	private static final int _UPDATE_UNTERRICHT              = 1 << 13;
+	private static final int _UPDATE_ZEITRASTER              = 1 << 14;
+	private static final int _UPDATE_WOCHENTYPMODELL         = 1 << 15;
+	private static final int _UPDATE_ALLE                    = (1 << 16) - 1;
+	private static final int _UPDATE_UNTERRICHTMENGE         = _UPDATE_UNTERRICHT | _UPDATE_FACH | _UPDATE_JAHRGANG | _UPDATE_KLASSE | _UPDATE_LEHRER;  // inklusive _compUnterricht
+	private static final int _UPDATE_KLASSENUNTERRICHTMENGE  = _UPDATE_KLASSENUNTERRICHT | _UPDATE_FACH | _UPDATE_KLASSE | _UPDATE_LEHRER;            // inklusive _compKlassenunterricht
+
 	// StundenplanAufsichtsbereich
 	private final @NotNull HashMap<@NotNull Long, @NotNull StundenplanAufsichtsbereich> _aufsichtsbereich_by_id = new HashMap<>();
 	private final @NotNull HashMap<@NotNull String, @NotNull StundenplanAufsichtsbereich> _aufsichtsbereich_by_kuerzel = new HashMap<>();
@@ -446,98 +467,191 @@ public class StundenplanManager {
 	}
 
 	private void update_all() {
+		update(_UPDATE_ALLE);
+	}
+
+	/**
+	 * Aktualisiert alle Datenstrukturen, welche direkt oder indirekt (auch über die Comparatoren) von den
+	 * Objekten abhängen, deren Änderung in den Bits von aenderung vermerkt ist. Die Reihenfolge der Aufrufe
+	 * entspricht dabei der Ordnung der Abhängigkeiten, so dass das Ergebnis identisch zu {@link #update_all()} ist.
+	 *
+	 * @param aenderung  die Bits (_UPDATE_...) der geänderten Objekt-Typen, inklusive aller Kaskaden.
+	 */
+	private void update(final int aenderung) {
 
 		// 0. Ordnung (Sortierte Mengen als Listen)
-		update_kwzmenge_update_kwz_by_jahr_and_kw();                 // ---
-		update_aufsichtsbereichmenge();                              // ---
-		update_fachmenge();                                          // ---
-		update_jahrgangmenge();                                      // ---
-		update_klassenmenge();                                       // ---
-		update_klassenunterrichtmenge();                             // ---
-		update_kursmenge();                                          // ---
-		update_lehrermenge();                                        // ---
-		update_pausenaufsichtmenge();                                // ---
-		update_raummenge();                                          // ---
-		update_schienenmenge();                                      // ---
-		update_schuelermenge();                                      // ---
-		update_pausenzeitmenge();                                    // ---
-		update_unterrichtmenge();                                    // ---
-		update_zeitrastermenge();                                    // ---
-		update_pausenaufsichtmenge_by_idPausenzeit();                // _pausenaufsichtmenge
-		update_pausenzeitmengeOhnePausenaufsicht();                  // _pausenzeitmenge_sortiert,  _pausenaufsichtmenge_by_idPausenzeit
-		update_unterrichtmenge_by_idZeitraster();                    // _unterrichtmenge
-		update_zeitrastermengeOhneLeereUnterrichtmenge();            // _zeitrastermenge, _unterrichtmenge_by_idZeitraster
+		if ((aenderung & (_UPDATE_KALENDERWOCHENZUORDNUNG | _UPDATE_WOCHENTYPMODELL)) != 0)
+			update_kwzmenge_update_kwz_by_jahr_and_kw();                 // ---
+		if ((aenderung & _UPDATE_AUFSICHTSBEREICH) != 0)
+			update_aufsichtsbereichmenge();                              // ---
+		if ((aenderung & _UPDATE_FACH) != 0)
+			update_fachmenge();                                          // ---
+		if ((aenderung & _UPDATE_JAHRGANG) != 0)
+			update_jahrgangmenge();                                      // ---
+		if ((aenderung & _UPDATE_KLASSE) != 0)
+			update_klassenmenge();                                       // ---
+		if ((aenderung & _UPDATE_KLASSENUNTERRICHTMENGE) != 0)
+			update_klassenunterrichtmenge();                             // ---
+		if ((aenderung & _UPDATE_KURS) != 0)
+			update_kursmenge();                                          // ---
+		if ((aenderung & _UPDATE_LEHRER) != 0)
+			update_lehrermenge();                                        // ---
+		if ((aenderung & _UPDATE_PAUSENAUFSICHT) != 0)
+			update_pausenaufsichtmenge();                                // ---
+		if ((aenderung & _UPDATE_RAUM) != 0)
+			update_raummenge();                                          // ---
+		if ((aenderung & _UPDATE_SCHIENE) != 0)
+			update_schienenmenge();                                      // ---
+		if ((aenderung & _UPDATE_SCHUELER) != 0)
+			update_schuelermenge();                                      // ---
+		if ((aenderung & _UPDATE_PAUSENZEIT) != 0)
+			update_pausenzeitmenge();                                    // ---
+		if ((aenderung & _UPDATE_UNTERRICHTMENGE) != 0)
+			update_unterrichtmenge();                                    // ---
+		if ((aenderung & _UPDATE_ZEITRASTER) != 0)
+			update_zeitrastermenge();                                    // ---
+		if ((aenderung & _UPDATE_PAUSENAUFSICHT) != 0)
+			update_pausenaufsichtmenge_by_idPausenzeit();                // _pausenaufsichtmenge
+		if ((aenderung & (_UPDATE_PAUSENAUFSICHT | _UPDATE_PAUSENZEIT)) != 0)
+			update_pausenzeitmengeOhnePausenaufsicht();                  // _pausenzeitmenge_sortiert,  _pausenaufsichtmenge_by_idPausenzeit
+		if ((aenderung & _UPDATE_UNTERRICHTMENGE) != 0)
+			update_unterrichtmenge_by_idZeitraster();                    // _unterrichtmenge
+		if ((aenderung & (_UPDATE_UNTERRICHTMENGE | _UPDATE_ZEITRASTER)) != 0)
+			update_zeitrastermengeOhneLeereUnterrichtmenge();            // _zeitrastermenge, _unterrichtmenge_by_idZeitraster
 
 		// 1. Ordnung (nur Referenzen zu den sortierten Mengen)
 
-		update_pausenzeit_by_tag_and_beginn_and_ende();              // _pausenzeitmenge_sortiert
-		update_aufsichtsbereich_by_kuerzel();                        // _aufsichtsbereichmenge_sortiert
-		update_raum_by_kuerzel();                                    // _raummenge_sortiert
-		update_klassenmenge_by_idJahrgang();                         // _klassenmenge
-		update_jahrgangmenge_by_idKlasse();                          // _klassenmenge
-		update_klassenunterrichtmenge_by_idKlasse();                 // _klassenunterrichtmenge
-		update_klassenunterrichtmenge_by_idSchueler();               // _klassenunterrichtmenge
-		update_klassenunterrichtmenge_by_idLehrer();                 // _klassenunterrichtmenge
-		update_klassenunterrichtmenge_by_idSchiene();                // _klassenunterrichtmenge
-		update_kursmenge_by_idSchueler();                            // _kursmenge
-		update_kursmenge_by_idLehrer();                              // _kursmenge
-		update_kursmenge_by_idSchiene();                             // _kursmenge
-		update_schuelermenge_by_idKurs();                            // _kursmenge
-		update_kursmenge_by_idJahrgang();                            // _kursmenge
-		update_jahrgangmenge_by_idKurs();                            // _kursmenge
-		update_pausenaufsichtmenge_by_wochentag();                   // _pausenaufsichtmenge
-		update_pausenaufsichtmenge_by_idLehrer();                    // _pausenaufsichtmenge
-		update_pausenaufsichtmenge_by_idLehrer_and_idPausenzeit();   // _pausenaufsichtmenge
-		update_pausenaufsichtmenge_by_idAufsichtsbereich();          // _pausenaufsichtmenge
-		update_pausenzeitmenge_by_idLehrer();                        // _pausenaufsichtmenge
-		update_pausenzeitmenge_by_wochentag();                       // _pausenzeitmenge
-		update_klassenmenge_by_idPausenzeit();                       // _pausenzeitmenge, _klassenmenge
-		update_schienenmenge_by_idJahrgang();                        // _schienenmenge
-		update_schuelermenge_by_idKlasse();                          // _schuelermenge
-		update_klassenmenge_by_idSchueler();                         // _schuelermenge
-		update_lehrermenge_by_idUnterricht();                        // _unterrichtmenge
-		update_schienenmenge_by_idUnterricht();                      // _unterrichtmenge
-		update_unterrichtmenge_by_idSchiene();                       // _unterrichtmenge
-		update_unterrichtmenge_by_idKurs();                          // _unterrichtmenge
-		update_unterrichtmenge_by_idKlasse_and_idFach();             // _unterrichtmenge
-		update_unterrichtmenge_by_idZeitraster_and_wochentyp();      // _unterrichtmenge
-		update_unterrichtmenge_by_idLehrer();                        // _unterrichtmenge
-		update_unterrichtmenge_by_idLehrer_and_idZeitraster();       // _unterrichtmenge
-		update_unterrichtmenge_by_idRaum();                          // _unterrichtmenge
-		update_unterrichtmenge_by_idRaum_and_idZeitraster();         // _unterrichtmenge
-		update_zeitraster_by_wochentag_and_stunde();                 // _zeitrastermenge
-		update_zeitrastermenge_by_wochentag();                       // _zeitrastermenge
-		update_zeitrastermenge_by_stunde();                          // _zeitrastermenge
+		if ((aenderung & _UPDATE_PAUSENZEIT) != 0)
+			update_pausenzeit_by_tag_and_beginn_and_ende();              // _pausenzeitmenge_sortiert
+		if ((aenderung & _UPDATE_AUFSICHTSBEREICH) != 0)
+			update_aufsichtsbereich_by_kuerzel();                        // _aufsichtsbereichmenge_sortiert
+		if ((aenderung & _UPDATE_RAUM) != 0)
+			update_raum_by_kuerzel();                                    // _raummenge_sortiert
+		if ((aenderung & _UPDATE_KLASSE) != 0)
+			update_klassenmenge_by_idJahrgang();                         // _klassenmenge
+		if ((aenderung & (_UPDATE_JAHRGANG | _UPDATE_KLASSE)) != 0)
+			update_jahrgangmenge_by_idKlasse();                          // _klassenmenge
+		if ((aenderung & _UPDATE_KLASSENUNTERRICHTMENGE) != 0)
+			update_klassenunterrichtmenge_by_idKlasse();                 // _klassenunterrichtmenge
+		if ((aenderung & _UPDATE_KLASSENUNTERRICHTMENGE) != 0)
+			update_klassenunterrichtmenge_by_idSchueler();               // _klassenunterrichtmenge
+		if ((aenderung & _UPDATE_KLASSENUNTERRICHTMENGE) != 0)
+			update_klassenunterrichtmenge_by_idLehrer();                 // _klassenunterrichtmenge
+		if ((aenderung & _UPDATE_KLASSENUNTERRICHTMENGE) != 0)
+			update_klassenunterrichtmenge_by_idSchiene();                // _klassenunterrichtmenge
+		if ((aenderung & _UPDATE_KURS) != 0)
+			update_kursmenge_by_idSchueler();                            // _kursmenge
+		if ((aenderung & _UPDATE_KURS) != 0)
+			update_kursmenge_by_idLehrer();                              // _kursmenge
+		if ((aenderung & _UPDATE_KURS) != 0)
+			update_kursmenge_by_idSchiene();                             // _kursmenge
+		if ((aenderung & (_UPDATE_KURS | _UPDATE_SCHUELER)) != 0)
+			update_schuelermenge_by_idKurs();                            // _kursmenge
+		if ((aenderung & _UPDATE_KURS) != 0)
+			update_kursmenge_by_idJahrgang();                            // _kursmenge
+		if ((aenderung & (_UPDATE_JAHRGANG | _UPDATE_KURS)) != 0)
+			update_jahrgangmenge_by_idKurs();                            // _kursmenge
+		if ((aenderung & (_UPDATE_PAUSENAUFSICHT | _UPDATE_PAUSENZEIT)) != 0)
+			update_pausenaufsichtmenge_by_wochentag();                   // _pausenaufsichtmenge
+		if ((aenderung & _UPDATE_PAUSENAUFSICHT) != 0)
+			update_pausenaufsichtmenge_by_idLehrer();                    // _pausenaufsichtmenge
+		if ((aenderung & _UPDATE_PAUSENAUFSICHT) != 0)
+			update_pausenaufsichtmenge_by_idLehrer_and_idPausenzeit();   // _pausenaufsichtmenge
+		if ((aenderung & _UPDATE_PAUSENAUFSICHT) != 0)
+			update_pausenaufsichtmenge_by_idAufsichtsbereich();          // _pausenaufsichtmenge
+		if ((aenderung & (_UPDATE_PAUSENAUFSICHT | _UPDATE_PAUSENZEIT)) != 0)
+			update_pausenzeitmenge_by_idLehrer();                        // _pausenaufsichtmenge
+		if ((aenderung & _UPDATE_PAUSENZEIT) != 0)
+			update_pausenzeitmenge_by_wochentag();                       // _pausenzeitmenge
+		if ((aenderung & (_UPDATE_KLASSE | _UPDATE_PAUSENZEIT)) != 0)
+			update_klassenmenge_by_idPausenzeit();                       // _pausenzeitmenge, _klassenmenge
+		if ((aenderung & _UPDATE_SCHIENE) != 0)
+			update_schienenmenge_by_idJahrgang();                        // _schienenmenge
+		if ((aenderung & _UPDATE_SCHUELER) != 0)
+			update_schuelermenge_by_idKlasse();                          // _schuelermenge
+		if ((aenderung & (_UPDATE_KLASSE | _UPDATE_SCHUELER)) != 0)
+			update_klassenmenge_by_idSchueler();                         // _schuelermenge
+		if ((aenderung & _UPDATE_UNTERRICHTMENGE) != 0)
+			update_lehrermenge_by_idUnterricht();                        // _unterrichtmenge
+		if ((aenderung & (_UPDATE_UNTERRICHTMENGE | _UPDATE_SCHIENE)) != 0)
+			update_schienenmenge_by_idUnterricht();                      // _unterrichtmenge
+		if ((aenderung & _UPDATE_UNTERRICHTMENGE) != 0)
+			update_unterrichtmenge_by_idSchiene();                       // _unterrichtmenge
+		if ((aenderung & _UPDATE_UNTERRICHTMENGE) != 0)
+			update_unterrichtmenge_by_idKurs();                          // _unterrichtmenge
+		if ((aenderung & _UPDATE_UNTERRICHTMENGE) != 0)
+			update_unterrichtmenge_by_idKlasse_and_idFach();             // _unterrichtmenge
+		if ((aenderung & _UPDATE_UNTERRICHTMENGE) != 0)
+			update_unterrichtmenge_by_idZeitraster_and_wochentyp();      // _unterrichtmenge
+		if ((aenderung & _UPDATE_UNTERRICHTMENGE) != 0)
+			update_unterrichtmenge_by_idLehrer();                        // _unterrichtmenge
+		if ((aenderung & _UPDATE_UNTERRICHTMENGE) != 0)
+			update_unterrichtmenge_by_idLehrer_and_idZeitraster();       // _unterrichtmenge
+		if ((aenderung & _UPDATE_UNTERRICHTMENGE) != 0)
+			update_unterrichtmenge_by_idRaum();                          // _unterrichtmenge
+		if ((aenderung & _UPDATE_UNTERRICHTMENGE) != 0)
+			update_unterrichtmenge_by_idRaum_and_idZeitraster();         // _unterrichtmenge
+		if ((aenderung & _UPDATE_ZEITRASTER) != 0)
+			update_zeitraster_by_wochentag_and_stunde();                 // _zeitrastermenge
+		if ((aenderung & _UPDATE_ZEITRASTER) != 0)
+			update_zeitrastermenge_by_wochentag();                       // _zeitrastermenge
+		if ((aenderung & _UPDATE_ZEITRASTER) != 0)
+			update_zeitrastermenge_by_stunde();                          // _zeitrastermenge
 
 		// 2. Ordnung
 
-		update_kursmenge_by_idKlasse();                              // _kursmenge, _schuelermenge_by_idKurs
-		update_klassenmenge_by_idKurs();                             // _kursmenge, _schuelermenge_by_idKurs
-		update_pausenzeitmenge_by_idLehrer_and_wochentag();          // _pausenzeitmenge_by_idLehrer
-		update_pausenzeitmenge_by_idKlasse();                        // _pausenzeitmenge, _klassenmenge_by_idPausenzeit
-		update_pausenzeitmenge_by_idJahrgang();                      // _pausenzeitmenge, _klassenmenge_by_idPausenzeit
-		update_pausenzeitmenge_by_idSchueler();                      // _pausenzeitmenge, _klassenmenge_by_idPausenzeit, _schuelermenge_by_idKlasse
-		update_pausenaufsichtmenge_by_idKlasse_and_idPausenzeit();   // _pausenaufsichtmenge, _klassenmenge_by_idPausenzeit
-		update_pausenaufsichtmenge_by_idJahrgang_and_idPausenzeit(); // _pausenaufsichtmenge, _klassenmenge_by_idPausenzeit, _jahrgangmenge_by_idKlasse
-		update_pausenaufsichtmenge_by_idSchueler_and_idPausenzeit(); // _pausenaufsichtmenge, _klassenmenge_by_idPausenzeit, _schuelermenge_by_idKlasse
-		update_unterrichtmenge_by_idJahrgang();                      // _unterrichtmenge, _jahrgangmenge_by_idKlasse, _jahrgangmenge_by_idKurs
-		update_unterrichtmenge_by_idSchueler();                      // _unterrichtmenge, _schuelermenge_by_idKlasse, _schuelermenge_by_idKurs
-		update_klassenunterrichtmenge_by_idKlasse_and_idSchiene();   // _klassenunterrichtmenge_by_idKlasse
-		update_wertWochenminuten_by_idKurs();                        // _kursmenge, _unterrichtmenge_by_idKurs
-		update_wertWochenminuten_by_idKlasse_und_idFach();           // _klassenmenge, _fachmenge, _unterrichtmenge_by_idKlasse_and_idFach
-		update_unterrichtmenge_by_idUnterricht();                    // _unterrichtmenge_by_idKurs, _unterrichtmenge_by_idKlasse_and_idFach
+		if ((aenderung & (_UPDATE_KURS | _UPDATE_SCHUELER)) != 0)
+			update_kursmenge_by_idKlasse();                              // _kursmenge, _schuelermenge_by_idKurs
+		if ((aenderung & (_UPDATE_KLASSE | _UPDATE_KURS | _UPDATE_SCHUELER)) != 0)
+			update_klassenmenge_by_idKurs();                             // _kursmenge, _schuelermenge_by_idKurs
+		if ((aenderung & (_UPDATE_PAUSENAUFSICHT | _UPDATE_PAUSENZEIT)) != 0)
+			update_pausenzeitmenge_by_idLehrer_and_wochentag();          // _pausenzeitmenge_by_idLehrer
+		if ((aenderung & (_UPDATE_KLASSE | _UPDATE_PAUSENZEIT)) != 0)
+			update_pausenzeitmenge_by_idKlasse();                        // _pausenzeitmenge, _klassenmenge_by_idPausenzeit
+		if ((aenderung & (_UPDATE_KLASSE | _UPDATE_PAUSENZEIT)) != 0)
+			update_pausenzeitmenge_by_idJahrgang();                      // _pausenzeitmenge, _klassenmenge_by_idPausenzeit
+		if ((aenderung & (_UPDATE_KLASSE | _UPDATE_PAUSENZEIT | _UPDATE_SCHUELER)) != 0)
+			update_pausenzeitmenge_by_idSchueler();                      // _pausenzeitmenge, _klassenmenge_by_idPausenzeit, _schuelermenge_by_idKlasse
+		if ((aenderung & (_UPDATE_KLASSE | _UPDATE_PAUSENAUFSICHT | _UPDATE_PAUSENZEIT)) != 0)
+			update_pausenaufsichtmenge_by_idKlasse_and_idPausenzeit();   // _pausenaufsichtmenge, _klassenmenge_by_idPausenzeit
+		if ((aenderung & (_UPDATE_JAHRGANG | _UPDATE_KLASSE | _UPDATE_PAUSENAUFSICHT | _UPDATE_PAUSENZEIT)) != 0)
+			update_pausenaufsichtmenge_by_idJahrgang_and_idPausenzeit(); // _pausenaufsichtmenge, _klassenmenge_by_idPausenzeit, _jahrgangmenge_by_idKlasse
+		if ((aenderung & (_UPDATE_KLASSE | _UPDATE_PAUSENAUFSICHT | _UPDATE_PAUSENZEIT | _UPDATE_SCHUELER)) != 0)
+			update_pausenaufsichtmenge_by_idSchueler_and_idPausenzeit(); // _pausenaufsichtmenge, _klassenmenge_by_idPausenzeit, _schuelermenge_by_idKlasse
+		if ((aenderung & (_UPDATE_UNTERRICHTMENGE | _UPDATE_KURS)) != 0)
+			update_unterrichtmenge_by_idJahrgang();                      // _unterrichtmenge, _jahrgangmenge_by_idKlasse, _jahrgangmenge_by_idKurs
+		if ((aenderung & (_UPDATE_UNTERRICHTMENGE | _UPDATE_KURS | _UPDATE_SCHUELER)) != 0)
+			update_unterrichtmenge_by_idSchueler();                      // _unterrichtmenge, _schuelermenge_by_idKlasse, _schuelermenge_by_idKurs
+		if ((aenderung & _UPDATE_KLASSENUNTERRICHTMENGE) != 0)
+			update_klassenunterrichtmenge_by_idKlasse_and_idSchiene();   // _klassenunterrichtmenge_by_idKlasse
+		if ((aenderung & (_UPDATE_UNTERRICHTMENGE | _UPDATE_KURS | _UPDATE_ZEITRASTER | _UPDATE_WOCHENTYPMODELL)) != 0)
+			update_wertWochenminuten_by_idKurs();                        // _kursmenge, _unterrichtmenge_by_idKurs
+		if ((aenderung & (_UPDATE_UNTERRICHTMENGE | _UPDATE_ZEITRASTER | _UPDATE_WOCHENTYPMODELL)) != 0)
+			update_wertWochenminuten_by_idKlasse_und_idFach();           // _klassenmenge, _fachmenge, _unterrichtmenge_by_idKlasse_and_idFach
+		if ((aenderung & _UPDATE_UNTERRICHTMENGE) != 0)
+			update_unterrichtmenge_by_idUnterricht();                    // _unterrichtmenge_by_idKurs, _unterrichtmenge_by_idKlasse_and_idFach
 
 		// 3. Ordnung
-		update_pausenzeitmenge_by_idKlasse_and_wochentag();          // _pausenzeitmenge_by_idKlasse
-		update_pausenzeitmenge_by_idJahrgang_and_wochentag();        // _pausenzeitmenge_by_idJahrgang
-		update_pausenzeitmenge_by_idSchueler_and_wochentag();        // _pausenzeitmenge_by_idSchueler
-		update_unterrichtmenge_by_idKlasse();                        // _unterrichtmenge, _klassenmenge_by_idKurs
-		update_unterrichtmenge_by_idKlasse_and_idZeitraster();       // _unterrichtmenge, _klassenmenge_by_idKurs
-		update_klassenmenge_by_idUnterricht();                       // _unterrichtmenge, _klassenmenge_by_idKurs
-		update_unterrichtmenge_by_idJahrgang_and_idZeitraster();     // _unterrichtmenge_by_idJahrgang
-		update_unterrichtmenge_by_idSchueler_and_idZeitraster();     // _unterrichtmenge_by_idSchueler
-		update_schienenmenge_by_idKlasse();                          // _klassenmenge, _kursmenge_by_idKlasse, _klassenunterrichtmenge_by_idKlasse
-		update_kursmenge_by_idKlasse_and_idSchiene();                // _kursmenge_by_idKlasse
+		if ((aenderung & (_UPDATE_KLASSE | _UPDATE_PAUSENZEIT)) != 0)
+			update_pausenzeitmenge_by_idKlasse_and_wochentag();          // _pausenzeitmenge_by_idKlasse
+		if ((aenderung & (_UPDATE_KLASSE | _UPDATE_PAUSENZEIT)) != 0)
+			update_pausenzeitmenge_by_idJahrgang_and_wochentag();        // _pausenzeitmenge_by_idJahrgang
+		if ((aenderung & (_UPDATE_KLASSE | _UPDATE_PAUSENZEIT | _UPDATE_SCHUELER)) != 0)
+			update_pausenzeitmenge_by_idSchueler_and_wochentag();        // _pausenzeitmenge_by_idSchueler
+		if ((aenderung & (_UPDATE_UNTERRICHTMENGE | _UPDATE_KURS | _UPDATE_SCHUELER)) != 0)
+			update_unterrichtmenge_by_idKlasse();                        // _unterrichtmenge, _klassenmenge_by_idKurs
+		if ((aenderung & (_UPDATE_UNTERRICHTMENGE | _UPDATE_KURS | _UPDATE_SCHUELER)) != 0)
+			update_unterrichtmenge_by_idKlasse_and_idZeitraster();       // _unterrichtmenge, _klassenmenge_by_idKurs
+		if ((aenderung & (_UPDATE_UNTERRICHTMENGE | _UPDATE_KURS | _UPDATE_SCHUELER)) != 0)
+			update_klassenmenge_by_idUnterricht();                       // _unterrichtmenge, _klassenmenge_by_idKurs
+		if ((aenderung & (_UPDATE_UNTERRICHTMENGE | _UPDATE_KURS)) != 0)
+			update_unterrichtmenge_by_idJahrgang_and_idZeitraster();     // _unterrichtmenge_by_idJahrgang
+		if ((aenderung & (_UPDATE_UNTERRICHTMENGE | _UPDATE_KURS | _UPDATE_SCHUELER)) != 0)
+			update_unterrichtmenge_by_idSchueler_and_idZeitraster();     // _unterrichtmenge_by_idSchueler
+		if ((aenderung & (_UPDATE_KLASSENUNTERRICHTMENGE | _UPDATE_KURS | _UPDATE_SCHIENE | _UPDATE_SCHUELER)) != 0)
+			update_schienenmenge_by_idKlasse();                          // _klassenmenge, _kursmenge_by_idKlasse, _klassenunterrichtmenge_by_idKlasse
+		if ((aenderung & (_UPDATE_KURS | _UPDATE_SCHUELER)) != 0)
+			update_kursmenge_by_idKlasse_and_idSchiene();                // _kursmenge_by_idKlasse
 	}
 
 	private void update_pausenzeit_by_tag_and_beginn_and_ende() {
@@ -1009,6 +1123,7 @@ public class StundenplanManager {
 		_klassenmenge_sortiert.clear();
 		_klassenmenge_sortiert.addAll(_klasse_by_id.values());
 		_klassenmenge_sortiert.sort(_compKlasse);
+		_klassenmenge_sichtbar_sortiert.clear();
 		for (final StundenplanKlasse kl : _klassenmenge_sortiert)
 			if (kl.istSichtbar)
 				_klassenmenge_sichtbar_sortiert.add(kl);
@@ -1396,7 +1511,7 @@ public class StundenplanManager {
 	 */
 	public void aufsichtsbereichAddAll(final @NotNull List<@NotNull StundenplanAufsichtsbereich> listAufsichtsbereich) {
 		aufsichtsbereichAddAllOhneUpdate(listAufsichtsbereich);
-		update_all();
+		update(_UPDATE_AUFSICHTSBEREICH);
 	}
 
 	private void aufsichtsbereichAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanAufsichtsbereich> list) {
@@ -1472,7 +1587,7 @@ public class StundenplanManager {
 		DeveloperNotificationException.ifMapPutOverwrites(_aufsichtsbereich_by_id, aufsichtsbereich.id, aufsichtsbereich);
 
 		// update
-		update_all();
+		update(_UPDATE_AUFSICHTSBEREICH);
 	}
 
 	private void aufsichtsbereichRemoveOhneUpdateById(final long idAufsichtsbereich) {
@@ -1493,7 +1608,7 @@ public class StundenplanManager {
 	public void aufsichtsbereichRemoveById(final long idAufsichtsbereich) {
 		aufsichtsbereichRemoveOhneUpdateById(idAufsichtsbereich);
 
-		update_all();
+		update(_UPDATE_AUFSICHTSBEREICH | _UPDATE_PAUSENAUFSICHT);
 	}
 
 	/**
@@ -1515,7 +1630,7 @@ public class StundenplanManager {
 		for (final @NotNull StundenplanAufsichtsbereich aufsichtsbereich : listAufsichtsbereich)
 			aufsichtsbereichRemoveOhneUpdateById(aufsichtsbereich.id);
 
-		update_all();
+		update(_UPDATE_AUFSICHTSBEREICH | _UPDATE_PAUSENAUFSICHT);
 	}
 
 	// #####################################################################
@@ -1568,7 +1683,7 @@ public class StundenplanManager {
 	 */
 	public void fachAddAll(final @NotNull List<@NotNull StundenplanFach> listFach) {
 		fachAddAllOhneUpdate(listFach);
-		update_all();
+		update(_UPDATE_FACH);
 	}
 
 	private void fachAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanFach> list) {
@@ -1632,7 +1747,7 @@ public class StundenplanManager {
 	 */
 	public void jahrgangAddAll(final @NotNull List<@NotNull StundenplanJahrgang> listJahrgang) {
 		jahrgangAddAllOhneUpdate(listJahrgang);
-		update_all();
+		update(_UPDATE_JAHRGANG);
 	}
 
 	private void jahrgangAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanJahrgang> list) {
@@ -1711,7 +1826,7 @@ public class StundenplanManager {
 		DeveloperNotificationException.ifMapPutOverwrites(_jahrgang_by_id, jahrgang.id, jahrgang);
 
 		// update
-		update_all();
+		update(_UPDATE_JAHRGANG);
 	}
 
 	private void jahrgangRemoveOhneUpdateById(final long idJahrgang) {
@@ -1739,7 +1854,7 @@ public class StundenplanManager {
 	public void jahrgangRemoveById(final long idJahrgang) {
 		jahrgangRemoveOhneUpdateById(idJahrgang);
 
-		update_all();
+		update(_UPDATE_JAHRGANG | _UPDATE_KLASSE | _UPDATE_KLASSENUNTERRICHT | _UPDATE_KURS | _UPDATE_SCHIENE | _UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -1751,7 +1866,7 @@ public class StundenplanManager {
 		for (final @NotNull StundenplanJahrgang jahrgang : listJahrgang)
 			jahrgangRemoveOhneUpdateById(jahrgang.id);
 
-		update_all();
+		update(_UPDATE_JAHRGANG | _UPDATE_KLASSE | _UPDATE_KLASSENUNTERRICHT | _UPDATE_KURS | _UPDATE_SCHIENE | _UPDATE_UNTERRICHT);
 	}
 
 	// #####################################################################
@@ -1774,7 +1889,7 @@ public class StundenplanManager {
 	 */
 	public void kalenderwochenzuordnungAddAll(final @NotNull List<@NotNull StundenplanKalenderwochenzuordnung> listKWZ) {
 		kalenderwochenzuordnungAddAllOhneUpdate(listKWZ);
-		update_all();
+		update(_UPDATE_KALENDERWOCHENZUORDNUNG);
 	}
 
 	private void kalenderwochenzuordnungAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanKalenderwochenzuordnung> list) {
@@ -2006,7 +2121,7 @@ public class StundenplanManager {
 		DeveloperNotificationException.ifMapPutOverwrites(_kwz_by_id, kwz.id, kwz);
 
 		// update
-		update_all();
+		update(_UPDATE_KALENDERWOCHENZUORDNUNG);
 	}
 
 	private void kalenderwochenzuordnungRemoveOhneUpdateById(final long idKWZ) {
@@ -2021,7 +2136,7 @@ public class StundenplanManager {
 	public void kalenderwochenzuordnungRemoveById(final long idKWZ) {
 		kalenderwochenzuordnungRemoveOhneUpdateById(idKWZ);
 
-		update_all();
+		update(_UPDATE_KALENDERWOCHENZUORDNUNG);
 	}
 
 	/**
@@ -2033,7 +2148,7 @@ public class StundenplanManager {
 		for (final @NotNull StundenplanKalenderwochenzuordnung kwz : listKWZ)
 			kalenderwochenzuordnungRemoveOhneUpdateById(kwz.id);
 
-		update_all();
+		update(_UPDATE_KALENDERWOCHENZUORDNUNG);
 	}
 
 	// #####################################################################
@@ -2057,7 +2172,7 @@ public class StundenplanManager {
 	 */
 	public void klasseAddAll(final @NotNull List<@NotNull StundenplanKlasse> listKlasse) {
 		klasseAddAllOhneUpdate(listKlasse);
-		update_all();
+		update(_UPDATE_KLASSE);
 	}
 
 	private void klasseAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanKlasse> list) {
@@ -2153,7 +2268,7 @@ public class StundenplanManager {
 		DeveloperNotificationException.ifMapPutOverwrites(_klasse_by_id, klasse.id, klasse);
 
 		// update
-		update_all();
+		update(_UPDATE_KLASSE);
 	}
 
 	private void klasseRemoveOhneUpdateById(final long idKlasse) {
@@ -2177,7 +2292,7 @@ public class StundenplanManager {
 	public void klasseRemoveById(final long idKlasse) {
 		klasseRemoveOhneUpdateById(idKlasse);
 
-		update_all();
+		update(_UPDATE_KLASSE | _UPDATE_KLASSENUNTERRICHT | _UPDATE_PAUSENZEIT | _UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -2189,7 +2304,7 @@ public class StundenplanManager {
 		for (final @NotNull StundenplanKlasse klasse : listKlasse)
 			klasseRemoveOhneUpdateById(klasse.id);
 
-		update_all();
+		update(_UPDATE_KLASSE | _UPDATE_KLASSENUNTERRICHT | _UPDATE_PAUSENZEIT | _UPDATE_UNTERRICHT);
 	}
 
 	// #####################################################################
@@ -2212,7 +2327,7 @@ public class StundenplanManager {
 	 */
 	public void klassenunterrichtAddAll(final @NotNull List<@NotNull StundenplanKlassenunterricht> listKlassenunterricht) {
 		klassenunterrichtAddAllOhneUpdate(listKlassenunterricht);
-		update_all();
+		update(_UPDATE_KLASSENUNTERRICHT);
 	}
 
 	private void klassenunterrichtAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanKlassenunterricht> list) {
@@ -2445,7 +2560,7 @@ public class StundenplanManager {
 	public void klassenunterrichtRemoveById(final long idKlasse, final long idFach) {
 		klassenunterrichtRemoveOhneUpdateById(idKlasse, idFach);
 
-		update_all();
+		update(_UPDATE_KLASSENUNTERRICHT | _UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -2457,7 +2572,7 @@ public class StundenplanManager {
 		for (final @NotNull StundenplanKlassenunterricht klassenunterricht : listKlassenunterricht)
 			klassenunterrichtRemoveOhneUpdateById(klassenunterricht.idKlasse, klassenunterricht.idFach);
 
-		update_all();
+		update(_UPDATE_KLASSENUNTERRICHT | _UPDATE_UNTERRICHT);
 	}
 
 	private static double gerundetAufZweiNachkommastellen(final double d) { // TODO sinnvolle Benennung
@@ -2486,7 +2601,7 @@ public class StundenplanManager {
 	 */
 	public void kursAddAll(final @NotNull List<@NotNull StundenplanKurs> listKurs) {
 		kursAddAllOhneUpdate(listKurs);
-		update_all();
+		update(_UPDATE_KURS);
 	}
 
 	private void kursAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanKurs> list) {
@@ -2768,7 +2883,7 @@ public class StundenplanManager {
 		DeveloperNotificationException.ifMapRemoveFailes(_kurs_by_id, kurs.id);
 		DeveloperNotificationException.ifMapPutOverwrites(_kurs_by_id, kurs.id, kurs);
 
-		update_all();
+		update(_UPDATE_KURS);
 	}
 
 	private void kursRemoveAllOhneUpdate(final @NotNull Set<@NotNull Long> idKurse) {
@@ -2793,7 +2908,7 @@ public class StundenplanManager {
 	 */
 	public void kursRemoveById(final long idKurs) {
 		kursRemoveAllOhneUpdate(SetUtils.create1(idKurs));
-		update_all();
+		update(_UPDATE_KURS | _UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -2809,7 +2924,7 @@ public class StundenplanManager {
 
 		// Entfernen und Update
 		kursRemoveAllOhneUpdate(idKurse);
-		update_all();
+		update(_UPDATE_KURS | _UPDATE_UNTERRICHT);
 	}
 
 	// #####################################################################
@@ -2832,7 +2947,7 @@ public class StundenplanManager {
 	 */
 	public void lehrerAddAll(final @NotNull List<@NotNull StundenplanLehrer> listLehrer) {
 		lehrerAddAllOhneUpdate(listLehrer);
-		update_all();
+		update(_UPDATE_LEHRER);
 	}
 
 	private void lehrerAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanLehrer> list) {
@@ -2916,7 +3031,7 @@ public class StundenplanManager {
 		DeveloperNotificationException.ifMapPutOverwrites(_lehrer_by_id, lehrer.id, lehrer);
 
 		// update
-		update_all();
+		update(_UPDATE_LEHRER);
 	}
 
 	private void lehrerRemoveOhneUpdateById(final long idLehrer) {
@@ -2948,7 +3063,7 @@ public class StundenplanManager {
 	public void lehrerRemoveById(final long idLehrer) {
 		lehrerRemoveOhneUpdateById(idLehrer);
 
-		update_all();
+		update(_UPDATE_KLASSENUNTERRICHT | _UPDATE_KURS | _UPDATE_LEHRER | _UPDATE_PAUSENAUFSICHT | _UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -2970,7 +3085,7 @@ public class StundenplanManager {
 		for (final @NotNull StundenplanLehrer lehrer : listLehrer)
 			lehrerRemoveOhneUpdateById(lehrer.id);
 
-		update_all();
+		update(_UPDATE_KLASSENUNTERRICHT | _UPDATE_KURS | _UPDATE_LEHRER | _UPDATE_PAUSENAUFSICHT | _UPDATE_UNTERRICHT);
 	}
 
 	// #####################################################################
@@ -2993,7 +3108,7 @@ public class StundenplanManager {
 	 */
 	public void pausenaufsichtAddAll(final @NotNull List<@NotNull StundenplanPausenaufsicht> listPausenaufsicht) {
 		pausenaufsichtAddAllOhneUpdate(listPausenaufsicht);
-		update_all();
+		update(_UPDATE_PAUSENAUFSICHT);
 	}
 
 	private void pausenaufsichtAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanPausenaufsicht> list) {
@@ -3171,7 +3286,7 @@ public class StundenplanManager {
 		DeveloperNotificationException.ifMapPutOverwrites(_pausenaufsicht_by_id, pausenaufsicht.id, pausenaufsicht);
 
 		// update
-		update_all();
+		update(_UPDATE_PAUSENAUFSICHT);
 	}
 
 	private void pausenaufsichtRemoveOhneUpdateById(final long idPausenaufsicht) {
@@ -3187,7 +3302,7 @@ public class StundenplanManager {
 	public void pausenaufsichtRemoveById(final long idPausenaufsicht) {
 		pausenaufsichtRemoveOhneUpdateById(idPausenaufsicht);
 
-		update_all();
+		update(_UPDATE_PAUSENAUFSICHT);
 	}
 
 	// #####################################################################
@@ -3201,7 +3316,6 @@ public class StundenplanManager {
 	 */
 	public void pausenzeitAdd(final @NotNull StundenplanPausenzeit pausenzeit) {
 		pausenzeitAddAll(ListUtils.create1(pausenzeit));
-		update_all();
 	}
 
 	/**
@@ -3211,7 +3325,7 @@ public class StundenplanManager {
 	 */
 	public void pausenzeitAddAll(final @NotNull List<@NotNull StundenplanPausenzeit> listPausenzeit) {
 		pausenzeitAddAllOhneUpdate(listPausenzeit);
-		update_all();
+		update(_UPDATE_PAUSENZEIT);
 	}
 
 	private void pausenzeitAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanPausenzeit> list) {
@@ -3561,7 +3675,7 @@ public class StundenplanManager {
 		DeveloperNotificationException.ifMapPutOverwrites(_pausenzeit_by_id, pausenzeit.id, pausenzeit);
 
 		// update
-		update_all();
+		update(_UPDATE_PAUSENZEIT);
 	}
 
 	private void pausenzeitRemoveOhneUpdateById(final long idPausenzeit) {
@@ -3581,7 +3695,7 @@ public class StundenplanManager {
 	public void pausenzeitRemoveById(final long idPausenzeit) {
 		pausenzeitRemoveOhneUpdateById(idPausenzeit);
 
-		update_all();
+		update(_UPDATE_PAUSENAUFSICHT | _UPDATE_PAUSENZEIT);
 	}
 
 	/**
@@ -3593,7 +3707,7 @@ public class StundenplanManager {
 		for (final @NotNull StundenplanPausenzeit pausenzeit : listPausenzeit)
 			pausenzeitRemoveOhneUpdateById(pausenzeit.id);
 
-		update_all();
+		update(_UPDATE_PAUSENAUFSICHT | _UPDATE_PAUSENZEIT);
 	}
 
 	// #####################################################################
@@ -3616,7 +3730,7 @@ public class StundenplanManager {
 	 */
 	public void raumAddAll(final @NotNull List<@NotNull StundenplanRaum> listRaum) {
 		raumAddAllOhneUpdate(listRaum);
-		update_all();
+		update(_UPDATE_RAUM);
 	}
 
 	private void raumAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanRaum> list) {
@@ -3695,7 +3809,7 @@ public class StundenplanManager {
 		DeveloperNotificationException.ifMapPutOverwrites(_raum_by_id, raum.id, raum);
 
 		// update
-		update_all();
+		update(_UPDATE_RAUM);
 	}
 
 	private void raumRemoveOhneUpdateById(final long idRaum) {
@@ -3715,7 +3829,7 @@ public class StundenplanManager {
 	public void raumRemoveById(final long idRaum) {
 		raumRemoveOhneUpdateById(idRaum);
 
-		update_all();
+		update(_UPDATE_RAUM | _UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -3736,7 +3850,7 @@ public class StundenplanManager {
 		for (final @NotNull StundenplanRaum raum : listRaum)
 			raumRemoveOhneUpdateById(raum.id);
 
-		update_all();
+		update(_UPDATE_RAUM | _UPDATE_UNTERRICHT);
 	}
 
 	// #####################################################################
@@ -3759,7 +3873,7 @@ public class StundenplanManager {
 	 */
 	public void schieneAddAll(final @NotNull List<@NotNull StundenplanSchiene> listSchiene) {
 		schieneAddAllOhneUpdate(listSchiene);
-		update_all();
+		update(_UPDATE_SCHIENE);
 	}
 
 	private void schieneAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanSchiene> list) {
@@ -3924,7 +4038,7 @@ public class StundenplanManager {
 	 */
 	public void schuelerAddAll(final @NotNull List<@NotNull StundenplanSchueler> listSchueler) {
 		schuelerAddAllOhneUpdate(listSchueler);
-		update_all();
+		update(_UPDATE_SCHUELER);
 	}
 
 	private void schuelerAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanSchueler> list) {
@@ -4056,7 +4170,7 @@ public class StundenplanManager {
 			ku.schueler.remove(idSchueler);
 
 		// Remove
-		DeveloperNotificationException.ifMapRemoveFailes(_schiene_by_id, idSchueler);
+		DeveloperNotificationException.ifMapRemoveFailes(_schueler_by_id, idSchueler);
 	}
 
 	/**
@@ -4068,7 +4182,7 @@ public class StundenplanManager {
 	public void schuelerRemoveById(final long idSchueler) {
 		schuelerRemoveOhneUpdateById(idSchueler);
 
-		update_all();
+		update(_UPDATE_KLASSE | _UPDATE_KLASSENUNTERRICHT | _UPDATE_KURS | _UPDATE_SCHUELER);
 	}
 
 	// #####################################################################
@@ -4167,7 +4281,7 @@ public class StundenplanManager {
 		_stundenplanWochenTypModell = modellTyp;
 
 		// update
-		update_all();
+		update(_UPDATE_KALENDERWOCHENZUORDNUNG | _UPDATE_UNTERRICHT | _UPDATE_WOCHENTYPMODELL);
 	}
 
 	/**
@@ -4241,7 +4355,7 @@ public class StundenplanManager {
 	 */
 	public void unterrichtAddAll(final @NotNull List<@NotNull StundenplanUnterricht> listUnterricht) {
 		unterrichtAddAllOhneUpdate(listUnterricht);
-		update_all();
+		update(_UPDATE_UNTERRICHT);
 	}
 
 	private void unterrichtAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanUnterricht> list) {
@@ -4975,7 +5089,7 @@ public class StundenplanManager {
 		}
 
 		// update
-		update_all();
+		update(_UPDATE_UNTERRICHT);
 	}
 
 	private void unterrichtRemoveByIdOhneUpdate(final long idUnterricht) {
@@ -4990,7 +5104,7 @@ public class StundenplanManager {
 	public void unterrichtRemoveById(final long idUnterricht) {
 		unterrichtRemoveByIdOhneUpdate(idUnterricht);
 
-		update_all();
+		update(_UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -5002,7 +5116,7 @@ public class StundenplanManager {
 		for (final @NotNull StundenplanUnterricht unterricht : listUnterricht)
 			unterrichtRemoveByIdOhneUpdate(unterricht.id);
 
-		update_all();
+		update(_UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -5093,7 +5207,7 @@ public class StundenplanManager {
 	 */
 	public void zeitrasterAddAll(final @NotNull List<@NotNull StundenplanZeitraster> listZeitraster) {
 		zeitrasterAddAllOhneUpdate(listZeitraster);
-		update_all();
+		update(_UPDATE_ZEITRASTER);
 	}
 
 	private void zeitrasterAddAllOhneUpdate(final @NotNull List<@NotNull StundenplanZeitraster> list) {
@@ -5830,7 +5944,7 @@ public class StundenplanManager {
 		}
 
 		// update
-		update_all();
+		update(_UPDATE_ZEITRASTER);
 	}
 
 	private void zeitrasterRemoveOhneUpdate(final long idZeitraster) {
@@ -5851,7 +5965,7 @@ public class StundenplanManager {
 	public void zeitrasterRemoveById(final long idZeitraster) {
 		zeitrasterRemoveOhneUpdate(idZeitraster);
 
-		update_all();
+		update(_UPDATE_UNTERRICHT | _UPDATE_ZEITRASTER);
 	}
 
 	/**
@@ -5864,7 +5978,7 @@ public class StundenplanManager {
 		for (final @NotNull StundenplanZeitraster zeitraster : listZeitraster)
 			zeitrasterRemoveOhneUpdate(zeitraster.id);
 
-		update_all();
+		update(_UPDATE_UNTERRICHT | _UPDATE_ZEITRASTER);
 	}
 
 	/**
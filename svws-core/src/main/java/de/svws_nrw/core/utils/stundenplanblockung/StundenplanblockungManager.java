@@ -22,6 +22,9 @@ public class StundenplanblockungManager {
 	private final @NotNull StundenplanblockungManagerRaumMenge _manager_ra;
 	private final @NotNull StundenplanblockungManagerStatistik _manager_st;
 
+	/** Die maximale Zeit in Millisekunden, welche der Algorithmus für die Berechnung verwenden darf. */
+	private long _maxTimeMillis = 1000;
+
 	/**
 	 * Erzeugt einen neuen, leeren Manager.
 	 */
@@ -99,6 +102,33 @@ public class StundenplanblockungManager {
 		return _manager_ko;
 	}
 
+	/**
+	 * Liefert den Manager zur Verwaltung der Bewertung der Stundenplan-Lage.
+	 *
+	 * @return Den Manager zur Verwaltung der Bewertung der Stundenplan-Lage.
+	 */
+	public @NotNull StundenplanblockungManagerStatistik getStatistik() {
+		return _manager_st;
+	}
+
+	/**
+	 * Liefert die maximale Zeit in Millisekunden, welche der Algorithmus für die Berechnung verwenden darf.
+	 *
+	 * @return Die maximale Zeit in Millisekunden.
+	 */
+	public long getMaxTimeMillis() {
+		return _maxTimeMillis;
+	}
+
+	/**
+	 * Setzt die maximale Zeit in Millisekunden, welche der Algorithmus für die Berechnung verwenden darf.
+	 *
+	 * @param pZeit  Die maximale Zeit in Millisekunden.
+	 */
+	public void setMaxTimeMillis(final long pZeit) {
+		_maxTimeMillis = pZeit;
+	}
+
 	/**
 	 * Überprüft alle Daten auf ihre Konsistenz. <br>
 	 * Wirft eine Exception, falls die Daten nicht konsistent sind.
@@ -16,7 +16,7 @@ public class StundenplanblockungManagerKopplung {
 	private @NotNull String _kuerzel = "";
 
 	/** Alle Lerngruppen der Kopplungen. */
-	private final @NotNull ArrayList<StundenplanblockungManagerLerngruppe> _lerngruppen = new ArrayList<>();
+	final @NotNull ArrayList<StundenplanblockungManagerLerngruppe> _lerngruppen = new ArrayList<>();
 
 	/**
 	 * Erzeugt eine neue Kopplung.
@@ -1,6 +1,8 @@
 package de.svws_nrw.core.utils.stundenplanblockung;
 
 import java.util.ArrayList;
+import java.util.List;
+
 import jakarta.validation.constraints.NotNull;
 
 /**
@@ -16,19 +18,22 @@ public class StundenplanblockungManagerLerngruppe {
 	int stunden = 0;
 
 	/** Die Lehrkräfte der Lerngruppe. */
-	@NotNull ArrayList<StundenplanblockungManagerLehrkraft> _menge_le = new ArrayList<>();
+	@NotNull ArrayList<@NotNull StundenplanblockungManagerLehrkraft> _menge_le = new ArrayList<>();
 
 	/** Die Klassen der Lerngruppe. */
-	@NotNull ArrayList<StundenplanblockungManagerKlasse> _menge_kl = new ArrayList<>();
+	@NotNull ArrayList<@NotNull StundenplanblockungManagerKlasse> _menge_kl = new ArrayList<>();
 
 	/** Die Fächer Lerngruppe. */
 	@NotNull ArrayList<StundenplanblockungManagerFach> _menge_fa = new ArrayList<>();
 
 	/** Die Räume Lerngruppe. */
-	@NotNull ArrayList<StundenplanblockungManagerRaum> _menge_ra = new ArrayList<>();
+	@NotNull ArrayList<@NotNull StundenplanblockungManagerRaum> _menge_ra = new ArrayList<>();
 
 	/** Die Kopplungen Lerngruppe. */
-	@NotNull ArrayList<StundenplanblockungManagerKopplung> _menge_ko = new ArrayList<>();
+	@NotNull ArrayList<@NotNull StundenplanblockungManagerKopplung> _menge_ko = new ArrayList<>();
+
+	/** Die Lage der verteilten Stunden als Zeitslots (Tag * Stunden pro Tag + Stunde, jeweils 0-basiert). */
+	@NotNull ArrayList<@NotNull Integer> _lage = new ArrayList<>();
 
 	/**
 	 * Erzeugt eine neue Lerngruppe mit der übergebenen ID.
@@ -48,6 +53,79 @@ public class StundenplanblockungManagerLerngruppe {
 		return _id;
 	}
 
+	/**
+	 * Liefert die Anzahl an Stunden im Stundenplan.
+	 *
+	 * @return Die Anzahl an Stunden im Stundenplan.
+	 */
+	public int getStunden() {
+		return stunden;
+	}
+
+	/**
+	 * Setzt die Anzahl an Stunden im Stundenplan.
+	 *
+	 * @param pStunden  Die neue Anzahl an Stunden im Stundenplan.
+	 */
+	public void setStunden(final int pStunden) {
+		stunden = pStunden;
+	}
+
+	/**
+	 * Liefert die Lehrkräfte der Lerngruppe.
+	 *
+	 * @return Die Lehrkräfte der Lerngruppe.
+	 */
+	public @NotNull List<@NotNull StundenplanblockungManagerLehrkraft> getLehrkraefte() {
+		return _menge_le;
+	}
+
+	/**
+	 * Liefert die Klassen der Lerngruppe.
+	 *
+	 * @return Die Klassen der Lerngruppe.
+	 */
+	public @NotNull List<@NotNull StundenplanblockungManagerKlasse> getKlassen() {
+		return _menge_kl;
+	}
+
+	/**
+	 * Liefert die Räume der Lerngruppe.
+	 *
+	 * @return Die Räume der Lerngruppe.
+	 */
+	public @NotNull List<@NotNull StundenplanblockungManagerRaum> getRaeume() {
+		return _menge_ra;
+	}
+
+	/**
+	 * Liefert die Kopplungen der Lerngruppe.
+	 *
+	 * @return Die Kopplungen der Lerngruppe.
+	 */
+	public @NotNull List<@NotNull StundenplanblockungManagerKopplung> getKopplungen() {
+		return _menge_ko;
+	}
+
+	/**
+	 * Liefert die Lage der verteilten Stunden als Zeitslots (Tag * Stunden pro Tag + Stunde, jeweils 0-basiert).
+	 *
+	 * @return Die Lage der verteilten Stunden.
+	 */
+	public @NotNull List<@NotNull Integer> getLage() {
+		return _lage;
+	}
+
+	/**
+	 * Setzt die Lage der verteilten Stunden als Zeitslots (Tag * Stunden pro Tag + Stunde, jeweils 0-basiert).
+	 *
+	 * @param pLage  Die neue Lage der verteilten Stunden.
+	 */
+	public void setLage(final @NotNull List<@NotNull Integer> pLage) {
+		_lage.clear();
+		_lage.addAll(pLage);
+	}
+
 	/**
 	 * Fügt der Lerngruppe die Lehrkraft hinzu (und umgekehrt).
 	 *
@@ -84,6 +162,30 @@ public class StundenplanblockungManagerLerngruppe {
 		pFa._menge_gr.add(this);
 	}
 
+	/**
+	 * Fügt der Lerngruppe den Raum hinzu (und umgekehrt).
+	 *
+	 * @param pRa Das Objekt, welches hinzugefügt werden soll.
+	 */
+	public void addRaumOrException(final @NotNull StundenplanblockungManagerRaum pRa) {
+		if (_menge_ra.contains(pRa))
+			throw new NullPointerException("Lerngruppe " + _id + " hat bereits Raum " + pRa.getID() + "!");
+		_menge_ra.add(pRa);
+		pRa._lerngruppen.add(this);
+	}
+
+	/**
+	 * Fügt der Lerngruppe die Kopplung hinzu (und umgekehrt).
+	 *
+	 * @param pKo Das Objekt, welches hinzugefügt werden soll.
+	 */
+	public void addKopplungOrException(final @NotNull StundenplanblockungManagerKopplung pKo) {
+		if (_menge_ko.contains(pKo))
+			throw new NullPointerException("Lerngruppe " + _id + " hat bereits Kopplung " + pKo.getID() + "!");
+		_menge_ko.add(pKo);
+		pKo._lerngruppen.add(this);
+	}
+
 	/**
 	 * Liefert TRUE, falls der Lerngruppe die Lehrkraft zugeordnet ist.
 	 *
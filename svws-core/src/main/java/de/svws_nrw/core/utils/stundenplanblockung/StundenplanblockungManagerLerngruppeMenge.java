@@ -83,7 +83,7 @@ public class StundenplanblockungManagerLerngruppeMenge {
 	 *
 	 * @return Die Menge aller Lerngruppen.
 	 */
-	public List<StundenplanblockungManagerLerngruppe> getMenge() {
+	public @NotNull List<@NotNull StundenplanblockungManagerLerngruppe> getMenge() {
 		return _menge;
 	}
 
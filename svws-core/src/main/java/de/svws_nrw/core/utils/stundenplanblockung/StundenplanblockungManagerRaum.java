@@ -16,7 +16,7 @@ public class StundenplanblockungManagerRaum {
 	private @NotNull String _kuerzel = "";
 
 	/** Alle Lerngruppen der Räume. */
-	private @NotNull ArrayList<StundenplanblockungManagerLerngruppe> _lerngruppen = new ArrayList<>();
+	@NotNull ArrayList<StundenplanblockungManagerLerngruppe> _lerngruppen = new ArrayList<>();
 
 	/**
 	 * @param pRaumID   Die Datenbank-ID des Raumes.
@@ -8,6 +8,24 @@ package de.svws_nrw.core.utils.stundenplanblockung;
  */
 public class StundenplanblockungManagerStatistik {
 
+	/** Die Anzahl aller zu verteilenden Stunden (gekoppelte Lerngruppen zählen dabei als eine Stunde). */
+	private int _anzahlStunden = 0;
+
+	/** Die Anzahl der Stunden, welche nicht kollisionsfrei verteilt werden konnten. */
+	private int _anzahlNichtVerteilt = 0;
+
+	/** Die Anzahl der Springstunden aller Klassen. */
+	private int _anzahlSpringstundenKlassen = 0;
+
+	/** Die Anzahl der Springstunden aller Lehrkräfte. */
+	private int _anzahlSpringstundenLehrkraefte = 0;
+
+	/** Die Anzahl der Stunden, welche eine Lerngruppe zusätzlich am selben Tag hat. */
+	private int _anzahlMehrfachAmTag = 0;
+
+	/** Die gewichtete Summe aller weichen Kriterien. Kleinere Werte sind besser. */
+	private int _bewertung = 0;
+
 	/**
 	 * Erzeugt ein neues Objekt.
 	 */
@@ -15,5 +33,112 @@ public class StundenplanblockungManagerStatistik {
 		// no implementation
 	}
 
-}
+	/**
+	 * Liefert die Anzahl aller zu verteilenden Stunden (gekoppelte Lerngruppen zählen dabei als eine Stunde).
+	 *
+	 * @return Die Anzahl aller zu verteilenden Stunden.
+	 */
+	public int getAnzahlStunden() {
+		return _anzahlStunden;
+	}
+
+	/**
+	 * Setzt die Anzahl aller zu verteilenden Stunden.
+	 *
+	 * @param pAnzahl  Die Anzahl aller zu verteilenden Stunden.
+	 */
+	public void setAnzahlStunden(final int pAnzahl) {
+		_anzahlStunden = pAnzahl;
+	}
 
+	/**
+	 * Liefert die Anzahl der Stunden, welche nicht kollisionsfrei verteilt werden konnten.
+	 *
+	 * @return Die Anzahl der Stunden, welche nicht kollisionsfrei verteilt werden konnten.
+	 */
+	public int getAnzahlNichtVerteilt() {
+		return _anzahlNichtVerteilt;
+	}
+
+	/**
+	 * Setzt die Anzahl der Stunden, welche nicht kollisionsfrei verteilt werden konnten.
+	 *
+	 * @param pAnzahl  Die Anzahl der Stunden, welche nicht kollisionsfrei verteilt werden konnten.
+	 */
+	public void setAnzahlNichtVerteilt(final int pAnzahl) {
+		_anzahlNichtVerteilt = pAnzahl;
+	}
+
+	/**
+	 * Liefert die Anzahl der Springstunden aller Klassen.
+	 *
+	 * @return Die Anzahl der Springstunden aller Klassen.
+	 */
+	public int getAnzahlSpringstundenKlassen() {
+		return _anzahlSpringstundenKlassen;
+	}
+
+	/**
+	 * Setzt die Anzahl der Springstunden aller Klassen.
+	 *
+	 * @param pAnzahl  Die Anzahl der Springstunden aller Klassen.
+	 */
+	public void setAnzahlSpringstundenKlassen(final int pAnzahl) {
+		_anzahlSpringstundenKlassen = pAnzahl;
+	}
+
+	/**
+	 * Liefert die Anzahl der Springstunden aller Lehrkräfte.
+	 *
+	 * @return Die Anzahl der Springstunden aller Lehrkräfte.
+	 */
+	public int getAnzahlSpringstundenLehrkraefte() {
+		return _anzahlSpringstundenLehrkraefte;
+	}
+
+	/**
+	 * Setzt die Anzahl der Springstunden aller Lehrkräfte.
+	 *
+	 * @param pAnzahl  Die Anzahl der Springstunden aller Lehrkräfte.
+	 */
+	public void setAnzahlSpringstundenLehrkraefte(final int pAnzahl) {
+		_anzahlSpringstundenLehrkraefte = pAnzahl;
+	}
+
+	/**
+	 * Liefert die Anzahl der Stunden, welche eine Lerngruppe zusätzlich am selben Tag hat.
+	 *
+	 * @return Die Anzahl der Stunden, welche eine Lerngruppe zusätzlich am selben Tag hat.
+	 */
+	public int getAnzahlMehrfachAmTag() {
+		return _anzahlMehrfachAmTag;
+	}
+
+	/**
+	 * Setzt die Anzahl der Stunden, welche eine Lerngruppe zusätzlich am selben Tag hat.
+	 *
+	 * @param pAnzahl  Die Anzahl der Stunden, welche eine Lerngruppe zusätzlich am selben Tag hat.
+	 */
+	public void setAnzahlMehrfachAmTag(final int pAnzahl) {
+		_anzahlMehrfachAmTag = pAnzahl;
+	}
+
+	/**
+	 * Liefert die gewichtete Summe aller weichen Kriterien. Kleinere Werte sind besser.
+	 *
+	 * @return Die gewichtete Summe aller weichen Kriterien.
+	 */
+	public int getBewertung() {
+		return _bewertung;
+	}
+
+	/**
+	 * Setzt die gewichtete Summe aller weichen Kriterien.
+	 *
+	 * @param pBewertung  Die gewichtete Summe aller weichen Kriterien.
+	 */
+	public void setBewertung(final int pBewertung) {
+		_bewertung = pBewertung;
+	}
+
+}
@@ -31,6 +31,7 @@ package de.svws_nrw.core.adt.sat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Random;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
@@ -43,11 +44,14 @@ import jakarta.validation.constraints.NotNull;
  * {@link SatOutput} <br>
  * {@link SatWrapper1} <br>
  * {@link SatSolverSimple1} <br>
+ * {@link SatSolverCDCL} <br>
  *
  * @author Benjamin A. Bartsch
  */
 class TestSatSolver {
 
+	private static final long _SEED = 1L;
+
 	/**
 	 * Erzeugt eine NxN Matrix bei der für jede Zeile und für jede Spalte
 	 * die Bedingung 'exactly one' gilt. Diese Formel ist lösbar.
@@ -79,4 +83,185 @@ class TestSatSolver {
 
 	}
 
+	/**
+	 * Wie {@link #testCaseSAT()}, aber mit dem {@link SatSolverCDCL} und deutlich größeren Matrizen.
+	 */
+	@Test
+	void testCaseSATCDCL() {
+		final Function<@NotNull SatInput, @NotNull SatOutput> solver = new SatWrapper1(erzeugeSolverCDCL(20000));
+
+		for (int n = 1; n <= 30; n++) {
+			final SatInput in = new SatInput();
+			final int[][] matrix = in.create_vars2D(n, n);
+			for (int i = 0; i < n; i++)
+				in.add_clause_exactly_in_column(matrix, i, 1);
+			for (int i = 0; i < n; i++)
+				in.add_clause_exactly_in_row(matrix, i, 1);
+
+			final SatOutput out = solver.apply(in);
+			assertTrue(out.isSatisfiable());
+			assertTrue(in.isValidSolution(out.getSolution()));
+		}
+	}
+
+	/**
+	 * Schubfachprinzip: n+1 Tauben passen nicht in n Schläge. Diese Formel ist unlösbar und muss vom
+	 * {@link SatSolverCDCL} als unlösbar erkannt werden.
+	 */
+	@Test
+	void testCaseUNSATCDCL() {
+		final Function<@NotNull SatInput, @NotNull SatOutput> solver = new SatWrapper1(erzeugeSolverCDCL(20000));
+
+		for (int n = 1; n <= 7; n++) {
+			final SatInput in = new SatInput();
+			final int[][] matrix = in.create_vars2D(n + 1, n);
+			for (int taube = 0; taube <= n; taube++)
+				in.add_clause_and_variables(toIntegerArray(matrix[taube]));
+			for (int schlag = 0; schlag < n; schlag++)
+				for (int t1 = 0; t1 <= n; t1++)
+					for (int t2 = t1 + 1; t2 <= n; t2++)
+						in.add_clause_not_both(matrix[t1][schlag], matrix[t2][schlag]);
+
+			final SatOutput out = solver.apply(in);
+			assertTrue(out.isUnsatisfiable());
+		}
+	}
+
+	/**
+	 * Eine leere Klausel ist nie erfüllbar. Der {@link SatSolverCDCL} muss die Formel sofort als unlösbar erkennen,
+	 * auch wenn sie sonst lösbar wäre. Die Klausel wird direkt eingefügt, da {@link SatInput#add_clause} leere
+	 * Klauseln ablehnt.
+	 */
+	@Test
+	void testCaseLeereKlauselCDCL() {
+		final SatInput in = new SatInput();
+		final int x = in.create_var();
+		in.add_clause_1(x);
+		in.getClauses().add(new Integer[0]);
+
+		final SatOutput out = erzeugeSolverCDCL(20000).apply(in);
+		assertTrue(out.isUnsatisfiable());
+		assertFalse(out.isSatisfiable());
+	}
+
+	/**
+	 * Testet generierte Klausurplanungs- und Kursblockungs-Instanzen (jeweils mit versteckter Lösung, also
+	 * lösbar). Der {@link SatSolverCDCL} muss alle Instanzen innerhalb des Zeitlimits lösen.
+	 */
+	@Test
+	void testKlausurenUndKurse() {
+		final Random random = new Random(_SEED);
+		final SatInput[] instanzen = new SatInput[] {
+			erzeugeKlausurInstanz(random, 20, 4, 60, 3),
+			erzeugeKlausurInstanz(random, 60, 8, 200, 4),
+			erzeugeKlausurInstanz(random, 100, 14, 300, 4),
+			erzeugeKursInstanz(random, 20, 5, 60, 4),
+			erzeugeKursInstanz(random, 48, 8, 150, 6),
+			erzeugeKursInstanz(random, 80, 10, 200, 7),
+		};
+
+		for (final SatInput in : instanzen) {
+			final SatOutput out = new SatWrapper1(erzeugeSolverCDCL(20000)).apply(in);
+			assertTrue(out.isSatisfiable(), "Keine Lösung gefunden für " + in);
+			assertTrue(in.isValidSolution(out.getSolution()));
+		}
+	}
+
+	private static SatSolver erzeugeSolverCDCL(final long maxTimeMillis) {
+		final SatSolver solver = new SatSolverCDCL();
+		solver.setMaxTimeMillis(maxTimeMillis);
+		return solver;
+	}
+
+	private static Integer[] toIntegerArray(final int[] array) {
+		final Integer[] result = new Integer[array.length];
+		for (int i = 0; i < array.length; i++)
+			result[i] = array[i];
+		return result;
+	}
+
+	/**
+	 * Erzeugt eine Klausurplanung: Jede Klausur liegt in genau einem Termin, Klausuren mit gemeinsamen Schülern liegen in
+	 * verschiedenen Terminen. Jeder Schüler schreibt Klausuren mit paarweise verschiedenen (versteckten) Terminen.
+	 */
+	private static SatInput erzeugeKlausurInstanz(final Random random, final int nKlausuren, final int nTermine, final int nSchueler, final int nProSchueler) {
+		final int[] versteckt = new int[nKlausuren];
+		for (int k = 0; k < nKlausuren; k++)
+			versteckt[k] = random.nextInt(nTermine);
+
+		final SatInput in = new SatInput();
+		final int[][] matrix = in.create_vars2D(nKlausuren, nTermine);
+		for (int k = 0; k < nKlausuren; k++)
+			in.add_clause_exactly_in_row(matrix, k, 1);
+
+		for (int s = 0; s < nSchueler; s++) {
+			final int[] klausuren = waehleKlausurenMitVerschiedenenTerminen(random, versteckt, nTermine, nProSchueler);
+			for (int i = 0; i < klausuren.length; i++)
+				for (int j = i + 1; j < klausuren.length; j++)
+					for (int t = 0; t < nTermine; t++)
+						in.add_clause_not_both(matrix[klausuren[i]][t], matrix[klausuren[j]][t]);
+		}
+		return in;
+	}
+
+	/**
+	 * Erzeugt eine Kursblockung: Jeder Kurs liegt in genau einer Schiene, jede Schiene enthält genau gleich viele Kurse und
+	 * die Kurse eines Schülers liegen in verschiedenen Schienen.
+	 */
+	private static SatInput erzeugeKursInstanz(final Random random, final int nKurse, final int nSchienen, final int nSchueler, final int nProSchueler) {
+		final int[] versteckt = new int[nKurse];
+		for (int k = 0; k < nKurse; k++)
+			versteckt[k] = k % nSchienen;
+		for (int k = nKurse - 1; k > 0; k--) {
+			final int j = random.nextInt(k + 1);
+			final int temp = versteckt[k];
+			versteckt[k] = versteckt[j];
+			versteckt[j] = temp;
+		}
+
+		final SatInput in = new SatInput();
+		final int[][] matrix = in.create_vars2D(nKurse, nSchienen);
+		for (int k = 0; k < nKurse; k++)
+			in.add_clause_exactly_in_row(matrix, k, 1);
+		for (int sch = 0; sch < nSchienen; sch++) {
+			int anzahl = 0;
+			for (int k = 0; k < nKurse; k++)
+				if (versteckt[k] == sch)
+					anzahl++;
+			in.add_clause_exactly_in_column(matrix, sch, anzahl);
+		}
+
+		for (int s = 0; s < nSchueler; s++) {
+			final int[] kurse = waehleKlausurenMitVerschiedenenTerminen(random, versteckt, nSchienen, nProSchueler);
+			for (int i = 0; i < kurse.length; i++)
+				for (int j = i + 1; j < kurse.length; j++)
+					for (int sch = 0; sch < nSchienen; sch++)
+						in.add_clause_not_both(matrix[kurse[i]][sch], matrix[kurse[j]][sch]);
+		}
+		return in;
+	}
+
+	/**
+	 * Wählt zufällig bis zu {@code anzahl} Objekte, deren versteckte Gruppen paarweise verschieden sind.
+	 */
+	private static int[] waehleKlausurenMitVerschiedenenTerminen(final Random random, final int[] versteckt, final int nGruppen, final int anzahl) {
+		final int[] proGruppe = new int[nGruppen];
+		for (int g = 0; g < nGruppen; g++)
+			proGruppe[g] = -1;
+		int gewaehlt = 0;
+		for (int versuch = 0; (versuch < 20 * anzahl) && (gewaehlt < anzahl); versuch++) {
+			final int k = random.nextInt(versteckt.length);
+			if (proGruppe[versteckt[k]] < 0) {
+				proGruppe[versteckt[k]] = k;
+				gewaehlt++;
+			}
+		}
+		final int[] result = new int[gewaehlt];
+		int i = 0;
+		for (int g = 0; g < nGruppen; g++)
+			if (proGruppe[g] >= 0)
+				result[i++] = proGruppe[g];
+		return result;
+	}
+
 }
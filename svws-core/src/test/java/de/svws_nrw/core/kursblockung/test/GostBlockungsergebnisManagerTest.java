@@ -2,9 +2,11 @@ package de.svws_nrw.core.kursblockung.test;
 
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -15,19 +17,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import de.svws_nrw.core.data.gost.GostBlockungKurs;
+import de.svws_nrw.core.data.gost.GostBlockungRegel;
+import de.svws_nrw.core.data.gost.GostBlockungSchiene;
+import de.svws_nrw.core.data.gost.GostBlockungsdaten;
+import de.svws_nrw.core.data.gost.GostBlockungsergebnisBewertung;
 import de.svws_nrw.core.data.gost.GostBlockungsergebnisKurs;
 import de.svws_nrw.core.data.gost.GostBlockungsergebnisKursSchienenZuordnung;
 import de.svws_nrw.core.data.gost.GostBlockungsergebnisKursSchienenZuordnungUpdate;
 import de.svws_nrw.core.data.gost.GostBlockungsergebnisKursSchuelerZuordnung;
 import de.svws_nrw.core.data.gost.GostBlockungsergebnisKursSchuelerZuordnungUpdate;
 import de.svws_nrw.core.data.gost.GostBlockungsergebnisSchiene;
+import de.svws_nrw.core.data.gost.GostFach;
 import de.svws_nrw.core.data.gost.GostFachwahl;
+import de.svws_nrw.core.data.schueler.Schueler;
 import de.svws_nrw.core.kursblockung.KursblockungAlgorithmus;
 import de.svws_nrw.core.logger.LogData;
 import de.svws_nrw.core.logger.LogLevel;
 import de.svws_nrw.core.logger.Logger;
 import de.svws_nrw.core.types.gost.GostKursart;
+import de.svws_nrw.core.types.kursblockung.GostKursblockungRegelTyp;
 import de.svws_nrw.core.utils.DTOUtils;
+import de.svws_nrw.core.utils.gost.GostFaecherManager;
 import de.svws_nrw.core.utils.gost.GostBlockungsdatenManager;
 import de.svws_nrw.core.utils.gost.GostBlockungsergebnisManager;
 
@@ -100,6 +110,395 @@ class GostBlockungsergebnisManagerTest {
 		teste_in_out(input, out);
 	}
 
+	/**
+	 * Testet, ob die inkrementelle Revalidierung nach Kurs-Schüler- und Kurs-Schienen-Veränderungen für die Daten 002
+	 * zum selben Zustand führt, wie ein vollständiger Neuaufbau des {@link GostBlockungsergebnisManager}.
+	 */
+	@Test
+	@DisplayName("Daten 002 inkrementell revalidieren.")
+	void test003_inkrementell_data002() {
+		final Kurs42Converter k42Converter = new Kurs42Converter(PFAD_DATEN_002, 1000, false);
+		final GostBlockungsdatenManager input = k42Converter.gibKursblockungInput();
+		teste_inkrementell(input, 500, new Random(RANDOM_SEED));
+	}
+
+	/**
+	 * Testet, ob die inkrementelle Revalidierung für einen zufälligen Jahrgang mit 200 SuS und diversen Regeln zum selben
+	 * Zustand führt, wie ein vollständiger Neuaufbau des {@link GostBlockungsergebnisManager}.
+	 */
+	@Test
+	@DisplayName("Zufälliger Jahrgang inkrementell revalidieren.")
+	void test004_inkrementell_zufallsdaten() {
+		final Random lRandom = new Random(RANDOM_SEED);
+		final GostBlockungsdatenManager input = erzeugeJahrgang(lRandom, 200);
+		teste_inkrementell(input, 500, lRandom);
+	}
+
+	/**
+	 * Testet, dass bei einem Update, welches dasselbe Kurs-Schüler-Paar entfernt und wieder hinzufügt, wie bisher erst
+	 * entfernt und dann hinzugefügt wird, so dass der Schüler dem Kurs zugeordnet bleibt. Doppelte Paare im Update
+	 * werden nur einmal berücksichtigt.
+	 */
+	@Test
+	@DisplayName("Kurs-Schüler-Paar im selben Update entfernen und hinzufügen.")
+	void test005_entfernen_und_hinzufuegen() {
+		final Random lRandom = new Random(RANDOM_SEED);
+		final GostBlockungsdatenManager input = erzeugeJahrgang(lRandom, 200);
+		final GostBlockungsergebnisManager out = erzeugeVerteilung(input, lRandom);
+
+		// Eine zugeordnete und eine nicht zugeordnete Fachwahl bestimmen.
+		GostFachwahl zugeordnet = null;
+		GostFachwahl nichtZugeordnet = null;
+		for (final GostFachwahl gFachwahl : input.daten().fachwahlen) {
+			if (out.getOfSchuelerOfFachZugeordneterKurs(gFachwahl.schuelerID, gFachwahl.fachID) != null) {
+				if (zugeordnet == null)
+					zugeordnet = gFachwahl;
+			} else if (nichtZugeordnet == null) {
+				nichtZugeordnet = gFachwahl;
+			}
+		}
+		if ((zugeordnet == null) || (nichtZugeordnet == null))
+			fail("Die Verteilung enthält keine passenden Fachwahlen.");
+
+		// Ein zugeordnetes Paar wird entfernt und wieder hinzugefügt und bleibt damit zugeordnet.
+		final long idKurs = out.getOfSchuelerOfFachZugeordneterKurs(zugeordnet.schuelerID, zugeordnet.fachID).id;
+		final int anzahlVorher = out.getKursE(idKurs).schueler.size();
+		final GostBlockungsergebnisKursSchuelerZuordnungUpdate u1 = new GostBlockungsergebnisKursSchuelerZuordnungUpdate();
+		u1.listEntfernen.add(DTOUtils.newGostBlockungsergebnisKursSchuelerZuordnung(idKurs, zugeordnet.schuelerID));
+		u1.listHinzuzufuegen.add(DTOUtils.newGostBlockungsergebnisKursSchuelerZuordnung(idKurs, zugeordnet.schuelerID));
+		out.kursSchuelerUpdateExecute(u1);
+		if (!out.getOfSchuelerOfKursIstZugeordnet(zugeordnet.schuelerID, idKurs))
+			fail("Der Schüler " + zugeordnet.schuelerID + " ist nach dem Entfernen und Hinzufügen nicht mehr im Kurs " + idKurs + ".");
+		if (out.getKursE(idKurs).schueler.size() != anzahlVorher)
+			fail("Der Kurs " + idKurs + " hat nach dem Entfernen und Hinzufügen eine andere Schüleranzahl.");
+		check_inkrementell(input, out);
+
+		// Ein nicht zugeordnetes Paar wird entfernt und doppelt hinzugefügt und ist danach genau einmal zugeordnet.
+		final long idKursNeu = getRandomKursDerFachwahl(input, nichtZugeordnet, lRandom);
+		final int anzahlNeuVorher = out.getKursE(idKursNeu).schueler.size();
+		final GostBlockungsergebnisKursSchuelerZuordnungUpdate u2 = new GostBlockungsergebnisKursSchuelerZuordnungUpdate();
+		u2.listEntfernen.add(DTOUtils.newGostBlockungsergebnisKursSchuelerZuordnung(idKursNeu, nichtZugeordnet.schuelerID));
+		u2.listHinzuzufuegen.add(DTOUtils.newGostBlockungsergebnisKursSchuelerZuordnung(idKursNeu, nichtZugeordnet.schuelerID));
+		u2.listHinzuzufuegen.add(DTOUtils.newGostBlockungsergebnisKursSchuelerZuordnung(idKursNeu, nichtZugeordnet.schuelerID));
+		out.kursSchuelerUpdateExecute(u2);
+		if (!out.getOfSchuelerOfKursIstZugeordnet(nichtZugeordnet.schuelerID, idKursNeu))
+			fail("Der Schüler " + nichtZugeordnet.schuelerID + " wurde dem Kurs " + idKursNeu + " nicht hinzugefügt.");
+		if (out.getKursE(idKursNeu).schueler.size() != anzahlNeuVorher + 1)
+			fail("Der Schüler " + nichtZugeordnet.schuelerID + " wurde dem Kurs " + idKursNeu + " nicht genau einmal hinzugefügt.");
+		check_inkrementell(input, out);
+	}
+
+	/**
+	 * Testet, dass bei einem Update, welches dasselbe Kurs-Schienen-Paar entfernt und wieder hinzufügt, erst entfernt
+	 * und dann hinzugefügt wird, so dass der Kurs in der Schiene bleibt. Ein doppelt hinzugefügtes Paar wird nur
+	 * einmal berücksichtigt. Das Ergebnis wird jeweils mit einem vollständigen Neuaufbau verglichen.
+	 */
+	@Test
+	@DisplayName("Kurs-Schienen-Paar im selben Update entfernen und hinzufügen.")
+	void test006_kurs_schiene_entfernen_und_hinzufuegen() {
+		final Random lRandom = new Random(RANDOM_SEED);
+		final GostBlockungsdatenManager input = erzeugeJahrgang(lRandom, 200);
+		final GostBlockungsergebnisManager out = erzeugeVerteilung(input, lRandom);
+
+		// Einen Kurs mit einer zugeordneten und einer nicht zugeordneten Schiene bestimmen.
+		final long idKurs = input.daten().kurse.get(0).id;
+		final long idSchiene = out.getKursE(idKurs).schienen.get(0);
+		Long idSchieneFrei = null;
+		for (final GostBlockungsergebnisSchiene schiene : out.getMengeAllerSchienen())
+			if ((idSchieneFrei == null) && !out.getOfKursOfSchieneIstZugeordnet(idKurs, schiene.id))
+				idSchieneFrei = schiene.id;
+		if (idSchieneFrei == null)
+			fail("Der Kurs " + idKurs + " ist allen Schienen zugeordnet.");
+
+		// Ein zugeordnetes Paar wird entfernt und wieder hinzugefügt und bleibt damit zugeordnet.
+		final int anzahlSchienenVorher = out.getKursE(idKurs).schienen.size();
+		final int anzahlKurseVorher = out.getSchieneE(idSchiene).kurse.size();
+		final GostBlockungsergebnisKursSchienenZuordnungUpdate u1 = new GostBlockungsergebnisKursSchienenZuordnungUpdate();
+		u1.listEntfernen.add(DTOUtils.newGostBlockungsergebnisKursSchienenZuordnung(idKurs, idSchiene));
+		u1.listHinzuzufuegen.add(DTOUtils.newGostBlockungsergebnisKursSchienenZuordnung(idKurs, idSchiene));
+		out.kursSchienenUpdateExecute(u1);
+		if (!out.getOfKursOfSchieneIstZugeordnet(idKurs, idSchiene))
+			fail("Der Kurs " + idKurs + " ist nach dem Entfernen und Hinzufügen nicht mehr in der Schiene " + idSchiene + ".");
+		if ((out.getKursE(idKurs).schienen.size() != anzahlSchienenVorher) || (out.getSchieneE(idSchiene).kurse.size() != anzahlKurseVorher))
+			fail("Der Kurs " + idKurs + " und die Schiene " + idSchiene + " haben nach dem Entfernen und Hinzufügen andere Zuordnungen.");
+		check_inkrementell(input, out);
+
+		// Ein nicht zugeordnetes Paar wird doppelt hinzugefügt und ist danach genau einmal zugeordnet.
+		final int anzahlKurseFreiVorher = out.getSchieneE(idSchieneFrei).kurse.size();
+		final GostBlockungsergebnisKursSchienenZuordnungUpdate u2 = new GostBlockungsergebnisKursSchienenZuordnungUpdate();
+		u2.listHinzuzufuegen.add(DTOUtils.newGostBlockungsergebnisKursSchienenZuordnung(idKurs, idSchieneFrei));
+		u2.listHinzuzufuegen.add(DTOUtils.newGostBlockungsergebnisKursSchienenZuordnung(idKurs, idSchieneFrei));
+		out.kursSchienenUpdateExecute(u2);
+		if (!out.getOfKursOfSchieneIstZugeordnet(idKurs, idSchieneFrei))
+			fail("Der Kurs " + idKurs + " wurde der Schiene " + idSchieneFrei + " nicht hinzugefügt.");
+		if ((out.getKursE(idKurs).schienen.size() != anzahlSchienenVorher + 1) || (out.getSchieneE(idSchieneFrei).kurse.size() != anzahlKurseFreiVorher + 1))
+			fail("Der Kurs " + idKurs + " wurde der Schiene " + idSchieneFrei + " nicht genau einmal hinzugefügt.");
+		check_inkrementell(input, out);
+	}
+
+	private static void teste_inkrementell(final GostBlockungsdatenManager input, final int anzahlSchritte, final Random rnd) {
+		final GostBlockungsergebnisManager out = erzeugeVerteilung(input, rnd);
+		final List<GostFachwahl> fachwahlen = input.daten().fachwahlen;
+		final List<GostBlockungsergebnisSchiene> schienen = out.getMengeAllerSchienen();
+
+		for (int i = 0; i < anzahlSchritte; i++) {
+			final GostBlockungKurs gKurs = input.daten().kurse.get(rnd.nextInt(input.daten().kurse.size()));
+			final GostBlockungsergebnisSchiene schiene = getRandom(schienen, rnd);
+			final Set<GostBlockungsergebnisSchiene> schienenDesKurses = out.getOfKursSchienenmenge(gKurs.id);
+
+			switch (rnd.nextInt(4)) {
+				case 0 -> {
+					// Schüler einem Kurs hinzufügen oder aus seinem Kurs entfernen.
+					final GostFachwahl gFachwahl = fachwahlen.get(rnd.nextInt(fachwahlen.size()));
+					final GostBlockungsergebnisKurs alt = out.getOfSchuelerOfFachZugeordneterKurs(gFachwahl.schuelerID, gFachwahl.fachID);
+					if (alt == null)
+						setSchuelerKurs(out, gFachwahl.schuelerID, getRandomKursDerFachwahl(input, gFachwahl, rnd), true);
+					else
+						setSchuelerKurs(out, gFachwahl.schuelerID, alt.id, false);
+				}
+				case 1 -> verschiebeSchueler(input, out, fachwahlen.get(rnd.nextInt(fachwahlen.size())), rnd);
+				case 2 -> {
+					// Kurs in eine andere Schiene verschieben.
+					final long idSchieneQuelle = schienenDesKurses.iterator().next().id;
+					out.kursSchienenUpdateExecute(out.kursSchienenUpdate_02a_VERSCHIEBE_KURS_VON_SCHIENE_NACH_SCHIENE(gKurs.id, idSchieneQuelle, schiene.id));
+				}
+				default -> {
+					// Kurs einer weiteren Schiene hinzufügen oder aus einer Schiene entfernen (aber nie schienenlos machen).
+					if (!schienenDesKurses.contains(schiene))
+						setKursSchiene(out, gKurs.id, schiene.id, true);
+					else if (schienenDesKurses.size() >= 2)
+						setKursSchiene(out, gKurs.id, schiene.id, false);
+				}
+			}
+
+			check_inkrementell(input, out);
+		}
+	}
+
+	private static GostBlockungsergebnisManager erzeugeVerteilung(final GostBlockungsdatenManager input, final Random rnd) {
+		final GostBlockungsergebnisManager out = new GostBlockungsergebnisManager(input, 1L);
+		final List<GostBlockungsergebnisSchiene> schienen = out.getMengeAllerSchienen();
+
+		// Jeden Kurs in eine zufällige Schiene setzen.
+		final GostBlockungsergebnisKursSchienenZuordnungUpdate uSchienen = new GostBlockungsergebnisKursSchienenZuordnungUpdate();
+		for (final GostBlockungKurs gKurs : input.daten().kurse)
+			uSchienen.listHinzuzufuegen.add(DTOUtils.newGostBlockungsergebnisKursSchienenZuordnung(gKurs.id, getRandom(schienen, rnd).id));
+		out.kursSchienenUpdateExecute(uSchienen);
+		check_inkrementell(input, out);
+
+		// Etwa 90% der Fachwahlen einem zufälligen Kurs zuordnen.
+		final GostBlockungsergebnisKursSchuelerZuordnungUpdate uSchueler = new GostBlockungsergebnisKursSchuelerZuordnungUpdate();
+		for (final GostFachwahl gFachwahl : input.daten().fachwahlen)
+			if (rnd.nextInt(10) != 0)
+				uSchueler.listHinzuzufuegen.add(DTOUtils.newGostBlockungsergebnisKursSchuelerZuordnung(getRandomKursDerFachwahl(input, gFachwahl, rnd), gFachwahl.schuelerID));
+		out.kursSchuelerUpdateExecute(uSchueler);
+		check_inkrementell(input, out);
+
+		return out;
+	}
+
+	private static void verschiebeSchueler(final GostBlockungsdatenManager input, final GostBlockungsergebnisManager out, final GostFachwahl gFachwahl, final Random rnd) {
+		final GostBlockungsergebnisKurs alt = out.getOfSchuelerOfFachZugeordneterKurs(gFachwahl.schuelerID, gFachwahl.fachID);
+		final long idKursNeu = getRandomKursDerFachwahl(input, gFachwahl, rnd);
+		final GostBlockungsergebnisKursSchuelerZuordnungUpdate u = new GostBlockungsergebnisKursSchuelerZuordnungUpdate();
+		if (alt != null) {
+			if (alt.id == idKursNeu)
+				return;
+			u.listEntfernen.add(DTOUtils.newGostBlockungsergebnisKursSchuelerZuordnung(alt.id, gFachwahl.schuelerID));
+		}
+		u.listHinzuzufuegen.add(DTOUtils.newGostBlockungsergebnisKursSchuelerZuordnung(idKursNeu, gFachwahl.schuelerID));
+		out.kursSchuelerUpdateExecute(u);
+	}
+
+	private static long getRandomKursDerFachwahl(final GostBlockungsdatenManager input, final GostFachwahl gFachwahl, final Random rnd) {
+		final List<Long> kursIDs = new ArrayList<>();
+		for (final GostBlockungKurs gKurs : input.daten().kurse)
+			if ((gKurs.fach_id == gFachwahl.fachID) && (gKurs.kursart == gFachwahl.kursartID))
+				kursIDs.add(gKurs.id);
+		return kursIDs.get(rnd.nextInt(kursIDs.size()));
+	}
+
+	private static void check_inkrementell(final GostBlockungsdatenManager input, final GostBlockungsergebnisManager out) {
+		// Der Vergleichs-Manager baut alle Datenstrukturen vollständig neu auf.
+		final GostBlockungsergebnisManager neu = new GostBlockungsergebnisManager(input, out.getErgebnis());
+
+		// Bewertung
+		final GostBlockungsergebnisBewertung b1 = out.getErgebnis().bewertung;
+		final GostBlockungsergebnisBewertung b2 = neu.getErgebnis().bewertung;
+		if (!b1.regelVerletzungen.equals(b2.regelVerletzungen))
+			fail("regelVerletzungen: " + b1.regelVerletzungen + " != " + b2.regelVerletzungen);
+		if (b1.anzahlKurseNichtZugeordnet != b2.anzahlKurseNichtZugeordnet)
+			fail("anzahlKurseNichtZugeordnet: " + b1.anzahlKurseNichtZugeordnet + " != " + b2.anzahlKurseNichtZugeordnet);
+		if (b1.anzahlSchuelerNichtZugeordnet != b2.anzahlSchuelerNichtZugeordnet)
+			fail("anzahlSchuelerNichtZugeordnet: " + b1.anzahlSchuelerNichtZugeordnet + " != " + b2.anzahlSchuelerNichtZugeordnet);
+		if (b1.anzahlSchuelerKollisionen != b2.anzahlSchuelerKollisionen)
+			fail("anzahlSchuelerKollisionen: " + b1.anzahlSchuelerKollisionen + " != " + b2.anzahlSchuelerKollisionen);
+		if (b1.kursdifferenzMax != b2.kursdifferenzMax)
+			fail("kursdifferenzMax: " + b1.kursdifferenzMax + " != " + b2.kursdifferenzMax);
+		for (int i = 0; i < b2.kursdifferenzHistogramm.length; i++)
+			if (b1.kursdifferenzHistogramm[i] != b2.kursdifferenzHistogramm[i])
+				fail("kursdifferenzHistogramm[" + i + "]: " + b1.kursdifferenzHistogramm[i] + " != " + b2.kursdifferenzHistogramm[i]);
+		if (b1.anzahlKurseMitGleicherFachartProSchiene != b2.anzahlKurseMitGleicherFachartProSchiene)
+			fail("anzahlKurseMitGleicherFachartProSchiene: " + b1.anzahlKurseMitGleicherFachartProSchiene + " != " + b2.anzahlKurseMitGleicherFachartProSchiene);
+
+		// Regelverletzungen (bei mehrfachen Verletzungen einer Regel hängt der Text von der Iterationsreihenfolge ab)
+		final Map<Long, String> verletzungen1 = out.regelGetMap_regelID_to_verletzungString();
+		final Map<Long, String> verletzungen2 = neu.regelGetMap_regelID_to_verletzungString();
+		if (!verletzungen1.keySet().equals(verletzungen2.keySet()))
+			fail("regelGetMap_regelID_to_verletzungString: " + verletzungen1.keySet() + " != " + verletzungen2.keySet());
+
+		// Kurse
+		for (final GostBlockungKurs gKurs : input.daten().kurse) {
+			final GostBlockungsergebnisKurs k1 = out.getKursE(gKurs.id);
+			final GostBlockungsergebnisKurs k2 = neu.getKursE(gKurs.id);
+			if (!new HashSet<>(k1.schueler).equals(new HashSet<>(k2.schueler)))
+				fail("Kurs " + gKurs.id + " hat unterschiedliche SuS.");
+			if (!new HashSet<>(k1.schienen).equals(new HashSet<>(k2.schienen)))
+				fail("Kurs " + gKurs.id + " hat unterschiedliche Schienen.");
+			final long idFachart = GostKursart.getFachartIDByKurs(gKurs);
+			if (out.getOfFachartKursdifferenz(idFachart) != neu.getOfFachartKursdifferenz(idFachart))
+				fail("Fachart " + idFachart + " hat eine unterschiedliche Kursdifferenz.");
+		}
+
+		// Schienen
+		for (final GostBlockungsergebnisSchiene s2 : neu.getMengeAllerSchienen()) {
+			final GostBlockungsergebnisSchiene s1 = out.getSchieneE(s2.id);
+			final List<Long> kurse1 = new ArrayList<>();
+			for (final GostBlockungsergebnisKurs k : s1.kurse)
+				kurse1.add(k.id);
+			final List<Long> kurse2 = new ArrayList<>();
+			for (final GostBlockungsergebnisKurs k : s2.kurse)
+				kurse2.add(k.id);
+			if (!kurse1.equals(kurse2))
+				fail("Schiene " + s2.id + ": Kurse " + kurse1 + " != " + kurse2);
+			if (out.getOfSchieneAnzahlSchueler(s2.id) != neu.getOfSchieneAnzahlSchueler(s2.id))
+				fail("Schiene " + s2.id + " hat eine unterschiedliche Schüleranzahl.");
+			if (out.getOfSchieneAnzahlSchuelerMitKollisionen(s2.id) != neu.getOfSchieneAnzahlSchuelerMitKollisionen(s2.id))
+				fail("Schiene " + s2.id + " hat eine unterschiedliche Anzahl an Kollisionen.");
+		}
+
+		// Schüler
+		for (final GostFachwahl gFachwahl : input.daten().fachwahlen) {
+			if (out.getOfSchuelerAnzahlKollisionen(gFachwahl.schuelerID) != neu.getOfSchuelerAnzahlKollisionen(gFachwahl.schuelerID))
+				fail("Schüler " + gFachwahl.schuelerID + " hat eine unterschiedliche Anzahl an Kollisionen.");
+			final GostBlockungsergebnisKurs k1 = out.getOfSchuelerOfFachZugeordneterKurs(gFachwahl.schuelerID, gFachwahl.fachID);
+			final GostBlockungsergebnisKurs k2 = neu.getOfSchuelerOfFachZugeordneterKurs(gFachwahl.schuelerID, gFachwahl.fachID);
+			if (((k1 == null) != (k2 == null)) || ((k1 != null) && (k1.id != k2.id)))
+				fail("Schüler " + gFachwahl.schuelerID + " hat im Fach " + gFachwahl.fachID + " unterschiedliche Kurse.");
+		}
+	}
+
+	private static GostBlockungsdatenManager erzeugeJahrgang(final Random rnd, final int nSchueler) {
+		final int nSchienen = 12;
+		final int nFaecher = 14;
+		final int nFaecherLK = 6;
+
+		final GostBlockungsdaten gDaten = new GostBlockungsdaten();
+		gDaten.id = 1L; // Pseudo-ID
+
+		// Schienen
+		for (int nr = 1; nr <= nSchienen; nr++) {
+			final GostBlockungSchiene gSchiene = new GostBlockungSchiene();
+			gSchiene.id = nr; // Pseudo-ID
+			gSchiene.nummer = nr;
+			gSchiene.bezeichnung = "Schiene " + nr;
+			gDaten.schienen.add(gSchiene);
+		}
+
+		// Fächer mit je 3 GK und bei den ersten Fächern zusätzlich 2 LK.
+		final GostFaecherManager fManager = new GostFaecherManager();
+		final List<GostFach> faecher = new ArrayList<>();
+		for (int fachID = 1; fachID <= nFaecher; fachID++) {
+			final GostFach gFach = new GostFach();
+			gFach.id = fachID;
+			gFach.kuerzel = "F" + fachID;
+			gFach.sortierung = fachID;
+			faecher.add(gFach);
+			for (int nr = 1; nr <= ((fachID <= nFaecherLK) ? 5 : 3); nr++) {
+				final GostBlockungKurs gKurs = new GostBlockungKurs();
+				gKurs.id = gDaten.kurse.size() + 1L;
+				gKurs.fach_id = fachID;
+				gKurs.kursart = (nr <= 3) ? GostKursart.GK.id : GostKursart.LK.id;
+				gKurs.nummer = (nr <= 3) ? nr : nr - 3;
+				gKurs.anzahlSchienen = 1;
+				gDaten.kurse.add(gKurs);
+			}
+		}
+		fManager.addAll(faecher);
+
+		// SuS mit 2 LK und 8 GK.
+		for (int schuelerID = 1; schuelerID <= nSchueler; schuelerID++) {
+			final Schueler gSchueler = new Schueler();
+			gSchueler.id = schuelerID;
+			gSchueler.nachname = "Nachname" + schuelerID;
+			gSchueler.vorname = "Vorname" + schuelerID;
+			gSchueler.geschlecht = rnd.nextBoolean() ? 3 : 4;
+			gDaten.schueler.add(gSchueler);
+
+			final List<Long> lks = new ArrayList<>();
+			while (lks.size() < 2) {
+				final long fachID = 1L + rnd.nextInt(nFaecherLK);
+				if (!lks.contains(fachID))
+					lks.add(fachID);
+			}
+			final List<Long> gks = new ArrayList<>();
+			while (gks.size() < 8) {
+				final long fachID = 1L + rnd.nextInt(nFaecher);
+				if ((!lks.contains(fachID)) && (!gks.contains(fachID)))
+					gks.add(fachID);
+			}
+			for (final long fachID : lks)
+				gDaten.fachwahlen.add(erzeugeFachwahl(schuelerID, fachID, GostKursart.LK.id));
+			for (final long fachID : gks)
+				gDaten.fachwahlen.add(erzeugeFachwahl(schuelerID, fachID, GostKursart.GK.id));
+		}
+
+		final GostBlockungsdatenManager input = new GostBlockungsdatenManager(gDaten, fManager);
+		input.setMaxTimeMillis(10);
+
+		// Diverse Regeln, deren Validierung von den Kurs-Schüler- bzw. Kurs-Schienen-Zuordnungen abhängt.
+		final List<GostFachwahl> fachwahlen = input.daten().fachwahlen;
+		final int nKurse = input.daten().kurse.size();
+		regel(input, GostKursblockungRegelTyp.KURSART_SPERRE_SCHIENEN_VON_BIS, GostKursart.LK.id, nSchienen - 1L, nSchienen);
+		for (int i = 0; i < 10; i++) {
+			final GostFachwahl gFachwahl = fachwahlen.get(rnd.nextInt(fachwahlen.size()));
+			regel(input, GostKursblockungRegelTyp.SCHUELER_FIXIEREN_IN_KURS, gFachwahl.schuelerID, getRandomKursDerFachwahl(input, gFachwahl, rnd));
+		}
+		for (int i = 0; i < 10; i++) {
+			final GostFachwahl gFachwahl = fachwahlen.get(rnd.nextInt(fachwahlen.size()));
+			regel(input, GostKursblockungRegelTyp.SCHUELER_VERBIETEN_IN_KURS, gFachwahl.schuelerID, getRandomKursDerFachwahl(input, gFachwahl, rnd));
+		}
+		for (int i = 0; i < 5; i++) {
+			final GostFachwahl gFachwahl = fachwahlen.get(rnd.nextInt(fachwahlen.size()));
+			regel(input, GostKursblockungRegelTyp.SCHUELER_ZUSAMMEN_MIT_SCHUELER_IN_FACH, gFachwahl.schuelerID, 1L + rnd.nextInt(nSchueler), gFachwahl.fachID);
+			regel(input, GostKursblockungRegelTyp.SCHUELER_VERBIETEN_MIT_SCHUELER_IN_FACH, gFachwahl.schuelerID, 1L + rnd.nextInt(nSchueler), gFachwahl.fachID);
+		}
+		for (int i = 0; i < 5; i++)
+			regel(input, GostKursblockungRegelTyp.KURS_MAXIMALE_SCHUELERANZAHL, 1L + rnd.nextInt(nKurse), 15L);
+		for (int i = 0; i < 3; i++) {
+			regel(input, GostKursblockungRegelTyp.KURS_VERBIETEN_MIT_KURS, 1L + rnd.nextInt(nKurse), 1L + rnd.nextInt(nKurse));
+			regel(input, GostKursblockungRegelTyp.KURS_ZUSAMMEN_MIT_KURS, 1L + rnd.nextInt(nKurse), 1L + rnd.nextInt(nKurse));
+		}
+		return input;
+	}
+
+	private static GostFachwahl erzeugeFachwahl(final long schuelerID, final long fachID, final int kursartID) {
+		final GostFachwahl gFachwahl = new GostFachwahl();
+		gFachwahl.schuelerID = schuelerID;
+		gFachwahl.fachID = fachID;
+		gFachwahl.kursartID = kursartID;
+		return gFachwahl;
+	}
+
+	private static void regel(final GostBlockungsdatenManager pInput, final GostKursblockungRegelTyp typ, final long... parameter) {
+		final GostBlockungRegel gRegel = new GostBlockungRegel();
+		gRegel.id = pInput.regelGetAnzahl() + 1;
+		gRegel.typ = typ.typ;
+		for (final long p : parameter)
+			gRegel.parameter.add(p);
+		pInput.regelAdd(gRegel);
+	}
+
 	private static void teste_in_out(final GostBlockungsdatenManager input, final GostBlockungsergebnisManager out) {
 		// Die Kurs-Map erstellen.
 		final HashMap<Long, HashSet<Long>> mapFaKu = new HashMap<>();
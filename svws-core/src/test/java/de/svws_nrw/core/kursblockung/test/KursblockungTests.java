@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Random;
+import java.util.TreeSet;
 import java.util.ArrayList;
 import java.util.function.Consumer;
 
@@ -17,6 +18,8 @@ import de.svws_nrw.core.data.gost.GostBlockungKurs;
 import de.svws_nrw.core.data.gost.GostBlockungRegel;
 import de.svws_nrw.core.data.gost.GostBlockungSchiene;
 import de.svws_nrw.core.data.gost.GostBlockungsdaten;
+import de.svws_nrw.core.data.gost.GostBlockungsergebnisKurs;
+import de.svws_nrw.core.data.gost.GostBlockungsergebnisSchiene;
 import de.svws_nrw.core.data.gost.GostFach;
 import de.svws_nrw.core.data.gost.GostFachwahl;
 import de.svws_nrw.core.data.schueler.Schueler;
@@ -29,6 +32,7 @@ import de.svws_nrw.core.logger.Logger;
 import de.svws_nrw.core.types.gost.GostKursart;
 import de.svws_nrw.core.types.kursblockung.GostKursblockungRegelTyp;
 import de.svws_nrw.core.utils.gost.GostBlockungsdatenManager;
+import de.svws_nrw.core.utils.gost.GostBlockungsergebnisBewertungComparator;
 import de.svws_nrw.core.utils.gost.GostBlockungsergebnisManager;
 import de.svws_nrw.core.utils.gost.GostFaecherManager;
 import jakarta.validation.constraints.NotNull;
@@ -603,6 +607,58 @@ class KursblockungTests {
 			check(kbInput, kbOutput);
 	}
 
+	/**
+	 * Liest diese {@link #PFAD_DATEN_002} Daten ein und lässt den Kursblockungsalgorithmus mit einer kleinen maximalen
+	 * Anzahl an Ergebnissen rechnen. Die Ergebnisse müssen nach ihrer Bewertung sortiert und paarweise verschieden sein.
+	 */
+	@Test
+	@DisplayName("Daten 002 blocken (beschränkte Anzahl verschiedener Ergebnisse).")
+	void test002_ergebnisse_beschraenkt() {
+
+		// Der Kursblockungsalgorithmus ist ein Service.
+		final KursblockungAlgorithmus kbAlgorithmus = new KursblockungAlgorithmus();
+		final int maxErgebnisse = 5;
+		kbAlgorithmus.setMaxErgebnisse(maxErgebnisse);
+
+		// Consumer triggert 'fail', wenn etwas kritisches geloggt wurde.
+		kbAlgorithmus.getLogger().addConsumer(new Consumer<LogData>() {
+
+			@Override
+			public void accept(final LogData t) {
+				if (t.getLevel().compareTo(LogLevel.APP) != 0)
+					fail(t.getText());
+			}
+		});
+
+		// Einlesen der Kurs42-Daten aus den Textdateien.
+		final long maxTimeMillis = 1000 * 1;
+		final Kurs42Converter k42Converter = new Kurs42Converter(PFAD_DATEN_002, maxTimeMillis, false);
+		final @NotNull GostBlockungsdatenManager kbInput = k42Converter.gibKursblockungInput();
+
+		// Berechnung der Blockung und Rückgabe der besten Blockungsergebnisse.
+		final ArrayList<@NotNull GostBlockungsergebnisManager> kbOutputs = kbAlgorithmus.handle(kbInput);
+		if (kbOutputs.isEmpty() || (kbOutputs.size() > maxErgebnisse))
+			fail("Die Anzahl der Ergebnisse (" + kbOutputs.size() + ") liegt nicht zwischen 1 und " + maxErgebnisse + ".");
+
+		final HashSet<String> zuordnungen = new HashSet<>();
+		for (int i = 0; i < kbOutputs.size(); i++) {
+			final GostBlockungsergebnisManager kbOutput = kbOutputs.get(i);
+			check(kbInput, kbOutput);
+
+			// Sortierung nach der Bewertung (das beste Ergebnis zuerst).
+			if ((i > 0) && (GostBlockungsergebnisBewertungComparator.compareBewertungen(kbOutputs.get(i - 1).getErgebnis().bewertung, kbOutput.getErgebnis().bewertung) > 0))
+				fail("Das Ergebnis an Position " + i + " ist besser als sein Vorgänger.");
+
+			// Keine doppelten Kurs-Schienen- und Kurs-Schüler-Zuordnungen.
+			final StringBuilder sb = new StringBuilder();
+			for (final GostBlockungsergebnisSchiene schiene : kbOutput.getErgebnis().schienen)
+				for (final GostBlockungsergebnisKurs kurs : schiene.kurse)
+					sb.append(schiene.id).append(':').append(kurs.id).append(new TreeSet<>(kurs.schueler)).append(';');
+			if (!zuordnungen.add(sb.toString()))
+				fail("Das Ergebnis an Position " + i + " ist doppelt vorhanden.");
+		}
+	}
+
 	/**
 	 * Liest diese {@link #PFAD_DATEN_002} Daten ein. Definiert einige Regeln und explizit Regel 4, die 19 SuS in Kurs 0
 	 * fixiert. Lässt dann den Kursblockungsalgorithmus Kurse und SuS verteilen.
@@ -0,0 +1,172 @@
+package de.svws_nrw.core.stundenplan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import de.svws_nrw.core.data.stundenplan.StundenplanFach;
+import de.svws_nrw.core.data.stundenplan.StundenplanKlasse;
+import de.svws_nrw.core.data.stundenplan.StundenplanLehrer;
+import de.svws_nrw.core.data.stundenplan.StundenplanRaum;
+import de.svws_nrw.core.data.stundenplan.StundenplanUnterricht;
+import de.svws_nrw.core.stundenplanblockung.StundenplanblockungAlgorithmus;
+import de.svws_nrw.core.types.Wochentag;
+import de.svws_nrw.core.utils.stundenplan.StundenplanManager;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManager;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerKlasse;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerKopplung;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerLehrkraft;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerLerngruppe;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerRaum;
+import de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerStatistik;
+
+/**
+ * Diese Klasse testet den {@link StundenplanblockungAlgorithmus} mit den Stupas-Testdaten.
+ */
+@DisplayName("Diese Klasse testet den {@link StundenplanblockungAlgorithmus}.")
+@TestMethodOrder(MethodOrderer.MethodName.class)
+class StundenplanblockungAlgorithmusTest {
+
+	private static final long _SEED = 1L;
+
+	/**
+	 * Berechnet den Stundenplan der Stupas-Testdaten ohne Zeitbudget, so dass nach der konstruktiven Verteilung nur
+	 * eine feste Anzahl an Schritten der lokalen Suche ausgeführt wird. Es darf keine Kollision entstehen und eine
+	 * zweite Berechnung mit demselben Seed muss dasselbe Ergebnis liefern.
+	 */
+	@DisplayName("testDatensatz_2023_08_31")
+	@Test
+	void testDatensatz_2023_08_31() {
+		final String location = "de/svws_nrw/core/utils/stundenplan/StupasSchulmanagerExport.txt";
+		final StundenplanManager m = new StupasSchulmanagerFormatReader().toManager(location, "2022-03-15", "2022-09-25");
+
+		final StundenplanblockungManager man1 = berechne(m);
+		final StundenplanblockungManager man2 = berechne(m);
+		pruefeKollisionsfrei(man1);
+
+		final StundenplanblockungManagerStatistik statistik1 = man1.getStatistik();
+		final StundenplanblockungManagerStatistik statistik2 = man2.getStatistik();
+		assertTrue(statistik1.getAnzahlStunden() > 0);
+		assertTrue(statistik1.getAnzahlNichtVerteilt() < statistik1.getAnzahlStunden());
+		assertEquals(statistik1.getAnzahlStunden(), statistik2.getAnzahlStunden());
+		assertEquals(statistik1.getAnzahlNichtVerteilt(), statistik2.getAnzahlNichtVerteilt());
+		assertEquals(statistik1.getBewertung(), statistik2.getBewertung());
+		for (final StundenplanblockungManagerLerngruppe gr : man1.getLerngruppen().getMenge())
+			assertEquals(gr.getLage(), man2.getLerngruppen().getOrException(gr.getID()).getLage());
+	}
+
+	/**
+	 * Erzeugt den {@link StundenplanblockungManager} für den übergebenen {@link StundenplanManager} und berechnet
+	 * die Lage der Lerngruppen ohne Zeitbudget mit dem festen Seed.
+	 */
+	private static StundenplanblockungManager berechne(final StundenplanManager m) {
+		final StundenplanblockungManager man = erzeugeBlockungManager(m);
+		man.setMaxTimeMillis(0);
+		new StundenplanblockungAlgorithmus().handleMitSeed(man, _SEED);
+		return man;
+	}
+
+	/**
+	 * Erzeugt aus dem Unterricht der A-Woche (inklusive des Unterrichts jeder Woche) des {@link StundenplanManager}
+	 * einen {@link StundenplanblockungManager}. Jeder Kurs bzw. Klassenunterricht wird zu einer Lerngruppe, Unterricht
+	 * in derselben Schiene wird gekoppelt.
+	 */
+	private static StundenplanblockungManager erzeugeBlockungManager(final StundenplanManager m) {
+		final StundenplanblockungManager man = new StundenplanblockungManager();
+		for (final StundenplanLehrer lehrer : m.lehrerGetMengeAsList())
+			man.getLehrkraefte().addOrException(lehrer.id, lehrer.kuerzel);
+		for (final StundenplanKlasse klasse : m.klasseGetMengeAsList())
+			man.getKlassen().addOrException(klasse.id, klasse.kuerzel);
+		for (final StundenplanRaum raum : m.raumGetMengeAsList())
+			man.getRaeume().addOrException(raum.id, raum.kuerzel);
+		for (final StundenplanFach fach : m.fachGetMengeAsList())
+			man.getFaecher().addOrException(fach.id, fach.kuerzel);
+
+		// Unterricht nach Lerngruppe gruppieren.
+		final HashMap<String, List<StundenplanUnterricht>> mapLerngruppen = new HashMap<>();
+		final List<String> reihenfolge = new ArrayList<>();
+		for (final Wochentag wochentag : Wochentag.values())
+			for (int stunde = 1; stunde <= 12; stunde++)
+				for (int wochentyp = 0; wochentyp <= Math.min(1, m.getWochenTypModell()); wochentyp++)
+					for (final StundenplanUnterricht u : m.unterrichtGetMengeByWochentagAndStundeAndWochentypOrEmptyList(wochentag, stunde, wochentyp)) {
+						final String key = (u.idKurs != null) ? ("Kurs " + u.idKurs) : ("Fach " + u.idFach + " " + u.klassen + " " + u.lehrer);
+						if (!mapLerngruppen.containsKey(key)) {
+							mapLerngruppen.put(key, new ArrayList<>());
+							reihenfolge.add(key);
+						}
+						mapLerngruppen.get(key).add(u);
+					}
+
+		// Lerngruppen erzeugen.
+		long idLerngruppe = 0;
+		for (final String key : reihenfolge) {
+			final List<StundenplanUnterricht> unterrichte = mapLerngruppen.get(key);
+			final StundenplanUnterricht u = unterrichte.get(0);
+			final StundenplanblockungManagerLerngruppe gr = man.getLerngruppen().createOrException(idLerngruppe++);
+			gr.setStunden(unterrichte.size());
+			gr.addFachOrException(man.getFaecher().getOrException(u.idFach));
+			for (final long idLehrer : u.lehrer)
+				gr.addLehrkraftOrException(man.getLehrkraefte().getOrException(idLehrer));
+			for (final long idKlasse : u.klassen)
+				gr.addKlasseOrException(man.getKlassen().getOrException(idKlasse));
+			for (final long idRaum : u.raeume)
+				gr.addRaumOrException(man.getRaeume().getOrException(idRaum));
+			for (final long idSchiene : u.schienen) {
+				if (!man.getKopplungen().exists(idSchiene))
+					man.getKopplungen().addOrException(idSchiene, "Schiene " + idSchiene);
+				gr.addKopplungOrException(man.getKopplungen().getOrException(idSchiene));
+			}
+		}
+		return man;
+	}
+
+	/**
+	 * Prüft, dass keine Lehrkraft, keine Klasse und kein Raum in einem Zeitslot doppelt belegt ist. Lerngruppen, die
+	 * (auch indirekt) gekoppelt sind, dürfen sich Ressourcen teilen.
+	 */
+	private static void pruefeKollisionsfrei(final StundenplanblockungManager man) {
+		// Kopplungen über gemeinsame Lerngruppen zu Verbünden zusammenfassen.
+		final HashMap<Long, Long> wurzel = new HashMap<>();
+		for (final StundenplanblockungManagerLerngruppe gr : man.getLerngruppen().getMenge())
+			for (final StundenplanblockungManagerKopplung ko : gr.getKopplungen())
+				wurzel.put(gibWurzel(wurzel, ko.getID()), gibWurzel(wurzel, gr.getKopplungen().get(0).getID()));
+
+		int verteilt = 0;
+		final HashMap<String, String> belegt = new HashMap<>();
+		for (final StundenplanblockungManagerLerngruppe gr : man.getLerngruppen().getMenge()) {
+			assertTrue(gr.getLage().size() <= gr.getStunden());
+			verteilt += gr.getLage().size();
+			final String verbund = gr.getKopplungen().isEmpty() ? ("G" + gr.getID()) : ("K" + gibWurzel(wurzel, gr.getKopplungen().get(0).getID()));
+			final List<String> schluessel = new ArrayList<>();
+			for (final int slot : gr.getLage()) {
+				for (final StundenplanblockungManagerLehrkraft le : gr.getLehrkraefte())
+					schluessel.add("Lehrkraft " + le.getID() + " in Slot " + slot);
+				for (final StundenplanblockungManagerKlasse kl : gr.getKlassen())
+					schluessel.add("Klasse " + kl.getID() + " in Slot " + slot);
+				for (final StundenplanblockungManagerRaum ra : gr.getRaeume())
+					schluessel.add("Raum " + ra.getID() + " in Slot " + slot);
+			}
+			for (final String s : schluessel) {
+				final String vorher = belegt.put(s, verbund);
+				assertTrue((vorher == null) || vorher.equals(verbund), "Kollision: " + s);
+			}
+		}
+		assertTrue(verteilt > 0);
+	}
+
+	private static long gibWurzel(final HashMap<Long, Long> wurzel, final long id) {
+		long w = id;
+		while (wurzel.containsKey(w) && (wurzel.get(w) != w))
+			w = wurzel.get(w);
+		return w;
+	}
+
+}
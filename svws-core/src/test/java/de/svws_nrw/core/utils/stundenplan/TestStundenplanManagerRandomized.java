@@ -2,9 +2,18 @@ package de.svws_nrw.core.utils.stundenplan;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
@@ -15,10 +24,16 @@ import de.svws_nrw.core.data.stundenplan.StundenplanAufsichtsbereich;
 import de.svws_nrw.core.data.stundenplan.StundenplanFach;
 import de.svws_nrw.core.data.stundenplan.StundenplanJahrgang;
 import de.svws_nrw.core.data.stundenplan.StundenplanKlasse;
+import de.svws_nrw.core.data.stundenplan.StundenplanKlassenunterricht;
 import de.svws_nrw.core.data.stundenplan.StundenplanKomplett;
+import de.svws_nrw.core.data.stundenplan.StundenplanKurs;
 import de.svws_nrw.core.data.stundenplan.StundenplanLehrer;
+import de.svws_nrw.core.data.stundenplan.StundenplanPausenaufsicht;
+import de.svws_nrw.core.data.stundenplan.StundenplanPausenzeit;
 import de.svws_nrw.core.data.stundenplan.StundenplanRaum;
+import de.svws_nrw.core.data.stundenplan.StundenplanSchiene;
 import de.svws_nrw.core.data.stundenplan.StundenplanSchueler;
+import de.svws_nrw.core.data.stundenplan.StundenplanUnterricht;
 import de.svws_nrw.core.data.stundenplan.StundenplanZeitraster;
 import jakarta.validation.constraints.NotNull;
 
@@ -84,6 +99,24 @@ class TestStundenplanManagerRandomized {
 		test_gueltig_bis();
 	}
 
+
+	/**
+	 * Testet, ob die gezielte Aktualisierung der Datenstrukturen nach einer Veränderung zum gleichen Zustand führt
+	 * wie die vollständige Aktualisierung mit update_all().
+	 */
+	@DisplayName("testInkrementellesUpdate")
+	@Test
+	void testInkrementellesUpdate() {
+		final @NotNull Random rnd = new Random(_SEED);
+		final @NotNull StundenplanManager m = erzeugeManagerZufaellig(rnd, 8, 150);
+		assertEquals(gibZustand(m), gibZustandNachUpdateAll(m));
+
+		for (int i = 0; i < 500; i++) {
+			final @NotNull String aenderung = aendereZufaellig(rnd, m);
+			assertEquals(gibZustand(m), gibZustandNachUpdateAll(m), "Zustand nach gezieltem Update falsch bei Änderung " + i + ": " + aenderung);
+		}
+	}
+
 	private static void test_gueltig_bis() {
 		final @NotNull StundenplanKomplett komplett = new StundenplanKomplett();
 		komplett.daten.gueltigAb = "2022-03-15";
@@ -984,4 +1017,566 @@ class TestStundenplanManagerRandomized {
 			assertEquals(i1.hasNext(), i2.hasNext());
 		}
 	}
+
+	private static @NotNull StundenplanManager erzeugeManagerZufaellig(final @NotNull Random rnd, final int anzahlKlassen, final int anzahlUnterrichte) {
+		final @NotNull StundenplanKomplett komplett = new StundenplanKomplett();
+		komplett.daten.gueltigAb = "2022-08-01";
+		komplett.daten.gueltigBis = "2023-07-31";
+		komplett.daten.wochenTypModell = 2;
+		final @NotNull StundenplanManager m = new StundenplanManager(komplett);
+
+		final @NotNull List<@NotNull StundenplanJahrgang> jahrgaenge = new ArrayList<>();
+		for (long id = 1; id <= 6; id++)
+			jahrgaenge.add(erzeugeJahrgang(id));
+		m.jahrgangAddAll(jahrgaenge);
+
+		final @NotNull List<@NotNull StundenplanFach> faecher = new ArrayList<>();
+		for (long id = 1; id <= 20; id++)
+			faecher.add(erzeugeFach(id));
+		m.fachAddAll(faecher);
+
+		final @NotNull List<@NotNull StundenplanLehrer> lehrer = new ArrayList<>();
+		for (long id = 1; id <= 2L * anzahlKlassen; id++)
+			lehrer.add(erzeugeLehrer(id));
+		m.lehrerAddAll(lehrer);
+
+		final @NotNull List<@NotNull StundenplanRaum> raeume = new ArrayList<>();
+		for (long id = 1; id <= anzahlKlassen; id++)
+			raeume.add(erzeugeRaum(id));
+		m.raumAddAll(raeume);
+
+		final @NotNull List<@NotNull StundenplanAufsichtsbereich> bereiche = new ArrayList<>();
+		for (long id = 1; id <= 5; id++)
+			bereiche.add(erzeugeAufsichtsbereich(id));
+		m.aufsichtsbereichAddAll(bereiche);
+
+		final @NotNull List<@NotNull StundenplanKlasse> klassen = new ArrayList<>();
+		for (long id = 1; id <= anzahlKlassen; id++)
+			klassen.add(erzeugeKlasse(rnd, m, id));
+		m.klasseAddAll(klassen);
+
+		final @NotNull List<@NotNull StundenplanSchueler> schueler = new ArrayList<>();
+		for (long id = 1; id <= 25L * anzahlKlassen; id++)
+			schueler.add(erzeugeSchueler(rnd, m, id));
+		m.schuelerAddAll(schueler);
+
+		final @NotNull List<@NotNull StundenplanSchiene> schienen = new ArrayList<>();
+		for (long idJahrgang = 1; idJahrgang <= 6; idJahrgang++)
+			for (int nummer = 1; nummer <= 4; nummer++)
+				schienen.add(erzeugeSchiene(idJahrgang * 10 + nummer, idJahrgang, nummer));
+		m.schieneAddAll(schienen);
+
+		final @NotNull List<@NotNull StundenplanZeitraster> zeitraster = new ArrayList<>();
+		for (int wochentag = 1; wochentag <= 5; wochentag++)
+			for (int stunde = 1; stunde <= 8; stunde++)
+				zeitraster.add(erzeugeZeitraster((wochentag - 1) * 20L + stunde, wochentag, stunde));
+		m.zeitrasterAddAll(zeitraster);
+
+		final @NotNull List<@NotNull StundenplanPausenzeit> pausenzeiten = new ArrayList<>();
+		for (int wochentag = 1; wochentag <= 5; wochentag++)
+			for (int nummer = 1; nummer <= 2; nummer++)
+				pausenzeiten.add(erzeugePausenzeit(rnd, m, wochentag * 10L + nummer));
+		m.pausenzeitAddAll(pausenzeiten);
+
+		final @NotNull List<@NotNull StundenplanPausenaufsicht> aufsichten = new ArrayList<>();
+		for (long id = 1; id <= 30; id++)
+			aufsichten.add(erzeugePausenaufsicht(rnd, m, id));
+		m.pausenaufsichtAddAll(aufsichten);
+
+		final @NotNull List<@NotNull StundenplanKurs> kurse = new ArrayList<>();
+		for (long id = 1; id <= 3L * anzahlKlassen; id++)
+			kurse.add(erzeugeKurs(rnd, m, id));
+		m.kursAddAll(kurse);
+
+		final @NotNull List<@NotNull StundenplanKlassenunterricht> klassenunterrichte = new ArrayList<>();
+		for (long idKlasse = 1; idKlasse <= anzahlKlassen; idKlasse++)
+			for (long idFach = 1; idFach <= 4; idFach++)
+				klassenunterrichte.add(erzeugeKlassenunterricht(rnd, m, idKlasse, idFach));
+		m.klassenunterrichtAddAll(klassenunterrichte);
+
+		final @NotNull List<@NotNull StundenplanUnterricht> unterrichte = new ArrayList<>();
+		for (long id = 1; id <= anzahlUnterrichte; id++)
+			unterrichte.add(erzeugeUnterricht(rnd, m, id));
+		m.unterrichtAddAll(unterrichte);
+
+		return m;
+	}
+
+	private static @NotNull String aendereZufaellig(final @NotNull Random rnd, final @NotNull StundenplanManager m) {
+		switch (rnd.nextInt(30)) {
+			case 0, 1 -> {
+				final long id = gibNeueID(m, "_unterricht_by_id");
+				m.unterrichtAdd(erzeugeUnterricht(rnd, m, id));
+				return "unterrichtAdd " + id;
+			}
+			case 2, 3, 4 -> {
+				return verschiebeUnterrichtZufaellig(rnd, m);
+			}
+			case 5 -> {
+				final long id = gibZufaelligeID(rnd, m, "_unterricht_by_id");
+				m.unterrichtPatchAttributes(erzeugeUnterricht(rnd, m, id));
+				return "unterrichtPatchAttributes " + id;
+			}
+			case 6, 7 -> {
+				final long id = gibZufaelligeID(rnd, m, "_unterricht_by_id");
+				m.unterrichtRemoveById(id);
+				return "unterrichtRemoveById " + id;
+			}
+			case 8 -> {
+				final long id = gibNeueID(m, "_kurs_by_id");
+				m.kursAdd(erzeugeKurs(rnd, m, id));
+				return "kursAdd " + id;
+			}
+			case 9 -> {
+				final long id = gibZufaelligeID(rnd, m, "_kurs_by_id");
+				m.kursPatchAttributtes(erzeugeKurs(rnd, m, id));
+				return "kursPatchAttributtes " + id;
+			}
+			case 10 -> {
+				final long id = gibZufaelligeID(rnd, m, "_kurs_by_id");
+				m.kursRemoveById(id);
+				return "kursRemoveById " + id;
+			}
+			case 11 -> {
+				final long id = gibNeueID(m, "_pausenaufsicht_by_id");
+				m.pausenaufsichtAdd(erzeugePausenaufsicht(rnd, m, id));
+				return "pausenaufsichtAdd " + id;
+			}
+			case 12 -> {
+				final long id = gibZufaelligeID(rnd, m, "_pausenaufsicht_by_id");
+				m.pausenaufsichtPatchAttributes(erzeugePausenaufsicht(rnd, m, id));
+				return "pausenaufsichtPatchAttributes " + id;
+			}
+			case 13 -> {
+				final long id = gibZufaelligeID(rnd, m, "_pausenaufsicht_by_id");
+				m.pausenaufsichtRemoveById(id);
+				return "pausenaufsichtRemoveById " + id;
+			}
+			case 14 -> {
+				final long id = gibNeueID(m, "_pausenzeit_by_id");
+				m.pausenzeitAdd(erzeugePausenzeit(rnd, m, id));
+				return "pausenzeitAdd " + id;
+			}
+			case 15 -> {
+				final long id = gibZufaelligeID(rnd, m, "_pausenzeit_by_id");
+				if (rnd.nextBoolean()) {
+					m.pausenzeitPatchAttributes(erzeugePausenzeit(rnd, m, id));
+					return "pausenzeitPatchAttributes " + id;
+				}
+				m.pausenzeitRemoveById(id);
+				return "pausenzeitRemoveById " + id;
+			}
+			case 16 -> {
+				final long id = gibZufaelligeID(rnd, m, "_raum_by_id");
+				switch (rnd.nextInt(3)) {
+					case 0 -> m.raumAdd(erzeugeRaum(gibNeueID(m, "_raum_by_id")));
+					case 1 -> m.raumPatchAttributes(erzeugeRaum(id));
+					default -> m.raumRemoveById(id);
+				}
+				return "raum " + id;
+			}
+			case 17 -> {
+				final long id = gibZufaelligeID(rnd, m, "_lehrer_by_id");
+				switch (rnd.nextInt(3)) {
+					case 0 -> m.lehrerAdd(erzeugeLehrer(gibNeueID(m, "_lehrer_by_id")));
+					case 1 -> {
+						final @NotNull StundenplanLehrer lehrer = erzeugeLehrer(id);
+						lehrer.kuerzel = "L" + rnd.nextInt(1000);
+						m.lehrerPatchAttributes(lehrer);
+					}
+					default -> m.lehrerRemoveById(id);
+				}
+				return "lehrer " + id;
+			}
+			case 18 -> {
+				final long id = gibZufaelligeID(rnd, m, "_klasse_by_id");
+				if (rnd.nextBoolean()) {
+					m.klasseAdd(erzeugeKlasse(rnd, m, gibNeueID(m, "_klasse_by_id")));
+					return "klasseAdd";
+				}
+				m.klassePatchAttributes(erzeugeKlasse(rnd, m, id));
+				return "klassePatchAttributes " + id;
+			}
+			case 19 -> {
+				final long id = gibZufaelligeID(rnd, m, "_schueler_by_id");
+				if (rnd.nextBoolean()) {
+					m.schuelerAdd(erzeugeSchueler(rnd, m, gibNeueID(m, "_schueler_by_id")));
+					return "schuelerAdd";
+				}
+				m.schuelerRemoveById(id);
+				return "schuelerRemoveById " + id;
+			}
+			case 20 -> {
+				final long id = gibZufaelligeID(rnd, m, "_zeitraster_by_id");
+				final @NotNull StundenplanZeitraster z = m.zeitrasterGetByIdOrException(id);
+				switch (rnd.nextInt(3)) {
+					case 0 -> {
+						final int wochentag = 1 + rnd.nextInt(5);
+						final int stunde = 1 + rnd.nextInt(10);
+						if (!m.zeitrasterExistsByWochentagAndStunde(wochentag, stunde))
+							m.zeitrasterAdd(erzeugeZeitraster(gibNeueID(m, "_zeitraster_by_id"), wochentag, stunde));
+					}
+					case 1 -> {
+						final @NotNull StundenplanZeitraster neu = erzeugeZeitraster(id, z.wochentag, z.unterrichtstunde);
+						neu.stundenende = neu.stundenende + rnd.nextInt(10);
+						m.zeitrasterPatchAttributes(neu);
+					}
+					default -> {
+						if (gibIDs(m, "_zeitraster_by_id").size() > 20)
+							m.zeitrasterRemoveById(id);
+					}
+				}
+				return "zeitraster " + id;
+			}
+			case 21 -> {
+				final long id = gibZufaelligeID(rnd, m, "_jahrgang_by_id");
+				switch (rnd.nextInt(3)) {
+					case 0 -> m.jahrgangAdd(erzeugeJahrgang(gibNeueID(m, "_jahrgang_by_id")));
+					case 1 -> {
+						final @NotNull StundenplanJahrgang jahrgang = erzeugeJahrgang(id);
+						jahrgang.kuerzel = "J" + rnd.nextInt(100);
+						m.jahrgangPatchAttributes(jahrgang);
+					}
+					default -> {
+						if (gibIDs(m, "_jahrgang_by_id").size() > 3)
+							m.jahrgangRemoveById(id);
+					}
+				}
+				return "jahrgang " + id;
+			}
+			case 22 -> {
+				final long id = gibZufaelligeID(rnd, m, "_aufsichtsbereich_by_id");
+				switch (rnd.nextInt(3)) {
+					case 0 -> m.aufsichtsbereichAdd(erzeugeAufsichtsbereich(gibNeueID(m, "_aufsichtsbereich_by_id")));
+					case 1 -> {
+						final @NotNull StundenplanAufsichtsbereich bereich = erzeugeAufsichtsbereich(id);
+						bereich.kuerzel = "A" + rnd.nextInt(100);
+						m.aufsichtsbereichPatchAttributes(bereich);
+					}
+					default -> m.aufsichtsbereichRemoveById(id);
+				}
+				return "aufsichtsbereich " + id;
+			}
+			case 23 -> {
+				final long id = gibNeueID(m, "_fach_by_id");
+				m.fachAdd(erzeugeFach(id));
+				return "fachAdd " + id;
+			}
+			case 24 -> {
+				final long id = gibNeueID(m, "_schiene_by_id");
+				m.schieneAdd(erzeugeSchiene(id, gibZufaelligeID(rnd, m, "_jahrgang_by_id"), 1 + rnd.nextInt(10)));
+				return "schieneAdd " + id;
+			}
+			case 25 -> {
+				final long idKlasse = gibZufaelligeID(rnd, m, "_klasse_by_id");
+				final long idFach = gibZufaelligeID(rnd, m, "_fach_by_id");
+				for (final @NotNull StundenplanKlassenunterricht ku : m.klassenunterrichtGetMengeByKlasseIdAsList(idKlasse))
+					if (ku.idFach == idFach)
+						return "klassenunterricht existiert bereits";
+				m.klassenunterrichtAdd(erzeugeKlassenunterricht(rnd, m, idKlasse, idFach));
+				return "klassenunterrichtAdd " + idKlasse + ", " + idFach;
+			}
+			case 26 -> {
+				final int modell = rnd.nextInt(3) == 0 ? 0 : 2 + rnd.nextInt(2);
+				m.stundenplanSetWochenTypModell(modell);
+				return "stundenplanSetWochenTypModell " + modell;
+			}
+			default -> {
+				final @NotNull List<@NotNull StundenplanUnterricht> liste = new ArrayList<>();
+				for (int i = 0; i < 5; i++) {
+					final long id = gibZufaelligeID(rnd, m, "_unterricht_by_id");
+					final @NotNull StundenplanUnterricht u = kopiereUnterricht(m.unterrichtGetByIdOrException(id));
+					if (liste.stream().noneMatch(v -> v.id == u.id)) {
+						u.idZeitraster = gibZufaelligeID(rnd, m, "_zeitraster_by_id");
+						liste.add(u);
+					}
+				}
+				m.unterrichtPatchAttributesAll(liste);
+				return "unterrichtPatchAttributesAll";
+			}
+		}
+	}
+
+	private static @NotNull String verschiebeUnterrichtZufaellig(final @NotNull Random rnd, final @NotNull StundenplanManager m) {
+		final long id = gibZufaelligeID(rnd, m, "_unterricht_by_id");
+		final @NotNull StundenplanUnterricht u = kopiereUnterricht(m.unterrichtGetByIdOrException(id));
+		u.idZeitraster = gibZufaelligeID(rnd, m, "_zeitraster_by_id");
+		u.wochentyp = rnd.nextInt(m.getWochenTypModell() + 1);
+		m.unterrichtPatchAttributes(u);
+		return "verschiebe Unterricht " + id + " nach Zeitraster " + u.idZeitraster;
+	}
+
+	private static @NotNull StundenplanUnterricht kopiereUnterricht(final @NotNull StundenplanUnterricht u) {
+		final @NotNull StundenplanUnterricht kopie = new StundenplanUnterricht();
+		kopie.id = u.id;
+		kopie.idZeitraster = u.idZeitraster;
+		kopie.wochentyp = u.wochentyp;
+		kopie.idKurs = u.idKurs;
+		kopie.idFach = u.idFach;
+		kopie.lehrer.addAll(u.lehrer);
+		kopie.klassen.addAll(u.klassen);
+		kopie.raeume.addAll(u.raeume);
+		kopie.schienen.addAll(u.schienen);
+		return kopie;
+	}
+
+	private static @NotNull StundenplanJahrgang erzeugeJahrgang(final long id) {
+		final @NotNull StundenplanJahrgang jahrgang = new StundenplanJahrgang();
+		jahrgang.id = id;
+		jahrgang.kuerzel = "J" + id;
+		jahrgang.bezeichnung = "Jahrgang " + id;
+		return jahrgang;
+	}
+
+	private static @NotNull StundenplanFach erzeugeFach(final long id) {
+		final @NotNull StundenplanFach fach = new StundenplanFach();
+		fach.id = id;
+		fach.kuerzel = "F" + id;
+		fach.kuerzelStatistik = "F" + id;
+		fach.bezeichnung = "Fach " + id;
+		fach.sortierung = (int) id;
+		return fach;
+	}
+
+	private static @NotNull StundenplanLehrer erzeugeLehrer(final long id) {
+		final @NotNull StundenplanLehrer lehrer = new StundenplanLehrer();
+		lehrer.id = id;
+		lehrer.kuerzel = "L" + id;
+		lehrer.nachname = "Nachname" + id;
+		lehrer.vorname = "Vorname" + id;
+		return lehrer;
+	}
+
+	private static @NotNull StundenplanRaum erzeugeRaum(final long id) {
+		final @NotNull StundenplanRaum raum = new StundenplanRaum();
+		raum.id = id;
+		raum.kuerzel = "R" + id;
+		raum.beschreibung = "Raum " + id;
+		raum.groesse = 30;
+		return raum;
+	}
+
+	private static @NotNull StundenplanAufsichtsbereich erzeugeAufsichtsbereich(final long id) {
+		final @NotNull StundenplanAufsichtsbereich bereich = new StundenplanAufsichtsbereich();
+		bereich.id = id;
+		bereich.kuerzel = "A" + id;
+		bereich.beschreibung = "Aufsichtsbereich " + id;
+		return bereich;
+	}
+
+	private static @NotNull StundenplanKlasse erzeugeKlasse(final @NotNull Random rnd, final @NotNull StundenplanManager m, final long id) {
+		final @NotNull StundenplanKlasse klasse = new StundenplanKlasse();
+		klasse.id = id;
+		klasse.kuerzel = "K" + id + (char) ('a' + rnd.nextInt(3));
+		klasse.bezeichnung = "Klasse " + id;
+		klasse.istSichtbar = rnd.nextInt(5) > 0;
+		klasse.jahrgaenge.add(gibZufaelligeID(rnd, m, "_jahrgang_by_id"));
+		return klasse;
+	}
+
+	private static @NotNull StundenplanSchueler erzeugeSchueler(final @NotNull Random rnd, final @NotNull StundenplanManager m, final long id) {
+		final @NotNull StundenplanSchueler schueler = new StundenplanSchueler();
+		schueler.id = id;
+		schueler.nachname = "Nachname" + rnd.nextInt(1000);
+		schueler.vorname = "Vorname" + rnd.nextInt(1000);
+		schueler.idKlasse = gibZufaelligeID(rnd, m, "_klasse_by_id");
+		return schueler;
+	}
+
+	private static @NotNull StundenplanSchiene erzeugeSchiene(final long id, final long idJahrgang, final int nummer) {
+		final @NotNull StundenplanSchiene schiene = new StundenplanSchiene();
+		schiene.id = id;
+		schiene.idJahrgang = idJahrgang;
+		schiene.nummer = nummer;
+		schiene.bezeichnung = "Schiene " + nummer;
+		return schiene;
+	}
+
+	private static @NotNull StundenplanZeitraster erzeugeZeitraster(final long id, final int wochentag, final int stunde) {
+		final @NotNull StundenplanZeitraster zeitraster = new StundenplanZeitraster();
+		zeitraster.id = id;
+		zeitraster.wochentag = wochentag;
+		zeitraster.unterrichtstunde = stunde;
+		zeitraster.stundenbeginn = 480 + (stunde - 1) * 50;
+		zeitraster.stundenende = zeitraster.stundenbeginn + 45;
+		return zeitraster;
+	}
+
+	private static @NotNull StundenplanPausenzeit erzeugePausenzeit(final @NotNull Random rnd, final @NotNull StundenplanManager m, final long id) {
+		final @NotNull StundenplanPausenzeit pausenzeit = new StundenplanPausenzeit();
+		pausenzeit.id = id;
+		pausenzeit.wochentag = 1 + rnd.nextInt(5);
+		pausenzeit.beginn = 570 + rnd.nextInt(120);
+		pausenzeit.ende = pausenzeit.beginn + 15 + rnd.nextInt(10);
+		if (rnd.nextInt(3) > 0)
+			for (int i = rnd.nextInt(3); i >= 0; i--)
+				fuegeHinzuFallsNichtVorhanden(pausenzeit.klassen, gibZufaelligeID(rnd, m, "_klasse_by_id"));
+		return pausenzeit;
+	}
+
+	private static @NotNull StundenplanPausenaufsicht erzeugePausenaufsicht(final @NotNull Random rnd, final @NotNull StundenplanManager m, final long id) {
+		final @NotNull StundenplanPausenaufsicht aufsicht = new StundenplanPausenaufsicht();
+		aufsicht.id = id;
+		aufsicht.idPausenzeit = gibZufaelligeID(rnd, m, "_pausenzeit_by_id");
+		aufsicht.idLehrer = gibZufaelligeID(rnd, m, "_lehrer_by_id");
+		aufsicht.wochentyp = rnd.nextInt(m.getWochenTypModell() + 1);
+		for (int i = rnd.nextInt(3); i > 0; i--)
+			fuegeHinzuFallsNichtVorhanden(aufsicht.bereiche, gibZufaelligeID(rnd, m, "_aufsichtsbereich_by_id"));
+		return aufsicht;
+	}
+
+	private static @NotNull StundenplanKurs erzeugeKurs(final @NotNull Random rnd, final @NotNull StundenplanManager m, final long id) {
+		final @NotNull StundenplanKurs kurs = new StundenplanKurs();
+		kurs.id = id;
+		kurs.idFach = gibZufaelligeID(rnd, m, "_fach_by_id");
+		kurs.bezeichnung = "Kurs " + id;
+		kurs.wochenstunden = 1 + rnd.nextInt(4);
+		kurs.jahrgaenge.add(gibZufaelligeID(rnd, m, "_jahrgang_by_id"));
+		fuegeHinzuFallsNichtVorhanden(kurs.lehrer, gibZufaelligeID(rnd, m, "_lehrer_by_id"));
+		if (rnd.nextBoolean())
+			fuegeHinzuFallsNichtVorhanden(kurs.schienen, gibZufaelligeID(rnd, m, "_schiene_by_id"));
+		for (int i = rnd.nextInt(25); i > 0; i--)
+			fuegeHinzuFallsNichtVorhanden(kurs.schueler, gibZufaelligeID(rnd, m, "_schueler_by_id"));
+		return kurs;
+	}
+
+	private static @NotNull StundenplanKlassenunterricht erzeugeKlassenunterricht(final @NotNull Random rnd, final @NotNull StundenplanManager m, final long idKlasse, final long idFach) {
+		final @NotNull StundenplanKlassenunterricht ku = new StundenplanKlassenunterricht();
+		ku.idKlasse = idKlasse;
+		ku.idFach = idFach;
+		ku.bezeichnung = "KU " + idKlasse + "-" + idFach;
+		ku.wochenstunden = 1 + rnd.nextInt(4);
+		fuegeHinzuFallsNichtVorhanden(ku.lehrer, gibZufaelligeID(rnd, m, "_lehrer_by_id"));
+		if (rnd.nextInt(4) == 0)
+			fuegeHinzuFallsNichtVorhanden(ku.schienen, gibZufaelligeID(rnd, m, "_schiene_by_id"));
+		return ku;
+	}
+
+	private static @NotNull StundenplanUnterricht erzeugeUnterricht(final @NotNull Random rnd, final @NotNull StundenplanManager m, final long id) {
+		final @NotNull StundenplanUnterricht u = new StundenplanUnterricht();
+		u.id = id;
+		u.idZeitraster = gibZufaelligeID(rnd, m, "_zeitraster_by_id");
+		u.wochentyp = rnd.nextInt(m.getWochenTypModell() + 1);
+		final @NotNull List<@NotNull Long> kurse = gibIDs(m, "_kurs_by_id");
+		if (rnd.nextBoolean() && !kurse.isEmpty()) {
+			final @NotNull StundenplanKurs kurs = m.kursGetByIdOrException(kurse.get(rnd.nextInt(kurse.size())));
+			u.idKurs = kurs.id;
+			u.idFach = kurs.idFach;
+			for (int i = rnd.nextInt(3); i > 0; i--)
+				fuegeHinzuFallsNichtVorhanden(u.klassen, gibZufaelligeID(rnd, m, "_klasse_by_id"));
+		} else {
+			u.idFach = gibZufaelligeID(rnd, m, "_fach_by_id");
+			u.klassen.add(gibZufaelligeID(rnd, m, "_klasse_by_id"));
+		}
+		for (int i = rnd.nextInt(3); i > 0; i--)
+			fuegeHinzuFallsNichtVorhanden(u.lehrer, gibZufaelligeID(rnd, m, "_lehrer_by_id"));
+		for (int i = rnd.nextInt(3); i > 0; i--)
+			fuegeHinzuFallsNichtVorhanden(u.raeume, gibZufaelligeID(rnd, m, "_raum_by_id"));
+		if (rnd.nextInt(4) == 0)
+			fuegeHinzuFallsNichtVorhanden(u.schienen, gibZufaelligeID(rnd, m, "_schiene_by_id"));
+		return u;
+	}
+
+	private static void fuegeHinzuFallsNichtVorhanden(final @NotNull List<@NotNull Long> liste, final long id) {
+		if (!liste.contains(id))
+			liste.add(id);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static @NotNull List<@NotNull Long> gibIDs(final @NotNull StundenplanManager m, final @NotNull String feldname) {
+		try {
+			final @NotNull Field feld = StundenplanManager.class.getDeclaredField(feldname);
+			feld.setAccessible(true);
+			final @NotNull List<@NotNull Long> ids = new ArrayList<>(((Map<@NotNull Long, ?>) feld.get(m)).keySet());
+			ids.sort(null);
+			return ids;
+		} catch (final ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static long gibZufaelligeID(final @NotNull Random rnd, final @NotNull StundenplanManager m, final @NotNull String feldname) {
+		final @NotNull List<@NotNull Long> ids = gibIDs(m, feldname);
+		return ids.get(rnd.nextInt(ids.size()));
+	}
+
+	private static long gibNeueID(final @NotNull StundenplanManager m, final @NotNull String feldname) {
+		final @NotNull List<@NotNull Long> ids = gibIDs(m, feldname);
+		return ids.isEmpty() ? 1 : ids.get(ids.size() - 1) + 1;
+	}
+
+	private static void rufeUpdateAll(final @NotNull StundenplanManager m) {
+		try {
+			final @NotNull Method methode = StundenplanManager.class.getDeclaredMethod("update_all");
+			methode.setAccessible(true);
+			methode.invoke(m);
+		} catch (final ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static @NotNull String gibZustandNachUpdateAll(final @NotNull StundenplanManager m) {
+		rufeUpdateAll(m);
+		return gibZustand(m);
+	}
+
+	/**
+	 * Liefert den Zustand aller Datenstrukturen des Managers als String. Leere Listen in Maps werden dabei ignoriert,
+	 * da diese durch Abfragen über MapUtils.getOrCreateArrayList(...) entstehen können.
+	 */
+	private static @NotNull String gibZustand(final @NotNull StundenplanManager m) {
+		final @NotNull StringBuilder sb = new StringBuilder();
+		for (final @NotNull Field feld : StundenplanManager.class.getDeclaredFields()) {
+			if (Modifier.isStatic(feld.getModifiers()) || Comparator.class.isAssignableFrom(feld.getType()))
+				continue;
+			try {
+				feld.setAccessible(true);
+				sb.append(feld.getName()).append(" = ").append(gibZustandVon(feld.get(m))).append('\n');
+			} catch (final IllegalAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return sb.toString();
+	}
+
+	private static @NotNull String gibZustandVon(final Object o) {
+		if (o == null)
+			return "null";
+		if ((o instanceof Number) || (o instanceof String) || (o instanceof Boolean) || (o instanceof Enum<?>))
+			return o.toString();
+		if (o.getClass().isArray()) {
+			final @NotNull List<@NotNull String> werte = new ArrayList<>();
+			for (int i = 0; i < Array.getLength(o); i++)
+				werte.add(gibZustandVon(Array.get(o, i)));
+			return werte.toString();
+		}
+		if (o instanceof final Collection<?> c) {
+			final @NotNull List<@NotNull String> werte = new ArrayList<>();
+			for (final Object e : c)
+				werte.add(gibZustandVon(e));
+			return werte.toString();
+		}
+		if (o instanceof final Map<?, ?> map) {
+			final @NotNull TreeMap<@NotNull String, @NotNull String> werte = new TreeMap<>();
+			for (final Map.Entry<?, ?> e : map.entrySet()) {
+				final @NotNull String wert = gibZustandVon(e.getValue());
+				if (!"[]".equals(wert) && !"{}".equals(wert))
+					werte.put(gibZustandVon(e.getKey()), wert);
+			}
+			return werte.toString();
+		}
+		// DTOs und Hilfsklassen (z.B. HashMap2D) über ihre Attribute vergleichen.
+		final @NotNull StringBuilder sb = new StringBuilder(o.getClass().getSimpleName()).append('{');
+		for (final @NotNull Field feld : o.getClass().getDeclaredFields()) {
+			if (Modifier.isStatic(feld.getModifiers()))
+				continue;
+			try {
+				feld.setAccessible(true);
+				sb.append(feld.getName()).append('=').append(gibZustandVon(feld.get(o))).append(';');
+			} catch (final IllegalAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return sb.append('}').toString();
+	}
 }
@@ -1,8 +1,12 @@
 package de.svws_nrw.core.utils.stundenplanblockung;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
 
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +14,8 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import de.svws_nrw.core.stundenplanblockung.StundenplanblockungAlgorithmus;
+
 /**
  * Diese Klasse testet den {@link StundenplanblockungManager}.
  */
@@ -424,4 +430,75 @@ class TestStundenplanblockung {
 		});
 	}
 
+	/**
+	 * Testet den {@link StundenplanblockungAlgorithmus} mit einer zufälligen, gut lösbaren Schule. Es darf keine
+	 * Kollision entstehen und alle Stunden müssen verteilt werden.
+	 */
+	@DisplayName("testAlgorithmusZufaellig")
+	@Test
+	void testAlgorithmusZufaellig() {
+		final Random random = new Random(_SEED);
+		final StundenplanblockungManager man = new StundenplanblockungManager();
+		for (long id = 0; id < 20; id++)
+			man.getLehrkraefte().addOrException(id, "L" + id);
+		for (long id = 0; id < 10; id++)
+			man.getKlassen().addOrException(id, "K" + id);
+		for (long id = 0; id < 12; id++)
+			man.getRaeume().addOrException(id, "R" + id);
+
+		// Pro Klasse 25 Stunden, davon 2 Stunden in einer Kopplung mit der Nachbarklasse.
+		long idLerngruppe = 0;
+		for (long idKlasse = 0; idKlasse < 10; idKlasse++) {
+			int stunden = 0;
+			while (stunden < 23) {
+				final StundenplanblockungManagerLerngruppe gr = man.getLerngruppen().createOrException(idLerngruppe++);
+				gr.setStunden(Math.min(23 - stunden, 1 + random.nextInt(4)));
+				gr.addKlasseOrException(man.getKlassen().getOrException(idKlasse));
+				gr.addLehrkraftOrException(man.getLehrkraefte().getOrException(random.nextInt(20)));
+				if (random.nextInt(3) == 0)
+					gr.addRaumOrException(man.getRaeume().getOrException(random.nextInt(12)));
+				stunden += gr.getStunden();
+			}
+			if (idKlasse % 2 == 0) {
+				man.getKopplungen().addOrException(idKlasse, "KO" + idKlasse);
+				for (long idKlasseKopplung = idKlasse; idKlasseKopplung <= idKlasse + 1; idKlasseKopplung++) {
+					final StundenplanblockungManagerLerngruppe gr = man.getLerngruppen().createOrException(idLerngruppe++);
+					gr.setStunden(2);
+					gr.addKlasseOrException(man.getKlassen().getOrException(idKlasseKopplung));
+					gr.addLehrkraftOrException(man.getLehrkraefte().getOrException(idKlasseKopplung));
+					gr.addKopplungOrException(man.getKopplungen().getOrException(idKlasse));
+				}
+			}
+		}
+
+		man.setMaxTimeMillis(200);
+		new StundenplanblockungAlgorithmus().handleMitSeed(man, _SEED);
+
+		final StundenplanblockungManagerStatistik statistik = man.getStatistik();
+		assertEquals(0, statistik.getAnzahlNichtVerteilt());
+		pruefeKollisionsfrei(man);
+
+		// Die Lerngruppen einer Kopplung liegen parallel.
+		for (final StundenplanblockungManagerKopplung ko : man.getKopplungen().getMenge()) {
+			final List<Integer> lage = ko._lerngruppen.get(0).getLage();
+			for (final StundenplanblockungManagerLerngruppe gr : ko._lerngruppen)
+				assertEquals(new HashSet<>(lage), new HashSet<>(gr.getLage()));
+		}
+	}
+
+	private static void pruefeKollisionsfrei(final StundenplanblockungManager man) {
+		final HashSet<String> belegt = new HashSet<>();
+		for (final StundenplanblockungManagerLerngruppe gr : man.getLerngruppen().getMenge()) {
+			assertTrue(gr.getLage().size() <= gr.getStunden());
+			for (final int slot : gr.getLage()) {
+				for (final StundenplanblockungManagerLehrkraft le : gr.getLehrkraefte())
+					assertTrue(belegt.add("L" + le.getID() + "-" + slot), "Kollision der Lehrkraft " + le.getID() + " in Slot " + slot);
+				for (final StundenplanblockungManagerKlasse kl : gr.getKlassen())
+					assertTrue(belegt.add("K" + kl.getID() + "-" + slot), "Kollision der Klasse " + kl.getID() + " in Slot " + slot);
+				for (final StundenplanblockungManagerRaum ra : gr.getRaeume())
+					assertTrue(belegt.add("R" + ra.getID() + "-" + slot), "Kollision des Raumes " + ra.getID() + " in Slot " + slot);
+			}
+		}
+	}
+
 }
@@ -35,6 +35,7 @@ import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungSchiene;
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergebnis;
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergebnisKursSchiene;
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergebnisKursSchueler;
+import de.svws_nrw.db.dto.current.schema.DTOSchemaAenderungen;
 import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.dto.current.schema.DTOSchemaCoreTypeVersion;
 import de.svws_nrw.db.dto.current.schema.DTOSchemaStatus;
@@ -460,6 +461,7 @@ public final class DTOs {
              mapDTOName2DTOClass.put(DTONationalitaetenKeys.class.getSimpleName(), DTONationalitaetenKeys.class);
              mapDTOName2DTOClass.put(DTOReligionKeys.class.getSimpleName(), DTOReligionKeys.class);
              mapDTOName2DTOClass.put(DTOSchuleEmail.class.getSimpleName(), DTOSchuleEmail.class);
+             mapDTOName2DTOClass.put(DTOSchemaAenderungen.class.getSimpleName(), DTOSchemaAenderungen.class);
              mapDTOName2DTOClass.put(DTOCredentials.class.getSimpleName(), DTOCredentials.class);
              mapDTOName2DTOClass.put(DTOCredentialsLernplattformen.class.getSimpleName(), DTOCredentialsLernplattformen.class);
              mapDTOName2DTOClass.put(DTOLernplattformen.class.getSimpleName(), DTOLernplattformen.class);
@@ -711,6 +713,7 @@ public final class DTOs {
              mapTablename2DTOClass.put("Nationalitaeten_Keys", DTONationalitaetenKeys.class);
              mapTablename2DTOClass.put("Religionen_Keys", DTOReligionKeys.class);
              mapTablename2DTOClass.put("EigeneSchule_Email", DTOSchuleEmail.class);
+             mapTablename2DTOClass.put("Schema_Aenderungen", DTOSchemaAenderungen.class);
              mapTablename2DTOClass.put("Credentials", DTOCredentials.class);
              mapTablename2DTOClass.put("CredentialsLernplattformen", DTOCredentialsLernplattformen.class);
              mapTablename2DTOClass.put("Lernplattformen", DTOLernplattformen.class);
@@ -0,0 +1,114 @@
+package de.svws_nrw.db.dto.current.schema;
+
+import de.svws_nrw.db.DBEntityManager;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Table;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+/**
+ * Diese Klasse dient als DTO für die Datenbanktabelle Schema_Aenderungen.
+ * Sie wurde automatisch per Skript generiert und sollte nicht verändert werden,
+ * da sie aufgrund von Änderungen am DB-Schema ggf. neu generiert und überschrieben wird.
+ */
+@Entity
+@IdClass(DTOSchemaAenderungenPK.class)
+@Cacheable(DBEntityManager.use_db_caching)
+@Table(name = "Schema_Aenderungen")
+@NamedQuery(name = "DTOSchemaAenderungen.all", query = "SELECT e FROM DTOSchemaAenderungen e")
+@NamedQuery(name = "DTOSchemaAenderungen.nametabelle", query = "SELECT e FROM DTOSchemaAenderungen e WHERE e.NameTabelle = :value")
+@NamedQuery(name = "DTOSchemaAenderungen.nametabelle.multiple", query = "SELECT e FROM DTOSchemaAenderungen e WHERE e.NameTabelle IN :value")
+@NamedQuery(name = "DTOSchemaAenderungen.shard", query = "SELECT e FROM DTOSchemaAenderungen e WHERE e.Shard = :value")
+@NamedQuery(name = "DTOSchemaAenderungen.shard.multiple", query = "SELECT e FROM DTOSchemaAenderungen e WHERE e.Shard IN :value")
+@NamedQuery(name = "DTOSchemaAenderungen.zaehler", query = "SELECT e FROM DTOSchemaAenderungen e WHERE e.Zaehler = :value")
+@NamedQuery(name = "DTOSchemaAenderungen.zaehler.multiple", query = "SELECT e FROM DTOSchemaAenderungen e WHERE e.Zaehler IN :value")
+@NamedQuery(name = "DTOSchemaAenderungen.primaryKeyQuery", query = "SELECT e FROM DTOSchemaAenderungen e WHERE e.NameTabelle = ?1 AND e.Shard = ?2")
+@NamedQuery(name = "DTOSchemaAenderungen.all.migration", query = "SELECT e FROM DTOSchemaAenderungen e WHERE e.NameTabelle IS NOT NULL AND e.Shard IS NOT NULL")
+@JsonPropertyOrder({"NameTabelle", "Shard", "Zaehler"})
+public final class DTOSchemaAenderungen {
+
+	/** Gibt den Namen der Tabelle an, deren Änderungen gezählt werden. */
+	@Id
+	@Column(name = "NameTabelle")
+	@JsonProperty
+	public String NameTabelle;
+
+	/** Die Nummer der Zeile, auf welche ein Teil der Änderungen an der Tabelle gezählt wird (Verbindungs-ID modulo der Anzahl der Zeilen) */
+	@Id
+	@Column(name = "Shard")
+	@JsonProperty
+	public int Shard;
+
+	/** Der Teil-Zähler, welcher bei jeder Änderung an der Tabelle über eine Verbindung mit dieser Zeilennummer erhöht wird */
+	@Column(name = "Zaehler")
+	@JsonProperty
+	public long Zaehler;
+
+	/**
+	 * Erstellt ein neues Objekt der Klasse DTOSchemaAenderungen ohne eine Initialisierung der Attribute.
+	 */
+	@SuppressWarnings("unused")
+	private DTOSchemaAenderungen() {
+	}
+
+	/**
+	 * Erstellt ein neues Objekt der Klasse DTOSchemaAenderungen ohne eine Initialisierung der Attribute.
+	 * @param NameTabelle   der Wert für das Attribut NameTabelle
+	 * @param Shard   der Wert für das Attribut Shard
+	 * @param Zaehler   der Wert für das Attribut Zaehler
+	 */
+	public DTOSchemaAenderungen(final String NameTabelle, final int Shard, final long Zaehler) {
+		if (NameTabelle == null) {
+			throw new NullPointerException("NameTabelle must not be null");
+		}
+		this.NameTabelle = NameTabelle;
+		this.Shard = Shard;
+		this.Zaehler = Zaehler;
+	}
+
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		DTOSchemaAenderungen other = (DTOSchemaAenderungen) obj;
+		if (NameTabelle == null) {
+			if (other.NameTabelle != null)
+				return false;
+		} else if (!NameTabelle.equals(other.NameTabelle))
+			return false;
+		return Shard == other.Shard;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((NameTabelle == null) ? 0 : NameTabelle.hashCode());
+
+		result = prime * result + Integer.hashCode(Shard);
+		return result;
+	}
+
+
+	/**
+	 * Konvertiert das Objekt in einen String. Dieser kann z.B. für Debug-Ausgaben genutzt werden.
+	 *
+	 * @return die String-Repräsentation des Objektes
+	 */
+	@Override
+	public String toString() {
+		return "DTOSchemaAenderungen(NameTabelle=" + this.NameTabelle + ", Shard=" + this.Shard + ", Zaehler=" + this.Zaehler + ")";
+	}
+
+}
@@ -0,0 +1,68 @@
+package de.svws_nrw.db.dto.current.schema;
+
+import java.io.Serializable;
+
+/**
+ * Diese Klasse dient als DTO für den Primärschlüssel der Datenbanktabelle Schema_Aenderungen.
+ * Sie wurde automatisch per Skript generiert und sollte nicht verändert werden,
+ * da sie aufgrund von Änderungen am DB-Schema ggf. neu generiert und überschrieben wird.
+ */
+public final class DTOSchemaAenderungenPK implements Serializable {
+
+	/** Die UID für diese Klasse */
+	private static final long serialVersionUID = 1L;
+
+	/** Gibt den Namen der Tabelle an, deren Änderungen gezählt werden. */
+	public String NameTabelle;
+
+	/** Die Nummer der Zeile, auf welche ein Teil der Änderungen an der Tabelle gezählt wird (Verbindungs-ID modulo der Anzahl der Zeilen) */
+	public int Shard;
+
+	/**
+	 * Erstellt ein neues Objekt der Klasse DTOSchemaAenderungenPK ohne eine Initialisierung der Attribute.
+	 */
+	@SuppressWarnings("unused")
+	private DTOSchemaAenderungenPK() {
+	}
+
+	/**
+	 * Erstellt ein neues Objekt der Klasse DTOSchemaAenderungenPK.
+	 * @param NameTabelle   der Wert für das Attribut NameTabelle
+	 * @param Shard   der Wert für das Attribut Shard
+	 */
+	public DTOSchemaAenderungenPK(final String NameTabelle, final int Shard) {
+		if (NameTabelle == null) {
+			throw new NullPointerException("NameTabelle must not be null");
+		}
+		this.NameTabelle = NameTabelle;
+		this.Shard = Shard;
+	}
+
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		DTOSchemaAenderungenPK other = (DTOSchemaAenderungenPK) obj;
+		if (NameTabelle == null) {
+			if (other.NameTabelle != null)
+				return false;
+		} else if (!NameTabelle.equals(other.NameTabelle))
+			return false;
+		return Shard == other.Shard;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((NameTabelle == null) ? 0 : NameTabelle.hashCode());
+
+		result = prime * result + Integer.hashCode(Shard);
+		return result;
+	}
+}
@@ -372,13 +372,11 @@ public abstract class DataManager<ID> {
 	 */
 	protected <DTO, CoreData> Response addBasicMultiple(final InputStream is, final Class<DTO> dtoClass, final ObjLongConsumer<DTO> initDTO, final DTOMapper<DTO, CoreData> dtoMapper,
 			final Set<String> attributesRequired, final Map<String, DataBasicMapper<DTO>> attributeMapper) throws ApiOperationException {
-		// Bestimme die nächste verfügbare ID für das DTO
-		long newID = conn.transactionGetNextID(dtoClass);
-		// Und jetzt durchwandere die einzelnen hinzuzufügenden Objekte
+		// Durchwandere die einzelnen hinzuzufügenden Objekte und bestimme jeweils eine neue ID für das DTO
 		final List<Map<String, Object>> multipleMaps = JSONMapper.toMultipleMaps(is);
 		final List<CoreData> daten = new ArrayList<>();
 		for (final Map<String, Object> map : multipleMaps)
-			daten.add(this.addBasic(newID++, map, dtoClass, initDTO, dtoMapper, attributesRequired, attributeMapper));
+			daten.add(this.addBasic(conn.transactionGetNextID(dtoClass), map, dtoClass, initDTO, dtoMapper, attributesRequired, attributeMapper));
 		return Response.status(Status.CREATED).type(MediaType.APPLICATION_JSON).entity(daten).build();
 	}
 
@@ -1,19 +1,23 @@
 package de.svws_nrw.data;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import de.svws_nrw.base.compression.CompressionException;
 import de.svws_nrw.base.compression.GZip;
@@ -21,6 +25,7 @@ import de.svws_nrw.db.utils.ApiOperationException;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.StreamingOutput;
 
 /**
  * Diese Klasse enthält Routinen für das Mapping von einfachen Datentypen in das JSON-Format
@@ -36,6 +41,15 @@ public final class JSONMapper {
 	/** Der Jackson2-Objekt-Mapper für das Konvertieren */
 	public static final ObjectMapper mapper = new ObjectMapper();
 
+	/** Die Typ-Referenz für das Parsen eines JSON-Objektes in eine Map von Key-Value-Paaren */
+	private static final TypeReference<Map<String, Object>> typeMap = new TypeReference<>() { /**/ };
+
+	/** Der Writer für das Streamen von JSON-Daten, welcher den Output-Stream nach dem Schreiben nicht schließt */
+	private static final ObjectWriter writer = mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+	/** Die Größe des Puffers beim GZIP-Komprimieren von gestreamten JSON-Daten */
+	private static final int GZIP_PUFFERGROESSE = 64 * 1024;
+
 
 	/**
 	 * Wandelt die JSON-Daten aus dem {@link InputStream} in einen einfache Java-String um.
@@ -55,6 +69,59 @@ public final class JSONMapper {
 	}
 
 
+	/**
+	 * Liest einen einzelnen skalaren JSON-Wert direkt aus dem {@link InputStream}, ohne die Daten vorher
+	 * in einen String zu übertragen. Ist der Input leer oder enthält er den JSON-Wert null, so wird null
+	 * zurückgegeben. Folgen auf den Wert weitere Daten, so wird dies als Fehler gewertet.
+	 *
+	 * @param <T>      der Typ des Wertes
+	 * @param in       der Input-Stream mit dem JSON-Input
+	 * @param reader   die Funktion zum Lesen des Wertes beim aktuellen Token des Parsers, welche null zurückgibt,
+	 *                 falls das Token nicht zu dem erwarteten Typ passt
+	 * @param fehler   die Fehlermeldung, welche im Fehlerfall genutzt wird
+	 *
+	 * @return der Wert oder null
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	private static <T> T readScalar(final InputStream in, final ScalarReader<T> reader, final String fehler) throws ApiOperationException {
+		try (JsonParser parser = mapper.createParser(in)) {
+			final JsonToken token = parser.nextToken();
+			if (token == null)
+				return null;
+			final T result = (token == JsonToken.VALUE_NULL) ? null : reader.read(parser, token);
+			if (((result == null) && (token != JsonToken.VALUE_NULL)) || (parser.nextToken() != null))
+				throw new ApiOperationException(Status.BAD_REQUEST, fehler);
+			return result;
+		} catch (@SuppressWarnings("unused") final IOException e) {
+			throw new ApiOperationException(Status.BAD_REQUEST, fehler);
+		}
+	}
+
+
+	/**
+	 * Ein funktionales Interface für das Lesen eines skalaren Wertes aus einem {@link JsonParser}.
+	 *
+	 * @param <T>   der Typ des Wertes
+	 */
+	@FunctionalInterface
+	private interface ScalarReader<T> {
+
+		/**
+		 * Liest den Wert beim aktuellen Token des Parsers.
+		 *
+		 * @param parser   der Parser
+		 * @param token    das aktuelle Token
+		 *
+		 * @return der Wert oder null, falls das Token nicht zu dem erwarteten Typ passt
+		 *
+		 * @throws IOException   falls der Wert nicht gelesen werden kann
+		 */
+		T read(JsonParser parser, JsonToken token) throws IOException;
+
+	}
+
+
 	/**
 	 * Wandelt die JSON-Daten aus dem {@link InputStream} in einen einfache Java-Long um.
 	 *
@@ -65,14 +132,8 @@ public final class JSONMapper {
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
 	public static Long toLong(final InputStream in) throws ApiOperationException {
-		final String text = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines().collect(Collectors.joining("")).trim();
-		if ((text == null) || "".equals(text) || "null".equals(text))
-			return null;
-	    try {
-	    	return Long.parseLong(text);
-		} catch (@SuppressWarnings("unused") final NumberFormatException e) {
-			throw new ApiOperationException(Status.BAD_REQUEST, "Fehler beim Konvertieren des JSON-Textes in einen Long-Wert");
-		}
+		return readScalar(in, (parser, token) -> (token == JsonToken.VALUE_NUMBER_INT) ? parser.getLongValue() : null,
+				"Fehler beim Konvertieren des JSON-Textes in einen Long-Wert");
 	}
 
 
@@ -86,19 +147,16 @@ public final class JSONMapper {
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
 	public static Boolean toBoolean(final InputStream in) throws ApiOperationException {
-		final String text = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines().collect(Collectors.joining("")).trim();
-		if ((text == null) || "".equals(text) || "null".equals(text))
-			return null;
-		if ("true".equals(text))
-			return true;
-		if ("false".equals(text))
-			return false;
-		throw new ApiOperationException(Status.BAD_REQUEST, "Fehler beim Konvertieren des JSON-Textes in einen Boolean-Wert");
+		return readScalar(in, (parser, token) -> token.isBoolean() ? (token == JsonToken.VALUE_TRUE) : null,
+				"Fehler beim Konvertieren des JSON-Textes in einen Boolean-Wert");
 	}
 
 
 	/**
 	 * Wandelt die JSON-Daten aus dem {@link InputStream} in einen einfache Java-Double um.
+	 * Da hier bei fehlender RFC 8259-Kompatibilität auch Werte wie NaN zugelassen sind, welche kein
+	 * gültiges JSON darstellen, wird der Wert hier als Text eingelesen. Dieser ist aber nur wenige Zeichen
+	 * lang.
 	 *
 	 * @param in                  der Input-Stream mit dem JSON-Input
 	 * @param rfc8259compliance   gibt an, ob nur Zahlwerte laut RFC8259 zugelassen sind oder alle
@@ -109,8 +167,8 @@ public final class JSONMapper {
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
 	public static Double toDouble(final InputStream in, final boolean rfc8259compliance) throws ApiOperationException {
-		final String text = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines().collect(Collectors.joining("")).trim();
-		if ((text == null) || "".equals(text) || "null".equals(text))
+		final String text = toJsonString(in);
+		if ("".equals(text) || "null".equals(text))
 			return null;
 	    try {
 			if (rfc8259compliance && !text.matches("-*(0|[1-9]\\d*)([.]\\d+)?([eE][+-]\\d*)?"))
@@ -132,19 +190,14 @@ public final class JSONMapper {
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
 	public static Integer toInteger(final InputStream in) throws ApiOperationException {
-		final String text = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines().collect(Collectors.joining("")).trim();
-		if ((text == null) || "".equals(text) || "null".equals(text))
-			return null;
-	    try {
-			return Integer.parseInt(text);
-		} catch (@SuppressWarnings("unused") final NumberFormatException e) {
-			throw new ApiOperationException(Status.BAD_REQUEST, "Fehler beim Konvertieren des JSON-Textes");
-		}
+		return readScalar(in, (parser, token) -> (token == JsonToken.VALUE_NUMBER_INT) ? parser.getIntValue() : null,
+				"Fehler beim Konvertieren des JSON-Textes");
 	}
 
 
 	/**
-	 * Wandelt die JSON-Daten aus dem {@link InputStream} in eine Map von Key-Value-Paaren um
+	 * Wandelt die JSON-Daten aus dem {@link InputStream} in eine Map von Key-Value-Paaren um. Die Daten
+	 * werden dabei direkt aus dem Input-Stream geparst.
 	 *
 	 * @param in   der Input-Stream mit dem JSON-Input
 	 *
@@ -153,10 +206,9 @@ public final class JSONMapper {
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
 	public static Map<String, Object> toMap(final InputStream in) throws ApiOperationException {
-		final String json = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines().collect(Collectors.joining("")).trim();
 		try {
-			return mapper.readValue(json, new TypeReference<Map<String, Object>>() { /**/ });
-		} catch (final JsonProcessingException e) {
+			return mapper.readValue(in, typeMap);
+		} catch (final IOException e) {
 			throw new ApiOperationException(Status.BAD_REQUEST, e, "Fehler beim Parsen des JSON-Strings.");
 		}
 	}
@@ -170,24 +222,28 @@ public final class JSONMapper {
 	 * @return der String mit dem JSON
 	 */
 	public static String toJsonString(final InputStream in) {
-		return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines().collect(Collectors.joining("")).trim();
+		try {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 
 
 	/**
-	 * Liest die Daten aus dem InputStream ein und gibt das JSON als String zurück.
+	 * Liest die Daten aus dem InputStream ein und gibt den Baum mit den JSON-Knoten zurück. Die Daten
+	 * werden dabei direkt aus dem Input-Stream geparst.
 	 *
 	 * @param in   der Input-Stream
 	 *
-	 * @return der String mit dem JSON
+	 * @return der Wurzel-Knoten des JSON-Baums
 	 *
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
 	public static JsonNode toJsonNode(final InputStream in) throws ApiOperationException {
-		final String json = toJsonString(in);
 		try {
-			return mapper.readTree(json);
-		} catch (final JsonProcessingException e) {
+			return mapper.readTree(in);
+		} catch (final IOException e) {
 			throw new ApiOperationException(Status.BAD_REQUEST, e, "Fehler beim Parsen des JSON-Strings.");
 		}
 	}
@@ -195,7 +251,8 @@ public final class JSONMapper {
 
 	/**
 	 * Wandelt die JSON-Daten aus dem {@link InputStream} in eine Liste von Maps von Key-Value-Paaren um.
-	 * Dabei müssen die JSON-Daten ein Array sein.
+	 * Dabei müssen die JSON-Daten ein Array sein. Die Elemente des Arrays werden nacheinander direkt
+	 * aus dem Input-Stream in die Maps geparst.
 	 *
 	 * @param in   der Input-Stream mit dem JSON-Input
 	 *
@@ -204,17 +261,14 @@ public final class JSONMapper {
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
 	public static List<Map<String, Object>> toMultipleMaps(final InputStream in) throws ApiOperationException {
-		try {
-			final JsonNode node = toJsonNode(in);
-			final List<Map<String, Object>> result = new ArrayList<>();
-			if (!node.isArray())
+		try (JsonParser parser = mapper.createParser(in)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY)
 				throw new ApiOperationException(Status.BAD_REQUEST, "Das übergebene JSON ist kein Array bzw. keine Liste");
-			for (final JsonNode element : node) {
-				final String json = element.toString();
-				result.add(mapper.readValue(json, new TypeReference<Map<String, Object>>() { /**/ }));
-			}
+			final List<Map<String, Object>> result = new ArrayList<>();
+			while (parser.nextToken() != JsonToken.END_ARRAY)
+				result.add(mapper.readValue(parser, typeMap));
 			return result;
-		} catch (final JsonProcessingException e) {
+		} catch (final IOException e) {
 			throw new ApiOperationException(Status.BAD_REQUEST, e, "Fehler beim Parsen des JSON-Strings.");
 		}
 	}
@@ -223,6 +277,7 @@ public final class JSONMapper {
 	/**
 	 * Wandelt die JSON-Daten aus dem {@link InputStream} in eine Liste von Long-Werten um, sofern dies
 	 * möglich ist. Ist dies nicht möglich, so wird eine entsprechende ApiOperationException erzeugt.
+	 * Die Werte werden dabei direkt aus dem Input-Stream gelesen.
 	 *
 	 * @param in   der Input-Stream mit dem JSON-Input
 	 *
@@ -231,16 +286,27 @@ public final class JSONMapper {
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
 	public static List<Long> toListOfLong(final InputStream in) throws ApiOperationException {
-		final JsonNode node = toJsonNode(in);
-		final List<Long> result = new ArrayList<>();
-		if (!node.isArray())
-			throw new ApiOperationException(Status.BAD_REQUEST, "Das übergebene JSON ist kein Array bzw. keine Liste");
-		for (final JsonNode element : node) {
-			if (!element.canConvertToLong())
-				throw new ApiOperationException(Status.BAD_REQUEST, "Das übergebene JSON-Array enthält auch nicht-Long-Werte");
-			result.add(element.asLong());
+		try (JsonParser parser = mapper.createParser(in)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY)
+				throw new ApiOperationException(Status.BAD_REQUEST, "Das übergebene JSON ist kein Array bzw. keine Liste");
+			final List<Long> result = new ArrayList<>();
+			JsonToken token;
+			while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+				if ((token == JsonToken.VALUE_NUMBER_INT) && (parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER)) {
+					result.add(parser.getLongValue());
+				} else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+					// Wie bei JsonNode#asLong werden Fließkommawerte im Wertebereich abgeschnitten
+					final double value = parser.getDoubleValue();
+					if ((value < Long.MIN_VALUE) || (value > Long.MAX_VALUE))
+						throw new ApiOperationException(Status.BAD_REQUEST, "Das übergebene JSON-Array enthält auch nicht-Long-Werte");
+					result.add((long) value);
+				} else
+					throw new ApiOperationException(Status.BAD_REQUEST, "Das übergebene JSON-Array enthält auch nicht-Long-Werte");
+			}
+			return result;
+		} catch (final IOException e) {
+			throw new ApiOperationException(Status.BAD_REQUEST, e, "Fehler beim Parsen des JSON-Strings.");
 		}
-		return result;
 	}
 
 
@@ -657,21 +723,56 @@ public final class JSONMapper {
 	}
 
 	/**
-	 * Konvertiert das Object in eine {@link Response} mit einer GZIP-komprimierten JSON-Datei.
+	 * Konvertiert das Object in eine {@link Response} mit einer GZIP-komprimierten JSON-Datei. Das Objekt
+	 * wird dabei erst beim Schreiben der Response serialisiert und direkt komprimiert in den Output-Stream
+	 * geschrieben, so dass weder der JSON-String noch die komprimierten Daten vollständig im Speicher
+	 * gehalten werden müssen.
 	 *
 	 * @param obj        das nach JSON zu serialisierende Objekt
-	 * @param filename   der Name, der JSON-Datei ohne ".json.gz"-Endung
+	 * @param filename   der Name der Datei inklusive der Endung
 	 *
 	 * @return die Response
 	 *
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
 	public static Response gzipFileResponseFromObject(final Object obj, final String filename) throws ApiOperationException {
-		try {
-			return Response.ok(gzipByteArrayFromObject(obj)).header("Content-Disposition", "attachment; filename=\"" + filename + "\"").build();
-		} catch (final CompressionException ce) {
-			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, ce);
-		}
+		return Response.ok((StreamingOutput) output -> {
+			try (GZIPOutputStream gzipOut = new GZIPOutputStream(output, GZIP_PUFFERGROESSE)) {
+				writer.writeValue(gzipOut, obj);
+			}
+		}).header("Content-Disposition", "attachment; filename=\"" + filename + "\"").build();
+	}
+
+
+	/**
+	 * Konvertiert das Object in eine {@link Response} mit dem JSON-String. Das Objekt wird dabei erst beim
+	 * Schreiben der Response serialisiert und direkt in den Output-Stream geschrieben. Dies ist insbesondere
+	 * bei großen Datenmengen sinnvoll, da der JSON-String nicht vollständig im Speicher gehalten werden muss.
+	 *
+	 * @param obj   das nach JSON zu serialisierende Objekt
+	 *
+	 * @return die Response
+	 */
+	public static Response streamingResponseFromObject(final Object obj) {
+		return Response.ok((StreamingOutput) output -> {
+			writer.writeValue(output, obj);
+			output.flush();
+		}, MediaType.APPLICATION_JSON).build();
+	}
+
+
+	/**
+	 * Serialisiert das Objekt nach JSON und schreibt es direkt in den übergebenen {@link OutputStream}. Im
+	 * Gegensatz zu {@link ObjectMapper#writeValue(OutputStream, Object)} wird der Output-Stream nach dem
+	 * Schreiben nicht geschlossen, so dass danach noch weitere Daten in den Stream geschrieben werden können.
+	 *
+	 * @param out   der Output-Stream
+	 * @param obj   das nach JSON zu serialisierende Objekt
+	 *
+	 * @throws IOException   falls ein Fehler beim Serialisieren oder Schreiben auftritt
+	 */
+	public static void writeTo(final OutputStream out, final Object obj) throws IOException {
+		writer.writeValue(out, obj);
 	}
 
 
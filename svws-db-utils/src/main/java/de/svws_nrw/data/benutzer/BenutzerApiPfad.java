@@ -0,0 +1,185 @@
+package de.svws_nrw.data.benutzer;
+
+/**
+ * Diese Klasse klassifiziert den Pfad einer HTTP-Anfrage für die Authentifizierung, d.h. ob ein anonymer Zugriff,
+ * ein Zugriff auf Ressourcen des SVWS-Clients, ein Zugriff mit DB-Root-Rechten oder ein Zugriff auf ein SVWS-Schema
+ * vorliegt. Zusätzlich wird das Schema bestimmt, auf welches zugegriffen wird. <br>
+ * Die Prüfung erfolgt ohne reguläre Ausdrücke und ohne Zerlegen des Pfades nur anhand der fest vorgegebenen
+ * Präfixe und Suffixe, da sie bei jeder Anfrage (auch für statische Ressourcen) durchgeführt wird.
+ */
+public final class BenutzerApiPfad {
+
+	/** Die Art des Zugriffs, welche sich aus dem Pfad ergibt. */
+	public enum Zugriff {
+
+		/** Der Pfad ist ungültig und der Zugriff wird abgelehnt */
+		UNGUELTIG,
+
+		/** Es erfolgt immer ein anonymer Zugriff ohne Prüfung über die DB (z.B. "/debug/" oder "/openapi/") */
+		ANONYM,
+
+		/** Es wird auf eine Ressource des SVWS-Clients zugegriffen, welche ggf. anonym abgerufen werden darf */
+		CLIENT,
+
+		/** Es erfolgt ein Zugriff auf das DBMS, welcher eine Anmeldung mit einem DB-Kennwort erfordert */
+		DB_ROOT,
+
+		/** Es erfolgt ein Zugriff auf ein SVWS-Schema (oder ohne Schema) mit einem SVWS-Benutzer */
+		SCHEMA
+
+	}
+
+	/** Die Präfixe der Pfade, bei denen immer ein anonymer Zugriff erfolgt */
+	private static final String[] PRAEFIXE_ANONYM = { "/debug/", "/openapi/" };
+
+	/** Die Präfixe der Pfade zu Ressourcen des SVWS-Clients */
+	private static final String[] PRAEFIXE_CLIENT = { "/js/", "/css/", "/fonts/", "/assets/" };
+
+	/** Die Dateiendungen der Ressourcen des SVWS-Clients */
+	private static final String[] SUFFIXE_CLIENT = { ".html", ".js", ".js.map", ".css", ".css.map", ".ico", ".png" };
+
+	/** Der gemeinsame Präfix der Pfade für den Zugriff mit DB-Root-Rechten */
+	private static final String PRAEFIX_DB_ROOT = "/api/schema/";
+
+	/** Die Operationen nach {@link #PRAEFIX_DB_ROOT}, die einen Zugriff mit DB-Root-Rechten erfordern */
+	private static final String[] OPERATIONEN_DB_ROOT = { "root/", "liste/", "create/", "import/", "export/", "update/", "migrate/" };
+
+	/** Die Operationen nach {@link #PRAEFIX_DB_ROOT}, die auch bei einem deaktivierten Schema erlaubt sind */
+	private static final String[] OPERATIONEN_DEAKTIVIERTES_SCHEMA = { "import/", "migrate/" };
+
+	/** Das Ergebnis für einen ungültigen Pfad */
+	private static final BenutzerApiPfad PFAD_UNGUELTIG = new BenutzerApiPfad(Zugriff.UNGUELTIG, "");
+
+	/** Das Ergebnis für einen Pfad mit anonymem Zugriff */
+	private static final BenutzerApiPfad PFAD_ANONYM = new BenutzerApiPfad(Zugriff.ANONYM, "");
+
+	/** Die Art des Zugriffs */
+	private final Zugriff zugriff;
+
+	/** Das Schema, auf welches zugegriffen wird, oder ein leerer String, falls kein Schema angegeben ist */
+	private final String schema;
+
+
+	private BenutzerApiPfad(final Zugriff zugriff, final String schema) {
+		this.zugriff = zugriff;
+		this.schema = schema;
+	}
+
+
+	/**
+	 * Klassifiziert den übergebenen Pfad einer HTTP-Anfrage.
+	 *
+	 * @param path   der Pfad (z.B. von {@link jakarta.servlet.http.HttpServletRequest#getPathInfo()})
+	 *
+	 * @return die Klassifikation des Pfades
+	 */
+	public static BenutzerApiPfad of(final String path) {
+		if ((path == null) || path.startsWith("/index.php"))
+			return PFAD_UNGUELTIG;
+
+		// Zugriff mit DB-Root-Rechten
+		if (path.startsWith(PRAEFIX_DB_ROOT)) {
+			final String operation = getOperationDBRoot(path, OPERATIONEN_DB_ROOT);
+			if (operation != null) {
+				// Bei "root" erfolgt der Zugriff über das Root-Schema, ansonsten folgt ggf. das Schema auf die Operation
+				final int start = PRAEFIX_DB_ROOT.length() + operation.length();
+				if ("root/".equals(operation) || !hatWeitereSegmente(path, start))
+					return new BenutzerApiPfad(Zugriff.DB_ROOT, "");
+				final String schema = "liste/".equals(operation) ? "information_schema" : getSegment(path, start);
+				return new BenutzerApiPfad(Zugriff.DB_ROOT, schema);
+			}
+		}
+
+		// Anonymer Zugriff
+		for (final String praefix : PRAEFIXE_ANONYM)
+			if (path.startsWith(praefix))
+				return PFAD_ANONYM;
+
+		// Zugriff auf ein Schema, welcher ggf. auch eine Ressource des SVWS-Clients betrifft
+		String schema = "";
+		if (path.startsWith("/db/"))
+			schema = getSegment(path, 4);
+		else if (path.startsWith("/dav/"))
+			schema = getSegment(path, 5);
+		return new BenutzerApiPfad(istClientRessource(path) ? Zugriff.CLIENT : Zugriff.SCHEMA, schema);
+	}
+
+
+	/**
+	 * Prüft, ob der übergebene Pfad eine Operation bezeichnet, die auch bei einem deaktivierten Schema
+	 * erlaubt ist (z.B. Import oder Migration).
+	 *
+	 * @param path   der Pfad (z.B. von {@link jakarta.servlet.http.HttpServletRequest#getRequestURI()})
+	 *
+	 * @return true, falls die Operation bei einem deaktivierten Schema erlaubt ist
+	 */
+	public static boolean erlaubtDeaktiviertesSchema(final String path) {
+		return (path != null) && path.startsWith(PRAEFIX_DB_ROOT) && (getOperationDBRoot(path, OPERATIONEN_DEAKTIVIERTES_SCHEMA) != null);
+	}
+
+
+	private static String getOperationDBRoot(final String path, final String[] operationen) {
+		for (final String operation : operationen)
+			if (path.startsWith(operation, PRAEFIX_DB_ROOT.length()))
+				return operation;
+		return null;
+	}
+
+
+	private static boolean istClientRessource(final String path) {
+		if ("/".equals(path))
+			return true;
+		if (!path.startsWith("/"))
+			return false;
+		for (final String praefix : PRAEFIXE_CLIENT)
+			if (path.startsWith(praefix))
+				return true;
+		for (final String suffix : SUFFIXE_CLIENT)
+			if (path.endsWith(suffix))
+				return true;
+		return false;
+	}
+
+
+	/**
+	 * Gibt das Segment des Pfades ab der angegebenen Position bis zum nächsten '/' bzw. bis zum Ende zurück.
+	 */
+	private static String getSegment(final String path, final int start) {
+		final int ende = path.indexOf('/', start);
+		return (ende < 0) ? path.substring(start) : path.substring(start, ende);
+	}
+
+
+	/**
+	 * Prüft, ob ab der angegebenen Position noch ein Zeichen außer '/' folgt, d.h. ob dort noch ein
+	 * weiteres Segment beginnt.
+	 */
+	private static boolean hatWeitereSegmente(final String path, final int start) {
+		for (int i = start; i < path.length(); i++)
+			if (path.charAt(i) != '/')
+				return true;
+		return false;
+	}
+
+
+	/**
+	 * Gibt die Art des Zugriffs zurück.
+	 *
+	 * @return die Art des Zugriffs
+	 */
+	public Zugriff getZugriff() {
+		return zugriff;
+	}
+
+
+	/**
+	 * Gibt das Schema zurück, auf welches zugegriffen wird. Bei einem anonymen Zugriff oder bei einem Zugriff ohne
+	 * Angabe eines Schemas wird ein leerer String zurückgegeben.
+	 *
+	 * @return das Schema oder ein leerer String
+	 */
+	public String getSchema() {
+		return schema;
+	}
+
+}
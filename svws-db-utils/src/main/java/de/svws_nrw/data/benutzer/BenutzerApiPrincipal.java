@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.ws.rs.core.Response.Status;
 import de.svws_nrw.config.SVWSKonfiguration;
 import de.svws_nrw.db.Benutzer;
+import de.svws_nrw.db.BenutzerCache;
 import de.svws_nrw.db.DBConfig;
 import de.svws_nrw.db.DBEntityManager;
 import de.svws_nrw.db.DBException;
@@ -89,64 +90,26 @@ public final class BenutzerApiPrincipal implements Principal, Serializable {
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
 	public static BenutzerApiPrincipal login(final String username, final String password, final HttpServletRequest request) throws ApiOperationException {
-		final String path = request.getPathInfo();
-		if (path == null)
+		// Klassifiziere den Pfad der Anfrage (anonymer Zugriff, DB-Root-Zugriff oder Zugriff auf ein Schema)
+		final BenutzerApiPfad pfad = BenutzerApiPfad.of(request.getPathInfo());
+		if (pfad.getZugriff() == BenutzerApiPfad.Zugriff.UNGUELTIG)
 			return null;
 
-		// Prüfe auf illegale Zugriffe die mit "/index.php" beginnen und lehne den Zugriff ab
-		if (path.startsWith("/index.php"))
-			return null;
-
-		// Prüfe, ob die Pfade "/debug/" oder "/openapi/" angefragt werden. Hier erfolgt immer ein anonymer Zugriff und keine Überprüfung über die DB
-		boolean isAnonymous = path.matches("/debug/.*") || path.matches("/openapi/.*");
-		// Prüfe, ob aufgrund der Konfiguration ein anonymer Zugriff auf den SVWS-Client ermöglicht werden soll
-		if ((!SVWSKonfiguration.get().isEnableClientProtection())
-				&& (path.matches("/") || path.matches("/.*\\.html")
-					|| path.matches("/.*\\.js") || path.matches("/.*\\.js.map") || path.matches("/js/.*")
-					|| path.matches("/.*\\.css") || path.matches("/.*\\.css.map") || path.matches("/css/.*")
-					|| path.matches("/fonts/.*")
-					|| path.matches("/.*\\.ico") || path.matches("/.*\\.png")
-					|| path.matches("/assets/.*"))) {
-			isAnonymous = true;
-		}
-
-		// Spezieller DB-Zugriff für "/api/schema/root/" - Hier muss eine Anmeldung mit einem DB-Passwort erfolgen, da Operationen direkt das Schema manipulieren
-		final boolean isDBAuthentication = path.matches("/api/schema/root/.*")
-				|| path.matches("/api/schema/liste/.*")
-				|| path.matches("/api/schema/create/.*")
-				|| path.matches("/api/schema/import/.*")
-				|| path.matches("/api/schema/export/.*")
-				|| path.matches("/api/schema/update/.*")
-				|| path.matches("/api/schema/migrate/.*");
-
-		// Bestimme das Schema, auf welches zugegriffen wird anhand des aktuellen Pfades - gehe zunächst davon aus, dass kein Schema gewählt ist
-		String schema = "";
-		if ((!isAnonymous) && (!isDBAuthentication)) {
-			final var pathelements = path.split("/");
-			if ((pathelements.length > 2) && ("".equals(pathelements[0])) && (("db".equals(pathelements[1])) || ("dav".equals(pathelements[1]))))
-				schema = pathelements[2];
-		}
-
-		// Erzeuge ggf. einen anonymen Principal
-		if (isAnonymous && (!isDBAuthentication))
+		// Erzeuge ggf. einen anonymen Principal. Bei den Pfaden "/debug/" oder "/openapi/" erfolgt immer ein anonymer Zugriff
+		// und keine Überprüfung über die DB. Bei Ressourcen des SVWS-Clients erfolgt ein anonymer Zugriff, falls dies
+		// aufgrund der Konfiguration ermöglicht werden soll
+		if ((pfad.getZugriff() == BenutzerApiPfad.Zugriff.ANONYM)
+				|| ((pfad.getZugriff() == BenutzerApiPfad.Zugriff.CLIENT) && (!SVWSKonfiguration.get().isEnableClientProtection())))
 			return new BenutzerApiPrincipal();
 
-		// Prüfe, ob ein Zugriff als Root auf das DBMS nötig ist
-		if (isDBAuthentication) {
+		// Das Schema, auf welches zugegriffen wird - ist kein Schema gewählt, so ist dies ein leerer String
+		final String schema = pfad.getSchema();
+
+		// Prüfe, ob ein Zugriff als Root auf das DBMS nötig ist (z.B. bei "/api/schema/root/"), da Operationen direkt das Schema manipulieren
+		if (pfad.getZugriff() == BenutzerApiPfad.Zugriff.DB_ROOT) {
 			// Prüfe, ob der root-Zugriff per Konfiguration deaktiviert wurde. Dann darf aus Sicherheitgründen auch keine Kennwort-Prüfung stattfinden!
 			if (SVWSKonfiguration.get().isDBRootAccessDisabled())
 				return null;
-			// Prüfe, ob eine Anmeldung über das root-Schema erfolgt oder über ein spezielle Schema
-			final boolean useRootSchema = path.matches("/api/schema/root/.*");
-			if (!useRootSchema) {
-				final var pathelements = path.split("/");
-				if ((pathelements.length > 4) && ("".equals(pathelements[0])) && ("api".equals(pathelements[1])) && ("schema".equals(pathelements[2]))) {
-					if ("liste".equals(pathelements[3]))
-						schema = "information_schema";
-					else
-						schema = pathelements[4];
-				}
-			}
 			// Erstelle eine DB-Konfiguration für den Datenbank-Root-Zugriff mit den angegebenen Benutzerdaten
 			// An dieser Stelle kann nicht vorausgesetzt werden, dass ein anderes SVWS-Schema bereits generiert wurde.
 			DBConfig rootConfig = SVWSKonfiguration.get().getRootDBConfig(username, password);
@@ -181,6 +144,17 @@ public final class BenutzerApiPrincipal implements Principal, Serializable {
 				throw new ApiOperationException(Status.SERVICE_UNAVAILABLE, "Datenbank-Schema ist zur Zeit aufgrund von internen Operationen gesperrt. Der Zugriff kann später nochmals versucht werden.");
 		}
 
+		// Prüfe, ob bereits eine gültige Anmeldung mit diesen Anmeldedaten zwischengespeichert wurde. Bei einer Anmeldung
+		// über die Datenbank wird nicht zwischengespeichert, da die Verbindungsdaten vom Benutzer abhängen.
+		final BenutzerCache cache = BenutzerCache.get();
+		final String cacheSchema = config.useDBLogin() ? null : config.getDBSchema();
+		if (cacheSchema != null) {
+			final Benutzer cached = cache.get(cacheSchema, username, password);
+			if (cached != null)
+				return new BenutzerApiPrincipal(cached);
+		}
+		final long cacheGeneration = (cacheSchema == null) ? 0 : cache.getGeneration(cacheSchema);
+
 		if (config.useDBLogin()) {
 			// Setze den übergebene Benutzername und das Kennwort auch für die Datenbankverbindung, falls die DB-Konfiguration eine Anmeldung per SVWS-Benutzer vorsieht
 			config = config.switchUser(username, password);
@@ -200,6 +174,9 @@ public final class BenutzerApiPrincipal implements Principal, Serializable {
 			// Lese die Benutzerkompetenzen aus der Datenbank
 			DBBenutzerUtils.leseKompetenzen(user);
 
+			// Speichere die Anmeldung für weitere Anfragen zwischen
+			if (cacheSchema != null)
+				cache.put(cacheSchema, username, password, user, cacheGeneration);
 			return new BenutzerApiPrincipal(user);
 		} catch (@SuppressWarnings("unused") final DBException de) {
 			return null;
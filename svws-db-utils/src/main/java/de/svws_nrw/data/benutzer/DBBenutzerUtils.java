@@ -2,6 +2,7 @@ package de.svws_nrw.data.benutzer;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 
@@ -13,14 +14,19 @@ import de.svws_nrw.data.ThrowingFunction;
 import de.svws_nrw.db.Benutzer;
 import de.svws_nrw.db.DBConfig;
 import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.DBKatalogCache;
 import de.svws_nrw.db.dto.current.views.benutzer.DTOViewBenutzer;
 import de.svws_nrw.db.dto.current.views.benutzer.DTOViewBenutzerKompetenz;
 import de.svws_nrw.db.dto.current.views.benutzer.DTOViewBenutzerdetails;
+import de.svws_nrw.db.schema.SchemaRevisionen;
 import de.svws_nrw.db.utils.ApiOperationException;
 import de.svws_nrw.db.utils.ApiUtils;
 import de.svws_nrw.ext.jbcrypt.BCrypt;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.Response.Status;
 
 
@@ -29,6 +35,13 @@ import jakarta.ws.rs.core.Response.Status;
  */
 public final class DBBenutzerUtils {
 
+	/**
+	 * Das Präfix für ETags auf Basis von Änderungszählern. Es wird beim Start des Servers bestimmt, so dass
+	 * nach einem Neustart, z.B. bei einem Update mit einem geänderten Format der Daten, keine alten ETags
+	 * mehr gültig sind.
+	 */
+	private static final String ETAG_PRAEFIX = "v" + Long.toString(System.currentTimeMillis(), Character.MAX_RADIX) + "-";
+
 	private DBBenutzerUtils() {
 		throw new IllegalStateException("Instantiation of " + DBBenutzerUtils.class.getName() + " not allowed");
 	}
@@ -117,7 +130,7 @@ public final class DBBenutzerUtils {
 			final String path = request.getRequestURI();
 			if (path == null)
 				throw new ApiOperationException(Status.SERVICE_UNAVAILABLE, "Der Dienst ist noch nicht verfügbar, da kein gültiger Pfad angegeben wurde.");
-			final boolean allowDeactivatedSchema = path.matches("/api/schema/import/.*") || path.matches("/api/schema/migrate/.*");
+			final boolean allowDeactivatedSchema = BenutzerApiPfad.erlaubtDeaktiviertesSchema(path);
 			if (SVWSKonfiguration.get().isDeactivatedSchema(config.getDBSchema()) && !allowDeactivatedSchema)
 				throw new ApiOperationException(Status.SERVICE_UNAVAILABLE, "Datenbank-Schema ist zur Zeit deaktviert, da es fehlerhaft ist. Bitte wenden Sie sich an Ihren System-Administrator.");
 			if (SVWSKonfiguration.get().isLockedSchema(config.getDBSchema()))
@@ -317,6 +330,67 @@ public final class DBBenutzerUtils {
 	}
 
 
+	/**
+	 * Führt die übergebene Aufgabe wie {@link #runWithTransaction(ThrowingFunction, HttpServletRequest, ServerMode, BenutzerKompetenz...)}
+	 * aus und ergänzt eine erfolgreiche Response um ein ETag. Das ETag wird in derselben Transaktion vor der Aufgabe aus den
+	 * Änderungszählern der Tabellen zu den übergebenen DTO-Klassen bestimmt (siehe {@link DBKatalogCache#getVersion(DBEntityManager, List)}).
+	 * Stimmt es mit dem If-None-Match-Header der Anfrage überein, so wird die Aufgabe nicht ausgeführt und nur
+	 * {@link Status#NOT_MODIFIED} zurückgegeben. Liegen für das Schema oder eine der Tabellen keine Änderungszähler
+	 * vor oder hat das Schema eine Revision vor {@link SchemaRevisionen#REV_15}, so wird die Aufgabe ohne ETag ausgeführt.
+	 *
+	 * Wichtig: Die DTO-Klassen müssen alle Tabellen abdecken, aus denen die Aufgabe Daten liest!
+	 *
+	 * @param task          die auszuführende Aufgabe
+	 * @param request       das HTTP-Request-Objekt
+	 * @param mode          der benötigte Server-Mode für den API-Zugriff
+	 * @param dtoKlassen    die DTO-Klassen der Tabellen, aus denen die Aufgabe Daten liest
+	 * @param kompetenzen   die zu prüfenden Kompetenzen
+	 *
+	 * @return die Response zu der Aufgabe
+	 */
+	public static Response runWithTransactionAndETag(final ThrowingFunction<DBEntityManager, Response> task, final HttpServletRequest request,
+			final ServerMode mode, final List<Class<?>> dtoKlassen, final BenutzerKompetenz... kompetenzen) {
+		final DBKatalogCache cache = DBKatalogCache.get();
+		return runWithTransaction(conn -> runWithETag(conn, cache.getRevision(conn), cache.getVersion(conn, dtoKlassen),
+				request.getHeader(HttpHeaders.IF_NONE_MATCH), task), request, mode, kompetenzen);
+	}
+
+
+	/**
+	 * Führt die übergebene Aufgabe aus und ergänzt eine erfolgreiche Response um ein ETag zu der übergebenen
+	 * Version. Ist das ETag in dem übergebenen Wert des If-None-Match-Headers enthalten, so wird die Aufgabe nicht
+	 * ausgeführt und nur {@link Status#NOT_MODIFIED} zurückgegeben. Ist keine Version angegeben oder hat das Schema
+	 * eine Revision vor {@link SchemaRevisionen#REV_15}, so wird nur die Aufgabe ausgeführt und kein ETag gesetzt. Erst
+	 * ab dieser Revision werden die Änderungen an allen Tabellen gezählt, aus denen die Daten mit ETag gelesen werden.
+	 *
+	 * @param conn          die Datenbank-Verbindung für die Aufgabe
+	 * @param revision      die Revision des Schemas gemäß {@link DBKatalogCache#getRevision(DBEntityManager)}
+	 * @param version       die Version der Daten gemäß {@link DBKatalogCache#getVersion(DBEntityManager, List)} oder null
+	 * @param ifNoneMatch   der Wert des If-None-Match-Headers der Anfrage oder null
+	 * @param task          die auszuführende Aufgabe
+	 *
+	 * @return die Response zu der Aufgabe
+	 *
+	 * @throws Exception   falls die Aufgabe mit einer Exception abbricht
+	 */
+	static Response runWithETag(final DBEntityManager conn, final long revision, final String version, final String ifNoneMatch,
+			final ThrowingFunction<DBEntityManager, Response> task) throws Exception {
+		if ((version == null) || (revision < SchemaRevisionen.REV_15.revision))
+			return task.applyThrows(conn);
+		final String etag = ETAG_PRAEFIX + version;
+		final ResponseBuilder builder;
+		if (ApiUtils.istETagEnthalten(ifNoneMatch, etag)) {
+			builder = Response.notModified();
+		} else {
+			final Response response = task.applyThrows(conn);
+			if (response.getStatus() != Status.OK.getStatusCode())
+				return response;
+			builder = Response.fromResponse(response);
+		}
+		return builder.tag(new EntityTag(etag)).header(HttpHeaders.CACHE_CONTROL, "private, no-cache").build();
+	}
+
+
 	/**
 	 * Führt die übergebene Aufgabe auf der Datenbank aus und gibt bei Erfolg die Response der Aufgabe zurück.
 	 * Im Fehlerfall wird eine SimpleOperationRespose zurückgegeben.
@@ -127,7 +127,7 @@ public final class DataBenutzerDaten extends DataManager<Long> {
     private boolean istKompetenzZulaessig(final List<Long> kids) throws ApiOperationException {
       //Überprüfe die Zulässigkeit der Kompetenzen für die Schulform
         //Nehme als Schulform GY als Beispiel
-        final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+        final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
         if (schule == null)
             throw new ApiOperationException(Status.NOT_FOUND, "Keine Schule angelegt.");
         final Schulform schulform = Schulform.getByNummer(schule.SchulformNr);
@@ -19,7 +19,6 @@ import de.svws_nrw.db.dto.current.schild.benutzer.DTOBenutzergruppe;
 import de.svws_nrw.db.dto.current.schild.benutzer.DTOBenutzergruppenKompetenz;
 import de.svws_nrw.db.dto.current.schild.benutzer.DTOBenutzergruppenMitglied;
 import de.svws_nrw.db.dto.current.schild.schule.DTOEigeneSchule;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.schema.Schema;
 import de.svws_nrw.db.utils.ApiOperationException;
 import jakarta.ws.rs.core.MediaType;
@@ -124,7 +123,7 @@ public final class DataBenutzergruppeDaten extends DataManager<Long> {
       //Überprüfe die Zulässigkeit der Kompetenzen für die Schulform
         //Nehme als Schulform GY als Beispiel
 
-        final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+        final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
         if (schule == null)
             throw new ApiOperationException(Status.NOT_FOUND, "Keine Schule angelegt.");
         final Schulform schulform = Schulform.getByNummer(schule.SchulformNr);
@@ -404,8 +403,7 @@ public final class DataBenutzergruppeDaten extends DataManager<Long> {
         final Map<String, Object> map = JSONMapper.toMap(is);
         if (map.size() > 0) {
             // Bestimme die ID der neuen Benutzergruppe
-            final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Benutzergruppen");
-            final Long id = lastID == null ? 1 : lastID.MaxID + 1;
+            final long id = conn.transactionGetNextID(DTOBenutzergruppe.class);
 
             // TODO Konstruktor-Parameter überprüfen
             bg = new DTOBenutzergruppe(id, "temp", false);
@@ -10,7 +10,6 @@ import de.svws_nrw.core.data.betrieb.BetriebAnsprechpartner;
 import de.svws_nrw.data.DataManager;
 import de.svws_nrw.data.JSONMapper;
 import de.svws_nrw.db.DBEntityManager;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.dto.current.schild.katalog.DTOAnsprechpartnerAllgemeineAdresse;
 import de.svws_nrw.db.dto.current.schild.katalog.DTOKatalogAllgemeineAdresse;
 import de.svws_nrw.db.schema.Schema;
@@ -151,8 +150,7 @@ public final class DataBetriebAnsprechpartner extends DataManager<Long> {
 		final Map<String, Object> map = JSONMapper.toMap(is);
 		if (map.size() > 0) {
 			// Bestimme die ID des neuen Ansprechpartners
-			final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, "AllgAdrAnsprechpartner");
-			final Long id = (lastID == null) ? 1 : lastID.MaxID + 1;
+			final long id = conn.transactionGetNextID(DTOAnsprechpartnerAllgemeineAdresse.class);
 			final DTOKatalogAllgemeineAdresse betrieb = conn.queryByKey(DTOKatalogAllgemeineAdresse.class, betrieb_id);
 			if (betrieb == null)
 				throw new ApiOperationException(Status.NOT_FOUND, "Ein Betrieb mit der ID " + betrieb_id + " existiert in der Datenbank nicht.");
@@ -13,7 +13,6 @@ import de.svws_nrw.db.DBEntityManager;
 import de.svws_nrw.db.dto.current.schild.katalog.DTOKatalogAdressart;
 import de.svws_nrw.db.dto.current.schild.katalog.DTOKatalogAllgemeineAdresse;
 import de.svws_nrw.db.dto.current.schild.katalog.DTOOrtsteil;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.schema.Schema;
 import de.svws_nrw.db.utils.ApiOperationException;
 import jakarta.ws.rs.core.MediaType;
@@ -104,8 +103,7 @@ public final class DataBetriebsStammdaten extends DataManager<Long> {
 	public Response create(final InputStream is) throws ApiOperationException {
 		DTOKatalogAllgemeineAdresse betrieb = null;
 		// Bestimme die ID des neuen Betriebs
-		final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, "K_AllgAdresse");
-		final Long id = lastID == null ? 1 : lastID.MaxID + 1;
+		final long id = conn.transactionGetNextID(DTOKatalogAllgemeineAdresse.class);
 
 		// Betrieb anlegen
 		betrieb = new DTOKatalogAllgemeineAdresse(id);
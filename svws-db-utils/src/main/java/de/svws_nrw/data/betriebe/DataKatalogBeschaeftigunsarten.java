@@ -13,7 +13,6 @@ import de.svws_nrw.core.data.kataloge.KatalogEintrag;
 import de.svws_nrw.data.DataManager;
 import de.svws_nrw.data.JSONMapper;
 import de.svws_nrw.db.DBEntityManager;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.dto.current.schild.berufskolleg.DTOBeschaeftigungsart;
 import de.svws_nrw.db.schema.Schema;
 import de.svws_nrw.db.utils.ApiOperationException;
@@ -97,8 +96,7 @@ public final class DataKatalogBeschaeftigunsarten extends DataManager<Long> {
 	public Response create(final InputStream is) throws ApiOperationException {
 		DTOBeschaeftigungsart dtoObjekt = null;
 		// Bestimme die ID der neuen Beschäftigungsart
-		final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, "K_BeschaeftigungsArt");
-		final Long id = lastID == null ? 1 : lastID.MaxID + 1;
+		final long id = conn.transactionGetNextID(DTOBeschaeftigungsart.class);
 
 		// Beschätigungsart anlegen
 		dtoObjekt = new DTOBeschaeftigungsart(id, "");
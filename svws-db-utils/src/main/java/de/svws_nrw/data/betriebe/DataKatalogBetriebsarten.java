@@ -13,7 +13,6 @@ import de.svws_nrw.core.data.kataloge.KatalogEintrag;
 import de.svws_nrw.data.DataManager;
 import de.svws_nrw.data.JSONMapper;
 import de.svws_nrw.db.DBEntityManager;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.dto.current.schild.katalog.DTOKatalogAdressart;
 import de.svws_nrw.db.schema.Schema;
 import de.svws_nrw.db.utils.ApiOperationException;
@@ -98,8 +97,7 @@ public final class DataKatalogBetriebsarten extends DataManager<Long> {
         final Map<String, Object> map = JSONMapper.toMap(is);
         if (map.size() > 0) {
             // Bestimme die ID der neuen Ansprechpartners
-            final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, "K_Adressart");
-            final Long id = lastID == null ? 1 : lastID.MaxID + 1;
+            final long id = conn.transactionGetNextID(DTOKatalogAdressart.class);
 
             // Schülerbetrieb anlegen
             k_addressart = new DTOKatalogAdressart(id, "");
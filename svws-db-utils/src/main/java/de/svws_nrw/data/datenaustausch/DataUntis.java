@@ -106,11 +106,6 @@ public final class DataUntis {
         for (final StundenplanSchiene schiene : schienen)
         	mapSchienen.put(schiene.idJahrgang, schiene.nummer, schiene);
 		// Erzeuge die nötigen Einträge für den Stundenplan
-        long next_uid = conn.transactionGetNextID(DTOStundenplanUnterricht.class);
-        long next_lid = conn.transactionGetNextID(DTOStundenplanUnterrichtLehrer.class);
-        long next_kid = conn.transactionGetNextID(DTOStundenplanUnterrichtKlasse.class);
-        long next_rid = conn.transactionGetNextID(DTOStundenplanUnterrichtRaum.class);
-        long next_sid = conn.transactionGetNextID(DTOStundenplanUnterrichtSchiene.class);
         final Set<LongArrayKey> setKursUnterricht = new HashSet<>();
         for (final UntisGPU001 u : unterrichte) {
         	logger.logLn("-> Importiere Unterricht: " + u.toString());
@@ -138,19 +133,19 @@ public final class DataUntis {
 					throw new ApiOperationException(Status.NOT_FOUND, "Das Fach mit dem Kürzel %s konnte nicht in der Datenbank gefunden werden.".formatted(u.fachKuerzel));
 				}
 				// Erstelle den Klassen-Unterricht ...
-				final long uid = next_uid++;
+				final long uid = conn.transactionGetNextID(DTOStundenplanUnterricht.class);
 				final DTOStundenplanUnterricht dtoUnterricht = new DTOStundenplanUnterricht(uid, zeitraster.id, 0, fach.id);
 				dtoUnterricht.Kurs_ID = null;
 				conn.transactionPersist(dtoUnterricht);
 				conn.transactionFlush();
 				// ... Lehrer ...
 				if (lehrer != null)
-					conn.transactionPersist(new DTOStundenplanUnterrichtLehrer(next_lid++, uid, lehrer.id));
+					conn.transactionPersist(new DTOStundenplanUnterrichtLehrer(conn.transactionGetNextID(DTOStundenplanUnterrichtLehrer.class), uid, lehrer.id));
 				// ... Klasse ...
-				conn.transactionPersist(new DTOStundenplanUnterrichtKlasse(next_kid++, uid, klasse.ID));
+				conn.transactionPersist(new DTOStundenplanUnterrichtKlasse(conn.transactionGetNextID(DTOStundenplanUnterrichtKlasse.class), uid, klasse.ID));
 				// ... Raum
 				if (u.raumKuerzel != null)
-					conn.transactionPersist(new DTOStundenplanUnterrichtRaum(next_rid++, uid, DataStundenplanRaeume.getOrCreateRaum(conn, idStundenplan, u.raumKuerzel).id));
+					conn.transactionPersist(new DTOStundenplanUnterrichtRaum(conn.transactionGetNextID(DTOStundenplanUnterrichtRaum.class), uid, DataStundenplanRaeume.getOrCreateRaum(conn, idStundenplan, u.raumKuerzel).id));
 			} else {
 				// Prüfe, ob der Kursunterricht schon mit einem früheren Datensatz bearbeitet wurde
 				final long[] key = { kurs.id, u.idUnterricht, u.wochentag, u.stunde };
@@ -159,26 +154,26 @@ public final class DataUntis {
 					continue;
 				}
 				// Erstelle den Kurs-Unterricht ...
-				final long uid = next_uid++;
+				final long uid = conn.transactionGetNextID(DTOStundenplanUnterricht.class);
 				final DTOStundenplanUnterricht dtoUnterricht = new DTOStundenplanUnterricht(uid, zeitraster.id, 0, kurs.idFach);
 				dtoUnterricht.Kurs_ID = kurs.id;
 				conn.transactionPersist(dtoUnterricht);
 				conn.transactionFlush();
 				// ... Lehrer ...
 				if (lehrer != null)
-					conn.transactionPersist(new DTOStundenplanUnterrichtLehrer(next_lid++, uid, lehrer.id));
+					conn.transactionPersist(new DTOStundenplanUnterrichtLehrer(conn.transactionGetNextID(DTOStundenplanUnterrichtLehrer.class), uid, lehrer.id));
 				// ... Schiene ...
 				for (final long idJahrgang : kurs.idJahrgaenge) {
 					for (final int schiene : kurs.schienen) {
 						final StundenplanSchiene s = mapSchienen.getOrNull(idJahrgang, schiene);
 						if (s == null)
 							throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, "Interner Fehler beim Anlegen der Schienen für den Kursunterricht des Stundenplans.");
-						conn.transactionPersist(new DTOStundenplanUnterrichtSchiene(next_sid++, uid, s.id));
+						conn.transactionPersist(new DTOStundenplanUnterrichtSchiene(conn.transactionGetNextID(DTOStundenplanUnterrichtSchiene.class), uid, s.id));
 					}
 				}
 				// ... Raum
 				if (u.raumKuerzel != null)
-					conn.transactionPersist(new DTOStundenplanUnterrichtRaum(next_rid++, uid, DataStundenplanRaeume.getOrCreateRaum(conn, idStundenplan, u.raumKuerzel).id));
+					conn.transactionPersist(new DTOStundenplanUnterrichtRaum(conn.transactionGetNextID(DTOStundenplanUnterrichtRaum.class), uid, DataStundenplanRaeume.getOrCreateRaum(conn, idStundenplan, u.raumKuerzel).id));
 			}
 			conn.transactionFlush();
 		}
@@ -4,18 +4,25 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
-import java.sql.Timestamp;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import de.svws_nrw.base.compression.CompressionException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
 import de.svws_nrw.core.data.enm.ENMDaten;
 import de.svws_nrw.core.data.enm.ENMFach;
 import de.svws_nrw.core.data.enm.ENMFloskel;
@@ -25,6 +32,9 @@ import de.svws_nrw.core.data.enm.ENMKlasse;
 import de.svws_nrw.core.data.enm.ENMLeistung;
 import de.svws_nrw.core.data.enm.ENMLerngruppe;
 import de.svws_nrw.core.data.enm.ENMSchueler;
+import de.svws_nrw.core.logger.LogConsumerConsole;
+import de.svws_nrw.core.logger.LogLevel;
+import de.svws_nrw.core.logger.Logger;
 import de.svws_nrw.core.types.Note;
 import de.svws_nrw.core.types.SchuelerStatus;
 import de.svws_nrw.core.types.kurse.ZulaessigeKursart;
@@ -35,6 +45,10 @@ import de.svws_nrw.data.JSONMapper;
 import de.svws_nrw.data.oauth2.DataOauthClientSecrets;
 import de.svws_nrw.data.oauth2.OAuth2Client;
 import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.DBException;
+import de.svws_nrw.db.converter.current.BooleanPlusMinusDefaultMinusConverter;
+import de.svws_nrw.db.converter.current.NoteConverterFromKuerzel;
+import de.svws_nrw.db.dto.current.client.DTOClientKonfigurationGlobal;
 import de.svws_nrw.db.dto.current.schild.faecher.DTOFach;
 import de.svws_nrw.db.dto.current.schild.katalog.DTOFloskelgruppen;
 import de.svws_nrw.db.dto.current.schild.katalog.DTOFloskeln;
@@ -52,6 +66,12 @@ import de.svws_nrw.db.dto.current.schild.schule.DTOSchuljahresabschnitte;
 import de.svws_nrw.db.dto.current.svws.auth.DTOSchuleOAuthSecrets;
 import de.svws_nrw.db.dto.current.svws.enm.DTOEnmLeistungsdaten;
 import de.svws_nrw.db.dto.current.svws.enm.DTOEnmLernabschnittsdaten;
+import de.svws_nrw.db.schema.Schema;
+import de.svws_nrw.db.schema.tabellen.Tabelle_EnmLeistungsdaten;
+import de.svws_nrw.db.schema.tabellen.Tabelle_EnmLernabschnittsdaten;
+import de.svws_nrw.db.schema.tabellen.Tabelle_SchuelerLD_PSFachBem;
+import de.svws_nrw.db.schema.tabellen.Tabelle_SchuelerLeistungsdaten;
+import de.svws_nrw.db.schema.tabellen.Tabelle_SchuelerLernabschnittsdaten;
 import de.svws_nrw.db.utils.ApiOperationException;
 import de.svws_nrw.db.utils.dto.enm.DTOENMLehrerSchuelerAbschnittsdaten;
 import jakarta.ws.rs.core.MediaType;
@@ -68,6 +88,22 @@ public final class DataENMDaten extends DataManager<Long> {
 	private static final String ENM_DOWNLOAD_PATH = "/api/export";
 	private static final String ENM_TRUNCATE_PATH = "/api/truncate";
 
+	/** Der Anwendungsname, unter welchem der Zeitstempel der letzten erfolgreichen Synchronisation in der globalen Client-Konfiguration abgelegt wird */
+	private static final String SYNC_APPNAME = "SVWS-Server";
+
+	/** Der Schlüssel, unter welchem der Zeitstempel der letzten erfolgreichen Synchronisation in der globalen Client-Konfiguration abgelegt wird */
+	private static final String SYNC_SCHLUESSEL = "ENM.Synchronisation.Zeitstempel";
+
+	/** Das Präfix der Schlüssel, unter welchen die Prüfsummen der Schüler bei der letzten erfolgreichen Synchronisation abgelegt werden */
+	private static final String SYNC_SCHLUESSEL_PRUEFSUMMEN = "ENM.Synchronisation.Pruefsummen.";
+
+	/** Die maximale Anzahl an Prüfsummen in einem Eintrag der globalen Client-Konfiguration */
+	private static final int SYNC_PRUEFSUMMEN_JE_EINTRAG = 2000;
+
+	/** Das Format der Zeitstempel in den ENM-Daten */
+	private static final DateTimeFormatter TS_FORMAT = new DateTimeFormatterBuilder().appendPattern("yyyy-MM-dd HH:mm:ss")
+			.appendFraction(ChronoField.MILLI_OF_SECOND, 0, 3, true).toFormatter();
+
 
 	/**
 	 * Erstellt einen neuen {@link DataManager} für den Core-DTO {@link ENMDaten}.
@@ -115,22 +151,6 @@ public final class DataENMDaten extends DataManager<Long> {
 		throw new UnsupportedOperationException();
 	}
 
-	/**
-	 * Gibt die ENM-Daten aller Lehrer als mit GZIP komprimiertes byte[] zurück.
-	 *
-	 * @return das GZIP-komprimierte byte[].
-	 *
-	 * @throws ApiOperationException   im Fehlerfall
-	 */
-	public byte[] getAllGZIPBytes() throws ApiOperationException {
-		final ENMDaten daten = getDaten(null);
-		try {
-			return JSONMapper.gzipByteArrayFromObject(daten);
-		} catch (final CompressionException ce) {
-			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, ce);
-		}
-	}
-
 	/**
 	 * Ermittelt die ENM-Daten zu dem Lehrer mit der angegebenen ID.
 	 * Ist die ID null so werden die ENM-Daten für alle Lehrer des aktuellen
@@ -321,7 +341,7 @@ public final class DataENMDaten extends DataManager<Long> {
 	}
 
 	private DTOEigeneSchule getSchule() throws ApiOperationException {
-		final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+		final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
 		if (schule == null)
 			throw new ApiOperationException(Status.NOT_FOUND);
 		return schule;
@@ -352,14 +372,14 @@ public final class DataENMDaten extends DataManager<Long> {
 	}
 
 	private Map<Long, DTOFach> getFaecherListe() throws ApiOperationException {
-		final List<DTOFach> faecher = conn.queryAll(DTOFach.class);
+		final List<DTOFach> faecher = conn.queryAllCached(DTOFach.class);
 		if (faecher.isEmpty())
 			throw new ApiOperationException(Status.NOT_FOUND);
 		return faecher.stream().collect(Collectors.toMap(f -> f.ID, f -> f));
 	}
 
 	private Map<Long, DTOJahrgang> getJahrgangsListe() throws ApiOperationException {
-		final List<DTOJahrgang> jahrgaenge = conn.queryAll(DTOJahrgang.class);
+		final List<DTOJahrgang> jahrgaenge = conn.queryAllCached(DTOJahrgang.class);
 		if (jahrgaenge.isEmpty())
 			throw new ApiOperationException(Status.NOT_FOUND);
 		return jahrgaenge.stream().collect(Collectors.toMap(j -> j.ID, j -> j));
@@ -427,16 +447,77 @@ public final class DataENMDaten extends DataManager<Long> {
 		}
 	}
 
+	/**
+	 * Das Ergebnis eines Imports von ENM-Daten. Gezählt werden dabei die Datensätze der Lernabschnitte und
+	 * der Leistungen der importierten Schüler.
+	 *
+	 * @param angewendet     die Anzahl der Datensätze, bei denen mindestens ein Wert aus dem ENM übernommen wurde
+	 * @param unveraendert   die Anzahl der Datensätze, bei denen sich kein Wert unterscheidet
+	 * @param konflikte      die Anzahl der Datensätze, bei denen abweichende Werte aus dem ENM nicht übernommen wurden,
+	 *                       da die Werte in der SVWS-Datenbank neuer sind
+	 */
+	public record ENMImportBericht(int angewendet, int unveraendert, int konflikte) {
+		// kein weiterer Inhalt
+	}
+
+
+	/**
+	 * Vergleicht beim Import die Werte eines Datensatzes aus dem ENM mit den aktuellen Werten in der
+	 * SVWS-Datenbank anhand der Zeitstempel der einzelnen Felder.
+	 */
+	static final class ImportVergleich {
+
+		/** Gibt an, ob mindestens ein Wert aus dem ENM übernommen wird */
+		boolean angewendet = false;
+
+		/** Gibt an, ob mindestens ein abweichender Wert aus dem ENM aufgrund eines neueren Zeitstempels in der SVWS-Datenbank nicht übernommen wird */
+		boolean konflikt = false;
+
+		/**
+		 * Übernimmt den Wert aus dem ENM in die Werte des Datensatzes, falls dieser abweicht und der Zeitstempel
+		 * aus dem ENM nach dem Zeitstempel in der SVWS-Datenbank liegt. Dabei wird auch der Zeitstempel übernommen.
+		 *
+		 * @param wertEnm   der Wert aus dem ENM
+		 * @param tsEnm     der Zeitstempel aus dem ENM
+		 * @param werte     die Werte des Datensatzes in der SVWS-Datenbank
+		 * @param iWert     der Index des Wertes
+		 * @param ts        die Zeitstempel des Datensatzes in der SVWS-Datenbank
+		 * @param iTs       der Index des Zeitstempels
+		 *
+		 * @return true, falls der Wert übernommen wurde, und ansonsten false
+		 */
+		boolean uebernehme(final Object wertEnm, final String tsEnm, final Object[] werte, final int iWert, final Object[] ts, final int iTs) {
+			if ((tsEnm == null) || tsEnm.isBlank() || Objects.equals(wertEnm, werte[iWert]))
+				return false;
+			final String tsSvws = (String) ts[iTs];
+			if ((tsSvws != null) && !tsSvws.isBlank() && !LocalDateTime.parse(tsEnm, TS_FORMAT).isAfter(LocalDateTime.parse(tsSvws, TS_FORMAT))) {
+				konflikt = true;
+				return false;
+			}
+			werte[iWert] = wertEnm;
+			ts[iTs] = tsEnm;
+			angewendet = true;
+			return true;
+		}
+
+	}
+
+
 	/**
 	 * Importiert die gegebenen ENMSchueler-Daten in die SVWS-Datenbank. Prüft dazu die Zeitstempel
-	 * der einzelnen Felder und aktualisiert neuere Datensätze und deren Zeitstempel.
+	 * der einzelnen Felder und aktualisiert neuere Datensätze und deren Zeitstempel. <br>
+	 * Die aktuellen Daten des Schuljahresabschnitts werden dabei zunächst in einem Durchgang eingelesen und
+	 * mit den Daten aus dem ENM verglichen. Anschließend werden nur die geänderten Datensätze in einer kurzen
+	 * Transaktion über JDBC-Batches aktualisiert.
 	 *
 	 * @param enmBytes   das byte[] mit dem JSON-Array der zu importierenden Schüler
 	 *
+	 * @return das Ergebnis des Imports
+	 *
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
-	public void importEnmDaten(final byte[] enmBytes) throws ApiOperationException {
-		ENMSchueler[] enmDaten;
+	public ENMImportBericht importEnmDaten(final byte[] enmBytes) throws ApiOperationException {
+		final ENMSchueler[] enmDaten;
 		try {
 			enmDaten = JSONMapper.mapper.readValue(enmBytes, ENMSchueler[].class);
 			// TODO kein ZIP auf diesem Endpunkt
@@ -444,156 +525,137 @@ public final class DataENMDaten extends DataManager<Long> {
 		} catch (@SuppressWarnings("unused") final IOException e) {
 			throw new ApiOperationException(Status.BAD_GATEWAY, "Antwort des ENM-Servers nicht parsebar.");
 		}
-		conn.transactionBegin();
+
+		// Lese die aktuellen Daten des Schuljahresabschnitts in einem Durchgang ein
 		final DTOEigeneSchule schule = getSchule();
 		final List<DTOSchuelerLernabschnittsdaten> slaDatenList = conn.queryNamed(
 				"DTOSchuelerLernabschnittsdaten.schuljahresabschnitts_id", schule.Schuljahresabschnitts_ID,
 				DTOSchuelerLernabschnittsdaten.class);
-		if (slaDatenList == null || slaDatenList.size() == 0) {
+		if (slaDatenList.isEmpty())
 			throw new ApiOperationException(Status.NOT_FOUND, "Lernabschnittsdaten für Schuljahresabschnitt nicht gefunden.");
-		}
+		final Map<Long, DTOSchuelerLernabschnittsdaten> slaById = slaDatenList.stream()
+				.collect(Collectors.toMap(sla -> sla.ID, Function.identity()));
 		final Map<Long, DTOSchuelerLernabschnittsdaten> slaBySchuelerId = slaDatenList.stream()
-				.collect(Collectors.toMap((sla) -> sla.Schueler_ID, Function.identity()));
-
-		final List<DTOSchuelerLeistungsdaten> slDatenList = conn.queryNamed("DTOSchuelerLeistungsdaten.abschnitt_id",
-				schule.Schuljahresabschnitts_ID, DTOSchuelerLeistungsdaten.class);
-		if (slDatenList == null) {
-			throw new ApiOperationException(Status.NOT_FOUND, "Leistungsdaten für Schuljahresabschnitt nicht gefunden.");
-		}
+				.collect(Collectors.toMap(sla -> sla.Schueler_ID, Function.identity(), (a, b) -> a));
+		final Map<Long, DTOEnmLernabschnittsdaten> enmLAById = conn.queryNamedMultiple("DTOEnmLernabschnittsdaten.id.multiple",
+				slaById.keySet(), DTOEnmLernabschnittsdaten.class).stream().collect(Collectors.toMap(la -> la.ID, Function.identity()));
+		final Map<Long, List<DTOSchuelerPSFachBemerkungen>> fachBemerkungenByAbschnittId = conn.queryNamedMultiple(
+				"DTOSchuelerPSFachBemerkungen.abschnitt_id.multiple", slaById.keySet(), DTOSchuelerPSFachBemerkungen.class).stream()
+				.collect(Collectors.groupingBy(fb -> fb.Abschnitt_ID));
+		final Map<Long, DTOSchuelerLeistungsdaten> leistungenById = conn.queryNamedMultiple("DTOSchuelerLeistungsdaten.abschnitt_id.multiple",
+				slaById.keySet(), DTOSchuelerLeistungsdaten.class).stream().collect(Collectors.toMap(ld -> ld.ID, Function.identity()));
+		final Map<Long, DTOEnmLeistungsdaten> enmLeistungenById = conn.queryNamedMultiple("DTOEnmLeistungsdaten.id.multiple",
+				leistungenById.keySet(), DTOEnmLeistungsdaten.class).stream().collect(Collectors.toMap(ld -> ld.ID, Function.identity()));
 
+		// Vergleiche die Daten aus dem ENM mit den aktuellen Daten und bestimme die zu aktualisierenden Datensätze
+		final List<Object[]> updatesLernabschnitte = new ArrayList<>();
+		final List<Object[]> updatesFachBemerkungen = new ArrayList<>();
+		final List<Object[]> updatesEnmLernabschnitte = new ArrayList<>();
+		final List<Object[]> updatesLeistungen = new ArrayList<>();
+		final List<Object[]> updatesEnmLeistungen = new ArrayList<>();
+		int angewendet = 0;
+		int unveraendert = 0;
+		int konflikte = 0;
 		for (final ENMSchueler enmSchueler : enmDaten) {
-			final DTOSchuelerLernabschnittsdaten sla = slaBySchuelerId.get(enmSchueler.id);
-			final List<DTOEnmLernabschnittsdaten> dtoEnmLAList = conn.queryNamed("DTOEnmLernabschnittsdaten.id", sla.ID,
-					DTOEnmLernabschnittsdaten.class);
-			if (dtoEnmLAList == null || dtoEnmLAList.size() != 1) {
+			DTOSchuelerLernabschnittsdaten sla = slaById.get(enmSchueler.lernabschnitt.id);
+			if ((sla == null) || (sla.Schueler_ID != enmSchueler.id))
+				sla = slaBySchuelerId.get(enmSchueler.id);
+			if (sla == null)
 				throw new ApiOperationException(Status.NOT_FOUND, "Lernabschnittsdaten nicht gefunden.");
-			}
-			final DTOEnmLernabschnittsdaten enmLA = dtoEnmLAList.get(0);
-
-			final List<DTOSchuelerPSFachBemerkungen> dtoFachbemerkungenList = conn.queryNamed(
-					"DTOSchuelerPSFachBemerkungen.abschnitt_id", sla.ID, DTOSchuelerPSFachBemerkungen.class);
-			if (dtoFachbemerkungenList == null || dtoFachbemerkungenList.size() != 1) {
+			final DTOEnmLernabschnittsdaten enmLA = enmLAById.get(sla.ID);
+			if (enmLA == null)
+				throw new ApiOperationException(Status.NOT_FOUND, "Lernabschnittsdaten nicht gefunden.");
+			final List<DTOSchuelerPSFachBemerkungen> dtoFachbemerkungenList = fachBemerkungenByAbschnittId.get(sla.ID);
+			if ((dtoFachbemerkungenList == null) || (dtoFachbemerkungenList.size() != 1))
 				throw new ApiOperationException(Status.NOT_FOUND, "Fachbemerkungen nicht gefunden.");
-			}
 			final DTOSchuelerPSFachBemerkungen fachBemerkungen = dtoFachbemerkungenList.get(0);
+
+			final Object[] la = { sla.ZeugnisBem, sla.SumFehlStd, sla.SumFehlStdU, sla.ID };
+			final Object[] fb = { fachBemerkungen.ASV, fachBemerkungen.AUE, fachBemerkungen.BemerkungVersetzung, fachBemerkungen.ID };
+			final Object[] tsLA = { enmLA.tsZeugnisBem, enmLA.tsSumFehlStd, enmLA.tsSumFehlStdU, enmLA.tsASV, enmLA.tsAUE, enmLA.tsBemerkungVersetzung, enmLA.ID };
+			final ImportVergleich vergleichLA = new ImportVergleich();
 			boolean laUpdaten = false;
 			boolean bemerkungenUpdaten = false;
-			bemerkungenUpdaten |= isEnmLatestThenAction(enmSchueler.bemerkungen.tsASV, enmLA.tsASV, () -> {
-				fachBemerkungen.ASV = enmSchueler.bemerkungen.ASV;
-				enmLA.tsASV = enmSchueler.bemerkungen.tsASV;
-			});
-			bemerkungenUpdaten |= isEnmLatestThenAction(enmSchueler.bemerkungen.tsAUE, enmLA.tsAUE, () -> {
-				fachBemerkungen.AUE = enmSchueler.bemerkungen.AUE;
-				enmLA.tsAUE = enmSchueler.bemerkungen.tsAUE;
-			});
-			bemerkungenUpdaten |= isEnmLatestThenAction(enmSchueler.bemerkungen.tsIndividuelleVersetzungsbemerkungen,
-					enmLA.tsBemerkungVersetzung, () -> {
-						fachBemerkungen.BemerkungVersetzung = enmSchueler.bemerkungen.individuelleVersetzungsbemerkungen;
-						enmLA.tsBemerkungVersetzung = enmSchueler.bemerkungen.tsIndividuelleVersetzungsbemerkungen;
-					});
-
-			laUpdaten |= isEnmLatestThenAction(enmSchueler.bemerkungen.tsZB, enmLA.tsZeugnisBem, () -> {
-				sla.ZeugnisBem = enmSchueler.bemerkungen.ZB;
-				enmLA.tsZeugnisBem = enmSchueler.bemerkungen.tsZB;
-			});
-
-			laUpdaten |= isEnmLatestThenAction(enmSchueler.lernabschnitt.tsFehlstundenGesamt, enmLA.tsSumFehlStd,
-					() -> {
-						sla.SumFehlStd = enmSchueler.lernabschnitt.fehlstundenGesamt;
-						enmLA.tsSumFehlStd = enmSchueler.lernabschnitt.tsFehlstundenGesamt;
-					});
-
-			laUpdaten |= isEnmLatestThenAction(enmSchueler.lernabschnitt.tsFehlstundenGesamtUnentschuldigt,
-					enmLA.tsSumFehlStdU, () -> {
-						sla.SumFehlStdU = enmSchueler.lernabschnitt.fehlstundenGesamtUnentschuldigt;
-						enmLA.tsSumFehlStdU = enmSchueler.lernabschnitt.tsFehlstundenGesamtUnentschuldigt;
-					});
-
-			if (bemerkungenUpdaten) {
-				conn.transactionPersist(fachBemerkungen);
-			}
-			if (laUpdaten) {
-				conn.transactionPersist(sla);
-			}
-			if (bemerkungenUpdaten || laUpdaten) {
-				conn.transactionPersist(enmLA);
+			if (enmSchueler.bemerkungen != null) {
+				bemerkungenUpdaten |= vergleichLA.uebernehme(enmSchueler.bemerkungen.ASV, enmSchueler.bemerkungen.tsASV, fb, 0, tsLA, 3);
+				bemerkungenUpdaten |= vergleichLA.uebernehme(enmSchueler.bemerkungen.AUE, enmSchueler.bemerkungen.tsAUE, fb, 1, tsLA, 4);
+				bemerkungenUpdaten |= vergleichLA.uebernehme(enmSchueler.bemerkungen.individuelleVersetzungsbemerkungen,
+						enmSchueler.bemerkungen.tsIndividuelleVersetzungsbemerkungen, fb, 2, tsLA, 5);
+				laUpdaten |= vergleichLA.uebernehme(enmSchueler.bemerkungen.ZB, enmSchueler.bemerkungen.tsZB, la, 0, tsLA, 0);
 			}
+			laUpdaten |= vergleichLA.uebernehme(enmSchueler.lernabschnitt.fehlstundenGesamt, enmSchueler.lernabschnitt.tsFehlstundenGesamt, la, 1, tsLA, 1);
+			laUpdaten |= vergleichLA.uebernehme(enmSchueler.lernabschnitt.fehlstundenGesamtUnentschuldigt,
+					enmSchueler.lernabschnitt.tsFehlstundenGesamtUnentschuldigt, la, 2, tsLA, 2);
+			if (bemerkungenUpdaten)
+				updatesFachBemerkungen.add(fb);
+			if (laUpdaten)
+				updatesLernabschnitte.add(la);
+			if (bemerkungenUpdaten || laUpdaten)
+				updatesEnmLernabschnitte.add(tsLA);
+			if (vergleichLA.angewendet)
+				angewendet++;
+			else if (vergleichLA.konflikt)
+				konflikte++;
+			else
+				unveraendert++;
 
 			for (final ENMLeistung leistung : enmSchueler.leistungsdaten) {
-				final DTOSchuelerLeistungsdaten dtoSchuelerLeistungsdaten = conn
-						.queryNamed("DTOSchuelerLeistungsdaten.id", leistung.id, DTOSchuelerLeistungsdaten.class)
-						.get(0);
-				final List<DTOEnmLeistungsdaten> dtoEnmLDList = conn.queryNamed("DTOEnmLeistungsdaten.id", leistung.id,
-						DTOEnmLeistungsdaten.class);
-				if (dtoSchuelerLeistungsdaten == null || dtoEnmLDList == null || dtoEnmLDList.size() != 1) {
+				final DTOSchuelerLeistungsdaten dtoSchuelerLeistungsdaten = leistungenById.get(leistung.id);
+				final DTOEnmLeistungsdaten dtoEnmLD = enmLeistungenById.get(leistung.id);
+				if ((dtoSchuelerLeistungsdaten == null) || (dtoEnmLD == null))
 					throw new ApiOperationException(Status.NOT_FOUND, "Schuelerleistungsdaten nicht gefunden.");
-				}
-				final var dtoEnmLD = dtoEnmLDList.get(0);
-				boolean dtoUpdaten = false;
-
-				dtoUpdaten |= isEnmLatestThenAction(leistung.tsFachbezogeneBemerkungen, dtoEnmLD.tsLernentw, () -> {
-					dtoSchuelerLeistungsdaten.Lernentw = leistung.fachbezogeneBemerkungen;
-					dtoEnmLD.tsLernentw = leistung.tsFachbezogeneBemerkungen;
-				});
-				dtoUpdaten |= isEnmLatestThenAction(leistung.tsFehlstundenFach, dtoEnmLD.tsFehlStd, () -> {
-					dtoSchuelerLeistungsdaten.FehlStd = leistung.fehlstundenFach;
-					dtoEnmLD.tsFehlStd = leistung.tsFehlstundenFach;
-				});
-				dtoUpdaten |= isEnmLatestThenAction(leistung.tsFehlstundenUnentschuldigtFach, dtoEnmLD.tsuFehlStd,
-						() -> {
-							dtoSchuelerLeistungsdaten.uFehlStd = leistung.fehlstundenUnentschuldigtFach;
-							dtoEnmLD.tsuFehlStd = leistung.tsFehlstundenUnentschuldigtFach;
-						});
-				dtoUpdaten |= isEnmLatestThenAction(leistung.tsIstGemahnt, dtoEnmLD.tsWarnung, () -> {
-					dtoSchuelerLeistungsdaten.Warnung = leistung.istGemahnt;
-					dtoEnmLD.tsWarnung = leistung.tsIstGemahnt;
-				});
-				dtoUpdaten |= isEnmLatestThenAction(leistung.tsNote, dtoEnmLD.tsNotenKrz, () -> {
-					dtoSchuelerLeistungsdaten.NotenKrz = Note.fromKuerzel(leistung.note);
-					dtoEnmLD.tsNotenKrz = leistung.tsNote;
-				});
-				dtoUpdaten |= isEnmLatestThenAction(leistung.tsNoteQuartal, dtoEnmLD.tsNotenKrzQuartal, () -> {
-					dtoSchuelerLeistungsdaten.NotenKrzQuartal = Note.fromKuerzel(leistung.noteQuartal);
-					dtoEnmLD.tsNotenKrzQuartal = leistung.tsNoteQuartal;
-				});
-
-				if (dtoUpdaten) {
-					conn.transactionPersist(dtoSchuelerLeistungsdaten);
-					conn.transactionPersist(dtoEnmLD);
-				}
+				final Object[] ld = { dtoSchuelerLeistungsdaten.Lernentw, dtoSchuelerLeistungsdaten.FehlStd, dtoSchuelerLeistungsdaten.uFehlStd,
+						dtoSchuelerLeistungsdaten.Warnung, dtoSchuelerLeistungsdaten.NotenKrz, dtoSchuelerLeistungsdaten.NotenKrzQuartal, dtoSchuelerLeistungsdaten.ID };
+				final Object[] tsLD = { dtoEnmLD.tsLernentw, dtoEnmLD.tsFehlStd, dtoEnmLD.tsuFehlStd, dtoEnmLD.tsWarnung,
+						dtoEnmLD.tsNotenKrz, dtoEnmLD.tsNotenKrzQuartal, dtoEnmLD.ID };
+				final ImportVergleich vergleichLD = new ImportVergleich();
+				vergleichLD.uebernehme(leistung.fachbezogeneBemerkungen, leistung.tsFachbezogeneBemerkungen, ld, 0, tsLD, 0);
+				vergleichLD.uebernehme(leistung.fehlstundenFach, leistung.tsFehlstundenFach, ld, 1, tsLD, 1);
+				vergleichLD.uebernehme(leistung.fehlstundenUnentschuldigtFach, leistung.tsFehlstundenUnentschuldigtFach, ld, 2, tsLD, 2);
+				vergleichLD.uebernehme(leistung.istGemahnt, leistung.tsIstGemahnt, ld, 3, tsLD, 3);
+				vergleichLD.uebernehme(Note.fromKuerzel(leistung.note), leistung.tsNote, ld, 4, tsLD, 4);
+				vergleichLD.uebernehme(Note.fromKuerzel(leistung.noteQuartal), leistung.tsNoteQuartal, ld, 5, tsLD, 5);
+				if (vergleichLD.angewendet) {
+					ld[3] = BooleanPlusMinusDefaultMinusConverter.instance.convertToDatabaseColumn((Boolean) ld[3]);
+					ld[4] = NoteConverterFromKuerzel.instance.convertToDatabaseColumn((Note) ld[4]);
+					ld[5] = NoteConverterFromKuerzel.instance.convertToDatabaseColumn((Note) ld[5]);
+					updatesLeistungen.add(ld);
+					updatesEnmLeistungen.add(tsLD);
+					angewendet++;
+				} else if (vergleichLD.konflikt)
+					konflikte++;
+				else
+					unveraendert++;
 			}
 		}
-		conn.transactionFlush();
-		conn.transactionCommitOrThrow();
-	}
 
-	/**
-	 * Prüft, ob der gegebene Timestamp-String des ENM nach dem Timestamp String des SVWS ist und führt in diesem Fall
-	 * das gegebene Runnable aus
-	 *
-	 * @param tsEnmStr    der Timestamp aus dem ENM
-	 * @param tsSvwsStr   der Timestamp aus dem SVWS-Server
-	 * @param actionIf die auszuführende Aktion, wenn der Timestamp des ENM nach dem des SVWS ist, vgl.
-	 *                 {@link Timestamp#after(Timestamp)}
-	 * @return ob der Timestamp des ENM nach dem des SVWS ist
-	 */
-	private static boolean isEnmLatestThenAction(final String tsEnmStr, final String tsSvwsStr,
-			final Runnable actionIf) {
-		if (tsEnmStr == null || tsEnmStr.isBlank()) {
-			return false;
-		}
-		final DateTimeFormatter ofPattern = new DateTimeFormatterBuilder().appendPattern("yyyy-MM-dd HH:mm:ss")
-				.appendFraction(ChronoField.MILLI_OF_SECOND, 0, 3, true).toFormatter();
-		final Timestamp tsEnm = Timestamp.valueOf(LocalDateTime.parse(tsEnmStr, ofPattern));
-		if (tsSvwsStr == null || tsSvwsStr.isBlank()) {
-			return true;
-		}
-		final Timestamp tsSvws = Timestamp.valueOf(LocalDateTime.parse(tsSvwsStr, ofPattern));
-		final boolean after = tsEnm.after(tsSvws);
-		if (after) {
-			actionIf.run();
+		// Schreibe die geänderten Datensätze. Die Zeitstempel werden dabei erst nach den eigentlichen Daten gesetzt,
+		// damit diese nicht durch Trigger auf den Datentabellen überschrieben werden.
+		conn.transactionBegin();
+		try {
+			final Tabelle_SchuelerLernabschnittsdaten tabLA = Schema.tab_SchuelerLernabschnittsdaten;
+			conn.transactionUpdateAllNative(tabLA.name(), List.of(tabLA.col_ZeugnisBem.name(), tabLA.col_SumFehlStd.name(), tabLA.col_SumFehlStdU.name()),
+					List.of(tabLA.col_ID.name()), updatesLernabschnitte);
+			final Tabelle_SchuelerLD_PSFachBem tabFB = Schema.tab_SchuelerLD_PSFachBem;
+			conn.transactionUpdateAllNative(tabFB.name(), List.of(tabFB.col_ASV.name(), tabFB.col_AUE.name(), tabFB.col_BemerkungVersetzung.name()),
+					List.of(tabFB.col_ID.name()), updatesFachBemerkungen);
+			final Tabelle_SchuelerLeistungsdaten tabLD = Schema.tab_SchuelerLeistungsdaten;
+			conn.transactionUpdateAllNative(tabLD.name(), List.of(tabLD.col_Lernentw.name(), tabLD.col_FehlStd.name(), tabLD.col_uFehlStd.name(),
+					tabLD.col_Warnung.name(), tabLD.col_NotenKrz.name(), tabLD.col_NotenKrzQuartal.name()), List.of(tabLD.col_ID.name()), updatesLeistungen);
+			final Tabelle_EnmLernabschnittsdaten tabEnmLA = Schema.tab_EnmLernabschnittsdaten;
+			conn.transactionUpdateAllNative(tabEnmLA.name(), List.of(tabEnmLA.col_tsZeugnisBem.name(), tabEnmLA.col_tsSumFehlStd.name(),
+					tabEnmLA.col_tsSumFehlStdU.name(), tabEnmLA.col_tsASV.name(), tabEnmLA.col_tsAUE.name(), tabEnmLA.col_tsBemerkungVersetzung.name()),
+					List.of(tabEnmLA.col_ID.name()), updatesEnmLernabschnitte);
+			final Tabelle_EnmLeistungsdaten tabEnmLD = Schema.tab_EnmLeistungsdaten;
+			conn.transactionUpdateAllNative(tabEnmLD.name(), List.of(tabEnmLD.col_tsLernentw.name(), tabEnmLD.col_tsFehlStd.name(),
+					tabEnmLD.col_tsuFehlStd.name(), tabEnmLD.col_tsWarnung.name(), tabEnmLD.col_tsNotenKrz.name(), tabEnmLD.col_tsNotenKrzQuartal.name()),
+					List.of(tabEnmLD.col_ID.name()), updatesEnmLeistungen);
+			conn.transactionCommitOrThrow();
+		} catch (final DBException | RuntimeException e) {
+			conn.transactionRollback();
+			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, e, "Fehler beim Schreiben der ENM-Daten in die Datenbank.");
 		}
-		return after;
+		return new ENMImportBericht(angewendet, unveraendert, konflikte);
 	}
 
 
@@ -615,44 +677,285 @@ public final class DataENMDaten extends DataManager<Long> {
 
 	/**
 	 * Lädt die ENM-Daten über den gegebenen OAuthClient vom ENM-Server und mit dem gegebenen DataManager in die
-	 * Datenbank
+	 * Datenbank. Das Ergebnis des Imports wird auf der Konsole des Servers protokolliert, wobei nicht übernommene
+	 * Werte aufgrund neuerer Werte in der SVWS-Datenbank als Warnung ausgegeben werden.
 	 *
 	 * @param client  der OAuthClient
 	 *
 	 * @param dataENM der ENM DataManager
 	 *
+	 * @return das Ergebnis des Imports
+	 *
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
-	private static void downloadENMDaten(final OAuth2Client client, final DataENMDaten dataENM) throws ApiOperationException {
+	private static ENMImportBericht downloadENMDaten(final OAuth2Client client, final DataENMDaten dataENM) throws ApiOperationException {
 		final HttpResponse<byte[]> httpResponse = client.get(ENM_DOWNLOAD_PATH, BodyHandlers.ofByteArray());
 		if (httpResponse.statusCode() != Status.OK.getStatusCode()) {
 			throw new ApiOperationException(Status.BAD_GATEWAY, httpResponse.body());
 		}
-		dataENM.importEnmDaten(httpResponse.body());
+		final ENMImportBericht bericht = dataENM.importEnmDaten(httpResponse.body());
+		final Logger logger = new Logger();
+		logger.addConsumer(new LogConsumerConsole());
+		logger.logLn((bericht.konflikte() > 0) ? LogLevel.WARNING : LogLevel.INFO, 0, "Import der ENM-Daten in das Schema " + dataENM.conn.getDBSchema()
+				+ ": " + bericht.angewendet() + " Datensätze aktualisiert, " + bericht.unveraendert() + " Datensätze unverändert, " + bericht.konflikte()
+				+ " Datensätze mit neueren Werten in der SVWS-Datenbank nicht übernommen.");
+		return bericht;
 	}
 
 	/**
-	 * Lädt die ENM-Daten beim ENM-Server hoch
+	 * Lädt die ENM-Daten beim ENM-Server hoch. Die Daten werden dabei während des Sendens direkt nach JSON
+	 * serialisiert und GZIP-komprimiert in den Body des Requests geschrieben. Im Delta-Modus werden nur die
+	 * Schüler übertragen, bei denen seit der letzten erfolgreichen Synchronisation Änderungen vorliegen
+	 * (siehe {@link #getGeaenderteSchueler(List, LocalDateTime, Map, Map)}). Die Kataloge (Lehrer, Klassen,
+	 * Lerngruppen usw.) werden immer vollständig übertragen. Nach einem erfolgreichen Hochladen werden der
+	 * Zeitpunkt des Starts der Synchronisation und die Prüfsummen der Schüler für die nächste Synchronisation
+	 * gespeichert.
 	 *
 	 * @param client       der OAuth-Client zur Verbindung mit dem ENM
 	 * @param dataENMDaten der DataManager für ENM-Daten
+	 * @param delta        gibt an, ob nur die seit der letzten Synchronisation geänderten Schüler übertragen werden
 	 *
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
-	private static void uploadENMDaten(final OAuth2Client client, final DataENMDaten dataENMDaten) throws ApiOperationException {
-		final byte[] daten = dataENMDaten.getAllGZIPBytes();
-		final HttpResponse<String> response = client.postMultipart(ENM_UPLOAD_PATH, "json.gz", daten,
-				BodyHandlers.ofString());
+	private static void uploadENMDaten(final OAuth2Client client, final DataENMDaten dataENMDaten, final boolean delta) throws ApiOperationException {
+		// Der Zeitpunkt wird vor dem Lesen der Daten bestimmt, damit spätere Änderungen bei der nächsten Synchronisation erkannt werden
+		final LocalDateTime start = LocalDateTime.now();
+		final ENMDaten daten = dataENMDaten.getDaten(null);
+		final Map<Long, String> pruefsummen = getPruefsummen(daten.schueler);
+		if (delta)
+			daten.schueler = getGeaenderteSchueler(daten.schueler, dataENMDaten.getSyncZeitstempel(), dataENMDaten.getSyncPruefsummen(), pruefsummen);
+		final HttpResponse<String> response = client.postMultipartGZip(ENM_UPLOAD_PATH, "json.gz",
+				gzipOut -> JSONMapper.writeTo(gzipOut, daten), BodyHandlers.ofString());
 		if (response.statusCode() != Status.OK.getStatusCode()) {
 			throw new ApiOperationException(Status.BAD_GATEWAY, response.body());
 		}
+		dataENMDaten.setSyncStand(start, pruefsummen);
+	}
+
+
+	/**
+	 * Bestimmt die Schüler, welche bei einer Delta-Synchronisation übertragen werden müssen. Ein Schüler
+	 * wird übertragen, wenn sich die Prüfsumme seiner ENM-Daten gegenüber der letzten erfolgreichen
+	 * Synchronisation unterscheidet, d.h. auch bei Änderungen an den Stammdaten oder an der Zuordnung
+	 * der Leistungsdaten zu den Lerngruppen, oder wenn ein Zeitstempel bei seinen Leistungsdaten nach dem
+	 * Start der letzten Synchronisation liegt. Neu hinzugekommene Schüler haben keine alte Prüfsumme und
+	 * werden daher immer übertragen. Ist kein Zeitstempel oder sind keine Prüfsummen der letzten
+	 * Synchronisation vorhanden, so werden alle Schüler übertragen. Änderungen an den Lehrkräften der
+	 * Lerngruppen sind über die immer vollständig übertragenen Kataloge abgedeckt.
+	 *
+	 * @param schueler          die Schüler mit ihren ENM-Daten
+	 * @param seit              der Zeitpunkt des Starts der letzten erfolgreichen Synchronisation oder null
+	 * @param pruefsummenAlt    die Prüfsummen der Schüler bei der letzten erfolgreichen Synchronisation
+	 * @param pruefsummenNeu    die aktuellen Prüfsummen der Schüler
+	 *
+	 * @return die Liste der zu übertragenden Schüler
+	 */
+	static List<ENMSchueler> getGeaenderteSchueler(final List<ENMSchueler> schueler, final LocalDateTime seit,
+			final Map<Long, String> pruefsummenAlt, final Map<Long, String> pruefsummenNeu) {
+		if ((seit == null) || pruefsummenAlt.isEmpty())
+			return new ArrayList<>(schueler);
+		final List<ENMSchueler> result = new ArrayList<>();
+		for (final ENMSchueler s : schueler) {
+			final String pruefsumme = pruefsummenNeu.get(s.id);
+			if ((pruefsumme == null) || !pruefsumme.equals(pruefsummenAlt.get(s.id))) {
+				result.add(s);
+				continue;
+			}
+			final LocalDateTime letzteAenderung = getLetzteAenderung(s);
+			if ((letzteAenderung != null) && letzteAenderung.isAfter(seit))
+				result.add(s);
+		}
+		return result;
+	}
+
+
+	/**
+	 * Berechnet für jeden Schüler eine Prüfsumme über dessen ENM-Daten in der JSON-Darstellung. Verwendet
+	 * werden dabei die ersten 64 Bit eines SHA-256-Hashes in der Base64-Kodierung.
+	 *
+	 * @param schueler   die Schüler mit ihren ENM-Daten
+	 *
+	 * @return die Map mit den Prüfsummen anhand der ID der Schüler
+	 *
+	 * @throws ApiOperationException   falls die Daten nicht serialisiert werden können
+	 */
+	static Map<Long, String> getPruefsummen(final List<ENMSchueler> schueler) throws ApiOperationException {
+		try {
+			final MessageDigest md = MessageDigest.getInstance("SHA-256");
+			final Map<Long, String> result = new HashMap<>();
+			for (final ENMSchueler s : schueler) {
+				final byte[] hash = md.digest(JSONMapper.mapper.writeValueAsBytes(s));
+				result.put(s.id, Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 8)));
+			}
+			return result;
+		} catch (final JsonProcessingException | NoSuchAlgorithmException e) {
+			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, e);
+		}
+	}
+
+
+	/**
+	 * Bestimmt den Zeitstempel der letzten Änderung an den ENM-Daten des Schülers anhand der Zeitstempel
+	 * bei den Lernabschnitts-, Bemerkungs- und Leistungsdaten.
+	 *
+	 * @param schueler   der Schüler
+	 *
+	 * @return der Zeitstempel der letzten Änderung oder null, falls beim Schüler kein Zeitstempel gesetzt ist
+	 */
+	private static LocalDateTime getLetzteAenderung(final ENMSchueler schueler) {
+		LocalDateTime result = max(null, schueler.lernabschnitt.tsFehlstundenGesamt);
+		result = max(result, schueler.lernabschnitt.tsFehlstundenGesamtUnentschuldigt);
+		if (schueler.bemerkungen != null) {
+			result = max(result, schueler.bemerkungen.tsASV);
+			result = max(result, schueler.bemerkungen.tsAUE);
+			result = max(result, schueler.bemerkungen.tsZB);
+			result = max(result, schueler.bemerkungen.tsIndividuelleVersetzungsbemerkungen);
+		}
+		for (final ENMLeistung leistung : schueler.leistungsdaten) {
+			result = max(result, leistung.tsNote);
+			result = max(result, leistung.tsNoteQuartal);
+			result = max(result, leistung.tsFehlstundenFach);
+			result = max(result, leistung.tsFehlstundenUnentschuldigtFach);
+			result = max(result, leistung.tsFachbezogeneBemerkungen);
+			result = max(result, leistung.tsIstGemahnt);
+		}
+		return result;
+	}
+
+
+	/**
+	 * Gibt den späteren der beiden Zeitstempel zurück. Nicht gesetzte oder ungültige Zeitstempel werden ignoriert.
+	 *
+	 * @param current   der bisherige Zeitstempel oder null
+	 * @param ts        der Zeitstempel aus den ENM-Daten als String
+	 *
+	 * @return der spätere der beiden Zeitstempel oder null, falls keiner gesetzt ist
+	 */
+	private static LocalDateTime max(final LocalDateTime current, final String ts) {
+		if ((ts == null) || ts.isBlank())
+			return current;
+		try {
+			final LocalDateTime value = LocalDateTime.parse(ts, TS_FORMAT);
+			return ((current == null) || value.isAfter(current)) ? value : current;
+		} catch (@SuppressWarnings("unused") final DateTimeParseException e) {
+			return current;
+		}
+	}
+
+
+	/**
+	 * Gibt den Zeitpunkt des Starts der letzten erfolgreichen Synchronisation mit dem ENM-Server zurück.
+	 *
+	 * @return der Zeitpunkt oder null, falls noch keine Synchronisation erfolgt ist
+	 */
+	private LocalDateTime getSyncZeitstempel() {
+		final DTOClientKonfigurationGlobal config = conn.queryByKey(DTOClientKonfigurationGlobal.class, SYNC_APPNAME, SYNC_SCHLUESSEL);
+		return (config == null) ? null : max(null, config.Wert);
+	}
+
+
+	/**
+	 * Gibt die Einträge der globalen Client-Konfiguration mit den Prüfsummen der Schüler bei der letzten
+	 * erfolgreichen Synchronisation zurück.
+	 *
+	 * @return die Einträge anhand ihres Schlüssels
+	 */
+	private Map<String, DTOClientKonfigurationGlobal> getSyncPruefsummenEintraege() {
+		return conn.queryList("SELECT e FROM DTOClientKonfigurationGlobal e WHERE e.AppName = ?1 AND e.Schluessel LIKE ?2",
+				DTOClientKonfigurationGlobal.class, SYNC_APPNAME, SYNC_SCHLUESSEL_PRUEFSUMMEN + "%")
+				.stream().collect(Collectors.toMap(e -> e.Schluessel, e -> e));
+	}
+
+
+	/**
+	 * Gibt die Prüfsummen der Schüler bei der letzten erfolgreichen Synchronisation mit dem ENM-Server zurück.
+	 * Die Prüfsummen sind in der globalen Client-Konfiguration auf mehrere Einträge der Form "id:pruefsumme;..."
+	 * verteilt, da die Größe eines Eintrags begrenzt ist.
+	 *
+	 * @return die Map mit den Prüfsummen anhand der ID der Schüler, ggf. leer
+	 */
+	private Map<Long, String> getSyncPruefsummen() {
+		final Map<Long, String> result = new HashMap<>();
+		for (final DTOClientKonfigurationGlobal config : getSyncPruefsummenEintraege().values()) {
+			if (config.Wert == null)
+				continue;
+			for (final String eintrag : config.Wert.split(";")) {
+				final int pos = eintrag.indexOf(':');
+				if (pos <= 0)
+					continue;
+				try {
+					result.put(Long.parseLong(eintrag.substring(0, pos)), eintrag.substring(pos + 1));
+				} catch (@SuppressWarnings("unused") final NumberFormatException e) {
+					// Ungültige Einträge werden ignoriert, der Schüler wird dann erneut übertragen
+				}
+			}
+		}
+		return result;
+	}
+
+
+	/**
+	 * Setzt den Stand der letzten erfolgreichen Synchronisation mit dem ENM-Server, d.h. den Zeitpunkt des
+	 * Starts der Synchronisation und die Prüfsummen der Schüler, bzw. entfernt diesen. Bestehende Einträge
+	 * werden dabei aktualisiert und nicht mehr benötigte Einträge entfernt. Schlägt das Speichern fehl, so
+	 * werden bei der nächsten Synchronisation ggf. mehr Daten als nötig übertragen.
+	 *
+	 * @param zeitstempel   der Zeitpunkt des Starts der Synchronisation oder null, falls der Stand entfernt werden soll
+	 * @param pruefsummen   die Prüfsummen der Schüler anhand ihrer ID, wird ignoriert, falls der Zeitstempel null ist
+	 */
+	private void setSyncStand(final LocalDateTime zeitstempel, final Map<Long, String> pruefsummen) {
+		conn.transactionBegin();
+		final Map<String, DTOClientKonfigurationGlobal> eintraege = getSyncPruefsummenEintraege();
+		DTOClientKonfigurationGlobal config = conn.queryByKey(DTOClientKonfigurationGlobal.class, SYNC_APPNAME, SYNC_SCHLUESSEL);
+		if (zeitstempel == null) {
+			if (config != null)
+				conn.transactionRemove(config);
+		} else {
+			final String wert = TS_FORMAT.format(zeitstempel);
+			if (config == null)
+				config = new DTOClientKonfigurationGlobal(SYNC_APPNAME, SYNC_SCHLUESSEL, wert);
+			else
+				config.Wert = wert;
+			conn.transactionPersist(config);
+			// Verteile die Prüfsummen auf mehrere Einträge und aktualisiere dabei bestehende Einträge
+			final List<String> werte = new ArrayList<>();
+			final StringBuilder sb = new StringBuilder();
+			int anzahl = 0;
+			for (final Map.Entry<Long, String> e : pruefsummen.entrySet()) {
+				if (anzahl == SYNC_PRUEFSUMMEN_JE_EINTRAG) {
+					werte.add(sb.toString());
+					sb.setLength(0);
+					anzahl = 0;
+				}
+				if (anzahl > 0)
+					sb.append(';');
+				sb.append(e.getKey()).append(':').append(e.getValue());
+				anzahl++;
+			}
+			if (anzahl > 0)
+				werte.add(sb.toString());
+			for (int i = 0; i < werte.size(); i++) {
+				final String schluessel = SYNC_SCHLUESSEL_PRUEFSUMMEN + i;
+				DTOClientKonfigurationGlobal eintrag = eintraege.remove(schluessel);
+				if (eintrag == null)
+					eintrag = new DTOClientKonfigurationGlobal(SYNC_APPNAME, schluessel, werte.get(i));
+				else
+					eintrag.Wert = werte.get(i);
+				conn.transactionPersist(eintrag);
+			}
+		}
+		for (final DTOClientKonfigurationGlobal eintrag : eintraege.values())
+			conn.transactionRemove(eintrag);
+		if (!conn.transactionCommit())
+			conn.transactionRollback();
 	}
 
 
 	/**
 	 * Synchronisiert die Daten des Externen Notenmoduls (ENM) mit dem WeNoM-Server und lädt
 	 * dabei diese als ZIP beim ENM hoch und anschließend wieder von diesem herunter und speichert
-	 * diese in der Datenbank.
+	 * diese in der Datenbank. Beim Hochladen werden dabei nur die Schüler übertragen, bei denen seit
+	 * der letzten erfolgreichen Synchronisation Änderungen vorliegen.
 	 *
 	 * @param conn   die Datenbank-Verbindung
 	 *
@@ -663,14 +966,14 @@ public final class DataENMDaten extends DataManager<Long> {
 	public static Response synchronize(final DBEntityManager conn) throws ApiOperationException {
 		final OAuth2Client client = getWenomOAuthClient(conn);
 		final DataENMDaten dataENMDaten = new DataENMDaten(conn);
-		uploadENMDaten(client, dataENMDaten);
+		uploadENMDaten(client, dataENMDaten, true);
 		downloadENMDaten(client, dataENMDaten);
 		return Response.status(Status.OK).type(MediaType.APPLICATION_JSON).entity(Boolean.TRUE).build();
 	}
 
 
 	/**
-	 * Lädt die ENM-Daten aus der Datenbank zu dem WeNoM-Server hoch.
+	 * Lädt die ENM-Daten aus der Datenbank vollständig zu dem WeNoM-Server hoch.
 	 *
 	 * @param conn   die Datenbank-Verbindung
 	 *
@@ -681,7 +984,7 @@ public final class DataENMDaten extends DataManager<Long> {
 	public static Response upload(final DBEntityManager conn) throws ApiOperationException {
 		final OAuth2Client client = getWenomOAuthClient(conn);
 		final DataENMDaten dataENMDaten = new DataENMDaten(conn);
-		uploadENMDaten(client, dataENMDaten);
+		uploadENMDaten(client, dataENMDaten, false);
 		return Response.status(Status.OK).type(MediaType.APPLICATION_JSON).entity(Boolean.TRUE).build();
 	}
 
@@ -717,6 +1020,8 @@ public final class DataENMDaten extends DataManager<Long> {
 		final HttpResponse<String> response = client.get(ENM_TRUNCATE_PATH, BodyHandlers.ofString());
 		if (response.statusCode() != Status.OK.getStatusCode())
 			throw new ApiOperationException(Status.BAD_GATEWAY, response.body());
+		// Nach dem Leeren des ENM-Servers müssen bei der nächsten Synchronisation wieder alle Daten übertragen werden
+		new DataENMDaten(conn).setSyncStand(null, null);
 		return Response.status(Status.OK).type(MediaType.APPLICATION_JSON).entity(Boolean.TRUE).build();
 	}
 
@@ -63,7 +63,7 @@ public final class DataFaecherliste extends DataManager<Long> {
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
 	public static List<FachDaten> getFaecherListe(final DBEntityManager conn) throws ApiOperationException {
-    	final List<DTOFach> faecher = conn.queryAll(DTOFach.class);
+    	final List<DTOFach> faecher = conn.queryAllCached(DTOFach.class);
     	if (faecher == null)
     		throw new ApiOperationException(Status.NOT_FOUND, "Es wurden keine Fächer in der Datenbank gefunden.");
     	return faecher.stream().map(dtoMapperFach::apply).sorted((a, b) -> Long.compare(a.sortierung, b.sortierung)).toList();
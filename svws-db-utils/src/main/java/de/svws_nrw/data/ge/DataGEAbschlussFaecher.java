@@ -51,7 +51,7 @@ public final class DataGEAbschlussFaecher extends DataManager<Long> {
 	public Response get(final Long id) throws ApiOperationException {
 		if (id == null)
 			throw new ApiOperationException(Status.NOT_FOUND);
-    	final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+    	final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
     	if (schule == null)
     		throw new ApiOperationException(Status.NOT_FOUND);
     	return getPrognoseLeistungsdaten(id, schule.Schuljahresabschnitts_ID);
@@ -100,7 +100,7 @@ public final class DataGEAbschlussFaecher extends DataManager<Long> {
 			throw new ApiOperationException(Status.BAD_REQUEST);
 
 		// Lies alle Fächer ein, damit auf die Informationen bezüglich Kürzel und Statistikkürzel bei der Auswahl der Leistungsdaten zurückgegriffen werden kann.
-    	final Map<Long, DTOFach> faecher = conn.queryAll(DTOFach.class).stream().collect(Collectors.toMap(f -> f.ID, f -> f));
+    	final Map<Long, DTOFach> faecher = conn.queryAllCached(DTOFach.class).stream().collect(Collectors.toMap(f -> f.ID, f -> f));
     	if (faecher == null)
     		throw new ApiOperationException(Status.NOT_FOUND);
 
@@ -7,24 +7,36 @@ import de.svws_nrw.core.data.gost.GostFach;
 import de.svws_nrw.core.data.gost.GostLeistungen;
 import de.svws_nrw.core.data.gost.GostLeistungenFachbelegung;
 import de.svws_nrw.core.data.gost.GostLeistungenFachwahl;
+import de.svws_nrw.core.data.schueler.Sprachendaten;
 import de.svws_nrw.core.types.Note;
 import de.svws_nrw.core.types.fach.ZulaessigesFach;
 import de.svws_nrw.core.types.gost.AbiturBelegungsart;
 import de.svws_nrw.core.types.gost.GostAbiturFach;
 import de.svws_nrw.core.types.gost.GostHalbjahr;
 import de.svws_nrw.core.types.gost.GostKursart;
+import de.svws_nrw.core.types.jahrgang.Jahrgaenge;
+import de.svws_nrw.core.types.schule.Schulgliederung;
 import de.svws_nrw.core.utils.gost.GostFaecherManager;
 import de.svws_nrw.data.faecher.DBUtilsFaecherGost;
+import de.svws_nrw.data.schueler.DBUtilsSchueler;
+import de.svws_nrw.data.schule.SchulUtils;
 import de.svws_nrw.db.DBEntityManager;
 import de.svws_nrw.db.dto.current.schild.faecher.DTOFach;
 import de.svws_nrw.db.dto.current.schild.schueler.DTOSchueler;
+import de.svws_nrw.db.dto.current.schild.schueler.DTOSchuelerLeistungsdaten;
+import de.svws_nrw.db.dto.current.schild.schueler.DTOSchuelerLernabschnittsdaten;
 import de.svws_nrw.db.dto.current.schild.schueler.DTOSchuelerSprachenfolge;
 import de.svws_nrw.db.dto.current.schild.schueler.abitur.DTOSchuelerAbitur;
 import de.svws_nrw.db.dto.current.schild.schueler.abitur.DTOSchuelerAbiturFach;
+import de.svws_nrw.db.dto.current.schild.schule.DTOEigeneSchule;
+import de.svws_nrw.db.dto.current.schild.schule.DTOJahrgang;
 import de.svws_nrw.db.dto.current.schild.schule.DTOSchuljahresabschnitte;
 import de.svws_nrw.db.utils.ApiOperationException;
 import jakarta.ws.rs.core.Response.Status;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -56,7 +68,19 @@ public final class DBUtilsGostAbitur {
     	final GostLeistungen leistungen = DBUtilsGost.getLeistungsdaten(conn, id);
     	if (leistungen == null)
     		throw new ApiOperationException(Status.NOT_FOUND);
+    	return getAbiturdatenAusLeistungsdaten(leistungen);
+    }
+
 
+	/**
+	 * Ermittelt die für das Abitur relevanten Daten aus den übergebenen Leistungsdaten
+	 * eines Schülers.
+	 *
+	 * @param leistungen   die Leistungsdaten der gymnasialen Oberstufe des Schülers
+	 *
+	 * @return die für das Abitur relevanten Daten oder null, wenn der Schüler nicht in der Q2 ist
+	 */
+    private static Abiturdaten getAbiturdatenAusLeistungsdaten(final GostLeistungen leistungen) {
     	// TODO bestimme ggf. einen Teil der Daten aus den LuPO-Wahlen des Schülers
 
 		if (!"Q2".equals(leistungen.aktuellerJahrgang))
@@ -163,20 +187,148 @@ public final class DBUtilsGostAbitur {
         // Lese beide Tabellen mit den Informationen zu den belegten oder geprüften Sprachen aus.
 		final List<DTOSchuelerSprachenfolge> sprachenfolge = conn.queryNamed("DTOSchuelerSprachenfolge.schueler_id", id, DTOSchuelerSprachenfolge.class);
 
-		final DTOSchuljahresabschnitte dtoAbschnittPruefung = schuljahresabschnitte.get(dtoSchuelerAbitur.Schuljahresabschnitts_ID);
+		return getAbiturdaten(conn, dtoSchuelerAbitur, faecher, sprachenfolge, schuljahresabschnitte, abidatenVergleich, new HashMap<>());
+    }
 
-		// Bestimme zunächst das Abiturjahr
-		Integer abiturjahr = null;
-		if (dtoSchuelerAbitur.Schuljahresabschnitts_ID != null) {
-			final DTOSchuljahresabschnitte abschnitt = conn.queryByKey(DTOSchuljahresabschnitte.class, dtoSchuelerAbitur.Schuljahresabschnitts_ID);
-			if (abschnitt != null)
-				abiturjahr = abschnitt.Jahr + 1;
+
+	/**
+	 * Ermittelt die für das Abitur relevanten Daten für die Schüler mit den angegebenen
+	 * IDs aus den in der Datenbank gespeicherten Abiturtabellen. Die Daten werden dabei
+	 * mit einer festen Anzahl an Datenbank-Anfragen für alle Schüler gemeinsam gelesen,
+	 * unabhängig von der Anzahl der Schüler.
+	 *
+	 * @param conn   die Datenbank-Verbindung
+	 * @param ids    die IDs der Schüler
+	 *
+	 * @return die Abiturdaten zur Schüler-ID, wobei Schüler ohne Abiturdaten in der
+	 *         Datenbank nicht enthalten sind
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+    public static Map<Long, Abiturdaten> getAbiturdaten(final DBEntityManager conn, final List<Long> ids) throws ApiOperationException {
+    	final Map<Long, Abiturdaten> result = new HashMap<>();
+    	// Bestimme zunächst die Schüler, für welche Abiturdaten in der Datenbank vorhanden sind
+    	// TODO Es existieren ggf. mehrere Abiturdatensätze für einen Schüler - TODO neueren Jahrgang auswählen
+    	final Map<Long, DTOSchuelerAbitur> mapAbitur = new HashMap<>();
+    	for (final DTOSchuelerAbitur dto : conn.queryNamedMultiple("DTOSchuelerAbitur.schueler_id.multiple", ids, DTOSchuelerAbitur.class))
+    		mapAbitur.putIfAbsent(dto.Schueler_ID, dto);
+    	final List<Long> idsMitAbitur = ids.stream().distinct().filter(mapAbitur::containsKey).toList();
+    	if (idsMitAbitur.isEmpty())
+    		return result;
+
+    	// Lese die weiteren Daten für alle diese Schüler gemeinsam aus der Datenbank
+    	final DTOEigeneSchule schule = SchulUtils.getDTOSchule(conn);
+		final Map<Long, DTOJahrgang> mapJahrgaenge = conn.queryAll(DTOJahrgang.class).stream().collect(Collectors.toMap(j -> j.ID, j -> j));
+		final Map<Long, DTOSchuljahresabschnitte> schuljahresabschnitte = conn.queryAll(DTOSchuljahresabschnitte.class).stream().collect(Collectors.toMap(a -> a.ID, a -> a));
+		final Map<Long, DTOSchueler> mapSchueler = conn.queryNamedMultiple("DTOSchueler.primaryKeyQuery.multiple", idsMitAbitur, DTOSchueler.class)
+				.stream().collect(Collectors.toMap(s -> s.ID, s -> s));
+		final Comparator<DTOSchuelerLernabschnittsdaten> comparatorLernabschnitte = (l1, l2) -> {
+			final DTOSchuljahresabschnitte a1 = schuljahresabschnitte.get(l1.Schuljahresabschnitts_ID);
+			final DTOSchuljahresabschnitte a2 = schuljahresabschnitte.get(l2.Schuljahresabschnitts_ID);
+			return (a1.Jahr != a2.Jahr) ? Integer.compare(a1.Jahr, a2.Jahr) : Integer.compare(a1.Abschnitt, a2.Abschnitt);
+		};
+		final Map<Long, List<DTOSchuelerLernabschnittsdaten>> mapLernabschnitte = conn.queryNamedMultiple("DTOSchuelerLernabschnittsdaten.schueler_id.multiple",
+				idsMitAbitur, DTOSchuelerLernabschnittsdaten.class).stream().sorted(comparatorLernabschnitte).collect(Collectors.groupingBy(l -> l.Schueler_ID));
+		final List<Long> idsLernabschnitte = mapLernabschnitte.values().stream().flatMap(List::stream).map(l -> l.ID).toList();
+		final Map<Long, List<DTOSchuelerLeistungsdaten>> mapLeistungen = conn.queryNamedMultiple("DTOSchuelerLeistungsdaten.abschnitt_id.multiple",
+				idsLernabschnitte, DTOSchuelerLeistungsdaten.class).stream().collect(Collectors.groupingBy(l -> l.Abschnitt_ID));
+		final Map<Long, Sprachendaten> mapSprachendaten = DBUtilsSchueler.getSchuelerSprachendaten(conn, idsMitAbitur).stream()
+				.collect(Collectors.toMap(sd -> sd.schuelerID, sd -> sd));
+		final Map<Long, List<DTOSchuelerSprachenfolge>> mapSprachenfolgen = conn.queryNamedMultiple("DTOSchuelerSprachenfolge.schueler_id.multiple",
+				idsMitAbitur, DTOSchuelerSprachenfolge.class).stream().collect(Collectors.groupingBy(f -> f.Schueler_ID));
+		final Map<Long, List<DTOSchuelerAbiturFach>> mapAbiturFaecher = conn.queryNamedMultiple("DTOSchuelerAbiturFach.schueler_id.multiple",
+				idsMitAbitur, DTOSchuelerAbiturFach.class).stream().collect(Collectors.groupingBy(f -> f.Schueler_ID));
+
+		// Gruppiere die Schüler nach dem Abiturjahr aus dem aktuellen Lernabschnitt, da dieses die Fächer für die Leistungsdaten festlegt
+		final Map<Integer, List<Long>> mapIDsByAbiturjahr = new HashMap<>();
+		for (final long id : idsMitAbitur) {
+			final DTOSchueler dtoSchueler = mapSchueler.get(id);
+			if (dtoSchueler == null)
+				throw new ApiOperationException(Status.NOT_FOUND);
+			final DTOSchuljahresabschnitte dtoAbschnitt = schuljahresabschnitte.get(dtoSchueler.Schuljahresabschnitts_ID);
+			if (dtoAbschnitt == null)
+				throw new ApiOperationException(Status.NOT_FOUND);
+			final List<DTOSchuelerLernabschnittsdaten> lernabschnitte = mapLernabschnitte.computeIfAbsent(id, k -> new ArrayList<>());
+			Integer abiturjahr = null;
+			if (!lernabschnitte.isEmpty()) {
+				final DTOSchuelerLernabschnittsdaten aktLernabschnitt = lernabschnitte.get(lernabschnitte.size() - 1);
+		    	final Schulgliederung schulgliederung = aktLernabschnitt.Schulgliederung == null
+		    			? Schulgliederung.getDefault(schule.Schulform)
+		    			: aktLernabschnitt.Schulgliederung;
+		    	final DTOJahrgang dtoAktJahrgang = mapJahrgaenge.get(aktLernabschnitt.Jahrgang_ID);
+		    	final Jahrgaenge aktJahrgang = (dtoAktJahrgang == null) || (dtoAktJahrgang.ASDJahrgang == null) ? null : Jahrgaenge.getByKuerzel(dtoAktJahrgang.ASDJahrgang);
+				abiturjahr = DBUtilsGost.getAbiturjahr(schule.Schulform, schulgliederung, dtoAbschnitt.Jahr, aktJahrgang);
+			}
+			mapIDsByAbiturjahr.computeIfAbsent(abiturjahr, k -> new ArrayList<>()).add(id);
+		}
+
+		// Ermittle die Leistungsdaten und erstelle daraus und aus den DTOs der Abiturtabellen die Abiturdaten
+		final Map<Integer, GostFaecherManager> mapFaecherManager = new HashMap<>();
+		for (final Map.Entry<Integer, List<Long>> e : mapIDsByAbiturjahr.entrySet()) {
+			final Map<Long, GostLeistungen> mapGostLeistungen = DBUtilsGost.getLeistungsdatenFromDTOs(e.getValue(),
+					getFaecherManager(conn, mapFaecherManager, e.getKey()), schuljahresabschnitte, mapSchueler, mapLernabschnitte, mapLeistungen,
+					mapSprachendaten, mapJahrgaenge);
+			for (final long id : e.getValue()) {
+				final Abiturdaten abidatenVergleich = getAbiturdatenAusLeistungsdaten(mapGostLeistungen.get(id));
+				result.put(id, getAbiturdaten(conn, mapAbitur.get(id), mapAbiturFaecher.getOrDefault(id, new ArrayList<>()),
+						mapSprachenfolgen.getOrDefault(id, new ArrayList<>()), schuljahresabschnitte, abidatenVergleich, mapFaecherManager));
+			}
 		}
-		if (abiturjahr == null)
-			abiturjahr = abidatenVergleich.abiturjahr;
+		return result;
+    }
+
+
+	/**
+	 * Gibt den Manager für die Fächer des angegebenen Abiturjahrgangs zurück. Dieser wird
+	 * nur beim ersten Zugriff aus der Datenbank gelesen und in der übergebenen Map abgelegt.
+	 *
+	 * @param conn                die Datenbank-Verbindung
+	 * @param mapFaecherManager   die Map mit den bereits gelesenen Managern zum Abiturjahr
+	 * @param abiturjahr          das Abiturjahr oder null für die Fächer ohne Abiturjahrgang
+	 *
+	 * @return der Manager für die Fächer
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	private static GostFaecherManager getFaecherManager(final DBEntityManager conn, final Map<Integer, GostFaecherManager> mapFaecherManager,
+			final Integer abiturjahr) throws ApiOperationException {
+		GostFaecherManager manager = mapFaecherManager.get(abiturjahr);
+		if (manager == null) {
+			manager = DBUtilsFaecherGost.getFaecherManager(conn, abiturjahr);
+			mapFaecherManager.put(abiturjahr, manager);
+		}
+		return manager;
+	}
+
+
+	/**
+	 * Erstellt die für das Abitur relevanten Daten eines Schülers aus den bereits gelesenen
+	 * DTOs der Abiturtabellen und ergänzt diese um die Daten aus den Leistungsdaten.
+	 *
+	 * @param conn                    die Datenbank-Verbindung
+	 * @param dtoSchuelerAbitur       das DTO mit den Abiturdaten des Schülers
+	 * @param faecher                 die DTOs mit den Abiturdaten zu den einzelnen Fächern
+	 * @param sprachenfolge           die DTOs der Sprachenfolge des Schülers
+	 * @param schuljahresabschnitte   die Schuljahresabschnitte zur ID
+	 * @param abidatenVergleich       die aus den Leistungsdaten ermittelten Abiturdaten
+	 * @param mapFaecherManager       die Map mit den bereits gelesenen Managern für die Fächer zum Abiturjahr
+	 *
+	 * @return die für das Abitur relevanten Daten des Schülers
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+    private static Abiturdaten getAbiturdaten(final DBEntityManager conn, final DTOSchuelerAbitur dtoSchuelerAbitur,
+    		final List<DTOSchuelerAbiturFach> faecher, final List<DTOSchuelerSprachenfolge> sprachenfolge,
+    		final Map<Long, DTOSchuljahresabschnitte> schuljahresabschnitte, final Abiturdaten abidatenVergleich,
+    		final Map<Integer, GostFaecherManager> mapFaecherManager) throws ApiOperationException {
+		final DTOSchuljahresabschnitte dtoAbschnittPruefung = (dtoSchuelerAbitur.Schuljahresabschnitts_ID == null)
+				? null : schuljahresabschnitte.get(dtoSchuelerAbitur.Schuljahresabschnitts_ID);
+
+		// Bestimme zunächst das Abiturjahr
+		final Integer abiturjahr = (dtoAbschnittPruefung == null) ? abidatenVergleich.abiturjahr : Integer.valueOf(dtoAbschnittPruefung.Jahr + 1);
 
 		// Lese die Oberstufenfächer aus der DB ein, um schnell Daten zu einzelnen Fächern nachschlagen zu können
-    	final GostFaecherManager gostFaecher = DBUtilsFaecherGost.getFaecherManager(conn, abiturjahr);
+    	final GostFaecherManager gostFaecher = getFaecherManager(conn, mapFaecherManager, abiturjahr);
 
 		// Kopiere die DTOs in die Abiturdaten-Klasse
 		final Abiturdaten abidaten = new Abiturdaten();
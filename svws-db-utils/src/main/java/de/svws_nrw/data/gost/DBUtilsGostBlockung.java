@@ -4,10 +4,10 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import de.svws_nrw.base.kurs42.Kurs42Import;
@@ -36,9 +36,6 @@ import de.svws_nrw.db.dto.current.schild.faecher.DTOFach;
 import de.svws_nrw.db.dto.current.schild.lehrer.DTOLehrer;
 import de.svws_nrw.db.dto.current.schild.schueler.DTOSchueler;
 import de.svws_nrw.db.dto.current.schild.schule.DTOEigeneSchule;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
-import de.svws_nrw.db.schema.Schema;
-import de.svws_nrw.db.schema.SchemaTabelle;
 import de.svws_nrw.db.utils.ApiOperationException;
 import jakarta.ws.rs.core.Response.Status;
 
@@ -51,13 +48,6 @@ public final class DBUtilsGostBlockung {
 		throw new IllegalStateException("Instantiation of " + DBUtilsGostBlockung.class.getName() + " not allowed");
 	}
 
-	/** Funktion zum Bestimmen der nächsten freien ID bei einer Tabelle mit Autoinkrement */
-	private static BiFunction<DBEntityManager, SchemaTabelle, Long> getNextID = (final DBEntityManager conn, final SchemaTabelle tab) -> {
-		final DTOSchemaAutoInkremente dbID = conn.queryByKey(DTOSchemaAutoInkremente.class, tab.name());
-		return dbID == null ? 1 : dbID.MaxID + 1;
-	};
-
-
 	/**
 	 * Importiert eine Kurs-42-Blockung in das Datenbank-Schema, welches durch die übergebene
 	 * Verbindung festgelegt ist.
@@ -148,12 +138,12 @@ public final class DBUtilsGostBlockung {
 			logger.logLn("-> Schreibe die Blockungsdaten...");
 			logger.modifyIndent(2);
 			conn.transactionBegin();
-			// Bestimme zunächst die IDs für die neue Blockung, die Schienen, die Kurse, die Regeln und das Ergebnis
-			final Long blockungID = getNextID.apply(conn, Schema.tab_Gost_Blockung);
-			final Long schienenID = getNextID.apply(conn, Schema.tab_Gost_Blockung_Schienen);
-			final Long kursID = getNextID.apply(conn, Schema.tab_Gost_Blockung_Kurse);
-			final Long regelID = getNextID.apply(conn, Schema.tab_Gost_Blockung_Regeln);
-			final Long ergebnisID = getNextID.apply(conn, Schema.tab_Gost_Blockung_Zwischenergebnisse);
+			// Bestimme zunächst die IDs für die neue Blockung und das Ergebnis
+			final long blockungID = conn.transactionGetNextID(DTOGostBlockung.class);
+			final long ergebnisID = conn.transactionGetNextID(DTOGostBlockungZwischenergebnis.class);
+			// Die IDs der Schienen und Kurse aus Kurs42 werden auf neu vergebene IDs der Datenbank abgebildet
+			final Map<Long, Long> mapSchienenIDs = new HashMap<>();
+			final Map<Long, Long> mapKursIDs = new HashMap<>();
 			// Lege die Blockung und ein zugehöriges Ergebnis an
 			final DTOGostBlockung blockung = new DTOGostBlockung(blockungID, k42.name + " (import)", k42.abiturjahrgang, k42.halbjahr, false);
 			final DTOGostBlockungZwischenergebnis erg = new DTOGostBlockungZwischenergebnis(ergebnisID, blockungID, false);
@@ -161,7 +151,8 @@ public final class DBUtilsGostBlockung {
 			conn.transactionPersist(erg);
 			// Lege die Schienen an
 			for (final GostBlockungSchiene schiene : k42.schienen) {
-				conn.transactionPersist(new DTOGostBlockungSchiene(schienenID + schiene.id,
+				mapSchienenIDs.put(schiene.id, conn.transactionGetNextID(DTOGostBlockungSchiene.class));
+				conn.transactionPersist(new DTOGostBlockungSchiene(mapSchienenIDs.get(schiene.id),
 						blockungID, schiene.nummer, schiene.bezeichnung, schiene.wochenstunden));
 			}
 			// Lege die Kurse an
@@ -172,37 +163,40 @@ public final class DBUtilsGostBlockung {
 					logger.logLn("[Fehler] - Fach-ID " + kurs.fach_id + " ist in der Datenbank nicht bekannt");
 					throw new ApiOperationException(Status.NOT_FOUND, "Fach-ID " + kurs.fach_id + " ist in der Datenbank nicht bekannt");
 				}
-				conn.transactionPersist(new DTOGostBlockungKurs(kursID + kurs.id, blockungID, kurs.fach_id,
+				final long kursID = conn.transactionGetNextID(DTOGostBlockungKurs.class);
+				mapKursIDs.put(kurs.id, kursID);
+				conn.transactionPersist(new DTOGostBlockungKurs(kursID, blockungID, kurs.fach_id,
 						GostKursart.fromID(kurs.kursart), kurs.nummer, kurs.istKoopKurs, kurs.anzahlSchienen, kurs.wochenstunden));
 				for (final GostBlockungKursLehrer lehrer : kurs.lehrer)
-					conn.transactionPersist(new DTOGostBlockungKurslehrer(kursID + kurs.id,
+					conn.transactionPersist(new DTOGostBlockungKurslehrer(kursID,
 							lehrer.id, lehrer.reihenfolge, lehrer.wochenstunden));
 			}
 			// Lege die Regeln an
 			for (final GostBlockungRegel regel : k42.regeln) {
 				final GostKursblockungRegelTyp typ = GostKursblockungRegelTyp.fromTyp(regel.typ);
-				conn.transactionPersist(new DTOGostBlockungRegel(regelID + regel.id, blockungID, typ));
+				final long regelID = conn.transactionGetNextID(DTOGostBlockungRegel.class);
+				conn.transactionPersist(new DTOGostBlockungRegel(regelID, blockungID, typ));
 				for (int i = 0; i < regel.parameter.size(); i++) {
 					Long param = regel.parameter.get(i);
 					final GostKursblockungRegelParameterTyp paramTyp = typ.getParamType(i);
 					param = switch (paramTyp) {
 						case KURSART -> param;
 						case SCHIENEN_NR -> param;
-						case KURS_ID -> kursID + param;
+						case KURS_ID -> mapKursIDs.get(param);
 						case SCHUELER_ID -> param;
 						default -> param;
 					};
-					conn.transactionPersist(new DTOGostBlockungRegelParameter(regelID + regel.id, i, param));
+					conn.transactionPersist(new DTOGostBlockungRegelParameter(regelID, i, param));
 				}
 			}
 			// Schreibe die Kurs-Schienen-Zuordnungen
 			for (final Pair<Long, Long> zuordnung : k42.zuordnung_kurs_schiene.getNonNullValuesAsList())
 				conn.transactionPersist(new DTOGostBlockungZwischenergebnisKursSchiene(ergebnisID,
-						kursID + zuordnung.a, schienenID + zuordnung.b));
+						mapKursIDs.get(zuordnung.a), mapSchienenIDs.get(zuordnung.b)));
 			// Schreibe die Kurs-Schüler-Zuordnungen
 			for (final Pair<Long, Long> zuordnung : k42.zuordnung_kurs_schueler.getNonNullValuesAsList())
 				conn.transactionPersist(new DTOGostBlockungZwischenergebnisKursSchueler(ergebnisID,
-						kursID + zuordnung.a, zuordnung.b));
+						mapKursIDs.get(zuordnung.a), zuordnung.b));
 			if (!conn.transactionCommit()) {
 				logger.logLn("[Fehler] Unerwarteter Fehler beim Schreiben in die Datenbank.");
 				logger.modifyIndent(-2);
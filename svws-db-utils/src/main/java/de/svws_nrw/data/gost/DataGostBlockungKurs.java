@@ -28,7 +28,6 @@ import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergeb
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergebnisKursSchueler;
 import de.svws_nrw.db.dto.current.schild.faecher.DTOFach;
 import de.svws_nrw.db.dto.current.schild.schueler.DTOSchueler;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.schema.Schema;
 import de.svws_nrw.db.utils.ApiOperationException;
 import jakarta.ws.rs.core.MediaType;
@@ -238,8 +237,7 @@ public final class DataGostBlockungKurs extends DataManager<Long> {
 				kursart = GostKursart.PJK;
 		}
 		// Bestimme die ID, für welche der Datensatz eingefügt wird
-		final DTOSchemaAutoInkremente dbKurseID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Kurse");
-		final long idKurs = dbKurseID == null ? 1 : dbKurseID.MaxID + 1;
+		final long idKurs = conn.transactionGetNextID(DTOGostBlockungKurs.class);
 		// Ermittle, ob bereits Kurse mit für das Fach und die Kursart existieren
     	final String jpql = "SELECT e FROM DTOGostBlockungKurs e WHERE e.Blockung_ID = ?1 and e.Fach_ID = ?2 and e.Kursart = ?3";
     	final List<DTOGostBlockungKurs> kurse = conn.queryList(jpql, DTOGostBlockungKurs.class, idBlockung, idFach, kursart);
@@ -334,8 +332,7 @@ public final class DataGostBlockungKurs extends DataManager<Long> {
 		while (kursnummern.contains(nummer))
 			nummer++;
 		// Bestimme die ID, für welche der Datensatz eingefügt wird
-		final DTOSchemaAutoInkremente dbKurseID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Kurse");
-		final long idKurs2 = dbKurseID == null ? 1 : dbKurseID.MaxID + 1;
+		final long idKurs2 = conn.transactionGetNextID(DTOGostBlockungKurs.class);
 		// Lege den neuen Kurs an.
 		final DTOGostBlockungKurs kursNeu = new DTOGostBlockungKurs(idKurs2, kurs.Blockung_ID, kurs.Fach_ID,
 				kurs.Kursart, nummer, kurs.IstKoopKurs, kurs.Schienenanzahl, kurs.Wochenstunden);
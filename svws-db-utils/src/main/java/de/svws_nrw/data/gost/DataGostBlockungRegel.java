@@ -359,8 +359,6 @@ public final class DataGostBlockungRegel extends DataManager<Long> {
 	        // Bestimme schon vorhandene Regeln der Blockung
 	        final Map<Integer, List<DTOGostBlockungRegel>> mapVorhanden = conn.queryNamed("DTOGostBlockungRegel.blockung_id", blockung.ID, DTOGostBlockungRegel.class)
         		.stream().collect(Collectors.groupingBy(r -> r.Typ.typ));
-			// Bestimme die ID, ab welcher die Datensätze eingefügt werden
-			long idRegel = conn.transactionGetNextID(DTOGostBlockungRegel.class);
 			// Bestimme die Schüler des Abiturjahrgangs, falls Regeln einen Schüler-Bezug haben
 	    	final List<DTOSchueler> schueler = DBUtilsGostLaufbahn.getSchuelerOfAbiturjahrgang(conn, blockung.Abi_Jahrgang);
 	    	final Set<Long> setSchuelerIDs = schueler.stream().map(s -> s.ID).collect(Collectors.toSet());
@@ -371,7 +369,7 @@ public final class DataGostBlockungRegel extends DataManager<Long> {
 				validateRegel(conn, blockung.Abi_Jahrgang, blockung.ID, setSchuelerIDs, faecher, regel, mapVorhanden);
 				final GostKursblockungRegelTyp regelTyp = GostKursblockungRegelTyp.fromTyp(regel.typ);
 				// Füge die Regel hinzu
-				regel.id = idRegel++;
+				regel.id = conn.transactionGetNextID(DTOGostBlockungRegel.class);
 				final DTOGostBlockungRegel dtoRegel = new DTOGostBlockungRegel(regel.id, blockung.ID, regelTyp);
 		    	conn.transactionPersist(dtoRegel);
 		    	conn.transactionFlush();
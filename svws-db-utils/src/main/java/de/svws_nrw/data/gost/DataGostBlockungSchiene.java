@@ -22,7 +22,6 @@ import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungRegelParamete
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungSchiene;
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergebnis;
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergebnisKursSchiene;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.schema.Schema;
 import de.svws_nrw.db.utils.ApiOperationException;
 import jakarta.ws.rs.core.MediaType;
@@ -241,8 +240,7 @@ public final class DataGostBlockungSchiene extends DataManager<Long> {
         if (vorlage == null)
         	throw new ApiOperationException(Status.BAD_REQUEST, "Die Schiene kann nicht hinzugefügt werden, da bei der Blockungsdefinition schon berechnete Ergebnisse existieren.");
 		// Bestimme die ID, für welche der Datensatz eingefügt wird
-		final DTOSchemaAutoInkremente dbSchienenID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Schienen");
-		final long idSchiene = dbSchienenID == null ? 1 : dbSchienenID.MaxID + 1;
+		final long idSchiene = conn.transactionGetNextID(DTOGostBlockungSchiene.class);
 		// Ermittle, ob bereits Schienen existieren
 		final List<DTOGostBlockungSchiene> schienen = conn.queryNamed("DTOGostBlockungSchiene.blockung_id", idBlockung, DTOGostBlockungSchiene.class);
     	int schienennummer = 1;
@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -24,7 +25,6 @@ import de.svws_nrw.core.data.gost.GostStatistikFachwahl;
 import de.svws_nrw.core.data.gost.GostStatistikFachwahlHalbjahr;
 import de.svws_nrw.core.data.schueler.Schueler;
 import de.svws_nrw.core.data.schule.Schuljahresabschnitt;
-import de.svws_nrw.core.kursblockung.KursblockungAlgorithmus;
 import de.svws_nrw.core.types.fach.ZulaessigesFach;
 import de.svws_nrw.core.types.gost.GostFachbereich;
 import de.svws_nrw.core.types.gost.GostHalbjahr;
@@ -40,6 +40,7 @@ import de.svws_nrw.data.DataManager;
 import de.svws_nrw.data.JSONMapper;
 import de.svws_nrw.data.schule.DataSchuljahresabschnitte;
 import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.DBException;
 import de.svws_nrw.db.dto.current.gost.DTOGostJahrgangFaecher;
 import de.svws_nrw.db.dto.current.gost.DTOGostJahrgangsdaten;
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockung;
@@ -51,7 +52,6 @@ import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungSchiene;
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergebnis;
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergebnisKursSchiene;
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergebnisKursSchueler;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.dto.current.schild.faecher.DTOFach;
 import de.svws_nrw.db.dto.current.schild.kurse.DTOKurs;
 import de.svws_nrw.db.dto.current.schild.lehrer.DTOLehrer;
@@ -74,6 +74,13 @@ import jakarta.ws.rs.core.Response.Status;
  */
 public final class DataGostBlockungsdaten extends DataManager<Long> {
 
+	/** Die maximale Anzahl an Datensätzen in einer INSERT-Anweisung beim Schreiben von Blockungsergebnissen */
+	private static final int MAX_DATENSAETZE_PRO_INSERT = 1000;
+
+	/** Die Sperr-Objekte für das Schreiben von Blockungsergebnissen, jeweils für ein Datenbank-Schema */
+	private static final Map<String, Object> sperrenSchreibeErgebnisse = new ConcurrentHashMap<>();
+
+
 	/**
 	 * Erstellt einen neuen {@link DataManager} für den Core-DTO {@link GostBlockungsdaten}.
 	 *
@@ -394,8 +401,7 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		if (fachwahlen == null)
 			throw new ApiOperationException(Status.NOT_FOUND);
 		// Bestimme die ID der neuen Blockung
-		final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung");
-		final Long blockungID = lastID == null ? 1 : lastID.MaxID + 1;
+		final long blockungID = conn.transactionGetNextID(DTOGostBlockung.class);
 		// Lese zunächst die bestehenden Blockungen mit dem Abiturjahr und dem Halbjahr ein (für weitere Prüfungen)
 		final List<DTOGostBlockung> blockungen = conn.queryList("SELECT e FROM DTOGostBlockung e WHERE e.Abi_Jahrgang = ?1 and e.Halbjahr = ?2", DTOGostBlockung.class, abijahrgang.Abi_Jahrgang, gostHalbjahr);
 		// Bestimme den Namen der neuen Blockung
@@ -410,8 +416,7 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		if (faecherManager == null)
 			throw new ApiOperationException(Status.NOT_FOUND);
 		// Lege ein "leeres" Ergebnis für manuelles Blocken an
-		final DTOSchemaAutoInkremente lastErgebnisID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Zwischenergebnisse");
-		final long ergebnisID = lastErgebnisID == null ? 1 : lastErgebnisID.MaxID + 1;
+		final long ergebnisID = conn.transactionGetNextID(DTOGostBlockungZwischenergebnis.class);
 		final DTOGostBlockungZwischenergebnis erg = new DTOGostBlockungZwischenergebnis(ergebnisID, blockungID, false);
 		// Blockung anlegen
 		final DTOGostBlockung blockung = new DTOGostBlockung(blockungID, name, abiturjahr, gostHalbjahr, false);
@@ -422,11 +427,9 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		final GostBlockungsdaten blockungsdaten = dtoMapper.apply(blockung);
 		final GostBlockungsdatenManager manager = new GostBlockungsdatenManager(blockungsdaten, faecherManager);
 		// Schienen anlegen
-		final DTOSchemaAutoInkremente dbSchienenID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Schienen");
-		final long schienenID = dbSchienenID == null ? 0 : dbSchienenID.MaxID;
 		final List<GostBlockungSchiene> schieneListeAdd = new ArrayList<>();
 		for (int i = 1; i <= anzahlSchienen; i++) {
-			final DTOGostBlockungSchiene schiene = new DTOGostBlockungSchiene(schienenID + i, blockungID, i, "Schiene " + i, 3);
+			final DTOGostBlockungSchiene schiene = new DTOGostBlockungSchiene(conn.transactionGetNextID(DTOGostBlockungSchiene.class), blockungID, i, "Schiene " + i, 3);
 			conn.transactionPersist(schiene);
 			schieneListeAdd.add(DataGostBlockungSchiene.dtoMapper.apply(schiene));
 		}
@@ -436,8 +439,6 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		// Anhand der Fachwahlstatistik eine Default-Anzahl für die Kursanzahl ermitteln und
 		// DTOGostBlockungKurs-Objekte dafür persistieren
 		// TODO Verbesserung des Algorithmus -> Optimierung... erstmal nur eine primitive Variante
-		final DTOSchemaAutoInkremente dbKurseID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Kurse");
-		long kurseID = dbKurseID == null ? 0 : dbKurseID.MaxID;
 		final List<GostBlockungKurs> kursListe_LK_GK_ZK = new ArrayList<>(); // Liste um alle Kurse zusammen hinzuzufügen.
 		for (final GostStatistikFachwahl fw : fachwahlen) {
 			final ZulaessigesFach zulFach = ZulaessigesFach.getByKuerzelASD(fw.kuerzelStatistik);
@@ -451,7 +452,7 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 				anzahlZK = 1;
 			// Hinzufügen/Sammeln der LKs
 			for (int i = 1; i <= anzahlLK; i++) {
-				final DTOGostBlockungKurs kurs = new DTOGostBlockungKurs(++kurseID, blockungID, fw.id, GostKursart.LK, i, false, 1, 5);
+				final DTOGostBlockungKurs kurs = new DTOGostBlockungKurs(conn.transactionGetNextID(DTOGostBlockungKurs.class), blockungID, fw.id, GostKursart.LK, i, false, 1, 5);
 				conn.transactionPersist(kurs);
 				kursListe_LK_GK_ZK.add(DataGostBlockungKurs.dtoMapper.apply(kurs));
 			}
@@ -470,13 +471,13 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 				} else if (kursart == GostKursart.VTF) {
 					wstd = 2;
 				}
-				final DTOGostBlockungKurs kurs = new DTOGostBlockungKurs(++kurseID, blockungID, fw.id, kursart, i, false, 1, wstd);
+				final DTOGostBlockungKurs kurs = new DTOGostBlockungKurs(conn.transactionGetNextID(DTOGostBlockungKurs.class), blockungID, fw.id, kursart, i, false, 1, wstd);
 				conn.transactionPersist(kurs);
 				kursListe_LK_GK_ZK.add(DataGostBlockungKurs.dtoMapper.apply(kurs));
 			}
 			// Hinzufügen/Sammeln der ZKs
 			for (int i = 1; i <= anzahlZK; i++) {
-				final DTOGostBlockungKurs kurs = new DTOGostBlockungKurs(++kurseID, blockungID, fw.id, GostKursart.ZK, i, false, 1, 3);
+				final DTOGostBlockungKurs kurs = new DTOGostBlockungKurs(conn.transactionGetNextID(DTOGostBlockungKurs.class), blockungID, fw.id, GostKursart.ZK, i, false, 1, 3);
 				conn.transactionPersist(kurs);
 				kursListe_LK_GK_ZK.add(DataGostBlockungKurs.dtoMapper.apply(kurs));
 			}
@@ -486,7 +487,7 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		manager.kursAddListe(kursListe_LK_GK_ZK);
 		// Lege eine Kurs-Schienen-Zuordnung für das "leere" Ergebnis fest. Diese Kurse werden der ersten Schiene der neuen Blockung zugeordnet.
 		for (final GostBlockungKurs kurs : manager.daten().kurse)
-			conn.transactionPersist(new DTOGostBlockungZwischenergebnisKursSchiene(ergebnisID, kurs.id, schienenID + 1));
+			conn.transactionPersist(new DTOGostBlockungZwischenergebnisKursSchiene(ergebnisID, kurs.id, schieneListeAdd.get(0).id));
 		conn.transactionFlush();
         // Bestimme die Fachwahlen aus der DB
         blockungsdaten.fachwahlen.addAll((new DataGostAbiturjahrgangFachwahlen(conn, blockungsdaten.abijahrgang)).getSchuelerFachwahlenHalbjahr(gostHalbjahr).fachwahlen);
@@ -523,31 +524,93 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 	}
 
 
-	private static synchronized List<Long> schreibeErgebnisse(final DBEntityManager conn, final long id, final List<GostBlockungsergebnisManager> outputs) {
-		final ArrayList<Long> ergebnisse = new ArrayList<>();
-		final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Zwischenergebnisse");
-		long ergebnisID = lastID == null ? 1 : lastID.MaxID + 1;
-		for (final GostBlockungsergebnisManager output : outputs) {
-			// Schreibe das Ergebnis in die Datenbank.
-			final DTOGostBlockungZwischenergebnis erg = new DTOGostBlockungZwischenergebnis(ergebnisID, id, false);
-			conn.transactionPersist(erg);
-			conn.transactionFlush();
-			// Kurse <--> Schüler
-			final Map<Long, Set<@NotNull Long>> map_KursID_SchuelerIDs = output.getMappingKursIDSchuelerIDs();
-			for (final Map.Entry<Long, Set<Long>> entry : map_KursID_SchuelerIDs.entrySet())
-				for (final long schuelerID : entry.getValue())
-					conn.transactionPersist(new DTOGostBlockungZwischenergebnisKursSchueler(ergebnisID, entry.getKey(), schuelerID));
-			// Kurse <--> Schienen
-			final Map<Long, Set<@NotNull GostBlockungsergebnisSchiene>> map_KursID_SchienenIDs = output.getMappingKursIDSchienenmenge();
-			for (final Map.Entry<Long, Set<GostBlockungsergebnisSchiene>> entry : map_KursID_SchienenIDs.entrySet())
-				for (@NotNull final GostBlockungsergebnisSchiene schiene : entry.getValue())
-					conn.transactionPersist(new DTOGostBlockungZwischenergebnisKursSchiene(ergebnisID, entry.getKey(), schiene.id));
-
-			// Ergänze die ID bei der Liste der berechneten Ergebnisse
-			ergebnisse.add(ergebnisID);
-			ergebnisID++;
+	/**
+	 * Schreibt die übergebenen Blockungsergebnisse als Zwischenergebnisse der Blockung in die Datenbank.
+	 * Die Datensätze werden dabei nicht einzeln über JPA persistiert, sondern gesammelt mithilfe von
+	 * INSERT-Anweisungen mit mehreren Datensätzen direkt über JDBC in der aktuellen Transaktion geschrieben
+	 * (siehe {@link DBEntityManager#transactionInsertAllNative(String, List, List, int)}). Das Bestimmen der
+	 * IDs erfolgt unter einer Sperre, welche nur für das Datenbank-Schema der Verbindung gilt, so dass
+	 * Berechnungen in unterschiedlichen Schemata sich nicht gegenseitig blockieren.
+	 *
+	 * @param conn      die Datenbank-Verbindung mit einer aktiven Transaktion
+	 * @param id        die ID der Blockung
+	 * @param outputs   die zu schreibenden Blockungsergebnisse
+	 *
+	 * @return die Liste der IDs der geschriebenen Zwischenergebnisse
+	 *
+	 * @throws ApiOperationException   falls beim Schreiben ein Fehler aufgetreten ist
+	 */
+	public static List<Long> schreibeErgebnisse(final DBEntityManager conn, final long id, final List<GostBlockungsergebnisManager> outputs) throws ApiOperationException {
+		final Object sperre = sperrenSchreibeErgebnisse.computeIfAbsent(conn.getDBLocation() + "/" + conn.getDBSchema(), k -> new Object());
+		synchronized (sperre) {
+			final ArrayList<Long> ergebnisse = new ArrayList<>();
+			final List<Object[]> datenErgebnisse = new ArrayList<>();
+			final List<Object[]> datenKursSchueler = new ArrayList<>();
+			final List<Object[]> datenKursSchienen = new ArrayList<>();
+			for (final GostBlockungsergebnisManager output : outputs) {
+				final long ergebnisID = conn.transactionGetNextID(DTOGostBlockungZwischenergebnis.class);
+				datenErgebnisse.add(new Object[] { ergebnisID, id, 0 });
+				// Kurse <--> Schüler
+				final Map<Long, Set<@NotNull Long>> map_KursID_SchuelerIDs = output.getMappingKursIDSchuelerIDs();
+				for (final Map.Entry<Long, Set<Long>> entry : map_KursID_SchuelerIDs.entrySet())
+					for (final long schuelerID : entry.getValue())
+						datenKursSchueler.add(new Object[] { ergebnisID, entry.getKey(), schuelerID });
+				// Kurse <--> Schienen
+				final Map<Long, Set<@NotNull GostBlockungsergebnisSchiene>> map_KursID_SchienenIDs = output.getMappingKursIDSchienenmenge();
+				for (final Map.Entry<Long, Set<GostBlockungsergebnisSchiene>> entry : map_KursID_SchienenIDs.entrySet())
+					for (@NotNull final GostBlockungsergebnisSchiene schiene : entry.getValue())
+						datenKursSchienen.add(new Object[] { ergebnisID, entry.getKey(), schiene.id });
+
+				// Ergänze die ID bei der Liste der berechneten Ergebnisse
+				ergebnisse.add(ergebnisID);
+			}
+
+			// Schreibe die Datensätze in die Datenbank - zuerst die Ergebnisse wegen der Fremdschlüssel
+			try {
+				conn.transactionInsertAllNative(Schema.tab_Gost_Blockung_Zwischenergebnisse.name(),
+						List.of(Schema.tab_Gost_Blockung_Zwischenergebnisse.col_ID.name(), Schema.tab_Gost_Blockung_Zwischenergebnisse.col_Blockung_ID.name(),
+								Schema.tab_Gost_Blockung_Zwischenergebnisse.col_IstAktiv.name()),
+						datenErgebnisse, MAX_DATENSAETZE_PRO_INSERT);
+				conn.transactionInsertAllNative(Schema.tab_Gost_Blockung_Zwischenergebnisse_Kurs_Schueler.name(),
+						List.of(Schema.tab_Gost_Blockung_Zwischenergebnisse_Kurs_Schueler.col_Zwischenergebnis_ID.name(),
+								Schema.tab_Gost_Blockung_Zwischenergebnisse_Kurs_Schueler.col_Blockung_Kurs_ID.name(),
+								Schema.tab_Gost_Blockung_Zwischenergebnisse_Kurs_Schueler.col_Schueler_ID.name()),
+						datenKursSchueler, MAX_DATENSAETZE_PRO_INSERT);
+				conn.transactionInsertAllNative(Schema.tab_Gost_Blockung_Zwischenergebnisse_Kurs_Schienen.name(),
+						List.of(Schema.tab_Gost_Blockung_Zwischenergebnisse_Kurs_Schienen.col_Zwischenergebnis_ID.name(),
+								Schema.tab_Gost_Blockung_Zwischenergebnisse_Kurs_Schienen.col_Blockung_Kurs_ID.name(),
+								Schema.tab_Gost_Blockung_Zwischenergebnisse_Kurs_Schienen.col_Schienen_ID.name()),
+						datenKursSchienen, MAX_DATENSAETZE_PRO_INSERT);
+			} catch (final DBException e) {
+				throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, e, "Fehler beim Schreiben der Blockungsergebnisse: " + e.getMessage());
+			}
+			return ergebnisse;
 		}
-		return ergebnisse;
+	}
+
+	/**
+	 * Liest die Blockungsdaten der angegebenen Blockung aus der Datenbank und prüft, ob diese
+	 * für eine Berechnung mit dem Kursblockungsalgorithmus geeignet sind.
+	 *
+	 * @param conn   die Datenbank-Verbindung
+	 * @param id     die ID der Blockung
+	 * @param zeit   die maximale Zeit in ms, welche der Algorithmus rechnen darf
+	 *
+	 * @return der Blockungsdaten-Manager als Eingabe für den Kursblockungsalgorithmus
+	 *
+	 * @throws ApiOperationException   im Fehlerfall, insbesondere wenn die Zeit {@link GostBlockungsberechnungManager#ZEIT_MAXIMAL} überschreitet
+	 */
+	static GostBlockungsdatenManager getBlockungsdatenManagerFuerBerechnung(final DBEntityManager conn, final long id, final long zeit) throws ApiOperationException {
+		GostBlockungsberechnungManager.pruefeZeit(zeit);
+		final GostBlockungsdatenManager manager = getBlockungsdatenManagerFromDB(conn, id);
+		if (manager.daten().fachwahlen.isEmpty())
+			throw new ApiOperationException(Status.NOT_FOUND, "Keine Fachwahlen für den Abiturjahrgang gefunden.");
+		if (manager.faecherManager().faecher().isEmpty())
+			throw new ApiOperationException(Status.NOT_FOUND, "Keine Fächer für den Abiturjahrgang gefunden.");
+		if (manager.daten().kurse.isEmpty())
+			throw new ApiOperationException(Status.NOT_FOUND, "Es sind keine Kurse für die Blockung angelegt.");
+		manager.setMaxTimeMillis(zeit);
+		return manager;
 	}
 
 	/**
@@ -563,17 +626,10 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 	 */
 	public Response berechne(final long id, final long zeit) throws ApiOperationException {
 		try {
-			// Erzeuge den Input für den Kursblockungsalgorithmus
-			final GostBlockungsdatenManager manager = getBlockungsdatenManagerFromDB(conn, id);
-			if (manager.daten().fachwahlen.isEmpty())
-				throw new ApiOperationException(Status.NOT_FOUND, "Keine Fachwahlen für den Abiturjahrgang gefunden.");
-			if (manager.faecherManager().faecher().isEmpty())
-				throw new ApiOperationException(Status.NOT_FOUND, "Keine Fächer für den Abiturjahrgang gefunden.");
-			if (manager.daten().kurse.isEmpty())
-				throw new ApiOperationException(Status.NOT_FOUND, "Es sind keine Kurse für die Blockung angelegt.");
-			manager.setMaxTimeMillis(zeit);
-			final KursblockungAlgorithmus algo = new KursblockungAlgorithmus();
-			final ArrayList<GostBlockungsergebnisManager> outputs = algo.handle(manager);
+			// Erzeuge den Input für den Kursblockungsalgorithmus und rechne auf allen verfügbaren Prozessorkernen
+			final GostBlockungsdatenManager manager = getBlockungsdatenManagerFuerBerechnung(conn, id, zeit);
+			final KursblockungAlgorithmusParallel algo = new KursblockungAlgorithmusParallel(manager);
+			final List<GostBlockungsergebnisManager> outputs = algo.berechne();
 			final List<Long> ergebnisse = schreibeErgebnisse(conn, id, outputs);
 			return Response.status(Status.OK).type(MediaType.APPLICATION_JSON).entity(ergebnisse).build();
 		} catch (final Exception e) {
@@ -606,11 +662,9 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		if (blockungOriginal == null)
 			throw new ApiOperationException(Status.NOT_FOUND);
 		// Bestimme die ID für das Duplikat der Blockung
-		final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung");
-		final Long idBlockungDuplikat = lastID == null ? 1 : lastID.MaxID + 1;
+		final long idBlockungDuplikat = conn.transactionGetNextID(DTOGostBlockung.class);
 		// Bestimme die ID für das Vorlage-Ergebnis der duplizierten Blockung
-		final DTOSchemaAutoInkremente dbErgebnisID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Zwischenergebnisse");
-		final long idErgebnisDuplikat = dbErgebnisID == null ? 1 : dbErgebnisID.MaxID + 1;
+		final long idErgebnisDuplikat = conn.transactionGetNextID(DTOGostBlockungZwischenergebnis.class);
 		// Bestimme den Namen der neuen Blockung
 		final List<DTOGostBlockung> blockungen = conn.queryList("SELECT e FROM DTOGostBlockung e WHERE e.Abi_Jahrgang = ?1 and e.Halbjahr = ?2", DTOGostBlockung.class, blockungOriginal.Abi_Jahrgang, blockungOriginal.Halbjahr);
 		final Set<String> namen = blockungen.stream().map(b -> b.Name).collect(Collectors.toUnmodifiableSet());
@@ -624,39 +678,33 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		conn.transactionPersist(blockungDuplikat);
 		conn.transactionFlush();
 		// Dupliziere die Schienen
-		final DTOSchemaAutoInkremente dbSchienenID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Schienen");
-		long idSchieneDuplikat = dbSchienenID == null ? 0 : dbSchienenID.MaxID + 1;
 		final HashMap<Long, Long> mapSchienenIDs = new HashMap<>();
 		final List<DTOGostBlockungSchiene> schienenOriginal = conn.queryNamed("DTOGostBlockungSchiene.blockung_id", ergebnisOriginal.Blockung_ID,
 				DTOGostBlockungSchiene.class);
 		for (final DTOGostBlockungSchiene schieneOriginal : schienenOriginal) {
-			final DTOGostBlockungSchiene schieneDuplikat = new DTOGostBlockungSchiene(idSchieneDuplikat, idBlockungDuplikat, schieneOriginal.Nummer, schieneOriginal.Bezeichnung, schieneOriginal.Wochenstunden);
+			final DTOGostBlockungSchiene schieneDuplikat = new DTOGostBlockungSchiene(conn.transactionGetNextID(DTOGostBlockungSchiene.class), idBlockungDuplikat, schieneOriginal.Nummer, schieneOriginal.Bezeichnung, schieneOriginal.Wochenstunden);
 			mapSchienenIDs.put(schieneOriginal.ID, schieneDuplikat.ID);
 			conn.transactionPersist(schieneDuplikat);
-			idSchieneDuplikat++;
 		}
 		conn.transactionFlush();
 		// Dupliziere die Kurse
-		final DTOSchemaAutoInkremente dbKurseID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Kurse");
-		long idKursDuplikat = dbKurseID == null ? 0 : dbKurseID.MaxID + 1;
 		final HashMap<Long, Long> mapKursIDs = new HashMap<>();
 		final List<DTOGostBlockungKurs> kurseOriginal = conn.queryNamed("DTOGostBlockungKurs.blockung_id", ergebnisOriginal.Blockung_ID,
 				DTOGostBlockungKurs.class);
 		final List<Long> kursIDsOriginal = kurseOriginal.stream().map(k -> k.ID).toList();
 		for (final DTOGostBlockungKurs kursOriginal : kurseOriginal) {
-			final DTOGostBlockungKurs kursDuplikat = new DTOGostBlockungKurs(idKursDuplikat, idBlockungDuplikat, kursOriginal.Fach_ID,
+			final DTOGostBlockungKurs kursDuplikat = new DTOGostBlockungKurs(conn.transactionGetNextID(DTOGostBlockungKurs.class), idBlockungDuplikat, kursOriginal.Fach_ID,
 					kursOriginal.Kursart, kursOriginal.Kursnummer, kursOriginal.IstKoopKurs, kursOriginal.Schienenanzahl, kursOriginal.Wochenstunden);
 			kursDuplikat.BezeichnungSuffix = kursOriginal.BezeichnungSuffix;
 			mapKursIDs.put(kursOriginal.ID, kursDuplikat.ID);
 			conn.transactionPersist(kursDuplikat);
-			idKursDuplikat++;
 		}
 		conn.transactionFlush();
 		// Dupliziere die KursLehrer
 		if (!kursIDsOriginal.isEmpty()) {
 			final List<DTOGostBlockungKurslehrer> kurslehrerListeOriginal = conn.queryNamed("DTOGostBlockungKurslehrer.blockung_kurs_id.multiple", kursIDsOriginal, DTOGostBlockungKurslehrer.class);
 			for (final DTOGostBlockungKurslehrer kurslehrerOriginal : kurslehrerListeOriginal) {
-				idKursDuplikat = mapKursIDs.get(kurslehrerOriginal.Blockung_Kurs_ID);
+				final long idKursDuplikat = mapKursIDs.get(kurslehrerOriginal.Blockung_Kurs_ID);
 				final DTOGostBlockungKurslehrer kurslehrerDuplikat = new DTOGostBlockungKurslehrer(idKursDuplikat,
 						kurslehrerOriginal.Lehrer_ID, kurslehrerOriginal.Reihenfolge, kurslehrerOriginal.Wochenstunden);
 				conn.transactionPersist(kurslehrerDuplikat);
@@ -664,26 +712,23 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		}
 		conn.transactionFlush();
 		// Dupliziere die Regeln
-		final DTOSchemaAutoInkremente dbRegelID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Regeln");
-		long idRegelDuplikat = dbRegelID == null ? 1 : dbRegelID.MaxID + 1;
 		final HashMap<Long, Long> mapRegelIDs = new HashMap<>();
 		final HashMap<Long, GostKursblockungRegelTyp> mapRegelTypen = new HashMap<>(); // Die Typen für die neuen Regel-IDs
 		final List<DTOGostBlockungRegel> regelnOriginal = conn.queryNamed("DTOGostBlockungRegel.blockung_id", ergebnisOriginal.Blockung_ID,
 				DTOGostBlockungRegel.class);
 		final List<Long> regelIDsOriginal = regelnOriginal.stream().map(k -> k.ID).toList();
 		for (final DTOGostBlockungRegel regelOriginal : regelnOriginal) {
-		    mapRegelTypen.put(idRegelDuplikat, regelOriginal.Typ);
-			final DTOGostBlockungRegel regelDuplikat = new DTOGostBlockungRegel(idRegelDuplikat, idBlockungDuplikat, regelOriginal.Typ);
+			final DTOGostBlockungRegel regelDuplikat = new DTOGostBlockungRegel(conn.transactionGetNextID(DTOGostBlockungRegel.class), idBlockungDuplikat, regelOriginal.Typ);
+			mapRegelTypen.put(regelDuplikat.ID, regelOriginal.Typ);
 			mapRegelIDs.put(regelOriginal.ID, regelDuplikat.ID);
 			conn.transactionPersist(regelDuplikat);
-			idRegelDuplikat++;
 		}
 		conn.transactionFlush();
 		// Dupliziere die RegelParameter
 		if (!regelIDsOriginal.isEmpty()) {
 			final List<DTOGostBlockungRegelParameter> paramListeOriginal = conn.queryNamed("DTOGostBlockungRegelParameter.regel_id.multiple", regelIDsOriginal, DTOGostBlockungRegelParameter.class);
 			for (final DTOGostBlockungRegelParameter paramOriginal : paramListeOriginal) {
-				idRegelDuplikat = mapRegelIDs.get(paramOriginal.Regel_ID);
+				final long idRegelDuplikat = mapRegelIDs.get(paramOriginal.Regel_ID);
 				// Passe den Parameter an...
 				final GostKursblockungRegelTyp typ = mapRegelTypen.get(idRegelDuplikat);
 				final GostKursblockungRegelParameterTyp paramTyp = typ.getParamType(paramOriginal.Nummer);
@@ -709,8 +754,8 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		final List<DTOGostBlockungZwischenergebnisKursSchiene> zuordnungKursSchieneListeOriginal = conn.queryNamed("DTOGostBlockungZwischenergebnisKursSchiene.zwischenergebnis_id", idErgebnisOriginal,
 				DTOGostBlockungZwischenergebnisKursSchiene.class);
 		for (final DTOGostBlockungZwischenergebnisKursSchiene zuordnungKursSchieneOriginal : zuordnungKursSchieneListeOriginal) {
-			idKursDuplikat = mapKursIDs.get(zuordnungKursSchieneOriginal.Blockung_Kurs_ID);
-			idSchieneDuplikat = mapSchienenIDs.get(zuordnungKursSchieneOriginal.Schienen_ID);
+			final long idKursDuplikat = mapKursIDs.get(zuordnungKursSchieneOriginal.Blockung_Kurs_ID);
+			final long idSchieneDuplikat = mapSchienenIDs.get(zuordnungKursSchieneOriginal.Schienen_ID);
 			final DTOGostBlockungZwischenergebnisKursSchiene zuordnungKursSchieneDuplikat = new DTOGostBlockungZwischenergebnisKursSchiene(
 					idErgebnisDuplikat, idKursDuplikat, idSchieneDuplikat);
 			conn.transactionPersist(zuordnungKursSchieneDuplikat);
@@ -720,7 +765,7 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		final List<DTOGostBlockungZwischenergebnisKursSchueler> zuordnungKursSchuelerListeOriginal = conn.queryNamed("DTOGostBlockungZwischenergebnisKursSchueler.zwischenergebnis_id", idErgebnisOriginal,
 				DTOGostBlockungZwischenergebnisKursSchueler.class);
 		for (final DTOGostBlockungZwischenergebnisKursSchueler zuordnungKursSchuelerOriginal : zuordnungKursSchuelerListeOriginal) {
-			idKursDuplikat = mapKursIDs.get(zuordnungKursSchuelerOriginal.Blockung_Kurs_ID);
+			final long idKursDuplikat = mapKursIDs.get(zuordnungKursSchuelerOriginal.Blockung_Kurs_ID);
 			final DTOGostBlockungZwischenergebnisKursSchueler zuordnungKursSchuelerDuplikat = new DTOGostBlockungZwischenergebnisKursSchueler(
 					idErgebnisDuplikat, idKursDuplikat, zuordnungKursSchuelerOriginal.Schueler_ID);
 			conn.transactionPersist(zuordnungKursSchuelerDuplikat);
@@ -763,11 +808,9 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		if (blockungOriginal.Halbjahr == GostHalbjahr.Q22)   // Blockungen der Q2.2 können nicht hochgeschrieben werden...
 			throw new ApiOperationException(Status.BAD_REQUEST);
 		// Bestimme die ID für die hochgeschriebene Blockung
-		final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung");
-		final Long idBlockungDuplikat = lastID == null ? 1 : lastID.MaxID + 1;
+		final long idBlockungDuplikat = conn.transactionGetNextID(DTOGostBlockung.class);
 		// Bestimme die ID für das Vorlage-Ergebnis der hochgeschriebenen Blockung
-		final DTOSchemaAutoInkremente dbErgebnisID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Zwischenergebnisse");
-		final long idErgebnisDuplikat = dbErgebnisID == null ? 1 : dbErgebnisID.MaxID + 1;
+		final long idErgebnisDuplikat = conn.transactionGetNextID(DTOGostBlockungZwischenergebnis.class);
 		// Bestimme den Namen der neuen Blockung
 		final String name = blockungOriginal.Name + " - hochgeschrieben von Ergebnis " + idErgebnisOriginal + ")";
 		// Erstelle die Hochgeschriebene Blockung
@@ -775,41 +818,35 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		conn.transactionPersist(blockungDuplikat);
 		conn.transactionFlush();
 		// Dupliziere die Schienen
-		final DTOSchemaAutoInkremente dbSchienenID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Schienen");
-		long idSchieneDuplikat = dbSchienenID == null ? 0 : dbSchienenID.MaxID + 1;
 		final HashMap<Long, Long> mapSchienenIDs = new HashMap<>();
 		final List<DTOGostBlockungSchiene> schienenOriginal = conn.queryNamed("DTOGostBlockungSchiene.blockung_id", ergebnisOriginal.Blockung_ID,
 				DTOGostBlockungSchiene.class);
 		for (final DTOGostBlockungSchiene schieneOriginal : schienenOriginal) {
-			final DTOGostBlockungSchiene schieneDuplikat = new DTOGostBlockungSchiene(idSchieneDuplikat, idBlockungDuplikat, schieneOriginal.Nummer, schieneOriginal.Bezeichnung, schieneOriginal.Wochenstunden);
+			final DTOGostBlockungSchiene schieneDuplikat = new DTOGostBlockungSchiene(conn.transactionGetNextID(DTOGostBlockungSchiene.class), idBlockungDuplikat, schieneOriginal.Nummer, schieneOriginal.Bezeichnung, schieneOriginal.Wochenstunden);
 			mapSchienenIDs.put(schieneOriginal.ID, schieneDuplikat.ID);
 			conn.transactionPersist(schieneDuplikat);
-			idSchieneDuplikat++;
 		}
 		conn.transactionFlush();
 		// Dupliziere die Kurse
-		final DTOSchemaAutoInkremente dbKurseID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Kurse");
-		long idKursDuplikat = dbKurseID == null ? 0 : dbKurseID.MaxID + 1;
 		final HashMap<Long, Long> mapKursIDs = new HashMap<>();
 		final HashMap<Long, DTOGostBlockungKurs> mapKurseHochgeschrieben = new HashMap<>();
 		final List<DTOGostBlockungKurs> kurseOriginal = conn.queryNamed("DTOGostBlockungKurs.blockung_id", ergebnisOriginal.Blockung_ID,
 				DTOGostBlockungKurs.class);
 		final List<Long> kursIDsOriginal = kurseOriginal.stream().map(k -> k.ID).toList();
 		for (final DTOGostBlockungKurs kursOriginal : kurseOriginal) {
-			final DTOGostBlockungKurs kursDuplikat = new DTOGostBlockungKurs(idKursDuplikat, idBlockungDuplikat, kursOriginal.Fach_ID,
+			final DTOGostBlockungKurs kursDuplikat = new DTOGostBlockungKurs(conn.transactionGetNextID(DTOGostBlockungKurs.class), idBlockungDuplikat, kursOriginal.Fach_ID,
 					kursOriginal.Kursart, kursOriginal.Kursnummer, kursOriginal.IstKoopKurs, kursOriginal.Schienenanzahl, kursOriginal.Wochenstunden);
 			kursDuplikat.BezeichnungSuffix = kursOriginal.BezeichnungSuffix;
 			mapKursIDs.put(kursOriginal.ID, kursDuplikat.ID);
 			mapKurseHochgeschrieben.put(kursDuplikat.ID, kursDuplikat);
 			conn.transactionPersist(kursDuplikat);
-			idKursDuplikat++;
 		}
 		conn.transactionFlush();
 		// Dupliziere die KursLehrer
 		if (!kursIDsOriginal.isEmpty()) {
 			final List<DTOGostBlockungKurslehrer> kurslehrerListeOriginal = conn.queryNamed("DTOGostBlockungKurslehrer.blockung_kurs_id.multiple", kursIDsOriginal, DTOGostBlockungKurslehrer.class);
 			for (final DTOGostBlockungKurslehrer kurslehrerOriginal : kurslehrerListeOriginal) {
-				idKursDuplikat = mapKursIDs.get(kurslehrerOriginal.Blockung_Kurs_ID);
+				final long idKursDuplikat = mapKursIDs.get(kurslehrerOriginal.Blockung_Kurs_ID);
 				final DTOGostBlockungKurslehrer kurslehrerDuplikat = new DTOGostBlockungKurslehrer(idKursDuplikat,
 						kurslehrerOriginal.Lehrer_ID, kurslehrerOriginal.Reihenfolge, kurslehrerOriginal.Wochenstunden);
 				conn.transactionPersist(kurslehrerDuplikat);
@@ -817,26 +854,23 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		}
 		conn.transactionFlush();
 		// Dupliziere die Regeln
-		final DTOSchemaAutoInkremente dbRegelID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Regeln");
-		long idRegelDuplikat = dbRegelID == null ? 1 : dbRegelID.MaxID + 1;
 		final HashMap<Long, Long> mapRegelIDs = new HashMap<>();
 		final HashMap<Long, GostKursblockungRegelTyp> mapRegelTypen = new HashMap<>(); // Die Typen für die neuen Regel-IDs
 		final List<DTOGostBlockungRegel> regelnOriginal = conn.queryNamed("DTOGostBlockungRegel.blockung_id", ergebnisOriginal.Blockung_ID,
 				DTOGostBlockungRegel.class);
 		final List<Long> regelIDsOriginal = regelnOriginal.stream().map(k -> k.ID).toList();
 		for (final DTOGostBlockungRegel regelOriginal : regelnOriginal) {
-		    mapRegelTypen.put(idRegelDuplikat, regelOriginal.Typ);
-			final DTOGostBlockungRegel regelDuplikat = new DTOGostBlockungRegel(idRegelDuplikat, idBlockungDuplikat, regelOriginal.Typ);
+			final DTOGostBlockungRegel regelDuplikat = new DTOGostBlockungRegel(conn.transactionGetNextID(DTOGostBlockungRegel.class), idBlockungDuplikat, regelOriginal.Typ);
+			mapRegelTypen.put(regelDuplikat.ID, regelOriginal.Typ);
 			mapRegelIDs.put(regelOriginal.ID, regelDuplikat.ID);
 			conn.transactionPersist(regelDuplikat);
-			idRegelDuplikat++;
 		}
 		conn.transactionFlush();
 		// Dupliziere die RegelParameter
 		if (!regelIDsOriginal.isEmpty()) {
 			final List<DTOGostBlockungRegelParameter> paramListeOriginal = conn.queryNamed("DTOGostBlockungRegelParameter.regel_id.multiple", regelIDsOriginal, DTOGostBlockungRegelParameter.class);
 			for (final DTOGostBlockungRegelParameter paramOriginal : paramListeOriginal) {
-				idRegelDuplikat = mapRegelIDs.get(paramOriginal.Regel_ID);
+				final long idRegelDuplikat = mapRegelIDs.get(paramOriginal.Regel_ID);
 				// Passe den Parameter an...
 				final GostKursblockungRegelTyp typ = mapRegelTypen.get(idRegelDuplikat);
 				final GostKursblockungRegelParameterTyp paramTyp = typ.getParamType(paramOriginal.Nummer);
@@ -862,8 +896,8 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		final List<DTOGostBlockungZwischenergebnisKursSchiene> zuordnungKursSchieneListeOriginal = conn.queryNamed("DTOGostBlockungZwischenergebnisKursSchiene.zwischenergebnis_id", idErgebnisOriginal,
 				DTOGostBlockungZwischenergebnisKursSchiene.class);
 		for (final DTOGostBlockungZwischenergebnisKursSchiene zuordnungKursSchieneOriginal : zuordnungKursSchieneListeOriginal) {
-			idKursDuplikat = mapKursIDs.get(zuordnungKursSchieneOriginal.Blockung_Kurs_ID);
-			idSchieneDuplikat = mapSchienenIDs.get(zuordnungKursSchieneOriginal.Schienen_ID);
+			final long idKursDuplikat = mapKursIDs.get(zuordnungKursSchieneOriginal.Blockung_Kurs_ID);
+			final long idSchieneDuplikat = mapSchienenIDs.get(zuordnungKursSchieneOriginal.Schienen_ID);
 			final DTOGostBlockungZwischenergebnisKursSchiene zuordnungKursSchieneDuplikat = new DTOGostBlockungZwischenergebnisKursSchiene(
 					idErgebnisDuplikat, idKursDuplikat, idSchieneDuplikat);
 			conn.transactionPersist(zuordnungKursSchieneDuplikat);
@@ -875,7 +909,7 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		final List<DTOGostBlockungZwischenergebnisKursSchueler> zuordnungKursSchuelerListeOriginal = conn.queryNamed("DTOGostBlockungZwischenergebnisKursSchueler.zwischenergebnis_id", idErgebnisOriginal,
 				DTOGostBlockungZwischenergebnisKursSchueler.class);
 		for (final DTOGostBlockungZwischenergebnisKursSchueler zuordnungKursSchuelerOriginal : zuordnungKursSchuelerListeOriginal) {
-			idKursDuplikat = mapKursIDs.get(zuordnungKursSchuelerOriginal.Blockung_Kurs_ID);
+			final long idKursDuplikat = mapKursIDs.get(zuordnungKursSchuelerOriginal.Blockung_Kurs_ID);
 			final DTOGostBlockungKurs kurs = mapKurseHochgeschrieben.get(idKursDuplikat);
 			// Prüfe Fachwahlen
 			if (managerFachwahlen.hatFachwahl(zuordnungKursSchuelerOriginal.Schueler_ID, kurs.Fach_ID, kurs.Kursart)) {
@@ -983,11 +1017,9 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		}
 
 		// Bestimme die ID für die hochgeschriebene Blockung
-		final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung");
-		final Long idBlockung = lastID == null ? 1 : lastID.MaxID + 1;
+		final long idBlockung = conn.transactionGetNextID(DTOGostBlockung.class);
 		// Bestimme die ID für das Vorlage-Ergebnis der hochgeschriebenen Blockung
-		final DTOSchemaAutoInkremente lastErgebnisID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Zwischenergebnisse");
-		final long idErgebnis = lastErgebnisID == null ? 1 : lastErgebnisID.MaxID + 1;
+		final long idErgebnis = conn.transactionGetNextID(DTOGostBlockungZwischenergebnis.class);
 
 		// Erstelle die Blockung
 		final DTOGostBlockung blockung = new DTOGostBlockung(idBlockung, "Restaurierte Blockung", abiturjahr, halbjahr, false);
@@ -1031,26 +1063,23 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 		conn.transactionFlush();
 
 		// Erstelle die Schienen
-		final DTOSchemaAutoInkremente lastSchienenID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Schienen");
-		long idSchiene = lastSchienenID == null ? 0 : lastSchienenID.MaxID + 1;
 		final HashMap<Integer, Long> mapSchienen = new HashMap<>();
 		for (int schienenNr = 1; schienenNr <= maxSchiene; schienenNr++) {
+			final long idSchiene = conn.transactionGetNextID(DTOGostBlockungSchiene.class);
 			final DTOGostBlockungSchiene schiene = new DTOGostBlockungSchiene(idSchiene, idBlockung, schienenNr, "Schiene " + schienenNr, 3);
 			mapSchienen.put(schienenNr, idSchiene);
 			conn.transactionPersist(schiene);
-			idSchiene++;
 		}
 		conn.transactionFlush();
 
 		// Erstelle die Kurse
-		final DTOSchemaAutoInkremente lastKurseID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Blockung_Kurse");
-		long idKurs = lastKurseID == null ? 0 : lastKurseID.MaxID + 1;
 		final HashMap<Long, Long> mapKursIDs = new HashMap<>(); // Von der Originals-Kurs-ID auf die Blockungs-Kurs-ID
 		final HashMap<Long, DTOGostBlockungKurs> mapKurseErstellt = new HashMap<>();
 		for (final DTOKurs kurs : listKurse) {
 			final GostKursart kursart = GostKursart.fromKuerzel(kurs.KursartAllg);
 			if (kursart == null)
 				continue;
+			final long idKurs = conn.transactionGetNextID(DTOGostBlockungKurs.class);
 			mapKursIDs.put(kurs.ID, idKurs);
 			final String[] strKursnummer = kurs.KurzBez.split("\\D+");
 			int kursNummer = 1;
@@ -1096,7 +1125,6 @@ public final class DataGostBlockungsdaten extends DataManager<Long> {
 				conn.transactionPersist(zuordnungKursSchiene);
 			}
 			// TODO Weitere Kurs-Lehrer ergänzen (s.o.)
-			idKurs++;
 		}
 		conn.transactionFlush();
 
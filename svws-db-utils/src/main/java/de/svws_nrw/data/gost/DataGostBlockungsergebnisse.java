@@ -32,7 +32,6 @@ import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungSchiene;
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergebnis;
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergebnisKursSchiene;
 import de.svws_nrw.db.dto.current.gost.kursblockung.DTOGostBlockungZwischenergebnisKursSchueler;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.dto.current.schild.kurse.DTOKurs;
 import de.svws_nrw.db.dto.current.schild.kurse.DTOKursLehrer;
 import de.svws_nrw.db.dto.current.schild.schueler.DTOSchueler;
@@ -747,28 +746,20 @@ public final class DataGostBlockungsergebnisse extends DataManager<Long> {
     	if (jahrgangsliste.size() > 1)
     		throw new ApiOperationException(Status.CONFLICT);
     	final DTOJahrgang jahrgang = jahrgangsliste.get(0);
-		// Bestimme die ID, mit welcher ein weiterer Kurs eingefügt wird
-		final DTOSchemaAutoInkremente dbKurseID = conn.queryByKey(DTOSchemaAutoInkremente.class, Schema.tab_Kurse.name());
-		long idKurs = dbKurseID == null ? 1 : dbKurseID.MaxID + 1;
     	// Durchwandere alle Kurse der Blockung und lege diese an, merke dabei auch die Zuordnung der neuen Kurs-IDs zu den Kurs-IDs der Blockung
 		final HashMap<Long, Long> mapKursIDs = new HashMap<>();
 		final HashMap<Long, DTOKurs> mapKursDTOs = new HashMap<>();
     	final GostBlockungsdatenManager datenManager = ergebnisManager.getParent();
     	for (final GostBlockungKurs kurs : datenManager.daten().kurse)
-    		kursHinzufuegen(ergebnisManager, abschnitt, halbjahr, jahrgang, idKurs++, kurs, mapKursIDs, mapKursDTOs);
+    		kursHinzufuegen(ergebnisManager, abschnitt, halbjahr, jahrgang, conn.transactionGetNextID(DTOKurs.class), kurs, mapKursIDs, mapKursDTOs);
     	// Durchwandere alle Schüler des Abitur-Jahrgangs und lege ggf. fehlende Lernabschnitte an
-		final DTOSchemaAutoInkremente dbID = conn.queryByKey(DTOSchemaAutoInkremente.class, Schema.tab_SchuelerLernabschnittsdaten.name());
-		long idSLA = (dbID == null) ? 1 : dbID.MaxID + 1;
 		final HashMap<Long, Long> mapLernabschnitte = new HashMap<>();
     	for (final Schueler schueler : datenManager.daten().schueler) {
     		DTOSchuelerLernabschnittsdaten lernabschnitt = DBUtilsSchuelerLernabschnittsdaten.get(conn, schueler.id, abschnitt.ID);
     		if (lernabschnitt == null)
-    			lernabschnitt = DBUtilsSchuelerLernabschnittsdaten.createByPrevious(idSLA++, conn, schueler.id, abschnitt);
+    			lernabschnitt = DBUtilsSchuelerLernabschnittsdaten.createByPrevious(conn.transactionGetNextID(DTOSchuelerLernabschnittsdaten.class), conn, schueler.id, abschnitt);
     		mapLernabschnitte.put(schueler.id, lernabschnitt.ID);
     	}
-		// Bestimme die ID, mit welcher die nächsten Schülerleistungsdaten eingefügt werden
-		final DTOSchemaAutoInkremente dbLeistungenID = conn.queryByKey(DTOSchemaAutoInkremente.class, Schema.tab_SchuelerLeistungsdaten.name());
-		long idLeistungen = dbLeistungenID == null ? 1 : dbLeistungenID.MaxID + 1;
     	// Durchwandere alle Schüler des Abitur-Jahrgangs und lege die Leistungsdaten an
     	for (final Schueler schueler : datenManager.daten().schueler) {
     		// Bestimme die Kurse, in welche der Schüler gesetzt wurde
@@ -778,7 +769,7 @@ public final class DataGostBlockungsergebnisse extends DataManager<Long> {
     			final GostFach fach = datenManager.faecherManager().get(kurs.fach_id);
     			final DTOKurs kursDTO = mapKursDTOs.get(kurs.id);
     			final DTOGostSchuelerFachbelegungen fachwahl = conn.queryByKey(DTOGostSchuelerFachbelegungen.class, schueler.id, fach.id);
-    			final DTOSchuelerLeistungsdaten leistung = new DTOSchuelerLeistungsdaten(idLeistungen++, mapLernabschnitte.get(schueler.id), kurs.fach_id);
+    			final DTOSchuelerLeistungsdaten leistung = new DTOSchuelerLeistungsdaten(conn.transactionGetNextID(DTOSchuelerLeistungsdaten.class), mapLernabschnitte.get(schueler.id), kurs.fach_id);
     			leistung.Hochrechnung = null;
     			leistung.Fachlehrer_ID = kursDTO.Lehrer_ID;
     			leistung.Kursart = switch (halbjahr) {
@@ -941,8 +932,6 @@ public final class DataGostBlockungsergebnisse extends DataManager<Long> {
     	if (jahrgangsliste.size() > 1)
     		throw new ApiOperationException(Status.CONFLICT, "Der Jahrgang '%s' wurde mehrfach in der Datenbank gefunden.".formatted(halbjahr.jahrgang));
     	final DTOJahrgang jahrgang = jahrgangsliste.get(0);
-		// Bestimme die ID, mit welcher ggf. ein weiterer Kurs eingefügt wird
-    	long idKurs = conn.transactionGetNextID(DTOKurs.class);
     	// Durchwandere alle Kurse der Blockung und lege diese an, sofern sie nicht bereits vorhanden sind. Merke dabei auch die Zuordnung der Kurs-IDs zu den Kurs-IDs der Blockung
 		final HashMap<Long, Long> mapKursIDs = new HashMap<>();
 		final HashMap<Long, DTOKurs> mapKursDTOs = new HashMap<>();
@@ -956,7 +945,7 @@ public final class DataGostBlockungsergebnisse extends DataManager<Long> {
     		if (kurseVorhanden.size() > 1)
     			throw new ApiOperationException(Status.CONFLICT, "Es existieren mehrere Kurse für einen Kurs der Blockung. Dies ist nicht zulässig und sollte in der Liste der Kurse zuvor korrigiert werden.");
     		if (kurseVorhanden.isEmpty()) {
-    			kursHinzufuegen(ergebnisManager, abschnitt, halbjahr, jahrgang, idKurs++, kurs, mapKursIDs, mapKursDTOs);
+    			kursHinzufuegen(ergebnisManager, abschnitt, halbjahr, jahrgang, conn.transactionGetNextID(DTOKurs.class), kurs, mapKursIDs, mapKursDTOs);
     		} else {
     			kursAnpassen(kurseVorhanden.get(0), ergebnisManager, kurs, mapKursIDs, mapKursDTOs);
     		}
@@ -1137,12 +1126,11 @@ public final class DataGostBlockungsergebnisse extends DataManager<Long> {
         final DTOGostBlockung blockung = conn.queryByKey(DTOGostBlockung.class, idBlockung);
         if (blockung == null)
         	throw new ApiOperationException(Status.NOT_FOUND, "Die Blockung mit der ID %d konnte nicht gefunden werden".formatted(idBlockung));
-		final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, Schema.tab_Gost_Blockung_Zwischenergebnisse.name());
-		long ergebnisID = lastID == null ? 1 : lastID.MaxID + 1;
         for (final GostBlockungsergebnis ergebnis : ergebnisse) {
         	if ((ergebnis.blockungID != idBlockung) || (ergebnis.gostHalbjahr != blockung.Halbjahr.id))
         		throw new ApiOperationException(Status.BAD_REQUEST);
 			// Schreibe das Ergebnis in die Datenbank.
+			final long ergebnisID = conn.transactionGetNextID(DTOGostBlockungZwischenergebnis.class);
 			final DTOGostBlockungZwischenergebnis erg = new DTOGostBlockungZwischenergebnis(ergebnisID, idBlockung, false);
 			conn.transactionPersist(erg);
 			conn.transactionFlush();
@@ -1163,7 +1151,6 @@ public final class DataGostBlockungsergebnisse extends DataManager<Long> {
 			conn.transactionFlush();
 			// Ergänze die ID bei den Ergebnissen
 			ergebnis.id = ergebnisID;
-			ergebnisID++;
         }
 		return Response.status(Status.OK).type(MediaType.APPLICATION_JSON).entity(ergebnisse).build();
 	}
@@ -18,7 +18,6 @@ import de.svws_nrw.data.faecher.DBUtilsFaecherGost;
 import de.svws_nrw.db.DBEntityManager;
 import de.svws_nrw.db.dto.current.gost.DTOGostJahrgangFachkombinationen;
 import de.svws_nrw.db.dto.current.schild.faecher.DTOFach;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.schema.Schema;
 import de.svws_nrw.db.utils.ApiOperationException;
 import jakarta.validation.constraints.NotNull;
@@ -215,8 +214,7 @@ public final class DataGostJahrgangFachkombinationen extends DataManager<Long> {
 		// Prüfe ob der Typ der Regel korrekt ist
 		final GostLaufbahnplanungFachkombinationTyp kombityp = GostLaufbahnplanungFachkombinationTyp.fromValue(typ);
 		// Bestimme die ID für die neue Regel
-		final DTOSchemaAutoInkremente dbID = conn.queryByKey(DTOSchemaAutoInkremente.class, Schema.tab_Gost_Jahrgang_Fachkombinationen.name());
-		final long id = dbID == null ? 1 : dbID.MaxID + 1;
+		final long id = conn.transactionGetNextID(DTOGostJahrgangFachkombinationen.class);
 		// Bestimme die Fächer der gymnasialen Oberstufe, um zwei Default-Fächer zu bestimmen
 		final GostFaecherManager fachmanager = DBUtilsFaecherGost.getFaecherManager(conn, abijahrgang);
 		final List<GostFach> faecher = fachmanager.faecher();
@@ -205,10 +205,8 @@ public final class DataGostJahrgangsliste extends DataManager<Integer> {
 		if (faecherKombis == null)
 			throw new NullPointerException();
 		if (!faecherKombis.isEmpty()) {
-			// Bestimme die ID, für welche der Datensatz eingefügt wird
-			long idNMK = conn.transactionGetNextID(DTOGostJahrgangFachkombinationen.class);
 			for (final DTOGostJahrgangFachkombinationen kombi : faecherKombis) {
-				final DTOGostJahrgangFachkombinationen k = new DTOGostJahrgangFachkombinationen(idNMK++, abiturjahr, kombi.Fach1_ID, kombi.Fach2_ID, kombi.EF1, kombi.EF2, kombi.Q11, kombi.Q12, kombi.Q21,
+				final DTOGostJahrgangFachkombinationen k = new DTOGostJahrgangFachkombinationen(conn.transactionGetNextID(DTOGostJahrgangFachkombinationen.class), abiturjahr, kombi.Fach1_ID, kombi.Fach2_ID, kombi.EF1, kombi.EF2, kombi.Q11, kombi.Q12, kombi.Q21,
 						kombi.Q22, kombi.Typ, kombi.Hinweistext);
 				k.Abi_Jahrgang = abiturjahr;
 				k.Kursart1 = kombi.Kursart1;
@@ -0,0 +1,362 @@
+package de.svws_nrw.data.gost;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.svws_nrw.core.data.gost.GostBlockungsberechnung;
+import de.svws_nrw.core.utils.gost.GostBlockungsdatenManager;
+import de.svws_nrw.core.utils.gost.GostBlockungsergebnisManager;
+import de.svws_nrw.db.Benutzer;
+import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.utils.ApiOperationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Diese Klasse verwaltet die im Hintergrund laufenden Berechnungen von Blockungen der gymnasialen
+ * Oberstufe. Eine Berechnung wird beim Start in einen eigenen Thread ausgelagert, so dass der Thread
+ * der HTTP-Anfrage und die zugehörige Datenbank-Transaktion sofort wieder freigegeben werden. Der
+ * Fortschritt kann anschließend abgefragt und die Berechnung ggf. abgebrochen werden. Nach dem Ende
+ * der Berechnung werden die Zwischenergebnisse mit einer neuen Datenbank-Verbindung des Benutzers
+ * in die Datenbank geschrieben. Eine Berechnung ist an das Schema und den Benutzer gebunden, welcher sie
+ * gestartet hat. Nur dieser Benutzer oder ein Administrator kann ihren Zustand abfragen oder sie abbrechen. <br>
+ * Da sich alle Berechnungen die Prozessorkerne des Servers teilen, ist sowohl die Rechenzeit einer Berechnung
+ * als auch die Anzahl der gleichzeitig laufenden Berechnungen beschränkt. Anfragen über diesen Grenzen werden
+ * abgelehnt.
+ */
+public final class GostBlockungsberechnungManager {
+
+	/** Der Status einer Berechnung, welche noch nicht gestartet wurde */
+	public static final String STATUS_WARTEND = "wartend";
+
+	/** Der Status einer Berechnung, welche gerade läuft */
+	public static final String STATUS_LAEUFT = "laeuft";
+
+	/** Der Status einer Berechnung, welche beendet wurde und deren Ergebnisse gespeichert wurden */
+	public static final String STATUS_BEENDET = "beendet";
+
+	/** Der Status einer Berechnung, welche abgebrochen wurde und deren bis dahin gefundene Ergebnisse gespeichert wurden */
+	public static final String STATUS_ABGEBROCHEN = "abgebrochen";
+
+	/** Der Status einer Berechnung, bei welcher ein Fehler aufgetreten ist */
+	public static final String STATUS_FEHLER = "fehler";
+
+	/** Die maximale Zeit in Millisekunden, welche für eine Berechnung angefragt werden kann */
+	public static final long ZEIT_MAXIMAL = 10L * 60L * 1000L;
+
+	/** Die maximale Anzahl an Berechnungen, welche gleichzeitig laufen können */
+	public static final int MAX_LAUFENDE_BERECHNUNGEN = 4;
+
+	/** Die Zeit in Millisekunden, welche der Status einer beendeten Berechnung noch abgefragt werden kann */
+	private static final long AUFBEWAHRUNGSZEIT = 60L * 60L * 1000L;
+
+	/** Die nächste freie ID für eine Berechnung */
+	private static final AtomicLong nextID = new AtomicLong(1);
+
+	/** Eine Map mit allen bekannten Berechnungen, welche ihrer ID zugeordnet sind */
+	private static final Map<Long, GostBlockungsberechnungManager> mapBerechnungen = new ConcurrentHashMap<>();
+
+	/** Die freien Plätze für gleichzeitig laufende Berechnungen. Ein Platz wird erst am Ende von {@link #run()} wieder freigegeben. */
+	private static final Semaphore plaetze = new Semaphore(MAX_LAUFENDE_BERECHNUNGEN);
+
+	/** Ein Zähler für die Benennung der Threads */
+	private static final AtomicInteger threadNummer = new AtomicInteger();
+
+	/** Der Executor, welcher die Berechnungen steuert. Die eigentliche Rechenarbeit erfolgt im Thread-Pool von {@link KursblockungAlgorithmusParallel}. */
+	private static final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+		final Thread t = new Thread(r, "Kursblockung-Berechnung-" + threadNummer.incrementAndGet());
+		t.setDaemon(true);
+		return t;
+	});
+
+	/** Die ID der Berechnung */
+	private final long id;
+
+	/** Das Datenbank-Schema, in welchem die Blockung liegt */
+	private final String schema;
+
+	/** Der Benutzer, welcher die Berechnung gestartet hat und mit dessen Verbindung die Ergebnisse geschrieben werden */
+	private final Benutzer user;
+
+	/** Die ID des Benutzers, welcher die Berechnung gestartet hat */
+	private final Long idBenutzer;
+
+	/** Die ID der Blockung */
+	private final long idBlockung;
+
+	/** Die maximale Zeit in Millisekunden für die Berechnung */
+	private final long zeitMaximal;
+
+	/** Der parallele Kursblockungsalgorithmus */
+	private final KursblockungAlgorithmusParallel algo;
+
+	/** Das Speichern der Ergebnisse in der Datenbank */
+	private final Speicherung speicherung;
+
+	/** Der Zeitpunkt des Starts der Berechnung */
+	private final long zeitStart;
+
+	/** Der Zeitpunkt des Endes der Berechnung oder -1, falls die Berechnung noch nicht beendet ist */
+	private volatile long zeitEnde = -1;
+
+	/** Der aktuelle Status der Berechnung */
+	private volatile String status = STATUS_WARTEND;
+
+	/** Die IDs der geschriebenen Zwischenergebnisse */
+	private volatile List<Long> ergebnisse = new ArrayList<>();
+
+	/** Eine Fehlermeldung, falls die Berechnung fehlgeschlagen ist */
+	private volatile String fehlermeldung = null;
+
+
+	/**
+	 * Das Speichern der Ergebnisse einer Berechnung in der Datenbank.
+	 */
+	@FunctionalInterface
+	interface Speicherung {
+
+		/**
+		 * Schreibt die Ergebnisse in der aktiven Transaktion der übergebenen Verbindung in die Datenbank.
+		 *
+		 * @param conn         die Datenbank-Verbindung mit einer aktiven Transaktion
+		 * @param idBlockung   die ID der Blockung
+		 * @param outputs      die zu schreibenden Blockungsergebnisse
+		 *
+		 * @return die Liste der IDs der geschriebenen Zwischenergebnisse
+		 *
+		 * @throws ApiOperationException   falls beim Schreiben ein Fehler aufgetreten ist
+		 */
+		List<Long> schreibe(DBEntityManager conn, long idBlockung, List<GostBlockungsergebnisManager> outputs) throws ApiOperationException;
+
+	}
+
+
+	private GostBlockungsberechnungManager(final DBEntityManager conn, final long idBlockung, final long zeitMaximal,
+			final KursblockungAlgorithmusParallel algo, final Speicherung speicherung) {
+		this.id = nextID.getAndIncrement();
+		this.schema = conn.getDBSchema();
+		this.user = conn.getUser();
+		this.idBenutzer = conn.getUser().getId();
+		this.idBlockung = idBlockung;
+		this.zeitMaximal = zeitMaximal;
+		this.algo = algo;
+		this.speicherung = speicherung;
+		this.zeitStart = System.currentTimeMillis();
+	}
+
+
+	/**
+	 * Führt die Berechnung aus und schreibt anschließend die Ergebnisse in die Datenbank. Am Ende wird der
+	 * Platz der Berechnung für weitere Berechnungen freigegeben.
+	 */
+	private void run() {
+		status = STATUS_LAEUFT;
+		try {
+			final List<GostBlockungsergebnisManager> outputs = algo.berechne();
+			try (DBEntityManager conn = user.getEntityManager()) {
+				if (conn == null)
+					throw new IllegalStateException("Es konnte keine Verbindung zur Datenbank für das Schreiben der Ergebnisse aufgebaut werden.");
+				conn.transactionBegin();
+				boolean committed = false;
+				try {
+					final List<Long> ids = speicherung.schreibe(conn, idBlockung, outputs);
+					conn.transactionCommitOrThrow();
+					committed = true;
+					ergebnisse = ids;
+				} finally {
+					if (!committed)
+						conn.transactionRollbackOrThrow();
+				}
+			}
+			status = algo.istAbgebrochen() ? STATUS_ABGEBROCHEN : STATUS_BEENDET;
+		} catch (final InterruptedException e) {
+			fehlermeldung = "Die Berechnung wurde unterbrochen.";
+			status = STATUS_FEHLER;
+			Thread.currentThread().interrupt();
+		} catch (final Exception e) {
+			fehlermeldung = (e.getMessage() == null) ? e.getClass().getSimpleName() : e.getMessage();
+			status = STATUS_FEHLER;
+		} finally {
+			zeitEnde = System.currentTimeMillis();
+			plaetze.release();
+		}
+	}
+
+
+	/**
+	 * Gibt zurück, ob die Berechnung beendet ist, egal ob erfolgreich, abgebrochen oder fehlerhaft.
+	 *
+	 * @return true, falls die Berechnung beendet ist
+	 */
+	private boolean istBeendet() {
+		return zeitEnde >= 0;
+	}
+
+
+	/**
+	 * Erzeugt den Core-DTO mit dem aktuellen Zustand der Berechnung.
+	 *
+	 * @return der Core-DTO
+	 */
+	private GostBlockungsberechnung toDTO() {
+		final GostBlockungsberechnung daten = new GostBlockungsberechnung();
+		daten.id = id;
+		daten.idBlockung = idBlockung;
+		daten.status = status;
+		daten.zeitMaximal = zeitMaximal;
+		daten.zeitVergangen = (istBeendet() ? zeitEnde : System.currentTimeMillis()) - zeitStart;
+		daten.anzahlInstanzen = algo.getAnzahlInstanzen();
+		daten.anzahlInstanzenBeendet = algo.getAnzahlInstanzenBeendet();
+		daten.anzahlDurchlaeufe = algo.getAnzahlDurchlaeufe();
+		daten.ergebnisse.addAll(ergebnisse);
+		daten.fehlermeldung = fehlermeldung;
+		return daten;
+	}
+
+
+	/**
+	 * Entfernt alle Berechnungen, welche bereits länger als die Aufbewahrungszeit beendet sind.
+	 */
+	private static void entferneAlteBerechnungen() {
+		final long jetzt = System.currentTimeMillis();
+		mapBerechnungen.values().removeIf(b -> b.istBeendet() && (jetzt - b.zeitEnde > AUFBEWAHRUNGSZEIT));
+	}
+
+
+	/**
+	 * Bestimmt die Berechnung mit der angegebenen ID, sofern diese in dem Schema der übergebenen
+	 * Datenbank-Verbindung gestartet wurde. Zusätzlich muss der Benutzer der Datenbank-Verbindung
+	 * die Berechnung gestartet haben oder ein Administrator sein.
+	 *
+	 * @param conn   die Datenbank-Verbindung
+	 * @param id     die ID der Berechnung
+	 *
+	 * @return die Berechnung
+	 *
+	 * @throws ApiOperationException   falls keine Berechnung mit der ID in dem Schema existiert oder
+	 *                                 der Benutzer keinen Zugriff auf die Berechnung hat
+	 */
+	private static GostBlockungsberechnungManager getBerechnung(final DBEntityManager conn, final long id) throws ApiOperationException {
+		entferneAlteBerechnungen();
+		final GostBlockungsberechnungManager berechnung = mapBerechnungen.get(id);
+		if ((berechnung == null) || (!berechnung.schema.equalsIgnoreCase(conn.getDBSchema())))
+			throw new ApiOperationException(Status.NOT_FOUND, "Keine Berechnung mit der ID %d gefunden.".formatted(id));
+		final Benutzer benutzer = conn.getUser();
+		if (!benutzer.istAdmin() && !Objects.equals(berechnung.idBenutzer, benutzer.getId()))
+			throw new ApiOperationException(Status.FORBIDDEN, "Die Berechnung mit der ID %d wurde von einem anderen Benutzer gestartet.".formatted(id));
+		return berechnung;
+	}
+
+
+	/**
+	 * Prüft, ob die angefragte Zeit für eine Berechnung zulässig ist.
+	 *
+	 * @param zeit   die maximale Zeit in ms, welche der Algorithmus rechnen darf
+	 *
+	 * @throws ApiOperationException   falls die Zeit negativ ist oder {@link #ZEIT_MAXIMAL} überschreitet
+	 */
+	static void pruefeZeit(final long zeit) throws ApiOperationException {
+		if ((zeit < 0) || (zeit > ZEIT_MAXIMAL))
+			throw new ApiOperationException(Status.BAD_REQUEST, "Die Zeit für die Berechnung muss zwischen 0 und %d ms liegen.".formatted(ZEIT_MAXIMAL));
+	}
+
+
+	/**
+	 * Startet eine neue Berechnung für die angegebene Blockung im Hintergrund. Die Blockungsdaten werden
+	 * dabei noch mit der übergebenen Datenbank-Verbindung gelesen, die eigentliche Berechnung erfolgt
+	 * aber erst nach der Rückgabe der Antwort.
+	 *
+	 * @param conn         die Datenbank-Verbindung
+	 * @param idBlockung   die ID der Blockung
+	 * @param zeit         die maximale Zeit in ms, welche der Algorithmus rechnen darf
+	 *
+	 * @return die HTTP-Response mit dem Zustand der gestarteten Berechnung
+	 *
+	 * @throws ApiOperationException   im Fehlerfall, insbesondere wenn die Zeit zu groß ist oder bereits
+	 *                                 {@link #MAX_LAUFENDE_BERECHNUNGEN} Berechnungen laufen
+	 */
+	public static Response starte(final DBEntityManager conn, final long idBlockung, final long zeit) throws ApiOperationException {
+		final GostBlockungsdatenManager manager = DataGostBlockungsdaten.getBlockungsdatenManagerFuerBerechnung(conn, idBlockung, zeit);
+		return starte(conn, idBlockung, zeit, new KursblockungAlgorithmusParallel(manager), DataGostBlockungsdaten::schreibeErgebnisse);
+	}
+
+
+	/**
+	 * Startet eine neue Berechnung mit dem übergebenen Algorithmus im Hintergrund, sofern noch ein Platz für
+	 * eine weitere Berechnung frei ist.
+	 *
+	 * @param conn          die Datenbank-Verbindung
+	 * @param idBlockung    die ID der Blockung
+	 * @param zeit          die maximale Zeit in ms, welche der Algorithmus rechnen darf
+	 * @param algo          der parallele Kursblockungsalgorithmus mit den Blockungsdaten
+	 * @param speicherung   das Speichern der Ergebnisse in der Datenbank
+	 *
+	 * @return die HTTP-Response mit dem Zustand der gestarteten Berechnung
+	 *
+	 * @throws ApiOperationException   falls die Zeit zu groß ist oder bereits {@link #MAX_LAUFENDE_BERECHNUNGEN}
+	 *                                 Berechnungen laufen
+	 */
+	static Response starte(final DBEntityManager conn, final long idBlockung, final long zeit, final KursblockungAlgorithmusParallel algo,
+			final Speicherung speicherung) throws ApiOperationException {
+		pruefeZeit(zeit);
+		entferneAlteBerechnungen();
+		if (!plaetze.tryAcquire())
+			throw new ApiOperationException(Status.TOO_MANY_REQUESTS,
+					"Es laufen bereits %d Berechnungen. Bitte später erneut versuchen.".formatted(MAX_LAUFENDE_BERECHNUNGEN));
+		final GostBlockungsberechnungManager berechnung = new GostBlockungsberechnungManager(conn, idBlockung, zeit, algo, speicherung);
+		mapBerechnungen.put(berechnung.id, berechnung);
+		try {
+			executor.execute(berechnung::run);
+		} catch (final RejectedExecutionException e) {
+			mapBerechnungen.remove(berechnung.id);
+			plaetze.release();
+			throw new ApiOperationException(Status.SERVICE_UNAVAILABLE, e, "Die Berechnung konnte nicht gestartet werden.");
+		}
+		return Response.status(Status.OK).type(MediaType.APPLICATION_JSON).entity(berechnung.toDTO()).build();
+	}
+
+
+	/**
+	 * Gibt den aktuellen Zustand der Berechnung mit der angegebenen ID zurück.
+	 *
+	 * @param conn   die Datenbank-Verbindung
+	 * @param id     die ID der Berechnung
+	 *
+	 * @return die HTTP-Response mit dem Zustand der Berechnung
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	public static Response getStatus(final DBEntityManager conn, final long id) throws ApiOperationException {
+		final GostBlockungsberechnungManager berechnung = getBerechnung(conn, id);
+		return Response.status(Status.OK).type(MediaType.APPLICATION_JSON).entity(berechnung.toDTO()).build();
+	}
+
+
+	/**
+	 * Bricht die Berechnung mit der angegebenen ID ab. Die bis dahin gefundenen Ergebnisse
+	 * werden noch in die Datenbank geschrieben.
+	 *
+	 * @param conn   die Datenbank-Verbindung
+	 * @param id     die ID der Berechnung
+	 *
+	 * @return die HTTP-Response mit dem Zustand der Berechnung
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	public static Response abbrechen(final DBEntityManager conn, final long id) throws ApiOperationException {
+		final GostBlockungsberechnungManager berechnung = getBerechnung(conn, id);
+		berechnung.algo.abbrechen();
+		return Response.status(Status.OK).type(MediaType.APPLICATION_JSON).entity(berechnung.toDTO()).build();
+	}
+
+}
@@ -0,0 +1,235 @@
+package de.svws_nrw.data.gost;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.svws_nrw.core.data.gost.GostBlockungsergebnisSchiene;
+import de.svws_nrw.core.kursblockung.KursblockungAlgorithmus;
+import de.svws_nrw.core.utils.gost.GostBlockungsdatenManager;
+import de.svws_nrw.core.utils.gost.GostBlockungsergebnisBewertungComparator;
+import de.svws_nrw.core.utils.gost.GostBlockungsergebnisManager;
+import de.svws_nrw.metriken.Metriken;
+
+/**
+ * Diese Klasse führt mehrere unabhängige Instanzen des {@link KursblockungAlgorithmus} mit unterschiedlichen
+ * Seeds parallel auf den verfügbaren Prozessorkernen des Servers aus und führt deren Ergebnisse zusammen.
+ * Der Algorithmus selbst bleibt dabei im SVWS-Core und damit transpilierbar. Jede Instanz arbeitet auf einer
+ * eigenen tiefen Kopie der Blockungsdaten, so dass keine Daten zwischen den Threads geteilt werden. <br>
+ * Da sich alle Berechnungen einen Thread-Pool teilen, kann eine Instanz erst verzögert starten. Die maximale
+ * Blockungszeit wird daher ab dem Aufruf von {@link #berechne()} gemessen und gilt für alle Instanzen gemeinsam.
+ */
+public final class KursblockungAlgorithmusParallel {
+
+	/** Die Anzahl der Prozessorkerne, welche für die Berechnung zur Verfügung stehen */
+	public static final int ANZAHL_KERNE = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+	/** Ein Zähler für die Benennung der Threads des Thread-Pools */
+	private static final AtomicInteger threadNummer = new AtomicInteger();
+
+	/** Der von allen Blockungsberechnungen gemeinsam genutzte Thread-Pool, welcher auf die Anzahl der Prozessorkerne beschränkt ist */
+	private static final ExecutorService executor = Executors.newFixedThreadPool(ANZAHL_KERNE, r -> {
+		final Thread t = new Thread(r, "Kursblockung-" + threadNummer.incrementAndGet());
+		t.setDaemon(true);
+		return t;
+	});
+
+	/** Ein Zufallszahlen-Generator für die Seeds der einzelnen Instanzen */
+	private static final Random random = new Random();
+
+	/** Die Eingabedaten der Blockung */
+	private final GostBlockungsdatenManager input;
+
+	/** Die Anzahl der parallel gestarteten Instanzen des Algorithmus */
+	private final int anzahlInstanzen;
+
+	/** Gibt an, ob die Berechnung abgebrochen wurde */
+	private final AtomicBoolean abgebrochen = new AtomicBoolean(false);
+
+	/** Die Anzahl der bisherigen Durchläufe über alle Instanzen hinweg */
+	private final AtomicLong anzahlDurchlaeufe = new AtomicLong(0);
+
+	/** Die Anzahl der bereits beendeten Instanzen */
+	private final AtomicInteger anzahlInstanzenBeendet = new AtomicInteger(0);
+
+
+	/**
+	 * Erstellt eine neue parallele Berechnung für die übergebenen Blockungsdaten, welche
+	 * für jeden verfügbaren Prozessorkern eine Instanz des Algorithmus startet.
+	 *
+	 * @param input   die Blockungsdaten inklusive der maximalen Blockungszeit
+	 */
+	public KursblockungAlgorithmusParallel(final GostBlockungsdatenManager input) {
+		this(input, ANZAHL_KERNE);
+	}
+
+
+	/**
+	 * Erstellt eine neue parallele Berechnung für die übergebenen Blockungsdaten.
+	 *
+	 * @param input             die Blockungsdaten inklusive der maximalen Blockungszeit
+	 * @param anzahlInstanzen   die Anzahl der Instanzen des Algorithmus, welche gestartet werden
+	 */
+	public KursblockungAlgorithmusParallel(final GostBlockungsdatenManager input, final int anzahlInstanzen) {
+		this.input = input;
+		this.anzahlInstanzen = Math.max(1, anzahlInstanzen);
+	}
+
+
+	/**
+	 * Startet die Berechnung und wartet, bis alle Instanzen ihre Berechnung abgeschlossen haben.
+	 * Die Ergebnisse aller Instanzen werden mit {@link #fuehreZusammen(List)} zusammengeführt. Zurückgegeben werden
+	 * höchstens so viele Ergebnisse, wie die ergiebigste Instanz erzeugt hat, so dass die Anzahl
+	 * der zu speichernden Ergebnisse nicht mit der Anzahl der Prozessorkerne wächst.
+	 *
+	 * @return die besten Blockungsergebnisse aller Instanzen, das beste Ergebnis zuerst
+	 *
+	 * @throws InterruptedException   falls der aufrufende Thread beim Warten unterbrochen wurde
+	 */
+	public List<GostBlockungsergebnisManager> berechne() throws InterruptedException {
+		final long start = System.nanoTime();
+		final long deadline = start + TimeUnit.MILLISECONDS.toNanos(input.getMaxTimeMillis());
+		// Erstelle für jede Instanz eine eigene Kopie der Eingabedaten, damit diese unabhängig voneinander arbeiten
+		final List<Callable<List<GostBlockungsergebnisManager>>> tasks = new ArrayList<>();
+		for (int i = 0; i < anzahlInstanzen; i++) {
+			final GostBlockungsdatenManager kopie = new GostBlockungsdatenManager(input.daten(), input.faecherManager());
+			final long seed = random.nextLong();
+			tasks.add(() -> {
+				try {
+					// Eine verzögert gestartete Instanz erhält nur noch die verbleibende Zeit bis zur gemeinsamen Frist
+					kopie.setMaxTimeMillis(Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+					final KursblockungAlgorithmus algo = new KursblockungAlgorithmus();
+					return algo.handleMitSeed(kopie, seed, anzahl -> {
+						anzahlDurchlaeufe.incrementAndGet();
+						return !abgebrochen.get() && (System.nanoTime() < deadline);
+					});
+				} finally {
+					anzahlInstanzenBeendet.incrementAndGet();
+				}
+			});
+		}
+
+		// Starte die Instanzen und führe die Ergebnisse zusammen
+		final List<Future<List<GostBlockungsergebnisManager>>> futures = executor.invokeAll(tasks);
+		final List<List<GostBlockungsergebnisManager>> teilergebnisse = new ArrayList<>();
+		for (final Future<List<GostBlockungsergebnisManager>> future : futures) {
+			try {
+				teilergebnisse.add(future.get());
+			} catch (final ExecutionException e) {
+				if (e.getCause() instanceof final RuntimeException re)
+					throw re;
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+		final List<GostBlockungsergebnisManager> ergebnisse = fuehreZusammen(teilergebnisse);
+		Metriken.registriereAlgorithmus("Kursblockung", start);
+		return ergebnisse;
+	}
+
+
+	/**
+	 * Führt die Ergebnisse mehrerer Instanzen zusammen. Da die Instanzen unabhängig voneinander rechnen, finden
+	 * sie häufig dieselben Verteilungen. Ergebnisse mit denselben Kurs-Schienen- und Kurs-Schüler-Zuordnungen
+	 * werden daher vor dem Sortieren nach der Bewertung nur einmal übernommen. Zurückgegeben werden höchstens
+	 * so viele Ergebnisse, wie die ergiebigste Instanz erzeugt hat.
+	 *
+	 * @param teilergebnisse   die Ergebnisse der einzelnen Instanzen
+	 *
+	 * @return die paarweise verschiedenen Ergebnisse, das beste Ergebnis zuerst
+	 */
+	static List<GostBlockungsergebnisManager> fuehreZusammen(final List<List<GostBlockungsergebnisManager>> teilergebnisse) {
+		final List<GostBlockungsergebnisManager> ergebnisse = new ArrayList<>();
+		final Set<String> schluessel = new HashSet<>();
+		int maxAnzahl = 0;
+		for (final List<GostBlockungsergebnisManager> liste : teilergebnisse) {
+			for (final GostBlockungsergebnisManager ergebnis : liste)
+				if (schluessel.add(gibSchluessel(ergebnis)))
+					ergebnisse.add(ergebnis);
+			maxAnzahl = Math.max(maxAnzahl, liste.size());
+		}
+		ergebnisse.sort((a, b) -> GostBlockungsergebnisBewertungComparator.compareBewertungen(a.getErgebnis().bewertung, b.getErgebnis().bewertung));
+		return new ArrayList<>(ergebnisse.subList(0, Math.min(maxAnzahl, ergebnisse.size())));
+	}
+
+
+	/**
+	 * Bestimmt einen Schlüssel für die Kurs-Schienen- und Kurs-Schüler-Zuordnungen eines Ergebnisses, welcher
+	 * unabhängig von der ID des Ergebnisses und der Reihenfolge der Zuordnungen ist.
+	 *
+	 * @param ergebnis   das Ergebnis
+	 *
+	 * @return der Schlüssel
+	 */
+	private static String gibSchluessel(final GostBlockungsergebnisManager ergebnis) {
+		final Map<Long, List<Long>> schienen = new TreeMap<>();
+		for (final Map.Entry<Long, Set<GostBlockungsergebnisSchiene>> e : ergebnis.getMappingKursIDSchienenmenge().entrySet())
+			schienen.put(e.getKey(), e.getValue().stream().map(s -> s.id).sorted().toList());
+		final Map<Long, List<Long>> schueler = new TreeMap<>();
+		for (final Map.Entry<Long, Set<Long>> e : ergebnis.getMappingKursIDSchuelerIDs().entrySet())
+			schueler.put(e.getKey(), e.getValue().stream().sorted().toList());
+		return schienen + "|" + schueler;
+	}
+
+
+	/**
+	 * Bricht die Berechnung ab. Die einzelnen Instanzen beenden sich nach ihrem aktuellen Durchlauf
+	 * und liefern die bis dahin gefundenen Ergebnisse.
+	 */
+	public void abbrechen() {
+		abgebrochen.set(true);
+	}
+
+
+	/**
+	 * Gibt zurück, ob die Berechnung abgebrochen wurde.
+	 *
+	 * @return true, falls die Berechnung abgebrochen wurde
+	 */
+	public boolean istAbgebrochen() {
+		return abgebrochen.get();
+	}
+
+
+	/**
+	 * Gibt die Anzahl der parallel gestarteten Instanzen des Algorithmus zurück.
+	 *
+	 * @return die Anzahl der Instanzen
+	 */
+	public int getAnzahlInstanzen() {
+		return anzahlInstanzen;
+	}
+
+
+	/**
+	 * Gibt die Anzahl der bereits beendeten Instanzen des Algorithmus zurück.
+	 *
+	 * @return die Anzahl der beendeten Instanzen
+	 */
+	public int getAnzahlInstanzenBeendet() {
+		return anzahlInstanzenBeendet.get();
+	}
+
+
+	/**
+	 * Gibt die Anzahl der bisher über alle Instanzen hinweg durchgeführten Durchläufe zurück.
+	 *
+	 * @return die Anzahl der Durchläufe
+	 */
+	public long getAnzahlDurchlaeufe() {
+		return anzahlDurchlaeufe.get();
+	}
+
+}
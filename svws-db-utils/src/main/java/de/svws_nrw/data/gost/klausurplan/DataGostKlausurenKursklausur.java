@@ -32,11 +32,13 @@ import de.svws_nrw.db.DBEntityManager;
 import de.svws_nrw.db.dto.current.gost.DTOGostJahrgangsdaten;
 import de.svws_nrw.db.dto.current.gost.klausurplanung.DTOGostKlausurenKursklausuren;
 import de.svws_nrw.db.dto.current.gost.klausurplanung.DTOGostKlausurenSchuelerklausuren;
+import de.svws_nrw.db.dto.current.gost.klausurplanung.DTOGostKlausurenSchuelerklausurenTermine;
 import de.svws_nrw.db.dto.current.gost.klausurplanung.DTOGostKlausurenTermine;
 import de.svws_nrw.db.dto.current.gost.klausurplanung.DTOGostKlausurenVorgaben;
 import de.svws_nrw.db.dto.current.schild.kurse.DTOKurs;
 import de.svws_nrw.db.dto.current.schild.schule.DTOSchuljahresabschnitte;
 import de.svws_nrw.db.utils.ApiOperationException;
+import de.svws_nrw.metriken.Metriken;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
@@ -47,6 +49,14 @@ import jakarta.ws.rs.core.Response.Status;
  */
 public final class DataGostKlausurenKursklausur extends DataManager<Long> {
 
+	/**
+	 * Die DTO-Klassen der Tabellen, aus denen die Daten von {@link #getKlausurDataCollection(DBEntityManager, int, int, boolean)}
+	 * gelesen werden. Diese werden für die Bestimmung des ETags bei der Abfrage der Klausurdaten genutzt.
+	 */
+	public static final List<Class<?>> dtoKlassenKlausurDataCollection = List.of(DTOGostKlausurenVorgaben.class,
+			DTOGostKlausurenKursklausuren.class, DTOGostKlausurenSchuelerklausuren.class, DTOGostKlausurenSchuelerklausurenTermine.class,
+			DTOGostKlausurenTermine.class);
+
 	private long _idSchuljahresAbschnitt = -1;
 
 	/**
@@ -235,12 +245,12 @@ public final class DataGostKlausurenKursklausur extends DataManager<Long> {
 	public static GostKlausurenDataCollection blocken(final DBEntityManager conn, final GostKlausurterminblockungDaten blockungDaten) throws ApiOperationException {
 		final GostKlausurenDataCollection blockung = new GostKlausurenDataCollection();
 		blockungDaten.richKlausuren = enrichKursklausuren(conn, blockungDaten.klausuren);
+		final long start = System.nanoTime();
 		final GostKlausurterminblockungErgebnis ergebnis = new KlausurterminblockungAlgorithmus().apply(blockungDaten);
-
-		long idNextTermin = conn.transactionGetNextID(DTOGostKlausurenTermine.class);
+		Metriken.registriereAlgorithmus("Klausurterminblockung", start);
 
 		for (final GostKlausurterminblockungErgebnisTermin ergebnisTermin : ergebnis.termine) {
-			bearbeiteTermin(conn, ergebnisTermin, idNextTermin++, blockung);
+			bearbeiteTermin(conn, ergebnisTermin, conn.transactionGetNextID(DTOGostKlausurenTermine.class), blockung);
 		}
 		return blockung;
 	}
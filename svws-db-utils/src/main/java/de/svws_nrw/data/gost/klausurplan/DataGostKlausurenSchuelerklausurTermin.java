@@ -32,6 +32,7 @@ import de.svws_nrw.db.dto.current.gost.klausurplanung.DTOGostKlausurenSchuelerkl
 import de.svws_nrw.db.dto.current.gost.klausurplanung.DTOGostKlausurenTermine;
 import de.svws_nrw.db.schema.Schema;
 import de.svws_nrw.db.utils.ApiOperationException;
+import de.svws_nrw.metriken.Metriken;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
@@ -275,12 +276,13 @@ public final class DataGostKlausurenSchuelerklausurTermin extends DataManager<Lo
 
 		final KlausurblockungNachschreiberAlgorithmus blockAlgo = new KlausurblockungNachschreiberAlgorithmus();
 
+		final long start = System.nanoTime();
 		final List<Pair<GostSchuelerklausurTermin, Long>> blockung = blockAlgo.berechne(config, kMan);
+		Metriken.registriereAlgorithmus("KlausurblockungNachschreiber", start);
 
 		final Map<Long, DTOGostKlausurenSchuelerklausurenTermine> mapNachschreiber = getSchuelerklausurterminDTOsZuSchuelerklausurterminen(conn, config.schuelerklausurtermine).stream().collect(Collectors.toMap(skt -> skt.ID, skt -> skt));
 		final Map<Long, DTOGostKlausurenTermine> mapNeueTermine = new HashMap<>();
 
-		long idNextTermin = conn.transactionGetNextID(DTOGostKlausurenTermine.class);
 		for (final Pair<GostSchuelerklausurTermin, Long> zuordnung: blockung) {
 			final DTOGostKlausurenSchuelerklausurenTermine dtoSkt = DeveloperNotificationException.ifMapGetIsNull(mapNachschreiber, zuordnung.a.id);
 			if (zuordnung.b >= 0) {
@@ -289,7 +291,7 @@ public final class DataGostKlausurenSchuelerklausurTermin extends DataManager<Lo
 				final GostKlausurvorgabe v = kMan.vorgabeBySchuelerklausurTermin(zuordnung.a);
 				DTOGostKlausurenTermine neuerTermin = mapNeueTermine.get(zuordnung.b);
 				if (neuerTermin == null) {
-					neuerTermin = new DTOGostKlausurenTermine(idNextTermin++, v.abiJahrgang, GostHalbjahr.fromIDorException(v.halbjahr), v.quartal, false, true);
+					neuerTermin = new DTOGostKlausurenTermine(conn.transactionGetNextID(DTOGostKlausurenTermine.class), v.abiJahrgang, GostHalbjahr.fromIDorException(v.halbjahr), v.quartal, false, true);
 					conn.transactionPersist(neuerTermin);
 					conn.transactionFlush();
 					mapNeueTermine.put(zuordnung.b, neuerTermin);
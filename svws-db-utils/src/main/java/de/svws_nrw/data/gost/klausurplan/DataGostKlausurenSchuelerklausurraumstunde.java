@@ -297,12 +297,10 @@ public final class DataGostKlausurenSchuelerklausurraumstunde extends DataManage
 	 */
 	private static List<GostKlausurraumstunde> createRaumStundenInDb(final DBEntityManager conn, final long idRaum, final List<StundenplanZeitraster> zeitrasterRaum,
 			final GostKlausurraumManager raumManager) {
-		// Bestimme die ID der ersten neuen Klausurraumstunde
-		long idNextKrs = conn.transactionGetNextID(DTOGostKlausurenRaumstunden.class);
 		final List<GostKlausurraumstunde> result = new ArrayList<>();
 		for (final StundenplanZeitraster stunde : zeitrasterRaum) {
 			if (raumManager.klausurraumstundeGetByRaumidAndZeitrasterid(idRaum, stunde.id) == null) {
-				final DTOGostKlausurenRaumstunden dtoStundeNeu = new DTOGostKlausurenRaumstunden(idNextKrs++, idRaum, stunde.id);
+				final DTOGostKlausurenRaumstunden dtoStundeNeu = new DTOGostKlausurenRaumstunden(conn.transactionGetNextID(DTOGostKlausurenRaumstunden.class), idRaum, stunde.id);
 				final GostKlausurraumstunde stundeNeu = DataGostKlausurenRaumstunde.dtoMapper.apply(dtoStundeNeu);
 				raumManager.raumstundeAdd(stundeNeu);
 				result.add(stundeNeu);
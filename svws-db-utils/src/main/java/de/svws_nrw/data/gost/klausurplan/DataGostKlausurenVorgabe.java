@@ -109,7 +109,6 @@ public final class DataGostKlausurenVorgabe extends DataManager<Long> {
 
 		final List<DTOGostKlausurenKursklausuren> kursklausuren = new ArrayList<>();
 		final List<DTOGostKlausurenSchuelerklausuren> schuelerklausuren = new ArrayList<>();
-		long idNextKursklausur = conn.transactionGetNextID(DTOGostKlausurenKursklausuren.class);
 		for (final DTOKurs kurs : kurse) {
 			final List<DTOSchuelerLernabschnittsdaten> laDaten = getLernabschnittsdatenZuKurs(hj, kurs);
 			final List<GostKlausurvorgabe> listKursVorgaben = manager.vorgabeGetMengeByHalbjahrAndQuartalAndKursartallgAndFachid(_abiturjahr, halbjahr, quartal, GostKursart.fromKuerzelOrException(kurs.KursartAllg), kurs.Fach_ID);
@@ -117,27 +116,21 @@ public final class DataGostKlausurenVorgabe extends DataManager<Long> {
 				//TODO Fehlermeldung an Client, dass es zu diesem Kurs/Fach keine Vorgaben gibt
 				throw new ApiOperationException(Status.NOT_FOUND, "Keine Klausurvorgaben für diesen Kurs definiert: " + kurs.KurzBez);
 			for (final GostKlausurvorgabe vorgabe : listKursVorgaben) {
-				if (!(mapKursidVorgabeIdKursklausur.containsKey(kurs.ID) && mapKursidVorgabeIdKursklausur.get(kurs.ID).containsKey(vorgabe.idVorgabe))) {
-					final DTOGostKlausurenKursklausuren kursklausur = new DTOGostKlausurenKursklausuren(idNextKursklausur, vorgabe.idVorgabe, kurs.ID);
-					final List<DTOGostKlausurenSchuelerklausuren> listSk = createSchuelerklausurenZuKursklausur(kursklausur, laDaten);
-					if (!listSk.isEmpty()) {
-						idNextKursklausur++;
-						kursklausuren.add(kursklausur);
-						schuelerklausuren.addAll(listSk);
-					}
+				if (!laDaten.isEmpty() && !(mapKursidVorgabeIdKursklausur.containsKey(kurs.ID) && mapKursidVorgabeIdKursklausur.get(kurs.ID).containsKey(vorgabe.idVorgabe))) {
+					final DTOGostKlausurenKursklausuren kursklausur = new DTOGostKlausurenKursklausuren(conn.transactionGetNextID(DTOGostKlausurenKursklausuren.class), vorgabe.idVorgabe, kurs.ID);
+					kursklausuren.add(kursklausur);
+					schuelerklausuren.addAll(createSchuelerklausurenZuKursklausur(kursklausur, laDaten));
 				}
 			}
 		}
 		// ID in Schülerklausuren einfügen
-		long idNextSchuelerklausur = conn.transactionGetNextID(DTOGostKlausurenSchuelerklausuren.class);
 		for (final DTOGostKlausurenSchuelerklausuren sk : schuelerklausuren)
-			sk.ID = idNextSchuelerklausur++;
+			sk.ID = conn.transactionGetNextID(DTOGostKlausurenSchuelerklausuren.class);
 
 		// SchülerklausurTermine erstellen und ID in SchülerklausurTermine einfügen
 		final List<DTOGostKlausurenSchuelerklausurenTermine> sktermine = createSchuelerklausurenTermineZuSchuelerklausuren(schuelerklausuren);
-		long idNextSchuelerklausurTermin = conn.transactionGetNextID(DTOGostKlausurenSchuelerklausurenTermine.class);
 		for (final DTOGostKlausurenSchuelerklausurenTermine skt : sktermine)
-			skt.ID = idNextSchuelerklausurTermin++;
+			skt.ID = conn.transactionGetNextID(DTOGostKlausurenSchuelerklausurenTermine.class);
 
 		if (!conn.transactionPersistAll(kursklausuren) || !conn.transactionPersistAll(schuelerklausuren) || !conn.transactionPersistAll(sktermine))
 			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR);
@@ -436,8 +429,6 @@ public final class DataGostKlausurenVorgabe extends DataManager<Long> {
 		if (vorgabenVorlage == null)
 			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR);
 
-		// Bestimme die ID, für welche der Datensatz eingefügt wird
-		long idNMK = conn.transactionGetNextID(DTOGostKlausurenVorgaben.class);
 		final List<DTOGostKlausurenVorgaben> vorgabenNeu = new ArrayList<>();
 		for (final DTOGostKlausurenVorgaben vorgabe : vorgabenVorlage) {
 			if (halbjahr != null && vorgabe.Halbjahr != halbjahr || quartal > 0 && quartal != vorgabe.Quartal)
@@ -450,7 +441,7 @@ public final class DataGostKlausurenVorgabe extends DataManager<Long> {
 				}
 			}
 			if (!exists) {
-				final DTOGostKlausurenVorgaben k = new DTOGostKlausurenVorgaben(idNMK++, abiturjahr, vorgabe.Halbjahr, vorgabe.Quartal, vorgabe.Fach_ID, vorgabe.Kursart, vorgabe.Dauer,
+				final DTOGostKlausurenVorgaben k = new DTOGostKlausurenVorgaben(conn.transactionGetNextID(DTOGostKlausurenVorgaben.class), abiturjahr, vorgabe.Halbjahr, vorgabe.Quartal, vorgabe.Fach_ID, vorgabe.Kursart, vorgabe.Dauer,
 						vorgabe.Auswahlzeit, vorgabe.IstMdlPruefung, vorgabe.IstAudioNotwendig, vorgabe.IstVideoNotwendig);
 				k.Bemerkungen = vorgabe.Bemerkungen;
 				vorgabenNeu.add(k);
@@ -482,8 +473,6 @@ public final class DataGostKlausurenVorgabe extends DataManager<Long> {
 			manager.put(hj, new GostKlausurvorgabenManager(DTOMapper.mapList(vorgabenVorlage.stream().filter(v -> v.Halbjahr == hj).toList(), dtoMapper)));
 		final List<GostFach> faecher = DBUtilsFaecherGost.getFaecherManager(conn, null).getFaecherSchriftlichMoeglich();
 		final List<DTOGostKlausurenVorgaben> neueVorgaben = new ArrayList<>();
-		// Bestimme die ID, für welche der Datensatz eingefügt wird
-		long idNMK = conn.transactionGetNextID(DTOGostKlausurenVorgaben.class);
 		final Set<Integer> quartale = new HashSet<>();
 		if (quartal == 0) {
 			quartale.add(1);
@@ -496,7 +485,7 @@ public final class DataGostKlausurenVorgabe extends DataManager<Long> {
 				if (ka == GostKursart.LK && !fach.istMoeglichAbiLK || halbjahr == GostHalbjahr.Q22 && !(fach.istMoeglichAbiGK || fach.istMoeglichAbiLK))
 					continue;
 				for (final int q : quartale) {
-					final DTOGostKlausurenVorgaben vorgabeNeu = new DTOGostKlausurenVorgaben(idNMK++, -1, halbjahr, q, fach.id, ka, berechneApoKlausurdauer(halbjahr, ka, fach), 0, false, false, false);
+					final DTOGostKlausurenVorgaben vorgabeNeu = new DTOGostKlausurenVorgaben(conn.transactionGetNextID(DTOGostKlausurenVorgaben.class), -1, halbjahr, q, fach.id, ka, berechneApoKlausurdauer(halbjahr, ka, fach), 0, false, false, false);
 					if (manager.get(vorgabeNeu.Halbjahr).vorgabeGetByHalbjahrAndQuartalAndKursartallgAndFachid(-1, halbjahr, vorgabeNeu.Quartal, vorgabeNeu.Kursart, vorgabeNeu.Fach_ID) == null)
 						neueVorgaben.add(vorgabeNeu);
 				}
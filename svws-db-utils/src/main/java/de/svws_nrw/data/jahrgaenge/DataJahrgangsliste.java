@@ -58,7 +58,7 @@ public final class DataJahrgangsliste extends DataManager<Long> {
 	 * @throws ApiOperationException   im Fehlerfall
 	 */
 	public static List<JahrgangsDaten> getJahrgangsliste(final DBEntityManager conn) throws ApiOperationException {
-    	final List<DTOJahrgang> jahrgaenge = conn.queryAll(DTOJahrgang.class);
+    	final List<DTOJahrgang> jahrgaenge = conn.queryAllCached(DTOJahrgang.class);
     	if (jahrgaenge == null)
     		throw new ApiOperationException(Status.NOT_FOUND, "Keine Jahrgänge gefunden");
     	return jahrgaenge.stream().map(dtoMapperJahrgang).sorted((a, b) -> Long.compare(a.sortierung, b.sortierung)).toList();
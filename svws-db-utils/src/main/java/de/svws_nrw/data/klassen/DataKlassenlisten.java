@@ -70,7 +70,7 @@ public final class DataKlassenlisten extends DataManager<Long> {
     	final Map<Long, List<DTOKlassenLeitung>> klassenLeitungen = conn.queryNamed("DTOKlassenLeitung.klassen_id.multiple", klassenIDs, DTOKlassenLeitung.class)
     			.stream().collect(Collectors.groupingBy(kll -> kll.Klassen_ID));
 		// Bestimme die Informationen zur Schule und zu den Schuljahresabschnitten
-		final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+		final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
 		if (schule == null)
 			throw new ApiOperationException(Status.NOT_FOUND, "Konnte die Informationen zur Schule nicht einlesen");
 		final @NotNull Map<@NotNull Long, @NotNull DTOSchuljahresabschnitte> mapSchuljahresabschnitte = DataSchuljahresabschnitte.getDTOMap(conn);
@@ -172,7 +172,7 @@ public final class DataKlassenlisten extends DataManager<Long> {
 	 * @throws ApiOperationException im Fehlerfall
 	 */
 	public static Response setDefaultSortierung(final DBEntityManager conn, final long schuljahresabschnitt) throws ApiOperationException {
-		final List<DTOJahrgang> jahrgaenge = conn.queryAll(DTOJahrgang.class);
+		final List<DTOJahrgang> jahrgaenge = conn.queryAllCached(DTOJahrgang.class);
     	if ((jahrgaenge == null) || (jahrgaenge.isEmpty()))
     		throw new ApiOperationException(Status.NOT_FOUND, "Es wurden keine Jahrgänge gefunden.");
     	final Map<Long, DTOJahrgang> mapJahrgaenge = jahrgaenge.stream().collect(Collectors.toMap(j -> j.ID, j -> j));
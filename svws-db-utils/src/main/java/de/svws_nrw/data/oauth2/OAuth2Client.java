@@ -1,6 +1,9 @@
 package de.svws_nrw.data.oauth2;
 
 import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpClient.Version;
@@ -11,15 +14,21 @@ import java.net.http.HttpResponse.BodyHandler;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.time.Duration;
 import java.util.Base64;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 
+import de.svws_nrw.base.compression.GZipWriterFunction;
 import de.svws_nrw.db.dto.current.svws.auth.DTOSchuleOAuthSecrets;
 import de.svws_nrw.db.utils.ApiOperationException;
 import jakarta.ws.rs.core.Response.Status;
@@ -43,6 +52,9 @@ public final class OAuth2Client {
 	/** Konstante Map als Cache der bereits erzeugten OAuthclients anhand ihrer URL */
 	private static final Map<String, OAuth2Client> OAUTH2_CLIENT_CACHE_BY_URL = new ConcurrentHashMap<>();
 
+	/** Die Größe des Puffers der Pipe beim Streamen von Daten in den Body eines Requests */
+	private static final int PIPE_PUFFERGROESSE = 64 * 1024;
+
 	/** allg. Pfad auf OAuth2-Servern zum Tokenaustausch */
 	private static String OAUTH2_PATH = "/oauth/token";
 
@@ -238,6 +250,103 @@ public final class OAuth2Client {
 	}
 
 
+	/**
+	 * Sendet Daten an eine URL mit dem Content-Type multipart/form-data. Im Gegensatz zu
+	 * {@link #postMultipart(String, String, byte[], BodyHandler)} werden die Daten dabei nicht vorab
+	 * in einem byte-Array erzeugt, sondern während des Sendens von der übergebenen Funktion in einen
+	 * GZIP-Stream geschrieben, welcher über eine Pipe direkt in den Body des Requests übertragen wird.
+	 * Tritt beim Schreiben der Daten ein Fehler auf, so wird der Request abgebrochen. Umgekehrt werden nach dem
+	 * Ende des Requests, insbesondere bei einem Fehler oder einer Zeitüberschreitung, die Pipe geschlossen und
+	 * der schreibende Thread unterbrochen, so dass dieser nicht dauerhaft auf das Lesen der Daten wartet.
+	 *
+	 * @param <T>        der generische Typ der {@link HttpResponse} und des entsprechenden {@link BodyHandler}
+	 * @param path       der Pfad als Teil der URL an den der Request gesendet wird
+	 * @param filename   der Dateiname, der verwendet wird
+	 * @param writer     die Funktion, welche die Daten in den GZIP-Stream schreibt. Diese darf den Stream nicht
+	 *                   schließen, da danach noch die abschließende Boundary geschrieben wird (z.B. beim Schreiben
+	 *                   von JSON-Daten {@link de.svws_nrw.data.JSONMapper#writeTo(java.io.OutputStream, Object)} nutzen)
+	 * @param handler    der BodyHandler für die Response
+	 *
+	 * @return die Response
+	 *
+	 * @throws ApiOperationException im Fehlerfall
+	 */
+	public <T> HttpResponse<T> postMultipartGZip(final String path, final String filename, final GZipWriterFunction writer, final BodyHandler<T> handler) throws ApiOperationException {
+		final URI uri = URI.create(url + path);
+		final String actualBoundary = UUID.randomUUID().toString() + "--";
+		final String boundary = "--" + actualBoundary;
+		final byte[] boundaryBytes = ("\r\n" + boundary).getBytes();
+		final byte[] contentDisposition = (boundary + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n\r\n").getBytes();
+		final AtomicReference<Exception> fehler = new AtomicReference<>();
+		// Der Body kann vom HTTP-Client mehrfach angefordert werden, daher werden alle Pipes und schreibenden Threads gemerkt
+		final List<PipedInputStream> pipes = new CopyOnWriteArrayList<>();
+		final List<Thread> schreiber = new CopyOnWriteArrayList<>();
+		final AtomicBoolean beendet = new AtomicBoolean(false);
+		final HttpRequest request = HttpRequest.newBuilder().uri(uri).timeout(Duration.ofMinutes(2))
+				.POST(BodyPublishers.ofInputStream(() -> {
+					final PipedInputStream in = new PipedInputStream(PIPE_PUFFERGROESSE);
+					final PipedOutputStream out;
+					try {
+						out = new PipedOutputStream(in);
+					} catch (final IOException e) {
+						throw new UncheckedIOException(e);
+					}
+					pipes.add(in);
+					schreiber.add(Thread.ofVirtual().name("OAuth2Client-Upload").start(() -> {
+						try (out) {
+							out.write(contentDisposition);
+							final GZIPOutputStream gzipOut = new GZIPOutputStream(out, PIPE_PUFFERGROESSE);
+							writer.write(gzipOut);
+							gzipOut.finish();
+							out.write(boundaryBytes);
+						} catch (final Exception e) {
+							// Schließe die Pipe auf der Leseseite, damit der Request mit einem Fehler abgebrochen wird. Fehler durch das
+							// Schließen der Pipe nach dem Ende des Requests werden dabei nicht berücksichtigt.
+							if (!beendet.get())
+								fehler.compareAndSet(null, e);
+							schliesse(in);
+						}
+					}));
+					return in;
+				}))
+				.header("Content-Type", "multipart/form-data;boundary=" + actualBoundary)
+				.header("Authorization", "Bearer " + token.accessToken).header("file", "file").build();
+		final HttpResponse<T> response;
+		try {
+			response = send(request, handler);
+		} catch (final ApiOperationException e) {
+			if (fehler.get() != null)
+				throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, fehler.get());
+			throw e;
+		} finally {
+			// Gib die Pipes frei und beende schreibende Threads, welche z.B. nach einer Zeitüberschreitung noch auf das Lesen warten
+			beendet.set(true);
+			for (final PipedInputStream in : pipes)
+				schliesse(in);
+			for (final Thread t : schreiber)
+				t.interrupt();
+		}
+		if (fehler.get() != null)
+			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, fehler.get());
+		return response;
+	}
+
+
+	/**
+	 * Schließt die Leseseite der übergebenen Pipe. Ein schreibender Thread erhält dadurch beim nächsten
+	 * Schreibversuch eine {@link IOException}.
+	 *
+	 * @param in   die Leseseite der Pipe
+	 */
+	private static void schliesse(final PipedInputStream in) {
+		try {
+			in.close();
+		} catch (@SuppressWarnings("unused") final IOException e) {
+			// Die Pipe ist bereits geschlossen
+		}
+	}
+
+
 	/**
 	 * Sendet Daten mit Content-Type application/x-www-form-urlencoded. Dabei werden die übergebenen Strings als
 	 * Schlüssel-Wert-Paare betrachtet
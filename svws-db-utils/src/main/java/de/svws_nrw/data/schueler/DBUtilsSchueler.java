@@ -137,9 +137,9 @@ public final class DBUtilsSchueler {
 	 */
 	public static List<Sprachendaten> getSchuelerSprachendaten(final DBEntityManager conn, final List<Long> ids) {
         // Lese die Sprachbelegungen (Sprachenfolge) und die Sprachprüfungen aus der Datenbank ein
-        final Map<Long, List<DTOSchuelerSprachenfolge>> mapSprachenfolgen = conn.queryNamed("DTOSchuelerSprachenfolge.schueler_id.multiple", ids, DTOSchuelerSprachenfolge.class)
+        final Map<Long, List<DTOSchuelerSprachenfolge>> mapSprachenfolgen = conn.queryNamedMultiple("DTOSchuelerSprachenfolge.schueler_id.multiple", ids, DTOSchuelerSprachenfolge.class)
         		.stream().collect(Collectors.groupingBy(f -> f.Schueler_ID, Collectors.toList()));
-        final Map<Long, List<DTOSchuelerSprachpruefungen>> mapSprachpruefungen = conn.queryNamed("DTOSchuelerSprachpruefungen.schueler_id.multiple", ids, DTOSchuelerSprachpruefungen.class)
+        final Map<Long, List<DTOSchuelerSprachpruefungen>> mapSprachpruefungen = conn.queryNamedMultiple("DTOSchuelerSprachpruefungen.schueler_id.multiple", ids, DTOSchuelerSprachpruefungen.class)
         		.stream().collect(Collectors.groupingBy(f -> f.Schueler_ID, Collectors.toList()));
         // ... und gibt sie als Sprachendaten-Objekte zurück.
         return ids.stream().map(id -> dtoMapperSprachendaten(id, mapSprachenfolgen.computeIfAbsent(id, k -> new ArrayList<>()), mapSprachpruefungen.computeIfAbsent(id, k -> new ArrayList<>()))).toList();
@@ -10,7 +10,6 @@ import de.svws_nrw.core.data.schueler.SchuelerBetriebsdaten;
 import de.svws_nrw.data.DataManager;
 import de.svws_nrw.data.JSONMapper;
 import de.svws_nrw.db.DBEntityManager;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.dto.current.schild.berufskolleg.DTOBeschaeftigungsart;
 import de.svws_nrw.db.dto.current.schild.katalog.DTOAnsprechpartnerAllgemeineAdresse;
 import de.svws_nrw.db.dto.current.schild.katalog.DTOKatalogAllgemeineAdresse;
@@ -238,8 +237,7 @@ public final class DataSchuelerBetriebsdaten extends DataManager<Long> {
 				throw new ApiOperationException(Status.NOT_FOUND, "Betrieb mit der ID " + betrieb_id + " wurde nicht gefunden.");
 
 			// Bestimme die ID des neuen Ansprechpartners
-			final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Schueler_AllgAdr");
-			final Long id = lastID == null ? 1 : lastID.MaxID + 1;
+			final long id = conn.transactionGetNextID(DTOSchuelerAllgemeineAdresse.class);
 
 			// Schülerbetrieb anlegen
 			s_betrieb = new DTOSchuelerAllgemeineAdresse(id, schueler_id, betrieb_id);
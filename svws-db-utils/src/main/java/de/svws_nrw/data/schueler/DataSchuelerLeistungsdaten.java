@@ -1,6 +1,9 @@
 package de.svws_nrw.data.schueler;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -113,6 +116,25 @@ public final class DataSchuelerLeistungsdaten extends DataManager<Long> {
 	}
 
 
+	/**
+	 * Ermittelt die Leistungsdaten für die angegebenen Lernabschnitte mit möglichst wenigen Datenbank-Anfragen
+	 * und gibt diese zugeordnet zu der ID des jeweiligen Lernabschnitts zurück.
+	 *
+	 * @param abschnittIDs   die IDs der Lernabschnitte
+	 *
+	 * @return die Map mit den Listen der Leistungsdaten zu den IDs der Lernabschnitte, bei Lernabschnitten ohne
+	 *         Leistungsdaten ist kein Eintrag vorhanden
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	public Map<Long, List<SchuelerLeistungsdaten>> getByLernabschnitte(final Collection<Long> abschnittIDs) throws ApiOperationException {
+		final Map<Long, List<SchuelerLeistungsdaten>> result = new HashMap<>();
+		for (final DTOSchuelerLeistungsdaten l : conn.queryNamedMultiple("DTOSchuelerLeistungsdaten.abschnitt_id.multiple", abschnittIDs, DTOSchuelerLeistungsdaten.class))
+			result.computeIfAbsent(l.Abschnitt_ID, id -> new ArrayList<>()).add(dtoMapper.apply(l));
+		return result;
+	}
+
+
 	@Override
 	public Response get(final Long id) throws ApiOperationException {
 		// Prüfe, ob die Leistungsdaten mit der ID existieren
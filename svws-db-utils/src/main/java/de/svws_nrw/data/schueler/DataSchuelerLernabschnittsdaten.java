@@ -1,5 +1,6 @@
 package de.svws_nrw.data.schueler;
 
+import de.svws_nrw.core.data.schueler.SchuelerLeistungsdaten;
 import de.svws_nrw.core.data.schueler.SchuelerLernabschnittNachpruefung;
 import de.svws_nrw.core.data.schueler.SchuelerLernabschnittNachpruefungsdaten;
 import de.svws_nrw.core.data.schueler.SchuelerLernabschnittsdaten;
@@ -149,14 +150,14 @@ public final class DataSchuelerLernabschnittsdaten extends DataManager<Long> {
 		if (schueler_ids.isEmpty())
 			return new ArrayList<>();
 
-		final Map<Long, DTOSchueler> mapSchueler = conn.queryNamed("DTOSchueler.id.multiple", schueler_ids, DTOSchueler.class)
+		final Map<Long, DTOSchueler> mapSchueler = conn.queryNamedMultiple("DTOSchueler.id.multiple", schueler_ids, DTOSchueler.class)
 			.stream().collect(Collectors.toMap(s -> s.ID, s -> s));
 		for (final Long schuelerID : schueler_ids)
 			if (mapSchueler.get(schuelerID) == null)
 				throw new ApiOperationException(Status.NOT_FOUND, "Ein Schüler mit der ID %d existiert nicht.".formatted(schuelerID));
 
 		// Hole alle Lernabschnitte der übergebenen Schüler-IDs und filtere sie auf den Schuljahresabschnitt und die Wechsel-Nr.
-		final List<DTOSchuelerLernabschnittsdaten> dtoLernabschnitte = conn.queryNamed("DTOSchuelerLernabschnittsdaten.schueler_id.multiple", schueler_ids, DTOSchuelerLernabschnittsdaten.class).stream()
+		final List<DTOSchuelerLernabschnittsdaten> dtoLernabschnitte = conn.queryNamedMultiple("DTOSchuelerLernabschnittsdaten.schueler_id.multiple", schueler_ids, DTOSchuelerLernabschnittsdaten.class).stream()
 			.filter(a -> (mitWechseln ? a.WechselNr >= 0 : a.WechselNr == 0))
 			.sorted(Comparator
 				.comparing((final DTOSchuelerLernabschnittsdaten a) -> a.Schueler_ID)
@@ -164,9 +165,18 @@ public final class DataSchuelerLernabschnittsdaten extends DataManager<Long> {
 				.thenComparing((final DTOSchuelerLernabschnittsdaten a) -> a.WechselNr))
 			.toList();
 
+		// Bestimme die Fachbemerkungen und Leistungsdaten aller Lernabschnitte gemeinsam, statt einzeln für jeden Lernabschnitt
+		final List<Long> idsAbschnitte = dtoLernabschnitte.stream().map(a -> a.ID).toList();
+		final Map<Long, List<DTOSchuelerPSFachBemerkungen>> mapBemerkungen = conn.queryNamedMultiple("DTOSchuelerPSFachBemerkungen.abschnitt_id.multiple",
+				idsAbschnitte, DTOSchuelerPSFachBemerkungen.class).stream().collect(Collectors.groupingBy(b -> b.Abschnitt_ID));
+		final Map<Long, List<SchuelerLeistungsdaten>> mapLeistungsdaten = new DataSchuelerLeistungsdaten(conn).getByLernabschnitte(idsAbschnitte);
+
 		final List<SchuelerLernabschnittsdaten> daten = new ArrayList<>();
-		for (final DTOSchuelerLernabschnittsdaten a : dtoLernabschnitte)
-			daten.add(getFromID(a.ID));
+		for (final DTOSchuelerLernabschnittsdaten a : dtoLernabschnitte) {
+			final SchuelerLernabschnittsdaten abschnitt = map(a, mapBemerkungen.getOrDefault(a.ID, Collections.emptyList()));
+			abschnitt.leistungsdaten.addAll(mapLeistungsdaten.getOrDefault(a.ID, Collections.emptyList()));
+			daten.add(abschnitt);
+		}
 		return daten;
 	}
 
@@ -210,8 +220,27 @@ public final class DataSchuelerLernabschnittsdaten extends DataManager<Long> {
 		final List<DTOSchuelerPSFachBemerkungen> bemerkungen = conn.queryNamed("DTOSchuelerPSFachBemerkungen.abschnitt_id", aktuell.ID, DTOSchuelerPSFachBemerkungen.class);
 		if (bemerkungen == null)
 			throw new ApiOperationException(Status.NOT_FOUND, "Keine Datensatz mit Bemerkungen zur Abschnitt-ID " + id + " gefunden.");
+		final SchuelerLernabschnittsdaten daten = map(aktuell, bemerkungen);
+		if (!(new DataSchuelerLeistungsdaten(conn).getByLernabschnitt(aktuell.ID, daten.leistungsdaten)))
+			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, "Keine Leistungsdaten zur Abschnitt-ID " + id + " gefunden.");
+		return daten;
+	}
+
+
+	/**
+	 * Erstellt die Lernabschnittsdaten ohne Leistungsdaten aus dem Datenbank-DTO des Lernabschnitts
+	 * und den zugehörigen Fachbemerkungen.
+	 *
+	 * @param aktuell       das Datenbank-DTO des Lernabschnitts
+	 * @param bemerkungen   die Liste der Fachbemerkungen zu dem Lernabschnitt
+	 *
+	 * @return die Lernabschnittsdaten
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	private static SchuelerLernabschnittsdaten map(final DTOSchuelerLernabschnittsdaten aktuell, final List<DTOSchuelerPSFachBemerkungen> bemerkungen) throws ApiOperationException {
 		if (bemerkungen.size() > 1)
-			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, "Mehr als einen Datensatz mit Bemerkungen zur Abschnitt-ID " + id + " gefunden.");
+			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, "Mehr als einen Datensatz mit Bemerkungen zur Abschnitt-ID " + aktuell.ID + " gefunden.");
 
 		final SchuelerLernabschnittsdaten daten = new SchuelerLernabschnittsdaten();
 		daten.id = aktuell.ID;
@@ -298,10 +327,6 @@ public final class DataSchuelerLernabschnittsdaten extends DataManager<Long> {
 			daten.bemerkungen.foerderschwerpunkt = b.BemerkungFSP;
 			daten.bemerkungen.versetzungsentscheidung = b.BemerkungVersetzung;
 		}
-
-		if (!(new DataSchuelerLeistungsdaten(conn).getByLernabschnitt(aktuell.ID, daten.leistungsdaten)))
-			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, "Keine Leistungsdaten zur Abschnitt-ID " + id + " gefunden.");
-
 		return daten;
 	}
 
@@ -20,6 +20,7 @@ import de.svws_nrw.core.types.schule.Schulform;
 import de.svws_nrw.core.types.schule.Schulgliederung;
 import de.svws_nrw.core.utils.gost.GostAbiturjahrUtils;
 import de.svws_nrw.data.DataManager;
+import de.svws_nrw.data.JSONMapper;
 import de.svws_nrw.data.gost.DataGostJahrgangsliste;
 import de.svws_nrw.data.jahrgaenge.DataJahrgangsliste;
 import de.svws_nrw.data.klassen.DataKlassenlisten;
@@ -35,7 +36,6 @@ import de.svws_nrw.db.dto.current.schild.schule.DTOSchuljahresabschnitte;
 import de.svws_nrw.db.utils.ApiOperationException;
 import jakarta.persistence.TypedQuery;
 import jakarta.validation.constraints.NotNull;
-import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 
@@ -63,26 +63,26 @@ public final class DataSchuelerliste extends DataManager<Long> {
 	public Response getAll() throws ApiOperationException {
 		Long tmpAbschnitt = this.abschnitt;
 		if (tmpAbschnitt == null) {
-			final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+			final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
 			if (schule == null)
 				throw new ApiOperationException(Status.NOT_FOUND);
 			tmpAbschnitt = schule.Schuljahresabschnitts_ID;
 		}
 		final List<SchuelerListeEintrag> daten = getListeSchueler(conn, tmpAbschnitt, false);
-        return Response.status(Status.OK).type(MediaType.APPLICATION_JSON).entity(daten).build();
+		return JSONMapper.streamingResponseFromObject(daten);
 	}
 
 	@Override
 	public Response getList() throws ApiOperationException {
 		Long tmpAbschnitt = this.abschnitt;
 		if (tmpAbschnitt == null) {
-			final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+			final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
 			if (schule == null)
 				throw new ApiOperationException(Status.NOT_FOUND);
 			tmpAbschnitt = schule.Schuljahresabschnitts_ID;
 		}
 		final List<SchuelerListeEintrag> daten = getListeSchueler(conn, tmpAbschnitt, true);
-        return Response.status(Status.OK).type(MediaType.APPLICATION_JSON).entity(daten).build();
+		return JSONMapper.streamingResponseFromObject(daten);
 	}
 
 	@Override
@@ -280,8 +280,8 @@ public final class DataSchuelerliste extends DataManager<Long> {
 			mapAbschnitte.put(id, (a == null) ? mapAktAbschnitte.get(id) : a);
 		}
 		// Bestimme die Jahrgänge der Schule
-		final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
-		final Map<Long, DTOJahrgang> mapJahrgaenge = conn.queryAll(DTOJahrgang.class).stream().collect(Collectors.toMap(j -> j.ID, j -> j));
+		final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
+		final Map<Long, DTOJahrgang> mapJahrgaenge = conn.queryAllCached(DTOJahrgang.class).stream().collect(Collectors.toMap(j -> j.ID, j -> j));
     	// Erstelle die Schüler-Liste und sortiere sie
     	final List<SchuelerListeEintrag> schuelerListe = schueler.stream()
     		.map(s -> erstelleSchuelerlistenEintrag(s, mapAbschnitte.get(s.ID), mapJahrgaenge, schule.Schulform))
@@ -316,7 +316,7 @@ public final class DataSchuelerliste extends DataManager<Long> {
 	 */
 	public static SchuelerListe getSchuelerListe(final DBEntityManager conn, final long idSchuljahresabschnitt) throws ApiOperationException {
 		// Bestimme die Schulform
-		final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+		final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
 		if ((schule == null) || (schule.Schulform == null))
 			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, "Die Schulform der Schule konnte nicht ermittelt werden.");
 		// Bestimme zunächst alle Schuljahresabschnitte und prüfe, ob die übergeben ID gültig ist
@@ -40,7 +40,7 @@ public final class DataKatalogReformpaedagogik extends DataManager<Long> {
 
 	@Override
 	public Response getList() throws ApiOperationException {
-        final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+        final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
         if (schule == null)
             throw new ApiOperationException(Status.NOT_FOUND);
     	final var liste = Reformpaedagogik.get(schule.Schulform);
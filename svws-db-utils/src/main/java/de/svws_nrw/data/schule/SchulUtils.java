@@ -21,7 +21,9 @@ public final class SchulUtils {
 	}
 
 	/**
-	 * Bestimmt das DB-DTO für die eigene Schule.
+	 * Bestimmt das DB-DTO für die eigene Schule. Dieses wird über den Katalog-Cache gelesen und ist daher eine
+	 * Kopie, welche nicht von der Datenbankverbindung verwaltet wird. Soll die eigene Schule geändert werden, so
+	 * muss sie direkt über die Datenbankverbindung gelesen werden.
 	 *
 	 * @param conn   die Datenbankverbindung für die Abfrage des Schul-DTOs
 	 *
@@ -30,7 +32,7 @@ public final class SchulUtils {
 	 * @throws ApiOperationException mit dem Response Code 404 NOT_FOUND falls kein Schul-Eintrag in der DB vorhanden ist
 	 */
 	public static @NotNull DTOEigeneSchule getDTOSchule(@NotNull final DBEntityManager conn) throws ApiOperationException {
-		final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+		final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
 		if (schule == null)
     		throw new ApiOperationException(Status.NOT_FOUND, "Kein Eintrag für die eigene Schule in der Datenbank vorhanden.");
 		return schule;
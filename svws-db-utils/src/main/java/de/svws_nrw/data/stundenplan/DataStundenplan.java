@@ -16,8 +16,14 @@ import de.svws_nrw.data.DataBasicMapper;
 import de.svws_nrw.data.DataManager;
 import de.svws_nrw.data.JSONMapper;
 import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.dto.current.schild.schule.DTOJahrgang;
 import de.svws_nrw.db.dto.current.schild.schule.DTOSchuljahresabschnitte;
 import de.svws_nrw.db.dto.current.schild.stundenplan.DTOStundenplan;
+import de.svws_nrw.db.dto.current.schild.stundenplan.DTOStundenplanAufsichtsbereich;
+import de.svws_nrw.db.dto.current.schild.stundenplan.DTOStundenplanKalenderwochenZuordnung;
+import de.svws_nrw.db.dto.current.schild.stundenplan.DTOStundenplanPausenzeit;
+import de.svws_nrw.db.dto.current.schild.stundenplan.DTOStundenplanRaum;
+import de.svws_nrw.db.dto.current.schild.stundenplan.DTOStundenplanSchienen;
 import de.svws_nrw.db.dto.current.schild.stundenplan.DTOStundenplanUnterricht;
 import de.svws_nrw.db.dto.current.schild.stundenplan.DTOStundenplanZeitraster;
 import de.svws_nrw.db.utils.ApiOperationException;
@@ -31,6 +37,14 @@ import jakarta.ws.rs.core.Response.Status;
  */
 public final class DataStundenplan extends DataManager<Long> {
 
+	/**
+	 * Die DTO-Klassen der Tabellen, aus denen die Daten eines Stundenplans gelesen werden. Diese werden
+	 * für die Bestimmung des ETags bei der Abfrage eines Stundenplans genutzt.
+	 */
+	public static final List<Class<?>> dtoKlassenStundenplan = List.of(DTOStundenplan.class, DTOSchuljahresabschnitte.class,
+			DTOStundenplanZeitraster.class, DTOStundenplanRaum.class, DTOStundenplanSchienen.class, DTOJahrgang.class,
+			DTOStundenplanPausenzeit.class, DTOStundenplanAufsichtsbereich.class, DTOStundenplanKalenderwochenZuordnung.class);
+
 	/**
 	 * Erstellt einen neuen {@link DataManager} für den Core-DTO {@link Stundenplan}.
 	 *
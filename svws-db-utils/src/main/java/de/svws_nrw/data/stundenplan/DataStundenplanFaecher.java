@@ -75,7 +75,7 @@ public final class DataStundenplanFaecher extends DataManager<Long> {
 	 * @throws ApiOperationException im Fehlerfall
 	 */
 	public static List<StundenplanFach> getFaecher(final @NotNull DBEntityManager conn, final long idStundenplan) throws ApiOperationException {
-		final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+		final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
 		if (schule == null)
 			throw new ApiOperationException(Status.NOT_FOUND);
 		final DTOStundenplan stundenplan = conn.queryByKey(DTOStundenplan.class, idStundenplan);
@@ -114,7 +114,7 @@ public final class DataStundenplanFaecher extends DataManager<Long> {
 
 	@Override
 	public Response get(final Long id) throws ApiOperationException {
-		final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+		final DTOEigeneSchule schule = conn.querySingleCached(DTOEigeneSchule.class);
 		if (schule == null)
 			throw new ApiOperationException(Status.NOT_FOUND);
 		final DTOStundenplan stundenplan = conn.queryByKey(DTOStundenplan.class, stundenplanID);
@@ -67,7 +67,7 @@ public final class DataStundenplanJahrgaenge extends DataManager<Long> {
 		final DTOStundenplan stundenplan = conn.queryByKey(DTOStundenplan.class, idStundenplan);
 		if (stundenplan == null)
 			throw new ApiOperationException(Status.NOT_FOUND, "Es wurde kein Stundenplan mit der ID %d gefunden.".formatted(idStundenplan));
-		final List<DTOJahrgang> jahrgaenge = conn.queryAll(DTOJahrgang.class);
+		final List<DTOJahrgang> jahrgaenge = conn.queryAllCached(DTOJahrgang.class);
 		final ArrayList<StundenplanJahrgang> daten = new ArrayList<>();
 		for (final DTOJahrgang j : jahrgaenge) {
 			// TODO Prüfe die Gültigkeit des Jahrgangs (Schuljahresabschnitt: GueltigVon - GueltigBis) in Bezug auf den Stundenplan (Datum: Beginn - Ende)
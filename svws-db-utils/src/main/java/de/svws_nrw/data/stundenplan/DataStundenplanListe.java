@@ -14,7 +14,6 @@ import de.svws_nrw.data.kurse.DataKursliste;
 import de.svws_nrw.db.DBEntityManager;
 import de.svws_nrw.db.dto.current.schild.schule.DTOSchuljahresabschnitte;
 import de.svws_nrw.db.dto.current.schild.stundenplan.DTOStundenplan;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.utils.ApiOperationException;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
@@ -138,8 +137,7 @@ public final class DataStundenplanListe extends DataManager<Long> {
 			if (abschnitt == null)
 				throw new ApiOperationException(Status.NOT_FOUND, "Ein Schuljahresabschnitt mit der ID %d konnte nicht gefunden werden.".formatted(idSchuljahresabschnitt));
 			// Bestimme die ID, für welche der Datensatz eingefügt wird
-			final DTOSchemaAutoInkremente dbStundenplanID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Stundenplan");
-			final long idStundenplan = dbStundenplanID == null ? 1 : dbStundenplanID.MaxID + 1;
+			final long idStundenplan = conn.transactionGetNextID(DTOStundenplan.class);
 			// Ermittle, ob bereits Stundenpläne für den Schuljahresabschnitt existieren und bestimme das Start bzw. das Enddatum aus dem Abschnitt
 			final List<StundenplanListeEintrag> stundenplaene = DataStundenplanListe.getStundenplaene(conn, idSchuljahresabschnitt);
 			String beginn = (abschnitt.Abschnitt == 1) ? "%d-08-01".formatted(abschnitt.Jahr) : "%d-02-01".formatted(abschnitt.Jahr + 1);
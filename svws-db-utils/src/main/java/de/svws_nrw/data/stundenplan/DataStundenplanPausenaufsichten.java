@@ -29,6 +29,13 @@ import jakarta.ws.rs.core.Response.Status;
  */
 public final class DataStundenplanPausenaufsichten extends DataManager<Long> {
 
+	/**
+	 * Die DTO-Klassen der Tabellen, aus denen die Pausenaufsichten eines Stundenplans gelesen werden. Diese werden
+	 * für die Bestimmung des ETags bei der Abfrage der Pausenaufsichten genutzt.
+	 */
+	public static final List<Class<?>> dtoKlassenPausenaufsichten = List.of(DTOStundenplan.class, DTOStundenplanPausenzeit.class,
+			DTOStundenplanPausenaufsichten.class, DTOStundenplanPausenaufsichtenBereiche.class);
+
 	private final Long idStundenplan;
 
 	/**
@@ -170,9 +177,8 @@ public final class DataStundenplanPausenaufsichten extends DataManager<Long> {
 		conn.transactionExecuteDelete("DELETE FROM DTOStundenplanPausenaufsichtenBereiche e WHERE e.Pausenaufsicht_ID = " + id);
 		conn.transactionFlush();
 		// Schreibe die neuen Bereiche
-		long nextID = conn.transactionGetNextID(DTOStundenplanPausenaufsichtenBereiche.class);
 		for (final Long bereich : bereiche)
-			conn.transactionPersist(new DTOStundenplanPausenaufsichtenBereiche(nextID++, id, bereich));
+			conn.transactionPersist(new DTOStundenplanPausenaufsichtenBereiche(conn.transactionGetNextID(DTOStundenplanPausenaufsichtenBereiche.class), id, bereich));
 		conn.transactionFlush();
 	}
 
@@ -254,9 +260,8 @@ public final class DataStundenplanPausenaufsichten extends DataManager<Long> {
 				if (!map.containsKey(attr))
 					throw new ApiOperationException(Status.BAD_REQUEST, "Das Attribut %s fehlt in der Anfrage bei mindestens einem Unterricht".formatted(attr));
 		final List<StundenplanPausenaufsicht> daten = new ArrayList<>();
-		long newID = conn.transactionGetNextID(DTOStundenplanPausenaufsichten.class);
 		for (final Map<String, Object> map : multipleMaps)
-			daten.add(addInternal(newID++, map));
+			daten.add(addInternal(conn.transactionGetNextID(DTOStundenplanPausenaufsichten.class), map));
 		return Response.status(Status.CREATED).type(MediaType.APPLICATION_JSON).entity(daten).build();
 	}
 
@@ -225,9 +225,8 @@ public final class DataStundenplanRaeume extends DataManager<Long> {
 	 * @throws ApiOperationException im Fehlerfall
 	 */
 	public static void addRaeume(final @NotNull DBEntityManager conn, final DTOStundenplan dtoStundenplan, final List<Raum> raeume) {
-		long id = conn.transactionGetNextID(DTOStundenplanRaum.class);
 		for (final Raum raum : raeume)
-			conn.transactionPersist(new DTOStundenplanRaum(id++, dtoStundenplan.ID, raum.kuerzel, raum.beschreibung, raum.groesse));
+			conn.transactionPersist(new DTOStundenplanRaum(conn.transactionGetNextID(DTOStundenplanRaum.class), dtoStundenplan.ID, raum.kuerzel, raum.beschreibung, raum.groesse));
 		conn.transactionFlush();
 	}
 
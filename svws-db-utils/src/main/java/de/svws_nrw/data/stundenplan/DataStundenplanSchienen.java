@@ -137,9 +137,8 @@ public final class DataStundenplanSchienen extends DataManager<Long> {
 			for (final long idJahrgang : kurs.idJahrgaenge)
 				for (final int schiene : kurs.schienen)
 					setJahrgangsSchienen.add(new Pair<>(idJahrgang, schiene));
-		long id = conn.transactionGetNextID(DTOStundenplanSchienen.class);
 		for (final Pair<Long, Integer> s : setJahrgangsSchienen) {
-			final DTOStundenplanSchienen dto = new DTOStundenplanSchienen(id++, idStundenplan, s.b, "Schiene " + s.b);
+			final DTOStundenplanSchienen dto = new DTOStundenplanSchienen(conn.transactionGetNextID(DTOStundenplanSchienen.class), idStundenplan, s.b, "Schiene " + s.b);
 			dto.Jahrgang_ID = s.a;
 			conn.transactionPersist(dto);
 		}
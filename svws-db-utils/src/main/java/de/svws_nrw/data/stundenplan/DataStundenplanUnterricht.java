@@ -33,6 +33,14 @@ import jakarta.ws.rs.core.Response.Status;
  */
 public final class DataStundenplanUnterricht extends DataManager<Long> {
 
+	/**
+	 * Die DTO-Klassen der Tabellen, aus denen die Unterrichte eines Stundenplans gelesen werden. Diese werden
+	 * für die Bestimmung des ETags bei der Abfrage der Unterrichte genutzt.
+	 */
+	public static final List<Class<?>> dtoKlassenUnterrichte = List.of(DTOStundenplan.class, DTOStundenplanZeitraster.class,
+			DTOStundenplanUnterricht.class, DTOStundenplanUnterrichtRaum.class, DTOStundenplanUnterrichtSchiene.class,
+			DTOStundenplanUnterrichtKlasse.class, DTOStundenplanUnterrichtLehrer.class);
+
 	private final Long idStundenplan;
 
 	/**
@@ -112,7 +120,7 @@ public final class DataStundenplanUnterricht extends DataManager<Long> {
 		if (stundenplan == null)
 			throw new ApiOperationException(Status.NOT_FOUND, "Es wurde kein Stundenplan mit der ID %d gefunden.".formatted(idStundenplan));
 		final List<StundenplanUnterricht> daten = getUnterrichte(conn, idStundenplan);
-		return Response.status(Status.OK).type(MediaType.APPLICATION_JSON).entity(daten).build();
+		return JSONMapper.streamingResponseFromObject(daten);
 	}
 
 
@@ -194,9 +202,8 @@ public final class DataStundenplanUnterricht extends DataManager<Long> {
 		conn.transactionExecuteDelete("DELETE FROM DTOStundenplanUnterrichtLehrer e WHERE e.Unterricht_ID = " + idUnterricht);
 		conn.transactionFlush();
 		// Schreibe die neuen Lehrer
-		long nextID = conn.transactionGetNextID(DTOStundenplanUnterrichtLehrer.class);
 		for (final Long idLehrer : lehrer)
-			conn.transactionPersist(new DTOStundenplanUnterrichtLehrer(nextID++, idUnterricht, idLehrer));
+			conn.transactionPersist(new DTOStundenplanUnterrichtLehrer(conn.transactionGetNextID(DTOStundenplanUnterrichtLehrer.class), idUnterricht, idLehrer));
 		conn.transactionFlush();
 	}
 
@@ -209,9 +216,8 @@ public final class DataStundenplanUnterricht extends DataManager<Long> {
 		conn.transactionExecuteDelete("DELETE FROM DTOStundenplanUnterrichtKlasse e WHERE e.Unterricht_ID = " + idUnterricht);
 		conn.transactionFlush();
 		// Schreibe die neuen Klassen
-		long nextID = conn.transactionGetNextID(DTOStundenplanUnterrichtKlasse.class);
 		for (final Long idKlasse : klassen)
-			conn.transactionPersist(new DTOStundenplanUnterrichtKlasse(nextID++, idUnterricht, idKlasse));
+			conn.transactionPersist(new DTOStundenplanUnterrichtKlasse(conn.transactionGetNextID(DTOStundenplanUnterrichtKlasse.class), idUnterricht, idKlasse));
 		conn.transactionFlush();
 	}
 
@@ -224,9 +230,8 @@ public final class DataStundenplanUnterricht extends DataManager<Long> {
 		conn.transactionExecuteDelete("DELETE FROM DTOStundenplanUnterrichtRaum e WHERE e.Unterricht_ID = " + idUnterricht);
 		conn.transactionFlush();
 		// Schreibe die neuen Räume
-		long nextID = conn.transactionGetNextID(DTOStundenplanUnterrichtRaum.class);
 		for (final Long idRaum : raeume)
-			conn.transactionPersist(new DTOStundenplanUnterrichtRaum(nextID++, idUnterricht, idRaum));
+			conn.transactionPersist(new DTOStundenplanUnterrichtRaum(conn.transactionGetNextID(DTOStundenplanUnterrichtRaum.class), idUnterricht, idRaum));
 		conn.transactionFlush();
 	}
 
@@ -239,9 +244,8 @@ public final class DataStundenplanUnterricht extends DataManager<Long> {
 		conn.transactionExecuteDelete("DELETE FROM DTOStundenplanUnterrichtSchiene e WHERE e.Unterricht_ID = " + idUnterricht);
 		conn.transactionFlush();
 		// Schreibe die neuen Schienen
-		long nextID = conn.transactionGetNextID(DTOStundenplanUnterrichtSchiene.class);
 		for (final Long idSchiene : schienen)
-			conn.transactionPersist(new DTOStundenplanUnterrichtSchiene(nextID++, idUnterricht, idSchiene));
+			conn.transactionPersist(new DTOStundenplanUnterrichtSchiene(conn.transactionGetNextID(DTOStundenplanUnterrichtSchiene.class), idUnterricht, idSchiene));
 		conn.transactionFlush();
 	}
 
@@ -352,9 +356,8 @@ public final class DataStundenplanUnterricht extends DataManager<Long> {
 				if (!map.containsKey(attr))
 					throw new ApiOperationException(Status.BAD_REQUEST, "Das Attribut %s fehlt in der Anfrage bei mindestens einem Unterricht".formatted(attr));
 		final List<StundenplanUnterricht> daten = new ArrayList<>();
-		long newID = conn.transactionGetNextID(DTOStundenplanUnterricht.class);
 		for (final Map<String, Object> map : multipleMaps)
-			daten.add(addInternal(newID++, map));
+			daten.add(addInternal(conn.transactionGetNextID(DTOStundenplanUnterricht.class), map));
 		return Response.status(Status.CREATED).type(MediaType.APPLICATION_JSON).entity(daten).build();
 	}
 
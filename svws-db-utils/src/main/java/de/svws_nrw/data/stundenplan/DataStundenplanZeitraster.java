@@ -205,9 +205,8 @@ public final class DataStundenplanZeitraster extends DataManager<Long> {
 	 * @param eintraege        die hinzuzufügenden Zeitraster-Einträge
 	 */
 	public static void addZeitraster(final @NotNull DBEntityManager conn, final DTOStundenplan dtoStundenplan, final List<StundenplanZeitraster> eintraege) {
-		long id = conn.transactionGetNextID(DTOStundenplanZeitraster.class);
 		for (final StundenplanZeitraster eintrag : eintraege)
-			conn.transactionPersist(new DTOStundenplanZeitraster(id++, dtoStundenplan.ID, eintrag.wochentag, eintrag.unterrichtstunde, eintrag.stundenbeginn, eintrag.stundenende));
+			conn.transactionPersist(new DTOStundenplanZeitraster(conn.transactionGetNextID(DTOStundenplanZeitraster.class), dtoStundenplan.ID, eintrag.wochentag, eintrag.unterrichtstunde, eintrag.stundenbeginn, eintrag.stundenende));
 		conn.transactionFlush();
 	}
 
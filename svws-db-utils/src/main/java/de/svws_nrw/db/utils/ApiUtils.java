@@ -30,6 +30,31 @@ public final class ApiUtils {
 	}
 
 
+	/**
+	 * Prüft, ob das übergebene ETag in dem Wert eines If-None-Match-Headers enthalten ist. Dabei wird
+	 * gemäß RFC 9110 der schwache Vergleich verwendet, d.h. ein vorangestelltes "W/" wird ignoriert.
+	 *
+	 * @param ifNoneMatch   der Wert des If-None-Match-Headers oder null
+	 * @param etag          das ETag ohne Anführungszeichen
+	 *
+	 * @return true, wenn das ETag enthalten ist oder der Header "*" lautet, ansonsten false
+	 */
+	public static boolean istETagEnthalten(final String ifNoneMatch, final String etag) {
+		if ((ifNoneMatch == null) || (etag == null))
+			return false;
+		for (final String s : ifNoneMatch.split(",")) {
+			final String tag = s.trim();
+			if ("*".equals(tag))
+				return true;
+			final String wert = tag.startsWith("W/") ? tag.substring(2) : tag;
+			if ((wert.length() == (etag.length() + 2)) && wert.startsWith("\"") && wert.endsWith("\"")
+					&& wert.regionMatches(1, etag, 0, etag.length()))
+				return true;
+		}
+		return false;
+	}
+
+
 	/**
 	 * Erzeugt aus der übergenenen Exception eine HTTP-Response mit einer SimpleResponse,
 	 * welche im Log den Stack-Trace der Exception beinhaltet.
@@ -40,7 +40,6 @@ import de.svws_nrw.db.dto.current.gost.DTOGostJahrgangFaecher;
 import de.svws_nrw.db.dto.current.gost.DTOGostJahrgangsdaten;
 import de.svws_nrw.db.dto.current.gost.DTOGostSchueler;
 import de.svws_nrw.db.dto.current.gost.DTOGostSchuelerFachbelegungen;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import de.svws_nrw.db.dto.current.schild.faecher.DTOFach;
 import de.svws_nrw.db.dto.current.schild.gost.DTOFaecherNichtMoeglicheKombination;
 import de.svws_nrw.db.dto.current.schild.klassen.DTOKlassen;
@@ -366,9 +365,6 @@ public class LupoMDB {
 		logger.logLn("- die nicht möglichen Abitur-Fachkombinationen für den Jahrgang");
 		logger.modifyIndent(2);
 		if (!nichtMoeglicheKombinationen.isEmpty()) {
-			// Bestimme die ID, für welche der Datensatz eingefügt wird
-			final DTOSchemaAutoInkremente dbNmkID = conn.queryByKey(DTOSchemaAutoInkremente.class, "Gost_Jahrgang_Fachkombinationen");
-			long idNMK = dbNmkID == null ? 1 : dbNmkID.MaxID + 1;
 			for (final ABPNichtMoeglAbiFachKombi nmk : nichtMoeglicheKombinationen) {
 				logger.log("- Fachkombination " + nmk.Fach1_Krz + " (" + nmk.Kursart1 + ") <-> " + nmk.Fach2_Krz + " (" + nmk.Kursart2 + "): ");
 				final DTOFach dtoFach1 = dtoFaecher.get(nmk.Fach1_Krz);
@@ -392,7 +388,7 @@ public class LupoMDB {
 				GostLaufbahnplanungFachkombinationTyp typ = GostLaufbahnplanungFachkombinationTyp.VERBOTEN;
 				if (nmk.Typ != null)
 					typ = ("+".equals(nmk.Typ) ? GostLaufbahnplanungFachkombinationTyp.ERFORDERLICH : GostLaufbahnplanungFachkombinationTyp.VERBOTEN);
-				final DTOGostJahrgangFachkombinationen lupoNMK = new DTOGostJahrgangFachkombinationen(idNMK++, abiJahrgang,
+				final DTOGostJahrgangFachkombinationen lupoNMK = new DTOGostJahrgangFachkombinationen(conn.transactionGetNextID(DTOGostJahrgangFachkombinationen.class), abiJahrgang,
 						dtoFach1.ID, dtoFach2.ID, !"Q1Q4".equals(nmk.Phase), !"Q1Q4".equals(nmk.Phase), true, true, true, true,
 						typ, "");
 				lupoNMK.Abi_Jahrgang = abiJahrgang;
@@ -400,7 +396,7 @@ public class LupoMDB {
 				lupoNMK.Kursart2 = nmk.Kursart2;
 				conn.transactionPersist(lupoNMK);
 				conn.transactionFlush();
-				final DTOGostJahrgangFachkombinationen lupoNMK2 = new DTOGostJahrgangFachkombinationen(idNMK++, abiJahrgang,
+				final DTOGostJahrgangFachkombinationen lupoNMK2 = new DTOGostJahrgangFachkombinationen(conn.transactionGetNextID(DTOGostJahrgangFachkombinationen.class), abiJahrgang,
 						dtoFach2.ID, dtoFach1.ID, !"Q1Q4".equals(nmk.Phase), !"Q1Q4".equals(nmk.Phase), true, true, true, true,
 						typ, "");
 				lupoNMK2.Abi_Jahrgang = abiJahrgang;
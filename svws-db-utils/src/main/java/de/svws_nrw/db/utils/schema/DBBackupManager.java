@@ -1,11 +1,25 @@
 package de.svws_nrw.db.utils.schema;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import de.svws_nrw.config.SVWSKonfiguration;
+import de.svws_nrw.core.logger.LogConsumerList;
+import de.svws_nrw.core.logger.LogData;
 import de.svws_nrw.core.logger.LogLevel;
 import de.svws_nrw.core.logger.Logger;
 import de.svws_nrw.db.Benutzer;
@@ -16,6 +30,9 @@ import de.svws_nrw.db.DBException;
 import de.svws_nrw.db.dto.current.schema.DTOSchemaStatus;
 import de.svws_nrw.db.schema.Schema;
 import de.svws_nrw.db.schema.SchemaTabelle;
+import de.svws_nrw.db.schema.SchemaTabelleFremdschluessel;
+import de.svws_nrw.db.schema.SchemaTabelleSpalte;
+import jakarta.persistence.PersistenceException;
 
 /**
  * Diese Klasse stellt Methoden für den Export in eine SQLite-Datenbank und
@@ -29,6 +46,33 @@ public class DBBackupManager {
 	/** Ein Logger, um die Abläufe bei dem Update-Prozess zu loggen */
 	private final Logger logger;
 
+	/** Die Anzahl der Datensätze, welche beim Kopieren einer Tabelle jeweils als Block gelesen und geschrieben werden */
+	private static final int BLOCKGROESSE = 5000;
+
+	/** Die maximale Anzahl an gelesenen Blöcken einer Tabelle, welche auf das Schreiben warten */
+	private static final int MAX_BLOECKE_WARTEND = 4;
+
+	/** Die maximale Anzahl an Datensätzen je INSERT-Anweisung */
+	private static final int MAX_DATENSAETZE_PRO_INSERT = 1000;
+
+	/** Die Anzahl der Tabellen, welche beim Kopieren maximal parallel kopiert werden */
+	private static final int ANZAHL_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	/** Ein leerer Block, welcher in der Warteschlange das Ende der gelesenen Datensätze einer Tabelle markiert */
+	private static final List<Object[]> ENDE = new ArrayList<>();
+
+	/**
+	 * Die Kennzahlen zum Kopieren einer Tabelle.
+	 *
+	 * @param gelesen       die Anzahl der gelesenen Datensätze
+	 * @param geschrieben   die Anzahl der geschriebenen Datensätze
+	 * @param fehler        die Anzahl der fehlerhaften Datensätze, welche übersprungen wurden
+	 * @param dauer         die Dauer des Kopierens in Millisekunden
+	 */
+	private record KopierStatistik(long gelesen, long geschrieben, long fehler, long dauer) {
+		// kein weiterer Inhalt
+	}
+
 
 	/**
 	 * Erzeugt einen neuen {@link DBBackupManager}.
@@ -201,7 +245,7 @@ public class DBBackupManager {
 			boolean result = true;
 			logger.logLn("-> Kopiere die Daten aus der Quell-DB in die Ziel-DB...");
 			logger.modifyIndent(2);
-			expimpCopyFrom(tgtManager, version.Revision);
+			expimpCopyFrom(tgtManager, version.Revision, tgtConfig.getDBDriver() != DBDriver.SQLITE);
 			logger.modifyIndent(-2);
 			logger.logLn("[OK]");
 
@@ -299,7 +343,7 @@ public class DBBackupManager {
 					boolean result = true;
 					logger.logLn("-> Kopiere die Daten aus der Quell-DB in die Ziel-DB...");
 					logger.modifyIndent(2);
-					expimpCopyFrom(tgtManager, version.Revision);
+					expimpCopyFrom(tgtManager, version.Revision, false);
 					logger.modifyIndent(-2);
 					logger.logLn("[OK]");
 
@@ -339,19 +383,21 @@ public class DBBackupManager {
 
 
 	/**
-	 * Schreibt mithilfe des Schema-Managers für die Ziel-Datenbank die übergebenen Datensätze in die angegebene Tabelle.
+	 * Schreibt die übergebenen Datensätze einzeln bzw. in kleinen Teilblöcken in die angegebene Tabelle. Dies wird
+	 * genutzt, wenn ein Block nicht am Stück geschrieben werden konnte. Der Block wird dabei solange aufgeteilt, bis
+	 * die fehlerhaften Datensätze bestimmt sind. Diese werden übersprungen.
 	 *
-	 * @param tgtManager   der Schema-Manager für die Ziel-Datenbank
-	 * @param entities     die zu schreibenden Datensätze
-	 * @param tab          die Tabelle
-	 * @param rev          die Revision der Tabelle
+	 * @param tgtConn    die Verbindung zur Ziel-Datenbank
+	 * @param entities   die zu schreibenden Datensätze
+	 * @param tab        die Tabelle
+	 * @param spalten    die Namen der Spalten der Tabelle in der Reihenfolge der Werte der Datensätze
+	 * @param logger     der Logger für die Tabelle
+	 *
+	 * @return die Anzahl der fehlerhaften Datensätze, welche übersprungen wurden
 	 */
-	private void writeEntities(final DBSchemaManager tgtManager, final List<Object[]> entities, final SchemaTabelle tab, final long rev) {
-		// Schreibe die Datensätze in die Zieltabelle
-		logger.logLn("- Schreibe " + entities.size() + " Datensätze: ");
+	private static int writeEntities(final DBEntityManager tgtConn, final List<Object[]> entities, final SchemaTabelle tab, final List<String> spalten, final Logger logger) {
+		logger.logLn("- Block mit " + entities.size() + " Datensätzen konnte nicht am Stück geschrieben werden - Teile den Block auf: ");
 		logger.modifyIndent(2);
-		@SuppressWarnings("resource")
-		final DBEntityManager tgtConn = tgtManager.getUser().getEntityManager();
 		// Versuche zunächst in Blöcken von maxRangeSize Datensätzen zu schreiben, diese werden je nach Erfolg später noch unterteilt...
 		int write_errors = 0;
 		final LinkedList<Map.Entry<Integer, Integer>> ranges = new LinkedList<>();
@@ -365,19 +411,12 @@ public class DBBackupManager {
 		}
 		while (!ranges.isEmpty()) {
 			final Map.Entry<Integer, Integer> range = ranges.removeFirst();
-			if (tgtConn.insertRangeNativeUnprepared(tab.name(), tab.getSpalten(rev).stream().map(col -> col.name()).toList(), entities,
-					range.getKey(), range.getValue(), 1000000)) {
-				if (range.getKey().equals(range.getValue()))
-					logger.logLn("Datensatz " + range.getKey() + " erfolgreich geschrieben. (Freier Speicher: " + (Math.round(Runtime.getRuntime().freeMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().totalMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().maxMemory() / 10000000.0) / 100.0) +  "G)");
-				else
-					logger.logLn("Datensätze " + range.getKey() + "-" + range.getValue() + " erfolgreich geschrieben. (Freier Speicher: " + (Math.round(Runtime.getRuntime().freeMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().totalMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().maxMemory() / 10000000.0) / 100.0) +  "G)");
-			} else {
+			if (!tgtConn.insertRangeNativeUnprepared(tab.name(), spalten, entities, range.getKey(), range.getValue(), 1000000)) {
 				if (range.getKey().equals(range.getValue())) {
 					logger.logLn(LogLevel.ERROR, "Datensatz " + range.getKey() + " konnte nicht geschrieben werden - Datensatz wird übersprungen.");
-					logger.logLn(LogLevel.ERROR, "[FEHLER] " + entities.get(range.getKey()));
+					logger.logLn(LogLevel.ERROR, "[FEHLER] " + Arrays.toString(entities.get(range.getKey())));
 					write_errors++;
 				} else {
-					logger.logLn("Datensätze " + range.getKey() + "-" + range.getValue() + " konnten nicht geschrieben werden geschrieben - Teile den Block auf und versuche die Teilblöcke zu schreiben.");
 					// Teile den Block auf
 					int step = (range.getValue() - range.getKey() + 1) / 10;
 					if (step < 1)
@@ -390,51 +429,231 @@ public class DBBackupManager {
 			}
 		}
 		logger.modifyIndent(-2);
-		logger.logLn("" + (entities.size() - write_errors) + " Datensätze geschrieben, " + write_errors + " fehlerhafte Datensätze übersprungen.");
-		logger.modifyIndent(-2);
+		return write_errors;
 	}
 
 
 	/**
-	 * Kopiert die Daten von dem Schema-Managers in das Schema des angegebenen Ziel-Schema-Managers.
-	 * Die Schema-Revisionen von Quelle und Ziel müssen übereinstimmen.
+	 * Schreibt den übergebenen Block von Datensätzen in einer eigenen Transaktion mit INSERT-Anweisungen mit mehreren
+	 * Datensätzen über Prepared-Statements in die angegebene Tabelle. Diese Methode wird auch bei der
+	 * Migration genutzt.
+	 *
+	 * @param tgtConn    die Verbindung zur Ziel-Datenbank
+	 * @param tabname    der Name der Tabelle
+	 * @param spalten    die Namen der Spalten der Tabelle in der Reihenfolge der Werte der Datensätze
+	 * @param block      die zu schreibenden Datensätze
+	 *
+	 * @return true, wenn der Block erfolgreich geschrieben wurde, und false, wenn die Transaktion zurückgerollt wurde
+	 */
+	static boolean writeBlock(final DBEntityManager tgtConn, final String tabname, final List<String> spalten, final List<Object[]> block) {
+		try {
+			tgtConn.transactionBegin();
+			tgtConn.transactionInsertAllNative(tabname, spalten, block, MAX_DATENSAETZE_PRO_INSERT);
+			tgtConn.transactionCommitOrThrow();
+			return true;
+		} catch (@SuppressWarnings("unused") final DBException | PersistenceException | IllegalStateException e) {
+			tgtConn.transactionRollback();
+			return false;
+		}
+	}
+
+
+	/**
+	 * Fügt den übergebenen Block in die Warteschlange zwischen dem lesenden und dem schreibenden Thread ein. Ist
+	 * die Warteschlange voll, so wird gewartet, bis der schreibende Thread einen Block entnommen hat oder das
+	 * Kopieren der Tabelle abgebrochen wurde.
+	 *
+	 * @param queue         die Warteschlange
+	 * @param block         der Block mit den Datensätzen
+	 * @param abgebrochen   gibt an, ob der schreibende Thread das Kopieren der Tabelle abgebrochen hat
+	 *
+	 * @throws CancellationException   falls das Kopieren abgebrochen oder der Thread unterbrochen wurde
+	 */
+	private static void einreihen(final BlockingQueue<List<Object[]>> queue, final List<Object[]> block, final AtomicBoolean abgebrochen) {
+		try {
+			while (!queue.offer(block, 100, TimeUnit.MILLISECONDS))
+				if (abgebrochen.get())
+					throw new CancellationException("Das Kopieren der Tabelle wurde abgebrochen.");
+		} catch (@SuppressWarnings("unused") final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Das Kopieren der Tabelle wurde unterbrochen.");
+		}
+	}
+
+
+	/**
+	 * Kopiert die Datensätze der angegebenen Tabelle aus der Quell- in die Ziel-Datenbank. Die Datensätze werden in
+	 * einem eigenen Thread blockweise mit einem Forward-Only-Cursor gelesen und über eine beschränkte Warteschlange
+	 * an den aufrufenden Thread übergeben, welcher sie über eine eigene Verbindung in die Ziel-Datenbank schreibt.
+	 * Dadurch werden Lesen und Schreiben überlappend ausgeführt und es sind nie mehr als {@link #MAX_BLOECKE_WARTEND}
+	 * Blöcke der Tabelle gleichzeitig im Speicher.
 	 *
 	 * @param tgtManager   der Schema-Manager der Ziel-Datenbank
+	 * @param tab          die Tabelle
 	 * @param rev          die gemeinsame Revision der beiden Schemata
+	 * @param leser        der Thread-Pool für das Lesen der Datensätze
+	 * @param logger       der Logger für die Tabelle
+	 *
+	 * @return die Kennzahlen zum Kopieren der Tabelle
+	 *
+	 * @throws DBException   falls beim Lesen der Tabelle ein Fehler aufgetreten ist
 	 */
-	private void expimpCopyFrom(final DBSchemaManager tgtManager, final long rev) {
-		// Durchwandere alle Tabellen in der geeigneten Reihenfolge, so dass Foreign-Key-Constraints erfüllt werden
-		for (final SchemaTabelle tab : Schema.getTabellen(rev)) {
-			// Prüfe, ob die Tabelle bei dem Import/Export beachtet werden soll, wenn nicht dann übespringe sie
-			if (!tab.importExport())
-				continue;
-
-			@SuppressWarnings("resource")
-			final DBEntityManager srcConn = schemaManager.getUser().getEntityManager();
-			logger.logLn("Tabelle " + tab.name() + ":");
-			logger.modifyIndent(2);
-
-			// Lese alle Datensätze aus der Quell-Tabelle
-			logger.log("- Lese Datensätze: ");
-			final String sql = tab.getSpalten(rev).stream()
-					.map(t -> t.name())
-					.collect(Collectors.joining(", ", "SELECT ", " FROM " + tab.name()));
-			final List<Object[]> entities = srcConn.query(sql);
-			if (entities == null) {
-				logger.logLn(LogLevel.ERROR, 0, "[FEHLER] - Kann die Datensätze nicht einlesen - Überspringe die Tabelle");
-				continue;
+	private KopierStatistik copyTable(final DBSchemaManager tgtManager, final SchemaTabelle tab, final long rev, final ExecutorService leser, final Logger logger) throws DBException {
+		final long timeStart = System.currentTimeMillis();
+		final List<String> spalten = tab.getSpalten(rev).stream().map(SchemaTabelleSpalte::name).toList();
+		final String sql = spalten.stream().collect(Collectors.joining(", ", "SELECT ", " FROM " + tab.name()));
+		final BlockingQueue<List<Object[]>> queue = new ArrayBlockingQueue<>(MAX_BLOECKE_WARTEND);
+		final AtomicBoolean abgebrochen = new AtomicBoolean(false);
+
+		// Lese die Datensätze in einem eigenen Thread aus der Quell-Tabelle und markiere das Ende mit einem leeren Block
+		final Future<Long> anzahlGelesen = leser.submit(() -> {
+			try (DBEntityManager srcConn = schemaManager.getUser().getEntityManager()) {
+				return srcConn.queryNativeBlockweise(sql, BLOCKGROESSE, block -> einreihen(queue, block, abgebrochen));
+			} finally {
+				if (!abgebrochen.get())
+					einreihen(queue, ENDE, abgebrochen);
 			}
-			logger.logLn(0, entities.size() + " Datensätze eingelesen (Freier Speicher: " + (Math.round(Runtime.getRuntime().freeMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().totalMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().maxMemory() / 10000000.0) / 100.0) + "G)");
+		});
+
+		// Schreibe die Datensätze in die Ziel-Tabelle, sobald sie gelesen wurden
+		long anzahlGeschrieben = 0;
+		long anzahlFehler = 0;
+		try (DBEntityManager tgtConn = tgtManager.getUser().getEntityManager()) {
+			List<Object[]> block = queue.take();
+			while (block != ENDE) {
+				if (writeBlock(tgtConn, tab.name(), spalten, block)) {
+					anzahlGeschrieben += block.size();
+				} else {
+					final int fehler = writeEntities(tgtConn, block, tab, spalten, logger);
+					anzahlGeschrieben += block.size() - fehler;
+					anzahlFehler += fehler;
+				}
+				block = queue.take();
+			}
+			return new KopierStatistik(anzahlGelesen.get(), anzahlGeschrieben, anzahlFehler, System.currentTimeMillis() - timeStart);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DBException("Das Kopieren der Tabelle " + tab.name() + " wurde unterbrochen.", e);
+		} catch (final ExecutionException e) {
+			throw new DBException("Fehler beim Lesen der Tabelle " + tab.name(), e.getCause());
+		} finally {
+			abgebrochen.set(true);
+		}
+	}
 
-			// Wenn keine Daten vorhanden sind, dann brauchen auch keine geschrieben zu werden...
-			if (entities.isEmpty()) {
-				logger.modifyIndent(-2);
-				continue;
+
+	/**
+	 * Teilt die Tabellen in Stufen auf, so dass die Tabellen einer Stufe nur Fremdschlüssel auf Tabellen in vorigen
+	 * Stufen haben. Die Tabellen einer Stufe können daher parallel kopiert werden. Die übergebene Liste muss dabei
+	 * bereits in einer Reihenfolge sein, in der referenzierte Tabellen vor den referenzierenden Tabellen stehen.
+	 *
+	 * @param tabellen   die Tabellen in der Reihenfolge der Fremdschlüssel
+	 * @param rev        die Revision des Schemas
+	 *
+	 * @return die Liste der Stufen mit den Listen der Tabellen
+	 */
+	private static List<List<SchemaTabelle>> getStufen(final List<SchemaTabelle> tabellen, final long rev) {
+		final Map<String, Integer> mapStufen = new HashMap<>();
+		final List<List<SchemaTabelle>> stufen = new ArrayList<>();
+		for (final SchemaTabelle tab : tabellen) {
+			int stufe = 0;
+			for (final SchemaTabelleFremdschluessel fk : tab.getFremdschluessel(rev)) {
+				final Integer stufeReferenziert = mapStufen.get(fk.tabelleReferenziert().name());
+				if ((stufeReferenziert != null) && (fk.tabelleReferenziert() != tab))
+					stufe = Math.max(stufe, stufeReferenziert + 1);
 			}
+			mapStufen.put(tab.name(), stufe);
+			while (stufen.size() <= stufe)
+				stufen.add(new ArrayList<>());
+			stufen.get(stufe).add(tab);
+		}
+		return stufen;
+	}
 
-			// Schreibe die Datensätze in die Zieltabelle
-			writeEntities(tgtManager, entities, tab, rev);
+
+	/**
+	 * Kopiert die Daten von dem Schema-Managers in das Schema des angegebenen Ziel-Schema-Managers.
+	 * Die Schema-Revisionen von Quelle und Ziel müssen übereinstimmen. Tabellen ohne gegenseitige
+	 * Fremdschlüssel-Abhängigkeiten werden dabei ggf. parallel kopiert.
+	 *
+	 * @param tgtManager   der Schema-Manager der Ziel-Datenbank
+	 * @param rev          die gemeinsame Revision der beiden Schemata
+	 * @param parallel     gibt an, ob mehrere Tabellen parallel geschrieben werden dürfen (z.B. nicht bei SQLite als Ziel)
+	 *
+	 * @throws DBException   falls das Kopieren unterbrochen wurde
+	 */
+	private void expimpCopyFrom(final DBSchemaManager tgtManager, final long rev, final boolean parallel) throws DBException {
+		final List<SchemaTabelle> tabellen = Schema.getTabellen(rev).stream().filter(SchemaTabelle::importExport).toList();
+		final int anzahlThreads = parallel ? ANZAHL_THREADS : 1;
+		final ExecutorService leser = Executors.newFixedThreadPool(anzahlThreads);
+		final ExecutorService schreiber = Executors.newFixedThreadPool(anzahlThreads);
+		final long timeStart = System.currentTimeMillis();
+		long anzahlGesamt = 0;
+		try {
+			// Durchwandere die Stufen der Tabellen in der geeigneten Reihenfolge, so dass Foreign-Key-Constraints erfüllt werden
+			for (final List<SchemaTabelle> stufe : getStufen(tabellen, rev)) {
+				final List<Future<KopierStatistik>> futures = new ArrayList<>();
+				final List<LogConsumerList> logs = new ArrayList<>();
+				for (final SchemaTabelle tab : stufe) {
+					// Jede Tabelle erhält ein eigenes Log, welches nach dem Kopieren der Tabelle übernommen wird
+					final Logger tabLogger = new Logger();
+					final LogConsumerList tabLog = new LogConsumerList();
+					tabLogger.addConsumer(tabLog);
+					logs.add(tabLog);
+					futures.add(schreiber.submit(() -> copyTable(tgtManager, tab, rev, leser, tabLogger)));
+				}
+				for (int i = 0; i < stufe.size(); i++) {
+					final SchemaTabelle tab = stufe.get(i);
+					logger.logLn("Tabelle " + tab.name() + ":");
+					logger.modifyIndent(2);
+					try {
+						// Warte zunächst auf das Kopieren der Tabelle, damit deren Log vollständig übernommen wird
+						KopierStatistik statistik = null;
+						String fehler = null;
+						try {
+							statistik = futures.get(i).get();
+						} catch (final ExecutionException e) {
+							fehler = e.getCause().getMessage();
+						} finally {
+							for (final LogData data : logs.get(i).getLogData())
+								logData(data);
+						}
+						if (statistik == null) {
+							logger.logLn(LogLevel.ERROR, "[FEHLER] - Kann die Datensätze nicht kopieren (" + fehler + ") - Überspringe die Tabelle");
+						} else {
+							logger.logLn("- " + statistik.gelesen() + " Datensätze gelesen, " + statistik.geschrieben() + " Datensätze geschrieben, "
+									+ statistik.fehler() + " fehlerhafte Datensätze übersprungen (" + (statistik.dauer() / 1000.0) + " Sekunden, "
+									+ ((statistik.dauer() == 0) ? statistik.geschrieben() : (statistik.geschrieben() * 1000 / statistik.dauer())) + " Datensätze/Sekunde)");
+							anzahlGesamt += statistik.geschrieben();
+						}
+					} finally {
+						logger.modifyIndent(-2);
+					}
+				}
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DBException("Das Kopieren der Daten wurde unterbrochen.", e);
+		} finally {
+			schreiber.shutdownNow();
+			leser.shutdownNow();
 		}
+		logger.logLn(anzahlGesamt + " Datensätze in " + ((System.currentTimeMillis() - timeStart) / 1000.0) + " Sekunden kopiert (Freier Speicher: "
+				+ (Math.round(Runtime.getRuntime().freeMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().totalMemory() / 10000000.0) / 100.0) + "G/"
+				+ (Math.round(Runtime.getRuntime().maxMemory() / 10000000.0) / 100.0) + "G)");
+	}
+
+
+	/**
+	 * Übernimmt einen Eintrag aus dem Log einer Tabelle in das Log dieses Managers.
+	 *
+	 * @param data   der Eintrag
+	 */
+	private void logData(final LogData data) {
+		if (data.isNewLine())
+			logger.logLn(data.getLevel(), data.getText());
+		else
+			logger.log(data.getLevel(), data.getText());
 	}
 
 }
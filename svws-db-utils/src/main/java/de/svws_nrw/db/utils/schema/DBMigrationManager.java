@@ -1,12 +1,9 @@
 package de.svws_nrw.db.utils.schema;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.text.Collator;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -14,6 +11,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import de.svws_nrw.base.CsvReader;
@@ -21,6 +24,8 @@ import de.svws_nrw.config.SVWSKonfiguration;
 import de.svws_nrw.core.adt.Pair;
 import de.svws_nrw.core.adt.map.HashMap2D;
 import de.svws_nrw.core.data.schule.SchulenKatalogEintrag;
+import de.svws_nrw.core.logger.LogConsumerList;
+import de.svws_nrw.core.logger.LogData;
 import de.svws_nrw.core.logger.LogLevel;
 import de.svws_nrw.core.logger.Logger;
 import de.svws_nrw.core.types.KursFortschreibungsart;
@@ -31,7 +36,6 @@ import de.svws_nrw.core.types.schueler.Herkunftsarten;
 import de.svws_nrw.core.types.schule.Schulform;
 import de.svws_nrw.core.types.schule.Schulgliederung;
 import de.svws_nrw.core.utils.AdressenUtils;
-import de.svws_nrw.data.schule.SchulUtils;
 import de.svws_nrw.db.Benutzer;
 import de.svws_nrw.db.DBConfig;
 import de.svws_nrw.db.DBDriver;
@@ -89,11 +93,10 @@ import de.svws_nrw.db.dto.migration.svws.auth.MigrationDTOCredentials;
 import de.svws_nrw.db.dto.migration.svws.auth.MigrationDTOCredentialsLernplattformen;
 import de.svws_nrw.db.schema.Schema;
 import de.svws_nrw.db.schema.SchemaTabelle;
-import de.svws_nrw.db.schema.SchemaTabelleSpalte;
 import de.svws_nrw.db.utils.ApiOperationException;
-import jakarta.persistence.Column;
 import jakarta.persistence.PersistenceException;
-import jakarta.validation.constraints.NotNull;
+import jakarta.persistence.TypedQuery;
+import jakarta.ws.rs.core.Response.Status;
 
 /**
  * Diese Klasse stellt Methoden zur Verfügung, um ein Schild2-Datenbankschema in
@@ -107,9 +110,6 @@ public final class DBMigrationManager {
 	private final Integer filterSchulNummer;
 	private final Logger logger;
 
-	/// Enthält ggf. einen Fehler-String für einen zuletzt aufgetretenen Fehler
-	private String lastError;
-
 	// Der Source-DB-Schema-Manager, sofern gerade eine Datenbank-Verbindung besteht
 	private DBSchemaManager srcManager = null;
 
@@ -127,56 +127,62 @@ public final class DBMigrationManager {
 	private Schulform schulform = null;
 
 	// Eine Liste zum Zwischenspeichern der Schüler-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> schuelerIDs = new HashSet<>();
+	private final Set<Long> schuelerIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der User-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> userIDs = new HashSet<>();
+	private final Set<Long> userIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Credential-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> credentialsIDs = new HashSet<>();
+	private final Set<Long> credentialsIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Credential-IDs bei Lernplattformen, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> credentialsLernplattformenIDs = new HashSet<>();
+	private final Set<Long> credentialsLernplattformenIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Schüler-Lernabschnitts-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> schuelerLernabschnittsIDs = new HashSet<>();
+	private final Set<Long> schuelerLernabschnittsIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Fächer-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> faecherIDs = new HashSet<>();
+	private final Set<Long> faecherIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Schülerleistungsdaten-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> schuelerLeistungsdatenIDs = new HashSet<>();
+	private final Set<Long> schuelerLeistungsdatenIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Kurs-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> kursIDs = new HashSet<>();
+	private final Set<Long> kursIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Lehrer-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> lehrerIDs = new HashSet<>();
+	private final Set<Long> lehrerIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Lehrer-Abschnitts-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> lehrerAbschnittsIDs = new HashSet<>();
+	private final Set<Long> lehrerAbschnittsIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste der Abschnitt, die in den Abschnittsdaten angelegt wurden als String (z.B. 1905.1)
-	private final HashSet<String> lehrerAbschnitte = new HashSet<>();
+	private final Set<String> lehrerAbschnitte = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Adress-IDs, um Datensätze direkten entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> adressIDs = new HashSet<>();
+	private final Set<Long> adressIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Personengruppen-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> personengruppenIDs = new HashSet<>();
+	private final Set<Long> personengruppenIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Schülerlisten-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> schuelerListenIDs = new HashSet<>();
+	private final Set<Long> schuelerListenIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Fachklassen-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> fachklassenIDs = new HashSet<>();
+	private final Set<Long> fachklassenIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Liste zum Zwischenspeichern der Erzieher-IDs, um Datensätze direkt entfernen zu können, wenn sie nicht in der Datenbank vorhanden sind.
-	private final HashSet<Long> erzieherIDs = new HashSet<>();
+	private final Set<Long> erzieherIDs = ConcurrentHashMap.newKeySet();
 
 	// Eine Map für von Abschnitten auf Folgeabschnitte, welche aufgrund von Eintragungen einer Folge-Klassen-ID bei Schüler-Lernabschnitten angelegt werden sollten
 	private final HashMap2D<Integer, Integer, Pair<Integer, Integer>> folgeAbschnitteFuerKlassen = new HashMap2D<>();
 
+	// Die Anzahl der Datensätze, welche bei der Migration einer Tabelle jeweils als Block gelesen, geprüft und geschrieben werden
+	private static final int BLOCKGROESSE = 5000;
+
+	// Die Anzahl der Tabellen, welche bei der Migration maximal parallel migriert werden
+	private static final int ANZAHL_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
 
 	private static final String strOK = "[OK]";
 	private static final String strFehler = "[Fehler]";
@@ -507,7 +513,10 @@ public final class DBMigrationManager {
 	 */
 	private boolean fixSchulform() throws ApiOperationException {
 		try (DBEntityManager conn = tgtManager.getUser().getEntityManager()) {
-			final @NotNull DTOEigeneSchule schule = SchulUtils.getDTOSchule(conn);
+			// Die Schule wird ggf. geändert und daher nicht über den Katalog-Cache gelesen
+			final DTOEigeneSchule schule = conn.querySingle(DTOEigeneSchule.class);
+			if (schule == null)
+				throw new ApiOperationException(Status.NOT_FOUND, "Kein Eintrag für die eigene Schule in der Datenbank vorhanden.");
 			logger.logLn("- Schulnummer: " + schule.SchulNr);
 			logger.logLn("- Schulform: " + ((schule.Schulform == null) ? "???" : schule.Schulform.daten.kuerzel));
 			final List<SchulenKatalogEintrag> katalogSchulen = CsvReader.fromResource("daten/csv/schulver/Schulen.csv", SchulenKatalogEintrag.class);
@@ -542,157 +551,331 @@ public final class DBMigrationManager {
 
 
 	/**
-	 * Liest alle Daten aus der Tabelle aus. Die Daten werden anhand
-	 * der Schulnummer aus dem Attribut {@link DBMigrationManager.schulNr}
-	 * eingeschränkt, sofern dieses nicht null ist.
+	 * Die Tabellen, deren Prüfung alle Datensätze der Tabelle gemeinsam benötigt (z.B. zum Entfernen doppelter
+	 * Einträge oder zum Neu-Nummerieren der IDs) und welche daher nicht blockweise migriert werden.
+	 */
+	private static final Set<String> tabellenOhneBloecke = Set.of(
+		Schema.tab_EigeneSchule.name(),
+		Schema.tab_EigeneSchule_Teilstandorte.name(),
+		Schema.tab_EigeneSchule_Kursart.name(),
+		Schema.tab_EigeneSchule_Faecher.name(),
+		Schema.tab_K_Schule.name(),
+		Schema.tab_K_Ankreuzdaten.name(),
+		Schema.tab_K_Kindergarten.name(),
+		Schema.tab_CredentialsLernplattformen.name(),
+		Schema.tab_SchuelerLD_PSFachBem.name(),
+		Schema.tab_SchuelerFoerderempfehlungen.name(),
+		Schema.tab_LehrerAbschnittsdaten.name(),
+		Schema.tab_LehrerAnrechnung.name(),
+		Schema.tab_LehrerEntlastung.name(),
+		Schema.tab_LehrerMehrleistung.name(),
+		Schema.tab_LehrerFotos.name(),
+		Schema.tab_LehrerFunktionen.name()
+	);
+
+
+	/**
+	 * Die Abhängigkeiten der Prüfmethoden von zuvor migrierten Tabellen, welche nicht bereits durch einen
+	 * Fremdschlüssel gegeben sind. Die Prüfmethoden nutzen hierbei die zwischengespeicherten IDs der anderen Tabelle.
+	 */
+	private static final Map<String, List<SchemaTabelle>> abhaengigkeitenPruefung = Map.ofEntries(
+		Map.entry(Schema.tab_Logins.name(), List.of(Schema.tab_Users)),
+		Map.entry(Schema.tab_Personengruppen_Personen.name(), List.of(Schema.tab_Personengruppen)),
+		Map.entry(Schema.tab_SchuelerListe_Inhalt.name(), List.of(Schema.tab_SchuelerListe)),
+		Map.entry(Schema.tab_Schueler.name(), List.of(Schema.tab_EigeneSchule_Fachklassen)),
+		Map.entry(Schema.tab_Schueler_AllgAdr.name(), List.of(Schema.tab_K_AllgAdresse)),
+		Map.entry(Schema.tab_SchuelerLernabschnittsdaten.name(), List.of(Schema.tab_Schueler, Schema.tab_EigeneSchule_Fachklassen)),
+		Map.entry(Schema.tab_SchuelerLeistungsdaten.name(), List.of(Schema.tab_SchuelerLernabschnittsdaten, Schema.tab_EigeneSchule_Faecher)),
+		Map.entry(Schema.tab_SchuelerLD_PSFachBem.name(), List.of(Schema.tab_SchuelerLernabschnittsdaten)),
+		Map.entry(Schema.tab_SchuelerFoerderempfehlungen.name(), List.of(Schema.tab_Schueler, Schema.tab_SchuelerLernabschnittsdaten)),
+		Map.entry(Schema.tab_SchuelerAbiFaecher.name(), List.of(Schema.tab_Schueler, Schema.tab_EigeneSchule_Faecher)),
+		Map.entry(Schema.tab_SchuelerBKFaecher.name(), List.of(Schema.tab_Schueler, Schema.tab_EigeneSchule_Faecher)),
+		Map.entry(Schema.tab_SchuelerDatenschutz.name(), List.of(Schema.tab_Schueler)),
+		Map.entry(Schema.tab_SchuelerGSDaten.name(), List.of(Schema.tab_Schueler)),
+		Map.entry(Schema.tab_SchuelerKAoADaten.name(), List.of(Schema.tab_Schueler, Schema.tab_SchuelerLeistungsdaten)),
+		Map.entry(Schema.tab_SchuelerLernplattform.name(), List.of(Schema.tab_Schueler, Schema.tab_CredentialsLernplattformen)),
+		Map.entry(Schema.tab_ErzieherLernplattform.name(), List.of(Schema.tab_SchuelerErzAdr, Schema.tab_CredentialsLernplattformen)),
+		Map.entry(Schema.tab_LehrerLernplattform.name(), List.of(Schema.tab_K_Lehrer, Schema.tab_CredentialsLernplattformen)),
+		Map.entry(Schema.tab_LehrerAbschnittsdaten.name(), List.of(Schema.tab_K_Lehrer)),
+		Map.entry(Schema.tab_LehrerAnrechnung.name(), List.of(Schema.tab_K_Lehrer, Schema.tab_LehrerAbschnittsdaten)),
+		Map.entry(Schema.tab_LehrerEntlastung.name(), List.of(Schema.tab_K_Lehrer, Schema.tab_LehrerAbschnittsdaten)),
+		Map.entry(Schema.tab_LehrerMehrleistung.name(), List.of(Schema.tab_K_Lehrer, Schema.tab_LehrerAbschnittsdaten)),
+		Map.entry(Schema.tab_LehrerFunktionen.name(), List.of(Schema.tab_K_Lehrer, Schema.tab_LehrerAbschnittsdaten)),
+		Map.entry(Schema.tab_LehrerDatenschutz.name(), List.of(Schema.tab_K_Lehrer)),
+		Map.entry(Schema.tab_LehrerFotos.name(), List.of(Schema.tab_K_Lehrer)),
+		Map.entry(Schema.tab_LehrerLehramt.name(), List.of(Schema.tab_K_Lehrer)),
+		Map.entry(Schema.tab_LehrerLehramtFachr.name(), List.of(Schema.tab_K_Lehrer)),
+		Map.entry(Schema.tab_LehrerLehramtLehrbef.name(), List.of(Schema.tab_K_Lehrer))
+	);
+
+
+	/**
+	 * Bestimmt die Zugriffe auf die DTO-Klasse der angegebenen Tabelle anhand der im Quell-Schema
+	 * vorhandenen Spalten.
 	 *
-	 * @param tab   die einzulesende Tabelle
+	 * @param tab      die Tabelle
+	 * @param status   der Status des Quell-Schemas
+	 *
+	 * @return die Zugriffe auf die DTO-Klasse oder null, falls die Tabelle im Quell-Schema nicht definiert ist
 	 *
-	 * @return eine Liste mit allen Entitäten der Tabelle
+	 * @throws DBException   falls für die Tabelle keine DTO-Klasse definiert ist oder die Zugriffe nicht bestimmt werden können
 	 */
-	private List<?> readAllData(final SchemaTabelle tab) {
-		final Class<?> dtoClass = MigrationDTOs.getFromTableName(tab.name());
-		lastError = null;
-
+	private static MigrationDTOZugriff getZugriff(final SchemaTabelle tab, final DBSchemaStatus status) throws DBException {
 		// Prüfe, ob eine Java-DTO-Klasse definiert wurde. Dies sollte eigentlich der Fall sein...
-		final String dtoName = tab.getJavaKlasse(0);
-		if (dtoName == null) {
-			lastError = "Keine Java-DTO-Klasse definiert.";
-			return null;
-		}
+		final Class<?> dtoClass = MigrationDTOs.getFromTableName(tab.name());
+		if ((dtoClass == null) || (tab.getJavaKlasse(0) == null))
+			throw new DBException("Keine Java-DTO-Klasse definiert.");
 
 		// Prüfe, ob die Tabelle im Schema überhaupt definiert wurde
-		final DBSchemaStatus status = srcManager.getSchemaStatus();
-		if (!status.hasTable(tab.name())) {
-			lastError = "Die Tabelle ist im Quell-Schema nicht definiert.";
-			return new ArrayList<>();
-		}
+		if (!status.hasTable(tab.name()))
+			return null;
 
-		// Prüfe, ob alle Spalten auch wirklich vorhanden sind...
+		// Bestimme die Spalten, welche auch wirklich vorhanden sind...
 		final List<String> spaltenSoll = tab.getSpalten(0).stream().map(col -> col.name()).toList();
-		final List<String> spaltenIst = status.filterColumns(tab.name(), spaltenSoll);
-		// Falls ja, dann kopiere direkt, sofern keine Schulnummer angegeben ist.
-		if ((filterSchulNummer == null) && (spaltenSoll.size() == spaltenIst.size())) {
-			// Lese alle Daten aus der Tabelle
-			try (DBEntityManager srcConn = srcManager.getUser().getEntityManager()) {
-				return srcConn.queryNamed("" + dtoName + ".all" + ((!tab.pkSpalten().isEmpty()) ? ".migration" : ""), dtoClass).getResultList();
-			} catch (final PersistenceException e) {
-				lastError = e.getMessage();
-				return null;
+		return new MigrationDTOZugriff(dtoClass, tab, status.filterColumns(tab.name(), spaltenSoll));
+	}
+
+
+	/**
+	 * Liest einen Block von Datensätzen aus der Tabelle aus. Die Daten werden anhand
+	 * der Schulnummer aus dem Attribut {@link DBMigrationManager#filterSchulNummer}
+	 * eingeschränkt, sofern dieses nicht null ist. Bei einer blockweisen Abfrage werden die
+	 * Datensätze nach dem Primärschlüssel sortiert und es werden nur die Datensätze nach dem
+	 * übergebenen Schlüsselwert gelesen (Keyset-Pagination).
+	 *
+	 * @param srcConn      die Verbindung zur Quell-Datenbank
+	 * @param tab          die einzulesende Tabelle
+	 * @param zugriff      die Zugriffe auf die DTO-Klasse der Tabelle
+	 * @param anzahl       die maximale Anzahl an Datensätzen des Blocks oder 0, falls alle Datensätze gelesen werden sollen
+	 * @param schluessel   der Schlüsselwert des zuletzt gelesenen Datensatzes oder null beim ersten Block
+	 *
+	 * @return die gelesenen Zeilen mit den Werten in der Reihenfolge der Quell-Attribute
+	 *
+	 * @throws DBException   falls beim Lesen der Datensätze ein Fehler auftritt
+	 */
+	private List<Object[]> readBlock(final DBEntityManager srcConn, final SchemaTabelle tab, final MigrationDTOZugriff zugriff, final int anzahl,
+			final Object schluessel) throws DBException {
+		final List<String> spaltenIst = zugriff.getSpaltenQuelle();
+		final String attributSchluessel = (anzahl > 0) ? zugriff.getAttributSchluessel() : null;
+		final List<String> bedingungen = new ArrayList<>();
+		if (!tab.pkSpalten().isEmpty()) {
+			tab.pkSpalten().stream().filter(col -> spaltenIst.contains(col.name())).forEach(col -> bedingungen.add("e." + col.javaAttributName() + " IS NOT NULL"));
+			if ((filterSchulNummer != null) && spaltenIst.contains("SchulnrEigner"))
+				bedingungen.add("(e.SchulnrEigner = " + filterSchulNummer + (zentralKatalogeGemeinsam.contains(tab.name().toLowerCase()) ? " OR e.SchulnrEigner = 0)" : ")"));
+		}
+		if ((attributSchluessel != null) && (schluessel != null))
+			bedingungen.add("e." + attributSchluessel + " > :schluessel");
+		final String jpql = zugriff.getAttributeQuelle().stream().map(a -> "e." + a).collect(Collectors.joining(",", "SELECT ", " FROM "))
+				+ MigrationDTOs.getFromTableName(tab.name()).getSimpleName() + " e"
+				+ (bedingungen.isEmpty() ? "" : " WHERE " + String.join(" AND ", bedingungen))
+				+ ((attributSchluessel != null) ? " ORDER BY e." + attributSchluessel : "");
+		try {
+			final TypedQuery<Object[]> query = srcConn.query(jpql, Object[].class);
+			if (attributSchluessel != null) {
+				if (schluessel != null)
+					query.setParameter("schluessel", schluessel);
+				query.setMaxResults(anzahl);
 			}
+			return query.getResultList();
+		} catch (final PersistenceException e) {
+			throw new DBException(e.getMessage(), e);
 		}
+	}
+
 
-		// Ansonsten muss ein angepasster SQL-String zusammengesetzt werden und die Daten müssen manuell in das DTO-Objekt übertragen werden...
+	/**
+	 * Liest alle Daten aus der Tabelle aus. Die Daten werden anhand
+	 * der Schulnummer aus dem Attribut {@link DBMigrationManager#filterSchulNummer}
+	 * eingeschränkt, sofern dieses nicht null ist.
+	 *
+	 * @param tab   die einzulesende Tabelle
+	 *
+	 * @return eine Liste mit allen Entitäten der Tabelle oder null im Fehlerfall
+	 */
+	private List<Object> readAllData(final SchemaTabelle tab) {
 		try {
-			final List<Field> fields = Arrays.asList(dtoClass.getDeclaredFields())
-					.stream().filter(f -> {
-						final var col_annotation = f.getAnnotation(Column.class);
-						if (col_annotation == null)
-							return false;
-						return spaltenIst.contains(col_annotation.name()) || spaltenIst.contains(col_annotation.name().toUpperCase());
-					})
-					.toList();
-			final List<Field> missing_fields = Arrays.asList(dtoClass.getDeclaredFields())
-					.stream().filter(f ->  {
-						final var col_annotation = f.getAnnotation(Column.class);
-						if (col_annotation == null)
-							return false;
-					    return !spaltenIst.contains(col_annotation.name()) && !spaltenIst.contains(col_annotation.name().toUpperCase());
-					})
-					.toList();
-			fields.stream().forEach(f -> f.setAccessible(true));
-			missing_fields.stream().forEach(f -> f.setAccessible(true));
-			String jpql = "SELECT " + fields.stream().map(f -> "e." + f.getName()).collect(Collectors.joining(",")) + " FROM " + dtoClass.getSimpleName() + " e";
-			if (!tab.pkSpalten().isEmpty()) {
-				final List<SchemaTabelleSpalte> pkSpalten = tab.pkSpalten().stream().filter(col -> spaltenIst.contains(col.name())).toList();
-				if (!pkSpalten.isEmpty()) {
-					jpql += " WHERE " + pkSpalten.stream()
-							.map(col -> "e." + col.javaAttributName() + " IS NOT NULL")
-							.collect(Collectors.joining(" AND "));
-				}
-				if ((filterSchulNummer != null) && spaltenIst.contains("SchulnrEigner")) {
-					jpql += ((!pkSpalten.isEmpty()) ? " AND " : " WHERE ") +  "(e.SchulnrEigner = " + filterSchulNummer + "";
-					if (zentralKatalogeGemeinsam.contains(tab.name().toLowerCase()))
-						jpql += " OR e.SchulnrEigner = 0";
-					jpql += ")";
-				}
-			}
+			final MigrationDTOZugriff zugriff = getZugriff(tab, srcManager.getSchemaStatus());
+			final List<Object> result = new ArrayList<>();
+			if (zugriff == null)
+				return result;
 			try (DBEntityManager srcConn = srcManager.getUser().getEntityManager()) {
-				final List<Object[]> entities = srcConn.query(jpql, Object[].class).getResultList();
-				final Constructor<?> constructor = dtoClass.getDeclaredConstructor();
-				constructor.setAccessible(true);
-				final ArrayList<Object> list = new ArrayList<>();
-				for (final Object[] obj : entities) {
-					final Object entity = constructor.newInstance();
-					int i = 0;
-					for (final Field f : fields)
-						f.set(entity, obj[i++]);
-					for (final Field f : missing_fields) {
-						final SchemaTabelleSpalte column = tab.getSpalten(0).stream().filter(col -> col.javaAttributName().equals(f.getName())).findFirst().orElse(null);
-						f.set(entity, column == null ? null : column.getDefaultWertConverted());
-					}
-					list.add(entity);
-				}
-				return list;
+				for (final Object[] zeile : readBlock(srcConn, tab, zugriff, 0, null))
+					result.add(zugriff.erzeugeDTO(zeile));
 			}
-		} catch (PersistenceException | NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException  e) {
-			lastError = e.getMessage();
+			return result;
+		} catch (final DBException e) {
+			logger.logLn(LogLevel.ERROR, e.getMessage());
 			return null;
 		}
 	}
 
 
 	/**
-	 * Schreibe die übergebenen Entitäten in die Zieldatenbank. Diese werden
-	 * in Bereichen von 10000 Entitäten persistiert. Im Fehlerfall werden
-	 * diese Bereiche schrittweise zerlegt und das Schreiben der Entitäten wird
+	 * Schreibe die übergebenen Entitäten in die Zieldatenbank. Diese werden zunächst gemeinsam
+	 * über INSERT-Anweisungen mit mehreren Datensätzen geschrieben. Im Fehlerfall werden
+	 * die Bereiche schrittweise zerlegt und das Schreiben der Entitäten wird
 	 * so lange versucht, bis einzelnen Entitäten nicht geschrieben werde können.
 	 *
+	 * @param tgtConn    die Verbindung zur Ziel-Datenbank
+	 * @param tab        die Tabelle
+	 * @param zugriff    die Zugriffe auf die DTO-Klasse der Tabelle
 	 * @param entities   die zu schreibenden Entitäten
+	 * @param logger     der Logger für die Tabelle
+	 *
+	 * @return die Anzahl der fehlerhaften Datensätze, welche übersprungen wurden
+	 *
+	 * @throws DBException   falls die Werte einer Entität nicht bestimmt werden können
 	 */
-	private void write(final List<?> entities) {
-		try (DBEntityManager tgtConn = tgtManager.getUser().getEntityManager()) {
-			logger.logLn("- Schreibe " + entities.size() + " Datensätze: ");
-			logger.modifyIndent(2);
-			// Versuche zunächst in Blöcken von 10000 Datensätzen zu schreiben, diese werden je nach Erfolg später noch unterteilt...
-			int write_errors = 0;
-			final LinkedList<Map.Entry<Integer, Integer>> ranges = new LinkedList<>();
-			for (int i = 0; i <= ((entities.size() - 1) / 10000); i++) {
-				final int first = i * 10000;
-				int last = (i + 1) * 10000 - 1;
-				if (last >= entities.size())
-					last = entities.size() - 1;
-				ranges.add(Map.entry(first, last));
-			}
-			while (!ranges.isEmpty()) {
-				final Map.Entry<Integer, Integer> range = ranges.removeFirst();
-				if (tgtConn.persistRange(entities, range.getKey(), range.getValue())) {
-					if (range.getKey().equals(range.getValue()))
-						logger.logLn("Datensatz " + range.getKey() + " erfolgreich geschrieben. (Freier Speicher: " + (Math.round(Runtime.getRuntime().freeMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().totalMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().maxMemory() / 10000000.0) / 100.0) +  "G)");
-					else
-						logger.logLn("Datensätze " + range.getKey() + "-" + range.getValue() + " erfolgreich geschrieben. (Freier Speicher: " + (Math.round(Runtime.getRuntime().freeMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().totalMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().maxMemory() / 10000000.0) / 100.0) +  "G)");
-				} else {
-					if (range.getKey().equals(range.getValue())) {
-						logger.logLn(LogLevel.ERROR, "Datensatz " + range.getKey() + " konnte nicht geschrieben werden - Datensatz wird übersprungen.");
-						logger.logLn(LogLevel.ERROR, "[FEHLER] " + entities.get(range.getKey()));
-						write_errors++;
-					} else {
-						logger.logLn("Datensätze " + range.getKey() + "-" + range.getValue() + " konnten nicht geschrieben werden geschrieben - Teile den Block auf und versuche die Teilblöcke zu schreiben.");
-						// Teile den Block auf
-						int step = (range.getValue() - range.getKey() + 1) / 10;
-						if (step < 1)
-							step = 1;
-						for (int last = range.getValue(); last >= range.getKey(); last -= step) {
-							final int first = last - step + 1;
-							ranges.addFirst(Map.entry(first >= range.getKey() ? first : range.getKey(), last));
-						}
-					}
+	private static int write(final DBEntityManager tgtConn, final SchemaTabelle tab, final MigrationDTOZugriff zugriff, final List<?> entities,
+			final Logger logger) throws DBException {
+		final List<Object[]> werte = new ArrayList<>(entities.size());
+		for (final Object entity : entities)
+			werte.add(zugriff.getWerteZiel(entity));
+		int write_errors = 0;
+		final LinkedList<Map.Entry<Integer, Integer>> ranges = new LinkedList<>();
+		ranges.add(Map.entry(0, werte.size() - 1));
+		while (!ranges.isEmpty()) {
+			final Map.Entry<Integer, Integer> range = ranges.removeFirst();
+			if (DBBackupManager.writeBlock(tgtConn, tab.name(), zugriff.getSpaltenZiel(), werte.subList(range.getKey(), range.getValue() + 1)))
+				continue;
+			if (range.getKey().equals(range.getValue())) {
+				logger.logLn(LogLevel.ERROR, "Datensatz " + range.getKey() + " konnte nicht geschrieben werden - Datensatz wird übersprungen.");
+				logger.logLn(LogLevel.ERROR, "[FEHLER] " + entities.get(range.getKey()));
+				write_errors++;
+			} else {
+				logger.logLn("Datensätze " + range.getKey() + "-" + range.getValue() + " konnten nicht geschrieben werden - Teile den Block auf und versuche die Teilblöcke zu schreiben.");
+				// Teile den Block auf
+				int step = (range.getValue() - range.getKey() + 1) / 10;
+				if (step < 1)
+					step = 1;
+				for (int last = range.getValue(); last >= range.getKey(); last -= step) {
+					final int first = last - step + 1;
+					ranges.addFirst(Map.entry(first >= range.getKey() ? first : range.getKey(), last));
 				}
 			}
-			logger.modifyIndent(-2);
-			logger.logLn("" + (entities.size() - write_errors) + " Datensätze geschrieben, " + write_errors + " fehlerhafte Datensätze übersprungen.");
-			logger.modifyIndent(-2);
 		}
+		return write_errors;
+	}
+
+
+	/**
+	 * Ein Zugriff auf die Quell-Datenbank, welcher jeweils einen Block von Datensätzen einer Tabelle liest.
+	 */
+	@FunctionalInterface
+	interface BlockLeser {
+
+		/**
+		 * Liest den nächsten Block von Datensätzen nach dem übergebenen Schlüsselwert.
+		 *
+		 * @param schluessel   der Schlüsselwert des zuletzt gelesenen Datensatzes oder null beim ersten Block
+		 *
+		 * @return die gelesenen Zeilen mit den Werten in der Reihenfolge der Quell-Attribute
+		 *
+		 * @throws DBException   falls beim Lesen der Datensätze ein Fehler auftritt
+		 */
+		List<Object[]> lese(Object schluessel) throws DBException;
+
+	}
+
+
+	/**
+	 * Migriert die Datensätze der angegebenen Tabelle. Die Datensätze werden dabei - sofern möglich - blockweise
+	 * anhand des Primärschlüssels gelesen, mit den Prüfmethoden geprüft und geschrieben, so dass auch bei großen
+	 * Tabellen nur ein Block von Datensätzen gleichzeitig im Speicher gehalten wird.
+	 *
+	 * @param tab      die Tabelle
+	 * @param status   der Status des Quell-Schemas
+	 * @param logger   der Logger für die Tabelle
+	 *
+	 * @return true, falls die Tabelle ohne schwerwiegenden Fehler migriert wurde, und ansonsten false
+	 */
+	private boolean migrateTable(final SchemaTabelle tab, final DBSchemaStatus status, final Logger logger) {
+		final MigrationDTOZugriff zugriff;
+		try {
+			zugriff = getZugriff(tab, status);
+		} catch (final DBException e) {
+			logger.logLn(LogLevel.ERROR, "[FEHLER] - Kann die Datensätze nicht migrieren - Überspringe die Tabelle");
+			logger.logLn(LogLevel.ERROR, e.getMessage());
+			return true;
+		}
+		if (zugriff == null) {
+			logger.logLn("- Die Tabelle ist im Quell-Schema nicht definiert.");
+			return true;
+		}
+		final int anzahl = (tabellenOhneBloecke.contains(tab.name()) || (zugriff.getAttributSchluessel() == null)) ? 0 : BLOCKGROESSE;
+		try (DBEntityManager srcConn = srcManager.getUser().getEntityManager(); DBEntityManager tgtConn = tgtManager.getUser().getEntityManager()) {
+			return migrateTableBloecke(tgtConn, tab, zugriff, anzahl, schluessel -> readBlock(srcConn, tab, zugriff, anzahl, schluessel),
+					entities -> checkData(entities, logger), logger);
+		}
+	}
+
+
+	/**
+	 * Migriert die Datensätze der angegebenen Tabelle blockweise. Tritt dabei ein Fehler auf, nachdem bereits
+	 * Blöcke geschrieben wurden, so werden die bereits geschriebenen Datensätze der Tabelle wieder entfernt,
+	 * so dass die Tabelle vollständig übersprungen wird und nicht nur teilweise gefüllt ist. Können die
+	 * Datensätze nicht entfernt werden, so wird die Migration abgebrochen.
+	 *
+	 * @param tgtConn    die Verbindung zur Ziel-Datenbank
+	 * @param tab        die Tabelle
+	 * @param zugriff    die Zugriffe auf die DTO-Klasse der Tabelle
+	 * @param anzahl     die maximale Anzahl an Datensätzen eines Blocks oder 0, falls alle Datensätze in einem Block gelesen werden
+	 * @param leser      der Zugriff zum Lesen der Blöcke aus der Quell-Datenbank
+	 * @param pruefung   die Prüfung der Entitäten eines Blocks, welche false liefert, wenn die Migration abgebrochen werden muss
+	 * @param logger     der Logger für die Tabelle
+	 *
+	 * @return true, falls die Tabelle ohne schwerwiegenden Fehler migriert oder vollständig übersprungen wurde, und ansonsten false
+	 */
+	static boolean migrateTableBloecke(final DBEntityManager tgtConn, final SchemaTabelle tab, final MigrationDTOZugriff zugriff, final int anzahl,
+			final BlockLeser leser, final Predicate<List<Object>> pruefung, final Logger logger) {
+		final long timeStart = System.currentTimeMillis();
+		long anzahlGelesen = 0;
+		long anzahlGeschrieben = 0;
+		long anzahlFehler = 0;
+		try {
+			Object schluessel = null;
+			boolean weitereBloecke = true;
+			while (weitereBloecke) {
+				final List<Object[]> zeilen = leser.lese(schluessel);
+				weitereBloecke = (anzahl > 0) && (zeilen.size() == anzahl);
+				if (zeilen.isEmpty())
+					break;
+				anzahlGelesen += zeilen.size();
+				schluessel = zugriff.getSchluessel(zeilen.get(zeilen.size() - 1));
+				final List<Object> entities = new ArrayList<>(zeilen.size());
+				for (final Object[] zeile : zeilen)
+					entities.add(zugriff.erzeugeDTO(zeile));
+
+				// Prüfe die Entitäten auf fehlerhafte Daten, welche dann gefiltert werden, und ergänze ggf. zusätzliche Informationen während der Migration
+				if (!pruefung.test(entities))
+					return false;
+				if (entities.isEmpty())
+					continue;
+
+				// Schreibe die Datensätze in die Zieltabelle
+				final int fehler = write(tgtConn, tab, zugriff, entities, logger);
+				anzahlGeschrieben += entities.size() - fehler;
+				anzahlFehler += fehler;
+			}
+		} catch (final DBException e) {
+			logger.logLn(LogLevel.ERROR, "[FEHLER] - Kann die Datensätze nicht vollständig migrieren - Überspringe die Tabelle");
+			logger.logLn(LogLevel.ERROR, e.getMessage());
+			if (anzahlGeschrieben == 0)
+				return true;
+			// Entferne die bereits geschriebenen Blöcke, damit die Tabelle nicht nur teilweise migriert ist
+			if (tgtConn.executeNativeDelete("DELETE FROM " + tab.name()) == Integer.MIN_VALUE) {
+				logger.logLn(LogLevel.ERROR, "[FEHLER] - Die bereits geschriebenen " + anzahlGeschrieben
+						+ " Datensätze konnten nicht wieder entfernt werden - Breche die Migration ab");
+				return false;
+			}
+			logger.logLn("- Die bereits geschriebenen " + anzahlGeschrieben + " Datensätze wurden wieder entfernt.");
+			return true;
+		}
+		final long dauer = System.currentTimeMillis() - timeStart;
+		logger.logLn("- " + anzahlGelesen + " Datensätze gelesen, " + anzahlGeschrieben + " Datensätze geschrieben, " + anzahlFehler
+				+ " fehlerhafte Datensätze übersprungen (" + (dauer / 1000.0) + " Sekunden, "
+				+ ((dauer == 0) ? anzahlGelesen : (anzahlGelesen * 1000 / dauer)) + " Datensätze/Sekunde)");
+		return true;
 	}
 
 
@@ -757,10 +940,11 @@ public final class DBMigrationManager {
 	 * Bei unterschiedlichen Schulnummern wird die Migration mit einer Fehlermeldung beendet.
 	 *
 	 * @param entities   die Entitäten der Tabelle EigeneSchule
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkEigeneSchule(final List<MigrationDTOEigeneSchule> entities) {
+	private boolean checkEigeneSchule(final List<MigrationDTOEigeneSchule> entities, final Logger logger) {
 		if (entities.size() > 1) {
 			int pos = 0;
 			for (pos = 0; pos < entities.size(); pos++) {
@@ -831,10 +1015,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird sichergestellt, dass die Datensätze zur Schulnummer passen.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkEigeneSchuleTeilstandorte(final List<MigrationDTOTeilstandorte> entities) {
+	private boolean checkEigeneSchuleTeilstandorte(final List<MigrationDTOTeilstandorte> entities, final Logger logger) {
 		if (entities.size() > 1) {
 			for (int i = entities.size() - 1; i >= 0; i--) {
 				final MigrationDTOTeilstandorte daten = entities.get(i);
@@ -864,10 +1049,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird sichergestellt, dass die Datensätze zur Schulnummer passen.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkEigeneSchuleKursarten(final List<MigrationDTOKursarten> entities) {
+	private boolean checkEigeneSchuleKursarten(final List<MigrationDTOKursarten> entities, final Logger logger) {
 		if (entities.size() > 1) {
 			for (int i = entities.size() - 1; i >= 0; i--) {
 				final MigrationDTOKursarten daten = entities.get(i);
@@ -882,11 +1068,11 @@ public final class DBMigrationManager {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOKursarten daten = entities.get(i);
 			if (daten.Kursart != null)
-				daten.Kursart = mapKursart(daten.Kursart);
+				daten.Kursart = mapKursart(daten.Kursart, logger);
 			if (daten.KursartAllg != null)
-				daten.KursartAllg = mapKursart(daten.KursartAllg);
+				daten.KursartAllg = mapKursart(daten.KursartAllg, logger);
 			if (daten.Kursart != null)
-				daten.InternBez = mapKursart(daten.InternBez);
+				daten.InternBez = mapKursart(daten.InternBez, logger);
 			final String tmpID = daten.Kursart + "-" + daten.KursartAllg;
 			if (set.contains(tmpID)) {
 				logger.logLn(LogLevel.ERROR, "Entferne doppelten Datensatz für die Kursart '%s'.".formatted(daten.Kursart));
@@ -904,10 +1090,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird überprüft, ob eine negative ID in der DB existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkKatalogSchule(final List<MigrationDTOSchuleNRW> entities) {
+	private boolean checkKatalogSchule(final List<MigrationDTOSchuleNRW> entities, final Logger logger) {
 		if (entities.size() > 1) {
 			for (int i = entities.size() - 1; i >= 0; i--) {
 				final MigrationDTOSchuleNRW daten = entities.get(i);
@@ -939,10 +1126,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird überprüft, ob die Bezeichnung gültig gesetzt ist.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerListe(final List<MigrationDTOSchuelerIndividuelleGruppe> entities) {
+	private boolean checkSchuelerListe(final List<MigrationDTOSchuelerIndividuelleGruppe> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerIndividuelleGruppe daten = entities.get(i);
 			if ((daten.Bezeichnung == null) || ("".equals(daten.Bezeichnung.trim()))) {
@@ -961,10 +1149,11 @@ public final class DBMigrationManager {
 	 * gehört.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerListeInhalt(final List<MigrationDTOSchuelerIndividuelleGruppeSchueler> entities) {
+	private boolean checkSchuelerListeInhalt(final List<MigrationDTOSchuelerIndividuelleGruppeSchueler> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerIndividuelleGruppeSchueler daten = entities.get(i);
 			if ((daten.Liste_ID == null) || (!schuelerListenIDs.contains(daten.Liste_ID))) {
@@ -981,10 +1170,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird überprüft, ob ein Benutzername vorhanden ist.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkCredentials(final List<MigrationDTOCredentials> entities) {
+	private boolean checkCredentials(final List<MigrationDTOCredentials> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOCredentials daten = entities.get(i);
 			if ((daten.Benutzername == null) || ("".equals(daten.Benutzername.trim()))) {
@@ -1003,10 +1193,11 @@ public final class DBMigrationManager {
 	 * Doppelte Vorkommen werden entfernt.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkCredentialsLernplattformen(final List<MigrationDTOCredentialsLernplattformen> entities) {
+	private boolean checkCredentialsLernplattformen(final List<MigrationDTOCredentialsLernplattformen> entities, final Logger logger) {
 		final HashSet<String> credsUC1 = new HashSet<>();
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOCredentialsLernplattformen daten = entities.get(i);
@@ -1032,10 +1223,11 @@ public final class DBMigrationManager {
 	 * Prüft die Entitäten der Tabelle "EigeneSchule_Fachklassen".
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkEigeneSchuleFachklassen(final List<MigrationDTOFachklassen> entities) {
+	private boolean checkEigeneSchuleFachklassen(final List<MigrationDTOFachklassen> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOFachklassen daten = entities.get(i);
 			fachklassenIDs.add(daten.ID);
@@ -1047,10 +1239,11 @@ public final class DBMigrationManager {
 	 * Prüft die Entitäten der Tabelle "Users".
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkUsers(final List<MigrationDTOUsers> entities) {
+	private boolean checkUsers(final List<MigrationDTOUsers> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOUsers daten = entities.get(i);
 			userIDs.add(daten.ID);
@@ -1063,10 +1256,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der User mit der ID in der DB existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLogins(final List<MigrationDTOProtokollLogin> entities) {
+	private boolean checkLogins(final List<MigrationDTOProtokollLogin> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOProtokollLogin daten = entities.get(i);
 			if ((daten.LI_UserID == null) || (!userIDs.contains(daten.LI_UserID))) {
@@ -1081,10 +1275,11 @@ public final class DBMigrationManager {
 	 * Prüft die Entitäten der Tabelle "Personengruppen".
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkPersonengruppen(final List<MigrationDTOPersonengruppen> entities) {
+	private boolean checkPersonengruppen(final List<MigrationDTOPersonengruppen> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOPersonengruppen daten = entities.get(i);
 			personengruppenIDs.add(daten.ID);
@@ -1097,10 +1292,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob die Personengruppe exisitiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkPersonengruppenPersonen(final List<MigrationDTOPersonengruppenPersonen> entities) {
+	private boolean checkPersonengruppenPersonen(final List<MigrationDTOPersonengruppenPersonen> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOPersonengruppenPersonen daten = entities.get(i);
 			if ((daten.Gruppe_ID == null) || (!personengruppenIDs.contains(daten.Gruppe_ID))) {
@@ -1125,10 +1321,11 @@ public final class DBMigrationManager {
 	 * und es werden ggf. Fachklassen-IDs angepasst.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerLernabschnittsdaten(final List<MigrationDTOSchuelerLernabschnittsdaten> entities) {
+	private boolean checkSchuelerLernabschnittsdaten(final List<MigrationDTOSchuelerLernabschnittsdaten> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerLernabschnittsdaten daten = entities.get(i);
 			if ((daten.Schueler_ID == null) || (!schuelerIDs.contains(daten.Schueler_ID))) {
@@ -1192,10 +1389,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob Abschnitt existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerLeistungsdaten(final List<MigrationDTOSchuelerLeistungsdaten> entities) {
+	private boolean checkSchuelerLeistungsdaten(final List<MigrationDTOSchuelerLeistungsdaten> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerLeistungsdaten daten = entities.get(i);
 			if ((daten.Abschnitt_ID == null) || (!schuelerLernabschnittsIDs.contains(daten.Abschnitt_ID))) {
@@ -1210,9 +1408,9 @@ public final class DBMigrationManager {
 			}
 			schuelerLeistungsdatenIDs.add(daten.ID);
 			if (daten.Kursart != null)
-				daten.Kursart = mapKursart(daten.Kursart);
+				daten.Kursart = mapKursart(daten.Kursart, logger);
 			if (daten.KursartAllg != null)
-				daten.KursartAllg = mapKursart(daten.KursartAllg);
+				daten.KursartAllg = mapKursart(daten.KursartAllg, logger);
 		}
 		return true;
 	}
@@ -1223,10 +1421,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob Abschnitt existiert. Doppelte Einträge für den gleichen Abschnitt werden auch entfernt.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerLD_PSFachBem(final List<MigrationDTOSchuelerPSFachBemerkungen> entities) {
+	private boolean checkSchuelerLD_PSFachBem(final List<MigrationDTOSchuelerPSFachBemerkungen> entities, final Logger logger) {
 		final HashSet<Long> localSchuelerLernabschnittsIDs = new HashSet<>();
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerPSFachBemerkungen daten = entities.get(i);
@@ -1249,10 +1448,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob Abschnitt existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerBKFaecher(final List<MigrationDTOSchuelerBKFach> entities) {
+	private boolean checkSchuelerBKFaecher(final List<MigrationDTOSchuelerBKFach> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerBKFach daten = entities.get(i);
 			if ((daten.Schueler_ID == null) || (!schuelerIDs.contains(daten.Schueler_ID))) {
@@ -1279,10 +1479,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob Abschnitt existiert. Doppelte Einträge für den gleichen Abschnitt werden auch entfernt.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerFoerderempfehlungen(final List<MigrationDTOSchuelerFoerderempfehlung> entities) {
+	private boolean checkSchuelerFoerderempfehlungen(final List<MigrationDTOSchuelerFoerderempfehlung> entities, final Logger logger) {
 		final HashSet<Long> localSchuelerLernabschnittsIDs = new HashSet<>();
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerFoerderempfehlung daten = entities.get(i);
@@ -1308,10 +1509,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob die Fremdschlüssel auf den Schüler und das Fach gültig ist.
 	 *
 	 * @param entities   die zu prüfenden DTOs
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerAbiFaecher(final List<MigrationDTOSchuelerAbiturFach> entities) {
+	private boolean checkSchuelerAbiFaecher(final List<MigrationDTOSchuelerAbiturFach> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerAbiturFach daten = entities.get(i);
 			if (daten.Schueler_ID == null) {
@@ -1336,10 +1538,11 @@ public final class DBMigrationManager {
 	 * Schlüsselt die Kursart um
 	 *
 	 * @param kursart   die ursprüngliche Kursart
+	 * @param logger    der Logger für die Tabelle
 	 *
 	 * @return die angepasste Kursart
 	 */
-	private String mapKursart(final String kursart) {
+	private String mapKursart(final String kursart, final Logger logger) {
 		if (kursart == null)
 			return null;
 		final String result = switch (kursart) {
@@ -1365,10 +1568,11 @@ public final class DBMigrationManager {
 	 * Prüft die Entitäten der Tabelle "Kurse".
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkKurse(final List<MigrationDTOKurs> entities) {
+	private boolean checkKurse(final List<MigrationDTOKurs> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOKurs daten = entities.get(i);
 			if ((daten.Fortschreibungsart == null) || (!KursFortschreibungsart.isValidKuerzel(daten.Fortschreibungsart))) {
@@ -1376,7 +1580,7 @@ public final class DBMigrationManager {
 				daten.Fortschreibungsart = KursFortschreibungsart.KEINE.kuerzel;
 			}
 			if (daten.KursartAllg != null)
-				daten.KursartAllg = mapKursart(daten.KursartAllg);
+				daten.KursartAllg = mapKursart(daten.KursartAllg, logger);
 			kursIDs.add(daten.ID);
 		}
 		return true;
@@ -1387,10 +1591,11 @@ public final class DBMigrationManager {
 	 * Prüft die Entitäten der Tabelle "K_Lehrer".
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLehrer(final List<MigrationDTOLehrer> entities) {
+	private boolean checkLehrer(final List<MigrationDTOLehrer> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOLehrer daten = entities.get(i);
 			if ((daten.PersonTyp == null) || ("".equals(daten.PersonTyp.trim())))
@@ -1412,10 +1617,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der Lehrer existiert und ob null-Werte beim Abschnitt vorkommen.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLehrerAbschnittsdaten(final List<MigrationDTOLehrerAbschnittsdaten> entities) {
+	private boolean checkLehrerAbschnittsdaten(final List<MigrationDTOLehrerAbschnittsdaten> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOLehrerAbschnittsdaten daten = entities.get(i);
 			if ((daten.Lehrer_ID == null) || (!lehrerIDs.contains(daten.Lehrer_ID))) {
@@ -1446,10 +1652,11 @@ public final class DBMigrationManager {
 	 * es für die Kombination Lehrer/Abschnitt keine Abschnittsdaten gibt.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLehrerAnrechnung(final List<MigrationDTOLehrerAnrechnungsstunde> entities) {
+	private boolean checkLehrerAnrechnung(final List<MigrationDTOLehrerAnrechnungsstunde> entities, final Logger logger) {
 		final HashMap<String, MigrationDTOLehrerAnrechnungsstunde> map = new HashMap<>();
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOLehrerAnrechnungsstunde daten = entities.get(i);
@@ -1490,10 +1697,11 @@ public final class DBMigrationManager {
 	 * es für die Kombination Lehrer/Abschnitt keine Abschnittsdaten gibt.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLehrerEntlastung(final List<MigrationDTOLehrerEntlastungsstunde> entities) {
+	private boolean checkLehrerEntlastung(final List<MigrationDTOLehrerEntlastungsstunde> entities, final Logger logger) {
 		final HashMap<String, MigrationDTOLehrerEntlastungsstunde> map = new HashMap<>();
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOLehrerEntlastungsstunde daten = entities.get(i);
@@ -1533,10 +1741,11 @@ public final class DBMigrationManager {
 	 * es für die Kombination Lehrer/Abschnitt keine Abschnittsdaten gibt.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLehrerMehrleistung(final List<MigrationDTOLehrerMehrleistung> entities) {
+	private boolean checkLehrerMehrleistung(final List<MigrationDTOLehrerMehrleistung> entities, final Logger logger) {
 		final HashMap<String, MigrationDTOLehrerMehrleistung> map = new HashMap<>();
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOLehrerMehrleistung daten = entities.get(i);
@@ -1576,10 +1785,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der zugeordnete Lehrer mit den angegebenen ID existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLehrerFoto(final List<MigrationDTOLehrerFoto> entities) {
+	private boolean checkLehrerFoto(final List<MigrationDTOLehrerFoto> entities, final Logger logger) {
 		final HashMap<Long, MigrationDTOLehrerFoto> map = new HashMap<>();
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOLehrerFoto daten = entities.get(i);
@@ -1606,10 +1816,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird eine ID als Primärschlüssel ergänzt.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLehrerFunktionen(final List<MigrationDTOLehrerFunktion> entities) {
+	private boolean checkLehrerFunktionen(final List<MigrationDTOLehrerFunktion> entities, final Logger logger) {
 		final HashMap<String, MigrationDTOLehrerFunktion> map = new HashMap<>();
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOLehrerFunktion daten = entities.get(i);
@@ -1648,10 +1859,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der zugeordnete Lehrer mit den angegebenen ID existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLehrerLehramt(final List<MigrationDTOLehrerLehramt> entities) {
+	private boolean checkLehrerLehramt(final List<MigrationDTOLehrerLehramt> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOLehrerLehramt daten = entities.get(i);
 			if ((daten.Lehrer_ID == null) || (!lehrerIDs.contains(daten.Lehrer_ID))) {
@@ -1668,10 +1880,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der zugeordnete Lehrer mit den angegebenen ID existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLehrerLehramtFachrichtung(final List<MigrationDTOLehrerLehramtFachrichtung> entities) {
+	private boolean checkLehrerLehramtFachrichtung(final List<MigrationDTOLehrerLehramtFachrichtung> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOLehrerLehramtFachrichtung daten = entities.get(i);
 			if ((daten.Lehrer_ID == null) || (!lehrerIDs.contains(daten.Lehrer_ID))) {
@@ -1688,10 +1901,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der zugeordnete Lehrer mit den angegebenen ID existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLehrerLehramtBefaehigung(final List<MigrationDTOLehrerLehramtBefaehigung> entities) {
+	private boolean checkLehrerLehramtBefaehigung(final List<MigrationDTOLehrerLehramtBefaehigung> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOLehrerLehramtBefaehigung daten = entities.get(i);
 			if ((daten.Lehrer_ID == null) || (!lehrerIDs.contains(daten.Lehrer_ID))) {
@@ -1708,10 +1922,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der zugeordnete Lehrer mit den angegebenen ID existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLehrerDatenschutz(final List<MigrationDTOLehrerDatenschutz> entities) {
+	private boolean checkLehrerDatenschutz(final List<MigrationDTOLehrerDatenschutz> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOLehrerDatenschutz daten = entities.get(i);
 			if ((daten.LehrerID == null) || (!lehrerIDs.contains(daten.LehrerID))) {
@@ -1728,10 +1943,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der zugeordnete Lehrer mit den angegebenen ID existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkLehrerLernplattform(final List<MigrationDTOLehrerLernplattform> entities) {
+	private boolean checkLehrerLernplattform(final List<MigrationDTOLehrerLernplattform> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOLehrerLernplattform daten = entities.get(i);
 			if ((daten.LehrerID == null) || (!lehrerIDs.contains(daten.LehrerID))) {
@@ -1754,10 +1970,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der zugeordnete Schüler mit den angegebenen ID existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerLernplattform(final List<MigrationDTOSchuelerLernplattform> entities) {
+	private boolean checkSchuelerLernplattform(final List<MigrationDTOSchuelerLernplattform> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerLernplattform daten = entities.get(i);
 			if ((daten.SchuelerID == null) || (!schuelerIDs.contains(daten.SchuelerID))) {
@@ -1779,10 +1996,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der zugeordnete Erzieher mit der angegebenen ID existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkErzieherLernplattform(final List<MigrationDTOErzieherLernplattform> entities) {
+	private boolean checkErzieherLernplattform(final List<MigrationDTOErzieherLernplattform> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOErzieherLernplattform daten = entities.get(i);
 			if ((daten.ErzieherID == null) || (!erzieherIDs.contains(daten.ErzieherID))) {
@@ -1805,10 +2023,11 @@ public final class DBMigrationManager {
 	 * Außerdem werden ggf. fehlende GU_IDs generiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchueler(final List<MigrationDTOSchueler> entities) {
+	private boolean checkSchueler(final List<MigrationDTOSchueler> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchueler daten = entities.get(i);
 			// Füge GU_IDs zu der Tabelle Schueler hinzu falls diese NULL sind.
@@ -1849,10 +2068,11 @@ public final class DBMigrationManager {
 	 * Prüft die Entitäten der Tabelle "SchuelerErzAdr".
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerErzieherAdresse(final List<MigrationDTOSchuelerErzieherAdresse> entities) {
+	private boolean checkSchuelerErzieherAdresse(final List<MigrationDTOSchuelerErzieherAdresse> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerErzieherAdresse daten = entities.get(i);
 			// Splitte die Strasseninformation in Name, Hausnummer und Zusatz
@@ -1872,10 +2092,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der Schüler in der DB existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerDatenschutz(final List<MigrationDTOSchuelerDatenschutz> entities) {
+	private boolean checkSchuelerDatenschutz(final List<MigrationDTOSchuelerDatenschutz> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerDatenschutz daten = entities.get(i);
 			if ((daten.Schueler_ID == null) || (!schuelerIDs.contains(daten.Schueler_ID))) {
@@ -1891,10 +2112,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der Schüler in der DB existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerGSDaten(final List<MigrationDTOSchuelerGrundschuldaten> entities) {
+	private boolean checkSchuelerGSDaten(final List<MigrationDTOSchuelerGrundschuldaten> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerGrundschuldaten daten = entities.get(i);
 			if ((daten.Schueler_ID == null) || (!schuelerIDs.contains(daten.Schueler_ID))) {
@@ -1911,10 +2133,11 @@ public final class DBMigrationManager {
 	 * Hierbei wird geprüft, ob der Schüler in der DB existiert.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerKAoADaten(final List<MigrationDTOSchuelerKAoADaten> entities) {
+	private boolean checkSchuelerKAoADaten(final List<MigrationDTOSchuelerKAoADaten> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerKAoADaten daten = entities.get(i);
 			if ((daten.Schueler_ID == null) || (!schuelerIDs.contains(daten.Schueler_ID))) {
@@ -1940,10 +2163,11 @@ public final class DBMigrationManager {
 	 * Prüft die Entitäten der Tabelle "K_AllgAdresse".
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkKatalogAllgAdresse(final List<MigrationDTOKatalogAllgemeineAdresse> entities) {
+	private boolean checkKatalogAllgAdresse(final List<MigrationDTOKatalogAllgemeineAdresse> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOKatalogAllgemeineAdresse daten = entities.get(i);
 			if (daten.strasse != null) {
@@ -1962,10 +2186,11 @@ public final class DBMigrationManager {
 	 * Prüft die Entitäten der Tabelle "Schueler_AllgAdr".
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkSchuelerAllgAdr(final List<MigrationDTOSchuelerAllgemeineAdresse> entities) {
+	private boolean checkSchuelerAllgAdr(final List<MigrationDTOSchuelerAllgemeineAdresse> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOSchuelerAllgemeineAdresse daten = entities.get(i);
 			if ((daten.Adresse_ID == null) || (!adressIDs.contains(daten.Adresse_ID))) {
@@ -1980,10 +2205,11 @@ public final class DBMigrationManager {
 	 * Prüft die Entitäten der Tabelle "K_Ort".
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkKatalogOrt(final List<MigrationDTOOrt> entities) {
+	private boolean checkKatalogOrt(final List<MigrationDTOOrt> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOOrt daten = entities.get(i);
 			if ((daten.Bezeichnung == null) || ("".equals(daten.Bezeichnung.trim()))) {
@@ -2016,10 +2242,11 @@ public final class DBMigrationManager {
 	 * Fehlerhafte Einträge bei den Leitfächern werden außerdem auf null gesetzt.
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkFaecher(final List<MigrationDTOFach> entities) {
+	private boolean checkFaecher(final List<MigrationDTOFach> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOFach daten = entities.get(i);
 			if (daten.ID == null) {
@@ -2066,10 +2293,11 @@ public final class DBMigrationManager {
 	 * Prüft die Entitäten der Tabelle "K_Adressart".
 	 *
 	 * @param entities   die Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Daten ohne schwerwiegenden Fehler geprüft wurden
 	 */
-	private boolean checkKatalogAdressart(final List<MigrationDTOKatalogAdressart> entities) {
+	private boolean checkKatalogAdressart(final List<MigrationDTOKatalogAdressart> entities, final Logger logger) {
 		for (int i = entities.size() - 1; i >= 0; i--) {
 			final MigrationDTOKatalogAdressart daten = entities.get(i);
 			if ((daten.Bezeichnung == null) || ("".equals(daten.Bezeichnung.trim()))) {
@@ -2109,111 +2337,149 @@ public final class DBMigrationManager {
 	 * nicht vorhanden sind.
 	 *
 	 * @param entities   die anzupassenden Entitäten
+	 * @param logger     der Logger für die Tabelle
 	 *
 	 * @return true, falls die Überprüfung erfolgreich war
 	 */
 	@SuppressWarnings("unchecked")
-	private boolean checkData(final List<?> entities) {
+	private boolean checkData(final List<?> entities, final Logger logger) {
 		final Object firstObject = entities.get(0);
 		if (firstObject instanceof MigrationDTOEigeneSchule)
-			return checkEigeneSchule((List<MigrationDTOEigeneSchule>) entities);
+			return checkEigeneSchule((List<MigrationDTOEigeneSchule>) entities, logger);
 		if (firstObject instanceof MigrationDTOTeilstandorte)
-			return checkEigeneSchuleTeilstandorte((List<MigrationDTOTeilstandorte>) entities);
+			return checkEigeneSchuleTeilstandorte((List<MigrationDTOTeilstandorte>) entities, logger);
 		if (firstObject instanceof MigrationDTOKursarten)
-			return checkEigeneSchuleKursarten((List<MigrationDTOKursarten>) entities);
+			return checkEigeneSchuleKursarten((List<MigrationDTOKursarten>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuleNRW)
-			return checkKatalogSchule((List<MigrationDTOSchuleNRW>) entities);
+			return checkKatalogSchule((List<MigrationDTOSchuleNRW>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerIndividuelleGruppe)
-			return checkSchuelerListe((List<MigrationDTOSchuelerIndividuelleGruppe>) entities);
+			return checkSchuelerListe((List<MigrationDTOSchuelerIndividuelleGruppe>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerIndividuelleGruppeSchueler)
-			return checkSchuelerListeInhalt((List<MigrationDTOSchuelerIndividuelleGruppeSchueler>) entities);
+			return checkSchuelerListeInhalt((List<MigrationDTOSchuelerIndividuelleGruppeSchueler>) entities, logger);
 		if (firstObject instanceof MigrationDTOCredentials)
-			return checkCredentials((List<MigrationDTOCredentials>) entities);
+			return checkCredentials((List<MigrationDTOCredentials>) entities, logger);
 		if (firstObject instanceof MigrationDTOCredentialsLernplattformen)
-			return checkCredentialsLernplattformen((List<MigrationDTOCredentialsLernplattformen>) entities);
+			return checkCredentialsLernplattformen((List<MigrationDTOCredentialsLernplattformen>) entities, logger);
 		if (firstObject instanceof MigrationDTOFachklassen)
-			return checkEigeneSchuleFachklassen((List<MigrationDTOFachklassen>) entities);
+			return checkEigeneSchuleFachklassen((List<MigrationDTOFachklassen>) entities, logger);
 		if (firstObject instanceof MigrationDTOUsers)
-			return checkUsers((List<MigrationDTOUsers>) entities);
+			return checkUsers((List<MigrationDTOUsers>) entities, logger);
 		if (firstObject instanceof MigrationDTOProtokollLogin)
-			return checkLogins((List<MigrationDTOProtokollLogin>) entities);
+			return checkLogins((List<MigrationDTOProtokollLogin>) entities, logger);
 		if (firstObject instanceof MigrationDTOPersonengruppen)
-			return checkPersonengruppen((List<MigrationDTOPersonengruppen>) entities);
+			return checkPersonengruppen((List<MigrationDTOPersonengruppen>) entities, logger);
 		if (firstObject instanceof MigrationDTOPersonengruppenPersonen)
-			return checkPersonengruppenPersonen((List<MigrationDTOPersonengruppenPersonen>) entities);
+			return checkPersonengruppenPersonen((List<MigrationDTOPersonengruppenPersonen>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerLernabschnittsdaten)
-			return checkSchuelerLernabschnittsdaten((List<MigrationDTOSchuelerLernabschnittsdaten>) entities);
+			return checkSchuelerLernabschnittsdaten((List<MigrationDTOSchuelerLernabschnittsdaten>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerLeistungsdaten)
-			return checkSchuelerLeistungsdaten((List<MigrationDTOSchuelerLeistungsdaten>) entities);
+			return checkSchuelerLeistungsdaten((List<MigrationDTOSchuelerLeistungsdaten>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerPSFachBemerkungen)
-			return checkSchuelerLD_PSFachBem((List<MigrationDTOSchuelerPSFachBemerkungen>) entities);
+			return checkSchuelerLD_PSFachBem((List<MigrationDTOSchuelerPSFachBemerkungen>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerFoerderempfehlung)
-			return checkSchuelerFoerderempfehlungen((List<MigrationDTOSchuelerFoerderempfehlung>) entities);
+			return checkSchuelerFoerderempfehlungen((List<MigrationDTOSchuelerFoerderempfehlung>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerAbiturFach)
-			return checkSchuelerAbiFaecher((List<MigrationDTOSchuelerAbiturFach>) entities);
+			return checkSchuelerAbiFaecher((List<MigrationDTOSchuelerAbiturFach>) entities, logger);
 		if (firstObject instanceof MigrationDTOKurs)
-			return checkKurse((List<MigrationDTOKurs>) entities);
+			return checkKurse((List<MigrationDTOKurs>) entities, logger);
 		if (firstObject instanceof MigrationDTOLehrer)
-			return checkLehrer((List<MigrationDTOLehrer>) entities);
+			return checkLehrer((List<MigrationDTOLehrer>) entities, logger);
 		if (firstObject instanceof MigrationDTOLehrerAbschnittsdaten)
-			return checkLehrerAbschnittsdaten((List<MigrationDTOLehrerAbschnittsdaten>) entities);
+			return checkLehrerAbschnittsdaten((List<MigrationDTOLehrerAbschnittsdaten>) entities, logger);
 		if (firstObject instanceof MigrationDTOLehrerAnrechnungsstunde)
-			return checkLehrerAnrechnung((List<MigrationDTOLehrerAnrechnungsstunde>) entities);
+			return checkLehrerAnrechnung((List<MigrationDTOLehrerAnrechnungsstunde>) entities, logger);
 		if (firstObject instanceof MigrationDTOLehrerEntlastungsstunde)
-			return checkLehrerEntlastung((List<MigrationDTOLehrerEntlastungsstunde>) entities);
+			return checkLehrerEntlastung((List<MigrationDTOLehrerEntlastungsstunde>) entities, logger);
 		if (firstObject instanceof MigrationDTOLehrerMehrleistung)
-			return checkLehrerMehrleistung((List<MigrationDTOLehrerMehrleistung>) entities);
+			return checkLehrerMehrleistung((List<MigrationDTOLehrerMehrleistung>) entities, logger);
 		if (firstObject instanceof MigrationDTOLehrerLehramt)
-			return checkLehrerLehramt((List<MigrationDTOLehrerLehramt>) entities);
+			return checkLehrerLehramt((List<MigrationDTOLehrerLehramt>) entities, logger);
 		if (firstObject instanceof MigrationDTOLehrerLehramtBefaehigung)
-			return checkLehrerLehramtBefaehigung((List<MigrationDTOLehrerLehramtBefaehigung>) entities);
+			return checkLehrerLehramtBefaehigung((List<MigrationDTOLehrerLehramtBefaehigung>) entities, logger);
 		if (firstObject instanceof MigrationDTOLehrerLehramtFachrichtung)
-			return checkLehrerLehramtFachrichtung((List<MigrationDTOLehrerLehramtFachrichtung>) entities);
+			return checkLehrerLehramtFachrichtung((List<MigrationDTOLehrerLehramtFachrichtung>) entities, logger);
 		if (firstObject instanceof MigrationDTOLehrerDatenschutz)
-			return checkLehrerDatenschutz((List<MigrationDTOLehrerDatenschutz>) entities);
+			return checkLehrerDatenschutz((List<MigrationDTOLehrerDatenschutz>) entities, logger);
 		if (firstObject instanceof MigrationDTOLehrerLernplattform)
-			return checkLehrerLernplattform((List<MigrationDTOLehrerLernplattform>) entities);
+			return checkLehrerLernplattform((List<MigrationDTOLehrerLernplattform>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerLernplattform)
-			return checkSchuelerLernplattform((List<MigrationDTOSchuelerLernplattform>) entities);
+			return checkSchuelerLernplattform((List<MigrationDTOSchuelerLernplattform>) entities, logger);
 		if (firstObject instanceof MigrationDTOErzieherLernplattform)
-			return checkErzieherLernplattform((List<MigrationDTOErzieherLernplattform>) entities);
+			return checkErzieherLernplattform((List<MigrationDTOErzieherLernplattform>) entities, logger);
 		if (firstObject instanceof MigrationDTOLehrerFoto)
-			return checkLehrerFoto((List<MigrationDTOLehrerFoto>) entities);
+			return checkLehrerFoto((List<MigrationDTOLehrerFoto>) entities, logger);
 		if (firstObject instanceof MigrationDTOLehrerFunktion)
-			return checkLehrerFunktionen((List<MigrationDTOLehrerFunktion>) entities);
+			return checkLehrerFunktionen((List<MigrationDTOLehrerFunktion>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchueler)
-			return checkSchueler((List<MigrationDTOSchueler>) entities);
+			return checkSchueler((List<MigrationDTOSchueler>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerErzieherAdresse)
-			return checkSchuelerErzieherAdresse((List<MigrationDTOSchuelerErzieherAdresse>) entities);
+			return checkSchuelerErzieherAdresse((List<MigrationDTOSchuelerErzieherAdresse>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerDatenschutz)
-			return checkSchuelerDatenschutz((List<MigrationDTOSchuelerDatenschutz>) entities);
+			return checkSchuelerDatenschutz((List<MigrationDTOSchuelerDatenschutz>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerGrundschuldaten)
-			return checkSchuelerGSDaten((List<MigrationDTOSchuelerGrundschuldaten>) entities);
+			return checkSchuelerGSDaten((List<MigrationDTOSchuelerGrundschuldaten>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerKAoADaten)
-			return checkSchuelerKAoADaten((List<MigrationDTOSchuelerKAoADaten>) entities);
+			return checkSchuelerKAoADaten((List<MigrationDTOSchuelerKAoADaten>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerBKFach)
-			return checkSchuelerBKFaecher((List<MigrationDTOSchuelerBKFach>) entities);
+			return checkSchuelerBKFaecher((List<MigrationDTOSchuelerBKFach>) entities, logger);
 		if (firstObject instanceof MigrationDTOKatalogAllgemeineAdresse)
-			return checkKatalogAllgAdresse((List<MigrationDTOKatalogAllgemeineAdresse>) entities);
+			return checkKatalogAllgAdresse((List<MigrationDTOKatalogAllgemeineAdresse>) entities, logger);
 		if (firstObject instanceof MigrationDTOSchuelerAllgemeineAdresse)
-			return checkSchuelerAllgAdr((List<MigrationDTOSchuelerAllgemeineAdresse>) entities);
+			return checkSchuelerAllgAdr((List<MigrationDTOSchuelerAllgemeineAdresse>) entities, logger);
 		if (firstObject instanceof MigrationDTOOrt)
-			return checkKatalogOrt((List<MigrationDTOOrt>) entities);
+			return checkKatalogOrt((List<MigrationDTOOrt>) entities, logger);
 		if (firstObject instanceof MigrationDTOAnkreuzdaten)
 			return checkKatalogAnkreuzdaten((List<MigrationDTOAnkreuzdaten>) entities);
 		if (firstObject instanceof MigrationDTOFach)
-			return checkFaecher((List<MigrationDTOFach>) entities);
+			return checkFaecher((List<MigrationDTOFach>) entities, logger);
 		if (firstObject instanceof MigrationDTOKatalogAdressart)
-			return checkKatalogAdressart((List<MigrationDTOKatalogAdressart>) entities);
+			return checkKatalogAdressart((List<MigrationDTOKatalogAdressart>) entities, logger);
 		if (firstObject instanceof MigrationDTOKindergarten)
 			return checkKatalogKindergarten((List<MigrationDTOKindergarten>) entities);
 		return true;
 	}
 
 
+	/**
+	 * Teilt die Tabellen in Stufen auf, so dass die Tabellen einer Stufe nur von Tabellen in vorigen Stufen
+	 * abhängen. Abhängigkeiten ergeben sich dabei aus den Fremdschlüsseln und aus den zwischengespeicherten IDs,
+	 * welche von den Prüfmethoden genutzt werden (siehe {@link #abhaengigkeitenPruefung}). Außerdem hängen alle
+	 * Tabellen von der Tabelle EigeneSchule ab, da deren Prüfung die Schulform und die Anzahl der Abschnitte
+	 * bestimmt. Die übergebene Liste muss bereits in einer Reihenfolge sein, in der referenzierte Tabellen
+	 * vor den referenzierenden Tabellen stehen.
+	 *
+	 * @param tabellen   die Tabellen in der Reihenfolge der Fremdschlüssel
+	 *
+	 * @return die Liste der Stufen mit den Listen der Tabellen
+	 */
+	private static List<List<SchemaTabelle>> getStufen(final List<SchemaTabelle> tabellen) {
+		final Map<String, Integer> mapStufen = new HashMap<>();
+		final List<List<SchemaTabelle>> stufen = new ArrayList<>();
+		for (final SchemaTabelle tab : tabellen) {
+			final List<String> abhaengigkeiten = new ArrayList<>();
+			tab.getFremdschluessel(0).stream().filter(fk -> fk.tabelleReferenziert() != tab).forEach(fk -> abhaengigkeiten.add(fk.tabelleReferenziert().name()));
+			abhaengigkeitenPruefung.getOrDefault(tab.name(), Collections.emptyList()).forEach(t -> abhaengigkeiten.add(t.name()));
+			if (tab != Schema.tab_EigeneSchule)
+				abhaengigkeiten.add(Schema.tab_EigeneSchule.name());
+			int stufe = 0;
+			for (final String name : abhaengigkeiten) {
+				final Integer stufeAbhaengigkeit = mapStufen.get(name);
+				if (stufeAbhaengigkeit != null)
+					stufe = Math.max(stufe, stufeAbhaengigkeit + 1);
+			}
+			mapStufen.put(tab.name(), stufe);
+			while (stufen.size() <= stufe)
+				stufen.add(new ArrayList<>());
+			stufen.get(stufe).add(tab);
+		}
+		return stufen;
+	}
+
+
 	/**
 	 * Kopiert die Daten aus dem Quell-Schema in das Ziel-Schema, welches in Revision sein muss.
-	 * Dies wird innerhalb dieser Klasse auch so angelegt.
+	 * Dies wird innerhalb dieser Klasse auch so angelegt. Die Tabellen einer Stufe (siehe
+	 * {@link #getStufen(List)}) werden dabei parallel migriert, sofern das Ziel keine SQLite-Datenbank ist.
 	 *
 	 * @return true, falls die Daten erfolgreich kopiert wurden und sonst false
 	 */
@@ -2222,48 +2488,69 @@ public final class DBMigrationManager {
 		if (!readSchulnummer())
 			return false;
 
-		// Durchwandere alle Tabellen in der geeigneten Reihenfolge, so dass Foreign-Key-Constraints erfüllt werden
-		for (final SchemaTabelle tab : Schema.getTabellen(0)) {
-			// Prüfe, ob die Tabelle bei der Migration beachtet werden soll, wenn nicht dann überspringe sie
-			if (!tab.migrate())
-				continue;
-
-			logger.logLn("Tabelle " + tab.name() + ":");
-			logger.modifyIndent(2);
-
-			// Lese alle Datensätze aus der Quell-Tabelle
-			logger.log("- Lese Datensätze: ");
-			final List<?> entities = readAllData(tab);
-			if (entities == null) {
-				logger.logLn(LogLevel.ERROR, 0, "[FEHLER] - Kann die Datensätze nicht einlesen - Überspringe die Tabelle");
-				logger.logLn(LogLevel.ERROR, srcManager.getLastError());
-				continue;
-			}
-			logger.logLn(0, entities.size() + " Datensätze eingelesen (Freier Speicher: " + (Math.round(Runtime.getRuntime().freeMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().totalMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().maxMemory() / 10000000.0) / 100.0) + "G)");
-
-			// Wenn keine Daten vorhanden sind, dann brauchen auch keine geschrieben zu werden...
-			if (entities.isEmpty()) {
-				if ((lastError != null) && (!"".equals(lastError)))
-					logger.logLn("  Fehler: " + lastError);
-				logger.modifyIndent(-2);
-				continue;
-			}
-
-			// Prüfe die Entitäten auf fehlerhafte Daten, welche dann gefiltert werden, und ergänze ggf. zusätzliche Informationen während der Migration
-			if (!checkData(entities))
-				return false;
-			if (entities.isEmpty()) {
-				logger.modifyIndent(-2);
-				continue;
+		final DBSchemaStatus status = srcManager.getSchemaStatus();
+		final List<SchemaTabelle> tabellen = Schema.getTabellen(0).stream().filter(SchemaTabelle::migrate).toList();
+		final ExecutorService executor = Executors.newFixedThreadPool((tgtConfig.getDBDriver() == DBDriver.SQLITE) ? 1 : ANZAHL_THREADS);
+		final long timeStart = System.currentTimeMillis();
+		try {
+			// Durchwandere die Stufen der Tabellen in der geeigneten Reihenfolge, so dass Foreign-Key-Constraints erfüllt werden
+			for (final List<SchemaTabelle> stufe : getStufen(tabellen)) {
+				final List<Future<Boolean>> futures = new ArrayList<>();
+				final List<LogConsumerList> logs = new ArrayList<>();
+				for (final SchemaTabelle tab : stufe) {
+					// Jede Tabelle erhält ein eigenes Log, welches nach der Migration der Tabelle übernommen wird
+					final Logger tabLogger = new Logger();
+					final LogConsumerList tabLog = new LogConsumerList();
+					tabLogger.addConsumer(tabLog);
+					logs.add(tabLog);
+					futures.add(executor.submit(() -> migrateTable(tab, status, tabLogger)));
+				}
+				boolean result = true;
+				for (int i = 0; i < stufe.size(); i++) {
+					logger.logLn("Tabelle " + stufe.get(i).name() + ":");
+					logger.modifyIndent(2);
+					try {
+						if (!futures.get(i).get())
+							result = false;
+					} catch (final ExecutionException e) {
+						logger.logLn(LogLevel.ERROR, "[FEHLER] " + e.getCause().getMessage());
+						result = false;
+					} finally {
+						for (final LogData data : logs.get(i).getLogData())
+							logData(data);
+						logger.modifyIndent(-2);
+					}
+				}
+				if (!result)
+					return false;
 			}
-
-			// Schreibe die Datensätze in die Zieltabelle
-			write(entities);
+		} catch (@SuppressWarnings("unused") final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.logLn(LogLevel.ERROR, "Die Migration wurde unterbrochen.");
+			return false;
+		} finally {
+			executor.shutdownNow();
 		}
+		logger.logLn("Daten in " + ((System.currentTimeMillis() - timeStart) / 1000.0) + " Sekunden migriert (Freier Speicher: "
+				+ (Math.round(Runtime.getRuntime().freeMemory() / 10000000.0) / 100.0) + "G/" + (Math.round(Runtime.getRuntime().totalMemory() / 10000000.0) / 100.0) + "G/"
+				+ (Math.round(Runtime.getRuntime().maxMemory() / 10000000.0) / 100.0) + "G)");
 		return true;
 	}
 
 
+	/**
+	 * Übernimmt einen Eintrag aus dem Log einer Tabelle in das Log dieses Managers.
+	 *
+	 * @param data   der Eintrag
+	 */
+	private void logData(final LogData data) {
+		if (data.isNewLine())
+			logger.logLn(data.getLevel(), data.getText());
+		else
+			logger.log(data.getLevel(), data.getText());
+	}
+
+
 	/**
 	 * Konvertiert am Ende der Migration die Bilder in der Zieldatenbank in die Base64-Kodierung.
 	 */
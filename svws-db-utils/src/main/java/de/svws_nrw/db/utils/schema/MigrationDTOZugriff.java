@@ -0,0 +1,208 @@
+package de.svws_nrw.db.utils.schema;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import de.svws_nrw.db.DBException;
+import de.svws_nrw.db.schema.SchemaTabelle;
+import de.svws_nrw.db.schema.SchemaTabelleSpalte;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+
+/**
+ * Diese Klasse stellt für eine Migrations-DTO-Klasse die Zugriffe auf die Attribute zur Verfügung, welche
+ * bei der Migration einer Tabelle benötigt werden. Die Zugriffe werden einmalig pro Tabelle über
+ * Method-Handles bestimmt, so dass beim Einlesen und Schreiben der einzelnen Datensätze keine Reflection
+ * mehr benötigt wird.
+ */
+final class MigrationDTOZugriff {
+
+	/** Der Method-Handle für den Konstruktor der DTO-Klasse */
+	private final MethodHandle konstruktor;
+
+	/** Die Namen der Spalten, welche in der Quell-Datenbank vorhanden sind */
+	private final List<String> spaltenQuelle;
+
+	/** Die Namen der Attribute, welche aus der Quell-Datenbank gelesen werden, in der Reihenfolge der Abfrage */
+	private final List<String> attributeQuelle = new ArrayList<>();
+
+	/** Die Setter für die Attribute, welche aus der Quell-Datenbank gelesen werden, in der Reihenfolge der Abfrage */
+	private final List<MethodHandle> setterQuelle = new ArrayList<>();
+
+	/** Die Setter für die Attribute, welche in der Quell-Datenbank nicht vorhanden sind */
+	private final List<MethodHandle> setterFehlend = new ArrayList<>();
+
+	/** Die Default-Werte für die Attribute, welche in der Quell-Datenbank nicht vorhanden sind */
+	private final List<Object> defaultsFehlend = new ArrayList<>();
+
+	/** Die Namen der Spalten in der Ziel-Datenbank */
+	private final List<String> spaltenZiel = new ArrayList<>();
+
+	/** Die Getter für die Attribute, welche in die Ziel-Datenbank geschrieben werden, in der Reihenfolge der Spalten */
+	private final List<MethodHandle> getterZiel = new ArrayList<>();
+
+	/** Die Attribut-Konverter für die Spalten in der Ziel-Datenbank oder null, falls kein Konverter genutzt wird */
+	private final List<AttributeConverter<Object, Object>> konverterZiel = new ArrayList<>();
+
+	/** Der Index des Attributes für die seitenweise Abfrage in der Liste der Quell-Attribute oder -1, falls keine seitenweise Abfrage möglich ist */
+	private final int indexSchluessel;
+
+
+	/**
+	 * Bestimmt die Zugriffe für die angegebene DTO-Klasse.
+	 *
+	 * @param dtoClass    die Migrations-DTO-Klasse
+	 * @param tab         die Tabelle
+	 * @param spaltenIst  die Namen der Spalten, welche in der Quell-Datenbank vorhanden sind
+	 *
+	 * @throws DBException   falls die Zugriffe auf die DTO-Klasse nicht bestimmt werden können
+	 */
+	@SuppressWarnings("unchecked")
+	MigrationDTOZugriff(final Class<?> dtoClass, final SchemaTabelle tab, final List<String> spaltenIst) throws DBException {
+		this.spaltenQuelle = spaltenIst;
+		try {
+			final MethodHandles.Lookup lookup = MethodHandles.lookup();
+			final MethodType typeSetter = MethodType.methodType(void.class, Object.class, Object.class);
+			final MethodType typeGetter = MethodType.methodType(Object.class, Object.class);
+			final Constructor<?> constructor = dtoClass.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			konstruktor = lookup.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+			for (final Field f : dtoClass.getDeclaredFields()) {
+				final Column column = f.getAnnotation(Column.class);
+				if (column == null)
+					continue;
+				f.setAccessible(true);
+				final MethodHandle setter = lookup.unreflectSetter(f).asType(typeSetter);
+				if (spaltenIst.contains(column.name()) || spaltenIst.contains(column.name().toUpperCase())) {
+					attributeQuelle.add(f.getName());
+					setterQuelle.add(setter);
+				} else {
+					final SchemaTabelleSpalte spalte = tab.getSpalten(0).stream().filter(col -> col.javaAttributName().equals(f.getName())).findFirst().orElse(null);
+					setterFehlend.add(setter);
+					defaultsFehlend.add((spalte == null) ? null : spalte.getDefaultWertConverted());
+				}
+				spaltenZiel.add(column.name());
+				getterZiel.add(lookup.unreflectGetter(f).asType(typeGetter));
+				final Convert convert = f.getAnnotation(Convert.class);
+				konverterZiel.add((convert == null) ? null : (AttributeConverter<Object, Object>) convert.converter().getDeclaredConstructor().newInstance());
+			}
+		} catch (NoSuchMethodException | SecurityException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
+			throw new DBException("Die Zugriffe auf die DTO-Klasse " + dtoClass.getSimpleName() + " konnten nicht bestimmt werden.", e);
+		}
+		// Eine seitenweise Abfrage ist nur bei einem ganzzahligen Primärschlüssel mit einer Spalte ohne Konverter möglich
+		int index = -1;
+		final List<SchemaTabelleSpalte> pkSpalten = new ArrayList<>(tab.pkSpalten());
+		if ((pkSpalten.size() == 1) && pkSpalten.get(0).datentyp().isIntType() && (pkSpalten.get(0).javaConverter(0) == null))
+			index = attributeQuelle.indexOf(pkSpalten.get(0).javaAttributName());
+		indexSchluessel = index;
+	}
+
+
+	/**
+	 * Gibt die Namen der Spalten zurück, welche in der Quell-Datenbank vorhanden sind.
+	 *
+	 * @return die Namen der Spalten
+	 */
+	List<String> getSpaltenQuelle() {
+		return spaltenQuelle;
+	}
+
+
+	/**
+	 * Gibt die Namen der Attribute zurück, welche aus der Quell-Datenbank gelesen werden.
+	 *
+	 * @return die Namen der Attribute in der Reihenfolge der Abfrage
+	 */
+	List<String> getAttributeQuelle() {
+		return attributeQuelle;
+	}
+
+
+	/**
+	 * Gibt den Namen des Attributes zurück, über welches die Datensätze seitenweise abgefragt werden können.
+	 *
+	 * @return der Name des Attributes oder null, falls keine seitenweise Abfrage möglich ist
+	 */
+	String getAttributSchluessel() {
+		return (indexSchluessel < 0) ? null : attributeQuelle.get(indexSchluessel);
+	}
+
+
+	/**
+	 * Gibt den Wert des Attributes für die seitenweise Abfrage aus der übergebenen Zeile der Abfrage zurück.
+	 *
+	 * @param werte   die Werte der Zeile in der Reihenfolge der Quell-Attribute
+	 *
+	 * @return der Wert des Attributes oder null, falls keine seitenweise Abfrage möglich ist
+	 */
+	Object getSchluessel(final Object[] werte) {
+		return (indexSchluessel < 0) ? null : werte[indexSchluessel];
+	}
+
+
+	/**
+	 * Gibt die Namen der Spalten in der Ziel-Datenbank zurück.
+	 *
+	 * @return die Namen der Spalten
+	 */
+	List<String> getSpaltenZiel() {
+		return spaltenZiel;
+	}
+
+
+	/**
+	 * Erzeugt ein DTO-Objekt aus den Werten einer Zeile der Abfrage. Attribute, welche in der Quell-Datenbank
+	 * nicht vorhanden sind, werden mit den Default-Werten aus der Schema-Definition belegt.
+	 *
+	 * @param werte   die Werte der Zeile in der Reihenfolge der Quell-Attribute
+	 *
+	 * @return das DTO-Objekt
+	 *
+	 * @throws DBException   falls das DTO-Objekt nicht erzeugt werden kann
+	 */
+	Object erzeugeDTO(final Object[] werte) throws DBException {
+		try {
+			final Object dto = konstruktor.invokeExact();
+			for (int i = 0; i < setterQuelle.size(); i++)
+				setterQuelle.get(i).invokeExact(dto, werte[i]);
+			for (int i = 0; i < setterFehlend.size(); i++)
+				setterFehlend.get(i).invokeExact(dto, defaultsFehlend.get(i));
+			return dto;
+		} catch (final Throwable e) {
+			throw new DBException("Fehler beim Erzeugen eines DTO-Objektes", e);
+		}
+	}
+
+
+	/**
+	 * Bestimmt die Werte für die Spalten in der Ziel-Datenbank aus dem übergebenen DTO-Objekt. Dabei
+	 * werden ggf. die Attribut-Konverter der DTO-Klasse angewendet.
+	 *
+	 * @param dto   das DTO-Objekt
+	 *
+	 * @return die Werte in der Reihenfolge der Spalten in der Ziel-Datenbank
+	 *
+	 * @throws DBException   falls die Werte nicht bestimmt werden können
+	 */
+	Object[] getWerteZiel(final Object dto) throws DBException {
+		try {
+			final Object[] werte = new Object[getterZiel.size()];
+			for (int i = 0; i < werte.length; i++) {
+				final Object wert = getterZiel.get(i).invokeExact(dto);
+				final AttributeConverter<Object, Object> konverter = konverterZiel.get(i);
+				werte[i] = (konverter == null) ? wert : konverter.convertToDatabaseColumn(wert);
+			}
+			return werte;
+		} catch (final Throwable e) {
+			throw new DBException("Fehler beim Bestimmen der Werte eines DTO-Objektes", e);
+		}
+	}
+
+}
@@ -1,13 +1,30 @@
 package de.svws_nrw.data;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import de.svws_nrw.base.compression.CompressionException;
+import de.svws_nrw.base.compression.GZip;
 import de.svws_nrw.core.data.schueler.SchuelerListeEintrag;
 import de.svws_nrw.core.types.schule.Schulgliederung;
+import de.svws_nrw.db.utils.ApiOperationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
 
 /**
@@ -51,4 +68,148 @@ public class TestJSONMapper {
 		}
 	}
 
+
+
+	private static InputStream stream(final String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+
+	/**
+	 * Tests für das Einlesen von skalaren JSON-Werten aus einem Input-Stream
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	void testScalars() throws ApiOperationException {
+		assertEquals(42L, JSONMapper.toLong(stream(" 42\n")));
+		assertNull(JSONMapper.toLong(stream("")));
+		assertNull(JSONMapper.toLong(stream("null")));
+		assertThrows(ApiOperationException.class, () -> JSONMapper.toLong(stream("4.2")));
+		assertThrows(ApiOperationException.class, () -> JSONMapper.toLong(stream("42 43")));
+		assertEquals(-7, JSONMapper.toInteger(stream("-7")));
+		assertThrows(ApiOperationException.class, () -> JSONMapper.toInteger(stream("12345678901")));
+		assertEquals(Boolean.TRUE, JSONMapper.toBoolean(stream("true")));
+		assertEquals(Boolean.FALSE, JSONMapper.toBoolean(stream("false")));
+		assertThrows(ApiOperationException.class, () -> JSONMapper.toBoolean(stream("\"true\"")));
+		assertEquals(1.5, JSONMapper.toDouble(stream("1.5"), true));
+	}
+
+
+	/**
+	 * Tests für das Einlesen von JSON-Objekten und -Arrays aus einem Input-Stream
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	void testMapsAndLists() throws ApiOperationException {
+		final Map<String, Object> map = JSONMapper.toMap(stream("{\n  \"id\": 3,\n  \"name\": \"Test\"\n}"));
+		assertEquals(3, map.get("id"));
+		assertEquals("Test", map.get("name"));
+		assertThrows(ApiOperationException.class, () -> JSONMapper.toMap(stream("{\"id\": ")));
+
+		final List<Map<String, Object>> maps = JSONMapper.toMultipleMaps(stream("[{\"id\": 1}, {\"id\": 2, \"werte\": [1, 2]}]"));
+		assertEquals(2, maps.size());
+		assertEquals(2, maps.get(1).get("id"));
+		assertEquals(List.of(1, 2), maps.get(1).get("werte"));
+		assertThrows(ApiOperationException.class, () -> JSONMapper.toMultipleMaps(stream("{\"id\": 1}")));
+
+		assertEquals(List.of(1L, 2L, 3L), JSONMapper.toListOfLong(stream("[1, 2, 3]")));
+		assertThrows(ApiOperationException.class, () -> JSONMapper.toListOfLong(stream("[1, \"zwei\"]")));
+	}
+
+
+	/** Ein Objekt, dessen Serialisierung nach JSON fehlschlägt */
+	public static final class NichtSerialisierbar {
+
+		/**
+		 * Wirft beim Serialisieren eine Exception.
+		 *
+		 * @return nie
+		 */
+		public String getWert() {
+			throw new IllegalStateException("Test");
+		}
+
+	}
+
+
+	/**
+	 * Schreibt die Daten einer Response mit einem {@link StreamingOutput} in ein Byte-Array.
+	 *
+	 * @param response   die Response
+	 *
+	 * @return die geschriebenen Daten
+	 *
+	 * @throws IOException   falls beim Schreiben ein Fehler auftritt
+	 */
+	private static byte[] schreibe(final Response response) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		((StreamingOutput) response.getEntity()).write(out);
+		return out.toByteArray();
+	}
+
+
+	/**
+	 * Erzeugt eine Liste von Schülern, welche als große Antwort serialisiert wird.
+	 *
+	 * @param anzahl   die Anzahl der Schüler
+	 *
+	 * @return die Liste
+	 */
+	private static List<SchuelerListeEintrag> erzeugeSchuelerliste(final int anzahl) {
+		final List<SchuelerListeEintrag> liste = new ArrayList<>();
+		for (int i = 0; i < anzahl; i++) {
+			final SchuelerListeEintrag eintrag = new SchuelerListeEintrag();
+			eintrag.id = i;
+			eintrag.vorname = "Vorname " + i;
+			eintrag.nachname = "Nachname äöü " + i;
+			eintrag.geschlecht = ((i % 2) == 0) ? "m" : "w";
+			eintrag.status = 2;
+			eintrag.idSchuljahresabschnitt = 4L;
+			eintrag.idKlasse = 40L + (i % 20);
+			eintrag.schulgliederung = "GY";
+			eintrag.kurse.add(1000L + i);
+			liste.add(eintrag);
+		}
+		return liste;
+	}
+
+
+	/**
+	 * Prüft, dass die gestreamten Ausgaben von {@link JSONMapper#streamingResponseFromObject(Object)} und
+	 * {@link JSONMapper#gzipFileResponseFromObject(Object, String)} mit den gepufferten Ausgaben über den
+	 * Objekt-Mapper bzw. {@link JSONMapper#gzipByteArrayFromObject(Object)} übereinstimmen.
+	 *
+	 * @throws IOException            falls beim Schreiben ein Fehler auftritt
+	 * @throws CompressionException   falls beim Komprimieren oder Dekomprimieren ein Fehler auftritt
+	 * @throws ApiOperationException  im Fehlerfall
+	 */
+	@Test
+	void testStreamingGleichGepuffert() throws IOException, CompressionException, ApiOperationException {
+		final List<SchuelerListeEintrag> liste = erzeugeSchuelerliste(5000);
+		final byte[] gepuffert = JSONMapper.mapper.writeValueAsBytes(liste);
+
+		final Response response = JSONMapper.streamingResponseFromObject(liste);
+		assertEquals(MediaType.APPLICATION_JSON_TYPE, response.getMediaType());
+		assertArrayEquals(gepuffert, schreibe(response));
+
+		final Response gzipResponse = JSONMapper.gzipFileResponseFromObject(liste, "liste.json.gz");
+		assertEquals("attachment; filename=\"liste.json.gz\"", gzipResponse.getHeaderString("Content-Disposition"));
+		final byte[] gzipGestreamt = schreibe(gzipResponse);
+		assertArrayEquals(GZip.decode(JSONMapper.gzipByteArrayFromObject(liste)), GZip.decode(gzipGestreamt));
+		assertArrayEquals(gepuffert, GZip.decode(gzipGestreamt));
+	}
+
+
+	/**
+	 * Prüft, dass ein Fehler beim Serialisieren einer GZIP-komprimierten JSON-Datei beim Schreiben der Response
+	 * als {@link IOException} gemeldet wird, so dass die Übertragung abgebrochen wird.
+	 */
+	@Test
+	void testGzipFileResponseFehler() {
+		assertThrows(IOException.class, () -> schreibe(JSONMapper.gzipFileResponseFromObject(new NichtSerialisierbar(), "test.json.gz")));
+		assertThrows(IOException.class, () -> schreibe(JSONMapper.streamingResponseFromObject(new NichtSerialisierbar())));
+	}
+
 }
@@ -0,0 +1,115 @@
+package de.svws_nrw.data.benutzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.data.benutzer.BenutzerApiPfad.Zugriff;
+
+/**
+ * Diese Klasse testet die Klassifikation von Pfaden durch {@link BenutzerApiPfad}. Als Referenz dient die
+ * frühere Prüfung mit regulären Ausdrücken aus {@link BenutzerApiPrincipal}.
+ */
+class TestBenutzerApiPfad {
+
+	private static final String[] PRAEFIXE = { "", "/", "/db", "/db/", "/dav/", "/api/schema/", "/api/schema/root/", "/api/schema/liste/",
+		"/api/schema/create/", "/api/schema/import/", "/api/schema/export/", "/api/schema/update/", "/api/schema/migrate/",
+		"/api/schema/migrate", "/debug/", "/openapi/", "/js/", "/css/", "/fonts/", "/assets/", "/index.php", "/api/" };
+
+	private static final String[] MITTEN = { "", "/", "svwsdb", "svwsdb/", "Schema_2", "/svwsdb", "svwsdb//x", "a/b/c" };
+
+	private static final String[] ENDEN = { "", "/", "index.html", "app.js", "app.js.map", "style.css", "style.css.map", "favicon.ico",
+		"bild.png", "bild.jpg", "benutzer/1", "x/" };
+
+
+	private static List<String> erzeugePfade() {
+		final List<String> pfade = new ArrayList<>();
+		for (final String p : PRAEFIXE)
+			for (final String m : MITTEN)
+				for (final String e : ENDEN)
+					pfade.add(p + m + e);
+		return pfade;
+	}
+
+
+	/**
+	 * Die frühere Klassifikation mit regulären Ausdrücken und String.split als Referenz. Der Punkt in ".js.map" und
+	 * ".css.map" ist hier maskiert, wie von {@link BenutzerApiPfad} geprüft. Das Ergebnis wird als String
+	 * "Zugriff:Schema" zurückgegeben.
+	 */
+	private static String klassifiziereMitRegex(final String path) {
+		if ((path == null) || path.startsWith("/index.php"))
+			return Zugriff.UNGUELTIG + ":";
+		final boolean isAnonymous = path.matches("/debug/.*") || path.matches("/openapi/.*");
+		final boolean isClient = path.matches("/") || path.matches("/.*\\.html")
+				|| path.matches("/.*\\.js") || path.matches("/.*\\.js\\.map") || path.matches("/js/.*")
+				|| path.matches("/.*\\.css") || path.matches("/.*\\.css\\.map") || path.matches("/css/.*")
+				|| path.matches("/fonts/.*")
+				|| path.matches("/.*\\.ico") || path.matches("/.*\\.png")
+				|| path.matches("/assets/.*");
+		final boolean isDBAuthentication = path.matches("/api/schema/root/.*")
+				|| path.matches("/api/schema/liste/.*")
+				|| path.matches("/api/schema/create/.*")
+				|| path.matches("/api/schema/import/.*")
+				|| path.matches("/api/schema/export/.*")
+				|| path.matches("/api/schema/update/.*")
+				|| path.matches("/api/schema/migrate/.*");
+		String schema = "";
+		if (isDBAuthentication) {
+			if (!path.matches("/api/schema/root/.*")) {
+				final var pathelements = path.split("/");
+				if ((pathelements.length > 4) && ("".equals(pathelements[0])) && ("api".equals(pathelements[1])) && ("schema".equals(pathelements[2])))
+					schema = "liste".equals(pathelements[3]) ? "information_schema" : pathelements[4];
+			}
+			return Zugriff.DB_ROOT + ":" + schema;
+		}
+		if (isAnonymous)
+			return Zugriff.ANONYM + ":";
+		final var pathelements = path.split("/");
+		if ((pathelements.length > 2) && ("".equals(pathelements[0])) && (("db".equals(pathelements[1])) || ("dav".equals(pathelements[1]))))
+			schema = pathelements[2];
+		return (isClient ? Zugriff.CLIENT : Zugriff.SCHEMA) + ":" + schema;
+	}
+
+
+	/**
+	 * Prüft die Klassifikation aller erzeugten Pfade gegen die Referenz mit regulären Ausdrücken.
+	 */
+	@Test
+	@DisplayName("Prüfe die Klassifikation gegen die Referenz mit regulären Ausdrücken")
+	void testKlassifikation() {
+		for (final String path : erzeugePfade()) {
+			final BenutzerApiPfad pfad = BenutzerApiPfad.of(path);
+			assertEquals(klassifiziereMitRegex(path), pfad.getZugriff() + ":" + pfad.getSchema(), "Pfad: " + path);
+			assertEquals(path.matches("/api/schema/import/.*") || path.matches("/api/schema/migrate/.*"),
+					BenutzerApiPfad.erlaubtDeaktiviertesSchema(path), "Pfad: " + path);
+		}
+		assertEquals(Zugriff.UNGUELTIG, BenutzerApiPfad.of(null).getZugriff());
+		assertFalse(BenutzerApiPfad.erlaubtDeaktiviertesSchema(null));
+	}
+
+
+	/**
+	 * Prüft einzelne typische Pfade.
+	 */
+	@Test
+	@DisplayName("Prüfe typische Pfade")
+	void testBeispiele() {
+		assertEquals(Zugriff.SCHEMA, BenutzerApiPfad.of("/db/svwsdb/schueler/aktuell").getZugriff());
+		assertEquals("svwsdb", BenutzerApiPfad.of("/db/svwsdb/schueler/aktuell").getSchema());
+		assertEquals("svwsdb", BenutzerApiPfad.of("/dav/svwsdb/adressbuecher").getSchema());
+		assertEquals(Zugriff.CLIENT, BenutzerApiPfad.of("/assets/index-1234.js").getZugriff());
+		assertEquals(Zugriff.ANONYM, BenutzerApiPfad.of("/openapi/server.yaml").getZugriff());
+		assertEquals(Zugriff.DB_ROOT, BenutzerApiPfad.of("/api/schema/root/version").getZugriff());
+		assertEquals("information_schema", BenutzerApiPfad.of("/api/schema/liste/svws").getSchema());
+		assertEquals("neu", BenutzerApiPfad.of("/api/schema/create/neu").getSchema());
+		assertTrue(BenutzerApiPfad.erlaubtDeaktiviertesSchema("/api/schema/migrate/mdb/neu"));
+	}
+
+}
@@ -0,0 +1,125 @@
+package de.svws_nrw.data.benutzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.data.ThrowingFunction;
+import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.schema.SchemaRevisionen;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Diese Klasse testet die bedingte Ausführung von Aufgaben anhand von ETags in der Klasse {@link DBBenutzerUtils}.
+ */
+class TestDBBenutzerUtilsETag {
+
+	/** Die Revision des Schemas, ab welcher ETags gesetzt werden */
+	private static final long REVISION = SchemaRevisionen.REV_15.revision;
+
+	/** Zählt die Ausführungen der Aufgabe */
+	private final AtomicInteger aufrufe = new AtomicInteger();
+
+	/** Eine Aufgabe, welche eine erfolgreiche Response mit Inhalt zurückgibt */
+	private final ThrowingFunction<DBEntityManager, Response> task = conn -> {
+		aufrufe.incrementAndGet();
+		return Response.ok("Daten").build();
+	};
+
+
+	/**
+	 * Prüft, dass eine erfolgreiche Response ein ETag erhält und bei einer erneuten Anfrage mit diesem ETag
+	 * die Aufgabe nicht ausgeführt und nur 304 zurückgegeben wird.
+	 *
+	 * @throws Exception   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe das Setzen des ETags und die Antwort 304")
+	void testETag() throws Exception {
+		final Response response = DBBenutzerUtils.runWithETag(null, REVISION, "1.2.3", null, task);
+		assertEquals(Status.OK.getStatusCode(), response.getStatus());
+		assertEquals("Daten", response.getEntity());
+		assertEquals("private, no-cache", response.getHeaderString(HttpHeaders.CACHE_CONTROL));
+		final EntityTag etag = response.getEntityTag();
+		assertNotNull(etag);
+		assertEquals(1, aufrufe.get());
+
+		final Response notModified = DBBenutzerUtils.runWithETag(null, REVISION, "1.2.3", etag.toString(), task);
+		assertEquals(Status.NOT_MODIFIED.getStatusCode(), notModified.getStatus());
+		assertEquals(etag, notModified.getEntityTag());
+		assertNull(notModified.getEntity());
+		assertEquals(1, aufrufe.get());
+
+		// Auch ein schwaches ETag innerhalb einer Liste führt zu 304
+		final String schwach = "\"anderes\", W/" + etag.toString();
+		assertEquals(Status.NOT_MODIFIED.getStatusCode(), DBBenutzerUtils.runWithETag(null, REVISION, "1.2.3", schwach, task).getStatus());
+		assertEquals(1, aufrufe.get());
+	}
+
+
+	/**
+	 * Prüft, dass bei einer geänderten Version die Aufgabe erneut ausgeführt wird und ein neues ETag erhält.
+	 *
+	 * @throws Exception   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe die Antwort bei einer geänderten Version")
+	void testGeaenderteVersion() throws Exception {
+		final EntityTag etag = DBBenutzerUtils.runWithETag(null, REVISION, "1.2.3", null, task).getEntityTag();
+		final Response response = DBBenutzerUtils.runWithETag(null, REVISION, "1.2.4", etag.toString(), task);
+		assertEquals(Status.OK.getStatusCode(), response.getStatus());
+		assertNotEquals(etag, response.getEntityTag());
+		assertEquals(2, aufrufe.get());
+	}
+
+
+	/**
+	 * Prüft, dass ohne Version sowie bei einer nicht erfolgreichen Response kein ETag gesetzt wird.
+	 *
+	 * @throws Exception   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe die Antwort ohne Version und im Fehlerfall")
+	void testOhneETag() throws Exception {
+		final Response ohneVersion = DBBenutzerUtils.runWithETag(null, REVISION, null, "*", task);
+		assertEquals(Status.OK.getStatusCode(), ohneVersion.getStatus());
+		assertNull(ohneVersion.getEntityTag());
+		assertEquals(1, aufrufe.get());
+
+		final Response fehler = DBBenutzerUtils.runWithETag(null, REVISION, "1.2.3", null, conn -> Response.status(Status.NOT_FOUND).build());
+		assertEquals(Status.NOT_FOUND.getStatusCode(), fehler.getStatus());
+		assertNull(fehler.getEntityTag());
+		assertNull(fehler.getHeaderString(HttpHeaders.CACHE_CONTROL));
+	}
+
+
+	/**
+	 * Prüft, dass bei einem Schema mit einer Revision vor der Revision 15 kein ETag gesetzt und auch ein passender
+	 * If-None-Match-Header nicht ausgewertet wird.
+	 *
+	 * @throws Exception   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe die Antwort bei einem Schema vor der Revision 15")
+	void testAlteRevision() throws Exception {
+		final EntityTag etag = DBBenutzerUtils.runWithETag(null, REVISION, "1.2.3", null, task).getEntityTag();
+		assertNotNull(etag);
+		for (final long revision : new long[] { -1, SchemaRevisionen.REV_13.revision, SchemaRevisionen.REV_14.revision }) {
+			final Response response = DBBenutzerUtils.runWithETag(null, revision, "1.2.3", etag.toString(), task);
+			assertEquals(Status.OK.getStatusCode(), response.getStatus());
+			assertNull(response.getEntityTag());
+			assertNull(response.getHeaderString(HttpHeaders.CACHE_CONTROL));
+		}
+		assertEquals(4, aufrufe.get());
+	}
+
+}
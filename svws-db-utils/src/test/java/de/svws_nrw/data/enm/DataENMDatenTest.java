@@ -0,0 +1,196 @@
+package de.svws_nrw.data.enm;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.core.data.enm.ENMLeistung;
+import de.svws_nrw.core.data.enm.ENMSchueler;
+import de.svws_nrw.db.utils.ApiOperationException;
+
+/**
+ * Diese Klasse testet die Auswahl der Schüler bei einer Delta-Synchronisation und den Vergleich der Werte
+ * beim Import in der Klasse {@link DataENMDaten}.
+ */
+@DisplayName("Diese Klasse testet die Delta-Synchronisation und den Import-Vergleich in DataENMDaten")
+class DataENMDatenTest {
+
+	/** Der Zeitpunkt des Starts der letzten Synchronisation */
+	private static final LocalDateTime SEIT = LocalDateTime.of(2024, 5, 10, 12, 0);
+
+	private List<ENMSchueler> schueler;
+
+	private Map<Long, String> pruefsummenAlt;
+
+	/**
+	 * Erstellt drei Schüler und bestimmt deren Prüfsummen als Stand der letzten Synchronisation.
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@BeforeEach
+	void setup() throws ApiOperationException {
+		schueler = List.of(erzeugeSchueler(1, "Müller"), erzeugeSchueler(2, "Meier"), erzeugeSchueler(3, "Schulze"));
+		pruefsummenAlt = DataENMDaten.getPruefsummen(schueler);
+	}
+
+	private static ENMSchueler erzeugeSchueler(final long id, final String nachname) {
+		final ENMSchueler s = new ENMSchueler();
+		s.id = id;
+		s.nachname = nachname;
+		s.vorname = "Max";
+		final ENMLeistung leistung = new ENMLeistung();
+		leistung.id = id * 10;
+		leistung.lerngruppenID = 100;
+		leistung.note = "2";
+		leistung.tsNote = "2024-05-01 08:00:00.000";
+		s.leistungsdaten.add(leistung);
+		return s;
+	}
+
+	private List<Long> getGeaenderteIDs(final LocalDateTime seit) throws ApiOperationException {
+		return DataENMDaten.getGeaenderteSchueler(schueler, seit, pruefsummenAlt, DataENMDaten.getPruefsummen(schueler))
+				.stream().map(s -> s.id).toList();
+	}
+
+	/**
+	 * Ohne Änderungen wird kein Schüler übertragen.
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	void testUnveraendert() throws ApiOperationException {
+		assertEquals(List.of(), getGeaenderteIDs(SEIT));
+	}
+
+	/**
+	 * Eine Änderung an den Stammdaten eines Schülers wird auch ohne geänderten Zeitstempel erkannt.
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	void testStammdatenGeaendert() throws ApiOperationException {
+		schueler.get(1).nachname = "Meyer";
+		assertEquals(List.of(2L), getGeaenderteIDs(SEIT));
+	}
+
+	/**
+	 * Eine Änderung an der Lerngruppe oder der Schriftlichkeit einer Leistung wird auch ohne geänderten Zeitstempel erkannt.
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	void testLeistungsdatenGeaendert() throws ApiOperationException {
+		schueler.get(0).leistungsdaten.get(0).lerngruppenID = 101;
+		schueler.get(2).leistungsdaten.get(0).istSchriftlich = Boolean.TRUE;
+		assertEquals(List.of(1L, 3L), getGeaenderteIDs(SEIT));
+	}
+
+	/**
+	 * Ein Zeitstempel nach dem Start der letzten Synchronisation führt zur Übertragung, einer davor nicht.
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	void testZeitstempel() throws ApiOperationException {
+		final Map<Long, String> pruefsummenNeu = Map.of(1L, pruefsummenAlt.get(1L), 2L, pruefsummenAlt.get(2L), 3L, pruefsummenAlt.get(3L));
+		schueler.get(0).leistungsdaten.get(0).tsNote = "2024-05-10 12:00:00.001";
+		schueler.get(1).leistungsdaten.get(0).tsNote = "2024-05-10 11:59:59.999";
+		assertEquals(List.of(1L), DataENMDaten.getGeaenderteSchueler(schueler, SEIT, pruefsummenAlt, pruefsummenNeu).stream().map(s -> s.id).toList());
+	}
+
+	/**
+	 * Ein neu hinzugekommener Schüler wird übertragen.
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	void testNeuerSchueler() throws ApiOperationException {
+		schueler = List.of(schueler.get(0), schueler.get(1), schueler.get(2), erzeugeSchueler(4, "Schmidt"));
+		assertEquals(List.of(4L), getGeaenderteIDs(SEIT));
+	}
+
+	/**
+	 * Ohne den Stand einer vorigen Synchronisation werden alle Schüler übertragen.
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	void testOhneStand() throws ApiOperationException {
+		assertEquals(List.of(1L, 2L, 3L), getGeaenderteIDs(null));
+		pruefsummenAlt = Map.of();
+		assertEquals(List.of(1L, 2L, 3L), getGeaenderteIDs(SEIT));
+	}
+
+	/**
+	 * Die Prüfsummen hängen nur vom Inhalt ab und unterscheiden sich bei verschiedenen Schülern.
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	void testPruefsummen() throws ApiOperationException {
+		assertEquals(pruefsummenAlt, DataENMDaten.getPruefsummen(List.of(erzeugeSchueler(1, "Müller"), erzeugeSchueler(2, "Meier"), erzeugeSchueler(3, "Schulze"))));
+		assertNotEquals(pruefsummenAlt.get(1L), pruefsummenAlt.get(2L));
+		assertEquals(11, pruefsummenAlt.get(1L).length());
+	}
+
+	/**
+	 * Ein abweichender Wert aus dem ENM mit einem neueren Zeitstempel wird samt Zeitstempel übernommen.
+	 */
+	@Test
+	void testImportVergleichNeuer() {
+		final Object[] werte = { "alt", 5 };
+		final Object[] ts = { "2024-05-10 12:00:00.000", null };
+		final DataENMDaten.ImportVergleich vergleich = new DataENMDaten.ImportVergleich();
+		assertTrue(vergleich.uebernehme("neu", "2024-05-10 12:00:00.001", werte, 0, ts, 0));
+		// Ohne Zeitstempel in der SVWS-Datenbank wird der Wert aus dem ENM immer übernommen
+		assertTrue(vergleich.uebernehme(7, "2024-01-01 00:00:00", werte, 1, ts, 1));
+		assertArrayEquals(new Object[] { "neu", 7 }, werte);
+		assertArrayEquals(new Object[] { "2024-05-10 12:00:00.001", "2024-01-01 00:00:00" }, ts);
+		assertTrue(vergleich.angewendet);
+		assertFalse(vergleich.konflikt);
+	}
+
+	/**
+	 * Ein abweichender Wert aus dem ENM mit einem älteren oder gleichen Zeitstempel wird nicht übernommen und
+	 * als Konflikt erkannt.
+	 */
+	@Test
+	void testImportVergleichAelterOderGleich() {
+		final Object[] werte = { "alt", "alt" };
+		final Object[] ts = { "2024-05-10 12:00:00.000", "2024-05-10 12:00:00" };
+		final DataENMDaten.ImportVergleich vergleich = new DataENMDaten.ImportVergleich();
+		assertFalse(vergleich.uebernehme("neu", "2024-05-10 11:59:59.999", werte, 0, ts, 0));
+		assertFalse(vergleich.uebernehme("neu", "2024-05-10 12:00:00.000", werte, 1, ts, 1));
+		assertArrayEquals(new Object[] { "alt", "alt" }, werte);
+		assertArrayEquals(new Object[] { "2024-05-10 12:00:00.000", "2024-05-10 12:00:00" }, ts);
+		assertFalse(vergleich.angewendet);
+		assertTrue(vergleich.konflikt);
+	}
+
+	/**
+	 * Ein gleicher Wert oder ein Wert ohne Zeitstempel aus dem ENM führt weder zu einer Übernahme noch zu einem Konflikt.
+	 */
+	@Test
+	void testImportVergleichUnveraendert() {
+		final Object[] werte = { "gleich", "alt" };
+		final Object[] ts = { "2024-05-10 12:00:00.000", "2024-05-10 12:00:00.000" };
+		final DataENMDaten.ImportVergleich vergleich = new DataENMDaten.ImportVergleich();
+		assertFalse(vergleich.uebernehme("gleich", "2024-05-11 08:00:00.000", werte, 0, ts, 0));
+		assertFalse(vergleich.uebernehme("neu", null, werte, 1, ts, 1));
+		assertFalse(vergleich.uebernehme("neu", " ", werte, 1, ts, 1));
+		assertArrayEquals(new Object[] { "gleich", "alt" }, werte);
+		assertFalse(vergleich.angewendet);
+		assertFalse(vergleich.konflikt);
+	}
+
+}
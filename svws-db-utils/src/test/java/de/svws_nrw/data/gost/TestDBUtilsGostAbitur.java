@@ -0,0 +1,193 @@
+package de.svws_nrw.data.gost;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.core.data.gost.Abiturdaten;
+import de.svws_nrw.core.logger.Logger;
+import de.svws_nrw.db.Benutzer;
+import de.svws_nrw.db.DBConfig;
+import de.svws_nrw.db.DBDriver;
+import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.DBException;
+import de.svws_nrw.db.schema.SchemaRevisionen;
+import de.svws_nrw.db.utils.ApiOperationException;
+import de.svws_nrw.db.utils.schema.DBRootManager;
+import de.svws_nrw.db.utils.schema.DBSchemaManager;
+import de.svws_nrw.metriken.AnfrageMetriken;
+import de.svws_nrw.metriken.Metriken;
+
+/**
+ * Diese Klasse testet das gemeinsame Lesen der Abiturdaten mehrerer Schüler mit
+ * {@link DBUtilsGostAbitur#getAbiturdaten(DBEntityManager, List)} in einer temporären SQLite-Datenbank.
+ * Die Anzahl der SQL-Anweisungen wird dabei über die {@link AnfrageMetriken} erfasst.
+ */
+class TestDBUtilsGostAbitur {
+
+	/** Die Anzahl der Schüler mit Abiturdaten in der Test-Datenbank */
+	private static final int ANZAHL_SCHUELER = 12;
+
+	/** Die ID eines Schülers der Q2 ohne Abiturdaten */
+	private static final long ID_OHNE_ABITUR = ANZAHL_SCHUELER + 1L;
+
+	private static File dbFile;
+
+	private static Benutzer benutzer;
+
+	/** Ein Aufruf, dessen SQL-Anweisungen gezählt werden */
+	@FunctionalInterface
+	private interface Aufruf {
+
+		void ausfuehren(DBEntityManager conn) throws ApiOperationException;
+
+	}
+
+
+	/**
+	 * Erstellt ein Schema in einer temporären SQLite-Datenbank mit einem Gymnasium und Schülern
+	 * der Q2 mit Abiturdaten sowie einem Schüler der Q2 ohne Abiturdaten.
+	 *
+	 * @throws IOException   falls die temporäre Datei nicht erzeugt werden kann
+	 * @throws DBException   falls das Schema nicht erstellt werden kann
+	 */
+	@BeforeAll
+	static void setup() throws IOException, DBException {
+		dbFile = File.createTempFile("svws_gostabitur", ".sqlite");
+		dbFile.delete();
+		final Logger logger = new Logger();
+		final DBConfig config = new DBConfig(DBDriver.SQLITE, dbFile.getAbsolutePath(), null, false, null, null, true, true, 0, 0);
+		assertTrue(DBRootManager.recreateDB(config, null, null, logger));
+		benutzer = Benutzer.create(config);
+		DBSchemaManager.create(benutzer, true, logger).createSVWSSchema(benutzer, SchemaRevisionen.maxDeveloperRevision.revision, false, false);
+		try (DBEntityManager conn = benutzer.getEntityManager()) {
+			conn.transactionBegin();
+			assertEquals(1, conn.transactionNativeUpdate("INSERT INTO Schuljahresabschnitte(ID, Jahr, Abschnitt) VALUES (1, 2023, 2)"));
+			assertEquals(1, conn.transactionNativeUpdate("INSERT INTO EigeneSchule_Jahrgaenge(ID, InternKrz, ASDJahrgang) VALUES (1, 'Q2', 'Q2')"));
+			assertTrue(conn.transactionNativeUpdate("DELETE FROM EigeneSchule") >= 0);
+			assertEquals(1, conn.transactionNativeUpdate("INSERT INTO EigeneSchule(ID, SchulformNr, SchulformKrz, Schuljahresabschnitts_ID, AnzahlAbschnitte) "
+					+ "VALUES (1, '20', 'GY', 1, 2)"));
+			for (long id = 1; id <= ID_OHNE_ABITUR; id++) {
+				assertEquals(1, conn.transactionNativeUpdate("INSERT INTO Schueler(ID, GU_ID, Schuljahresabschnitts_ID, Status, Name, Vorname, Geschlecht) "
+						+ "VALUES (%d, 'GU_%d', 1, 2, 'Schüler %d', 'Test', 3)".formatted(id, id, id)));
+				assertEquals(1, conn.transactionNativeUpdate("INSERT INTO SchuelerLernabschnittsdaten(ID, Schueler_ID, Schuljahresabschnitts_ID, WechselNr, "
+						+ "Jahrgang_ID, ASDJahrgang) VALUES (%d, %d, 1, 0, 1, 'Q2')".formatted(id, id)));
+				if (id != ID_OHNE_ABITUR)
+					assertEquals(1, conn.transactionNativeUpdate("INSERT INTO SchuelerAbitur(ID, Schueler_ID, Schuljahresabschnitts_ID) VALUES (%d, %d, 1)"
+							.formatted(id, id)));
+			}
+			assertTrue(conn.transactionCommit());
+		}
+	}
+
+	/**
+	 * Entfernt die temporäre SQLite-Datenbank.
+	 */
+	@AfterAll
+	static void cleanup() {
+		dbFile.delete();
+	}
+
+
+	/**
+	 * Führt den übergebenen Aufruf mit einer neuen Datenbank-Verbindung als Anfrage aus und gibt die Anzahl
+	 * der dabei ausgeführten SQL-Anweisungen zurück.
+	 *
+	 * @param resource   der eindeutige Name der Anfrage für die Metriken
+	 * @param aufruf     der Aufruf
+	 *
+	 * @return die Anzahl der SQL-Anweisungen
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	private static long zaehleSQL(final String resource, final Aufruf aufruf) throws ApiOperationException {
+		try (DBEntityManager conn = benutzer.getEntityManager()) {
+			final AnfrageMetriken anfrage = AnfrageMetriken.starte(resource, "GET");
+			aufruf.ausfuehren(conn);
+			anfrage.setStatus(200);
+			anfrage.beende();
+		}
+		assertEquals(1, Metriken.API_SQL_ANWEISUNGEN.getAnzahl(resource));
+		return Math.round(Metriken.API_SQL_ANWEISUNGEN.getSumme(resource));
+	}
+
+	private static List<Long> getIDs(final int anzahl) {
+		final List<Long> ids = new ArrayList<>();
+		for (long id = 1; id <= anzahl; id++)
+			ids.add(id);
+		return ids;
+	}
+
+
+	/**
+	 * Prüft, dass die Anzahl der SQL-Anweisungen beim gemeinsamen Lesen nicht von der Anzahl der Schüler
+	 * abhängt, während sie beim Lesen der einzelnen Schüler mit der Anzahl der Schüler wächst.
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe die Anzahl der SQL-Anweisungen beim gemeinsamen Lesen der Abiturdaten")
+	void testAnzahlSQLAnweisungen() throws ApiOperationException {
+		final long gemeinsamWenige = zaehleSQL("TestDBUtilsGostAbitur.gemeinsam2", conn -> DBUtilsGostAbitur.getAbiturdaten(conn, getIDs(2)));
+		final long gemeinsamAlle = zaehleSQL("TestDBUtilsGostAbitur.gemeinsam" + ANZAHL_SCHUELER,
+				conn -> DBUtilsGostAbitur.getAbiturdaten(conn, getIDs(ANZAHL_SCHUELER)));
+		final long einzelnWenige = zaehleSQL("TestDBUtilsGostAbitur.einzeln2", conn -> {
+			for (final long id : getIDs(2))
+				DBUtilsGostAbitur.getAbiturdaten(conn, id);
+		});
+		final long einzelnAlle = zaehleSQL("TestDBUtilsGostAbitur.einzeln" + ANZAHL_SCHUELER, conn -> {
+			for (final long id : getIDs(ANZAHL_SCHUELER))
+				DBUtilsGostAbitur.getAbiturdaten(conn, id);
+		});
+		assertTrue(gemeinsamWenige > 0);
+		assertEquals(gemeinsamWenige, gemeinsamAlle);
+		assertTrue(einzelnAlle > einzelnWenige);
+		assertTrue(einzelnAlle > gemeinsamAlle);
+	}
+
+
+	/**
+	 * Prüft, dass das gemeinsame Lesen dieselben Abiturdaten wie das Lesen der einzelnen Schüler liefert
+	 * und Schüler ohne Abiturdaten nicht enthalten sind.
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe die Abiturdaten beim gemeinsamen Lesen")
+	void testAbiturdaten() throws ApiOperationException {
+		final List<Long> ids = getIDs(ANZAHL_SCHUELER);
+		ids.add(ID_OHNE_ABITUR);
+		try (DBEntityManager conn = benutzer.getEntityManager()) {
+			final Map<Long, Abiturdaten> gemeinsam = DBUtilsGostAbitur.getAbiturdaten(conn, ids);
+			assertEquals(ANZAHL_SCHUELER, gemeinsam.size());
+			assertFalse(gemeinsam.containsKey(ID_OHNE_ABITUR));
+			for (final long id : getIDs(ANZAHL_SCHUELER)) {
+				final Abiturdaten einzeln = DBUtilsGostAbitur.getAbiturdaten(conn, id);
+				final Abiturdaten daten = gemeinsam.get(id);
+				assertNotNull(daten);
+				assertEquals(id, daten.schuelerID);
+				assertEquals(einzeln.abiturjahr, daten.abiturjahr);
+				assertEquals(2024, daten.abiturjahr);
+				assertEquals(einzeln.schuljahrAbitur, daten.schuljahrAbitur);
+				assertEquals(einzeln.besondereLernleistung, daten.besondereLernleistung);
+				assertEquals(einzeln.block1Zulassung, daten.block1Zulassung);
+				assertEquals(einzeln.fachbelegungen.size(), daten.fachbelegungen.size());
+				assertEquals(einzeln.sprachendaten.schuelerID, daten.sprachendaten.schuelerID);
+			}
+			assertEquals(Map.of(), DBUtilsGostAbitur.getAbiturdaten(conn, List.of(ID_OHNE_ABITUR)));
+		}
+	}
+
+}
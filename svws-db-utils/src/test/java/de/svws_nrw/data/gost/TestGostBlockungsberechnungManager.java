@@ -0,0 +1,243 @@
+package de.svws_nrw.data.gost;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.core.data.gost.GostBlockungsberechnung;
+import de.svws_nrw.core.utils.gost.GostBlockungsergebnisManager;
+import de.svws_nrw.db.Benutzer;
+import de.svws_nrw.db.DBConfig;
+import de.svws_nrw.db.DBDriver;
+import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.DBException;
+import de.svws_nrw.db.utils.ApiOperationException;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Diese Klasse testet die Verwaltung der Hintergrund-Berechnungen von Blockungen durch den
+ * {@link GostBlockungsberechnungManager}. Die Ergebnisse werden dabei nicht in die Datenbank geschrieben,
+ * sondern nur gesammelt, so dass eine temporäre SQLite-Datenbank ohne Schema genügt.
+ */
+class TestGostBlockungsberechnungManager {
+
+	/** Die maximale Zeit in Millisekunden, welche auf das Ende einer Berechnung gewartet wird */
+	private static final long WARTEZEIT = 60000;
+
+	private static File dbFile;
+
+	private static DBConfig config;
+
+	private static Benutzer benutzer;
+
+	/**
+	 * Erstellt den Benutzer für eine temporäre SQLite-Datenbank.
+	 *
+	 * @throws IOException   falls die temporäre Datei nicht erzeugt werden kann
+	 * @throws DBException   falls der Benutzer nicht erstellt werden kann
+	 */
+	@BeforeAll
+	static void setup() throws IOException, DBException {
+		dbFile = File.createTempFile("svws_blockungsberechnung", ".sqlite");
+		dbFile.delete();
+		config = new DBConfig(DBDriver.SQLITE, dbFile.getAbsolutePath(), null, false, null, null, false, true, 0, 0);
+		benutzer = Benutzer.create(config);
+	}
+
+	/**
+	 * Entfernt die temporäre SQLite-Datenbank.
+	 */
+	@AfterAll
+	static void cleanup() {
+		dbFile.delete();
+	}
+
+
+	/**
+	 * Startet eine Berechnung mit einer kleinen Test-Blockung.
+	 *
+	 * @param conn          die Datenbank-Verbindung
+	 * @param zeit          die maximale Zeit in ms
+	 * @param speicherung   das Speichern der Ergebnisse
+	 *
+	 * @return der Zustand der gestarteten Berechnung
+	 *
+	 * @throws ApiOperationException   falls die Berechnung nicht gestartet werden kann
+	 */
+	private static GostBlockungsberechnung starte(final DBEntityManager conn, final long zeit, final GostBlockungsberechnungManager.Speicherung speicherung)
+			throws ApiOperationException {
+		final KursblockungAlgorithmusParallel algo = new KursblockungAlgorithmusParallel(TestKursblockungAlgorithmusParallel.erzeugeBlockungsdaten(zeit), 2);
+		return zustand(GostBlockungsberechnungManager.starte(conn, 1L, zeit, algo, speicherung));
+	}
+
+
+	private static GostBlockungsberechnung zustand(final Response response) {
+		assertEquals(Status.OK.getStatusCode(), response.getStatus());
+		return (GostBlockungsberechnung) response.getEntity();
+	}
+
+
+	/**
+	 * Fragt den Zustand der Berechnung ab, bis diese beendet ist.
+	 *
+	 * @param conn   die Datenbank-Verbindung
+	 * @param id     die ID der Berechnung
+	 *
+	 * @return der Zustand der beendeten Berechnung
+	 *
+	 * @throws Exception   im Fehlerfall
+	 */
+	private static GostBlockungsberechnung warteAufEnde(final DBEntityManager conn, final long id) throws Exception {
+		final long ende = System.currentTimeMillis() + WARTEZEIT;
+		while (System.currentTimeMillis() < ende) {
+			final GostBlockungsberechnung daten = zustand(GostBlockungsberechnungManager.getStatus(conn, id));
+			if (!GostBlockungsberechnungManager.STATUS_WARTEND.equals(daten.status) && !GostBlockungsberechnungManager.STATUS_LAEUFT.equals(daten.status))
+				return daten;
+			Thread.sleep(20);
+		}
+		throw new AssertionError("Die Berechnung mit der ID " + id + " wurde nicht beendet.");
+	}
+
+
+	/**
+	 * Prüft die Abfrage des Zustandes und der IDs der gespeicherten Ergebnisse nach dem Ende einer Berechnung
+	 * und dass nur der startende Benutzer den Zustand abfragen kann.
+	 *
+	 * @throws Exception   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe den Zustand und die Ergebnisse einer beendeten Berechnung")
+	void testStatusUndErgebnisse() throws Exception {
+		final List<List<GostBlockungsergebnisManager>> gespeichert = new CopyOnWriteArrayList<>();
+		final long id;
+		try (DBEntityManager conn = benutzer.getEntityManager()) {
+			final GostBlockungsberechnung gestartet = starte(conn, 100, (c, idBlockung, outputs) -> {
+				assertTrue(c.hasActiveTransaction());
+				gespeichert.add(outputs);
+				return LongStream.rangeClosed(1, outputs.size()).map(i -> 100 + i).boxed().toList();
+			});
+			assertEquals(1L, gestartet.idBlockung);
+			assertEquals(100, gestartet.zeitMaximal);
+			id = gestartet.id;
+
+			final GostBlockungsberechnung beendet = warteAufEnde(conn, gestartet.id);
+			assertEquals(GostBlockungsberechnungManager.STATUS_BEENDET, beendet.status);
+			assertEquals(1, gespeichert.size());
+			assertFalse(gespeichert.get(0).isEmpty());
+			assertEquals(gespeichert.get(0).size(), beendet.ergebnisse.size());
+			assertEquals(101L, beendet.ergebnisse.get(0));
+			assertEquals(beendet.anzahlInstanzen, beendet.anzahlInstanzenBeendet);
+
+			final ApiOperationException unbekannt = assertThrows(ApiOperationException.class, () -> GostBlockungsberechnungManager.getStatus(conn, -1));
+			assertEquals(Status.NOT_FOUND, unbekannt.getStatus());
+		}
+
+		// Ein anderer Benutzer hat keinen Zugriff auf die Berechnung
+		final Benutzer anderer = Benutzer.create(config);
+		anderer.setId(99L);
+		try (DBEntityManager conn = anderer.getEntityManager()) {
+			final ApiOperationException fremd = assertThrows(ApiOperationException.class, () -> GostBlockungsberechnungManager.abbrechen(conn, id));
+			assertEquals(Status.FORBIDDEN, fremd.getStatus());
+		}
+	}
+
+
+	/**
+	 * Prüft, dass eine abgebrochene Berechnung vor Ablauf ihrer Zeit endet und die bis dahin gefundenen
+	 * Ergebnisse noch gespeichert werden.
+	 *
+	 * @throws Exception   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe den Abbruch einer Berechnung")
+	void testAbbrechen() throws Exception {
+		final List<List<GostBlockungsergebnisManager>> gespeichert = new CopyOnWriteArrayList<>();
+		try (DBEntityManager conn = benutzer.getEntityManager()) {
+			final GostBlockungsberechnung gestartet = starte(conn, GostBlockungsberechnungManager.ZEIT_MAXIMAL, (c, idBlockung, outputs) -> {
+				gespeichert.add(outputs);
+				return List.of();
+			});
+			Thread.sleep(200);
+			zustand(GostBlockungsberechnungManager.abbrechen(conn, gestartet.id));
+			final GostBlockungsberechnung beendet = warteAufEnde(conn, gestartet.id);
+			assertEquals(GostBlockungsberechnungManager.STATUS_ABGEBROCHEN, beendet.status);
+			assertTrue(beendet.zeitVergangen < GostBlockungsberechnungManager.ZEIT_MAXIMAL);
+			assertEquals(1, gespeichert.size());
+		}
+	}
+
+
+	/**
+	 * Prüft, dass ein Fehler beim Speichern der Ergebnisse als Zustand der Berechnung gemeldet wird.
+	 *
+	 * @throws Exception   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe einen Fehler beim Speichern der Ergebnisse")
+	void testFehlerBeimSpeichern() throws Exception {
+		final AtomicInteger aufrufe = new AtomicInteger();
+		try (DBEntityManager conn = benutzer.getEntityManager()) {
+			final GostBlockungsberechnung gestartet = starte(conn, 50, (c, idBlockung, outputs) -> {
+				aufrufe.incrementAndGet();
+				throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, "Speichern fehlgeschlagen");
+			});
+			final GostBlockungsberechnung beendet = warteAufEnde(conn, gestartet.id);
+			assertEquals(GostBlockungsberechnungManager.STATUS_FEHLER, beendet.status);
+			assertNotNull(beendet.fehlermeldung);
+			assertTrue(beendet.ergebnisse.isEmpty());
+			assertEquals(1, aufrufe.get());
+		}
+	}
+
+
+	/**
+	 * Prüft, dass zu große Zeiten und Berechnungen über der maximalen Anzahl gleichzeitig laufender Berechnungen
+	 * abgelehnt werden und nach dem Ende einer Berechnung wieder eine neue Berechnung gestartet werden kann.
+	 *
+	 * @throws Exception   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe die Grenzen für die Zeit und die Anzahl laufender Berechnungen")
+	void testGrenzen() throws Exception {
+		final GostBlockungsberechnungManager.Speicherung speicherung = (c, idBlockung, outputs) -> List.of();
+		assertEquals(Status.BAD_REQUEST, assertThrows(ApiOperationException.class,
+				() -> GostBlockungsberechnungManager.pruefeZeit(GostBlockungsberechnungManager.ZEIT_MAXIMAL + 1)).getStatus());
+		assertEquals(Status.BAD_REQUEST, assertThrows(ApiOperationException.class, () -> GostBlockungsberechnungManager.pruefeZeit(-1)).getStatus());
+		try (DBEntityManager conn = benutzer.getEntityManager()) {
+			assertEquals(Status.BAD_REQUEST, assertThrows(ApiOperationException.class,
+					() -> starte(conn, GostBlockungsberechnungManager.ZEIT_MAXIMAL + 1, speicherung)).getStatus());
+			final List<Long> ids = new ArrayList<>();
+			try {
+				for (int i = 0; i < GostBlockungsberechnungManager.MAX_LAUFENDE_BERECHNUNGEN; i++)
+					ids.add(starte(conn, GostBlockungsberechnungManager.ZEIT_MAXIMAL, speicherung).id);
+				final ApiOperationException e = assertThrows(ApiOperationException.class, () -> starte(conn, 10, speicherung));
+				assertEquals(Status.TOO_MANY_REQUESTS, e.getStatus());
+			} finally {
+				for (final long id : ids)
+					GostBlockungsberechnungManager.abbrechen(conn, id);
+				for (final long id : ids)
+					warteAufEnde(conn, id);
+			}
+			// Nach dem Ende der Berechnungen sind die Plätze wieder frei
+			final GostBlockungsberechnung neu = starte(conn, 10, speicherung);
+			assertEquals(GostBlockungsberechnungManager.STATUS_BEENDET, warteAufEnde(conn, neu.id).status);
+		}
+	}
+
+}
@@ -0,0 +1,187 @@
+package de.svws_nrw.data.gost;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.core.data.gost.GostBlockungKurs;
+import de.svws_nrw.core.data.gost.GostBlockungSchiene;
+import de.svws_nrw.core.data.gost.GostBlockungsdaten;
+import de.svws_nrw.core.data.gost.GostBlockungsergebnisKursSchuelerZuordnungUpdate;
+import de.svws_nrw.core.data.gost.GostFach;
+import de.svws_nrw.core.data.gost.GostFachwahl;
+import de.svws_nrw.core.data.schueler.Schueler;
+import de.svws_nrw.core.types.gost.GostKursart;
+import de.svws_nrw.core.utils.DTOUtils;
+import de.svws_nrw.core.utils.gost.GostBlockungsdatenManager;
+import de.svws_nrw.core.utils.gost.GostBlockungsergebnisManager;
+import de.svws_nrw.core.utils.gost.GostFaecherManager;
+
+/**
+ * Diese Klasse testet das Zusammenführen der Ergebnisse mehrerer Instanzen im {@link KursblockungAlgorithmusParallel}.
+ */
+class TestKursblockungAlgorithmusParallel {
+
+	/** Die Anzahl der Fächer der Test-Blockung, jeweils mit zwei Grundkursen */
+	private static final int ANZAHL_FAECHER = 4;
+
+	/** Die Anzahl der Schüler der Test-Blockung */
+	private static final int ANZAHL_SCHUELER = 20;
+
+
+	/**
+	 * Erzeugt eine kleine Blockung mit sechs Schienen und je zwei Grundkursen in vier Fächern. Jeder Schüler
+	 * wählt drei der vier Fächer, der Schüler mit der ID 1 dabei das Fach des Kurses mit der ID 1.
+	 *
+	 * @param zeit   die maximale Zeit in ms, welche der Algorithmus rechnen darf
+	 *
+	 * @return der Blockungsdaten-Manager
+	 */
+	static GostBlockungsdatenManager erzeugeBlockungsdaten(final long zeit) {
+		final GostBlockungsdaten daten = new GostBlockungsdaten();
+		daten.id = 1L;
+		for (int nr = 1; nr <= 6; nr++) {
+			final GostBlockungSchiene schiene = new GostBlockungSchiene();
+			schiene.id = nr;
+			schiene.nummer = nr;
+			schiene.bezeichnung = "Schiene " + nr;
+			daten.schienen.add(schiene);
+		}
+		final List<GostFach> faecher = new ArrayList<>();
+		for (int fachID = 1; fachID <= ANZAHL_FAECHER; fachID++) {
+			final GostFach fach = new GostFach();
+			fach.id = fachID;
+			fach.kuerzel = "F" + fachID;
+			fach.sortierung = fachID;
+			faecher.add(fach);
+			for (int nr = 1; nr <= 2; nr++) {
+				final GostBlockungKurs kurs = new GostBlockungKurs();
+				kurs.id = daten.kurse.size() + 1L;
+				kurs.fach_id = fachID;
+				kurs.kursart = GostKursart.GK.id;
+				kurs.nummer = nr;
+				kurs.anzahlSchienen = 1;
+				daten.kurse.add(kurs);
+			}
+		}
+		for (int schuelerID = 1; schuelerID <= ANZAHL_SCHUELER; schuelerID++) {
+			final Schueler schueler = new Schueler();
+			schueler.id = schuelerID;
+			schueler.nachname = "Nachname" + schuelerID;
+			schueler.vorname = "Vorname" + schuelerID;
+			schueler.geschlecht = 3 + (schuelerID % 2);
+			daten.schueler.add(schueler);
+			for (int fachID = 1; fachID <= ANZAHL_FAECHER; fachID++) {
+				if (fachID == (schuelerID % ANZAHL_FAECHER) + 1)
+					continue;
+				final GostFachwahl fachwahl = new GostFachwahl();
+				fachwahl.schuelerID = schuelerID;
+				fachwahl.fachID = fachID;
+				fachwahl.kursartID = GostKursart.GK.id;
+				daten.fachwahlen.add(fachwahl);
+			}
+		}
+		final GostBlockungsdatenManager manager = new GostBlockungsdatenManager(daten, new GostFaecherManager(faecher));
+		manager.setMaxTimeMillis(zeit);
+		return manager;
+	}
+
+
+	/**
+	 * Erzeugt ein Ergebnis, bei welchem optional der Schüler mit der ID 1 dem Kurs mit der ID 1 zugeordnet ist.
+	 *
+	 * @param input        die Blockungsdaten
+	 * @param id           die ID des Ergebnisses
+	 * @param zuordnen     gibt an, ob der Schüler dem Kurs zugeordnet wird
+	 *
+	 * @return das Ergebnis
+	 */
+	private static GostBlockungsergebnisManager erzeugeErgebnis(final GostBlockungsdatenManager input, final long id, final boolean zuordnen) {
+		final GostBlockungsergebnisManager ergebnis = new GostBlockungsergebnisManager(input, id);
+		if (zuordnen) {
+			final GostBlockungsergebnisKursSchuelerZuordnungUpdate u = new GostBlockungsergebnisKursSchuelerZuordnungUpdate();
+			u.listHinzuzufuegen.add(DTOUtils.newGostBlockungsergebnisKursSchuelerZuordnung(1L, 1L));
+			ergebnis.kursSchuelerUpdateExecute(u);
+		}
+		return ergebnis;
+	}
+
+
+	/**
+	 * Gibt die Kurs-Schienen- und Kurs-Schüler-Zuordnungen eines Ergebnisses sortiert als Zeichenkette zurück.
+	 *
+	 * @param ergebnis   das Ergebnis
+	 *
+	 * @return die Zuordnungen als Zeichenkette
+	 */
+	private static String gibZuordnungen(final GostBlockungsergebnisManager ergebnis) {
+		final Map<Long, List<Long>> zuordnungen = new TreeMap<>();
+		ergebnis.getMappingKursIDSchienenmenge().forEach((kurs, schienen) -> zuordnungen.put(kurs, schienen.stream().map(s -> s.id).sorted().toList()));
+		final Map<Long, List<Long>> schueler = new TreeMap<>();
+		ergebnis.getMappingKursIDSchuelerIDs().forEach((kurs, ids) -> schueler.put(kurs, ids.stream().sorted().toList()));
+		return zuordnungen + "|" + schueler;
+	}
+
+
+	/**
+	 * Prüft, dass gleiche Ergebnisse verschiedener Instanzen beim Zusammenführen nur einmal übernommen werden,
+	 * die Ergebnisse nach ihrer Bewertung sortiert sind und höchstens so viele Ergebnisse wie bei der ergiebigsten
+	 * Instanz zurückgegeben werden.
+	 */
+	@Test
+	@DisplayName("Prüfe das Entfernen doppelter Ergebnisse beim Zusammenführen")
+	void testFuehreZusammenDuplikate() {
+		final GostBlockungsdatenManager input = erzeugeBlockungsdaten(0);
+		final GostBlockungsergebnisManager mitSchueler1 = erzeugeErgebnis(input, 1L, true);
+		final GostBlockungsergebnisManager ohneSchueler = erzeugeErgebnis(input, 2L, false);
+		final GostBlockungsergebnisManager mitSchueler2 = erzeugeErgebnis(input, 3L, true);
+		final GostBlockungsergebnisManager ohneSchueler2 = erzeugeErgebnis(input, 4L, false);
+
+		final List<GostBlockungsergebnisManager> ergebnisse = KursblockungAlgorithmusParallel.fuehreZusammen(
+				List.of(List.of(mitSchueler1, ohneSchueler), List.of(mitSchueler2, ohneSchueler2)));
+		assertEquals(2, ergebnisse.size());
+		assertNotEquals(ergebnisse.get(0).getMappingKursIDSchuelerIDs(), ergebnisse.get(1).getMappingKursIDSchuelerIDs());
+		assertTrue(ergebnisse.contains(mitSchueler1) != ergebnisse.contains(mitSchueler2));
+		assertTrue(ergebnisse.contains(ohneSchueler) != ergebnisse.contains(ohneSchueler2));
+		// Eine zusätzliche Zuordnung ergibt eine bessere Bewertung
+		assertTrue(ergebnisse.get(0).getMappingKursIDSchuelerIDs().getOrDefault(1L, Set.of()).contains(1L));
+
+		// Die Anzahl wird durch die ergiebigste Instanz beschränkt
+		final List<GostBlockungsergebnisManager> begrenzt = KursblockungAlgorithmusParallel.fuehreZusammen(
+				List.of(List.of(mitSchueler1), List.of(ohneSchueler)));
+		assertEquals(1, begrenzt.size());
+		assertEquals(mitSchueler1, begrenzt.get(0));
+	}
+
+
+	/**
+	 * Prüft bei einer echten parallelen Berechnung, dass keine zwei zurückgegebenen Ergebnisse dieselben
+	 * Zuordnungen haben.
+	 *
+	 * @throws InterruptedException   falls der Test beim Warten unterbrochen wird
+	 */
+	@Test
+	@DisplayName("Prüfe die Eindeutigkeit der Ergebnisse einer parallelen Berechnung")
+	void testBerechneOhneDuplikate() throws InterruptedException {
+		final KursblockungAlgorithmusParallel algo = new KursblockungAlgorithmusParallel(erzeugeBlockungsdaten(200), 4);
+		final List<GostBlockungsergebnisManager> ergebnisse = algo.berechne();
+		assertFalse(ergebnisse.isEmpty());
+		final Set<String> zuordnungen = new HashSet<>();
+		for (final GostBlockungsergebnisManager ergebnis : ergebnisse)
+			assertTrue(zuordnungen.add(gibZuordnungen(ergebnis)),
+					"Das Ergebnis mit der ID " + ergebnis.getErgebnis().id + " ist doppelt vorhanden.");
+		assertEquals(4, algo.getAnzahlInstanzenBeendet());
+	}
+
+}
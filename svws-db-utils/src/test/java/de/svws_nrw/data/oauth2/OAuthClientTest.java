@@ -3,13 +3,30 @@ package de.svws_nrw.data.oauth2;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import de.svws_nrw.data.JSONMapper;
 import de.svws_nrw.db.utils.ApiOperationException;
 
 /**
@@ -65,4 +82,78 @@ class OAuthClientTest {
 		assertEquals(TOKEN_STRING, parse.accessToken);
 	}
 
+
+	/**
+	 * Testet das Senden von GZIP-komprimierten JSON-Daten mit {@link OAuth2Client#postMultipartGZip} gegen einen
+	 * lokalen HTTP-Server. Dabei wird geprüft, dass der Body des Requests vollständig ist, d.h. mit der Boundary
+	 * endet, und dass die komprimierten Daten wieder in das ursprüngliche Objekt umgewandelt werden können.
+	 *
+	 * @throws IOException             falls der lokale Server nicht gestartet werden kann
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	void testPostMultipartGZip() throws IOException, ApiOperationException {
+		final AtomicReference<byte[]> body = new AtomicReference<>();
+		final AtomicReference<String> contentType = new AtomicReference<>();
+		final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/oauth/token", exchange -> antworte(exchange, TOKEN_INPUT));
+		server.createContext("/upload", exchange -> {
+			try (InputStream in = exchange.getRequestBody()) {
+				body.set(in.readAllBytes());
+			}
+			contentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+			antworte(exchange, "OK");
+		});
+		server.start();
+		try {
+			final String basicAuth = Base64.getEncoder().encodeToString("1:geheim".getBytes());
+			final OAuth2Client client = OAuth2Client.getClient("http://localhost:" + server.getAddress().getPort(), basicAuth);
+			final Map<String, Object> daten = Map.of("name", "Test", "werte", Arrays.asList(1, 2, 3));
+			final HttpResponse<String> response = client.postMultipartGZip("/upload", "json.gz",
+					gzipOut -> JSONMapper.writeTo(gzipOut, daten), BodyHandlers.ofString());
+			assertEquals(200, response.statusCode());
+			assertEquals("OK", response.body());
+
+			// Prüfe den Aufbau des Multipart-Bodys
+			assertNotNull(contentType.get());
+			final String boundary = "--" + contentType.get().substring(contentType.get().indexOf("boundary=") + "boundary=".length());
+			final byte[] kopf = (boundary + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"json.gz\"\r\n\r\n")
+					.getBytes(StandardCharsets.UTF_8);
+			final byte[] ende = ("\r\n" + boundary).getBytes(StandardCharsets.UTF_8);
+			final byte[] empfangen = body.get();
+			assertNotNull(empfangen);
+			assertTrue(empfangen.length > kopf.length + ende.length);
+			assertTrue(Arrays.equals(kopf, Arrays.copyOf(empfangen, kopf.length)));
+			assertTrue(Arrays.equals(ende, Arrays.copyOfRange(empfangen, empfangen.length - ende.length, empfangen.length)));
+
+			// Prüfe die komprimierten JSON-Daten zwischen Kopf und Boundary
+			final byte[] gzip = Arrays.copyOfRange(empfangen, kopf.length, empfangen.length - ende.length);
+			try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+				assertEquals(JSONMapper.mapper.readTree(JSONMapper.mapper.writeValueAsBytes(daten)), JSONMapper.mapper.readTree(in));
+			}
+		} finally {
+			server.stop(0);
+		}
+	}
+
+
+	/**
+	 * Sendet eine Antwort mit dem Status 200 und dem übergebenen Text an den Client.
+	 *
+	 * @param exchange   der HTTP-Austausch
+	 * @param text       der Text der Antwort
+	 *
+	 * @throws IOException   falls die Antwort nicht gesendet werden kann
+	 */
+	private static void antworte(final HttpExchange exchange, final String text) throws IOException {
+		try (InputStream in = exchange.getRequestBody()) {
+			in.readAllBytes();
+		}
+		final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
 }
@@ -0,0 +1,177 @@
+package de.svws_nrw.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.core.logger.Logger;
+import de.svws_nrw.db.dto.current.schild.schueler.DTOSchueler;
+import de.svws_nrw.db.dto.current.schild.schule.DTOJahrgang;
+import de.svws_nrw.db.schema.SchemaRevisionen;
+import de.svws_nrw.db.utils.schema.DBRootManager;
+import de.svws_nrw.db.utils.schema.DBSchemaManager;
+
+/**
+ * Diese Klasse testet den {@link DBKatalogCache} mit einer temporären SQLite-Datenbank. Da die Trigger für die
+ * Änderungszähler nur für MariaDB vorhanden sind, werden die Zähler in der Tabelle Schema_Aenderungen von Hand
+ * erhöht.
+ */
+class TestDBKatalogCache {
+
+	/** Der Name der Tabelle, deren Inhalt zwischengespeichert wird */
+	private static final String TABELLE = "EigeneSchule_Jahrgaenge";
+
+	private static File dbFile;
+
+	private static Benutzer benutzer;
+
+	/**
+	 * Erstellt ein Schema in einer temporären SQLite-Datenbank mit zwei Jahrgängen.
+	 *
+	 * @throws IOException   falls die temporäre Datei nicht erzeugt werden kann
+	 * @throws DBException   falls das Schema nicht erstellt werden kann
+	 */
+	@BeforeAll
+	static void setup() throws IOException, DBException {
+		dbFile = File.createTempFile("svws_katalogcache", ".sqlite");
+		dbFile.delete();
+		final Logger logger = new Logger();
+		final DBConfig config = new DBConfig(DBDriver.SQLITE, dbFile.getAbsolutePath(), null, false, null, null, true, true, 0, 0);
+		assertTrue(DBRootManager.recreateDB(config, null, null, logger));
+		benutzer = Benutzer.create(config);
+		DBSchemaManager.create(benutzer, true, logger).createSVWSSchema(benutzer, SchemaRevisionen.maxDeveloperRevision.revision, false, false);
+		try (DBEntityManager conn = benutzer.getEntityManager()) {
+			conn.transactionBegin();
+			assertEquals(2, conn.transactionNativeUpdate("INSERT INTO " + TABELLE + "(ID, InternKrz, ASDJahrgang) VALUES (1, '05', '05'), (2, '06', '06')"));
+			erhoeheZaehler(conn, 0);
+			assertTrue(conn.transactionCommit());
+		}
+	}
+
+	/**
+	 * Entfernt die temporäre SQLite-Datenbank.
+	 */
+	@AfterAll
+	static void cleanup() {
+		dbFile.delete();
+	}
+
+
+	/**
+	 * Erhöht den Änderungszähler der Tabelle in der angegebenen Zeile in der aktiven Transaktion, so wie es die
+	 * Trigger bei MariaDB tun. Fehlt die Zeile, so wird sie mit dem Zählerstand 1 angelegt.
+	 *
+	 * @param conn    die Datenbank-Verbindung mit der aktiven Transaktion
+	 * @param shard   die Nummer der Zeile
+	 */
+	private static void erhoeheZaehler(final DBEntityManager conn, final int shard) {
+		if (conn.transactionNativeUpdate("UPDATE Schema_Aenderungen SET Zaehler = Zaehler + 1 WHERE NameTabelle = '" + TABELLE + "' AND Shard = " + shard) == 0)
+			assertEquals(1, conn.transactionNativeUpdate("INSERT INTO Schema_Aenderungen(NameTabelle, Shard, Zaehler) VALUES ('" + TABELLE + "', " + shard + ", 1)"));
+	}
+
+
+	/**
+	 * Prüft, dass Datensätze bei unverändertem Zähler aus dem Cache genommen werden, bei einer Änderung, einer noch
+	 * nicht abgeschlossenen Transaktion des Aufrufers und nach einer Invalidierung jedoch neu gelesen werden.
+	 * Zusätzlich werden die Kennzahlen für Treffer und Fehlschläge und der Versionsstand für ETags geprüft.
+	 */
+	@Test
+	@DisplayName("Prüfe das Zwischenspeichern und Invalidieren der Datensätze einer Tabelle")
+	void testQueryAll() {
+		final DBKatalogCache cache = new DBKatalogCache(Set.of(DBDriver.SQLITE));
+		try (DBEntityManager conn = benutzer.getEntityManager()) {
+			// Der erste Zugriff liest die Daten, der zweite nimmt sie aus dem Cache
+			final List<DTOJahrgang> erste = cache.queryAll(conn, DTOJahrgang.class);
+			assertEquals(2, erste.size());
+			assertThrows(UnsupportedOperationException.class, () -> erste.add(new DTOJahrgang()));
+			// Jeder Aufrufer erhält Kopien, so dass Änderungen an den Objekten den Cache nicht beeinflussen
+			final List<DTOJahrgang> kopie = cache.queryAll(conn, DTOJahrgang.class);
+			assertEquals(erste, kopie);
+			assertNotSame(erste.get(0), kopie.get(0));
+			assertEquals(erste.get(0).InternKrz, kopie.get(0).InternKrz);
+			kopie.get(0).InternKrz = "XX";
+			assertEquals(erste.get(0).InternKrz, cache.queryAll(conn, DTOJahrgang.class).get(0).InternKrz);
+			assertEquals(cache.getInvalidierungen() + ".1", cache.getVersion(conn, List.of(DTOJahrgang.class)));
+			assertNull(cache.getVersion(conn, List.of(DTOJahrgang.class, DTOSchueler.class)));
+
+			// Eine abgeschlossene Änderung führt zu einem erneuten Lesen
+			conn.transactionBegin();
+			assertEquals(1, conn.transactionNativeUpdate("INSERT INTO " + TABELLE + "(ID, InternKrz, ASDJahrgang) VALUES (3, '07', '07')"));
+			erhoeheZaehler(conn, 5);
+			assertTrue(conn.transactionCommit());
+			final List<DTOJahrgang> zweite = cache.queryAll(conn, DTOJahrgang.class);
+			assertEquals(3, zweite.size());
+			assertEquals(cache.getInvalidierungen() + ".2", cache.getVersion(conn, List.of(DTOJahrgang.class)));
+
+			// Eigene, noch nicht abgeschlossene Änderungen werden über die Verbindung des Aufrufers gelesen, aber nicht gespeichert
+			conn.transactionBegin();
+			assertEquals(1, conn.transactionNativeUpdate("INSERT INTO " + TABELLE + "(ID, InternKrz, ASDJahrgang) VALUES (4, '08', '08')"));
+			erhoeheZaehler(conn, 0);
+			assertEquals(4, cache.queryAll(conn, DTOJahrgang.class).size());
+			conn.transactionRollback();
+			assertEquals(zweite, cache.queryAll(conn, DTOJahrgang.class));
+
+			// Nach einer Invalidierung des Schemas werden die Daten neu gelesen
+			final long invalidierungen = cache.getInvalidierungen();
+			cache.invalidate(conn.getDBSchema());
+			assertEquals(invalidierungen + 1, cache.getInvalidierungen());
+			assertEquals(3, cache.queryAll(conn, DTOJahrgang.class).size());
+
+			// Tabellen ohne Änderungszähler werden nicht zwischengespeichert
+			assertEquals(0, cache.queryAll(conn, DTOSchueler.class).size());
+		}
+		assertEquals(List.of(new DBKatalogCache.Kennzahlen(TABELLE, 3, 4)), cache.getKennzahlen());
+	}
+
+
+	/**
+	 * Prüft, dass der Cache bei einem DBMS ohne Trigger für die Änderungszähler nicht genutzt wird.
+	 */
+	@Test
+	@DisplayName("Prüfe die direkte Abfrage bei einem DBMS ohne Änderungszähler")
+	void testOhneZaehler() {
+		final DBKatalogCache cache = new DBKatalogCache(Set.of(DBDriver.MARIA_DB));
+		try (DBEntityManager conn = benutzer.getEntityManager()) {
+			final List<DTOJahrgang> erste = cache.queryAll(conn, DTOJahrgang.class);
+			assertEquals(conn.queryAll(DTOJahrgang.class).size(), erste.size());
+			assertThrows(UnsupportedOperationException.class, () -> erste.add(new DTOJahrgang()));
+			assertNull(cache.getVersion(conn, List.of(DTOJahrgang.class)));
+			assertEquals(-1, cache.getRevision(conn));
+		}
+		assertEquals(List.of(), cache.getKennzahlen());
+	}
+
+
+	/**
+	 * Prüft, dass der Cache bei einem Schema mit einer Revision vor der Einführung der Änderungszähler nicht genutzt
+	 * und kein Versionsstand bestimmt wird. Die Revision wird hierfür nur in einer Transaktion herabgesetzt.
+	 */
+	@Test
+	@DisplayName("Prüfe die direkte Abfrage bei einem Schema vor der Revision 13")
+	void testAlteRevision() {
+		final DBKatalogCache cache = new DBKatalogCache(Set.of(DBDriver.SQLITE));
+		try (DBEntityManager conn = benutzer.getEntityManager()) {
+			conn.transactionBegin();
+			conn.transactionNativeUpdate("UPDATE Schema_Status SET Revision = " + SchemaRevisionen.REV_12.revision);
+			final List<DTOJahrgang> erste = cache.queryAll(conn, DTOJahrgang.class);
+			assertEquals(conn.queryAll(DTOJahrgang.class).size(), erste.size());
+			assertNull(cache.getVersion(conn, List.of(DTOJahrgang.class)));
+			assertEquals(SchemaRevisionen.REV_12.revision, cache.getRevision(conn));
+			conn.transactionRollback();
+		}
+		assertEquals(List.of(), cache.getKennzahlen());
+	}
+
+}
@@ -0,0 +1,63 @@
+package de.svws_nrw.db.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Diese Klasse testet den Vergleich von ETags mit dem If-None-Match-Header in der Klasse {@link ApiUtils}.
+ */
+class TestApiUtils {
+
+	/**
+	 * Prüft den Vergleich mit einem einzelnen ETag.
+	 */
+	@Test
+	@DisplayName("Prüfe den Vergleich mit einem einzelnen ETag")
+	void testEinzelnesETag() {
+		assertTrue(ApiUtils.istETagEnthalten("\"v1-2.3\"", "v1-2.3"));
+		assertFalse(ApiUtils.istETagEnthalten("\"v1-2.4\"", "v1-2.3"));
+		assertFalse(ApiUtils.istETagEnthalten("\"v1-2.3.4\"", "v1-2.3"));
+		// Ohne Anführungszeichen ist das ETag ungültig
+		assertFalse(ApiUtils.istETagEnthalten("v1-2.3", "v1-2.3"));
+		assertFalse(ApiUtils.istETagEnthalten(null, "v1-2.3"));
+		assertFalse(ApiUtils.istETagEnthalten("\"v1-2.3\"", null));
+		assertFalse(ApiUtils.istETagEnthalten("", "v1-2.3"));
+	}
+
+	/**
+	 * Prüft den Vergleich mit mehreren ETags in einem Header.
+	 */
+	@Test
+	@DisplayName("Prüfe den Vergleich mit mehreren ETags")
+	void testMehrereETags() {
+		assertTrue(ApiUtils.istETagEnthalten("\"a\", \"v1-2.3\",\"b\"", "v1-2.3"));
+		assertTrue(ApiUtils.istETagEnthalten("\"a\",\"v1-2.3\"", "v1-2.3"));
+		assertFalse(ApiUtils.istETagEnthalten("\"a\", \"b\"", "v1-2.3"));
+	}
+
+	/**
+	 * Prüft, dass schwache ETags gemäß dem schwachen Vergleich als übereinstimmend gelten.
+	 */
+	@Test
+	@DisplayName("Prüfe den Vergleich mit schwachen ETags")
+	void testSchwacheETags() {
+		assertTrue(ApiUtils.istETagEnthalten("W/\"v1-2.3\"", "v1-2.3"));
+		assertTrue(ApiUtils.istETagEnthalten("\"a\", W/\"v1-2.3\"", "v1-2.3"));
+		assertFalse(ApiUtils.istETagEnthalten("W/\"v1-2.4\"", "v1-2.3"));
+	}
+
+	/**
+	 * Prüft, dass "*" jedem ETag entspricht.
+	 */
+	@Test
+	@DisplayName("Prüfe den Vergleich mit *")
+	void testStern() {
+		assertTrue(ApiUtils.istETagEnthalten("*", "v1-2.3"));
+		assertTrue(ApiUtils.istETagEnthalten(" * ", "beliebig"));
+		assertTrue(ApiUtils.istETagEnthalten("\"a\", *", "v1-2.3"));
+	}
+
+}
@@ -0,0 +1,135 @@
+package de.svws_nrw.db.utils.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.core.logger.LogConsumerList;
+import de.svws_nrw.core.logger.Logger;
+import de.svws_nrw.db.Benutzer;
+import de.svws_nrw.db.DBConfig;
+import de.svws_nrw.db.DBDriver;
+import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.DBException;
+import de.svws_nrw.db.schema.Schema;
+import de.svws_nrw.db.schema.SchemaRevisionen;
+import de.svws_nrw.db.schema.SchemaTabelle;
+
+/**
+ * Diese Klasse testet das Kopieren der Daten eines Schemas durch den {@link DBBackupManager}.
+ */
+class TestDBBackupManager {
+
+	/** Die Anzahl der zusätzlichen Datensätze in der Tabelle K_Ort, so dass diese in mehreren Blöcken kopiert wird */
+	private static final int ANZAHL_ORTE = 12345;
+
+	private static File srcFile;
+
+	private static File tgtFile;
+
+	/**
+	 * Erzeugt die Dateinamen für die temporären SQLite-Datenbanken.
+	 *
+	 * @throws IOException   falls die temporären Dateien nicht erzeugt werden können
+	 */
+	@BeforeAll
+	static void setup() throws IOException {
+		srcFile = File.createTempFile("svws_backup_quelle", ".sqlite");
+		tgtFile = File.createTempFile("svws_backup_ziel", ".sqlite");
+		srcFile.delete();
+		tgtFile.delete();
+	}
+
+	/**
+	 * Entfernt die temporären SQLite-Datenbanken.
+	 */
+	@AfterAll
+	static void cleanup() {
+		srcFile.delete();
+		tgtFile.delete();
+	}
+
+
+	/**
+	 * Bestimmt die Anzahl der Datensätze aller Tabellen, welche beim Import bzw. Export kopiert werden.
+	 *
+	 * @param config   die Datenbank-Konfiguration
+	 * @param rev      die Revision des Schemas
+	 *
+	 * @return eine Map von den Tabellennamen auf die Anzahl der Datensätze
+	 *
+	 * @throws DBException   falls die Verbindung nicht aufgebaut werden kann
+	 */
+	private static Map<String, Long> getAnzahlDatensaetze(final DBConfig config, final long rev) throws DBException {
+		final Map<String, Long> result = new HashMap<>();
+		try (DBEntityManager conn = Benutzer.create(config).getEntityManager()) {
+			for (final SchemaTabelle tab : Schema.getTabellen(rev)) {
+				if (!tab.importExport())
+					continue;
+				final List<Object> anzahl = conn.queryNative("SELECT COUNT(*) FROM " + tab.name());
+				result.put(tab.name(), ((Number) anzahl.get(0)).longValue());
+			}
+		}
+		return result;
+	}
+
+
+	/**
+	 * Erstellt ein Schema in einer SQLite-Datenbank, füllt eine Tabelle mit mehr Datensätzen als ein Block beim
+	 * Kopieren umfasst und exportiert das Schema in eine zweite SQLite-Datenbank. Anschließend wird geprüft, dass
+	 * in allen Tabellen gleich viele Datensätze vorhanden sind und dass das Log jeder Tabelle vollständig unter der
+	 * jeweiligen Tabelle ausgegeben wurde.
+	 *
+	 * @throws DBException   falls das Schema nicht erstellt werden kann
+	 */
+	@Test
+	@DisplayName("Prüfe das Kopieren eines Schemas anhand der Anzahl der Datensätze")
+	void testRoundtrip() throws DBException {
+		final long rev = SchemaRevisionen.maxRevision.revision;
+		final Logger logger = new Logger();
+		final LogConsumerList log = new LogConsumerList();
+		logger.addConsumer(log);
+
+		final DBConfig srcConfig = new DBConfig(DBDriver.SQLITE, srcFile.getAbsolutePath(), null, false, null, null, true, true, 0, 0);
+		assertTrue(DBRootManager.recreateDB(srcConfig, null, null, logger));
+		final Benutzer srcUser = Benutzer.create(srcConfig);
+		final DBSchemaManager srcManager = DBSchemaManager.create(srcUser, true, logger);
+		srcManager.createSVWSSchema(srcUser, rev, false, false);
+		try (DBEntityManager conn = srcUser.getEntityManager()) {
+			conn.transactionBegin();
+			for (int i = 1; i <= ANZAHL_ORTE; i += 500) {
+				final StringBuilder sql = new StringBuilder("INSERT INTO K_Ort(ID, PLZ, Bezeichnung, Sortierung, Sichtbar, Aenderbar) VALUES ");
+				for (int j = i; j < Math.min(i + 500, ANZAHL_ORTE + 1); j++)
+					sql.append((j == i) ? "" : ", ").append("(").append(j).append(", '").append(10000 + j).append("', 'Ort ").append(j).append("', ")
+							.append(j).append(", '+', '+')");
+				assertTrue(conn.transactionNativeUpdate(sql.toString()) > 0);
+			}
+			assertTrue(conn.transactionCommit());
+		}
+
+		assertTrue(srcManager.backup.exportDB(tgtFile.getAbsolutePath(), logger));
+
+		final DBConfig tgtConfig = new DBConfig(DBDriver.SQLITE, tgtFile.getAbsolutePath(), null, false, null, null, true, true, 0, 0);
+		final Map<String, Long> anzahlQuelle = getAnzahlDatensaetze(srcConfig, rev);
+		assertEquals(ANZAHL_ORTE, anzahlQuelle.get("K_Ort"));
+		assertEquals(anzahlQuelle, getAnzahlDatensaetze(tgtConfig, rev));
+
+		// Die Kennzahlen einer Tabelle folgen direkt auf deren Überschrift
+		final List<String> zeilen = log.getStrings().stream().map(String::trim).toList();
+		assertTrue(zeilen.stream().noneMatch(z -> z.contains("[FEHLER]")));
+		final int index = zeilen.indexOf("Tabelle K_Ort:");
+		assertTrue(index >= 0);
+		assertTrue(zeilen.get(index + 1).startsWith("- " + ANZAHL_ORTE + " Datensätze gelesen, " + ANZAHL_ORTE + " Datensätze geschrieben, 0 fehlerhafte"));
+	}
+
+}
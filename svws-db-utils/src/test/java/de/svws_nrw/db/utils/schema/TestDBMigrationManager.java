@@ -0,0 +1,180 @@
+package de.svws_nrw.db.utils.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.core.logger.LogConsumerList;
+import de.svws_nrw.core.logger.Logger;
+import de.svws_nrw.db.Benutzer;
+import de.svws_nrw.db.DBConfig;
+import de.svws_nrw.db.DBDriver;
+import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.DBException;
+import de.svws_nrw.db.dto.migration.schild.katalog.MigrationDTOOrt;
+import de.svws_nrw.db.schema.Schema;
+import de.svws_nrw.db.schema.SchemaTabelleSpalte;
+
+/**
+ * Diese Klasse testet die blockweise Migration einer Tabelle durch den {@link DBMigrationManager}.
+ */
+class TestDBMigrationManager {
+
+	/** Die Anzahl der Datensätze je Block */
+	private static final int BLOCKGROESSE = 5000;
+
+	/** Die Anzahl der Datensätze in der Quell-Tabelle, so dass diese mehr als zwei Blöcke umfasst */
+	private static final int ANZAHL_ORTE = 12000;
+
+	/** Die ID des fehlerhaften Datensatzes im zweiten Block */
+	private static final long ID_FEHLERHAFT = 7000;
+
+	private static File dbFile;
+
+	private static Benutzer user;
+
+	private static MigrationDTOZugriff zugriff;
+
+	/**
+	 * Erstellt eine SQLite-Datenbank mit einem Schema der Revision 0 als Ziel der Migration.
+	 *
+	 * @throws IOException   falls die temporäre Datei nicht erzeugt werden kann
+	 * @throws DBException   falls das Schema nicht erstellt werden kann
+	 */
+	@BeforeAll
+	static void setup() throws IOException, DBException {
+		dbFile = File.createTempFile("svws_migration_ziel", ".sqlite");
+		dbFile.delete();
+		final Logger logger = new Logger();
+		final DBConfig config = new DBConfig(DBDriver.SQLITE, dbFile.getAbsolutePath(), null, false, null, null, true, true, 0, 0);
+		assertTrue(DBRootManager.recreateDB(config, null, null, logger));
+		user = Benutzer.create(config);
+		DBSchemaManager.create(user, true, logger).createSVWSSchema(user, 0, false, false);
+		zugriff = new MigrationDTOZugriff(MigrationDTOOrt.class, Schema.tab_K_Ort, Schema.tab_K_Ort.getSpalten(0).stream().map(SchemaTabelleSpalte::name).toList());
+	}
+
+	/**
+	 * Entfernt die temporäre SQLite-Datenbank.
+	 */
+	@AfterAll
+	static void cleanup() {
+		dbFile.delete();
+	}
+
+	/**
+	 * Leert die Ziel-Tabelle vor jedem Test.
+	 */
+	@BeforeEach
+	void leereTabelle() {
+		try (DBEntityManager conn = user.getEntityManager()) {
+			conn.executeNativeDelete("DELETE FROM K_Ort");
+		}
+	}
+
+
+	/**
+	 * Erzeugt die Zeile eines Ortes in der Reihenfolge der Quell-Attribute. Bei dem Datensatz mit der ID
+	 * {@link #ID_FEHLERHAFT} wird die Sortierung als Text angegeben, so dass dieser Datensatz beim
+	 * Erzeugen des DTO-Objektes fehlschlägt, sofern fehlerhaft gesetzt ist.
+	 *
+	 * @param id            die ID des Ortes
+	 * @param fehlerhaft    gibt an, ob der Datensatz mit der ID {@link #ID_FEHLERHAFT} fehlerhaft sein soll
+	 *
+	 * @return die Werte der Zeile
+	 */
+	private static Object[] getZeile(final long id, final boolean fehlerhaft) {
+		final List<String> attribute = zugriff.getAttributeQuelle();
+		final Object[] zeile = new Object[attribute.size()];
+		for (int i = 0; i < zeile.length; i++) {
+			zeile[i] = switch (attribute.get(i)) {
+				case "ID" -> id;
+				case "PLZ" -> String.valueOf(10000 + id);
+				case "Bezeichnung" -> "Ort " + id;
+				case "Sortierung" -> (fehlerhaft && (id == ID_FEHLERHAFT)) ? "keine Zahl" : Integer.valueOf((int) id);
+				case "Sichtbar", "Aenderbar" -> Boolean.TRUE;
+				default -> null;
+			};
+		}
+		return zeile;
+	}
+
+
+	/**
+	 * Liest die Zeilen der Quell-Tabelle blockweise nach dem übergebenen Schlüssel aus.
+	 *
+	 * @param schluessel   der Schlüsselwert des zuletzt gelesenen Datensatzes oder null
+	 * @param fehlerhaft   gibt an, ob der Datensatz mit der ID {@link #ID_FEHLERHAFT} fehlerhaft sein soll
+	 *
+	 * @return die Zeilen des Blocks
+	 */
+	private static List<Object[]> leseBlock(final Object schluessel, final boolean fehlerhaft) {
+		final long start = (schluessel == null) ? 1 : ((Long) schluessel) + 1;
+		final List<Object[]> zeilen = new ArrayList<>();
+		for (long id = start; (id <= ANZAHL_ORTE) && (zeilen.size() < BLOCKGROESSE); id++)
+			zeilen.add(getZeile(id, fehlerhaft));
+		return zeilen;
+	}
+
+
+	/**
+	 * Bestimmt die Anzahl der Datensätze in der Ziel-Tabelle.
+	 *
+	 * @return die Anzahl der Datensätze
+	 */
+	private static long getAnzahlZiel() {
+		try (DBEntityManager conn = user.getEntityManager()) {
+			final List<Object> anzahl = conn.queryNative("SELECT COUNT(*) FROM K_Ort");
+			return ((Number) anzahl.get(0)).longValue();
+		}
+	}
+
+
+	/**
+	 * Prüft die Migration einer Tabelle, welche mehrere Blöcke umfasst.
+	 */
+	@Test
+	@DisplayName("Prüfe die blockweise Migration einer Tabelle")
+	void testMigration() {
+		final Logger logger = new Logger();
+		final LogConsumerList log = new LogConsumerList();
+		logger.addConsumer(log);
+		try (DBEntityManager tgtConn = user.getEntityManager()) {
+			assertTrue(DBMigrationManager.migrateTableBloecke(tgtConn, Schema.tab_K_Ort, zugriff, BLOCKGROESSE,
+					schluessel -> leseBlock(schluessel, false), entities -> true, logger));
+		}
+		assertEquals(ANZAHL_ORTE, getAnzahlZiel());
+		assertTrue(log.getStrings().stream().anyMatch(z -> z.contains(ANZAHL_ORTE + " Datensätze gelesen, " + ANZAHL_ORTE + " Datensätze geschrieben")));
+	}
+
+
+	/**
+	 * Prüft, dass bei einem fehlerhaften Datensatz im zweiten Block die bereits geschriebenen Datensätze
+	 * des ersten Blocks wieder entfernt werden, so dass die Tabelle nicht nur teilweise migriert ist.
+	 */
+	@Test
+	@DisplayName("Prüfe das Überspringen einer Tabelle mit einem fehlerhaften Datensatz im zweiten Block")
+	void testMigrationFehlerImBlock() {
+		final Logger logger = new Logger();
+		final LogConsumerList log = new LogConsumerList();
+		logger.addConsumer(log);
+		try (DBEntityManager tgtConn = user.getEntityManager()) {
+			assertTrue(DBMigrationManager.migrateTableBloecke(tgtConn, Schema.tab_K_Ort, zugriff, BLOCKGROESSE,
+					schluessel -> leseBlock(schluessel, true), entities -> true, logger));
+		}
+		assertEquals(0, getAnzahlZiel());
+		final List<String> zeilen = log.getStrings();
+		assertTrue(zeilen.stream().anyMatch(z -> z.contains("Überspringe die Tabelle")));
+		assertTrue(zeilen.stream().anyMatch(z -> z.contains("Die bereits geschriebenen " + BLOCKGROESSE + " Datensätze wurden wieder entfernt.")));
+	}
+
+}
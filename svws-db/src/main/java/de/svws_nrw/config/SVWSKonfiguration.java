@@ -30,8 +30,11 @@ import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 
 import de.svws_nrw.core.data.db.DBSchemaListeEintrag;
 import de.svws_nrw.core.types.ServerMode;
+import de.svws_nrw.db.BenutzerCache;
 import de.svws_nrw.db.DBConfig;
 import de.svws_nrw.db.DBDriver;
+import de.svws_nrw.db.DBIDVergabe;
+import de.svws_nrw.db.DBKatalogCache;
 
 /**
  * Diese Klasse repräsentiert die Konfiguration der SVWS-Server-Umgebung.
@@ -446,6 +449,21 @@ public final class SVWSKonfiguration {
 	}
 
 
+	/** Gibt an, dass die Anfragen als Default in einem Pool von Plattform-Threads verarbeitet werden */
+	public static final boolean default_useVirtualThreads = false;
+
+	/**
+	 * Gibt zurück, ob die Anfragen an den Server in virtuellen Threads statt in einem Pool von
+	 * Plattform-Threads verarbeitet werden. Die Anzahl der gleichzeitigen Datenbank-Zugriffe wird
+	 * in beiden Fällen pro Schema durch den Connection-Pool des ConnectionManager beschränkt.
+	 *
+	 * @return true, falls virtuelle Threads genutzt werden sollen, sonst false
+	 */
+	public boolean useVirtualThreads() {
+		return (dto == null) || (this.dto.useVirtualThreads == null) ? default_useVirtualThreads : this.dto.useVirtualThreads;
+	}
+
+
 	/** Gibt den Default HTTPS-Port des Servers an */
 	public static final int default_PortHTTPS = 443;
 
@@ -631,6 +649,9 @@ public final class SVWSKonfiguration {
 		if (schemataLocked.contains(schemaName))
 			return false;
 		schemataLocked.add(schemaName);
+		BenutzerCache.get().invalidate(schemaName);
+		DBKatalogCache.get().invalidate(schemaName);
+		DBIDVergabe.get().invalidate(schemaName);
 		return true;
 	}
 
@@ -645,6 +666,9 @@ public final class SVWSKonfiguration {
 	public synchronized boolean unlockSchema(final String schemaName) {
 		if (schemataLocked.contains(schemaName)) {
 			schemataLocked.remove(schemaName);
+			BenutzerCache.get().invalidate(schemaName);
+			DBKatalogCache.get().invalidate(schemaName);
+			DBIDVergabe.get().invalidate(schemaName);
 			return true;
 		}
 		return false;
@@ -691,6 +715,9 @@ public final class SVWSKonfiguration {
 		if (schemataDeactivated.contains(schemaName))
 			return false;
 		schemataDeactivated.add(schemaName);
+		BenutzerCache.get().invalidate(schemaName);
+		DBKatalogCache.get().invalidate(schemaName);
+		DBIDVergabe.get().invalidate(schemaName);
 		return true;
 	}
 
@@ -783,6 +810,9 @@ public final class SVWSKonfiguration {
 			config.password = password;
 			config.svwslogin = userSVWSLogin;
 		}
+		BenutzerCache.get().invalidate(schemaName);
+		DBKatalogCache.get().invalidate(schemaName);
+		DBIDVergabe.get().invalidate(schemaName);
 		return write();
 	}
 
@@ -811,6 +841,10 @@ public final class SVWSKonfiguration {
 		}
 		// Entferne Flags, dass das Scheme deaktiviert ist
 		schemataDeactivated.remove(schemaName);
+		// Verwerfe zwischengespeicherte Anmeldungen und Daten bei dem Schema
+		BenutzerCache.get().invalidate(schemaName);
+		DBKatalogCache.get().invalidate(schemaName);
+		DBIDVergabe.get().invalidate(schemaName);
 		// Persistiere die Änderungen in der Konfigurationsdatei
 		return write();
 	}
@@ -50,6 +50,10 @@ class SVWSKonfigurationDTO {
 	@JsonProperty("UseHTTPDefaultv11")
 	Boolean useHTTPDefaultv11;
 
+	/** Gibt an, ob die Anfragen an den Server in virtuellen Threads statt in einem Pool von Plattform-Threads verarbeitet werden */
+	@JsonProperty("UseVirtualThreads")
+	Boolean useVirtualThreads;
+
 	/** Gibt den HTTPS-Port des Servers an */
 	@JsonProperty("PortHTTPS")
 	Integer portHTTPS;
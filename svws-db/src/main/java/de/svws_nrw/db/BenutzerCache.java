@@ -0,0 +1,213 @@
+package de.svws_nrw.db;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Dieser Cache speichert erfolgreich angemeldete {@link Benutzer} für eine begrenzte Zeit, so dass bei
+ * weiteren Anfragen mit denselben Anmeldedaten die Prüfung des Kennwortes (BCrypt) und das Lesen der
+ * Kompetenzen aus der Datenbank entfallen kann. <br>
+ * Der Schlüssel eines Eintrags besteht aus dem Schema, dem Benutzernamen und einem Hash des Kennwortes.
+ * Das Kennwort selbst wird nicht als Schlüssel verwendet. <br>
+ * Ändern sich Benutzer, Kennwörter oder Kompetenzen eines Schemas, so müssen die Einträge des Schemas
+ * mit {@link #invalidate(String)} verworfen werden. Damit eine Anmeldung, die parallel zu einer solchen
+ * Änderung stattfindet, keinen veralteten Eintrag speichert, wird pro Schema eine Generation geführt,
+ * die vor dem Lesen der Benutzerdaten mit {@link #getGeneration(String)} abgefragt werden muss.
+ */
+public final class BenutzerCache {
+
+	/** Die Standard-Gültigkeitsdauer eines Eintrags in Millisekunden (5 Minuten) */
+	public static final long DEFAULT_TTL_MILLIS = 5L * 60L * 1000L;
+
+	/** Die maximale Anzahl an Einträgen pro Schema, bevor abgelaufene Einträge entfernt werden */
+	private static final int MAX_EINTRAEGE_PRO_SCHEMA = 10000;
+
+	/** Die Instanz des Caches für die Anwendung */
+	private static final BenutzerCache instance = new BenutzerCache(DEFAULT_TTL_MILLIS);
+
+	/** Ein Eintrag mit dem angemeldeten Benutzer und dem Zeitpunkt, an dem der Eintrag abläuft. */
+	private record Eintrag(Benutzer benutzer, long ablauf) {
+		// kein weiterer Inhalt
+	}
+
+	/** Die Einträge und die aktuelle Generation eines Schemas. Der Zugriff ist über das Objekt synchronisiert. */
+	private static final class SchemaEintraege {
+
+		/** Die aktuelle Generation, welche bei jedem Verwerfen der Einträge erhöht wird */
+		private long generation = 0;
+
+		/** Die Einträge, zugeordnet zu ihrem Schlüssel aus Benutzername und Kennwort-Hash */
+		private final HashMap<String, Eintrag> eintraege = new HashMap<>();
+
+	}
+
+	/** Die Einträge der Schemata, zugeordnet zu dem Schema-Namen in Kleinbuchstaben */
+	private final ConcurrentHashMap<String, SchemaEintraege> schemata = new ConcurrentHashMap<>();
+
+	/** Die Gültigkeitsdauer eines Eintrags in Millisekunden */
+	private final long ttlMillis;
+
+	/** Ein zufälliger Salt für die Kennwort-Hashes dieses Caches */
+	private final byte[] salt = new byte[16];
+
+
+	/**
+	 * Erzeugt einen neuen, leeren Cache.
+	 *
+	 * @param ttlMillis   die Gültigkeitsdauer eines Eintrags in Millisekunden
+	 */
+	public BenutzerCache(final long ttlMillis) {
+		this.ttlMillis = ttlMillis;
+		new SecureRandom().nextBytes(salt);
+	}
+
+
+	/**
+	 * Gibt die Instanz des Caches für die Anwendung zurück.
+	 *
+	 * @return die Instanz des Caches
+	 */
+	public static BenutzerCache get() {
+		return instance;
+	}
+
+
+	private SchemaEintraege getSchemaEintraege(final String schema) {
+		return schemata.computeIfAbsent(schema.toLowerCase(Locale.ROOT), s -> new SchemaEintraege());
+	}
+
+
+	private String getSchluessel(final String username, final String password) {
+		try {
+			final MessageDigest md = MessageDigest.getInstance("SHA-256");
+			md.update(salt);
+			md.update(((password == null) ? "" : password).getBytes(StandardCharsets.UTF_8));
+			return username + "\u0000" + HexFormat.of().formatHex(md.digest());
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+
+	/**
+	 * Gibt die aktuelle Generation der Einträge des Schemas zurück. Diese muss vor dem Lesen der
+	 * Benutzerdaten aus der Datenbank abgefragt und bei {@link #put(String, String, String, Benutzer, long)}
+	 * übergeben werden.
+	 *
+	 * @param schema   der Name des Schemas
+	 *
+	 * @return die aktuelle Generation
+	 */
+	public long getGeneration(final String schema) {
+		final SchemaEintraege se = getSchemaEintraege(schema);
+		synchronized (se) {
+			return se.generation;
+		}
+	}
+
+
+	/**
+	 * Gibt den zwischengespeicherten Benutzer zu den Anmeldedaten zurück, sofern ein gültiger Eintrag vorhanden ist.
+	 * Einträge, deren Verbindungs-Manager inzwischen geschlossen wurde, sind nicht mehr gültig.
+	 *
+	 * @param schema     der Name des Schemas
+	 * @param username   der Benutzername
+	 * @param password   das Kennwort
+	 *
+	 * @return der angemeldete Benutzer oder null, falls kein gültiger Eintrag vorhanden ist
+	 */
+	public Benutzer get(final String schema, final String username, final String password) {
+		if ((schema == null) || (username == null))
+			return null;
+		final String schluessel = getSchluessel(username, password);
+		final SchemaEintraege se = getSchemaEintraege(schema);
+		synchronized (se) {
+			final Eintrag eintrag = se.eintraege.get(schluessel);
+			if (eintrag == null)
+				return null;
+			if ((eintrag.ablauf() < System.currentTimeMillis()) || (!eintrag.benutzer().connectionManager.isOpen())) {
+				se.eintraege.remove(schluessel);
+				return null;
+			}
+			return eintrag.benutzer();
+		}
+	}
+
+
+	/**
+	 * Speichert den erfolgreich angemeldeten Benutzer zu den Anmeldedaten. Wurden die Einträge des
+	 * Schemas seit der Abfrage der übergebenen Generation verworfen, so wird der Benutzer nicht gespeichert.
+	 *
+	 * @param schema       der Name des Schemas
+	 * @param username     der Benutzername
+	 * @param password     das Kennwort
+	 * @param benutzer     der angemeldete Benutzer inklusive seiner Kompetenzen
+	 * @param generation   die Generation, die vor dem Lesen der Benutzerdaten abgefragt wurde
+	 */
+	public void put(final String schema, final String username, final String password, final Benutzer benutzer, final long generation) {
+		if ((schema == null) || (username == null) || (benutzer == null))
+			return;
+		final String schluessel = getSchluessel(username, password);
+		final SchemaEintraege se = getSchemaEintraege(schema);
+		synchronized (se) {
+			if (se.generation != generation)
+				return;
+			final long jetzt = System.currentTimeMillis();
+			if (se.eintraege.size() >= MAX_EINTRAEGE_PRO_SCHEMA) {
+				se.eintraege.values().removeIf(e -> e.ablauf() < jetzt);
+				if (se.eintraege.size() >= MAX_EINTRAEGE_PRO_SCHEMA)
+					se.eintraege.clear();
+			}
+			se.eintraege.put(schluessel, new Eintrag(benutzer, jetzt + ttlMillis));
+		}
+	}
+
+
+	/**
+	 * Verwirft alle Einträge des angegebenen Schemas, z.B. nach einer Änderung an Benutzern, Kennwörtern
+	 * oder Kompetenzen.
+	 *
+	 * @param schema   der Name des Schemas
+	 */
+	public void invalidate(final String schema) {
+		if (schema == null)
+			return;
+		final SchemaEintraege se = getSchemaEintraege(schema);
+		synchronized (se) {
+			se.generation++;
+			se.eintraege.clear();
+		}
+	}
+
+
+	/**
+	 * Verwirft alle Einträge aller Schemata.
+	 */
+	public void invalidateAll() {
+		for (final String schema : schemata.keySet())
+			invalidate(schema);
+	}
+
+
+	/**
+	 * Gibt die Anzahl der Einträge des angegebenen Schemas zurück (inklusive noch nicht entfernter, abgelaufener Einträge).
+	 *
+	 * @param schema   der Name des Schemas
+	 *
+	 * @return die Anzahl der Einträge
+	 */
+	public int size(final String schema) {
+		final SchemaEintraege se = getSchemaEintraege(schema);
+		synchronized (se) {
+			return se.eintraege.size();
+		}
+	}
+
+}
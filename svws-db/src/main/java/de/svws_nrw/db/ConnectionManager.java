@@ -2,15 +2,30 @@ package de.svws_nrw.db;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLInvalidAuthorizationSpecException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
@@ -19,6 +34,10 @@ import org.eclipse.persistence.sessions.server.ServerSession;
 import com.healthmarketscience.jackcess.Database;
 import com.healthmarketscience.jackcess.DatabaseBuilder;
 
+import de.svws_nrw.core.data.db.DBPoolStatistik;
+import de.svws_nrw.core.logger.LogConsumerConsole;
+import de.svws_nrw.core.logger.LogLevel;
+import de.svws_nrw.core.logger.Logger;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
@@ -26,10 +45,51 @@ import jakarta.persistence.PersistenceException;
 import jakarta.validation.constraints.NotNull;
 
 /**
- * Ein Manager für die Datenbank-Verbindungen der Anwendung.
+ * Ein Manager für die Datenbank-Verbindungen der Anwendung. <br>
+ * Für jede Datenbank-Konfiguration existiert genau ein Verbindungs-Manager mit einem eigenen
+ * Connection-Pool. Da die Konfiguration eines Schemas ohne DB-Login von allen SVWS-Benutzern des
+ * Schemas gemeinsam genutzt wird, teilen sich diese auch den Connection-Pool. <br>
+ * Der Pool ist beschränkt: Es werden höchstens {@link #POOL_MAX_VERBINDUNGEN} Datenbank-Zugriffe
+ * ({@link DBEntityManager}) gleichzeitig geöffnet, weitere Anfragen warten bis zu
+ * {@link #POOL_WARTEZEIT_MILLIS} Millisekunden auf eine Freigabe. Ein Thread belegt dabei höchstens einen
+ * Zugriff: Öffnet ein Thread, der bereits einen Zugriff belegt hat, einen weiteren {@link DBEntityManager},
+ * so teilen sich beide die Belegung, so dass verschachtelte Zugriffe nicht gegenseitig auf eine Freigabe
+ * warten. Freigegebene Verbindungen oberhalb von {@link #POOL_MIN_VERBINDUNGEN} werden vom Pool direkt
+ * geschlossen. Datenbank-Zugriffe, die länger als {@link #LECK_SCHWELLE_MILLIS} geöffnet sind, werden als
+ * Leck gemeldet und nach {@link #MAX_BELEGUNGSDAUER_MILLIS} für den Pool freigegeben. Die Kennzahlen des Pools sind über
+ * {@link #getPoolStatistik()}, per JMX (siehe {@link ConnectionPoolMXBean}) und im Format von Prometheus
+ * (siehe {@link de.svws_nrw.metriken.Metriken}) abrufbar. <br>
+ * Die Beschränkung erfolgt über einen {@link Semaphore} vor dem Pool von EclipseLink. Dadurch können auch
+ * bei einer Verarbeitung der Anfragen in virtuellen Threads beliebig viele Anfragen auf einen Zugriff warten,
+ * ohne dass der Pool überlastet wird oder wartende Anfragen einen Plattform-Thread blockieren.
  */
 public final class ConnectionManager {
 
+	/** Die maximale Anzahl an gleichzeitig geöffneten Datenbank-Zugriffen und an Verbindungen je Pool eines Verbindungs-Managers */
+	public static final int POOL_MAX_VERBINDUNGEN = 32;
+
+	/**
+	 * Die Anzahl an zusätzlichen Verbindungen im Pool für schreibende Zugriffe, welche für die Reservierung von IDs
+	 * in eigenen Transaktionen genutzt werden (siehe {@link DBIDVergabe}). Dadurch ist auch bei vollständig belegten
+	 * Datenbank-Zugriffen eine Reservierung möglich.
+	 */
+	public static final int POOL_ID_VERGABE_VERBINDUNGEN = 2;
+
+	/** Die Anzahl an Verbindungen, die ein Pool mindestens offen hält, wenn sie nicht genutzt werden */
+	public static final int POOL_MIN_VERBINDUNGEN = 4;
+
+	/** Die maximale Wartezeit in Millisekunden auf einen freien Datenbank-Zugriff bzw. eine freie Verbindung */
+	public static final long POOL_WARTEZEIT_MILLIS = 30L * 1000L;
+
+	/** Die Zeit in Millisekunden, nach der ein geöffneter Datenbank-Zugriff als Leck gemeldet wird (10 Minuten) */
+	public static final long LECK_SCHWELLE_MILLIS = 10L * 60L * 1000L;
+
+	/** Die Zeit in Millisekunden, nach der ein nicht geschlossener Datenbank-Zugriff für den Pool freigegeben wird (2 Stunden) */
+	public static final long MAX_BELEGUNGSDAUER_MILLIS = 2L * 60L * 60L * 1000L;
+
+	/** Die Zeit in Millisekunden, in der ein Verbindungs-Manager nach einer erfolgreichen Prüfung der Verbindung nicht erneut geprüft wird */
+	private static final long PRUEF_INTERVALL_MILLIS = 30L * 1000L;
+
 	/*
 	 * Initialisiert den Shutdown-Hook, um alle nicht mehr benötigten
 	 * Datenbank-Verbindungen, d.h. die zugehörigen {@link EntityManagerFactory}
@@ -39,14 +99,53 @@ public final class ConnectionManager {
 		Runtime.getRuntime().addShutdownHook(new Thread(ConnectionManager::closeAll));
 	}
 
+	/** Der Logger für die Warnungen und Fehler des Connection-Pools */
+	private static final Logger logger = createLogger();
+
 	/** Ein Zufallszahlen-Generator */
 	private static final Random random = new Random();
 
 	/**
-	 * Eine HashMap für den Zugriff auf einen Connection-Manager, der einer
-	 * Datenbank-Konfiguration zugeordnet ist
+	 * Eine Map für den Zugriff auf einen Connection-Manager, der einer
+	 * Datenbank-Konfiguration zugeordnet ist. Das Erzeugen und Prüfen von
+	 * Verbindungs-Managern ist über {@link #sperreManager} synchronisiert.
+	 */
+	private static final ConcurrentHashMap<DBConfig, ConnectionManager> mapManager = new ConcurrentHashMap<>();
+
+	/**
+	 * Die Sperre für das Erzeugen und Prüfen von Verbindungs-Managern. Es wird ein {@link ReentrantLock} anstatt
+	 * eines synchronized-Blocks verwendet, da dabei Datenbank-Verbindungen aufgebaut werden und ein virtueller
+	 * Thread bei einem synchronized-Block während dieser Zeit an seinen Träger-Thread gebunden bliebe.
 	 */
-	private static final HashMap<DBConfig, ConnectionManager> mapManager = new HashMap<>();
+	private static final ReentrantLock sperreManager = new ReentrantLock();
+
+	/** Ein Zähler für die eindeutige Benennung der JMX-Objekte der Verbindungs-Manager */
+	private static final AtomicLong naechsteID = new AtomicLong(1);
+
+	/** Der Dienst, welcher regelmäßig die geöffneten Datenbank-Zugriffe aller Verbindungs-Manager auf Lecks prüft */
+	private static final ScheduledExecutorService wartung = erzeugeWartung();
+
+	/**
+	 * Die Belegung eines Datenbank-Zugriffs aus dem Pool eines Verbindungs-Managers durch einen Thread. Eine
+	 * Belegung wird beim Erzeugen eines {@link DBEntityManager} angefordert und beim Schließen freigegeben.
+	 * Alle {@link DBEntityManager} eines Threads nutzen dieselbe Belegung, welche erst mit dem Schließen des
+	 * letzten dieser {@link DBEntityManager} an den Pool zurückgegeben wird.
+	 */
+	static final class Belegung {
+
+		/** Der Zeitpunkt, zu dem der Datenbank-Zugriff belegt wurde */
+		private final long beginn = System.currentTimeMillis();
+
+		/** Der Thread, welcher den Datenbank-Zugriff belegt hat */
+		private final Thread thread = Thread.currentThread();
+
+		/** Die Anzahl der noch nicht geschlossenen {@link DBEntityManager}, welche diese Belegung nutzen. Bei 0 ist die Belegung freigegeben. */
+		private final AtomicInteger anzahl = new AtomicInteger(1);
+
+		/** Gibt an, ob die Belegung bereits als Leck gemeldet wurde */
+		private volatile boolean alsLeckGemeldet = false;
+
+	}
 
 	/** Die verwendete Datenbank-Konfiguration {@link DBConfig} */
 	private final @NotNull DBConfig config;
@@ -57,6 +156,33 @@ public final class ConnectionManager {
 	 */
 	private final @NotNull EntityManagerFactory emf;
 
+	/** Die Beschränkung der gleichzeitig geöffneten Datenbank-Zugriffe. Wartende Anfragen werden in der Reihenfolge ihres Eintreffens bedient. */
+	private final Semaphore freieBelegungen = new Semaphore(POOL_MAX_VERBINDUNGEN, true);
+
+	/** Die aktuell geöffneten Datenbank-Zugriffe, zugeordnet zu dem Thread, welcher sie belegt hat */
+	private final ConcurrentHashMap<Thread, Belegung> aktiveBelegungen = new ConcurrentHashMap<>();
+
+	/** Die Anzahl aller bisher aus dem Pool angeforderten Datenbank-Zugriffe */
+	private final LongAdder anzahlBelegungen = new LongAdder();
+
+	/** Die gesamte Wartezeit aller Anforderungen in Nanosekunden */
+	private final LongAdder wartezeitGesamt = new LongAdder();
+
+	/** Die maximale Wartezeit einer Anforderung in Nanosekunden */
+	private final AtomicLong wartezeitMax = new AtomicLong();
+
+	/** Die Anzahl der wegen einer Zeitüberschreitung abgelehnten Anforderungen */
+	private final LongAdder anzahlZeitueberschreitungen = new LongAdder();
+
+	/** Die Anzahl der als Leck gemeldeten Datenbank-Zugriffe */
+	private final LongAdder anzahlLecks = new LongAdder();
+
+	/** Der Zeitpunkt der letzten erfolgreichen Prüfung der Verbindung */
+	private volatile long zeitpunktLetztePruefung = 0;
+
+	/** Der Name, unter dem der Verbindungs-Manager per JMX registriert ist, oder null */
+	private ObjectName jmxName = null;
+
 	/**
 	 * Erstellt einen neuen Connection-Manager
 	 *
@@ -67,6 +193,247 @@ public final class ConnectionManager {
 		this.emf = createEntityManagerFactory();
 	}
 
+
+	/**
+	 * Erzeugt den Logger für die Warnungen und Fehler des Connection-Pools, welcher auf der Konsole ausgibt.
+	 *
+	 * @return der Logger
+	 */
+	private static Logger createLogger() {
+		final Logger logger = new Logger();
+		logger.addConsumer(new LogConsumerConsole(true, false));
+		return logger;
+	}
+
+
+	/**
+	 * Erzeugt den Dienst, welcher regelmäßig die geöffneten Datenbank-Zugriffe aller Verbindungs-Manager prüft.
+	 *
+	 * @return der Dienst
+	 */
+	private static ScheduledExecutorService erzeugeWartung() {
+		final ScheduledExecutorService service = Executors.newSingleThreadScheduledExecutor(r -> {
+			final Thread t = new Thread(r, "SVWS-ConnectionPool-Wartung");
+			t.setDaemon(true);
+			return t;
+		});
+		service.scheduleWithFixedDelay(() -> mapManager.values().forEach(m -> m.pruefeBelegungen(System.currentTimeMillis())), 1, 1, TimeUnit.MINUTES);
+		return service;
+	}
+
+
+	/**
+	 * Belegt einen Datenbank-Zugriff aus dem Pool dieses Verbindungs-Managers für den aktuellen Thread. Hat der
+	 * Thread bereits einen Zugriff belegt, so wird diese Belegung ohne Warten erneut genutzt. Ansonsten wird,
+	 * falls kein Zugriff frei ist, bis zu {@link #POOL_WARTEZEIT_MILLIS} Millisekunden auf eine Freigabe gewartet.
+	 * Jede Belegung muss mit {@link #freigeben(Belegung)} genau einmal wieder freigegeben werden.
+	 *
+	 * @return die Belegung
+	 *
+	 * @throws PersistenceException   wenn innerhalb der Wartezeit kein Datenbank-Zugriff frei wird
+	 */
+	Belegung belegen() throws PersistenceException {
+		final Belegung vorhanden = aktiveBelegungen.get(Thread.currentThread());
+		if ((vorhanden != null) && (vorhanden.anzahl.getAndUpdate(n -> (n > 0) ? (n + 1) : n) > 0))
+			return vorhanden;
+		final long start = System.nanoTime();
+		boolean erhalten;
+		try {
+			erhalten = freieBelegungen.tryAcquire(POOL_WARTEZEIT_MILLIS, TimeUnit.MILLISECONDS);
+		} catch (@SuppressWarnings("unused") final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			erhalten = false;
+		}
+		final long wartezeit = System.nanoTime() - start;
+		anzahlBelegungen.increment();
+		wartezeitGesamt.add(wartezeit);
+		wartezeitMax.accumulateAndGet(wartezeit, Math::max);
+		if (!erhalten) {
+			anzahlZeitueberschreitungen.increment();
+			throw new PersistenceException("Zeitüberschreitung beim Warten auf eine freie Datenbank-Verbindung zum Schema " + config.getDBSchema() + ".");
+		}
+		final Belegung belegung = new Belegung();
+		aktiveBelegungen.put(belegung.thread, belegung);
+		return belegung;
+	}
+
+
+	/**
+	 * Gibt die übergebene Belegung für einen {@link DBEntityManager} wieder frei. Der Datenbank-Zugriff wird erst
+	 * an den Pool zurückgegeben, wenn alle {@link DBEntityManager}, welche die Belegung nutzen, diese freigegeben
+	 * haben.
+	 *
+	 * @param belegung   die Belegung oder null
+	 */
+	void freigeben(final Belegung belegung) {
+		if ((belegung == null) || (belegung.anzahl.getAndUpdate(n -> (n > 0) ? (n - 1) : n) != 1))
+			return;
+		aktiveBelegungen.remove(belegung.thread, belegung);
+		freieBelegungen.release();
+	}
+
+
+	/**
+	 * Prüft die geöffneten Datenbank-Zugriffe dieses Verbindungs-Managers. Zugriffe, die länger als
+	 * {@link #LECK_SCHWELLE_MILLIS} geöffnet sind, werden einmalig als Leck gemeldet. Zugriffe, die länger als
+	 * {@link #MAX_BELEGUNGSDAUER_MILLIS} geöffnet sind, werden für den Pool freigegeben, damit der Pool
+	 * nicht dauerhaft durch nicht geschlossene Zugriffe erschöpft wird. Ein späteres Schließen der
+	 * zugehörigen {@link DBEntityManager} gibt die Belegung dann nicht erneut frei.
+	 *
+	 * @param jetzt   der aktuelle Zeitpunkt in Millisekunden
+	 */
+	void pruefeBelegungen(final long jetzt) {
+		for (final Belegung belegung : aktiveBelegungen.values()) {
+			final long dauer = jetzt - belegung.beginn;
+			if (dauer >= MAX_BELEGUNGSDAUER_MILLIS) {
+				if (belegung.anzahl.getAndSet(0) <= 0)
+					continue;
+				aktiveBelegungen.remove(belegung.thread, belegung);
+				freieBelegungen.release();
+				logger.logLn(LogLevel.WARNING, "Der Datenbank-Zugriff des Threads " + belegung.thread.getName() + " auf das Schema " + config.getDBSchema()
+						+ " wurde nicht geschlossen und wird nach " + (dauer / 60000) + " Minuten für den Connection-Pool freigegeben.");
+			} else if ((dauer >= LECK_SCHWELLE_MILLIS) && !belegung.alsLeckGemeldet) {
+				belegung.alsLeckGemeldet = true;
+				anzahlLecks.increment();
+				logger.logLn(LogLevel.WARNING, "Der Datenbank-Zugriff des Threads " + belegung.thread.getName() + " auf das Schema " + config.getDBSchema()
+						+ " ist seit " + (dauer / 60000) + " Minuten geöffnet und wurde möglicherweise nicht geschlossen.");
+			}
+		}
+	}
+
+
+	/**
+	 * Gibt die aktuellen Kennzahlen des Connection-Pools dieses Verbindungs-Managers zurück.
+	 *
+	 * @return die Kennzahlen des Connection-Pools
+	 */
+	public @NotNull DBPoolStatistik getPoolStatistik() {
+		final DBPoolStatistik statistik = new DBPoolStatistik();
+		statistik.schema = (config.getDBSchema() == null) ? "" : config.getDBSchema();
+		statistik.location = config.getDBLocation();
+		statistik.username = (config.getUsername() == null) ? "" : config.getUsername();
+		statistik.belegungenAktiv = aktiveBelegungen.size();
+		statistik.belegungenWartend = freieBelegungen.getQueueLength();
+		statistik.belegungenMaximal = POOL_MAX_VERBINDUNGEN;
+		statistik.anzahlBelegungen = anzahlBelegungen.sum();
+		statistik.wartezeitGesamtMillis = TimeUnit.NANOSECONDS.toMillis(wartezeitGesamt.sum());
+		statistik.wartezeitMaxMillis = TimeUnit.NANOSECONDS.toMillis(wartezeitMax.get());
+		statistik.anzahlZeitueberschreitungen = anzahlZeitueberschreitungen.sum();
+		statistik.anzahlLecks = anzahlLecks.sum();
+		if (!emf.isOpen())
+			return statistik;
+		try (EntityManager em = emf.createEntityManager()) {
+			final ServerSession serverSession = em.unwrap(ServerSession.class);
+			final List<ConnectionPool> pools = new ArrayList<>(serverSession.getConnectionPools().values());
+			pools.add(serverSession.getReadConnectionPool());
+			for (final ConnectionPool pool : pools) {
+				if (pool == null)
+					continue;
+				final int frei = pool.getConnectionsAvailable().size();
+				statistik.verbindungenFrei += frei;
+				statistik.verbindungenAktiv += pool.getTotalNumberOfConnections() - frei;
+				statistik.verbindungenMaximal += pool.getMaxNumberOfConnections();
+			}
+		} catch (@SuppressWarnings("unused") final IllegalStateException | PersistenceException e) {
+			// Der Verbindungs-Manager wurde zwischenzeitlich geschlossen - die Kennzahlen der Verbindungen bleiben leer
+		}
+		return statistik;
+	}
+
+
+	/**
+	 * Gibt die aktuellen Kennzahlen der Connection-Pools aller Verbindungs-Manager zurück.
+	 *
+	 * @return die Liste mit den Kennzahlen der Connection-Pools
+	 */
+	public static @NotNull List<DBPoolStatistik> getPoolStatistiken() {
+		final List<DBPoolStatistik> result = new ArrayList<>();
+		for (final ConnectionManager manager : mapManager.values())
+			result.add(manager.getPoolStatistik());
+		return result;
+	}
+
+
+	/**
+	 * Registriert diesen Verbindungs-Manager per JMX, so dass die Kennzahlen des Connection-Pools
+	 * abgerufen werden können.
+	 */
+	private void registriereJMX() {
+		try {
+			final ObjectName name = new ObjectName("de.svws_nrw.db:type=ConnectionPool,name="
+					+ ObjectName.quote(config.getDBSchema() + "@" + config.getDBLocation()) + ",id=" + naechsteID.getAndIncrement());
+			ManagementFactory.getPlatformMBeanServer().registerMBean(new PoolMXBean(this), name);
+			jmxName = name;
+		} catch (final JMException e) {
+			logger.logLn(LogLevel.WARNING, "Fehler beim Registrieren des Connection-Pools per JMX: " + e.getMessage());
+		}
+	}
+
+
+	/**
+	 * Die JMX-Sicht auf die Kennzahlen des Connection-Pools eines Verbindungs-Managers.
+	 */
+	private static final class PoolMXBean implements ConnectionPoolMXBean {
+
+		/** Der Verbindungs-Manager */
+		private final ConnectionManager manager;
+
+		PoolMXBean(final ConnectionManager manager) {
+			this.manager = manager;
+		}
+
+		@Override
+		public String getSchema() {
+			return manager.config.getDBSchema();
+		}
+
+		@Override
+		public int getVerbindungenAktiv() {
+			return manager.getPoolStatistik().verbindungenAktiv;
+		}
+
+		@Override
+		public int getVerbindungenFrei() {
+			return manager.getPoolStatistik().verbindungenFrei;
+		}
+
+		@Override
+		public int getBelegungenAktiv() {
+			return manager.aktiveBelegungen.size();
+		}
+
+		@Override
+		public int getBelegungenWartend() {
+			return manager.freieBelegungen.getQueueLength();
+		}
+
+		@Override
+		public long getAnzahlBelegungen() {
+			return manager.anzahlBelegungen.sum();
+		}
+
+		@Override
+		public long getWartezeitGesamtMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(manager.wartezeitGesamt.sum());
+		}
+
+		@Override
+		public long getWartezeitMaxMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(manager.wartezeitMax.get());
+		}
+
+		@Override
+		public long getAnzahlZeitueberschreitungen() {
+			return manager.anzahlZeitueberschreitungen.sum();
+		}
+
+		@Override
+		public long getAnzahlLecks() {
+			return manager.anzahlLecks.sum();
+		}
+
+	}
+
 	/**
 	 * Gibt einen neuen JPA {@link EntityManager} zurück. Diese Methode wird
 	 * innerhalb dieses Packages vom DBEntityManager bei der Erneuerung der
@@ -164,7 +531,16 @@ public final class ConnectionManager {
 		// propertyMap.put("eclipselink.logging.level.sql", "FINE");
 		// propertyMap.put("eclipselink.logging.parameters", "true");
 		// propertyMap.put("eclipselink.profiler","PerformanceProfiler");
+		// Erfassung der Anzahl und Dauer der SQL-Anweisungen für die Metriken des Servers
+		propertyMap.put("eclipselink.session-event-listener", DBMetrikenListener.class.getName());
 		propertyMap.put("eclipselink.cache.shared.default", "false");
+		// Beschränkung der Connection-Pools für schreibende und lesende Zugriffe
+		for (final String pool : List.of("default", "read")) {
+			propertyMap.put("eclipselink.connection-pool." + pool + ".initial", "1");
+			propertyMap.put("eclipselink.connection-pool." + pool + ".min", "" + POOL_MIN_VERBINDUNGEN);
+			propertyMap.put("eclipselink.connection-pool." + pool + ".max", "" + ("default".equals(pool) ? (POOL_MAX_VERBINDUNGEN + POOL_ID_VERGABE_VERBINDUNGEN) : POOL_MAX_VERBINDUNGEN));
+			propertyMap.put("eclipselink.connection-pool." + pool + ".wait", "" + POOL_WARTEZEIT_MILLIS);
+		}
 		// propertyMap.put("eclipselink.exception-handler",
 		// "de.svws_nrw.db.DBExceptionHandler");
 		if (config.getDBDriver() == DBDriver.SQLITE) {
@@ -179,17 +555,35 @@ public final class ConnectionManager {
 	}
 
 
+	/**
+	 * Gibt zurück, ob dieser Verbindungs-Manager noch geöffnet ist.
+	 *
+	 * @return true, falls der Verbindungs-Manager geöffnet ist, sonst false
+	 */
+	public boolean isOpen() {
+		return emf.isOpen();
+	}
+
 	/**
 	 * Schließt den Verbindungs-Manager
 	 */
 	private void close() {
+		if (jmxName != null) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(jmxName);
+			} catch (@SuppressWarnings("unused") final JMException e) {
+				// Die Registrierung wurde bereits entfernt
+			}
+			jmxName = null;
+		}
 		emf.close();
 	}
 
 	/**
 	 * Gibt den Manager für die Datenbank-Verbindung für die übergebene
 	 * Konfiguration zurück. Sollt keine Verbindung bestehen, so wird eine neue
-	 * Verbindung erzeugt.
+	 * Verbindung erzeugt. Eine bestehende Verbindung wird höchstens alle
+	 * {@link #PRUEF_INTERVALL_MILLIS} Millisekunden durch eine Dummy-Abfrage geprüft.
 	 *
 	 * @param config die Konfiguration der Datenbank-Verbindung
 	 *
@@ -198,12 +592,34 @@ public final class ConnectionManager {
 	 * @throws DBException bei einer fehlschlagenden Authentifizierung
 	 */
 	public static @NotNull ConnectionManager get(final DBConfig config) throws DBException {
+		final ConnectionManager geprueft = mapManager.get(config);
+		if ((geprueft != null) && geprueft.isOpen() && ((System.currentTimeMillis() - geprueft.zeitpunktLetztePruefung) < PRUEF_INTERVALL_MILLIS))
+			return geprueft;
+		sperreManager.lock();
+		try {
+			return getUndPruefe(config);
+		} finally {
+			sperreManager.unlock();
+		}
+	}
+
+	/**
+	 * Gibt den Manager für die Datenbank-Verbindung für die übergebene Konfiguration zurück und
+	 * erzeugt bzw. prüft die Verbindung. Der Aufruf muss über {@link #sperreManager} synchronisiert sein.
+	 *
+	 * @param config die Konfiguration der Datenbank-Verbindung
+	 *
+	 * @return der Manager
+	 *
+	 * @throws DBException bei einer fehlschlagenden Authentifizierung
+	 */
+	private static @NotNull ConnectionManager getUndPruefe(final DBConfig config) throws DBException {
 		ConnectionManager man = mapManager.get(config);
 		if (man != null) {
 			final Map<String, Object> curProps = man.emf.getProperties();
 			final String curUser = (String) curProps.get("jakarta.persistence.jdbc.user");
 			final String curPassword = (String) curProps.get("jakarta.persistence.jdbc.password");
-			if (!config.getUsername().equals(curUser) || !config.getPassword().equals(curPassword)) {
+			if (!Objects.equals(config.getUsername(), curUser) || !Objects.equals(config.getPassword(), curPassword)) {
 				mapManager.remove(config);
 				man.close();
 				man = null;
@@ -214,6 +630,8 @@ public final class ConnectionManager {
 			try {
 				try (EntityManager em = man.getNewJPAEntityManager()) {
 					mapManager.put(config, man);
+					man.zeitpunktLetztePruefung = System.currentTimeMillis();
+					man.registriereJMX();
 				}
 			} catch (final PersistenceException pe) {
 				if ((pe.getCause() instanceof final DatabaseException de) && (de.getCause() instanceof final SQLInvalidAuthorizationSpecException ae)) {
@@ -247,6 +665,7 @@ public final class ConnectionManager {
 						}
 						em.getTransaction().commit();
 						em.clear();
+						man.zeitpunktLetztePruefung = System.currentTimeMillis();
 					} catch (@SuppressWarnings("unused") SQLException | DatabaseException e) {
 						// Bestimme die Anzahl der verfügbaren Verbindungen
 						final ServerSession serverSession = em.unwrap(ServerSession.class);
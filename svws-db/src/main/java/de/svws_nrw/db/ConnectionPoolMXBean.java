@@ -0,0 +1,80 @@
+package de.svws_nrw.db;
+
+/**
+ * Die JMX-Schnittstelle für die Kennzahlen des Connection-Pools eines {@link ConnectionManager}.
+ * Für jeden Verbindungs-Manager wird eine Instanz unter dem Namen
+ * "de.svws_nrw.db:type=ConnectionPool,name=..." registriert.
+ */
+public interface ConnectionPoolMXBean {
+
+	/**
+	 * Gibt den Namen des Schemas zurück.
+	 *
+	 * @return der Name des Schemas
+	 */
+	String getSchema();
+
+	/**
+	 * Gibt die Anzahl der aktuell genutzten Datenbank-Verbindungen zurück.
+	 *
+	 * @return die Anzahl der genutzten Verbindungen
+	 */
+	int getVerbindungenAktiv();
+
+	/**
+	 * Gibt die Anzahl der aktuell freien Datenbank-Verbindungen im Pool zurück.
+	 *
+	 * @return die Anzahl der freien Verbindungen
+	 */
+	int getVerbindungenFrei();
+
+	/**
+	 * Gibt die Anzahl der aktuell geöffneten Datenbank-Zugriffe zurück.
+	 *
+	 * @return die Anzahl der geöffneten Datenbank-Zugriffe
+	 */
+	int getBelegungenAktiv();
+
+	/**
+	 * Gibt die Anzahl der Anfragen zurück, die aktuell auf einen freien Datenbank-Zugriff warten.
+	 *
+	 * @return die Anzahl der wartenden Anfragen
+	 */
+	int getBelegungenWartend();
+
+	/**
+	 * Gibt die Anzahl aller bisher angeforderten Datenbank-Zugriffe zurück.
+	 *
+	 * @return die Anzahl der Anforderungen
+	 */
+	long getAnzahlBelegungen();
+
+	/**
+	 * Gibt die gesamte Wartezeit aller Anforderungen in Millisekunden zurück.
+	 *
+	 * @return die gesamte Wartezeit in Millisekunden
+	 */
+	long getWartezeitGesamtMillis();
+
+	/**
+	 * Gibt die maximale Wartezeit einer Anforderung in Millisekunden zurück.
+	 *
+	 * @return die maximale Wartezeit in Millisekunden
+	 */
+	long getWartezeitMaxMillis();
+
+	/**
+	 * Gibt die Anzahl der wegen einer Zeitüberschreitung abgelehnten Anforderungen zurück.
+	 *
+	 * @return die Anzahl der Zeitüberschreitungen
+	 */
+	long getAnzahlZeitueberschreitungen();
+
+	/**
+	 * Gibt die Anzahl der als Leck gemeldeten Datenbank-Zugriffe zurück.
+	 *
+	 * @return die Anzahl der Lecks
+	 */
+	long getAnzahlLecks();
+
+}
@@ -107,6 +107,23 @@ public enum DBDriver {
 	}
 
 
+	/**
+	 * Gibt die maximale Anzahl an Parametern zurück, welche bei diesem DBMS in einem
+	 * einzelnen Prepared-Statement verwendet werden sollten. Dies wird z.B. genutzt, um
+	 * die Anzahl der Datensätze bei INSERT-Anweisungen mit mehreren Datensätzen zu begrenzen.
+	 *
+	 * @return die maximale Anzahl an Parametern in einem Prepared-Statement
+	 */
+	public int getMaxParameterProStatement() {
+		return switch (this) {
+			case MARIA_DB, MYSQL -> 65535;
+			case MSSQL -> 2000;
+			case SQLITE -> 999;
+			default -> 255;
+		};
+	}
+
+
 	/**
 	 * Gibt die Default-Collation für das SVWS-Datenbankschema in
 	 * Abhängigkeit des DBMS zurück.
@@ -1,8 +1,10 @@
 package de.svws_nrw.db;
 
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Time;
@@ -11,18 +13,25 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.LongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import de.svws_nrw.db.schema.Schema;
 import de.svws_nrw.db.schema.tabellen.Tabelle_Schema_AutoInkremente;
+import jakarta.persistence.Column;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceException;
-import jakarta.persistence.Query;
 import jakarta.persistence.RollbackException;
 import jakarta.persistence.Table;
 import jakarta.persistence.TransactionRequiredException;
@@ -44,6 +53,18 @@ public final class DBEntityManager implements AutoCloseable {
 	 */
 	public static final boolean use_db_caching = false;
 
+	/** Die maximale Anzahl an Werten, die bei {@link #queryNamedMultiple(String, Collection, Class)} in einer IN-Bedingung genutzt werden. */
+	public static final int MAX_WERTE_IN_BEDINGUNG = 1000;
+
+	/** Die maximale Anzahl an Datensätzen, die bei {@link #transactionUpdateAllNative(String, List, List, List)} in einem JDBC-Batch ausgeführt werden. */
+	public static final int MAX_DATENSAETZE_PRO_BATCH = 1000;
+
+
+	/**
+	 * Die maximale Wartezeit in Sekunden auf die Sperre einer Zeile in Schema_AutoInkremente bei der Reservierung von IDs.
+	 * Die Wartezeit ist kurz, da während der Reservierung alle Einfügungen in die Tabelle auf den neuen Block warten.
+	 */
+	private static final int ID_RESERVIERUNG_WARTEZEIT_SEKUNDEN = 1;
 
 	/** Formatiert eine Zeitangabe als String, in der Art, wie es für die Datumseingabe in einer SQL-Anfrage genutzt wird. */
 	private static DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm:ss");
@@ -66,13 +87,23 @@ public final class DBEntityManager implements AutoCloseable {
 	/** Ein intern verwendeter Mutex, der garantiert, dass immer nur ein Thread eine Transaction auf diesem DBEntityManager ausführt. */
 	private final ReentrantLock mutex = new ReentrantLock();
 
+	/** Die Belegung des Datenbank-Zugriffs im Pool des Verbindungs-Managers, welche beim ersten Schließen wieder freigegeben wird. */
+	private final AtomicReference<ConnectionManager.Belegung> belegung;
+
+	/**
+	 * Die Tabellen, deren Zeile in Schema_AutoInkremente durch die aktuelle Transaktion gesperrt ist. Für diese werden
+	 * IDs bis zum Ende der Transaktion ohne Block in der aktuellen Transaktion reserviert.
+	 */
+	private final Set<String> tabellenMitIDSperre = new HashSet<>();
+
 
 
 	/**
 	 * Konstruktor für die interne Nutzung. Es wird eine neue Instanz auf Basis
 	 * der übergebenen Konfiguration (siehe {@link DBConfig}) erstellt. Für den
 	 * Fall, dass die Verbindung nicht erfolgreich ist, wird eine
-	 * {@link DBConnectionException} generiert.
+	 * {@link DBConnectionException} generiert. Der Zugriff wird im Pool des
+	 * Verbindungs-Managers belegt und beim Schließen wieder freigegeben.
 	 *
 	 * @param user     der Benutzer, der dieser Verbindung zugeordnet ist.
 	 * @param config   die Datenbank-Konfiguration
@@ -80,10 +111,16 @@ public final class DBEntityManager implements AutoCloseable {
 	DBEntityManager(final Benutzer user, final DBConfig config) {
 		this.user = user;
 		this.config = config;
-		if (this.config.getConnectionRetries() <= 0) {
-			this.em = user.connectionManager.getNewJPAEntityManager();
-		} else {
-			this.em = user.connectionManager.getNewJPAEntityManager(this.config.getConnectionRetries(), this.config.getRetryTimeout());
+		this.belegung = new AtomicReference<>(user.connectionManager.belegen());
+		try {
+			if (this.config.getConnectionRetries() <= 0) {
+				this.em = user.connectionManager.getNewJPAEntityManager();
+			} else {
+				this.em = user.connectionManager.getNewJPAEntityManager(this.config.getConnectionRetries(), this.config.getRetryTimeout());
+			}
+		} catch (final RuntimeException e) {
+			user.connectionManager.freigeben(this.belegung.getAndSet(null));
+			throw e;
 		}
 	}
 
@@ -120,10 +157,14 @@ public final class DBEntityManager implements AutoCloseable {
 
 	@Override
 	public void close() {
-		if (em != null) {
-			em.clear();
-			em.close();
-			em = null;
+		try {
+			if (em != null) {
+				em.clear();
+				em.close();
+				em = null;
+			}
+		} finally {
+			user.connectionManager.freigeben(belegung.getAndSet(null));
 		}
 	}
 
@@ -218,6 +259,7 @@ public final class DBEntityManager implements AutoCloseable {
 	 */
 	public void transactionBegin() {
 		this.lock();
+		tabellenMitIDSperre.clear();
 		em.getTransaction().begin();
 	}
 
@@ -813,6 +855,57 @@ public final class DBEntityManager implements AutoCloseable {
 	}
 
 
+	/**
+	 * Führt eine SQL-Abfrage direkt auf der JDBC-Connection (siehe {@link Connection}) aus und übergibt das
+	 * Ergebnis blockweise an die übergebene Verarbeitung. Die Datensätze werden dabei mit einem Forward-Only-Cursor
+	 * und der Blockgröße als Fetch-Size gelesen, so dass das Ergebnis nie vollständig im Speicher gehalten wird.
+	 * Die Abfrage erfolgt im Rahmen einer Transaktion, welche am Ende zurückgerollt wird.
+	 *
+	 * @param sql            der SQL-Befehl
+	 * @param blockgroesse   die maximale Anzahl an Datensätzen je Block
+	 * @param verarbeitung   die Verarbeitung, welche für jeden Block mit den Datensätzen in Form von Object-Arrays aufgerufen wird
+	 *
+	 * @return die Anzahl der gelesenen Datensätze
+	 *
+	 * @throws DBException   falls beim Lesen oder bei der Verarbeitung ein Fehler aufgetreten ist
+	 */
+	@SuppressWarnings("resource")
+	public long queryNativeBlockweise(final String sql, final int blockgroesse, final Consumer<List<Object[]>> verarbeitung) throws DBException {
+		try {
+			this.lock();
+			this.transactionBegin();
+			final Connection conn = em.unwrap(Connection.class);
+			long anzahl = 0;
+			try (Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+				stmt.setFetchSize(blockgroesse);
+				try (ResultSet rs = stmt.executeQuery(sql)) {
+					final int colCount = rs.getMetaData().getColumnCount();
+					List<Object[]> block = new ArrayList<>(blockgroesse);
+					while (rs.next()) {
+						final Object[] data = new Object[colCount];
+						for (int i = 0; i < colCount; i++)
+							data[i] = rs.getObject(i + 1);
+						block.add(data);
+						anzahl++;
+						if (block.size() >= blockgroesse) {
+							verarbeitung.accept(block);
+							block = new ArrayList<>(blockgroesse);
+						}
+					}
+					if (!block.isEmpty())
+						verarbeitung.accept(block);
+				}
+			}
+			return anzahl;
+		} catch (SQLException | PersistenceException | IllegalStateException e) {
+			throw new DBException("Fehler beim blockweisen Lesen der Datensätze", e);
+		} finally {
+			this.transactionRollback();
+			this.unlock();
+		}
+	}
+
+
 	/**
 	 * Diese Methode fügt die Entities aus dem angegebenen Bereich der übergebenen Liste in die angebene
 	 * Tabelle mit den übergebenen Spalten ein. Die entsprechende SQL-INSERT-Anfrage wird aus den übergebenen
@@ -847,22 +940,7 @@ public final class DBEntityManager implements AutoCloseable {
 				.append(IntStream.rangeClosed(first, last).mapToObj(e -> prepCols).collect(Collectors.joining(", ")));
 			final String sql = sb.toString();
 			try (PreparedStatement prepared = conn.prepareStatement(sql)) {
-				int pos = 1;
-				for (int i = first; i <= last; i++) {
-					final Object[] data = entities.get(i);
-					for (int j = 0; j < colnames.size(); j++) {
-						if ((config.getDBDriver() == DBDriver.SQLITE) && (data[j] instanceof final Timestamp timestamp)) {
-							prepared.setString(pos, datetimeFormatter.format(timestamp.toLocalDateTime()));
-						} else if ((config.getDBDriver() == DBDriver.SQLITE) && (data[j] instanceof final Date date)) {
-							prepared.setString(pos, dateFormatter.format(date.toLocalDate()));
-						} else if ((config.getDBDriver() == DBDriver.SQLITE) && (data[j] instanceof final Time time)) {
-							prepared.setString(pos, timeFormatter.format(time.toLocalTime()));
-						} else {
-							prepared.setObject(pos, data[j]);
-						}
-						pos++;
-					}
-				}
+				setPreparedParameter(prepared, colnames.size(), entities, first, last);
 				prepared.executeUpdate();
 			}
 			if (this.transactionCommit())
@@ -878,6 +956,149 @@ public final class DBEntityManager implements AutoCloseable {
 	}
 
 
+	/**
+	 * Setzt die Parameter des Prepared-Statements mit den Werten der Datensätze aus dem angegebenen Bereich.
+	 * Bei SQLite werden dabei Datums- und Zeitangaben in ihre String-Darstellung umgewandelt.
+	 *
+	 * @param prepared    das Prepared-Statement
+	 * @param colCount    die Anzahl der Spalten je Datensatz
+	 * @param entities    die Liste mit den einzelnen Datensätzen in Form von Object-Arrays
+	 * @param first       der Index des ersten Datensatzes
+	 * @param last        der Index des letzten Datensatzes
+	 *
+	 * @throws SQLException   falls ein Parameter nicht gesetzt werden konnte
+	 */
+	private void setPreparedParameter(final PreparedStatement prepared, final int colCount, final List<Object[]> entities, final int first, final int last)
+			throws SQLException {
+		int pos = 1;
+		for (int i = first; i <= last; i++) {
+			final Object[] data = entities.get(i);
+			for (int j = 0; j < colCount; j++) {
+				if ((config.getDBDriver() == DBDriver.SQLITE) && (data[j] instanceof final Timestamp timestamp)) {
+					prepared.setString(pos, datetimeFormatter.format(timestamp.toLocalDateTime()));
+				} else if ((config.getDBDriver() == DBDriver.SQLITE) && (data[j] instanceof final Date date)) {
+					prepared.setString(pos, dateFormatter.format(date.toLocalDate()));
+				} else if ((config.getDBDriver() == DBDriver.SQLITE) && (data[j] instanceof final Time time)) {
+					prepared.setString(pos, timeFormatter.format(time.toLocalTime()));
+				} else {
+					prepared.setObject(pos, data[j]);
+				}
+				pos++;
+			}
+		}
+	}
+
+
+	/**
+	 * Diese Methode fügt alle übergebenen Entities in die angegebene Tabelle mit den übergebenen Spalten ein.
+	 * Im Gegensatz zu {@link #insertRangeNative(String, List, List, int, int)} wird dabei keine eigene Transaktion
+	 * gestartet, sondern die aktuelle Transaktion genutzt, so dass diese Methode zusammen mit anderen Änderungen
+	 * in einer Transaktion ausgeführt werden kann. Zuvor wird der Persistence-Kontext synchronisiert, damit
+	 * zuvor persistierte Entities (z.B. für Fremdschlüssel) bereits in der Datenbank vorhanden sind.
+	 * <br>
+	 * Die Datensätze werden mit INSERT-Anweisungen mit mehreren Datensätzen geschrieben. Die Anzahl der Datensätze
+	 * je Anweisung wird dabei durch die maximale Anzahl an Parametern des DBMS (siehe
+	 * {@link DBDriver#getMaxParameterProStatement()}) und die übergebene maximale Anzahl begrenzt. Für alle vollständigen
+	 * Blöcke wird dabei dasselbe Prepared-Statement wiederverwendet.
+	 *
+	 * @param tablename   der Name der Tabelle, in die eingefügt wird
+	 * @param colnames    die Liste mit den Spaltennamen, die zu der Reihenfolge der Object-Array-Elementen
+	 *                    der Entitäten passen muss
+	 * @param entities    die Liste mit den einzelnen Datensätzen in Form von Object-Arrays
+	 * @param maxRows     die maximale Anzahl an Datensätzen je INSERT-Anweisung
+	 *
+	 * @return die Anzahl der eingefügten Datensätze
+	 *
+	 * @throws DBException   falls beim Einfügen ein Fehler aufgetreten ist
+	 */
+	@SuppressWarnings("resource")
+	public int transactionInsertAllNative(final String tablename, final List<String> colnames, final List<Object[]> entities, final int maxRows)
+			throws DBException {
+		if ((colnames == null) || (tablename == null) || (colnames.isEmpty()))
+			throw new DBException("Ungültige Parameter beim Einfügen von Datensätzen in die Tabelle " + tablename);
+		if ((entities == null) || (entities.isEmpty()))
+			return 0;
+		final int rowsPerStatement = Math.max(1, Math.min(maxRows, config.getDBDriver().getMaxParameterProStatement() / colnames.size()));
+		final String prepCols = colnames.stream().map(col -> "?").collect(Collectors.joining(", ", "(", ")"));
+		final String prefix = "INSERT INTO " + tablename + "(" + colnames.stream().collect(Collectors.joining(", ")) + ") VALUES ";
+		try {
+			em.flush();
+			final Connection conn = em.unwrap(Connection.class);
+			int count = 0;
+			PreparedStatement prepared = null;
+			int preparedRows = -1;
+			try {
+				for (int first = 0; first < entities.size(); first += rowsPerStatement) {
+					final int last = Math.min(first + rowsPerStatement, entities.size()) - 1;
+					final int rows = last - first + 1;
+					if (rows != preparedRows) {
+						if (prepared != null)
+							prepared.close();
+						prepared = conn.prepareStatement(prefix + String.join(", ", Collections.nCopies(rows, prepCols)));
+						preparedRows = rows;
+					}
+					setPreparedParameter(prepared, colnames.size(), entities, first, last);
+					count += prepared.executeUpdate();
+				}
+			} finally {
+				if (prepared != null)
+					prepared.close();
+			}
+			return count;
+		} catch (SQLException | PersistenceException | IllegalStateException e) {
+			throw new DBException("Fehler beim Einfügen von Datensätzen in die Tabelle " + tablename, e);
+		}
+	}
+
+
+
+	/**
+	 * Diese Methode aktualisiert die übergebenen Datensätze in der angegebenen Tabelle. Dabei wird ein
+	 * Prepared-Statement genutzt, welches blockweise als JDBC-Batch ausgeführt wird. Die Werte in den
+	 * Object-Arrays entsprechen zunächst den zu setzenden Spalten und anschließend den Schlüssel-Spalten,
+	 * über welche die Datensätze identifiziert werden. Es wird keine eigene Transaktion gestartet, sondern
+	 * die aktuelle Transaktion genutzt. Zuvor wird der Persistence-Kontext synchronisiert.
+	 *
+	 * @param tablename   der Name der Tabelle, in welcher die Datensätze aktualisiert werden
+	 * @param colnames    die Liste mit den Namen der zu setzenden Spalten
+	 * @param keynames    die Liste mit den Namen der Schlüssel-Spalten
+	 * @param entities    die Liste mit den einzelnen Datensätzen in Form von Object-Arrays
+	 *
+	 * @return die Anzahl der aktualisierten Datensätze
+	 *
+	 * @throws DBException   falls beim Aktualisieren ein Fehler aufgetreten ist
+	 */
+	@SuppressWarnings("resource")
+	public int transactionUpdateAllNative(final String tablename, final List<String> colnames, final List<String> keynames, final List<Object[]> entities)
+			throws DBException {
+		if ((tablename == null) || (colnames == null) || (keynames == null) || colnames.isEmpty() || keynames.isEmpty())
+			throw new DBException("Ungültige Parameter beim Aktualisieren von Datensätzen in der Tabelle " + tablename);
+		if ((entities == null) || (entities.isEmpty()))
+			return 0;
+		final String sql = "UPDATE " + tablename + " SET " + colnames.stream().map(col -> col + " = ?").collect(Collectors.joining(", "))
+				+ " WHERE " + keynames.stream().map(col -> col + " = ?").collect(Collectors.joining(" AND "));
+		final int colCount = colnames.size() + keynames.size();
+		try {
+			em.flush();
+			final Connection conn = em.unwrap(Connection.class);
+			int count = 0;
+			try (PreparedStatement prepared = conn.prepareStatement(sql)) {
+				for (int first = 0; first < entities.size(); first += MAX_DATENSAETZE_PRO_BATCH) {
+					final int last = Math.min(first + MAX_DATENSAETZE_PRO_BATCH, entities.size()) - 1;
+					for (int i = first; i <= last; i++) {
+						setPreparedParameter(prepared, colCount, entities, i, i);
+						prepared.addBatch();
+					}
+					for (final int result : prepared.executeBatch())
+						count += (result == Statement.SUCCESS_NO_INFO) ? 1 : Math.max(result, 0);
+				}
+			}
+			return count;
+		} catch (SQLException | PersistenceException | IllegalStateException e) {
+			throw new DBException("Fehler beim Aktualisieren von Datensätzen in der Tabelle " + tablename, e);
+		}
+	}
+
 
 	private String toSQLStringWitEscapeSequences(final String str) {
 		if (str == null)
@@ -1087,6 +1308,30 @@ public final class DBEntityManager implements AutoCloseable {
 	}
 
 
+	/**
+	 * Führt eine benannte Anfrage mit einer IN-Bedingung (z.B. "DTOSchueler.id.multiple") für die übergebenen
+	 * Werte aus. Die Werte werden dabei in Blöcke von höchstens {@link #MAX_WERTE_IN_BEDINGUNG} Werten aufgeteilt,
+	 * so dass auch bei sehr vielen Werten die Grenzen des Datenbank-Treibers für die Anzahl der Parameter
+	 * nicht überschritten werden.
+	 *
+	 * @param <T>      die Klasse des Ergebnistyps
+	 * @param name     der Name der JPQL-Anfrage mit dem Parameter "value" für die IN-Bedingung
+	 * @param values   die Werte für die IN-Bedingung
+	 * @param cl       das Klassen-Objekt für den Ergebnistyp
+	 *
+	 * @return die Liste mit den Ergebnissen aller Blöcke
+	 */
+	public <T> List<T> queryNamedMultiple(final String name, final Collection<?> values, final Class<T> cl) {
+		final List<T> result = new ArrayList<>();
+		if ((values == null) || values.isEmpty())
+			return result;
+		final List<?> werte = new ArrayList<>(values);
+		for (int i = 0; i < werte.size(); i += MAX_WERTE_IN_BEDINGUNG)
+			result.addAll(queryNamed(name, werte.subList(i, Math.min(i + MAX_WERTE_IN_BEDINGUNG, werte.size())), cl));
+		return result;
+	}
+
+
 
 	/**
 	 * Stellt eine Datenbank-Anfrage für alle Datensätze vom angegebenen DTO-Typ
@@ -1120,6 +1365,40 @@ public final class DBEntityManager implements AutoCloseable {
 
 
 
+	/**
+	 * Stellt eine Anfrage für alle Datensätze vom angegebenen DTO-Typ unter Nutzung des {@link DBKatalogCache}.
+	 * Die zurückgegebenen Datensätze sind Kopien, welche nicht von dieser Verbindung verwaltet werden.
+	 * Änderungen an ihnen werden daher weder gespeichert noch an andere Anfragen weitergegeben. Für
+	 * Änderungen muss {@link #queryAll(Class)} genutzt werden.
+	 *
+	 * @param <T>     die DTO-Klasse
+	 * @param cl      das Klassen-Objekt für die DTO-Klasse
+	 *
+	 * @return die unveränderliche Liste mit den einzelnen Datensätzen
+	 */
+	public <T> List<T> queryAllCached(final Class<T> cl) {
+		return DBKatalogCache.get().queryAll(this, cl);
+	}
+
+
+
+	/**
+	 * Stellt eine Anfrage für den ersten Datensatz vom angegebenen DTO-Typ unter Nutzung des
+	 * {@link DBKatalogCache} und gibt diesen zurück. Sollte kein Datensatz vorhanden sein, so wird null
+	 * zurückgegeben. Der Datensatz wird nicht von dieser Verbindung verwaltet (siehe {@link #queryAllCached(Class)}).
+	 *
+	 * @param <T>     die DTO-Klasse
+	 * @param cl      das Klassen-Objekt für die DTO-Klasse
+	 *
+	 * @return der erste Datensatz oder null
+	 */
+	public <T> T querySingleCached(final Class<T> cl) {
+		final List<T> entries = queryAllCached(cl);
+		return entries.isEmpty() ? null : entries.get(0);
+	}
+
+
+
 	/**
 	 * Stellt eine Datenbank-Anfrage für den Datensatz vom angegebenen DTO-Typ
 	 * mit den übergebenen Werten des Primärschlüssels und gibt
@@ -1164,7 +1443,14 @@ public final class DBEntityManager implements AutoCloseable {
 
 
 	/**
-	 * Bestimmt für die übergebene DTOKlasse die nächste verfügbare Datenbank-ID
+	 * Bestimmt für die übergebene DTO-Klasse die nächste verfügbare Datenbank-ID und reserviert diese, so dass jeder
+	 * Aufruf eine neue ID liefert. Werden mehrere Datensätze eingefügt, so muss die Methode also für jeden Datensatz
+	 * aufgerufen werden. <br>
+	 * Bei MariaDB wird die ID ab Revision 16 aus einem Block von IDs vergeben, welcher über die {@link DBIDVergabe}
+	 * in einer eigenen Transaktion in der Tabelle Schema_AutoInkremente reserviert wurde. Ein Zugriff auf die Datenbank
+	 * erfolgt dann nur, wenn der Block aufgebraucht ist. Bei den anderen Datenbanken und bei Schemata mit einer älteren
+	 * Revision wird die ID hingegen in der aktuellen Transaktion reserviert, da deren Trigger den Maximalwert unter einen
+	 * reservierten Block verringern können bzw. die Wartezeit auf die Sperre der Zeile nicht beschränkt werden kann.
 	 *
 	 * @param <T>   der Typ der DtoKlasse
 	 * @param t     die DtoKlasse
@@ -1172,23 +1458,160 @@ public final class DBEntityManager implements AutoCloseable {
 	 * @return die nächste verfügbare ID
 	 */
 	public <T> long transactionGetNextID(final Class<T> t) {
-		final String tableName = t.getAnnotation(Table.class).name();
-		if (tableName == null)
+		final Table table = t.getAnnotation(Table.class);
+		if ((table == null) || (table.name() == null))
 			throw new NullPointerException("Die angegebene Klasse hat keine Tabellen-Annotation");
-		final Tabelle_Schema_AutoInkremente tabelleSvwsDbAutoInkremente = new Tabelle_Schema_AutoInkremente();
-		final String col_MaxID = tabelleSvwsDbAutoInkremente.col_MaxID.name();
-		final String tableAutoInkrementeName = tabelleSvwsDbAutoInkremente.name();
-		final Query q = em.createNativeQuery("SELECT " + col_MaxID + " FROM " + tableAutoInkrementeName + " WHERE nametabelle = ?tableName");
-		q.setParameter("tableName", tableName);
+		final String tableName = table.name();
+		final String pkName = getPrimaerschluesselSpalte(t);
+		if ((config.getDBDriver() != DBDriver.MARIA_DB) || tabellenMitIDSperre.contains(tableName)
+				|| !DBIDVergabe.get().istBlockvergabeMoeglich(getDBSchema(), this::getRevision))
+			return reserviereIDInAktuellerTransaktion(tableName, pkName);
+		final boolean transaktionAktiv = em.getTransaction().isActive();
+		try {
+			return DBIDVergabe.get().getNaechsteID(getDBSchema(), tableName,
+					anzahl -> reserviereIDsInEigenerTransaktion(tableName, pkName, anzahl, transaktionAktiv ? 1 : 2));
+		} catch (final PersistenceException e) {
+			// Die Zeile in Schema_AutoInkremente kann bereits durch die aktuelle Transaktion gesperrt sein, z.B. durch einen
+			// Trigger beim Einfügen einer größeren ID. Dann werden die IDs bis zum Ende der Transaktion ohne Block in der
+			// aktuellen Transaktion reserviert, damit nicht bei jeder weiteren ID erneut auf die eigene Sperre gewartet wird.
+			if (!transaktionAktiv)
+				throw e;
+			tabellenMitIDSperre.add(tableName);
+			return reserviereIDs(em, tableName, pkName, 1, "");
+		}
+	}
+
+
+	/**
+	 * Reserviert eine ID für die Tabelle in der aktuellen Transaktion. Ist keine Transaktion aktiv, so wird hierfür
+	 * mit {@link #transactionBegin()} eine eigene Transaktion gestartet und sofort abgeschlossen. Der
+	 * Persistence-Kontext bleibt dabei erhalten.
+	 *
+	 * @param tableName   der Name der Tabelle
+	 * @param pkName      der Name der Spalte des Primärschlüssels
+	 *
+	 * @return die reservierte ID
+	 */
+	private long reserviereIDInAktuellerTransaktion(final String tableName, final String pkName) {
+		if (em.getTransaction().isActive())
+			return reserviereIDs(em, tableName, pkName, 1, "");
+		transactionBegin();
 		try {
-			final Long currentID = (Long) q.getSingleResult();
-			return currentID == null ? 1 : currentID + 1;
+			final long id = reserviereIDs(em, tableName, pkName, 1, "");
+			em.getTransaction().commit();
+			return id;
+		} finally {
+			if (em.getTransaction().isActive())
+				em.getTransaction().rollback();
+			this.unlock();
+		}
+	}
+
+
+	/**
+	 * Liest die Revision des Schemas aus der Tabelle Schema_Status.
+	 *
+	 * @return die Revision oder -1, falls diese nicht bestimmt werden kann
+	 */
+	private long getRevision() {
+		try {
+			final Object revision = em.createNativeQuery("SELECT MAX(" + Schema.tab_Schema_Status.col_Revision.name() + ") FROM "
+					+ Schema.tab_Schema_Status.name()).getSingleResult();
+			return (revision instanceof final Number n) ? n.longValue() : -1;
 		} catch (@SuppressWarnings("unused") final NoResultException e) {
-			return 1;
+			return -1;
 		}
 	}
 
 
+	/**
+	 * Bestimmt den Namen der Spalte des Primärschlüssels der übergebenen DTO-Klasse anhand der Annotationen.
+	 *
+	 * @param t   die DTO-Klasse
+	 *
+	 * @return der Name der Spalte
+	 */
+	private static String getPrimaerschluesselSpalte(final Class<?> t) {
+		for (final Field field : t.getDeclaredFields()) {
+			if (!field.isAnnotationPresent(Id.class))
+				continue;
+			final Column column = field.getAnnotation(Column.class);
+			return ((column == null) || column.name().isEmpty()) ? field.getName() : column.name();
+		}
+		throw new IllegalArgumentException("Die Klasse %s hat keinen Primärschlüssel.".formatted(t.getSimpleName()));
+	}
+
+
+	/**
+	 * Reserviert in einer eigenen, sofort abgeschlossenen Transaktion die angegebene Anzahl an IDs für die Tabelle.
+	 * Hierfür wird ein eigener JPA-{@link EntityManager} genutzt, damit die Reservierung unabhängig von einem
+	 * Rollback der aktuellen Transaktion ist. Die Wartezeit auf die Sperre der Zeile wird auf
+	 * {@link #ID_RESERVIERUNG_WARTEZEIT_SEKUNDEN} Sekunden beschränkt, weshalb die Methode nur bei MariaDB genutzt wird. Schlägt die Reservierung fehl, z.B. weil parallel
+	 * der erste Eintrag der Tabelle in Schema_AutoInkremente erzeugt wurde, so wird sie bis zur angegebenen Anzahl an
+	 * Versuchen wiederholt. Hat der Aufrufer eine aktive Transaktion, welche die Zeile selbst sperren kann, so sollte
+	 * nur ein Versuch erfolgen, damit nicht mehrfach auf die eigene Sperre gewartet wird.
+	 *
+	 * @param tableName   der Name der Tabelle
+	 * @param pkName      der Name der Spalte des Primärschlüssels
+	 * @param anzahl      die Anzahl der zu reservierenden IDs
+	 * @param versuche    die maximale Anzahl an Versuchen
+	 *
+	 * @return die größte reservierte ID
+	 */
+	private long reserviereIDsInEigenerTransaktion(final String tableName, final String pkName, final int anzahl, final int versuche) {
+		final String praefix = "SET STATEMENT innodb_lock_wait_timeout = " + ID_RESERVIERUNG_WARTEZEIT_SEKUNDEN + " FOR ";
+		final EntityManager emReservierung = user.connectionManager.getNewJPAEntityManager();
+		try {
+			for (int versuch = 1;; versuch++) {
+				emReservierung.getTransaction().begin();
+				try {
+					final long maxID = reserviereIDs(emReservierung, tableName, pkName, anzahl, praefix);
+					emReservierung.getTransaction().commit();
+					return maxID;
+				} catch (final PersistenceException e) {
+					if (versuch >= versuche)
+						throw e;
+				} finally {
+					if (emReservierung.getTransaction().isActive())
+						emReservierung.getTransaction().rollback();
+				}
+			}
+		} finally {
+			emReservierung.close();
+		}
+	}
+
+
+	/**
+	 * Reserviert in der aktiven Transaktion des übergebenen {@link EntityManager} die angegebene Anzahl an IDs für
+	 * die Tabelle, indem der Maximalwert in Schema_AutoInkremente mit einer Anweisung erhöht wird. Die Zeile bleibt
+	 * damit bis zum Ende der Transaktion für andere Transaktionen gesperrt, so dass der anschließend gelesene
+	 * Maximalwert nur von dieser Transaktion stammt. Ist für die Tabelle noch kein Eintrag vorhanden, so wird dieser
+	 * auf Basis der größten vorhandenen ID erzeugt.
+	 *
+	 * @param em          der JPA-{@link EntityManager} mit der aktiven Transaktion
+	 * @param tableName   der Name der Tabelle
+	 * @param pkName      der Name der Spalte des Primärschlüssels
+	 * @param anzahl      die Anzahl der zu reservierenden IDs
+	 * @param praefix     ein Präfix für die ändernden SQL-Anweisungen, z.B. für die Beschränkung der Wartezeit auf Sperren
+	 *
+	 * @return die größte reservierte ID
+	 */
+	private static long reserviereIDs(final EntityManager em, final String tableName, final String pkName, final int anzahl, final String praefix) {
+		final Tabelle_Schema_AutoInkremente tab = new Tabelle_Schema_AutoInkremente();
+		final String colName = tab.col_NameTabelle.name();
+		final String colMaxID = tab.col_MaxID.name();
+		final int anzahlAktualisiert = em.createNativeQuery(praefix + "UPDATE " + tab.name() + " SET " + colMaxID + " = " + colMaxID + " + ?1 WHERE " + colName + " = ?2")
+				.setParameter(1, anzahl).setParameter(2, tableName).executeUpdate();
+		if (anzahlAktualisiert == 0)
+			em.createNativeQuery(praefix + "INSERT INTO " + tab.name() + "(" + colName + ", " + colMaxID + ") SELECT ?1, COALESCE(MAX(" + pkName + "), 0) + ?2 FROM " + tableName)
+					.setParameter(1, tableName).setParameter(2, anzahl).executeUpdate();
+		final Number maxID = (Number) em.createNativeQuery("SELECT " + colMaxID + " FROM " + tab.name() + " WHERE " + colName + " = ?1")
+				.setParameter(1, tableName).getSingleResult();
+		return maxID.longValue();
+	}
+
+
 	/**
 	 * Generische Methode zum Speichern von Daten
 	 *
@@ -0,0 +1,176 @@
+package de.svws_nrw.db;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import de.svws_nrw.db.schema.SchemaRevisionen;
+
+
+/**
+ * Diese Klasse vergibt pro Schema und Tabelle neue IDs für Datensätze. Die IDs werden blockweise in der
+ * Tabelle Schema_AutoInkremente reserviert, indem der dort gespeicherte Maximalwert in einer eigenen Transaktion
+ * um die Größe des Blocks erhöht wird. Anschließend werden die IDs des Blocks aus dem Speicher vergeben, so dass
+ * beim Einfügen mehrerer Datensätze nicht für jeden Datensatz ein Zugriff auf die Datenbank erfolgt. <br>
+ * Da der Maximalwert vor der Vergabe erhöht wird, überschneiden sich die IDs weder mit parallelen Anfragen oder
+ * anderen SVWS-Servern noch mit Anwendungen wie Schild3, welche die nächste ID ebenfalls aus Schema_AutoInkremente
+ * bestimmen. Die Trigger für das Auto-Inkrement erhöhen den Maximalwert nur bei größeren IDs und lassen reservierte
+ * Blöcke daher unverändert. Bei MariaDB nutzen sie hierfür erst ab Revision 16 GREATEST, da der zuvor im Trigger
+ * gelesene Maximalwert aufgrund der Isolation der Transaktion veraltet sein kann. Die Blockvergabe darf daher nur für
+ * Schemata ab dieser Revision genutzt werden (siehe {@link #istBlockvergabeMoeglich(String, LongSupplier)}). Bei
+ * anderen Datenbanken wird sie nicht genutzt, da z.B. der Trigger bei MSSQL den Maximalwert unbedingt setzt. Nicht
+ * genutzte IDs eines Blocks bleiben als Lücken frei, z.B. nach einem Neustart des Servers oder bei einem Rollback. <br>
+ * Wird ein Schema z.B. für eine Migration oder eine Wiederherstellung gesperrt, so müssen die Blöcke des Schemas
+ * mit {@link #invalidate(String)} verworfen werden.
+ */
+public final class DBIDVergabe {
+
+	/** Die Anzahl der IDs, die standardmäßig mit einem Zugriff auf die Datenbank für eine Tabelle reserviert werden */
+	public static final int DEFAULT_BLOCKGROESSE = 64;
+
+	/** Die Instanz der ID-Vergabe für die Anwendung */
+	private static final DBIDVergabe instance = new DBIDVergabe(DEFAULT_BLOCKGROESSE);
+
+	/**
+	 * Die Reservierung eines Blocks von IDs in der Datenbank.
+	 */
+	@FunctionalInterface
+	public interface Reservierung {
+
+		/**
+		 * Erhöht den Maximalwert der IDs einer Tabelle atomar um die angegebene Anzahl und gibt den neuen
+		 * Maximalwert zurück. Die Erhöhung muss dauerhaft gespeichert sein, bevor die Methode zurückkehrt.
+		 *
+		 * @param anzahl   die Anzahl der zu reservierenden IDs
+		 *
+		 * @return die größte reservierte ID
+		 */
+		long reserviere(int anzahl);
+
+	}
+
+	/** Der aktuell reservierte Block von IDs einer Tabelle */
+	private static final class Block {
+
+		/**
+		 * Die Sperre für den Zugriff auf den Block. Es wird kein synchronized-Block genutzt, da unter der
+		 * Sperre Datenbank-Zugriffe erfolgen, welche sonst bei virtuellen Threads den Träger-Thread blockieren würden.
+		 */
+		private final ReentrantLock sperre = new ReentrantLock();
+
+		/** Die nächste zu vergebende ID */
+		private long naechste = 1;
+
+		/** Die letzte ID des Blocks. Ist sie kleiner als {@link #naechste}, so ist der Block aufgebraucht. */
+		private long letzte = 0;
+
+	}
+
+	/** Die Blöcke der Schemata, zugeordnet zu dem Schema-Namen in Kleinbuchstaben und dem Tabellennamen */
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, Block>> schemata = new ConcurrentHashMap<>();
+
+	/** Gibt für die Schemata, zugeordnet zu dem Schema-Namen in Kleinbuchstaben, an, ob die Revision die Blockvergabe erlaubt */
+	private final ConcurrentHashMap<String, Boolean> schemataMitBlockvergabe = new ConcurrentHashMap<>();
+
+	/** Die Anzahl der IDs, die mit einem Zugriff auf die Datenbank reserviert werden */
+	private final int blockgroesse;
+
+
+	/**
+	 * Erzeugt eine neue ID-Vergabe ohne reservierte Blöcke.
+	 *
+	 * @param blockgroesse   die Anzahl der IDs, die mit einem Zugriff auf die Datenbank reserviert werden
+	 */
+	public DBIDVergabe(final int blockgroesse) {
+		if (blockgroesse < 1)
+			throw new IllegalArgumentException("Die Blockgröße muss mindestens 1 sein.");
+		this.blockgroesse = blockgroesse;
+	}
+
+
+	/**
+	 * Gibt die Instanz der ID-Vergabe für die Anwendung zurück.
+	 *
+	 * @return die Instanz der ID-Vergabe
+	 */
+	public static DBIDVergabe get() {
+		return instance;
+	}
+
+
+	/**
+	 * Prüft, ob die IDs für das angegebene Schema blockweise vergeben werden dürfen. Dies ist erst ab Revision 16
+	 * der Fall, da ältere Trigger für das Auto-Inkrement den Maximalwert unter einen reservierten Block verringern
+	 * können. Die Revision wird nur beim ersten Aufruf für das Schema bzw. nach {@link #invalidate(String)} gelesen.
+	 *
+	 * @param schema     der Name des Schemas
+	 * @param revision   liest die Revision des Schemas aus der Datenbank
+	 *
+	 * @return true, falls die Blockvergabe genutzt werden darf, und ansonsten false
+	 */
+	public boolean istBlockvergabeMoeglich(final String schema, final LongSupplier revision) {
+		if (schema == null)
+			return false;
+		final String key = schema.toLowerCase(Locale.ROOT);
+		Boolean erlaubt = schemataMitBlockvergabe.get(key);
+		if (erlaubt == null) {
+			erlaubt = revision.getAsLong() >= SchemaRevisionen.REV_16.revision;
+			schemataMitBlockvergabe.put(key, erlaubt);
+		}
+		return erlaubt;
+	}
+
+
+	/**
+	 * Gibt die nächste freie ID für die angegebene Tabelle des Schemas zurück. Ist der aktuelle Block der
+	 * Tabelle aufgebraucht, so wird über die übergebene Reservierung ein neuer Block in der Datenbank reserviert.
+	 * Parallele Aufrufe für dieselbe Tabelle warten währenddessen auf die Reservierung.
+	 *
+	 * @param schema         der Name des Schemas
+	 * @param tabelle        der Name der Tabelle
+	 * @param reservierung   die Reservierung eines neuen Blocks in der Datenbank
+	 *
+	 * @return die ID
+	 */
+	public long getNaechsteID(final String schema, final String tabelle, final Reservierung reservierung) {
+		final Block block = schemata.computeIfAbsent(schema.toLowerCase(Locale.ROOT), k -> new ConcurrentHashMap<>())
+				.computeIfAbsent(tabelle.toLowerCase(Locale.ROOT), k -> new Block());
+		block.sperre.lock();
+		try {
+			if (block.naechste > block.letzte) {
+				final long letzte = reservierung.reserviere(blockgroesse);
+				block.naechste = letzte - blockgroesse + 1;
+				block.letzte = letzte;
+			}
+			return block.naechste++;
+		} finally {
+			block.sperre.unlock();
+		}
+	}
+
+
+	/**
+	 * Verwirft die reservierten Blöcke des angegebenen Schemas. Die noch nicht vergebenen IDs bleiben als
+	 * Lücken frei. Beim nächsten Zugriff wird auch die Revision des Schemas erneut geprüft.
+	 *
+	 * @param schema   der Name des Schemas
+	 */
+	public void invalidate(final String schema) {
+		if (schema == null)
+			return;
+		final String key = schema.toLowerCase(Locale.ROOT);
+		schemata.remove(key);
+		schemataMitBlockvergabe.remove(key);
+	}
+
+
+	/**
+	 * Verwirft die reservierten Blöcke aller Schemata.
+	 */
+	public void invalidateAll() {
+		schemata.clear();
+		schemataMitBlockvergabe.clear();
+	}
+
+}
@@ -0,0 +1,427 @@
+package de.svws_nrw.db;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import de.svws_nrw.db.schema.Schema;
+import de.svws_nrw.db.schema.SchemaRevisionen;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+import jakarta.persistence.Table;
+
+
+/**
+ * Dieser Cache speichert pro Schema den Inhalt selten geänderter Tabellen (z.B. EigeneSchule oder Kataloge
+ * wie die Jahrgänge und Fächer) zwischen. <br>
+ * Die Gültigkeit eines Eintrags wird bei jedem Zugriff über einen Änderungszähler in der Tabelle
+ * Schema_Aenderungen geprüft, welcher von Triggern in der Datenbank bei jeder Änderung an der Tabelle erhöht wird.
+ * Dadurch werden auch Änderungen durch andere Anwendungen wie Schild3 erkannt. Statt der gesamten Tabelle wird
+ * also nur der Zähler über die Verbindung des Aufrufers gelesen. Da die Trigger den Zähler einer Tabelle auf mehrere
+ * Zeilen verteilen, ist der Zählerstand die Summe über diese Zeilen. <br>
+ * Der Cache wird nur für MariaDB-Schemata ab der Revision {@link SchemaRevisionen#REV_13} genutzt, da nur dort die
+ * Trigger vorhanden sind. Ansonsten, d.h. auch bei älteren Schemata oder wenn die Revision nicht bestimmt werden
+ * kann, sowie bei Tabellen ohne Änderungszähler erfolgt immer eine direkte Abfrage und es wird kein Versionsstand
+ * bestimmt. Welche Tabellen einen Änderungszähler haben, hängt von der Revision des Schemas ab. <br>
+ * Über {@link #getVersion(DBEntityManager, List)} können die Zählerstände außerdem als Versionsstand für aus
+ * mehreren Tabellen zusammengesetzte Daten genutzt werden, z.B. für ETags bei der API. <br>
+ * Die zwischengespeicherten Objekte werden nicht herausgegeben. Jeder Aufrufer erhält eine unveränderliche Liste
+ * mit flachen Kopien, so dass Änderungen eines Aufrufers an den Objekten den Cache und andere Anfragen nicht
+ * beeinflussen. Die Kopien sind nicht mit einem Entity-Manager verbunden.
+ */
+public final class DBKatalogCache {
+
+	/** Die Instanz des Caches für die Anwendung */
+	private static final DBKatalogCache instance = new DBKatalogCache(Set.of(DBDriver.MARIA_DB));
+
+	/** Ein Eintrag mit dem Stand des Änderungszählers und den zu diesem Stand gelesenen Datensätzen */
+	private record Eintrag(long zaehler, List<?> daten) {
+		// kein weiterer Inhalt
+	}
+
+	/** Die Einträge eines Schemas, zugeordnet zu dem Tabellennamen */
+	private static final class SchemaEintraege {
+
+		/**
+		 * Die Namen der Tabellen, für welche in dem Schema ein Änderungszähler geführt wird, oder null, falls dies noch
+		 * nicht geprüft wurde. Ist die Menge leer, so kann der Cache für das Schema nicht genutzt werden.
+		 */
+		private volatile Set<String> tabellenMitZaehler = null;
+
+		/** Die Revision des Schemas, welche beim ersten Zugriff auf das Schema gelesen wurde, oder -1 */
+		private volatile long revision = -1;
+
+		/** Die Einträge, zugeordnet zu dem Tabellennamen */
+		private final ConcurrentHashMap<String, Eintrag> eintraege = new ConcurrentHashMap<>();
+
+	}
+
+	/**
+	 * Die Informationen zum Kopieren der Objekte einer DTO-Klasse.
+	 *
+	 * @param konstruktor   der parameterlose Konstruktor der DTO-Klasse
+	 * @param attribute     die zu kopierenden Attribute der DTO-Klasse
+	 */
+	private record Kopierer(Constructor<?> konstruktor, List<Field> attribute) {
+		// kein weiterer Inhalt
+	}
+
+	/** Die Informationen zum Kopieren der Objekte, zugeordnet zu der DTO-Klasse */
+	private static final ConcurrentHashMap<Class<?>, Kopierer> kopierer = new ConcurrentHashMap<>();
+
+	/** Die Zähler für Treffer und Fehlschläge einer Tabelle */
+	private static final class Zaehler {
+
+		/** Die Anzahl der Zugriffe, die aus dem Cache beantwortet wurden */
+		private final LongAdder treffer = new LongAdder();
+
+		/** Die Anzahl der Zugriffe, bei denen die Daten aus der Datenbank gelesen wurden */
+		private final LongAdder fehlschlaege = new LongAdder();
+
+	}
+
+	/**
+	 * Die Kennzahlen des Caches für eine Tabelle über alle Schemata hinweg.
+	 *
+	 * @param tabelle        der Name der Tabelle
+	 * @param treffer        die Anzahl der Zugriffe, die aus dem Cache beantwortet wurden
+	 * @param fehlschlaege   die Anzahl der Zugriffe, bei denen die Daten aus der Datenbank gelesen wurden
+	 */
+	public record Kennzahlen(String tabelle, long treffer, long fehlschlaege) {
+		// kein weiterer Inhalt
+	}
+
+	/** Die Einträge der Schemata, zugeordnet zu dem Schema-Namen in Kleinbuchstaben */
+	private final ConcurrentHashMap<String, SchemaEintraege> schemata = new ConcurrentHashMap<>();
+
+	/** Die Zähler für Treffer und Fehlschläge, zugeordnet zu dem Tabellennamen */
+	private final ConcurrentHashMap<String, Zaehler> statistik = new ConcurrentHashMap<>();
+
+	/** Die Anzahl der bisherigen Aufrufe von {@link #invalidate(String)} und {@link #invalidateAll()} */
+	private final AtomicLong invalidierungen = new AtomicLong();
+
+	/** Die DBMS, bei denen die Änderungszähler von Triggern gepflegt werden */
+	private final Set<DBDriver> dbmsMitZaehler;
+
+
+	/**
+	 * Erstellt einen neuen Cache für Schemata der angegebenen DBMS. Für die Anwendung wird nur eine Instanz für
+	 * MariaDB erzeugt. Bei Tests können auch andere DBMS angegeben werden, wenn die Änderungszähler dort von Hand
+	 * gepflegt werden.
+	 *
+	 * @param dbmsMitZaehler   die DBMS, bei denen die Änderungszähler gepflegt werden
+	 */
+	DBKatalogCache(final Set<DBDriver> dbmsMitZaehler) {
+		this.dbmsMitZaehler = dbmsMitZaehler;
+	}
+
+
+	/**
+	 * Gibt die Instanz des Caches für die Anwendung zurück.
+	 *
+	 * @return die Instanz des Caches
+	 */
+	public static DBKatalogCache get() {
+		return instance;
+	}
+
+
+	/**
+	 * Gibt alle Datensätze vom angegebenen DTO-Typ zurück. Ist für die zugehörige Tabelle ein Eintrag mit
+	 * aktuellem Änderungszähler vorhanden, so wird dieser zurückgegeben, ansonsten werden die Daten über
+	 * eine eigene Verbindung gelesen und gespeichert. Diese wird wie jede andere Verbindung im Pool des
+	 * Verbindungs-Managers belegt, wobei ein bereits von dem Thread belegter Zugriff mitgenutzt wird. Sieht die Verbindung des Aufrufers einen anderen
+	 * Zählerstand als die eigene Verbindung (z.B. bei eigenen, noch nicht abgeschlossenen Änderungen in einer
+	 * Transaktion), so wird die Anfrage über die Verbindung des Aufrufers beantwortet. Aus dem Cache werden
+	 * immer Kopien der Datensätze zurückgegeben.
+	 *
+	 * @param <T>    die DTO-Klasse
+	 * @param conn   die Datenbank-Verbindung des Aufrufers
+	 * @param cl     das Klassen-Objekt für die DTO-Klasse
+	 *
+	 * @return die unveränderliche Liste mit den Datensätzen
+	 */
+	@SuppressWarnings("unchecked")
+	<T> List<T> queryAll(final DBEntityManager conn, final Class<T> cl) {
+		final Table table = cl.getAnnotation(Table.class);
+		final SchemaEintraege se = getSchemaEintraege(conn);
+		if ((table == null) || (se == null) || !se.tabellenMitZaehler.contains(table.name()))
+			return Collections.unmodifiableList(conn.queryAll(cl));
+		final String tabelle = table.name();
+		final Zaehler zaehler = statistik.computeIfAbsent(tabelle, t -> new Zaehler());
+
+		// Prüfe den Eintrag anhand des Zählerstands, welchen der Aufrufer sieht
+		final long zaehlerAufrufer = getZaehler(conn.em, tabelle);
+		final Eintrag eintrag = se.eintraege.get(tabelle);
+		if ((eintrag != null) && (eintrag.zaehler() == zaehlerAufrufer)) {
+			zaehler.treffer.increment();
+			return kopiere(cl, (List<T>) eintrag.daten());
+		}
+		zaehler.fehlschlaege.increment();
+
+		// Lese die Daten über einen eigenen Entity-Manager, damit keine Änderungen aus einer Transaktion des Aufrufers
+		// zwischengespeichert werden. Der Zähler muss dabei vor den Daten gelesen werden: Ändern sich die Daten
+		// zwischenzeitlich, so passt der gespeicherte Zähler nicht mehr und der Eintrag wird beim nächsten Zugriff ersetzt.
+		final ConnectionManager manager = conn.getUser().connectionManager;
+		final ConnectionManager.Belegung belegung = manager.belegen();
+		final Eintrag neu;
+		try {
+			final EntityManager em = manager.getNewJPAEntityManager();
+			try {
+				final long zaehlerNeu = getZaehler(em, tabelle);
+				final List<T> daten = em.createNamedQuery(cl.getSimpleName() + ".all", cl).getResultList();
+				neu = new Eintrag(zaehlerNeu, Collections.unmodifiableList(new ArrayList<>(daten)));
+			} finally {
+				em.clear();
+				em.close();
+			}
+		} finally {
+			manager.freigeben(belegung);
+		}
+		se.eintraege.put(tabelle, neu);
+		if (neu.zaehler() == zaehlerAufrufer)
+			return kopiere(cl, (List<T>) neu.daten());
+		return Collections.unmodifiableList(conn.queryAll(cl));
+	}
+
+
+	/**
+	 * Erstellt eine unveränderliche Liste mit flachen Kopien der übergebenen zwischengespeicherten Datensätze.
+	 * Kopiert werden alle nicht-statischen Attribute der DTO-Klasse, wobei von JPA ergänzte Attribute übersprungen
+	 * werden. Da die Attribute der DTOs nur Strings, Zahlen, Wahrheitswerte und andere unveränderliche Werte
+	 * enthalten, genügt eine flache Kopie.
+	 *
+	 * @param <T>     die DTO-Klasse
+	 * @param cl      das Klassen-Objekt für die DTO-Klasse
+	 * @param daten   die zwischengespeicherten Datensätze
+	 *
+	 * @return die unveränderliche Liste mit den Kopien
+	 */
+	private static <T> List<T> kopiere(final Class<T> cl, final List<T> daten) {
+		final Kopierer k = kopierer.computeIfAbsent(cl, DBKatalogCache::erzeugeKopierer);
+		final List<T> result = new ArrayList<>(daten.size());
+		try {
+			for (final T dto : daten) {
+				final T kopie = cl.cast(k.konstruktor().newInstance());
+				for (final Field f : k.attribute())
+					f.set(kopie, f.get(dto));
+				result.add(kopie);
+			}
+		} catch (final ReflectiveOperationException e) {
+			throw new IllegalStateException("Die Datensätze der Klasse " + cl.getSimpleName() + " konnten nicht kopiert werden.", e);
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+
+	/**
+	 * Bestimmt den parameterlosen Konstruktor und die zu kopierenden Attribute der angegebenen DTO-Klasse.
+	 *
+	 * @param cl   das Klassen-Objekt für die DTO-Klasse
+	 *
+	 * @return die Informationen zum Kopieren der Objekte
+	 */
+	private static Kopierer erzeugeKopierer(final Class<?> cl) {
+		try {
+			final Constructor<?> konstruktor = cl.getDeclaredConstructor();
+			konstruktor.setAccessible(true);
+			final List<Field> attribute = new ArrayList<>();
+			for (final Field f : cl.getDeclaredFields()) {
+				if (Modifier.isStatic(f.getModifiers()) || f.getName().startsWith("_persistence_"))
+					continue;
+				f.setAccessible(true);
+				attribute.add(f);
+			}
+			return new Kopierer(konstruktor, attribute);
+		} catch (final NoSuchMethodException e) {
+			throw new IllegalStateException("Die Klasse " + cl.getSimpleName() + " hat keinen parameterlosen Konstruktor.", e);
+		}
+	}
+
+
+	/**
+	 * Gibt die Einträge des Schemas der übergebenen Verbindung zurück oder null, falls der Cache für das
+	 * Schema nicht genutzt werden kann. Die Prüfung erfolgt nur beim ersten Zugriff auf das Schema.
+	 *
+	 * @param conn   die Datenbank-Verbindung
+	 *
+	 * @return die Einträge des Schemas oder null
+	 */
+	private SchemaEintraege getSchemaEintraege(final DBEntityManager conn) {
+		final SchemaEintraege se = pruefeSchema(conn);
+		return ((se == null) || se.tabellenMitZaehler.isEmpty()) ? null : se;
+	}
+
+
+	/**
+	 * Gibt die Einträge des Schemas der übergebenen Verbindung zurück oder null, falls bei dem DBMS keine
+	 * Änderungszähler gepflegt werden. Beim ersten Zugriff auf das Schema werden dessen Revision und die
+	 * Tabellen mit Änderungszählern bestimmt.
+	 *
+	 * @param conn   die Datenbank-Verbindung
+	 *
+	 * @return die Einträge des Schemas oder null
+	 */
+	private SchemaEintraege pruefeSchema(final DBEntityManager conn) {
+		final String schema = conn.getDBSchema();
+		if ((schema == null) || !dbmsMitZaehler.contains(conn.getDBDriver()))
+			return null;
+		final SchemaEintraege se = schemata.computeIfAbsent(schema.toLowerCase(Locale.ROOT), s -> new SchemaEintraege());
+		if (se.tabellenMitZaehler == null) {
+			final long revision = leseRevision(conn.em);
+			se.revision = revision;
+			se.tabellenMitZaehler = (revision >= SchemaRevisionen.REV_13.revision) ? Schema.tab_Schema_Aenderungen.getTabellenMitZaehler(revision) : Set.of();
+		}
+		return se;
+	}
+
+
+	/**
+	 * Gibt die Revision des Schemas der übergebenen Verbindung zurück. Diese wird nur beim ersten Zugriff auf
+	 * das Schema bzw. nach einer Invalidierung gelesen. Werden bei dem DBMS keine Änderungszähler gepflegt oder
+	 * kann die Revision nicht bestimmt werden, so wird -1 zurückgegeben.
+	 *
+	 * @param conn   die Datenbank-Verbindung
+	 *
+	 * @return die Revision des Schemas oder -1
+	 */
+	public long getRevision(final DBEntityManager conn) {
+		final SchemaEintraege se = pruefeSchema(conn);
+		return (se == null) ? -1 : se.revision;
+	}
+
+
+	/**
+	 * Liest die Revision des Schemas aus der Tabelle Schema_Status. Kann diese nicht bestimmt werden, z.B. weil die
+	 * Tabelle fehlt, so wird -1 zurückgegeben und der Cache für das Schema nicht genutzt.
+	 *
+	 * @param em   der Entity-Manager
+	 *
+	 * @return die Revision oder -1
+	 */
+	private static long leseRevision(final EntityManager em) {
+		final Query q = em.createNativeQuery("SELECT MAX(" + Schema.tab_Schema_Status.col_Revision.name() + ") FROM " + Schema.tab_Schema_Status.name());
+		try {
+			final Object revision = q.getSingleResult();
+			return (revision instanceof final Number n) ? n.longValue() : -1;
+		} catch (@SuppressWarnings("unused") final PersistenceException e) {
+			return -1;
+		}
+	}
+
+
+	/**
+	 * Bestimmt den Zählerstand der Tabelle als Summe über die Zeilen, auf welche die Trigger den Zähler verteilen.
+	 *
+	 * @param em        der Entity-Manager
+	 * @param tabelle   der Name der Tabelle
+	 *
+	 * @return der Zählerstand oder 0, falls noch keine Änderung gezählt wurde
+	 */
+	private static long getZaehler(final EntityManager em, final String tabelle) {
+		final Query q = em.createNativeQuery("SELECT SUM(" + Schema.tab_Schema_Aenderungen.col_Zaehler.name() + ") FROM "
+				+ Schema.tab_Schema_Aenderungen.name() + " WHERE " + Schema.tab_Schema_Aenderungen.col_NameTabelle.name() + " = ?tableName");
+		q.setParameter("tableName", tabelle);
+		final Object zaehler = q.getSingleResult();
+		return (zaehler instanceof final Number n) ? n.longValue() : 0;
+	}
+
+
+	/**
+	 * Bestimmt einen Versionsstand für Daten, welche aus den Tabellen zu den angegebenen DTO-Klassen gelesen werden.
+	 * Hierfür werden die Änderungszähler dieser Tabellen über die Verbindung des Aufrufers mit einer Abfrage gelesen
+	 * und pro Tabelle über die Zeilen summiert.
+	 * Der Versionsstand ändert sich, sobald sich eine der Tabellen ändert oder die Einträge des Schemas verworfen
+	 * werden. Kann der Cache für das Schema nicht genutzt werden oder hat eine der Tabellen keinen Änderungszähler,
+	 * so wird null zurückgegeben.
+	 *
+	 * @param conn         die Datenbank-Verbindung des Aufrufers
+	 * @param dtoKlassen   die DTO-Klassen der Tabellen, aus denen die Daten gelesen werden
+	 *
+	 * @return der Versionsstand oder null
+	 */
+	public String getVersion(final DBEntityManager conn, final List<Class<?>> dtoKlassen) {
+		final SchemaEintraege se = getSchemaEintraege(conn);
+		if (se == null)
+			return null;
+		final List<String> tabellen = new ArrayList<>();
+		for (final Class<?> cl : dtoKlassen) {
+			final Table table = cl.getAnnotation(Table.class);
+			if ((table == null) || !se.tabellenMitZaehler.contains(table.name()))
+				return null;
+			tabellen.add(table.name());
+		}
+		final Map<String, Long> zaehler = new HashMap<>();
+		final Query q = conn.em.createNativeQuery("SELECT " + Schema.tab_Schema_Aenderungen.col_NameTabelle.name() + ", "
+				+ "SUM(" + Schema.tab_Schema_Aenderungen.col_Zaehler.name() + ") FROM " + Schema.tab_Schema_Aenderungen.name()
+				+ " GROUP BY " + Schema.tab_Schema_Aenderungen.col_NameTabelle.name());
+		for (final Object row : q.getResultList())
+			if ((row instanceof final Object[] werte) && (werte[0] instanceof final String tabelle) && (werte[1] instanceof final Number n))
+				zaehler.put(tabelle.toLowerCase(Locale.ROOT), n.longValue());
+		final StringBuilder version = new StringBuilder().append(invalidierungen.get());
+		for (final String tabelle : tabellen)
+			version.append('.').append(zaehler.getOrDefault(tabelle.toLowerCase(Locale.ROOT), 0L));
+		return version.toString();
+	}
+
+
+	/**
+	 * Verwirft alle Einträge des angegebenen Schemas, z.B. bei einem Update, einer Migration oder einem
+	 * Import des Schemas. Beim nächsten Zugriff wird auch die Revision des Schemas erneut geprüft.
+	 *
+	 * @param schema   der Name des Schemas
+	 */
+	public void invalidate(final String schema) {
+		if (schema != null)
+			schemata.remove(schema.toLowerCase(Locale.ROOT));
+		invalidierungen.incrementAndGet();
+	}
+
+
+	/**
+	 * Verwirft alle Einträge aller Schemata.
+	 */
+	public void invalidateAll() {
+		schemata.clear();
+		invalidierungen.incrementAndGet();
+	}
+
+
+	/**
+	 * Gibt die Anzahl der bisherigen Invalidierungen zurück. Andere Caches, welche aus den Daten eines Schemas
+	 * abgeleitete Inhalte zwischenspeichern, können hierüber erkennen, dass ein Schema z.B. durch ein Update, eine
+	 * Migration oder einen Import neu befüllt wurde und ihre Einträge verwerfen müssen.
+	 *
+	 * @return die Anzahl der bisherigen Invalidierungen
+	 */
+	public long getInvalidierungen() {
+		return invalidierungen.get();
+	}
+
+
+	/**
+	 * Gibt die Kennzahlen für die Treffer und Fehlschläge des Caches pro Tabelle zurück.
+	 *
+	 * @return die Liste der Kennzahlen, sortiert nach dem Tabellennamen
+	 */
+	public List<Kennzahlen> getKennzahlen() {
+		final Map<String, Zaehler> sortiert = new TreeMap<>(statistik);
+		final List<Kennzahlen> result = new ArrayList<>();
+		for (final Map.Entry<String, Zaehler> e : sortiert.entrySet())
+			result.add(new Kennzahlen(e.getKey(), e.getValue().treffer.sum(), e.getValue().fehlschlaege.sum()));
+		return result;
+	}
+
+}
@@ -0,0 +1,44 @@
+package de.svws_nrw.db;
+
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+
+import de.svws_nrw.metriken.AnfrageMetriken;
+
+/**
+ * Dieser Listener wird vom {@link ConnectionManager} bei jeder EclipseLink-Session registriert und
+ * misst die Anzahl und die Dauer der SQL-Anweisungen, welche über JPA ausgeführt werden. Die Werte
+ * werden über {@link AnfrageMetriken#registriereSQL(long)} der aktuellen Anfrage des Threads zugeordnet.
+ * Anweisungen, welche direkt über eine JDBC-Verbindung ausgeführt werden, werden nicht erfasst.
+ */
+public final class DBMetrikenListener extends SessionEventAdapter {
+
+	/** Der Zeitpunkt gemäß {@link System#nanoTime()}, zu dem die aktuelle SQL-Anweisung des Threads gestartet wurde, 0 falls keine läuft */
+	private static final ThreadLocal<long[]> start = ThreadLocal.withInitial(() -> new long[1]);
+
+
+	/**
+	 * Erzeugt einen neuen Listener. Der Listener wird von EclipseLink über die Eigenschaft
+	 * "eclipselink.session-event-listener" erzeugt.
+	 */
+	public DBMetrikenListener() {
+		// kein weiterer Inhalt
+	}
+
+
+	@Override
+	public void preExecuteCall(final SessionEvent event) {
+		start.get()[0] = System.nanoTime();
+	}
+
+
+	@Override
+	public void postExecuteCall(final SessionEvent event) {
+		final long[] s = start.get();
+		if (s[0] == 0)
+			return;
+		AnfrageMetriken.registriereSQL(System.nanoTime() - s[0]);
+		s[0] = 0;
+	}
+
+}
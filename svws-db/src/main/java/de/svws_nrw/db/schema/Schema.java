@@ -163,6 +163,7 @@ import de.svws_nrw.db.schema.tabellen.Tabelle_Personengruppen_Personen;
 import de.svws_nrw.db.schema.tabellen.Tabelle_Religionen_Keys;
 import de.svws_nrw.db.schema.tabellen.Tabelle_Client_Konfiguration_Benutzer;
 import de.svws_nrw.db.schema.tabellen.Tabelle_Client_Konfiguration_Global;
+import de.svws_nrw.db.schema.tabellen.Tabelle_Schema_Aenderungen;
 import de.svws_nrw.db.schema.tabellen.Tabelle_Schema_Core_Type_Versionen;
 import de.svws_nrw.db.schema.tabellen.Tabelle_Schema_AutoInkremente;
 import de.svws_nrw.db.schema.tabellen.Tabelle_Schema_Status;
@@ -938,6 +939,9 @@ public final class Schema {
     /** Tabelle EigeneSchule_Email */
     public static final Tabelle_EigeneSchule_Email tab_EigeneSchule_Email = add(new Tabelle_EigeneSchule_Email());
 
+    /** Tabelle Schema_Aenderungen */
+    public static final Tabelle_Schema_Aenderungen tab_Schema_Aenderungen = add(new Tabelle_Schema_Aenderungen());
+
 
     /**
      * Liefert die SQL-Befehle zum Anlegen von Default-SVWS-Benutzern
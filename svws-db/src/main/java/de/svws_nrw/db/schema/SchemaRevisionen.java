@@ -6,6 +6,8 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import de.svws_nrw.db.schema.revisionen.Revision11Updates;
+import de.svws_nrw.db.schema.revisionen.Revision16Updates;
+import de.svws_nrw.db.schema.revisionen.Revision17Updates;
 import de.svws_nrw.db.schema.revisionen.Revision1Updates;
 import de.svws_nrw.db.schema.revisionen.Revision2Updates;
 import de.svws_nrw.db.schema.revisionen.Revision3Updates;
@@ -105,7 +107,39 @@ public enum SchemaRevisionen {
 	/**
 	 * Ergänzen weitere Indizes zur Optimierung von Datenbankzugriffen
 	 */
-	REV_12(12, "2024-03-09");
+	REV_12(12, "2024-03-09"),
+
+	// Die folgenden Revisionen sind Entwickler-Revisionen. Ihr Datum ist vorläufig und wird erst bei der Freigabe
+	// als stabile Revision festgelegt.
+
+	/**
+	 * Hinzufügen der Tabelle Schema_Aenderungen mit Triggern für das Zählen von Änderungen an selten geänderten
+	 * Tabellen, damit zwischengespeicherte Daten bei Änderungen invalidiert werden können
+	 */
+	REV_13(13, "2024-03-16"),
+
+	/**
+	 * Ergänzen von Indizes für die Abfrage von Kalendereinträgen bei CalDAV-Anfragen
+	 */
+	REV_14(14, "2024-03-23"),
+
+	/**
+	 * Ergänzen von Änderungszählern für die Tabellen der Stundenpläne und der Klausurplanung, damit
+	 * Abfragen dieser Daten über die API mit ETags auf Basis der Zählerstände bedingt erfolgen können
+	 */
+	REV_15(15, "2024-03-30"),
+
+	/**
+	 * Neuerstellung der Trigger für die Auto-Inkremente bei MariaDB, so dass die MaxID in der Tabelle
+	 * Schema_AutoInkremente auch bei parallel reservierten ID-Blöcken nicht mehr verringert wird
+	 */
+	REV_16(16, "2024-04-06"),
+
+	/**
+	 * Neuerstellung der Trigger für die Sync-Tokens von CardDAV, so dass Änderungen von bzw. auf NULL-Werte
+	 * beim Vergleich der alten und neuen Werte erkannt werden
+	 */
+	REV_17(17, "2024-04-13");
 
 
 	/**
@@ -120,7 +154,7 @@ public enum SchemaRevisionen {
 	 * Dies dient dazu Revisionen als Entwickler-Revisionen zu kennzeichnen, die noch nicht
 	 * stabil sind. Dieser Wert ist also größer oder gleich {@link SchemaRevisionen#maxRevision}.
 	 */
-	public static final SchemaRevisionen maxDeveloperRevision = REV_12;
+	public static final SchemaRevisionen maxDeveloperRevision = REV_17;
 
 	/** Eine Map, welche von der Revisionsnummer auf das Objekt der Aufzählung abbildet. */
 	private static Map<Long, SchemaRevisionen> _mapByNumber = null;
@@ -187,6 +221,8 @@ public enum SchemaRevisionen {
 	            case REV_4 -> new Revision4Updates();
 	            case REV_6 -> new Revision6Updates();
 	            case REV_11 -> new Revision11Updates();
+	            case REV_16 -> new Revision16Updates();
+	            case REV_17 -> new Revision17Updates();
 	            default -> new RevisionNoUpdates(this);
 	        };
 	    }
@@ -739,7 +739,12 @@ public class SchemaTabelle {
 
 
 	/**
-	 * Erstellt die SQL-Skripte zum Erstellen oder Entfernen von Triggern für das Auto-Inkrement
+	 * Erstellt die SQL-Skripte zum Erstellen oder Entfernen von Triggern für das Auto-Inkrement.
+	 * Bei MariaDB wird die MaxID in der Tabelle Schema_AutoInkremente nur über GREATEST erhöht, damit parallele
+	 * Transaktionen, welche IDs über die Blockvergabe reserviert haben, die MaxID nicht auf einen veralteten Wert
+	 * zurücksetzen (siehe Revision 16). Der Eintrag wird dabei ohne FOR UPDATE gelesen, so dass Einfügungen mit einer
+	 * bereits reservierten ID die Zeile nicht bis zum Ende ihrer Transaktion sperren. Wird die ID über den Trigger
+	 * bestimmt, so wird die MaxID zuerst erhöht und dann gelesen, damit kein veralteter Wert genutzt wird.
 	 *
 	 * @param dbms     das DBMS für welches das Skript angefragt wird
      * @param rev      die Revision, für welche die Trigger der Tabelle erzeugt oder entfernt werden sollen
@@ -774,10 +779,11 @@ public class SchemaTabelle {
 						+ "    INSERT INTO Schema_AutoInkremente(NameTabelle, MaxID) VALUES ('" + tab + "', tmpID);" + newline
 						+ "  END IF;" + newline
 						+ "  IF NEW." + spalte + " < 0 THEN" + newline
-						+ "    SET NEW." + spalte + " = tmpID + 1;" + newline
-						+ "  END IF;" + newline
-						+ "  IF NEW." + spalte + " > tmpID THEN" + newline
-						+ "    UPDATE Schema_AutoInkremente SET MaxID = NEW." + spalte + " WHERE NameTabelle='" + tab + "';" + newline
+						+ "    UPDATE Schema_AutoInkremente SET MaxID = MaxID + 1 WHERE NameTabelle='" + tab + "';" + newline
+						+ "    SELECT MaxID INTO tmpID FROM Schema_AutoInkremente WHERE NameTabelle='" + tab + "';" + newline
+						+ "    SET NEW." + spalte + " = tmpID;" + newline
+						+ "  ELSEIF NEW." + spalte + " > tmpID THEN" + newline
+						+ "    UPDATE Schema_AutoInkremente SET MaxID = GREATEST(MaxID, NEW." + spalte + ") WHERE NameTabelle='" + tab + "';" + newline
 						+ "  END IF;" + newline
 						+ "END" + newline
 				);
@@ -796,10 +802,11 @@ public class SchemaTabelle {
 						+ "      INSERT INTO Schema_AutoInkremente(NameTabelle, MaxID) VALUES ('" + tab + "', tmpID);" + newline
 						+ "    END IF;" + newline
 						+ "    IF NEW." + spalte + " < 0 THEN" + newline
-						+ "      SET NEW." + spalte + " = tmpID + 1;" + newline
-						+ "    END IF;" + newline
-						+ "    IF NEW." + spalte + " > tmpID THEN" + newline
-						+ "      UPDATE Schema_AutoInkremente SET MaxID = NEW." + spalte + " WHERE NameTabelle='" + tab + "';" + newline
+						+ "      UPDATE Schema_AutoInkremente SET MaxID = MaxID + 1 WHERE NameTabelle='" + tab + "';" + newline
+						+ "      SELECT MaxID INTO tmpID FROM Schema_AutoInkremente WHERE NameTabelle='" + tab + "';" + newline
+						+ "      SET NEW." + spalte + " = tmpID;" + newline
+						+ "    ELSEIF NEW." + spalte + " > tmpID THEN" + newline
+						+ "      UPDATE Schema_AutoInkremente SET MaxID = GREATEST(MaxID, NEW." + spalte + ") WHERE NameTabelle='" + tab + "';" + newline
 						+ "    END IF;" + newline
 						+ "  END IF;" + newline
 						+ "END" + newline
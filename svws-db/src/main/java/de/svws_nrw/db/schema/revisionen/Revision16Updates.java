@@ -0,0 +1,57 @@
+package de.svws_nrw.db.schema.revisionen;
+
+import java.util.List;
+
+import de.svws_nrw.core.logger.Logger;
+import de.svws_nrw.db.DBDriver;
+import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.schema.Schema;
+import de.svws_nrw.db.schema.SchemaRevisionUpdateSQL;
+import de.svws_nrw.db.schema.SchemaRevisionen;
+import de.svws_nrw.db.schema.SchemaTabelle;
+
+/**
+ * Diese Klasse enthält die SQL-Befehle für Revisions-Updates
+ * auf Revision 16.
+ */
+public final class Revision16Updates extends SchemaRevisionUpdateSQL {
+
+	/**
+	 * Erzeugt eine Instanz für die Revisions-Updates
+	 * für Revision 16.
+	 */
+	public Revision16Updates() {
+		super(SchemaRevisionen.REV_16);
+	}
+
+
+	@Override
+	public boolean runLast(final DBEntityManager conn, final Logger logger) {
+		final DBDriver dbms = conn.getDBDriver();
+		if ((dbms != DBDriver.MARIA_DB) && (dbms != DBDriver.MYSQL))
+			return true;
+
+		// Erstelle die Trigger für die Auto-Inkremente neu, so dass diese die MaxID nur noch über GREATEST erhöhen
+		// und die Zeile in Schema_AutoInkremente nicht mehr bei jeder Einfügung mit FOR UPDATE sperren
+		logger.logLn("- Erstelle die Trigger für die Auto-Inkremente neu...");
+		final long rev = revision().revision;
+		for (final SchemaTabelle tab : Schema.getTabellen(rev)) {
+			final List<String> trigger = tab.getPrimaerschluesselTriggerSQLList(dbms, rev, true);
+			if (trigger.isEmpty())
+				continue;
+			if ((Integer.MIN_VALUE == conn.transactionNativeUpdateAndFlush("DROP TRIGGER IF EXISTS t_AutoIncrement_INSERT_" + tab.name()))
+					|| (Integer.MIN_VALUE == conn.transactionNativeUpdateAndFlush("DROP TRIGGER IF EXISTS t_AutoIncrement_UPDATE_" + tab.name()))) {
+				logger.logLn(2, "Fehler beim Entfernen der Trigger für das Auto-Inkrement der Tabelle " + tab.name() + ".");
+				return false;
+			}
+			for (final String sql : trigger) {
+				if (Integer.MIN_VALUE == conn.transactionNativeUpdateAndFlush(sql)) {
+					logger.logLn(2, "Fehler beim Erstellen der Trigger für das Auto-Inkrement der Tabelle " + tab.name() + ".");
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+}
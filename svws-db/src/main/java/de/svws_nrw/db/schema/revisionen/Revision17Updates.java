@@ -0,0 +1,51 @@
+package de.svws_nrw.db.schema.revisionen;
+
+import de.svws_nrw.core.logger.Logger;
+import de.svws_nrw.db.DBDriver;
+import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.schema.Schema;
+import de.svws_nrw.db.schema.SchemaRevisionUpdateSQL;
+import de.svws_nrw.db.schema.SchemaRevisionen;
+import de.svws_nrw.db.schema.SchemaTabelle;
+import de.svws_nrw.db.schema.SchemaTabelleTrigger;
+
+/**
+ * Diese Klasse enthält die SQL-Befehle für Revisions-Updates
+ * auf Revision 17.
+ */
+public final class Revision17Updates extends SchemaRevisionUpdateSQL {
+
+	/**
+	 * Erzeugt eine Instanz für die Revisions-Updates
+	 * für Revision 17.
+	 */
+	public Revision17Updates() {
+		super(SchemaRevisionen.REV_17);
+	}
+
+
+	@Override
+	public boolean runLast(final DBEntityManager conn, final Logger logger) {
+		final DBDriver dbms = conn.getDBDriver();
+		if (dbms != DBDriver.MARIA_DB)
+			return true;
+
+		// Erstelle die Trigger für die Sync-Tokens von CardDAV neu, so dass diese auch Änderungen von und auf NULL erkennen
+		logger.logLn("- Erstelle die Trigger für die Sync-Tokens von CardDAV neu...");
+		for (final SchemaTabelle tab : new SchemaTabelle[] { Schema.tab_DavSyncTokenSchueler, Schema.tab_DavSyncTokenLehrer }) {
+			for (final SchemaTabelleTrigger trig : tab.trigger()) {
+				final String sqlDrop = trig.getSQL(dbms, false);
+				final String sqlCreate = trig.getSQL(dbms, true);
+				if ((sqlDrop == null) || (sqlCreate == null))
+					continue;
+				if ((Integer.MIN_VALUE == conn.transactionNativeUpdateAndFlush(sqlDrop))
+						|| (Integer.MIN_VALUE == conn.transactionNativeUpdateAndFlush(sqlCreate))) {
+					logger.logLn(2, "Fehler beim Neuerstellen des Triggers " + trig.name() + ".");
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+}
@@ -8,6 +8,7 @@ import de.svws_nrw.db.schema.SchemaFremdschluesselAktionen;
 import de.svws_nrw.db.schema.SchemaRevisionen;
 import de.svws_nrw.db.schema.SchemaTabelle;
 import de.svws_nrw.db.schema.SchemaTabelleFremdschluessel;
+import de.svws_nrw.db.schema.SchemaTabelleIndex;
 import de.svws_nrw.db.schema.SchemaTabelleSpalte;
 
 /**
@@ -76,6 +77,26 @@ public class Tabelle_DavRessources extends SchemaTabelle {
 		);
 
 
+	/** Die Definition des Non-Unique-Index DavRessources_IDX_Collection_lastModified */
+	public SchemaTabelleIndex index_DavRessources_IDX_Collection_lastModified = addIndex("DavRessources_IDX_Collection_lastModified",
+		col_DavRessourceCollection_ID,
+		col_lastModified
+	).setRevision(SchemaRevisionen.REV_14);
+
+	/** Die Definition des Non-Unique-Index DavRessources_IDX_Collection_Zeitraum */
+	public SchemaTabelleIndex index_DavRessources_IDX_Collection_Zeitraum = addIndex("DavRessources_IDX_Collection_Zeitraum",
+		col_DavRessourceCollection_ID,
+		col_KalenderStart,
+		col_KalenderEnde
+	).setRevision(SchemaRevisionen.REV_14);
+
+	/** Die Definition des Non-Unique-Index DavRessources_IDX_Collection_UID */
+	public SchemaTabelleIndex index_DavRessources_IDX_Collection_UID = addIndex("DavRessources_IDX_Collection_UID",
+		col_DavRessourceCollection_ID,
+		col_UID
+	).setRevision(SchemaRevisionen.REV_14);
+
+
 	/**
 	 * Erstellt die Schema-Defintion für die Tabelle DavRessources.
 	 */
@@ -46,13 +46,13 @@ public class Tabelle_DavSyncTokenLehrer extends SchemaTabelle {
                 DECLARE changed BOOLEAN;
                 DECLARE token DATETIME;
                 SET changed := 0;
-                IF OLD.Nachname <> NEW.Nachname OR OLD.Vorname <> NEW.Vorname OR OLD.Strassenname <> NEW.Strassenname
-                        OR OLD.HausNr <> NEW.HausNr OR OLD.HausNrZusatz <> NEW.HausNrZusatz
-                        OR OLD.Ort_ID <> NEW.Ort_ID OR OLD.Ortsteil_ID <> NEW.Ortsteil_ID
-                        OR OLD.Sichtbar <> NEW.Sichtbar
-                        OR OLD.Tel <> NEW.Tel OR OLD.Handy <> NEW.Handy
-                        OR OLD.Email <> NEW.Email OR OLD.EmailDienstlich <> NEW.EmailDienstlich
-                        OR OLD.Geschlecht <> NEW.Geschlecht THEN
+                IF NOT (OLD.Nachname <=> NEW.Nachname) OR NOT (OLD.Vorname <=> NEW.Vorname) OR NOT (OLD.Strassenname <=> NEW.Strassenname)
+                        OR NOT (OLD.HausNr <=> NEW.HausNr) OR NOT (OLD.HausNrZusatz <=> NEW.HausNrZusatz)
+                        OR NOT (OLD.Ort_ID <=> NEW.Ort_ID) OR NOT (OLD.Ortsteil_ID <=> NEW.Ortsteil_ID)
+                        OR NOT (OLD.Sichtbar <=> NEW.Sichtbar)
+                        OR NOT (OLD.Tel <=> NEW.Tel) OR NOT (OLD.Handy <=> NEW.Handy)
+                        OR NOT (OLD.Email <=> NEW.Email) OR NOT (OLD.EmailDienstlich <=> NEW.EmailDienstlich)
+                        OR NOT (OLD.Geschlecht <=> NEW.Geschlecht) THEN
                     SET changed := 1;
                 END IF;
                 IF changed = TRUE THEN
@@ -137,7 +137,7 @@ public class Tabelle_DavSyncTokenLehrer extends SchemaTabelle {
                 DECLARE changed BOOLEAN;
                 DECLARE token DATETIME;
                 SET changed := 0;
-                IF OLD.Lehrer_ID <> NEW.Lehrer_ID THEN
+                IF NOT (OLD.Lehrer_ID <=> NEW.Lehrer_ID) THEN
                     SET changed := 1;
                     SET token := (SELECT SyncToken FROM DavSyncTokenLehrer WHERE ID = OLD.Lehrer_ID);
                     IF token IS NULL THEN
@@ -146,7 +146,7 @@ public class Tabelle_DavSyncTokenLehrer extends SchemaTabelle {
                         UPDATE DavSyncTokenLehrer SET SyncToken = CURTIME(3) WHERE ID = OLD.Lehrer_ID;
                     END IF;
                 END IF;
-                IF OLD.LehrbefKrz <> NEW.LehrbefKrz THEN
+                IF NOT (OLD.LehrbefKrz <=> NEW.LehrbefKrz) THEN
                     SET changed := 1;
                 END IF;
                 IF changed = TRUE THEN
@@ -205,7 +205,7 @@ public class Tabelle_DavSyncTokenLehrer extends SchemaTabelle {
             AFTER UPDATE ON KlassenLehrer FOR EACH ROW
             BEGIN
                 DECLARE token DATETIME;
-                IF OLD.Lehrer_ID <> NEW.Lehrer_ID THEN
+                IF NOT (OLD.Lehrer_ID <=> NEW.Lehrer_ID) THEN
                     SET token := (SELECT SyncToken FROM DavSyncTokenLehrer WHERE ID = OLD.Lehrer_ID);
                     IF token IS NULL THEN
                         INSERT INTO DavSyncTokenLehrer(ID, SyncToken) VALUES (OLD.Lehrer_ID, CURTIME(3));
@@ -213,7 +213,7 @@ public class Tabelle_DavSyncTokenLehrer extends SchemaTabelle {
                         UPDATE DavSyncTokenLehrer SET SyncToken = CURTIME(3) WHERE ID = OLD.Lehrer_ID;
                     END IF;
                 END IF;
-                IF OLD.Klassen_ID <> NEW.Klassen_ID OR OLD.Lehrer_ID <> NEW.Lehrer_ID THEN
+                IF NOT (OLD.Klassen_ID <=> NEW.Klassen_ID) OR NOT (OLD.Lehrer_ID <=> NEW.Lehrer_ID) THEN
                     SET token := (SELECT SyncToken FROM DavSyncTokenLehrer WHERE ID = NEW.Lehrer_ID);
                     IF token IS NULL THEN
                         INSERT INTO DavSyncTokenLehrer(ID, SyncToken) VALUES (NEW.Lehrer_ID, CURTIME(3));
@@ -271,9 +271,9 @@ public class Tabelle_DavSyncTokenLehrer extends SchemaTabelle {
                 DECLARE changed BOOLEAN;
                 DECLARE token DATETIME;
                 SET changed := 0;
-                IF OLD.ID <> NEW.ID OR OLD.Klasse <> NEW.Klasse OR OLD.ASDKlasse <> NEW.ASDKlasse
-                        OR OLD.Schuljahresabschnitts_ID <> NEW.Schuljahresabschnitts_ID
-                        OR OLD.Jahrgang_ID <> NEW.Jahrgang_ID THEN
+                IF NOT (OLD.ID <=> NEW.ID) OR NOT (OLD.Klasse <=> NEW.Klasse) OR NOT (OLD.ASDKlasse <=> NEW.ASDKlasse)
+                        OR NOT (OLD.Schuljahresabschnitts_ID <=> NEW.Schuljahresabschnitts_ID)
+                        OR NOT (OLD.Jahrgang_ID <=> NEW.Jahrgang_ID) THEN
                     SET changed := 1;
                 END IF;
                 IF changed = TRUE THEN
@@ -340,7 +340,7 @@ public class Tabelle_DavSyncTokenLehrer extends SchemaTabelle {
                 DECLARE changed BOOLEAN;
                 DECLARE token DATETIME;
                 SET changed := 0;
-                IF OLD.ID <> NEW.ID OR OLD.InternKrz <> NEW.InternKrz THEN
+                IF NOT (OLD.ID <=> NEW.ID) OR NOT (OLD.InternKrz <=> NEW.InternKrz) THEN
                     SET changed := 1;
                 END IF;
                 IF changed = TRUE THEN
@@ -441,7 +441,7 @@ public class Tabelle_DavSyncTokenLehrer extends SchemaTabelle {
                             UPDATE DavSyncTokenLehrer SET SyncToken = CURTIME(3) WHERE ID = OLD.Lehrer_ID;
                         END IF;
                     ELSE
-                        IF OLD.Lehrer_ID <> NEW.Lehrer_ID THEN
+                        IF NOT (OLD.Lehrer_ID <=> NEW.Lehrer_ID) THEN
                             SET token := (SELECT SyncToken FROM DavSyncTokenLehrer WHERE ID = OLD.Lehrer_ID);
                             IF token IS NULL THEN
                                 INSERT INTO DavSyncTokenLehrer(ID, SyncToken) VALUES (OLD.Lehrer_ID, CURTIME(3));
@@ -449,9 +449,9 @@ public class Tabelle_DavSyncTokenLehrer extends SchemaTabelle {
                                 UPDATE DavSyncTokenLehrer SET SyncToken = CURTIME(3) WHERE ID = OLD.Lehrer_ID;
                             END IF;
                         END IF;
-                        IF OLD.ID <> NEW.ID OR OLD.Lehrer_ID <> NEW.Lehrer_ID
-                                OR OLD.KurzBez <> NEW.KurzBez OR OLD.Jahrgang_ID <> NEW.Jahrgang_ID
-                                OR OLD.ASDJahrgang <> NEW.ASDJahrgang THEN
+                        IF NEW.Lehrer_ID IS NOT NULL AND (NOT (OLD.ID <=> NEW.ID) OR NOT (OLD.Lehrer_ID <=> NEW.Lehrer_ID)
+                                OR NOT (OLD.KurzBez <=> NEW.KurzBez) OR NOT (OLD.Jahrgang_ID <=> NEW.Jahrgang_ID)
+                                OR NOT (OLD.ASDJahrgang <=> NEW.ASDJahrgang)) THEN
                             SET token := (SELECT SyncToken FROM DavSyncTokenLehrer WHERE ID = NEW.Lehrer_ID);
                             IF token IS NULL THEN
                                 INSERT INTO DavSyncTokenLehrer(ID, SyncToken) VALUES (NEW.Lehrer_ID, CURTIME(3));
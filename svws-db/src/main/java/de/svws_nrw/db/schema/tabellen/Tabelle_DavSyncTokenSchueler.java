@@ -46,13 +46,13 @@ public class Tabelle_DavSyncTokenSchueler extends SchemaTabelle {
                 DECLARE changed BOOLEAN;
                 DECLARE token DATETIME;
                 SET changed := 0;
-                IF OLD.Name <> NEW.Name OR OLD.Vorname <> NEW.Vorname OR OLD.Strassenname <> NEW.Strassenname
-                        OR OLD.HausNr <> NEW.HausNr OR OLD.HausNrZusatz <> NEW.HausNrZusatz
-                        OR OLD.Ort_ID <> NEW.Ort_ID OR OLD.Ortsteil_ID <> NEW.Ortsteil_ID
-                        OR OLD.Telefon <> NEW.Telefon OR OLD.Fax <> NEW.Fax
-                        OR OLD.Email <> NEW.Email OR OLD.SchulEmail <> NEW.SchulEmail
-                        OR OLD.Geschlecht <> NEW.Geschlecht
-                        OR OLD.Status <> NEW.Status THEN
+                IF NOT (OLD.Name <=> NEW.Name) OR NOT (OLD.Vorname <=> NEW.Vorname) OR NOT (OLD.Strassenname <=> NEW.Strassenname)
+                        OR NOT (OLD.HausNr <=> NEW.HausNr) OR NOT (OLD.HausNrZusatz <=> NEW.HausNrZusatz)
+                        OR NOT (OLD.Ort_ID <=> NEW.Ort_ID) OR NOT (OLD.Ortsteil_ID <=> NEW.Ortsteil_ID)
+                        OR NOT (OLD.Telefon <=> NEW.Telefon) OR NOT (OLD.Fax <=> NEW.Fax)
+                        OR NOT (OLD.Email <=> NEW.Email) OR NOT (OLD.SchulEmail <=> NEW.SchulEmail)
+                        OR NOT (OLD.Geschlecht <=> NEW.Geschlecht)
+                        OR NOT (OLD.Status <=> NEW.Status) THEN
                     SET changed := 1;
                 END IF;
                 IF changed = TRUE THEN
@@ -75,7 +75,7 @@ public class Tabelle_DavSyncTokenSchueler extends SchemaTabelle {
             AFTER UPDATE ON Kurs_Schueler FOR EACH ROW
             BEGIN
                 DECLARE token DATETIME;
-                IF OLD.Schueler_ID <> NEW.Schueler_ID THEN
+                IF NOT (OLD.Schueler_ID <=> NEW.Schueler_ID) THEN
                     SET token := (SELECT DavSyncTokenSchueler.SyncToken FROM DavSyncTokenSchueler WHERE ID = OLD.Schueler_ID);
                     IF token IS NULL THEN
                         INSERT INTO DavSyncTokenSchueler(ID, SyncToken) VALUES (OLD.Schueler_ID, CURTIME(3));
@@ -140,7 +140,7 @@ public class Tabelle_DavSyncTokenSchueler extends SchemaTabelle {
                 DECLARE changed BOOLEAN;
                 DECLARE token DATETIME;
                 SET changed := 0;
-                IF OLD.Schueler_ID <> NEW.Schueler_ID THEN
+                IF NOT (OLD.Schueler_ID <=> NEW.Schueler_ID) THEN
                     SET changed := 1;
                     SET token := (SELECT SyncToken FROM DavSyncTokenSchueler WHERE ID = OLD.Schueler_ID);
                     IF token IS NULL THEN
@@ -149,13 +149,13 @@ public class Tabelle_DavSyncTokenSchueler extends SchemaTabelle {
                         UPDATE DavSyncTokenSchueler SET SyncToken = CURTIME(3) WHERE ID = OLD.Schueler_ID;
                     END IF;
                 END IF;
-                IF OLD.ErzOrt_ID <> NEW.ErzOrt_ID OR OLD.ErzStrassenname <> NEW.ErzStrassenname
-                        OR OLD.ErzOrtsteil_ID <> NEW.ErzOrtsteil_ID
-                        OR OLD.ErzieherArt_ID <> NEW.ErzieherArt_ID
-                        OR OLD.ErzHausNr <> NEW.ErzHausNr OR OLD.ErzHausNrZusatz <> NEW.ErzHausNrZusatz
-                        OR OLD.ErzEmail <> NEW.ErzEmail OR OLD.ErzEmail2 <> NEW.ErzEmail2
-                        OR OLD.Name1 <> NEW.Name1 OR OLD.Name2 <> NEW.Name2
-                        OR OLD.Vorname1 <> NEW.Vorname1 OR OLD.Vorname2 <> NEW.Vorname2
+                IF NOT (OLD.ErzOrt_ID <=> NEW.ErzOrt_ID) OR NOT (OLD.ErzStrassenname <=> NEW.ErzStrassenname)
+                        OR NOT (OLD.ErzOrtsteil_ID <=> NEW.ErzOrtsteil_ID)
+                        OR NOT (OLD.ErzieherArt_ID <=> NEW.ErzieherArt_ID)
+                        OR NOT (OLD.ErzHausNr <=> NEW.ErzHausNr) OR NOT (OLD.ErzHausNrZusatz <=> NEW.ErzHausNrZusatz)
+                        OR NOT (OLD.ErzEmail <=> NEW.ErzEmail) OR NOT (OLD.ErzEmail2 <=> NEW.ErzEmail2)
+                        OR NOT (OLD.Name1 <=> NEW.Name1) OR NOT (OLD.Name2 <=> NEW.Name2)
+                        OR NOT (OLD.Vorname1 <=> NEW.Vorname1) OR NOT (OLD.Vorname2 <=> NEW.Vorname2)
                         THEN
                     SET changed := 1;
                 END IF;
@@ -216,7 +216,7 @@ public class Tabelle_DavSyncTokenSchueler extends SchemaTabelle {
             AFTER UPDATE ON SchuelerTelefone FOR EACH ROW
             BEGIN
                 DECLARE token DATETIME;
-                IF OLD.Schueler_ID <> NEW.Schueler_ID THEN
+                IF NOT (OLD.Schueler_ID <=> NEW.Schueler_ID) THEN
                     SET token := (SELECT SyncToken FROM DavSyncTokenSchueler WHERE ID = OLD.Schueler_ID);
                     IF token IS NULL THEN
                         INSERT INTO DavSyncTokenSchueler(ID, SyncToken) VALUES (OLD.Schueler_ID, CURTIME(3));
@@ -358,8 +358,8 @@ public class Tabelle_DavSyncTokenSchueler extends SchemaTabelle {
                 DECLARE changed BOOLEAN;
                 DECLARE token DATETIME;
                 SET changed := 0;
-                IF OLD.ID <> NEW.ID OR OLD.KurzBez <> NEW.KurzBez OR OLD.Jahrgang_ID <> NEW.Jahrgang_ID
-                        OR OLD.ASDJahrgang <> NEW.ASDJahrgang THEN
+                IF NOT (OLD.ID <=> NEW.ID) OR NOT (OLD.KurzBez <=> NEW.KurzBez) OR NOT (OLD.Jahrgang_ID <=> NEW.Jahrgang_ID)
+                        OR NOT (OLD.ASDJahrgang <=> NEW.ASDJahrgang) THEN
                     SET changed := 1;
                 END IF;
                 IF changed = TRUE THEN
@@ -426,8 +426,8 @@ public class Tabelle_DavSyncTokenSchueler extends SchemaTabelle {
                 DECLARE changed BOOLEAN;
                 DECLARE token DATETIME;
                 SET changed := 0;
-                IF OLD.ID <> NEW.ID OR OLD.Klasse <> NEW.Klasse OR OLD.ASDKlasse <> NEW.ASDKlasse
-                        OR OLD.Jahrgang_ID <> NEW.Jahrgang_ID THEN
+                IF NOT (OLD.ID <=> NEW.ID) OR NOT (OLD.Klasse <=> NEW.Klasse) OR NOT (OLD.ASDKlasse <=> NEW.ASDKlasse)
+                        OR NOT (OLD.Jahrgang_ID <=> NEW.Jahrgang_ID) THEN
                     SET changed := 1;
                 END IF;
                 IF changed = TRUE THEN
@@ -494,7 +494,7 @@ public class Tabelle_DavSyncTokenSchueler extends SchemaTabelle {
                 DECLARE changed BOOLEAN;
                 DECLARE token DATETIME;
                 SET changed := 0;
-                IF OLD.ID <> NEW.ID OR OLD.Klassen_ID <> NEW.Klassen_ID OR OLD.Schueler_ID <> NEW.Schueler_ID THEN
+                IF NOT (OLD.ID <=> NEW.ID) OR NOT (OLD.Klassen_ID <=> NEW.Klassen_ID) OR NOT (OLD.Schueler_ID <=> NEW.Schueler_ID) THEN
                     SET changed := 1;
                 END IF;
                 IF changed = TRUE THEN
@@ -555,7 +555,7 @@ public class Tabelle_DavSyncTokenSchueler extends SchemaTabelle {
                 DECLARE changed BOOLEAN;
                 DECLARE token DATETIME;
                 SET changed := 0;
-                IF OLD.ID <> NEW.ID OR OLD.InternKrz <> NEW.InternKrz THEN
+                IF NOT (OLD.ID <=> NEW.ID) OR NOT (OLD.InternKrz <=> NEW.InternKrz) THEN
                     SET changed := 1;
                 END IF;
                 IF changed = TRUE THEN
@@ -0,0 +1,391 @@
+package de.svws_nrw.db.schema.tabellen;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import de.svws_nrw.db.DBDriver;
+import de.svws_nrw.db.schema.Schema;
+import de.svws_nrw.db.schema.SchemaDatentypen;
+import de.svws_nrw.db.schema.SchemaRevisionen;
+import de.svws_nrw.db.schema.SchemaTabelle;
+import de.svws_nrw.db.schema.SchemaTabelleSpalte;
+import de.svws_nrw.db.schema.SchemaTabelleTrigger;
+
+/**
+ * Diese Klasse beinhaltet die Schema-Definition für die Tabelle Schema_Aenderungen.
+ * Die Zähler in dieser Tabelle werden über Trigger bei jeder Änderung an den zugehörigen Tabellen
+ * erhöht, so dass auch Änderungen durch andere Anwendungen (z.B. Schild3) bei zwischengespeicherten
+ * Daten erkannt werden können. Damit parallele Transaktionen nicht alle auf dieselbe Zeile warten müssen,
+ * wird der Zähler einer Tabelle auf bis zu {@link #ANZAHL_SHARDS} Zeilen verteilt, welche anhand der
+ * Verbindungs-ID gewählt werden. Bei Tabellen, in welche häufig und in großen Mengen parallel geschrieben wird
+ * (z.B. der Unterricht der Stundenpläne oder die Schülerklausuren), werden hierfür bis zu
+ * {@link #ANZAHL_SHARDS_SCHREIBINTENSIV} Zeilen genutzt. Der Zählerstand einer Tabelle ist die Summe über diese Zeilen. Fehlen
+ * die Einträge für eine Tabelle, so entspricht dies dem Zählerstand 0.
+ */
+public class Tabelle_Schema_Aenderungen extends SchemaTabelle {
+
+	/** Die maximale Länge des Namens eines Triggers bei MariaDB */
+	private static final int MAX_LAENGE_TRIGGER_NAME = 64;
+
+	/** Die Anzahl der Zeilen, auf welche der Zähler einer Tabelle verteilt wird */
+	public static final int ANZAHL_SHARDS = 16;
+
+	/** Die Anzahl der Zeilen, auf welche der Zähler einer Tabelle mit häufigen, parallelen Schreibzugriffen verteilt wird */
+	public static final int ANZAHL_SHARDS_SCHREIBINTENSIV = 64;
+
+	/** Die Definition der Tabellenspalte NameTabelle */
+	public SchemaTabelleSpalte col_NameTabelle = add("NameTabelle", SchemaDatentypen.VARCHAR, true).setDatenlaenge(200)
+		.setNotNull()
+		.setJavaComment("Gibt den Namen der Tabelle an, deren Änderungen gezählt werden.");
+
+	/** Die Definition der Tabellenspalte Shard */
+	public SchemaTabelleSpalte col_Shard = add("Shard", SchemaDatentypen.INT, true)
+		.setNotNull()
+		.setJavaComment("Die Nummer der Zeile, auf welche ein Teil der Änderungen an der Tabelle gezählt wird (Verbindungs-ID modulo der Anzahl der Zeilen)");
+
+	/** Die Definition der Tabellenspalte Zaehler */
+	public SchemaTabelleSpalte col_Zaehler = add("Zaehler", SchemaDatentypen.BIGINT, false)
+		.setDefault("0")
+		.setNotNull()
+		.setJavaComment("Der Teil-Zähler, welcher bei jeder Änderung an der Tabelle über eine Verbindung mit dieser Zeilennummer erhöht wird");
+
+
+	/** Trigger t_INSERT_Schema_Aenderungen_EigeneSchule */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_EigeneSchule = addZaehlerTrigger("INSERT", Schema.tab_EigeneSchule);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_EigeneSchule */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_EigeneSchule = addZaehlerTrigger("UPDATE", Schema.tab_EigeneSchule);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_EigeneSchule */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_EigeneSchule = addZaehlerTrigger("DELETE", Schema.tab_EigeneSchule);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_EigeneSchule_Jahrgaenge */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_EigeneSchule_Jahrgaenge = addZaehlerTrigger("INSERT", Schema.tab_EigeneSchule_Jahrgaenge);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_EigeneSchule_Jahrgaenge */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_EigeneSchule_Jahrgaenge = addZaehlerTrigger("UPDATE", Schema.tab_EigeneSchule_Jahrgaenge);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_EigeneSchule_Jahrgaenge */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_EigeneSchule_Jahrgaenge = addZaehlerTrigger("DELETE", Schema.tab_EigeneSchule_Jahrgaenge);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_EigeneSchule_Faecher */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_EigeneSchule_Faecher = addZaehlerTrigger("INSERT", Schema.tab_EigeneSchule_Faecher);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_EigeneSchule_Faecher */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_EigeneSchule_Faecher = addZaehlerTrigger("UPDATE", Schema.tab_EigeneSchule_Faecher);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_EigeneSchule_Faecher */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_EigeneSchule_Faecher = addZaehlerTrigger("DELETE", Schema.tab_EigeneSchule_Faecher);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Schuljahresabschnitte */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Schuljahresabschnitte = addZaehlerTrigger("INSERT", Schema.tab_Schuljahresabschnitte)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Schuljahresabschnitte */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Schuljahresabschnitte = addZaehlerTrigger("UPDATE", Schema.tab_Schuljahresabschnitte)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Schuljahresabschnitte */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Schuljahresabschnitte = addZaehlerTrigger("DELETE", Schema.tab_Schuljahresabschnitte)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_Zeitraster */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_Zeitraster = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_Zeitraster)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_Zeitraster */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_Zeitraster = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_Zeitraster)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_Zeitraster */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_Zeitraster = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_Zeitraster)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_Raeume */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_Raeume = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_Raeume)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_Raeume */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_Raeume = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_Raeume)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_Raeume */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_Raeume = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_Raeume)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_Schienen */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_Schienen = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_Schienen)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_Schienen */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_Schienen = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_Schienen)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_Schienen */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_Schienen = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_Schienen)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_Pausenzeit */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_Pausenzeit = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_Pausenzeit)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_Pausenzeit */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_Pausenzeit = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_Pausenzeit)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_Pausenzeit */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_Pausenzeit = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_Pausenzeit)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_Aufsichtsbereiche */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_Aufsichtsbereiche = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_Aufsichtsbereiche)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_Aufsichtsbereiche */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_Aufsichtsbereiche = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_Aufsichtsbereiche)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_Aufsichtsbereiche */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_Aufsichtsbereiche = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_Aufsichtsbereiche)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_Kalenderwochen_Zuordnung */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_Kalenderwochen_Zuordnung = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_Kalenderwochen_Zuordnung)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_Kalenderwochen_Zuordnung */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_Kalenderwochen_Zuordnung = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_Kalenderwochen_Zuordnung)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_Kalenderwochen_Zuordnung */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_Kalenderwochen_Zuordnung = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_Kalenderwochen_Zuordnung)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_Unterricht */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_Unterricht = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_Unterricht, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_Unterricht */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_Unterricht = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_Unterricht, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_Unterricht */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_Unterricht = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_Unterricht, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_UnterrichtKlasse */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_UnterrichtKlasse = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_UnterrichtKlasse, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_UnterrichtKlasse */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_UnterrichtKlasse = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_UnterrichtKlasse, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_UnterrichtKlasse */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_UnterrichtKlasse = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_UnterrichtKlasse, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_UnterrichtLehrer */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_UnterrichtLehrer = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_UnterrichtLehrer, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_UnterrichtLehrer */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_UnterrichtLehrer = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_UnterrichtLehrer, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_UnterrichtLehrer */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_UnterrichtLehrer = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_UnterrichtLehrer, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_UnterrichtRaum */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_UnterrichtRaum = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_UnterrichtRaum, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_UnterrichtRaum */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_UnterrichtRaum = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_UnterrichtRaum, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_UnterrichtRaum */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_UnterrichtRaum = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_UnterrichtRaum, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_UnterrichtSchiene */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_UnterrichtSchiene = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_UnterrichtSchiene, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_UnterrichtSchiene */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_UnterrichtSchiene = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_UnterrichtSchiene, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_UnterrichtSchiene */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_UnterrichtSchiene = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_UnterrichtSchiene, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_Pausenaufsichten */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_Pausenaufsichten = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_Pausenaufsichten, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_Pausenaufsichten */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_Pausenaufsichten = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_Pausenaufsichten, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_Pausenaufsichten */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_Pausenaufsichten = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_Pausenaufsichten, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Stundenplan_PausenaufsichtenBereich */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Stundenplan_PausenaufsichtenBereich = addZaehlerTrigger("INSERT", Schema.tab_Stundenplan_PausenaufsichtenBereich, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Stundenplan_PausenaufsichtenBereich */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Stundenplan_PausenaufsichtenBereich = addZaehlerTrigger("UPDATE", Schema.tab_Stundenplan_PausenaufsichtenBereich, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Stundenplan_PausenaufsichtenBereich */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Stundenplan_PausenaufsichtenBereich = addZaehlerTrigger("DELETE", Schema.tab_Stundenplan_PausenaufsichtenBereich, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Gost_Klausuren_Vorgaben */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Gost_Klausuren_Vorgaben = addZaehlerTrigger("INSERT", Schema.tab_Gost_Klausuren_Vorgaben)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Gost_Klausuren_Vorgaben */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Gost_Klausuren_Vorgaben = addZaehlerTrigger("UPDATE", Schema.tab_Gost_Klausuren_Vorgaben)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Gost_Klausuren_Vorgaben */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Gost_Klausuren_Vorgaben = addZaehlerTrigger("DELETE", Schema.tab_Gost_Klausuren_Vorgaben)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Gost_Klausuren_Termine */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Gost_Klausuren_Termine = addZaehlerTrigger("INSERT", Schema.tab_Gost_Klausuren_Termine)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Gost_Klausuren_Termine */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Gost_Klausuren_Termine = addZaehlerTrigger("UPDATE", Schema.tab_Gost_Klausuren_Termine)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Gost_Klausuren_Termine */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Gost_Klausuren_Termine = addZaehlerTrigger("DELETE", Schema.tab_Gost_Klausuren_Termine)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Gost_Klausuren_Kursklausuren */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Gost_Klausuren_Kursklausuren = addZaehlerTrigger("INSERT", Schema.tab_Gost_Klausuren_Kursklausuren)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Gost_Klausuren_Kursklausuren */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Gost_Klausuren_Kursklausuren = addZaehlerTrigger("UPDATE", Schema.tab_Gost_Klausuren_Kursklausuren)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Gost_Klausuren_Kursklausuren */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Gost_Klausuren_Kursklausuren = addZaehlerTrigger("DELETE", Schema.tab_Gost_Klausuren_Kursklausuren)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Schema_Aenderungen_Gost_Klausuren_Schuelerklausuren */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Gost_Klausuren_Schuelerklausuren = addZaehlerTrigger("INSERT", Schema.tab_Gost_Klausuren_Schuelerklausuren, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Schema_Aenderungen_Gost_Klausuren_Schuelerklausuren */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Gost_Klausuren_Schuelerklausuren = addZaehlerTrigger("UPDATE", Schema.tab_Gost_Klausuren_Schuelerklausuren, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Schema_Aenderungen_Gost_Klausuren_Schuelerklausuren */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Gost_Klausuren_Schuelerklausuren = addZaehlerTrigger("DELETE", Schema.tab_Gost_Klausuren_Schuelerklausuren, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_INSERT_Aenderungen_Gost_Klausuren_Schuelerklausuren_Termine */
+	public SchemaTabelleTrigger trigger_MariaDB_INSERT_Schema_Aenderungen_Gost_Klausuren_Schuelerklausuren_Termine = addZaehlerTrigger("INSERT", Schema.tab_Gost_Klausuren_Schuelerklausuren_Termine, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_UPDATE_Aenderungen_Gost_Klausuren_Schuelerklausuren_Termine */
+	public SchemaTabelleTrigger trigger_MariaDB_UPDATE_Schema_Aenderungen_Gost_Klausuren_Schuelerklausuren_Termine = addZaehlerTrigger("UPDATE", Schema.tab_Gost_Klausuren_Schuelerklausuren_Termine, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+	/** Trigger t_DELETE_Aenderungen_Gost_Klausuren_Schuelerklausuren_Termine */
+	public SchemaTabelleTrigger trigger_MariaDB_DELETE_Schema_Aenderungen_Gost_Klausuren_Schuelerklausuren_Termine = addZaehlerTrigger("DELETE", Schema.tab_Gost_Klausuren_Schuelerklausuren_Termine, ANZAHL_SHARDS_SCHREIBINTENSIV)
+		.setRevision(SchemaRevisionen.REV_15);
+
+
+	/**
+	 * Erstellt die Schema-Defintion für die Tabelle Schema_Aenderungen.
+	 */
+	public Tabelle_Schema_Aenderungen() {
+		super("Schema_Aenderungen", SchemaRevisionen.REV_13);
+		setMigrate(false);
+		setImportExport(false);
+		setJavaSubPackage("schema");
+		setJavaClassName("DTOSchemaAenderungen");
+		setJavaComment("Tabelle mit Zählern für die Änderungen an selten geänderten Tabellen, welche für das Invalidieren von zwischengespeicherten Daten genutzt werden.");
+	}
+
+
+	/**
+	 * Gibt die Namen der Tabellen zurück, deren Änderungen in einem Schema mit der angegebenen Revision
+	 * in dieser Tabelle gezählt werden, d.h. für welche die Trigger in dieser Revision vorhanden sind.
+	 *
+	 * @param revision   die Revision des Schemas
+	 *
+	 * @return die Menge der Tabellennamen
+	 */
+	public Set<String> getTabellenMitZaehler(final long revision) {
+		return trigger().stream()
+				.filter(t -> t.revision().revision <= revision)
+				.filter(t -> (t.veraltet() == SchemaRevisionen.UNDEFINED) || (t.veraltet().revision > revision))
+				.map(t -> t.tabellenGenutzt().get(0).name()).collect(Collectors.toUnmodifiableSet());
+	}
+
+
+	/**
+	 * Fügt einen MariaDB-Trigger hinzu, welcher bei der angegebenen Operation auf der übergebenen Tabelle
+	 * den Änderungszähler dieser Tabelle erhöht. Der Zähler wird auf {@link #ANZAHL_SHARDS} Zeilen verteilt.
+	 *
+	 * @param operation   die Operation (INSERT, UPDATE oder DELETE)
+	 * @param tabelle     die Tabelle, deren Änderungen gezählt werden
+	 *
+	 * @return der Trigger
+	 */
+	private SchemaTabelleTrigger addZaehlerTrigger(final String operation, final SchemaTabelle tabelle) {
+		return addZaehlerTrigger(operation, tabelle, ANZAHL_SHARDS);
+	}
+
+
+	/**
+	 * Fügt einen MariaDB-Trigger hinzu, welcher bei der angegebenen Operation auf der übergebenen Tabelle
+	 * den Änderungszähler dieser Tabelle erhöht. Dabei wird nur die Zeile erhöht, welche der Verbindung
+	 * über ihre ID zugeordnet ist, so dass parallele Transaktionen in der Regel verschiedene Zeilen sperren.
+	 * Überschreitet der Name des Triggers die maximale Länge von Bezeichnern bei MariaDB, so wird ein
+	 * kürzerer Name ohne "Schema_" verwendet.
+	 *
+	 * @param operation   die Operation (INSERT, UPDATE oder DELETE)
+	 * @param tabelle     die Tabelle, deren Änderungen gezählt werden
+	 * @param shards      die Anzahl der Zeilen, auf welche der Zähler verteilt wird
+	 *
+	 * @return der Trigger
+	 */
+	private SchemaTabelleTrigger addZaehlerTrigger(final String operation, final SchemaTabelle tabelle, final int shards) {
+		final String name = "t_" + operation + "_Schema_Aenderungen_" + tabelle.name();
+		return addTrigger(
+				(name.length() <= MAX_LAENGE_TRIGGER_NAME) ? name : ("t_" + operation + "_Aenderungen_" + tabelle.name()),
+				DBDriver.MARIA_DB,
+				"""
+				AFTER %s ON %s FOR EACH ROW
+				BEGIN
+				    INSERT INTO Schema_Aenderungen(NameTabelle, Shard, Zaehler) VALUES ('%s', CONNECTION_ID() %% %d, 1) ON DUPLICATE KEY UPDATE Zaehler = Zaehler + 1;
+				END
+				""".formatted(operation, tabelle.name(), tabelle.name(), shards),
+				tabelle, this);
+	}
+
+}
@@ -0,0 +1,101 @@
+package de.svws_nrw.metriken;
+
+/**
+ * Die Metriken einer einzelnen Anfrage an die Rest-API. Eine Anfrage wird in dem Thread, welcher sie
+ * verarbeitet, mit {@link #starte(String, String)} begonnen und mit {@link #beende()} abgeschlossen.
+ * Dazwischen werden alle SQL-Anweisungen, welche in diesem Thread über EclipseLink ausgeführt werden
+ * (siehe {@link #registriereSQL(long)}), der Anfrage zugeordnet. Beim Abschluss werden die Dauer der
+ * Anfrage, die Anzahl der SQL-Anweisungen und die Datenbank-Zeit in den {@link Metriken} erfasst.
+ * Eine hohe Anzahl an SQL-Anweisungen bei einer Methode der Rest-API weist dabei auf einzeln
+ * nachgeladene Datensätze hin.
+ */
+public final class AnfrageMetriken {
+
+	/** Die Metriken der Anfrage, welche aktuell in dem Thread verarbeitet wird */
+	private static final ThreadLocal<AnfrageMetriken> aktuell = new ThreadLocal<>();
+
+	/** Der Name der Methode der Rest-API, z.B. APISchueler.getSchuelerStammdaten */
+	private final String resource;
+
+	/** Die HTTP-Methode der Anfrage */
+	private final String methode;
+
+	/** Der Zeitpunkt des Starts der Anfrage gemäß {@link System#nanoTime()} */
+	private final long startNanos = System.nanoTime();
+
+	/** Der HTTP-Status der Antwort */
+	private int status = 0;
+
+	/** Die Anzahl der bisher ausgeführten SQL-Anweisungen */
+	private long anzahlSQL = 0;
+
+	/** Die Dauer der bisher ausgeführten SQL-Anweisungen in Nanosekunden */
+	private long dbZeitNanos = 0;
+
+	/** Gibt an, ob die Anfrage bereits abgeschlossen wurde */
+	private boolean abgeschlossen = false;
+
+
+	private AnfrageMetriken(final String resource, final String methode) {
+		this.resource = resource;
+		this.methode = methode;
+	}
+
+
+	/**
+	 * Beginnt die Erfassung der Metriken für eine Anfrage in dem aktuellen Thread. Eine vorher in dem
+	 * Thread begonnene und nicht abgeschlossene Erfassung wird verworfen.
+	 *
+	 * @param resource   der Name der Methode der Rest-API
+	 * @param methode    die HTTP-Methode der Anfrage
+	 *
+	 * @return die Metriken der Anfrage
+	 */
+	public static AnfrageMetriken starte(final String resource, final String methode) {
+		final AnfrageMetriken anfrage = new AnfrageMetriken(resource, methode);
+		aktuell.set(anfrage);
+		return anfrage;
+	}
+
+
+	/**
+	 * Registriert eine in dem aktuellen Thread ausgeführte SQL-Anweisung bei der aktuellen Anfrage und
+	 * in den Metriken des Servers.
+	 *
+	 * @param dauerNanos   die Dauer der Ausführung in Nanosekunden
+	 */
+	public static void registriereSQL(final long dauerNanos) {
+		Metriken.registriereSQL(dauerNanos);
+		final AnfrageMetriken anfrage = aktuell.get();
+		if (anfrage != null) {
+			anfrage.anzahlSQL++;
+			anfrage.dbZeitNanos += dauerNanos;
+		}
+	}
+
+
+	/**
+	 * Setzt den HTTP-Status der Antwort.
+	 *
+	 * @param status   der HTTP-Status
+	 */
+	public void setStatus(final int status) {
+		this.status = status;
+	}
+
+
+	/**
+	 * Schließt die Anfrage ab und erfasst ihre Metriken. Ein erneuter Aufruf hat keine Auswirkung.
+	 */
+	public void beende() {
+		if (abgeschlossen)
+			return;
+		abgeschlossen = true;
+		if (aktuell.get() == this)
+			aktuell.remove();
+		Metriken.API_DAUER.beobachte(Metriken.sekunden(System.nanoTime() - startNanos), resource, methode, Integer.toString(status));
+		Metriken.API_SQL_ANWEISUNGEN.beobachte(anzahlSQL, resource);
+		Metriken.API_DB_ZEIT.beobachte(Metriken.sekunden(dbZeitNanos), resource);
+	}
+
+}
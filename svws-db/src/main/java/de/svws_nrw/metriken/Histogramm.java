@@ -0,0 +1,155 @@
+package de.svws_nrw.metriken;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ein Histogramm für eine Metrik, welches die beobachteten Werte getrennt nach den Werten seiner Labels
+ * auf feste Intervalle verteilt. Die Zähler werden über {@link LongAdder} erhöht, so dass auch viele
+ * parallele Anfragen ohne Sperren beobachtet werden können. Die Ausgabe erfolgt im Text-Format von
+ * Prometheus mit kumulierten Intervallen.
+ */
+public final class Histogramm {
+
+	/** Die Werte eines Histogramms zu einer Kombination von Label-Werten */
+	private static final class Reihe {
+
+		/** Die Anzahl der Werte je Intervall, das letzte Intervall nimmt alle Werte oberhalb der letzten Grenze auf */
+		private final LongAdder[] anzahlen;
+
+		/** Die Summe aller beobachteten Werte */
+		private final DoubleAdder summe = new DoubleAdder();
+
+		private Reihe(final int anzahlIntervalle) {
+			anzahlen = new LongAdder[anzahlIntervalle];
+			for (int i = 0; i < anzahlIntervalle; i++)
+				anzahlen[i] = new LongAdder();
+		}
+
+	}
+
+	/** Der Name der Metrik */
+	private final String name;
+
+	/** Die Beschreibung der Metrik */
+	private final String hilfe;
+
+	/** Die Namen der Labels */
+	private final String[] labels;
+
+	/** Die aufsteigend sortierten oberen Grenzen der Intervalle */
+	private final double[] grenzen;
+
+	/** Die Werte des Histogramms, zugeordnet zu den Label-Werten */
+	private final ConcurrentHashMap<List<String>, Reihe> reihen = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Erzeugt ein neues Histogramm.
+	 *
+	 * @param name      der Name der Metrik
+	 * @param hilfe     die Beschreibung der Metrik
+	 * @param grenzen   die aufsteigend sortierten oberen Grenzen der Intervalle
+	 * @param labels    die Namen der Labels
+	 */
+	Histogramm(final String name, final String hilfe, final double[] grenzen, final String... labels) {
+		this.name = name;
+		this.hilfe = hilfe;
+		this.grenzen = grenzen.clone();
+		this.labels = labels.clone();
+	}
+
+
+	/**
+	 * Gibt den Namen der Metrik zurück.
+	 *
+	 * @return der Name der Metrik
+	 */
+	public String getName() {
+		return name;
+	}
+
+
+	/**
+	 * Beobachtet den übergebenen Wert für die angegebenen Label-Werte.
+	 *
+	 * @param wert          der Wert
+	 * @param labelWerte    die Werte der Labels in der Reihenfolge der Label-Namen
+	 *
+	 * @throws IllegalArgumentException   falls die Anzahl der Label-Werte nicht zu den Labels passt
+	 */
+	public void beobachte(final double wert, final String... labelWerte) {
+		if (labelWerte.length != labels.length)
+			throw new IllegalArgumentException("Die Metrik %s erwartet %d Label-Werte.".formatted(name, labels.length));
+		final Reihe reihe = reihen.computeIfAbsent(List.of(labelWerte), k -> new Reihe(grenzen.length + 1));
+		int i = Arrays.binarySearch(grenzen, wert);
+		if (i < 0)
+			i = -i - 1;
+		reihe.anzahlen[i].increment();
+		reihe.summe.add(wert);
+	}
+
+
+	/**
+	 * Gibt die Anzahl der beobachteten Werte für die angegebenen Label-Werte zurück.
+	 *
+	 * @param labelWerte    die Werte der Labels in der Reihenfolge der Label-Namen
+	 *
+	 * @return die Anzahl der Werte
+	 */
+	public long getAnzahl(final String... labelWerte) {
+		final Reihe reihe = reihen.get(List.of(labelWerte));
+		if (reihe == null)
+			return 0;
+		long anzahl = 0;
+		for (final LongAdder a : reihe.anzahlen)
+			anzahl += a.sum();
+		return anzahl;
+	}
+
+
+	/**
+	 * Gibt die Summe der beobachteten Werte für die angegebenen Label-Werte zurück.
+	 *
+	 * @param labelWerte    die Werte der Labels in der Reihenfolge der Label-Namen
+	 *
+	 * @return die Summe der Werte
+	 */
+	public double getSumme(final String... labelWerte) {
+		final Reihe reihe = reihen.get(List.of(labelWerte));
+		return (reihe == null) ? 0 : reihe.summe.sum();
+	}
+
+
+	/**
+	 * Schreibt das Histogramm im Text-Format von Prometheus in den übergebenen StringBuilder.
+	 * Die Reihen werden nach ihren Label-Werten sortiert ausgegeben.
+	 *
+	 * @param sb   der StringBuilder
+	 */
+	void schreibe(final StringBuilder sb) {
+		sb.append("# HELP ").append(name).append(' ').append(hilfe).append('\n');
+		sb.append("# TYPE ").append(name).append(" histogram\n");
+		final Map<String, Reihe> sortiert = new TreeMap<>();
+		for (final Map.Entry<List<String>, Reihe> e : reihen.entrySet())
+			sortiert.put(Metriken.formatiereLabels(labels, e.getKey()), e.getValue());
+		for (final Map.Entry<String, Reihe> e : sortiert.entrySet()) {
+			final String prefix = e.getKey().isEmpty() ? "{" : (e.getKey().substring(0, e.getKey().length() - 1) + ",");
+			final Reihe reihe = e.getValue();
+			long kumuliert = 0;
+			for (int i = 0; i <= grenzen.length; i++) {
+				kumuliert += reihe.anzahlen[i].sum();
+				final String le = (i < grenzen.length) ? Metriken.formatiereWert(grenzen[i]) : "+Inf";
+				sb.append(name).append("_bucket").append(prefix).append("le=\"").append(le).append("\"} ").append(kumuliert).append('\n');
+			}
+			sb.append(name).append("_sum").append(e.getKey()).append(' ').append(Metriken.formatiereWert(reihe.summe.sum())).append('\n');
+			sb.append(name).append("_count").append(e.getKey()).append(' ').append(kumuliert).append('\n');
+		}
+	}
+
+}
@@ -0,0 +1,232 @@
+package de.svws_nrw.metriken;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+import de.svws_nrw.core.data.db.DBPoolStatistik;
+import de.svws_nrw.db.ConnectionManager;
+import de.svws_nrw.db.DBKatalogCache;
+
+/**
+ * Diese Klasse sammelt die Metriken des SVWS-Servers und stellt diese im Text-Format von Prometheus zur Verfügung.
+ * Erfasst werden
+ * <ul>
+ *   <li>die Dauer der Anfragen je Methode der Rest-API,</li>
+ *   <li>die Anzahl der SQL-Anweisungen und die Datenbank-Zeit je Anfrage (siehe {@link AnfrageMetriken}),</li>
+ *   <li>die Anzahl und Dauer aller SQL-Anweisungen des Servers,</li>
+ *   <li>die Auslastung der Connection-Pools des {@link ConnectionManager},</li>
+ *   <li>die Treffer und Fehlschläge des {@link DBKatalogCache} je Tabelle und</li>
+ *   <li>die Laufzeiten der Algorithmen, z.B. der Kursblockung.</li>
+ * </ul>
+ * Die Metriken werden nur im Speicher gehalten und beim Neustart des Servers zurückgesetzt.
+ */
+public final class Metriken {
+
+	/** Die oberen Grenzen der Intervalle für Zeitangaben in Sekunden */
+	private static final double[] GRENZEN_SEKUNDEN = { 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 300 };
+
+	/** Die oberen Grenzen der Intervalle für die Anzahl der SQL-Anweisungen einer Anfrage */
+	private static final double[] GRENZEN_ANZAHL = { 0, 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 5000 };
+
+	/** Die Dauer der Anfragen je Methode der Rest-API */
+	public static final Histogramm API_DAUER = new Histogramm("svws_api_anfrage_dauer_sekunden",
+			"Die Dauer der Verarbeitung einer Anfrage inklusive der Serialisierung der Antwort in Sekunden.",
+			GRENZEN_SEKUNDEN, "resource", "methode", "status");
+
+	/** Die Anzahl der SQL-Anweisungen je Anfrage an eine Methode der Rest-API */
+	public static final Histogramm API_SQL_ANWEISUNGEN = new Histogramm("svws_api_anfrage_sql_anweisungen",
+			"Die Anzahl der SQL-Anweisungen, welche bei einer Anfrage ausgeführt wurden.",
+			GRENZEN_ANZAHL, "resource");
+
+	/** Die Datenbank-Zeit je Anfrage an eine Methode der Rest-API */
+	public static final Histogramm API_DB_ZEIT = new Histogramm("svws_api_anfrage_db_zeit_sekunden",
+			"Die Zeit in Sekunden, welche bei einer Anfrage für die Ausführung von SQL-Anweisungen benötigt wurde.",
+			GRENZEN_SEKUNDEN, "resource");
+
+	/** Die Laufzeit der Algorithmen */
+	public static final Histogramm ALGORITHMUS_DAUER = new Histogramm("svws_algorithmus_dauer_sekunden",
+			"Die Laufzeit eines Algorithmus in Sekunden.",
+			GRENZEN_SEKUNDEN, "algorithmus");
+
+	/** Die Histogramme in der Reihenfolge der Ausgabe */
+	private static final List<Histogramm> histogramme = List.of(API_DAUER, API_SQL_ANWEISUNGEN, API_DB_ZEIT, ALGORITHMUS_DAUER);
+
+	/** Eine Kennzahl der Connection-Pools, welche aus der {@link DBPoolStatistik} bestimmt wird */
+	private record PoolKennzahl(String name, String typ, String hilfe, ToDoubleFunction<DBPoolStatistik> wert) {
+		// kein weiterer Inhalt
+	}
+
+	/** Die Kennzahlen der Connection-Pools in der Reihenfolge der Ausgabe */
+	private static final List<PoolKennzahl> poolKennzahlen = List.of(
+		new PoolKennzahl("svws_db_pool_verbindungen_aktiv", "gauge", "Die Anzahl der genutzten Datenbank-Verbindungen.", s -> s.verbindungenAktiv),
+		new PoolKennzahl("svws_db_pool_verbindungen_frei", "gauge", "Die Anzahl der freien Datenbank-Verbindungen.", s -> s.verbindungenFrei),
+		new PoolKennzahl("svws_db_pool_verbindungen_maximal", "gauge", "Die maximale Anzahl an Datenbank-Verbindungen.", s -> s.verbindungenMaximal),
+		new PoolKennzahl("svws_db_pool_belegungen_aktiv", "gauge", "Die Anzahl der geöffneten Datenbank-Zugriffe.", s -> s.belegungenAktiv),
+		new PoolKennzahl("svws_db_pool_belegungen_wartend", "gauge", "Die Anzahl der Anfragen, die auf einen Datenbank-Zugriff warten.",
+				s -> s.belegungenWartend),
+		new PoolKennzahl("svws_db_pool_belegungen_total", "counter", "Die Anzahl aller angeforderten Datenbank-Zugriffe.", s -> s.anzahlBelegungen),
+		new PoolKennzahl("svws_db_pool_wartezeit_sekunden_total", "counter", "Die gesamte Wartezeit auf Datenbank-Zugriffe in Sekunden.",
+				s -> s.wartezeitGesamtMillis / 1000.0),
+		new PoolKennzahl("svws_db_pool_zeitueberschreitungen_total", "counter",
+				"Die Anzahl der wegen einer Zeitüberschreitung abgelehnten Datenbank-Zugriffe.", s -> s.anzahlZeitueberschreitungen)
+	);
+
+	/** Die Anzahl aller ausgeführten SQL-Anweisungen, auch außerhalb von Anfragen an die Rest-API */
+	private static final LongAdder sqlAnweisungen = new LongAdder();
+
+	/** Die Dauer aller ausgeführten SQL-Anweisungen in Nanosekunden */
+	private static final LongAdder sqlZeitNanos = new LongAdder();
+
+
+	private Metriken() {
+		throw new IllegalStateException("Instantiation of " + Metriken.class.getName() + " not allowed");
+	}
+
+
+	/**
+	 * Registriert eine ausgeführte SQL-Anweisung mit der übergebenen Dauer.
+	 *
+	 * @param dauerNanos   die Dauer der Ausführung in Nanosekunden
+	 */
+	static void registriereSQL(final long dauerNanos) {
+		sqlAnweisungen.increment();
+		sqlZeitNanos.add(dauerNanos);
+	}
+
+
+	/**
+	 * Registriert die Laufzeit eines Algorithmus, welcher zu dem angegebenen Zeitpunkt gestartet wurde.
+	 *
+	 * @param algorithmus   der Name des Algorithmus
+	 * @param startNanos    der Zeitpunkt des Starts gemäß {@link System#nanoTime()}
+	 */
+	public static void registriereAlgorithmus(final String algorithmus, final long startNanos) {
+		ALGORITHMUS_DAUER.beobachte(sekunden(System.nanoTime() - startNanos), algorithmus);
+	}
+
+
+	/**
+	 * Rechnet eine Dauer in Nanosekunden in Sekunden um.
+	 *
+	 * @param nanos   die Dauer in Nanosekunden
+	 *
+	 * @return die Dauer in Sekunden
+	 */
+	static double sekunden(final long nanos) {
+		return nanos / 1e9;
+	}
+
+
+	/**
+	 * Gibt alle Metriken im Text-Format von Prometheus (Version 0.0.4) zurück.
+	 *
+	 * @return die Metriken
+	 */
+	public static String getPrometheusText() {
+		final StringBuilder sb = new StringBuilder();
+		for (final Histogramm h : histogramme)
+			h.schreibe(sb);
+		schreibeWert(sb, "svws_db_sql_anweisungen_total", "counter", "Die Anzahl aller ausgeführten SQL-Anweisungen.", "",
+				sqlAnweisungen.sum());
+		schreibeWert(sb, "svws_db_sql_zeit_sekunden_total", "counter", "Die Dauer aller ausgeführten SQL-Anweisungen in Sekunden.", "",
+				sekunden(sqlZeitNanos.sum()));
+		schreibePools(sb);
+		schreibeKatalogCache(sb);
+		return sb.toString();
+	}
+
+
+	/**
+	 * Schreibt die Kennzahlen der Connection-Pools aller Verbindungs-Manager in den übergebenen StringBuilder.
+	 *
+	 * @param sb   der StringBuilder
+	 */
+	private static void schreibePools(final StringBuilder sb) {
+		final List<DBPoolStatistik> pools = ConnectionManager.getPoolStatistiken();
+		final String[] labels = { "schema", "location" };
+		final String[] werte = new String[pools.size()];
+		for (int i = 0; i < pools.size(); i++)
+			werte[i] = formatiereLabels(labels, Arrays.asList(pools.get(i).schema, pools.get(i).location));
+		for (final PoolKennzahl kennzahl : poolKennzahlen) {
+			schreibeKopf(sb, kennzahl.name(), kennzahl.typ(), kennzahl.hilfe());
+			for (int i = 0; i < pools.size(); i++)
+				schreibeZeile(sb, kennzahl.name(), werte[i], kennzahl.wert().applyAsDouble(pools.get(i)));
+		}
+	}
+
+
+	/**
+	 * Schreibt die Treffer und Fehlschläge des {@link DBKatalogCache} je Tabelle in den übergebenen StringBuilder.
+	 *
+	 * @param sb   der StringBuilder
+	 */
+	private static void schreibeKatalogCache(final StringBuilder sb) {
+		final List<DBKatalogCache.Kennzahlen> kennzahlen = DBKatalogCache.get().getKennzahlen();
+		final String[] labels = { "tabelle" };
+		schreibeKopf(sb, "svws_db_katalog_cache_treffer_total", "counter", "Die Anzahl der Zugriffe, die aus dem Katalog-Cache beantwortet wurden.");
+		for (final DBKatalogCache.Kennzahlen k : kennzahlen)
+			schreibeZeile(sb, "svws_db_katalog_cache_treffer_total", formatiereLabels(labels, List.of(k.tabelle())), k.treffer());
+		schreibeKopf(sb, "svws_db_katalog_cache_fehlschlaege_total", "counter",
+				"Die Anzahl der Zugriffe, bei denen die Daten des Katalog-Caches aus der Datenbank gelesen wurden.");
+		for (final DBKatalogCache.Kennzahlen k : kennzahlen)
+			schreibeZeile(sb, "svws_db_katalog_cache_fehlschlaege_total", formatiereLabels(labels, List.of(k.tabelle())), k.fehlschlaege());
+	}
+
+
+	private static void schreibeWert(final StringBuilder sb, final String name, final String typ, final String hilfe, final String labels, final double wert) {
+		schreibeKopf(sb, name, typ, hilfe);
+		schreibeZeile(sb, name, labels, wert);
+	}
+
+
+	private static void schreibeKopf(final StringBuilder sb, final String name, final String typ, final String hilfe) {
+		sb.append("# HELP ").append(name).append(' ').append(hilfe).append('\n');
+		sb.append("# TYPE ").append(name).append(' ').append(typ).append('\n');
+	}
+
+
+	private static void schreibeZeile(final StringBuilder sb, final String name, final String labels, final double wert) {
+		sb.append(name).append(labels).append(' ').append(formatiereWert(wert)).append('\n');
+	}
+
+
+	/**
+	 * Formatiert die Labels mit ihren Werten für die Ausgabe im Text-Format von Prometheus.
+	 * Anführungszeichen, Backslashes und Zeilenumbrüche in den Werten werden maskiert.
+	 *
+	 * @param labels   die Namen der Labels
+	 * @param werte    die Werte der Labels
+	 *
+	 * @return die formatierten Labels in geschweiften Klammern oder ein leerer String, falls keine Labels vorhanden sind
+	 */
+	static String formatiereLabels(final String[] labels, final List<String> werte) {
+		if (labels.length == 0)
+			return "";
+		final StringBuilder sb = new StringBuilder("{");
+		for (int i = 0; i < labels.length; i++) {
+			if (i > 0)
+				sb.append(',');
+			final String wert = (werte.get(i) == null) ? "" : werte.get(i);
+			sb.append(labels[i]).append("=\"").append(wert.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n")).append('"');
+		}
+		return sb.append('}').toString();
+	}
+
+
+	/**
+	 * Formatiert einen Wert für die Ausgabe im Text-Format von Prometheus. Ganze Zahlen werden ohne
+	 * Nachkommastellen ausgegeben.
+	 *
+	 * @param wert   der Wert
+	 *
+	 * @return der formatierte Wert
+	 */
+	static String formatiereWert(final double wert) {
+		if ((wert == Math.rint(wert)) && (Math.abs(wert) < 1e15))
+			return Long.toString((long) wert);
+		return Double.toString(wert);
+	}
+
+}
@@ -0,0 +1,160 @@
+package de.svws_nrw.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Diese Klasse testet den {@link BenutzerCache}.
+ */
+class TestBenutzerCache {
+
+	private static File dbFile;
+
+	private static Benutzer benutzer;
+
+	/**
+	 * Erzeugt einen Benutzer mit einer Verbindung zu einer temporären SQLite-Datenbank.
+	 *
+	 * @throws IOException   falls die temporäre Datei nicht erzeugt werden kann
+	 * @throws DBException   falls die Verbindung nicht aufgebaut werden kann
+	 */
+	@BeforeAll
+	static void setup() throws IOException, DBException {
+		dbFile = File.createTempFile("svws_benutzercache", ".sqlite");
+		dbFile.delete();
+		benutzer = Benutzer.create(new DBConfig(DBDriver.SQLITE, dbFile.getAbsolutePath(), null, false, null, null, false, true, 0, 0));
+		benutzer.setUsername("Admin");
+		benutzer.setPassword("geheim");
+	}
+
+	/**
+	 * Entfernt die temporäre SQLite-Datenbank.
+	 */
+	@AfterAll
+	static void cleanup() {
+		dbFile.delete();
+	}
+
+
+	/**
+	 * Prüft das Speichern und Abfragen von Einträgen. Ein Eintrag darf nur mit identischem Schema, Benutzernamen
+	 * und Kennwort gefunden werden.
+	 */
+	@Test
+	@DisplayName("Prüfe das Speichern und Abfragen von Anmeldungen")
+	void testGetPut() {
+		final BenutzerCache cache = new BenutzerCache(BenutzerCache.DEFAULT_TTL_MILLIS);
+		assertNull(cache.get("schema", "Admin", "geheim"));
+		cache.put("schema", "Admin", "geheim", benutzer, cache.getGeneration("schema"));
+		assertSame(benutzer, cache.get("schema", "Admin", "geheim"));
+		assertSame(benutzer, cache.get("SCHEMA", "Admin", "geheim"));
+		assertNull(cache.get("schema", "Admin", "falsch"));
+		assertNull(cache.get("schema", "admin2", "geheim"));
+		assertNull(cache.get("anderes", "Admin", "geheim"));
+		assertNull(cache.get("schema", "Admin", null));
+	}
+
+
+	/**
+	 * Prüft, dass Einträge nach Ablauf der Gültigkeitsdauer nicht mehr geliefert werden.
+	 *
+	 * @throws InterruptedException   falls der Test unterbrochen wird
+	 */
+	@Test
+	@DisplayName("Prüfe den Ablauf von Anmeldungen")
+	void testAblauf() throws InterruptedException {
+		final BenutzerCache cache = new BenutzerCache(20);
+		cache.put("schema", "Admin", "geheim", benutzer, cache.getGeneration("schema"));
+		assertSame(benutzer, cache.get("schema", "Admin", "geheim"));
+		Thread.sleep(50);
+		assertNull(cache.get("schema", "Admin", "geheim"));
+		assertEquals(0, cache.size("schema"));
+	}
+
+
+	/**
+	 * Prüft das Verwerfen von Einträgen eines Schemas. Eine Anmeldung, deren Generation vor dem Verwerfen
+	 * abgefragt wurde, darf anschließend nicht mehr gespeichert werden.
+	 */
+	@Test
+	@DisplayName("Prüfe das Verwerfen von Anmeldungen")
+	void testInvalidate() {
+		final BenutzerCache cache = new BenutzerCache(BenutzerCache.DEFAULT_TTL_MILLIS);
+		cache.put("schema", "Admin", "geheim", benutzer, cache.getGeneration("schema"));
+		cache.put("anderes", "Admin", "geheim", benutzer, cache.getGeneration("anderes"));
+		final long generation = cache.getGeneration("schema");
+		cache.invalidate("Schema");
+		assertNull(cache.get("schema", "Admin", "geheim"));
+		assertSame(benutzer, cache.get("anderes", "Admin", "geheim"));
+
+		// Veraltete Anmeldung wird nicht gespeichert
+		cache.put("schema", "Admin", "geheim", benutzer, generation);
+		assertNull(cache.get("schema", "Admin", "geheim"));
+
+		cache.invalidateAll();
+		assertNull(cache.get("anderes", "Admin", "geheim"));
+	}
+
+
+	/**
+	 * Prüft den parallelen Zugriff mehrerer Threads auf die Einträge desselben Schemas. Jeder Thread fragt
+	 * seine Anmeldung wiederholt ab und speichert sie, falls sie nicht vorhanden ist. Zusätzlich werden die
+	 * Einträge des Schemas zwischendurch verworfen.
+	 *
+	 * @throws Exception   im Fehlerfall bei der Ausführung der Threads
+	 */
+	@Test
+	@DisplayName("Prüfe den parallelen Zugriff auf Anmeldungen")
+	void testParallelerZugriff() throws Exception {
+		final BenutzerCache cache = new BenutzerCache(BenutzerCache.DEFAULT_TTL_MILLIS);
+		final int anzahlThreads = 8;
+		final ExecutorService executor = Executors.newFixedThreadPool(anzahlThreads);
+		try {
+			final List<Future<?>> ergebnisse = new ArrayList<>();
+			for (int t = 0; t < anzahlThreads; t++) {
+				final String username = "Benutzer" + t;
+				final boolean verwerfen = (t == 0);
+				ergebnisse.add(executor.submit(() -> {
+					for (int i = 0; i < 1000; i++) {
+						final long generation = cache.getGeneration("schema");
+						final Benutzer b = cache.get("schema", username, "geheim");
+						if (b == null)
+							cache.put("schema", username, "geheim", benutzer, generation);
+						else
+							assertSame(benutzer, b);
+						assertNull(cache.get("schema", username, "falsch"));
+						if (verwerfen && ((i % 100) == 0))
+							cache.invalidate("schema");
+					}
+				}));
+			}
+			for (final Future<?> ergebnis : ergebnisse)
+				ergebnis.get();
+		} finally {
+			executor.shutdown();
+		}
+
+		// Nach dem letzten Verwerfen werden alle Anmeldungen wieder gespeichert und gefunden
+		cache.invalidate("schema");
+		for (int t = 0; t < anzahlThreads; t++)
+			cache.put("schema", "Benutzer" + t, "geheim", benutzer, cache.getGeneration("schema"));
+		assertEquals(anzahlThreads, cache.size("schema"));
+		for (int t = 0; t < anzahlThreads; t++)
+			assertSame(benutzer, cache.get("schema", "Benutzer" + t, "geheim"));
+	}
+
+}
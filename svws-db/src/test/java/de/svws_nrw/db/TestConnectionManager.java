@@ -0,0 +1,238 @@
+package de.svws_nrw.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.core.data.db.DBPoolStatistik;
+
+/**
+ * Diese Klasse testet den Connection-Pool des {@link ConnectionManager}.
+ */
+class TestConnectionManager {
+
+	private static File dbFile;
+
+	private static DBConfig config;
+
+	/**
+	 * Erzeugt die Konfiguration für eine temporäre SQLite-Datenbank.
+	 *
+	 * @throws IOException   falls die temporäre Datei nicht erzeugt werden kann
+	 */
+	@BeforeAll
+	static void setup() throws IOException {
+		dbFile = File.createTempFile("svws_connectionmanager", ".sqlite");
+		dbFile.delete();
+		config = new DBConfig(DBDriver.SQLITE, dbFile.getAbsolutePath(), null, false, null, null, false, true, 0, 0);
+	}
+
+	/**
+	 * Entfernt die temporäre SQLite-Datenbank.
+	 */
+	@AfterAll
+	static void cleanup() {
+		dbFile.delete();
+	}
+
+
+	/**
+	 * Prüft, dass alle Benutzer mit derselben Konfiguration denselben Verbindungs-Manager nutzen, dass
+	 * die Datenbank-Zugriffe eines Threads sich eine Belegung teilen und dass diese erst beim Schließen
+	 * des letzten Zugriffs wieder freigegeben wird. Ein mehrfaches Schließen hat keine Auswirkung.
+	 *
+	 * @throws DBException   falls die Verbindung nicht aufgebaut werden kann
+	 */
+	@Test
+	@DisplayName("Prüfe die gemeinsame Nutzung und die Freigabe von Datenbank-Zugriffen")
+	void testBelegungen() throws DBException {
+		final Benutzer benutzer1 = Benutzer.create(config);
+		final Benutzer benutzer2 = Benutzer.create(config);
+		assertSame(benutzer1.connectionManager, benutzer2.connectionManager);
+
+		final ConnectionManager manager = benutzer1.connectionManager;
+		final long anzahlVorher = manager.getPoolStatistik().anzahlBelegungen;
+		try (DBEntityManager conn1 = benutzer1.getEntityManager()) {
+			final DBEntityManager conn2 = benutzer2.getEntityManager();
+			final DBPoolStatistik statistik = manager.getPoolStatistik();
+			assertEquals(1, statistik.belegungenAktiv);
+			assertEquals(0, statistik.belegungenWartend);
+			assertEquals(ConnectionManager.POOL_MAX_VERBINDUNGEN, statistik.belegungenMaximal);
+			conn2.close();
+			conn2.close();
+			assertEquals(1, manager.getPoolStatistik().belegungenAktiv);
+		}
+		final DBPoolStatistik statistik = manager.getPoolStatistik();
+		assertEquals(0, statistik.belegungenAktiv);
+		assertEquals(anzahlVorher + 1, statistik.anzahlBelegungen);
+		assertTrue(ConnectionManager.getPoolStatistiken().stream().anyMatch(s -> s.location.equals(config.getDBLocation())));
+	}
+
+
+	/**
+	 * Belegt in einem eigenen Thread einen Datenbank-Zugriff und hält diesen, bis der übergebene Latch
+	 * freigegeben wird.
+	 *
+	 * @param executor    der Executor für den Thread
+	 * @param benutzer    der Benutzer
+	 * @param belegt      der Latch, welcher nach der Belegung heruntergezählt wird
+	 * @param freigeben   der Latch, auf dessen Freigabe vor dem Schließen gewartet wird
+	 *
+	 * @return das Future des Threads
+	 */
+	private static Future<Boolean> halteZugriff(final ExecutorService executor, final Benutzer benutzer, final CountDownLatch belegt,
+			final CountDownLatch freigeben) {
+		return executor.submit(() -> {
+			try (DBEntityManager conn = benutzer.getEntityManager()) {
+				belegt.countDown();
+				return freigeben.await(10, TimeUnit.SECONDS) && conn.isConnected();
+			}
+		});
+	}
+
+
+	/**
+	 * Prüft, dass bei einem erschöpften Pool auf die Freigabe eines Datenbank-Zugriffs gewartet wird.
+	 *
+	 * @throws Exception   im Fehlerfall beim Aufbau der Verbindung oder bei der Ausführung des Threads
+	 */
+	@Test
+	@DisplayName("Prüfe das Warten bei einem erschöpften Pool")
+	void testWarten() throws Exception {
+		final Benutzer benutzer = Benutzer.create(config);
+		final ConnectionManager manager = benutzer.connectionManager;
+		final ExecutorService executor = Executors.newFixedThreadPool(ConnectionManager.POOL_MAX_VERBINDUNGEN + 1);
+		final CountDownLatch belegt = new CountDownLatch(ConnectionManager.POOL_MAX_VERBINDUNGEN);
+		final List<CountDownLatch> freigaben = new ArrayList<>();
+		final List<Future<Boolean>> haltende = new ArrayList<>();
+		try {
+			for (int i = 0; i < ConnectionManager.POOL_MAX_VERBINDUNGEN; i++) {
+				freigaben.add(new CountDownLatch(1));
+				haltende.add(halteZugriff(executor, benutzer, belegt, freigaben.get(i)));
+			}
+			assertTrue(belegt.await(10, TimeUnit.SECONDS));
+			final Future<Boolean> wartend = executor.submit(() -> {
+				try (DBEntityManager conn = benutzer.getEntityManager()) {
+					return conn.isConnected();
+				}
+			});
+			for (int i = 0; (i < 100) && (manager.getPoolStatistik().belegungenWartend == 0); i++)
+				Thread.sleep(10);
+			assertEquals(1, manager.getPoolStatistik().belegungenWartend);
+
+			// Nach der Freigabe eines Zugriffs erhält die wartende Anfrage ihren Zugriff
+			freigaben.get(0).countDown();
+			assertTrue(haltende.get(0).get(5, TimeUnit.SECONDS));
+			assertTrue(wartend.get(5, TimeUnit.SECONDS));
+			assertEquals(0, manager.getPoolStatistik().belegungenWartend);
+		} finally {
+			for (final CountDownLatch freigabe : freigaben)
+				freigabe.countDown();
+			for (final Future<Boolean> f : haltende)
+				f.get(5, TimeUnit.SECONDS);
+			executor.shutdown();
+		}
+		assertEquals(0, manager.getPoolStatistik().belegungenAktiv);
+	}
+
+
+	/**
+	 * Prüft, dass ein Thread bei einem erschöpften Pool einen weiteren Datenbank-Zugriff öffnen kann,
+	 * wenn er selbst bereits einen Zugriff belegt hat, und somit verschachtelte Zugriffe nicht blockieren.
+	 *
+	 * @throws Exception   im Fehlerfall beim Aufbau der Verbindung oder bei der Ausführung der Threads
+	 */
+	@Test
+	@DisplayName("Prüfe verschachtelte Zugriffe bei einem erschöpften Pool")
+	void testVerschachtelt() throws Exception {
+		final Benutzer benutzer = Benutzer.create(config);
+		final ConnectionManager manager = benutzer.connectionManager;
+		final ExecutorService executor = Executors.newFixedThreadPool(ConnectionManager.POOL_MAX_VERBINDUNGEN - 1);
+		final CountDownLatch belegt = new CountDownLatch(ConnectionManager.POOL_MAX_VERBINDUNGEN - 1);
+		final CountDownLatch freigabe = new CountDownLatch(1);
+		final List<Future<Boolean>> haltende = new ArrayList<>();
+		try (DBEntityManager aussen = benutzer.getEntityManager()) {
+			for (int i = 0; i < ConnectionManager.POOL_MAX_VERBINDUNGEN - 1; i++)
+				haltende.add(halteZugriff(executor, benutzer, belegt, freigabe));
+			assertTrue(belegt.await(10, TimeUnit.SECONDS));
+			assertEquals(ConnectionManager.POOL_MAX_VERBINDUNGEN, manager.getPoolStatistik().belegungenAktiv);
+			final long zeitueberschreitungenVorher = manager.getPoolStatistik().anzahlZeitueberschreitungen;
+			try (DBEntityManager innen = benutzer.getEntityManager()) {
+				assertTrue(innen.isConnected());
+				assertEquals(ConnectionManager.POOL_MAX_VERBINDUNGEN, manager.getPoolStatistik().belegungenAktiv);
+			}
+			assertTrue(aussen.isConnected());
+			assertEquals(zeitueberschreitungenVorher, manager.getPoolStatistik().anzahlZeitueberschreitungen);
+		} finally {
+			freigabe.countDown();
+			for (final Future<Boolean> f : haltende)
+				assertTrue(f.get(5, TimeUnit.SECONDS));
+			executor.shutdown();
+		}
+		assertEquals(0, manager.getPoolStatistik().belegungenAktiv);
+	}
+
+
+	/**
+	 * Prüft, dass ein Datenbank-Zugriff nach der Leck-Schwelle einmalig als Leck gemeldet und nach der maximalen
+	 * Belegungsdauer für den Pool freigegeben wird. Das spätere Schließen des Zugriffs gibt die Belegung nicht
+	 * erneut frei, so dass danach genau die maximale Anzahl an Datenbank-Zugriffen gleichzeitig geöffnet werden kann.
+	 *
+	 * @throws Exception   im Fehlerfall beim Aufbau der Verbindung oder bei der Ausführung der Threads
+	 */
+	@Test
+	@DisplayName("Prüfe die Meldung von Lecks und die Freigabe nach der maximalen Belegungsdauer")
+	void testMaxBelegungsdauer() throws Exception {
+		final Benutzer benutzer = Benutzer.create(config);
+		final ConnectionManager manager = benutzer.connectionManager;
+		final long lecksVorher = manager.getPoolStatistik().anzahlLecks;
+		final long beginn = System.currentTimeMillis();
+		final DBEntityManager conn = benutzer.getEntityManager();
+		try {
+			manager.pruefeBelegungen(beginn + ConnectionManager.LECK_SCHWELLE_MILLIS + 1000);
+			manager.pruefeBelegungen(beginn + ConnectionManager.LECK_SCHWELLE_MILLIS + 2000);
+			assertEquals(lecksVorher + 1, manager.getPoolStatistik().anzahlLecks);
+			assertEquals(1, manager.getPoolStatistik().belegungenAktiv);
+
+			manager.pruefeBelegungen(beginn + ConnectionManager.MAX_BELEGUNGSDAUER_MILLIS + 1000);
+			assertEquals(0, manager.getPoolStatistik().belegungenAktiv);
+		} finally {
+			conn.close();
+		}
+		assertEquals(0, manager.getPoolStatistik().belegungenAktiv);
+
+		// Nach dem Schließen sind wieder genau die maximale Anzahl an Datenbank-Zugriffen verfügbar
+		final List<DBEntityManager> zugriffe = new ArrayList<>();
+		final ExecutorService executor = Executors.newFixedThreadPool(ConnectionManager.POOL_MAX_VERBINDUNGEN);
+		try {
+			final List<Future<DBEntityManager>> futures = new ArrayList<>();
+			for (int i = 0; i < ConnectionManager.POOL_MAX_VERBINDUNGEN; i++)
+				futures.add(executor.submit(benutzer::getEntityManager));
+			for (final Future<DBEntityManager> f : futures)
+				zugriffe.add(f.get(10, TimeUnit.SECONDS));
+			assertEquals(ConnectionManager.POOL_MAX_VERBINDUNGEN, manager.getPoolStatistik().belegungenAktiv);
+			assertEquals(0, manager.getPoolStatistik().belegungenWartend);
+		} finally {
+			for (final DBEntityManager z : zugriffe)
+				z.close();
+			executor.shutdown();
+		}
+		assertEquals(0, manager.getPoolStatistik().belegungenAktiv);
+	}
+
+}
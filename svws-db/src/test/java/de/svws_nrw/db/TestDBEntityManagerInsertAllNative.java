@@ -0,0 +1,106 @@
+package de.svws_nrw.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Diese Klasse testet das Einfügen von Datensätzen mit INSERT-Anweisungen mit mehreren Datensätzen über
+ * {@link DBEntityManager#transactionInsertAllNative(String, List, List, int)} in einer temporären SQLite-Datenbank,
+ * so wie es z.B. beim Schreiben der Blockungsergebnisse der gymnasialen Oberstufe genutzt wird.
+ */
+class TestDBEntityManagerInsertAllNative {
+
+	/** Die Spalten der Test-Tabelle */
+	private static final List<String> SPALTEN = List.of("ID", "Nr", "Wert");
+
+	/** Die Anzahl der einzufügenden Datensätze, so dass durch die Parameter-Grenze von SQLite mehrere Anweisungen benötigt werden */
+	private static final int ANZAHL_DATENSAETZE = (DBDriver.SQLITE.getMaxParameterProStatement() / SPALTEN.size()) * 3 + 1;
+
+
+	/**
+	 * Prüft, dass alle Datensätze über mehrere INSERT-Anweisungen hinweg - einschließlich eines unvollständigen letzten
+	 * Blocks - eingefügt werden, die Anzahl der eingefügten Datensätze korrekt zurückgegeben wird und die Werte
+	 * einschließlich NULL-Werten korrekt geschrieben werden. Zusätzlich wird geprüft, dass die Änderungen bei einem
+	 * Rollback der Transaktion verworfen werden und zuvor in derselben Transaktion ausgeführte Änderungen sichtbar sind.
+	 *
+	 * @throws Exception   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe das Einfügen von Datensätzen mit INSERT-Anweisungen mit mehreren Datensätzen")
+	void testInsertAllNative() throws Exception {
+		final File dbFile = File.createTempFile("svws_insertallnative", ".sqlite");
+		dbFile.delete();
+		try {
+			final Benutzer benutzer = Benutzer.create(new DBConfig(DBDriver.SQLITE, dbFile.getAbsolutePath(), null, false, null, null, false, true, 0, 0));
+			try (DBEntityManager conn = benutzer.getEntityManager()) {
+				conn.transactionBegin();
+				assertTrue(conn.transactionNativeUpdate("CREATE TABLE TestInsert (ID BIGINT NOT NULL, Nr INT NOT NULL, Wert VARCHAR(20), "
+						+ "PRIMARY KEY (ID, Nr))") != Integer.MIN_VALUE);
+				assertTrue(conn.transactionCommit());
+
+				final List<Object[]> datensaetze = new ArrayList<>();
+				for (long id = 1; id <= ANZAHL_DATENSAETZE; id++)
+					datensaetze.add(new Object[] { id, 1, ((id % 2) == 0) ? null : ("wert" + id) });
+
+				// Die Änderungen werden bei einem Rollback verworfen
+				conn.transactionBegin();
+				assertEquals(ANZAHL_DATENSAETZE, conn.transactionInsertAllNative("TestInsert", SPALTEN, datensaetze, Integer.MAX_VALUE));
+				conn.transactionRollback();
+				assertEquals(0, zaehle(conn, "1 = 1"));
+
+				// Die maximale Anzahl an Datensätzen je Anweisung wird durch die Parameter-Grenze des DBMS begrenzt
+				conn.transactionBegin();
+				assertEquals(ANZAHL_DATENSAETZE, conn.transactionInsertAllNative("TestInsert", SPALTEN, datensaetze, Integer.MAX_VALUE));
+				conn.transactionCommitOrThrow();
+				assertEquals(ANZAHL_DATENSAETZE, zaehle(conn, "Nr = 1"));
+				assertEquals(ANZAHL_DATENSAETZE / 2, zaehle(conn, "Nr = 1 AND Wert IS NULL"));
+				assertEquals(ANZAHL_DATENSAETZE - (ANZAHL_DATENSAETZE / 2), zaehle(conn, "Nr = 1 AND Wert = 'wert' || ID"));
+
+				// Eine kleinere übergebene maximale Anzahl an Datensätzen je Anweisung, zusammen mit einer zuvor in derselben Transaktion
+				// ausgeführten Änderung
+				final List<Object[]> weitere = new ArrayList<>();
+				for (long id = 1; id <= 250; id++)
+					weitere.add(new Object[] { id, 2, "weitere" });
+				conn.transactionBegin();
+				assertEquals(ANZAHL_DATENSAETZE, conn.transactionNativeDelete("DELETE FROM TestInsert WHERE Nr = 1"));
+				assertEquals(250, conn.transactionInsertAllNative("TestInsert", SPALTEN, weitere, 100));
+				conn.transactionCommitOrThrow();
+				assertEquals(0, zaehle(conn, "Nr = 1"));
+				assertEquals(250, zaehle(conn, "Nr = 2 AND Wert = 'weitere'"));
+
+				// Ungültige Parameter oder eine Verletzung des Primärschlüssels führen zu einer Exception, eine leere Liste zu keiner Änderung
+				conn.transactionBegin();
+				assertEquals(0, conn.transactionInsertAllNative("TestInsert", SPALTEN, List.of(), 100));
+				assertThrows(DBException.class, () -> conn.transactionInsertAllNative("TestInsert", List.of(), weitere, 100));
+				assertThrows(DBException.class, () -> conn.transactionInsertAllNative("TestInsert", SPALTEN, weitere, 100));
+				conn.transactionRollback();
+				assertEquals(250, zaehle(conn, "1 = 1"));
+			}
+		} finally {
+			dbFile.delete();
+		}
+	}
+
+
+	/**
+	 * Zählt die Datensätze der Test-Tabelle, welche die angegebene Bedingung erfüllen.
+	 *
+	 * @param conn        die Datenbank-Verbindung
+	 * @param bedingung   die Bedingung für die WHERE-Klausel
+	 *
+	 * @return die Anzahl der Datensätze
+	 */
+	private static long zaehle(final DBEntityManager conn, final String bedingung) {
+		final List<Object> result = conn.queryNative("SELECT COUNT(*) FROM TestInsert WHERE " + bedingung);
+		return ((Number) result.get(0)).longValue();
+	}
+
+}
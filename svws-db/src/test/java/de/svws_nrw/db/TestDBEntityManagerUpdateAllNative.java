@@ -0,0 +1,95 @@
+package de.svws_nrw.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Diese Klasse testet das Aktualisieren von Datensätzen über JDBC-Batches mit
+ * {@link DBEntityManager#transactionUpdateAllNative(String, List, List, List)} in einer temporären SQLite-Datenbank.
+ */
+class TestDBEntityManagerUpdateAllNative {
+
+	/** Die Anzahl der Datensätze in der Test-Tabelle */
+	private static final int ANZAHL_DATENSAETZE = 2500;
+
+	/** Die Anzahl der zu aktualisierenden Datensätze, so dass mehrere Batches benötigt werden */
+	private static final int ANZAHL_UPDATES = (2 * DBEntityManager.MAX_DATENSAETZE_PRO_BATCH) + 100;
+
+
+	/**
+	 * Prüft, dass alle Datensätze über mehrere Batches hinweg aktualisiert werden, die Anzahl der aktualisierten
+	 * Datensätze korrekt zurückgegeben wird und die übrigen Datensätze unverändert bleiben. Zusätzlich wird geprüft,
+	 * dass die Änderungen bei einem Rollback der Transaktion verworfen werden.
+	 *
+	 * @throws Exception   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe das Aktualisieren von Datensätzen über mehrere JDBC-Batches")
+	void testUpdateAllNative() throws Exception {
+		final File dbFile = File.createTempFile("svws_updateallnative", ".sqlite");
+		dbFile.delete();
+		try {
+			final Benutzer benutzer = Benutzer.create(new DBConfig(DBDriver.SQLITE, dbFile.getAbsolutePath(), null, false, null, null, false, true, 0, 0));
+			try (DBEntityManager conn = benutzer.getEntityManager()) {
+				conn.transactionBegin();
+				assertTrue(conn.transactionNativeUpdate("CREATE TABLE TestUpdate (ID BIGINT NOT NULL, Nr INT NOT NULL, Wert VARCHAR(20), Zahl INT, "
+						+ "PRIMARY KEY (ID, Nr))") != Integer.MIN_VALUE);
+				assertEquals(ANZAHL_DATENSAETZE, conn.transactionNativeUpdate("INSERT INTO TestUpdate (ID, Nr, Wert, Zahl) WITH RECURSIVE z(x) AS "
+						+ "(SELECT 1 UNION ALL SELECT x + 1 FROM z WHERE x < " + ANZAHL_DATENSAETZE + ") SELECT x, 1, 'alt', x FROM z"));
+				assertTrue(conn.transactionCommit());
+
+				final List<Object[]> updates = new ArrayList<>();
+				for (long id = 1; id <= ANZAHL_UPDATES; id++)
+					updates.add(new Object[] { "neu" + id, ((id % 2) == 0) ? null : Integer.valueOf(-1), id, 1 });
+				// Ein nicht vorhandener Schlüssel wird nicht mitgezählt
+				updates.add(new Object[] { "neu", 0, 1L, 2 });
+
+				// Die Änderungen werden bei einem Rollback verworfen
+				conn.transactionBegin();
+				assertEquals(ANZAHL_UPDATES, conn.transactionUpdateAllNative("TestUpdate", List.of("Wert", "Zahl"), List.of("ID", "Nr"), updates));
+				conn.transactionRollback();
+				assertEquals(0, zaehle(conn, "Wert <> 'alt'"));
+
+				conn.transactionBegin();
+				assertEquals(ANZAHL_UPDATES, conn.transactionUpdateAllNative("TestUpdate", List.of("Wert", "Zahl"), List.of("ID", "Nr"), updates));
+				conn.transactionCommitOrThrow();
+				assertEquals(ANZAHL_UPDATES, zaehle(conn, "Wert = 'neu' || ID"));
+				assertEquals(ANZAHL_UPDATES / 2, zaehle(conn, "Zahl IS NULL"));
+				assertEquals(ANZAHL_UPDATES / 2, zaehle(conn, "Zahl = -1"));
+				assertEquals(ANZAHL_DATENSAETZE - ANZAHL_UPDATES, zaehle(conn, "Wert = 'alt' AND Zahl = ID AND ID > " + ANZAHL_UPDATES));
+
+				// Ungültige Parameter führen zu einer Exception, eine leere Liste zu keiner Änderung
+				conn.transactionBegin();
+				assertEquals(0, conn.transactionUpdateAllNative("TestUpdate", List.of("Wert"), List.of("ID"), List.of()));
+				assertThrows(DBException.class, () -> conn.transactionUpdateAllNative("TestUpdate", List.of(), List.of("ID"), updates));
+				assertThrows(DBException.class, () -> conn.transactionUpdateAllNative("TestUpdate", List.of("Unbekannt"), List.of("ID"), updates));
+				conn.transactionRollback();
+			}
+		} finally {
+			dbFile.delete();
+		}
+	}
+
+
+	/**
+	 * Zählt die Datensätze der Test-Tabelle, welche die angegebene Bedingung erfüllen.
+	 *
+	 * @param conn        die Datenbank-Verbindung
+	 * @param bedingung   die Bedingung für die WHERE-Klausel
+	 *
+	 * @return die Anzahl der Datensätze
+	 */
+	private static long zaehle(final DBEntityManager conn, final String bedingung) {
+		final List<Object> result = conn.queryNative("SELECT COUNT(*) FROM TestUpdate WHERE " + bedingung);
+		return ((Number) result.get(0)).longValue();
+	}
+
+}
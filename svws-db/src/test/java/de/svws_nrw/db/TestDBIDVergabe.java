@@ -0,0 +1,337 @@
+package de.svws_nrw.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.db.schema.Schema;
+import de.svws_nrw.db.schema.SchemaRevisionen;
+
+/**
+ * Diese Klasse testet die blockweise Vergabe von IDs durch die {@link DBIDVergabe}. Die Aufteilung der Blöcke wird
+ * mit einem atomar erhöhten Maximalwert geprüft, die parallele Vergabe mit einer temporären SQLite-Datenbank.
+ */
+class TestDBIDVergabe {
+
+	/** Der Name der Tabelle, in welche bei dem Test mit einem Schema eingefügt wird */
+	private static final String TABELLE = "Benutzergruppen";
+
+	/** Die Anzahl der parallelen Threads bei dem Test mit einem Schema */
+	private static final int ANZAHL_THREADS_SCHEMA = 8;
+
+	/** Die Anzahl der Datensätze, die jeder Thread bei dem Test mit einem Schema einfügt */
+	private static final int IDS_PRO_THREAD_SCHEMA = 100;
+
+	/** Die Anzahl der parallelen Threads bei dem Test der parallelen Reservierungen */
+	private static final int ANZAHL_THREADS_RESERVIERUNG = 16;
+
+	/** Die Anzahl der IDs, die jeder Thread bei dem Test der parallelen Reservierungen anfordert */
+	private static final int IDS_PRO_THREAD_RESERVIERUNG = 500;
+
+	/** Die maximale Anzahl an Versuchen für eine Transaktion, wenn die SQLite-Datenbank durch eine andere Transaktion gesperrt ist */
+	private static final int MAX_VERSUCHE = 100;
+
+
+	/**
+	 * Prüft die Vergabe aufeinanderfolgender IDs innerhalb eines Blocks und die Reservierung neuer Blöcke.
+	 */
+	@Test
+	@DisplayName("Prüfe die Vergabe von IDs aus reservierten Blöcken")
+	void testBloecke() {
+		final AtomicLong maxID = new AtomicLong(100);
+		final AtomicInteger reservierungen = new AtomicInteger();
+		final DBIDVergabe.Reservierung reservierung = anzahl -> {
+			reservierungen.incrementAndGet();
+			return maxID.addAndGet(anzahl);
+		};
+		final DBIDVergabe vergabe = new DBIDVergabe(10);
+		for (long erwartet = 101; erwartet <= 125; erwartet++)
+			assertEquals(erwartet, vergabe.getNaechsteID("schema", "Tabelle", reservierung));
+		assertEquals(3, reservierungen.get());
+		assertEquals(130, maxID.get());
+		// Eine andere Tabelle und ein anderes Schema nutzen eigene Blöcke
+		assertEquals(131, vergabe.getNaechsteID("schema", "Andere", reservierung));
+		assertEquals(141, vergabe.getNaechsteID("anderes", "Tabelle", reservierung));
+		// Schema und Tabelle werden ohne Beachtung der Groß- und Kleinschreibung zugeordnet
+		assertEquals(126, vergabe.getNaechsteID("SCHEMA", "tabelle", reservierung));
+		assertEquals(5, reservierungen.get());
+		assertThrows(IllegalArgumentException.class, () -> new DBIDVergabe(0));
+	}
+
+
+	/**
+	 * Prüft, dass nach dem Invalidieren eines Schemas ein neuer Block reserviert wird und die restlichen
+	 * IDs des alten Blocks nicht mehr vergeben werden.
+	 */
+	@Test
+	@DisplayName("Prüfe das Invalidieren der Blöcke eines Schemas")
+	void testInvalidate() {
+		final AtomicLong maxID = new AtomicLong(0);
+		final DBIDVergabe.Reservierung reservierung = maxID::addAndGet;
+		final DBIDVergabe vergabe = new DBIDVergabe(10);
+		assertEquals(1, vergabe.getNaechsteID("schema", "Tabelle", reservierung));
+		assertEquals(11, vergabe.getNaechsteID("anderes", "Tabelle", reservierung));
+		vergabe.invalidate("Schema");
+		vergabe.invalidate(null);
+		assertEquals(21, vergabe.getNaechsteID("schema", "Tabelle", reservierung));
+		assertEquals(12, vergabe.getNaechsteID("anderes", "Tabelle", reservierung));
+		vergabe.invalidateAll();
+		assertEquals(31, vergabe.getNaechsteID("anderes", "Tabelle", reservierung));
+	}
+
+
+	/**
+	 * Prüft, dass die Blockvergabe erst ab Revision 16 genutzt wird und die Revision nur beim ersten Zugriff auf
+	 * das Schema bzw. nach dem Invalidieren gelesen wird.
+	 */
+	@Test
+	@DisplayName("Prüfe die Freigabe der Blockvergabe anhand der Revision")
+	void testRevision() {
+		final AtomicInteger zugriffe = new AtomicInteger();
+		final DBIDVergabe vergabe = new DBIDVergabe(10);
+		assertFalse(vergabe.istBlockvergabeMoeglich("alt", () -> {
+			zugriffe.incrementAndGet();
+			return SchemaRevisionen.REV_15.revision;
+		}));
+		assertFalse(vergabe.istBlockvergabeMoeglich("ALT", () -> {
+			zugriffe.incrementAndGet();
+			return SchemaRevisionen.REV_16.revision;
+		}));
+		assertEquals(1, zugriffe.get());
+		assertTrue(vergabe.istBlockvergabeMoeglich("neu", () -> SchemaRevisionen.REV_16.revision));
+		assertFalse(vergabe.istBlockvergabeMoeglich(null, () -> SchemaRevisionen.REV_16.revision));
+		// Nach einem Update des Schemas wird die Revision erneut gelesen
+		vergabe.invalidate("alt");
+		assertTrue(vergabe.istBlockvergabeMoeglich("alt", () -> SchemaRevisionen.REV_16.revision));
+		vergabe.invalidateAll();
+		assertFalse(vergabe.istBlockvergabeMoeglich("neu", () -> -1));
+	}
+
+
+	/**
+	 * Prüft bei vielen parallelen Threads, welche über zwei ID-Vergaben mit unterschiedlichen Blockgrößen IDs für
+	 * zwei Tabellen anfordern, dass sich die reservierten Blöcke nicht überschneiden, keine ID doppelt vergeben wird
+	 * und jede ID in einem für ihre Tabelle reservierten Block liegt. Die Reservierung wartet dabei kurz, damit sich
+	 * parallele Reservierungen überlappen.
+	 *
+	 * @throws Exception   falls ein Thread mit einem Fehler beendet wird
+	 */
+	@Test
+	@DisplayName("Prüfe die Vergabe von IDs bei parallelen Reservierungen")
+	void testParallelReservierung() throws Exception {
+		final String[] tabellen = { "Tabelle", "Andere" };
+		final AtomicLong[] maxID = { new AtomicLong(0), new AtomicLong(1000) };
+		final List<ConcurrentLinkedQueue<long[]>> bloecke = List.of(new ConcurrentLinkedQueue<>(), new ConcurrentLinkedQueue<>());
+		final DBIDVergabe[] server = { new DBIDVergabe(DBIDVergabe.DEFAULT_BLOCKGROESSE), new DBIDVergabe(7) };
+		final List<Future<List<Long>>> ergebnisse = new ArrayList<>();
+		try (ExecutorService executor = Executors.newCachedThreadPool()) {
+			for (int t = 0; t < ANZAHL_THREADS_RESERVIERUNG; t++) {
+				final DBIDVergabe vergabe = server[t % 2];
+				final int tab = (t / 2) % 2;
+				ergebnisse.add(executor.submit(() -> {
+					final List<Long> ids = new ArrayList<>();
+					for (int i = 0; i < IDS_PRO_THREAD_RESERVIERUNG; i++) {
+						ids.add(vergabe.getNaechsteID("schema", tabellen[tab], anzahl -> {
+							try {
+								Thread.sleep(1);
+							} catch (final InterruptedException e) {
+								Thread.currentThread().interrupt();
+								throw new IllegalStateException(e);
+							}
+							final long letzte = maxID[tab].addAndGet(anzahl);
+							bloecke.get(tab).add(new long[] { letzte - anzahl + 1, letzte });
+							return letzte;
+						}));
+					}
+					return ids;
+				}));
+			}
+		}
+		for (int tab = 0; tab < tabellen.length; tab++) {
+			final List<long[]> sortiert = new ArrayList<>(bloecke.get(tab));
+			sortiert.sort(Comparator.comparingLong(b -> b[0]));
+			for (int i = 1; i < sortiert.size(); i++)
+				assertTrue(sortiert.get(i - 1)[1] < sortiert.get(i)[0], "Die reservierten Blöcke überschneiden sich.");
+		}
+		final Set<Long> alle = new HashSet<>();
+		for (int t = 0; t < ANZAHL_THREADS_RESERVIERUNG; t++) {
+			final List<long[]> bloeckeTabelle = new ArrayList<>(bloecke.get((t / 2) % 2));
+			for (final Long id : ergebnisse.get(t).get()) {
+				assertTrue(alle.add(id), "Die ID " + id + " wurde doppelt vergeben.");
+				assertTrue(bloeckeTabelle.stream().anyMatch(b -> (b[0] <= id) && (id <= b[1])), "Die ID " + id + " liegt in keinem reservierten Block.");
+			}
+		}
+		assertEquals(ANZAHL_THREADS_RESERVIERUNG * IDS_PRO_THREAD_RESERVIERUNG, alle.size());
+	}
+
+
+	/**
+	 * Prüft in einem realen Schema, dass bei parallelen Einfügungen keine ID doppelt vergeben wird und der
+	 * Maximalwert in Schema_AutoInkremente nie verringert wird. Es werden zwei ID-Vergaben genutzt, welche zwei
+	 * SVWS-Server mit derselben Datenbank simulieren. Die Blöcke werden dabei wie beim SVWS-Server in einer eigenen
+	 * Transaktion reserviert. Zusätzlich werden Datensätze wie von Schild3 mit einer negativen ID eingefügt, so dass
+	 * die ID durch die Trigger für das Auto-Inkrement bestimmt wird.
+	 *
+	 * @throws Exception   falls ein Thread mit einem Fehler beendet wird
+	 */
+	@Test
+	@DisplayName("Prüfe die Eindeutigkeit der IDs bei parallelen Einfügungen in ein Schema")
+	void testParallelSchema() throws Exception {
+		final File dbFile = File.createTempFile("svws_idvergabe", ".sqlite");
+		dbFile.delete();
+		try {
+			final Benutzer benutzer = Benutzer.create(new DBConfig(DBDriver.SQLITE, dbFile.getAbsolutePath(), null, false, null, null, false, true, 0, 0));
+			try (DBEntityManager conn = benutzer.getEntityManager()) {
+				erstelleTabellen(conn);
+			}
+			final DBIDVergabe[] server = { new DBIDVergabe(DBIDVergabe.DEFAULT_BLOCKGROESSE), new DBIDVergabe(7) };
+			final AtomicBoolean beendet = new AtomicBoolean(false);
+			final List<Future<List<Long>>> ergebnisse = new ArrayList<>();
+			final Future<Boolean> monotonie;
+			try (ExecutorService executor = Executors.newCachedThreadPool()) {
+				// Prüfe parallel, dass der Maximalwert in Schema_AutoInkremente nie verringert wird
+				monotonie = executor.submit(() -> {
+					try (DBEntityManager conn = benutzer.getEntityManager()) {
+						long vorher = 0;
+						while (!beendet.get()) {
+							final long maxID = getMaxID(conn);
+							if (maxID < vorher)
+								return false;
+							vorher = maxID;
+							Thread.sleep(1);
+						}
+						return true;
+					}
+				});
+				for (int t = 0; t < ANZAHL_THREADS_SCHEMA; t++) {
+					final int nr = t;
+					ergebnisse.add(executor.submit(() -> {
+						final List<Long> ids = new ArrayList<>();
+						try (DBEntityManager conn = benutzer.getEntityManager()) {
+							for (int i = 0; i < IDS_PRO_THREAD_SCHEMA; i++) {
+								if (nr == 0) {
+									fuegeEin(conn, -1);
+								} else {
+									final long id = server[nr % 2].getNaechsteID("schema", TABELLE, anzahl -> reserviere(conn, anzahl));
+									fuegeEin(conn, id);
+									ids.add(id);
+								}
+							}
+						}
+						return ids;
+					}));
+				}
+				try {
+					for (final Future<List<Long>> ergebnis : ergebnisse)
+						ergebnis.get();
+				} finally {
+					beendet.set(true);
+				}
+			}
+			assertTrue(monotonie.get(), "Der Maximalwert in Schema_AutoInkremente wurde verringert.");
+			final Set<Long> alle = new HashSet<>();
+			for (final Future<List<Long>> ergebnis : ergebnisse)
+				for (final Long id : ergebnis.get())
+					assertTrue(alle.add(id), "Die ID " + id + " wurde doppelt vergeben.");
+			try (DBEntityManager conn = benutzer.getEntityManager()) {
+				final Object[] zeile = conn.<Object[]>queryNative("SELECT COUNT(*), COUNT(DISTINCT ID), MIN(ID), MAX(ID) FROM " + TABELLE).get(0);
+				assertEquals(ANZAHL_THREADS_SCHEMA * IDS_PRO_THREAD_SCHEMA, ((Number) zeile[0]).longValue());
+				assertEquals(ANZAHL_THREADS_SCHEMA * IDS_PRO_THREAD_SCHEMA, ((Number) zeile[1]).longValue());
+				assertTrue(((Number) zeile[2]).longValue() > 0);
+				assertTrue(getMaxID(conn) >= ((Number) zeile[3]).longValue());
+			}
+		} finally {
+			dbFile.delete();
+		}
+	}
+
+
+	/**
+	 * Erstellt die Tabelle Schema_AutoInkremente und die Tabelle für den Test mit den Triggern für das Auto-Inkrement.
+	 *
+	 * @param conn   die Datenbank-Verbindung
+	 */
+	private static void erstelleTabellen(final DBEntityManager conn) {
+		final long rev = SchemaRevisionen.maxDeveloperRevision.revision;
+		conn.transactionBegin();
+		assertTrue(conn.transactionNativeUpdate(Schema.tab_Schema_AutoInkremente.getSQL(DBDriver.SQLITE, rev)) != Integer.MIN_VALUE);
+		assertTrue(conn.transactionNativeUpdate(Schema.tab_Benutzergruppen.getSQL(DBDriver.SQLITE, rev)) != Integer.MIN_VALUE);
+		for (final String sql : Schema.tab_Benutzergruppen.getPrimaerschluesselTriggerSQLList(DBDriver.SQLITE, rev, true))
+			assertTrue(conn.transactionNativeUpdate(sql) != Integer.MIN_VALUE);
+		assertEquals(1, conn.transactionNativeUpdate("INSERT INTO Schema_AutoInkremente(NameTabelle, MaxID) VALUES ('" + TABELLE + "', 0)"));
+		assertTrue(conn.transactionCommit());
+	}
+
+
+	/**
+	 * Reserviert wie der SVWS-Server in einer eigenen Transaktion die angegebene Anzahl an IDs, indem der
+	 * Maximalwert in Schema_AutoInkremente erhöht wird. Bei einer Sperre der Datenbank wird die Reservierung wiederholt.
+	 *
+	 * @param conn     die Datenbank-Verbindung
+	 * @param anzahl   die Anzahl der zu reservierenden IDs
+	 *
+	 * @return die größte reservierte ID
+	 */
+	private static long reserviere(final DBEntityManager conn, final int anzahl) {
+		for (int versuch = 1; versuch <= MAX_VERSUCHE; versuch++) {
+			conn.transactionBegin();
+			if (conn.transactionNativeUpdate("UPDATE Schema_AutoInkremente SET MaxID = MaxID + " + anzahl + " WHERE NameTabelle = '" + TABELLE + "'") == 1) {
+				final long maxID = getMaxID(conn);
+				if (conn.transactionCommit())
+					return maxID;
+			}
+			conn.transactionRollback();
+		}
+		throw new IllegalStateException("Die Reservierung der IDs ist fehlgeschlagen.");
+	}
+
+
+	/**
+	 * Fügt einen Datensatz mit der angegebenen ID in einer eigenen Transaktion ein. Bei einer Sperre der Datenbank
+	 * wird das Einfügen wiederholt. Eine Verletzung des Primärschlüssels führt nach der letzten Wiederholung zu einem Fehler.
+	 *
+	 * @param conn   die Datenbank-Verbindung
+	 * @param id     die ID oder eine negative Zahl, wenn die ID über den Trigger bestimmt werden soll
+	 */
+	private static void fuegeEin(final DBEntityManager conn, final long id) {
+		for (int versuch = 1; versuch <= MAX_VERSUCHE; versuch++) {
+			conn.transactionBegin();
+			if ((conn.transactionNativeUpdate("INSERT INTO " + TABELLE + "(ID, Bezeichnung) VALUES (" + id + ", 'Test')") == 1) && conn.transactionCommit())
+				return;
+			conn.transactionRollback();
+		}
+		throw new IllegalStateException("Der Datensatz mit der ID " + id + " konnte nicht eingefügt werden.");
+	}
+
+
+	/**
+	 * Liest den Maximalwert der Test-Tabelle aus Schema_AutoInkremente.
+	 *
+	 * @param conn   die Datenbank-Verbindung
+	 *
+	 * @return der Maximalwert
+	 */
+	private static long getMaxID(final DBEntityManager conn) {
+		final List<Number> werte = conn.queryNative("SELECT MaxID FROM Schema_AutoInkremente WHERE NameTabelle = '" + TABELLE + "'");
+		return werte.isEmpty() ? 0 : werte.get(0).longValue();
+	}
+
+}
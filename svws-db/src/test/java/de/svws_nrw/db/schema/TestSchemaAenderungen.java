@@ -0,0 +1,67 @@
+package de.svws_nrw.db.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.db.DBDriver;
+import de.svws_nrw.db.schema.tabellen.Tabelle_Schema_Aenderungen;
+
+/**
+ * Diese Klasse testet die Bestimmung der Tabellen mit Änderungszählern in der Tabelle Schema_Aenderungen
+ * abhängig von der Revision des Schemas.
+ */
+class TestSchemaAenderungen {
+
+	/** Die Tabellen, deren Änderungen ab der Revision 13 gezählt werden */
+	private static final Set<String> TABELLEN_REV_13 = Set.of("EigeneSchule", "EigeneSchule_Jahrgaenge", "EigeneSchule_Faecher");
+
+	/** Die Tabellen mit häufigen, parallelen Schreibzugriffen, deren Zähler auf mehr Zeilen verteilt werden */
+	private static final Set<String> SCHREIBINTENSIV = Set.of("Stundenplan_Unterricht", "Stundenplan_UnterrichtKlasse", "Stundenplan_UnterrichtLehrer",
+			"Stundenplan_UnterrichtRaum", "Stundenplan_UnterrichtSchiene", "Stundenplan_Pausenaufsichten", "Stundenplan_PausenaufsichtenBereich",
+			"Gost_Klausuren_Schuelerklausuren", "Gost_Klausuren_Schuelerklausuren_Termine");
+
+
+	/**
+	 * Prüft die Tabellen mit Änderungszählern für die einzelnen Revisionen.
+	 */
+	@Test
+	@DisplayName("Prüfe die Tabellen mit Änderungszählern abhängig von der Revision")
+	void testTabellenMitZaehler() {
+		assertEquals(Set.of(), Schema.tab_Schema_Aenderungen.getTabellenMitZaehler(SchemaRevisionen.REV_12.revision));
+		assertEquals(TABELLEN_REV_13, Schema.tab_Schema_Aenderungen.getTabellenMitZaehler(SchemaRevisionen.REV_13.revision));
+		assertEquals(TABELLEN_REV_13, Schema.tab_Schema_Aenderungen.getTabellenMitZaehler(SchemaRevisionen.REV_14.revision));
+		final Set<String> rev15 = Schema.tab_Schema_Aenderungen.getTabellenMitZaehler(SchemaRevisionen.REV_15.revision);
+		assertTrue(rev15.containsAll(TABELLEN_REV_13));
+		assertTrue(rev15.containsAll(Set.of("Schuljahresabschnitte", "Stundenplan", "Stundenplan_Unterricht", "Stundenplan_Pausenaufsichten",
+				"Gost_Klausuren_Vorgaben", "Gost_Klausuren_Schuelerklausuren_Termine")));
+		assertEquals(23, rev15.size());
+		assertEquals(rev15, Schema.tab_Schema_Aenderungen.getTabellenMitZaehler(SchemaRevisionen.maxDeveloperRevision.revision));
+	}
+
+
+	/**
+	 * Prüft, dass für jede Tabelle mit Änderungszähler alle drei Trigger vorhanden sind, die Namen der
+	 * Trigger die maximale Länge von Bezeichnern bei MariaDB nicht überschreiten und die Trigger den Zähler
+	 * anhand der Verbindungs-ID auf die für die Tabelle vorgesehene Anzahl an Zeilen verteilen.
+	 */
+	@Test
+	@DisplayName("Prüfe die Trigger für die Änderungszähler")
+	void testTrigger() {
+		final long rev = SchemaRevisionen.maxDeveloperRevision.revision;
+		final Set<String> tabellen = Schema.tab_Schema_Aenderungen.getTabellenMitZaehler(rev);
+		assertEquals(3 * tabellen.size(), Schema.tab_Schema_Aenderungen.trigger().size());
+		for (final SchemaTabelleTrigger trigger : Schema.tab_Schema_Aenderungen.trigger()) {
+			assertTrue(trigger.name().length() <= 64, "Der Name des Triggers " + trigger.name() + " ist zu lang.");
+			final String sql = trigger.getSQL(DBDriver.MARIA_DB, true);
+			final boolean schreibintensiv = SCHREIBINTENSIV.contains(trigger.tabellenGenutzt().get(0).name());
+			final int shards = schreibintensiv ? Tabelle_Schema_Aenderungen.ANZAHL_SHARDS_SCHREIBINTENSIV : Tabelle_Schema_Aenderungen.ANZAHL_SHARDS;
+			assertTrue(sql.contains("CONNECTION_ID() % " + shards + ","), "Der Trigger " + trigger.name() + " verteilt den Zähler nicht auf " + shards + " Zeilen.");
+		}
+	}
+
+}
@@ -0,0 +1,96 @@
+package de.svws_nrw.metriken;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Diese Klasse testet die Erfassung der {@link Metriken} und deren Ausgabe im Text-Format von Prometheus.
+ */
+class TestMetriken {
+
+	/**
+	 * Prüft die Verteilung der Werte auf die Intervalle eines Histogramms und die kumulierte Ausgabe.
+	 */
+	@Test
+	@DisplayName("Prüfe die Ausgabe eines Histogramms")
+	void testHistogramm() {
+		final Histogramm h = new Histogramm("test_dauer_sekunden", "Eine Test-Metrik.", new double[] { 0.1, 1 }, "resource");
+		h.beobachte(0.0625, "A");
+		h.beobachte(0.5, "A");
+		h.beobachte(1, "A");
+		h.beobachte(2, "A");
+		h.beobachte(0.5, "B\"x");
+		assertEquals(4, h.getAnzahl("A"));
+		assertEquals(0, h.getAnzahl("C"));
+		assertEquals(3.5625, h.getSumme("A"));
+		assertEquals(0, h.getSumme("C"));
+		assertThrows(IllegalArgumentException.class, () -> h.beobachte(1, "A", "B"));
+		final StringBuilder sb = new StringBuilder();
+		h.schreibe(sb);
+		final List<String> zeilen = sb.toString().lines().toList();
+		assertEquals(List.of(
+				"# HELP test_dauer_sekunden Eine Test-Metrik.",
+				"# TYPE test_dauer_sekunden histogram",
+				"test_dauer_sekunden_bucket{resource=\"A\",le=\"0.1\"} 1",
+				"test_dauer_sekunden_bucket{resource=\"A\",le=\"1\"} 3",
+				"test_dauer_sekunden_bucket{resource=\"A\",le=\"+Inf\"} 4",
+				"test_dauer_sekunden_sum{resource=\"A\"} 3.5625",
+				"test_dauer_sekunden_count{resource=\"A\"} 4",
+				"test_dauer_sekunden_bucket{resource=\"B\\\"x\",le=\"0.1\"} 0",
+				"test_dauer_sekunden_bucket{resource=\"B\\\"x\",le=\"1\"} 1",
+				"test_dauer_sekunden_bucket{resource=\"B\\\"x\",le=\"+Inf\"} 1",
+				"test_dauer_sekunden_sum{resource=\"B\\\"x\"} 0.5",
+				"test_dauer_sekunden_count{resource=\"B\\\"x\"} 1"), zeilen);
+	}
+
+
+	/**
+	 * Prüft, dass die SQL-Anweisungen eines Threads der aktuellen Anfrage zugeordnet werden und eine Anfrage
+	 * nur einmal erfasst wird.
+	 */
+	@Test
+	@DisplayName("Prüfe die Erfassung der Metriken einer Anfrage")
+	void testAnfrage() {
+		final String resource = "TestMetriken.testAnfrage";
+		final AnfrageMetriken anfrage = AnfrageMetriken.starte(resource, "GET");
+		AnfrageMetriken.registriereSQL(2_000_000);
+		AnfrageMetriken.registriereSQL(3_000_000);
+		anfrage.setStatus(200);
+		anfrage.beende();
+		anfrage.beende();
+		// Nach dem Abschluss der Anfrage werden SQL-Anweisungen nur noch in den Metriken des Servers erfasst
+		AnfrageMetriken.registriereSQL(1_000_000);
+		assertEquals(1, Metriken.API_DAUER.getAnzahl(resource, "GET", "200"));
+		assertEquals(1, Metriken.API_SQL_ANWEISUNGEN.getAnzahl(resource));
+		assertEquals(1, Metriken.API_DB_ZEIT.getAnzahl(resource));
+		final String text = Metriken.getPrometheusText();
+		assertTrue(text.contains("svws_api_anfrage_sql_anweisungen_bucket{resource=\"" + resource + "\",le=\"1\"} 0\n"));
+		assertTrue(text.contains("svws_api_anfrage_sql_anweisungen_bucket{resource=\"" + resource + "\",le=\"2\"} 1\n"));
+		assertTrue(text.contains("svws_api_anfrage_sql_anweisungen_sum{resource=\"" + resource + "\"} 2\n"));
+		assertTrue(text.contains("svws_api_anfrage_db_zeit_sekunden_sum{resource=\"" + resource + "\"} 0.005\n"));
+		assertTrue(text.contains("# TYPE svws_db_sql_anweisungen_total counter\n"));
+		assertTrue(text.contains("# TYPE svws_db_pool_verbindungen_aktiv gauge\n"));
+		assertTrue(text.contains("# TYPE svws_db_katalog_cache_treffer_total counter\n"));
+		assertTrue(text.contains("# TYPE svws_db_katalog_cache_fehlschlaege_total counter\n"));
+	}
+
+
+	/**
+	 * Prüft die Erfassung der Laufzeit eines Algorithmus.
+	 */
+	@Test
+	@DisplayName("Prüfe die Erfassung der Laufzeit eines Algorithmus")
+	void testAlgorithmus() {
+		final long start = System.nanoTime();
+		Metriken.registriereAlgorithmus("TestAlgorithmus", start);
+		assertEquals(1, Metriken.ALGORITHMUS_DAUER.getAnzahl("TestAlgorithmus"));
+		assertTrue(Metriken.getPrometheusText().contains("svws_algorithmus_dauer_sekunden_count{algorithmus=\"TestAlgorithmus\"} 1\n"));
+	}
+
+}
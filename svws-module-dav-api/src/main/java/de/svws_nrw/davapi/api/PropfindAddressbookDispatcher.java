@@ -193,14 +193,11 @@ public class PropfindAddressbookDispatcher extends DavDispatcher {
 		if (dynamicPropUtil.getIsFieldRequested(Getetag.class)) {
 			final Getetag getetag = new Getetag();
 			/*
-			 * TODO: "Echten" Versions-E-Tag vergeben. Mit dem folgenden Code werden immer
-			 * alle Kontakte als "geändert" angesehen. Derzeit gibt es im SVWS-Datenmodell
-			 * keine Änderungshistorie. Insofern kann nicht ermittelt werden, ob ein Kontakt
-			 * geändert wurde oder nicht. Es ist ineffizient alle Kontakte immer als
-			 * "geändert" anzusehen.
+			 * Kontakte aus dem AdressbuchCache haben ein ETag aus dem Inhalt ihrer vCard.
+			 * Für alle anderen Kontakte kann nicht ermittelt werden, ob sie geändert wurden,
+			 * so dass sie über ein zufälliges ETag immer als "geändert" angesehen werden.
 			 */
-			final UUID uuid = UUID.randomUUID();
-			getetag.getContent().add(uuid.toString());
+			getetag.getContent().add(eintrag.version.isBlank() ? UUID.randomUUID().toString() : eintrag.version);
 			prop200.setGetetag(getetag);
 		}
 
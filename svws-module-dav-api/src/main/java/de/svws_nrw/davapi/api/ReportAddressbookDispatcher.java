@@ -2,6 +2,7 @@ package de.svws_nrw.davapi.api;
 
 import de.svws_nrw.core.data.adressbuch.Adressbuch;
 import de.svws_nrw.core.data.adressbuch.AdressbuchEintrag;
+import de.svws_nrw.davapi.data.AdressbuchCache;
 import de.svws_nrw.davapi.data.CollectionRessourceQueryParameters;
 import de.svws_nrw.davapi.data.IAdressbuchRepository;
 import de.svws_nrw.davapi.model.dav.Getetag;
@@ -19,6 +20,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -129,10 +131,10 @@ public class ReportAddressbookDispatcher extends DavDispatcher {
 	private Multistatus handleSyncCollectionRequest(final Adressbuch adressbuch, final SyncCollection syncCollection) {
 		final Multistatus ms = new Multistatus();
 		uriParameter.setResourceCollectionId(adressbuch.id);
-		for (final AdressbuchEintrag eintrag : this.getEintraegeBySyncToken(adressbuch.id, syncCollection.getSyncToken())) {
+		for (final AdressbuchEintrag eintrag : getEintraegeBySyncToken(adressbuch, syncCollection.getSyncToken())) {
 			ms.getResponse().add(this.generateResponseContactLevel(eintrag, syncCollection.getProp()));
 		}
-		ms.setSyncToken(Integer.toString(adressbuch.synctoken));
+		ms.setSyncToken(Long.toString(adressbuch.synctoken));
 		return ms;
 	}
 
@@ -149,8 +151,9 @@ public class ReportAddressbookDispatcher extends DavDispatcher {
 	 */
 	private List<AdressbuchEintrag> getEintraegeByHrefs(@NotNull final Adressbuch adressbuch, final List<String> eintragHrefs) {
 		uriParameter.setResourceCollectionId(adressbuch.id);
-		adressbuch.adressbuchEintraege.forEach(this::modifyEintragUri);
-		return adressbuch.adressbuchEintraege.stream().filter(k -> eintragHrefs.contains(k.uri)).toList();
+		// Die Einträge werden ggf. aus dem AdressbuchCache gemeinsam genutzt und daher nicht verändert
+		final HashSet<String> hrefs = new HashSet<>(eintragHrefs);
+		return adressbuch.adressbuchEintraege.stream().filter(k -> hrefs.contains(getEintragUri(k))).toList();
 	}
 
 	/**
@@ -159,34 +162,33 @@ public class ReportAddressbookDispatcher extends DavDispatcher {
 	 * Synchronisation von Adressbüchern mit dem aufrufenden Client. Die Methode
 	 * liefert alle Eintraege eines Adressbuchs zurück, die sich nach dem
 	 * angegebenen des Sync-Tokens serverseitig geändert haben oder neu
-	 * hinzugekommen sind.
+	 * hinzugekommen sind. Entspricht das Sync-Token dem aktuellen
+	 * Versionskennzeichen des Adressbuchs, so wird eine leere Liste
+	 * zurückgegeben. Ansonsten werden alle Eintraege als geändert angesehen, da
+	 * für ältere Stände keine Einzelversionen vorliegen.
 	 *
-	 * @param adressbuchId Id des Adressbuchs, aus dem Eintraege ermittelt werden
-	 *                     sollen.
-	 * @param syncToken    Sync-Token bzw. Aufsetzpunkt zur Abfrage von
-	 *                     Differenzdaten.
+	 * @param adressbuch Adressbuch, aus dem Eintraege ermittelt werden sollen.
+	 * @param syncToken  Sync-Token bzw. Aufsetzpunkt zur Abfrage von
+	 *                   Differenzdaten.
 	 * @return Liste von Eintraegen.
 	 */
-	private List<AdressbuchEintrag> getEintraegeBySyncToken(final String adressbuchId, final String syncToken) {
-		// TODO: Filterung über Sync-Token ergänzen
-		final Optional<Adressbuch> adressbuchById = this.repository.getAdressbuchById(adressbuchId,
-				CollectionRessourceQueryParameters.INCLUDE_RESSOURCES_INCLUDE_PAYLOAD);
-		if (adressbuchById.isEmpty()) {
+	private static List<AdressbuchEintrag> getEintraegeBySyncToken(final Adressbuch adressbuch, final String syncToken) {
+		if ((adressbuch.synctoken != 0) && Long.toString(adressbuch.synctoken).equals(syncToken)) {
 			return Collections.emptyList();
 		}
-		return adressbuchById.get().adressbuchEintraege.stream().toList();
+		return adressbuch.adressbuchEintraege;
 	}
 
 	/**
-	 * Generiert/Ergänzt die URI des DAV-APIs zu einer angegebenen Eintrag-Ressource
+	 * Generiert die URI des DAV-APIs zu einer angegebenen Eintrag-Ressource, ohne
+	 * den Eintrag zu verändern
 	 *
-	 * @param eintrag Eintrag (ohne URI)
-	 * @return eintrag Eintrag mit URI
+	 * @param eintrag Eintrag
+	 * @return die URI des Eintrags
 	 */
-	private AdressbuchEintrag modifyEintragUri(final AdressbuchEintrag eintrag) {
+	private String getEintragUri(final AdressbuchEintrag eintrag) {
 		uriParameter.setResourceId(eintrag.id);
-		eintrag.uri = (DavUriBuilder.getAddressEntryUri(uriParameter));
-		return eintrag;
+		return DavUriBuilder.getAddressEntryUri(uriParameter);
 	}
 
 	/**
@@ -205,8 +207,8 @@ public class ReportAddressbookDispatcher extends DavDispatcher {
 		final Prop prop200 = new Prop();
 		if (dynamicPropUtil.getIsFieldRequested(CardAddressData.class)) {
 			final CardAddressData addressData = new CardAddressData();
-			final VCard vCard = VCard.createVCard(eintrag);
-			addressData.getContent().add(vCard.serialize());
+			final String vCard = AdressbuchCache.get().getVCard(eintrag);
+			addressData.getContent().add((vCard != null) ? vCard : VCard.createVCard(eintrag).serialize());
 			prop200.setAddressData(addressData);
 		}
 
@@ -4,16 +4,19 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.time.Instant;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import de.svws_nrw.core.data.kalender.Kalender;
 import de.svws_nrw.core.data.kalender.KalenderEintrag;
 import de.svws_nrw.davapi.data.CollectionRessourceQueryParameters;
 import de.svws_nrw.davapi.data.IKalenderRepository;
+import de.svws_nrw.davapi.data.KalenderEintragFilter;
 import de.svws_nrw.davapi.model.dav.Getcontenttype;
 import de.svws_nrw.davapi.model.dav.Getetag;
 import de.svws_nrw.davapi.model.dav.Multistatus;
@@ -66,8 +69,9 @@ public class ReportCalendarDispatcher extends DavDispatcher {
 	 * @throws IOException beim Verarbeiten des Inputstreams
 	 */
 	public Object dispatch(final InputStream inputStream, final String ressourceCollectionId) throws IOException {
+		// die Einträge werden abhängig von der Anfrage gefiltert gelesen, hier wird nur der Kalender selbst benötigt
 		final Optional<Kalender> kalender = this.repository.getKalenderById(ressourceCollectionId,
-				CollectionRessourceQueryParameters.INCLUDE_RESSOURCES_INCLUDE_PAYLOAD);
+				CollectionRessourceQueryParameters.EXCLUDE_RESSOURCES);
 		if (kalender.isEmpty()) {
 			return this.createResourceNotFoundError("Kalender mit der angegebenen Id wurde nicht gefunden!");
 		}
@@ -185,7 +189,9 @@ public class ReportCalendarDispatcher extends DavDispatcher {
 	/**
 	 * Ermittelt eine Liste von angefragten KalenderEintraegen zu einem Kalender.
 	 * Welche Eintraege im Einzelnen zurückgegeben werden sollen, wird im Request
-	 * über die Angabe von URIs der Eintrag-Ressourcen gesteuert.
+	 * über die Angabe von URIs der Eintrag-Ressourcen gesteuert. Aus den URIs
+	 * werden die UIDs der Einträge bestimmt, so dass nur diese Einträge gelesen
+	 * werden.
 	 *
 	 * @param kalender     Kalender, aus dem KalenderEintraege ermittelt werden
 	 *                     sollen.
@@ -194,13 +200,48 @@ public class ReportCalendarDispatcher extends DavDispatcher {
 	 * @return Liste von Eintraegen.
 	 */
 	private List<KalenderEintrag> getEintraegeByHrefs(@NotNull final Kalender kalender, final List<String> eintragHrefs) {
+		if (eintragHrefs.isEmpty()) {
+			return this.repository.getKalenderEintraege(kalender.id, KalenderEintragFilter.ALLE);
+		}
+		final List<KalenderEintrag> eintraege = this.repository.getKalenderEintraege(kalender.id,
+				KalenderEintragFilter.ofUIDs(getUIDsFromHrefs(eintragHrefs)));
+		// Prüfe, ob die URIs der gefundenen Einträge tatsächlich angefragt wurden
+		final Set<String> hrefs = new HashSet<>(eintragHrefs);
 		uriParameter.setResourceCollectionId(kalender.id);
-		return kalender.kalenderEintraege.stream().filter(k -> {
+		return eintraege.stream().filter(k -> {
 			uriParameter.setResourceId(k.uid);
-			return eintragHrefs.isEmpty() || eintragHrefs.contains(DavUriBuilder.getCalendarEntryUri(uriParameter));
+			return hrefs.contains(DavUriBuilder.getCalendarEntryUri(uriParameter));
 		}).toList();
 	}
 
+	/**
+	 * Bestimmt die UIDs der Einträge aus den angegebenen URIs. Die UID ist das
+	 * letzte Pfadsegment der URI ohne die Dateiendung ".ics", vgl.
+	 * {@link DavUriBuilder#CARD_DAV_REL_URI_PATTERN_CALENDAR_ENTRY}.
+	 *
+	 * @param eintragHrefs die URIs der Einträge
+	 * @return die Liste der UIDs
+	 */
+	private static List<String> getUIDsFromHrefs(final List<String> eintragHrefs) {
+		final List<String> uids = new ArrayList<>();
+		for (final String href : eintragHrefs) {
+			String pfad;
+			try {
+				pfad = URI.create(href).getPath();
+			} catch (@SuppressWarnings("unused") final IllegalArgumentException e) {
+				pfad = href;
+			}
+			if (pfad == null)
+				continue;
+			String uid = pfad.substring(pfad.lastIndexOf('/') + 1);
+			if (uid.endsWith(".ics"))
+				uid = uid.substring(0, uid.length() - 4);
+			if (!uid.isEmpty())
+				uids.add(uid);
+		}
+		return uids;
+	}
+
 	/**
 	 * Ermittelt eine Liste von geänderten Eintraegen zu einem Kalender ab einem
 	 * bestimmten "Aufsetzpunkt" (Differenzdaten). Diese Funktion dient der
@@ -215,12 +256,7 @@ public class ReportCalendarDispatcher extends DavDispatcher {
 	 * @return Liste von Eintraegen.
 	 */
 	private List<KalenderEintrag> getEintraegeBySyncToken(final String kalenderId, final Long syncToken) {
-		final Optional<Kalender> kalenderById = this.repository.getKalenderById(kalenderId,
-				CollectionRessourceQueryParameters.INCLUDE_RESSOURCES_INCLUDE_PAYLOAD);
-		if (kalenderById.isEmpty()) {
-			return Collections.emptyList();
-		}
-		return kalenderById.get().kalenderEintraege.stream().filter(e -> Long.valueOf(e.version) > syncToken).toList();
+		return this.repository.getKalenderEintraege(kalenderId, KalenderEintragFilter.ofSyncToken(syncToken));
 	}
 
 	/**
@@ -235,58 +271,41 @@ public class ReportCalendarDispatcher extends DavDispatcher {
 	 * @return Liste von Einträgen.
 	 */
 	private List<KalenderEintrag> getEintraegeByFilter(final String kalenderId, final CalendarQuery calendarQuery) {
-		final Optional<Kalender> kalenderById = this.repository.getKalenderById(kalenderId,
-				CollectionRessourceQueryParameters.INCLUDE_RESSOURCES_INCLUDE_PAYLOAD);
-		if (kalenderById.isEmpty()) {
-			return Collections.emptyList();
-		}
-		final Predicate<? super @NotNull KalenderEintrag> eintragFilter = getEintragFilter(calendarQuery);
-		return kalenderById.get().kalenderEintraege.stream().filter(eintragFilter).toList();
+		return this.repository.getKalenderEintraege(kalenderId, getEintragFilter(calendarQuery));
 	}
 
 	/**
-	 * gibt das Filterprädikat für die gegebene Kalenderquery zurück. vgl.
+	 * gibt den Filter für die gegebene Kalenderquery zurück. vgl.
 	 * https://datatracker.ietf.org/doc/html/rfc4791#section-9.7.1
 	 *
 	 * @param calendarQuery das CalendarQuery, für das der Filter erstellt werden
 	 *                      soll
-	 * @return ein Prädikat zum Filtern von Kalendereinträgen auf Basis des
-	 *         CalendarQuery
+	 * @return ein Filter für Kalendereinträge auf Basis des CalendarQuery
 	 */
-	private static Predicate<? super @NotNull KalenderEintrag> getEintragFilter(final CalendarQuery calendarQuery) {
-		Predicate<KalenderEintrag> ressourceTypePredicate = e -> true;
-		Predicate<KalenderEintrag> componentTypePredicate = e -> true;
-		Predicate<KalenderEintrag> timeRangePredicate = e -> true;
-		if (calendarQuery != null && calendarQuery.getFilter() != null
-				&& calendarQuery.getFilter().getCompFilter() != null) {
-
-			CompFilter filter = calendarQuery.getFilter().getCompFilter();
-			// Filter für die Art der Ressource, bspw. VCALENDAR (andere
-			// Einträge haben wir nicht)
-			final String ressourceTypeFilter = filter.getName();
-			if (ressourceTypeFilter != null) {
-				ressourceTypePredicate = e -> e.data != null && e.data.startsWith("BEGIN:" + ressourceTypeFilter);
-			}
-
-			if (filter.getCompFilter() != null) {
-				filter = filter.getCompFilter();
-				final String componentTypeFilter = filter.getName();
-				if (componentTypeFilter != null) {
-					// component type, bspw VEVENT, VTODO, VFREEBUSY oder VTIMEZONE
-					componentTypePredicate = e -> e.data != null && e.data.contains("BEGIN:" + componentTypeFilter);
-				}
-				if (filter.getTimeRange() != null && filter.getTimeRange().getStart() != null
-						&& filter.getTimeRange().getEnd() != null) {
-					final TimeRange timeRange = filter.getTimeRange();
-					final Instant timeRangeMin = DateTimeUtil.parseCalDav(timeRange.getStart());
-					final Instant timeRangeMax = DateTimeUtil.parseCalDav(timeRange.getEnd());
-					timeRangePredicate = e -> DateTimeUtil.intersect(timeRangeMin, timeRangeMax,
-							DateTimeUtil.fromSqlTimeStamp(e.kalenderStart),
-							DateTimeUtil.fromSqlTimeStamp(e.kalenderEnde));
-				}
+	private static KalenderEintragFilter getEintragFilter(final CalendarQuery calendarQuery) {
+		if (calendarQuery == null || calendarQuery.getFilter() == null
+				|| calendarQuery.getFilter().getCompFilter() == null) {
+			return KalenderEintragFilter.ALLE;
+		}
+		CompFilter filter = calendarQuery.getFilter().getCompFilter();
+		// Filter für die Art der Ressource, bspw. VCALENDAR (andere
+		// Einträge haben wir nicht)
+		final String ressourceTypeFilter = filter.getName();
+		String componentTypeFilter = null;
+		Instant timeRangeMin = null;
+		Instant timeRangeMax = null;
+		if (filter.getCompFilter() != null) {
+			filter = filter.getCompFilter();
+			// component type, bspw VEVENT, VTODO, VFREEBUSY oder VTIMEZONE
+			componentTypeFilter = filter.getName();
+			if (filter.getTimeRange() != null && filter.getTimeRange().getStart() != null
+					&& filter.getTimeRange().getEnd() != null) {
+				final TimeRange timeRange = filter.getTimeRange();
+				timeRangeMin = DateTimeUtil.parseCalDav(timeRange.getStart());
+				timeRangeMax = DateTimeUtil.parseCalDav(timeRange.getEnd());
 			}
 		}
-		return ressourceTypePredicate.and(componentTypePredicate).and(timeRangePredicate);
+		return KalenderEintragFilter.ofCompFilter(ressourceTypeFilter, componentTypeFilter, timeRangeMin, timeRangeMax);
 	}
 
 	/**
@@ -0,0 +1,269 @@
+package de.svws_nrw.davapi.data;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import de.svws_nrw.core.data.adressbuch.AdressbuchEintrag;
+import de.svws_nrw.davapi.util.vcard.VCard;
+import de.svws_nrw.db.DBDriver;
+import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.DBKatalogCache;
+import de.svws_nrw.db.schema.Schema;
+import de.svws_nrw.db.schema.SchemaRevisionen;
+
+/**
+ * Dieser Cache speichert pro Schema die Einträge generierter Adressbücher
+ * zusammen mit ihren serialisierten vCards zwischen. <br>
+ * Jedem Eintrag ist eine Version zugeordnet, bspw. das von den Triggern der
+ * Tabelle DavSyncTokenSchueler gepflegte SyncToken eines Schülers. Bei jeder
+ * Abfrage werden nur die Versionen mit dem aktuellen Stand der Datenbank
+ * verglichen und ausschließlich die Einträge mit geänderter Version neu
+ * erzeugt. Daten, welche alle Einträge eines Adressbuchs betreffen (bspw. der
+ * Name der Schule oder der aktuelle Schuljahresabschnitt), werden als Kontext
+ * übergeben. Ändert sich der Kontext oder wird das Schema über den
+ * {@link DBKatalogCache} invalidiert, so werden alle Einträge verworfen. <br>
+ * Das ETag eines Eintrags wird aus dem Inhalt seiner vCard bestimmt und in
+ * {@link AdressbuchEintrag#version} abgelegt. <br>
+ * Der Cache wird nur für MariaDB-Schemata ab Revision 17 genutzt, da nur dort
+ * die Trigger für die Versionen vorhanden sind und auch Änderungen von oder
+ * auf NULL-Werte erkennen. Die zurückgegebenen Einträge werden von
+ * mehreren Anfragen gemeinsam genutzt und dürfen daher nicht verändert werden.
+ */
+public final class AdressbuchCache {
+
+	/** Die Instanz des Caches für die Anwendung */
+	private static final AdressbuchCache instance = new AdressbuchCache();
+
+	/** Ein Eintrag mit der Version, zu welcher der Adressbucheintrag erzeugt wurde */
+	private record Eintrag(String version, AdressbuchEintrag eintrag) {
+		// kein weiterer Inhalt
+	}
+
+	/** Die Einträge eines Adressbuchs in einem Schema */
+	private static final class Adressbuch {
+
+		/** Der Stand der Invalidierungen des {@link DBKatalogCache}, zu dem die Einträge gültig sind */
+		private final long invalidierungen;
+
+		/** Der Kontext, zu dem die Einträge erzeugt wurden */
+		private final String kontext;
+
+		/** Die Einträge, zugeordnet zu der ID des Datensatzes */
+		private final Map<Long, Eintrag> eintraege = new HashMap<>();
+
+		/**
+		 * Die Sperre für den Zugriff auf die Einträge. Es wird kein synchronized-Block genutzt, da
+		 * unter der Sperre Datenbank-Zugriffe erfolgen, welche sonst bei virtuellen Threads den
+		 * Träger-Thread blockieren würden.
+		 */
+		private final ReentrantLock sperre = new ReentrantLock();
+
+		private Adressbuch(final long invalidierungen, final String kontext) {
+			this.invalidierungen = invalidierungen;
+			this.kontext = kontext;
+		}
+
+	}
+
+	/** Die Prüfung der Revision eines Schemas zu einem Stand der Invalidierungen des {@link DBKatalogCache} */
+	private record Verfuegbarkeit(long invalidierungen, boolean verfuegbar) {
+		// kein weiterer Inhalt
+	}
+
+	/** Die Verfügbarkeit des Caches, zugeordnet zu dem Schema-Namen in Kleinbuchstaben */
+	private final ConcurrentHashMap<String, Verfuegbarkeit> verfuegbarkeiten = new ConcurrentHashMap<>();
+
+	/** Die Adressbücher, zugeordnet zu dem Schema-Namen in Kleinbuchstaben und der ID des Adressbuchs */
+	private final ConcurrentHashMap<String, Adressbuch> adressbuecher = new ConcurrentHashMap<>();
+
+	/**
+	 * Die serialisierten vCards der zwischengespeicherten Adressbucheinträge. Die
+	 * Einträge werden nur schwach referenziert, so dass die vCards mit dem
+	 * Verwerfen eines Eintrags ebenfalls freigegeben werden.
+	 */
+	private final Map<AdressbuchEintrag, String> vCards = Collections.synchronizedMap(new WeakHashMap<>());
+
+
+	private AdressbuchCache() {
+		// Nur eine Instanz für die Anwendung
+	}
+
+
+	/**
+	 * Gibt die Instanz des Caches für die Anwendung zurück.
+	 *
+	 * @return die Instanz des Caches
+	 */
+	public static AdressbuchCache get() {
+		return instance;
+	}
+
+
+	/**
+	 * Prüft, ob der Cache für das Schema der übergebenen Verbindung genutzt
+	 * werden kann. Dies ist nur bei MariaDB ab Revision 17 der Fall, da die
+	 * Trigger älterer Revisionen Änderungen von oder auf NULL-Werte nicht
+	 * erkennen. Die Revision wird nur beim ersten Zugriff auf das Schema bzw.
+	 * nach einer Invalidierung des Schemas über den {@link DBKatalogCache}
+	 * gelesen.
+	 *
+	 * @param conn die Datenbank-Verbindung
+	 *
+	 * @return true, wenn der Cache genutzt werden kann
+	 */
+	public static boolean istVerfuegbar(final DBEntityManager conn) {
+		final String schema = conn.getDBSchema();
+		if ((schema == null) || (conn.getDBDriver() != DBDriver.MARIA_DB))
+			return false;
+		final long invalidierungen = DBKatalogCache.get().getInvalidierungen();
+		final String schluessel = schema.toLowerCase(Locale.ROOT);
+		final Verfuegbarkeit v = instance.verfuegbarkeiten.get(schluessel);
+		if ((v != null) && (v.invalidierungen() == invalidierungen))
+			return v.verfuegbar();
+		final boolean verfuegbar = getRevision(conn) >= SchemaRevisionen.REV_17.revision;
+		instance.verfuegbarkeiten.put(schluessel, new Verfuegbarkeit(invalidierungen, verfuegbar));
+		return verfuegbar;
+	}
+
+
+	private static long getRevision(final DBEntityManager conn) {
+		final List<Object> revision = conn.queryNative("SELECT MAX(" + Schema.tab_Schema_Status.col_Revision.name() + ") FROM "
+				+ Schema.tab_Schema_Status.name());
+		return (!revision.isEmpty() && (revision.get(0) instanceof final Number n)) ? n.longValue() : -1;
+	}
+
+
+	/**
+	 * Bestimmt das Versionskennzeichen (CTag) eines Adressbuchs aus dem Kontext und
+	 * den Versionen seiner Einträge, ohne dass hierfür Einträge erzeugt werden
+	 * müssen. Hierfür werden die ersten 63 Bit eines SHA-256-Hashes genutzt, so dass
+	 * ein unverändertes Versionskennzeichen bei geänderten Einträgen praktisch
+	 * ausgeschlossen ist. Der Wert 0 wird nicht vergeben, da dieser für Adressbücher
+	 * ohne Versionskennzeichen steht.
+	 *
+	 * @param kontext    der Kontext des Adressbuchs
+	 * @param versionen  die Versionen der Einträge, zugeordnet zu der ID des Datensatzes
+	 *
+	 * @return das Versionskennzeichen
+	 */
+	public static long getVersion(final String kontext, final Map<Long, String> versionen) {
+		final MessageDigest md;
+		try {
+			md = MessageDigest.getInstance("SHA-256");
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		md.update(kontext.getBytes(StandardCharsets.UTF_8));
+		for (final Map.Entry<Long, String> e : new TreeMap<>(versionen).entrySet()) {
+			md.update((byte) 0);
+			md.update(Long.toString(e.getKey()).getBytes(StandardCharsets.UTF_8));
+			md.update((byte) '=');
+			md.update(e.getValue().getBytes(StandardCharsets.UTF_8));
+		}
+		final long hash = ByteBuffer.wrap(md.digest()).getLong() & Long.MAX_VALUE;
+		return (hash == 0) ? 1 : hash;
+	}
+
+
+	/**
+	 * Gibt die Einträge des angegebenen Adressbuchs zurück. Einträge, die zu der
+	 * übergebenen Version bereits vorliegen, werden aus dem Cache genommen. Für
+	 * alle anderen Einträge wird der Erzeuger aufgerufen und ihre vCards werden
+	 * serialisiert. Einträge, die nicht mehr in den Versionen enthalten sind,
+	 * werden verworfen.
+	 *
+	 * @param conn          die Datenbank-Verbindung
+	 * @param adressbuchId  die ID des Adressbuchs
+	 * @param kontext       der Kontext, welcher alle Einträge des Adressbuchs betrifft
+	 * @param versionen     die aktuellen Versionen der Einträge, zugeordnet zu der ID des Datensatzes,
+	 *                      in der Reihenfolge, in der die Einträge zurückgegeben werden
+	 * @param erzeuger      erzeugt die Adressbucheinträge zu den übergebenen IDs, zugeordnet zu der ID
+	 *
+	 * @return die Liste der Einträge
+	 */
+	public List<AdressbuchEintrag> getEintraege(final DBEntityManager conn, final String adressbuchId, final String kontext,
+			final Map<Long, String> versionen, final Function<Collection<Long>, Map<Long, AdressbuchEintrag>> erzeuger) {
+		return getEintraege(conn.getDBSchema(), adressbuchId, kontext, versionen, erzeuger);
+	}
+
+
+	/**
+	 * Gibt die Einträge des angegebenen Adressbuchs in dem angegebenen Schema zurück.
+	 * Siehe {@link #getEintraege(DBEntityManager, String, String, Map, Function)}.
+	 *
+	 * @param schema        der Name des Schemas
+	 * @param adressbuchId  die ID des Adressbuchs
+	 * @param kontext       der Kontext, welcher alle Einträge des Adressbuchs betrifft
+	 * @param versionen     die aktuellen Versionen der Einträge, zugeordnet zu der ID des Datensatzes,
+	 *                      in der Reihenfolge, in der die Einträge zurückgegeben werden
+	 * @param erzeuger      erzeugt die Adressbucheinträge zu den übergebenen IDs, zugeordnet zu der ID
+	 *
+	 * @return die Liste der Einträge
+	 */
+	public List<AdressbuchEintrag> getEintraege(final String schema, final String adressbuchId, final String kontext,
+			final Map<Long, String> versionen, final Function<Collection<Long>, Map<Long, AdressbuchEintrag>> erzeuger) {
+		final String schluessel = schema.toLowerCase(Locale.ROOT) + "/" + adressbuchId;
+		final long invalidierungen = DBKatalogCache.get().getInvalidierungen();
+		final Adressbuch adressbuch = adressbuecher.compute(schluessel,
+				(k, alt) -> ((alt != null) && (alt.invalidierungen == invalidierungen) && alt.kontext.equals(kontext))
+						? alt : new Adressbuch(invalidierungen, kontext));
+		adressbuch.sperre.lock();
+		try {
+			final List<Long> fehlend = new ArrayList<>();
+			for (final Map.Entry<Long, String> e : versionen.entrySet()) {
+				final Eintrag eintrag = adressbuch.eintraege.get(e.getKey());
+				if ((eintrag == null) || !eintrag.version().equals(e.getValue()))
+					fehlend.add(e.getKey());
+			}
+			if (!fehlend.isEmpty()) {
+				for (final Map.Entry<Long, AdressbuchEintrag> e : erzeuger.apply(fehlend).entrySet()) {
+					final AdressbuchEintrag eintrag = e.getValue();
+					eintrag.adressbuchId = adressbuchId;
+					final String vCard = VCard.createVCard(eintrag).serialize();
+					eintrag.version = UUID.nameUUIDFromBytes(vCard.getBytes(StandardCharsets.UTF_8)).toString();
+					vCards.put(eintrag, vCard);
+					adressbuch.eintraege.put(e.getKey(), new Eintrag(versionen.get(e.getKey()), eintrag));
+				}
+			}
+			adressbuch.eintraege.keySet().retainAll(versionen.keySet());
+			final List<AdressbuchEintrag> result = new ArrayList<>();
+			for (final Long id : versionen.keySet()) {
+				final Eintrag eintrag = adressbuch.eintraege.get(id);
+				if (eintrag != null)
+					result.add(eintrag.eintrag());
+			}
+			return result;
+		} finally {
+			adressbuch.sperre.unlock();
+		}
+	}
+
+
+	/**
+	 * Gibt die zwischengespeicherte, serialisierte vCard des übergebenen
+	 * Adressbucheintrags zurück.
+	 *
+	 * @param eintrag der Adressbucheintrag
+	 *
+	 * @return die vCard oder null, falls der Eintrag nicht aus dem Cache stammt
+	 */
+	public String getVCard(final AdressbuchEintrag eintrag) {
+		return vCards.get(eintrag);
+	}
+
+}
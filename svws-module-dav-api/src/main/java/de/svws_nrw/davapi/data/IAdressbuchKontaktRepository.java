@@ -25,11 +25,15 @@ import jakarta.validation.constraints.NotNull;
  */
 public interface IAdressbuchKontaktRepository {
 
+	/**
+	 * Die Status der Schüler, welche in Adressbüchern berücksichtigt werden
+	 */
+	List<SchuelerStatus> SCHUELER_STATUS = List.of(SchuelerStatus.AKTIV, SchuelerStatus.EXTERN, SchuelerStatus.NEUAUFNAHME);
+
 	/**
 	 * Filter für SchuelerDTOs
 	 */
-	Predicate<DTOSchueler> SCHUELER_FILTER = s -> !s.Geloescht && (s.Status == SchuelerStatus.AKTIV
-			|| s.Status == SchuelerStatus.EXTERN || s.Status == SchuelerStatus.NEUAUFNAHME);
+	Predicate<DTOSchueler> SCHUELER_FILTER = s -> !s.Geloescht && SCHUELER_STATUS.contains(s.Status);
 
 	/**
 	 * Ermittelt eine Liste aller Kontakte aus einem Adressbuch mir der angegebenen
@@ -43,6 +47,19 @@ public interface IAdressbuchKontaktRepository {
 	 */
 	List<AdressbuchEintrag> getKontakteByAdressbuch(String adressbuchId, CollectionRessourceQueryParameters params);
 
+	/**
+	 * Ermittelt das Versionskennzeichen (CTag) des Adressbuchs mit der angegebenen
+	 * Id, ohne dass dafür die Kontakte erzeugt werden. Ändern sich die Kontakte
+	 * des Adressbuchs, so ändert sich auch das Versionskennzeichen.
+	 *
+	 * @param adressbuchId Id des Adressbuchs
+	 * @return das Versionskennzeichen oder 0, falls für das Adressbuch keine
+	 *         Versionen ermittelt werden können
+	 */
+	default long getVersionByAdressbuch(final String adressbuchId) {
+		return 0;
+	}
+
 	/**
 	 * statische Methode zum mappen von SchuelerDTOs zu Kontakten
 	 *
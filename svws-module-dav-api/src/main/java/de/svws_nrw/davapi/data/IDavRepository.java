@@ -54,6 +54,23 @@ public interface IDavRepository {
 	Collection<DavRessource> getDavRessources(Collection<Long> ressourceCollectionIds,
 			CollectionRessourceQueryParameters parameters);
 
+	/**
+	 * Gibt die Ressourcen einer Ressourcensammlung inklusive ihres Inhalts zurück,
+	 * welche die Kriterien des angegebenen Filters erfüllen. Synctoken, Zeitraum,
+	 * Kalendertyp und UIDs werden dabei bereits in der Datenbankabfrage
+	 * ausgewertet, so dass nur die betroffenen Ressourcen gelesen werden.
+	 * Kriterien, die sich auf den Inhalt der Ressourcen beziehen, müssen vom
+	 * Aufrufer geprüft werden.
+	 *
+	 * Hat der Nutzer nicht das nötige Leserecht auf die Ressourcensammlung,
+	 * werden keine Ressourcen zurückgegeben.
+	 *
+	 * @param ressourceCollectionId die ID der Ressourcensammlung
+	 * @param filter                die Filterkriterien für die Ressourcen
+	 * @return die gesuchten Ressourcen
+	 */
+	Collection<DavRessource> getDavRessources(long ressourceCollectionId, KalenderEintragFilter filter);
+
 	/**
 	 * Fügt eine neue Ressourcensammlung hinzu oder updated eine vorhandene, sofern
 	 * die ID und Lese- und Schreibrecht gegeben ist.
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 import de.svws_nrw.core.data.kalender.Kalender;
+import de.svws_nrw.core.data.kalender.KalenderEintrag;
 import jakarta.validation.constraints.NotNull;
 
 /**
@@ -33,6 +34,17 @@ public interface IKalenderRepository {
 	 */
 	@NotNull List<Kalender> getAvailableKalender(CollectionRessourceQueryParameters params);
 
+	/**
+	 * Ermittelt die Einträge eines Kalenders inklusive ihres Inhalts, welche die
+	 * Kriterien des angegebenen Filters erfüllen. Die Kriterien sollen dabei
+	 * soweit möglich bereits bei der Abfrage der Einträge ausgewertet werden.
+	 *
+	 * @param kalenderId Id des Kalenders
+	 * @param filter     die Filterkriterien für die Einträge
+	 * @return Liste der Einträge, leer, falls der Kalender nicht gefunden wurde
+	 */
+	@NotNull List<KalenderEintrag> getKalenderEintraege(String kalenderId, KalenderEintragFilter filter);
+
 	/**
 	 * Sucht die gelöschten Ressourcen-UIDs einer Ressourcensammlung seit einem
 	 * bestimmten Zeitpunkt
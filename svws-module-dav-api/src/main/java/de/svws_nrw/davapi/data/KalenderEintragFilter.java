@@ -0,0 +1,179 @@
+package de.svws_nrw.davapi.data;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+
+import de.svws_nrw.core.data.kalender.KalenderEintrag;
+import de.svws_nrw.davapi.util.icalendar.DateTimeUtil;
+import de.svws_nrw.davapi.util.icalendar.VCalendarTyp;
+
+/**
+ * Diese Klasse beschreibt die Filterkriterien für die Abfrage von
+ * Kalendereinträgen eines Kalenders bei einem REPORT-Request. Die Kriterien
+ * werden von den Repositories soweit möglich bereits in der Datenbankabfrage
+ * ausgewertet, so dass nur die betroffenen Einträge gelesen werden. Über
+ * {@link #test(KalenderEintrag)} können die Kriterien zusätzlich auf bereits
+ * gelesene Einträge angewendet werden, bspw. für Kriterien, die sich nur auf
+ * den Inhalt der Einträge beziehen.
+ *
+ * Die Klasse soll nicht an anderen Orten instantiiert werden, statt dessen
+ * sollen die statischen Methoden zur Erzeugung genutzt werden.
+ */
+public final class KalenderEintragFilter {
+
+	/** Filter, welcher alle Einträge eines Kalenders liefert */
+	public static final KalenderEintragFilter ALLE = new KalenderEintragFilter(null, null, null, null, null, null);
+
+	/**
+	 * das Synctoken in Millisekunden, nach dem ein Eintrag geändert worden sein
+	 * muss, oder null
+	 */
+	public final Long syncToken;
+
+	/** der Beginn des Zeitraums, mit dem sich ein Eintrag überschneiden muss, oder null */
+	public final Instant zeitraumStart;
+
+	/** das Ende des Zeitraums, mit dem sich ein Eintrag überschneiden muss, oder null */
+	public final Instant zeitraumEnde;
+
+	/** der Typ der Ressource, bspw. VCALENDAR, oder null */
+	public final String ressourcenTyp;
+
+	/** der Typ der Komponente, bspw. VEVENT, VTODO oder VTIMEZONE, oder null */
+	public final String komponente;
+
+	/** die UIDs der gesuchten Einträge oder null, falls nicht nach UIDs gefiltert wird */
+	public final Set<String> uids;
+
+	/**
+	 * Privater Konstruktor
+	 *
+	 * @param syncToken     das Synctoken in Millisekunden
+	 * @param zeitraumStart der Beginn des Zeitraums
+	 * @param zeitraumEnde  das Ende des Zeitraums
+	 * @param ressourcenTyp der Typ der Ressource
+	 * @param komponente    der Typ der Komponente
+	 * @param uids          die UIDs der gesuchten Einträge
+	 */
+	private KalenderEintragFilter(final Long syncToken, final Instant zeitraumStart, final Instant zeitraumEnde,
+			final String ressourcenTyp, final String komponente, final Set<String> uids) {
+		this.syncToken = syncToken;
+		// ein vertauschter Zeitraum wird wie bei DateTimeUtil#intersect behandelt
+		final boolean vertauscht = (zeitraumStart != null) && (zeitraumEnde != null) && (zeitraumStart.compareTo(zeitraumEnde) > 0);
+		this.zeitraumStart = vertauscht ? zeitraumEnde : zeitraumStart;
+		this.zeitraumEnde = vertauscht ? zeitraumStart : zeitraumEnde;
+		this.ressourcenTyp = ressourcenTyp;
+		this.komponente = komponente;
+		this.uids = uids;
+	}
+
+	/**
+	 * Erstellt einen Filter für alle Einträge, welche nach dem angegebenen
+	 * Synctoken geändert wurden oder hinzugekommen sind.
+	 *
+	 * @param syncToken das Synctoken in Millisekunden
+	 * @return der Filter
+	 */
+	public static KalenderEintragFilter ofSyncToken(final long syncToken) {
+		return new KalenderEintragFilter(syncToken, null, null, null, null, null);
+	}
+
+	/**
+	 * Erstellt einen Filter für die Einträge mit den angegebenen UIDs.
+	 *
+	 * @param uids die UIDs der gesuchten Einträge
+	 * @return der Filter
+	 */
+	public static KalenderEintragFilter ofUIDs(final Collection<String> uids) {
+		return new KalenderEintragFilter(null, null, null, null, null, Set.copyOf(uids));
+	}
+
+	/**
+	 * Erstellt einen Filter gemäß einem Comp-Filter eines CalendarQuery, vgl.
+	 * https://datatracker.ietf.org/doc/html/rfc4791#section-9.7.1
+	 *
+	 * @param ressourcenTyp der Typ der Ressource, bspw. VCALENDAR, oder null
+	 * @param komponente    der Typ der Komponente, bspw. VEVENT, oder null
+	 * @param zeitraumStart der Beginn des Zeitraums oder null
+	 * @param zeitraumEnde  das Ende des Zeitraums oder null
+	 * @return der Filter
+	 */
+	public static KalenderEintragFilter ofCompFilter(final String ressourcenTyp, final String komponente,
+			final Instant zeitraumStart, final Instant zeitraumEnde) {
+		final boolean hatZeitraum = (zeitraumStart != null) && (zeitraumEnde != null);
+		return new KalenderEintragFilter(null, hatZeitraum ? zeitraumStart : null, hatZeitraum ? zeitraumEnde : null,
+				ressourcenTyp, komponente, null);
+	}
+
+	/**
+	 * Gibt wieder, ob nach einem Zeitraum gefiltert wird.
+	 *
+	 * @return true, wenn ein Zeitraum gesetzt ist
+	 */
+	public boolean hatZeitraum() {
+		return (zeitraumStart != null) && (zeitraumEnde != null);
+	}
+
+	/**
+	 * Gibt den {@link VCalendarTyp} der Komponente zurück, sofern die Komponente
+	 * einem solchen Typ entspricht. Nur in diesem Fall kann die Komponente über
+	 * den gespeicherten Kalendertyp der Einträge gefiltert werden, andere
+	 * Komponenten wie VTIMEZONE werden nur anhand des Inhalts geprüft.
+	 *
+	 * @return der Typ oder null
+	 */
+	public VCalendarTyp getKalenderTyp() {
+		if (komponente == null)
+			return null;
+		for (final VCalendarTyp typ : VCalendarTyp.values())
+			if (typ.name().equals(komponente))
+				return typ;
+		return null;
+	}
+
+	/**
+	 * Prüft, ob der angegebene Kalendereintrag die Kriterien dieses Filters
+	 * erfüllt. Für die Prüfung von Ressourcentyp und Komponente muss der Eintrag
+	 * mit seinem Inhalt gelesen worden sein.
+	 *
+	 * @param e der Kalendereintrag
+	 * @return true, wenn der Eintrag die Kriterien erfüllt
+	 */
+	public boolean test(final KalenderEintrag e) {
+		if ((syncToken != null) && !istGeaendert(e.version))
+			return false;
+		if ((uids != null) && !uids.contains(e.uid))
+			return false;
+		if ((ressourcenTyp != null) && ((e.data == null) || !e.data.startsWith("BEGIN:" + ressourcenTyp)))
+			return false;
+		if ((komponente != null) && ((e.data == null) || !e.data.contains("BEGIN:" + komponente)))
+			return false;
+		if (hatZeitraum()) {
+			if ((e.kalenderStart == null) || (e.kalenderEnde == null))
+				return false;
+			return DateTimeUtil.intersect(zeitraumStart, zeitraumEnde, DateTimeUtil.fromSqlTimeStamp(e.kalenderStart),
+					DateTimeUtil.fromSqlTimeStamp(e.kalenderEnde));
+		}
+		return true;
+	}
+
+	/**
+	 * Prüft, ob die angegebene Version eines Eintrags nach dem Synctoken dieses
+	 * Filters liegt. Versionen, die keine Zeitstempel sind, gelten dabei immer als
+	 * geändert.
+	 *
+	 * @param version die Version des Eintrags
+	 * @return true, wenn der Eintrag als geändert gilt
+	 */
+	private boolean istGeaendert(final String version) {
+		if (version == null)
+			return true;
+		try {
+			return Long.parseLong(version) > syncToken;
+		} catch (@SuppressWarnings("unused") final NumberFormatException e) {
+			return true;
+		}
+	}
+
+}
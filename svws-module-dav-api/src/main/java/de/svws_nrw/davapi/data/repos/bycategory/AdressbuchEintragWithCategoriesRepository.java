@@ -143,4 +143,14 @@ class AdressbuchEintragWithCategoriesRepository implements IAdressbuchKontaktRep
 		return result;
 	}
 
+	@Override
+	public long getVersionByAdressbuch(@NotNull final String adressbuchId) {
+		final AdressbuchContactTypes adressbuchEnum = AdressbuchContactTypes.valueOf(adressbuchId.toUpperCase());
+		if (adressbuchEnum == AdressbuchContactTypes.SCHUELER) {
+			instantiateSchuelerRepository();
+			return schuelerRepository.getVersionByAdressbuch(adressbuchId);
+		}
+		return 0;
+	}
+
 }
@@ -69,6 +69,16 @@ public class AdressbuchKategorienUtil {
 		this.abschnitt = abschnitt;
 	}
 
+	/**
+	 * Gibt die Stringrepräsentation des Schuljahresabschnitts zurück, welche beim
+	 * Formatieren genutzt wird
+	 *
+	 * @return die Stringrepräsentation des Schuljahresabschnitts
+	 */
+	public String getAbschnitt() {
+		return abschnitt;
+	}
+
 	/**
 	 * Gibt den formatierten String für die Kategorie Lehrer der Fachschaft wieder
 	 *
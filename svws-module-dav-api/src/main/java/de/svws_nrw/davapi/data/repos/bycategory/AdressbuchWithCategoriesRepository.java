@@ -59,6 +59,8 @@ public final class AdressbuchWithCategoriesRepository implements IAdressbuchRepo
 		result.add(createAdressbuch(AdressbuchContactTypes.SCHUELER));
 		result.add(createAdressbuch(AdressbuchContactTypes.LEHRER));
 		result.add(createAdressbuch(AdressbuchContactTypes.ERZIEHER));
+		if (params.includeVersion)
+			result.forEach(a -> a.synctoken = adressbuchKontaktRepository.getVersionByAdressbuch(a.id));
 		// TODO persönliche, öffentiche Adressbuecher und Adressbuecher für
 		// Personengruppen sind noch nicht implementiert
 		return result;
@@ -3,6 +3,7 @@ package de.svws_nrw.davapi.data.repos.bycategory;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -15,6 +16,7 @@ import de.svws_nrw.core.data.adressbuch.AdressbuchEintrag;
 import de.svws_nrw.core.data.adressbuch.Telefonnummer;
 import de.svws_nrw.core.types.SchuelerStatus;
 import de.svws_nrw.core.types.benutzer.BenutzerKompetenz;
+import de.svws_nrw.davapi.data.AdressbuchCache;
 import de.svws_nrw.davapi.data.CollectionRessourceQueryParameters;
 import de.svws_nrw.davapi.data.IAdressbuchKontaktRepository;
 import de.svws_nrw.db.Benutzer;
@@ -29,6 +31,7 @@ import de.svws_nrw.db.dto.current.schild.schueler.DTOSchueler;
 import de.svws_nrw.db.dto.current.schild.schueler.DTOSchuelerLernabschnittsdaten;
 import de.svws_nrw.db.dto.current.schild.schule.DTOJahrgang;
 import de.svws_nrw.db.dto.current.schild.schule.DTOSchuljahresabschnitte;
+import de.svws_nrw.db.dto.current.svws.dav.DTODavSyncTokenSchueler;
 
 /**
  * Diese Implementierung des {@link IAdressbuchKontaktRepository} dient der
@@ -56,6 +59,11 @@ public final class SchuelerWithCategoriesRepository implements IAdressbuchKontak
 	private final String schulName;
 	/** der Benutzer, dessen Adressbuecher gesucht werden */
 	private final Benutzer user;
+	/**
+	 * die Versionen der Schueler für den {@link AdressbuchCache}, zugeordnet zu
+	 * der ID des Schuelers, oder null, falls diese noch nicht abgefragt wurden
+	 */
+	private Map<Long, String> versionen;
 
 	/**
 	 * Konstruktor zum Erstellen des Repositories mit einer Datenbankverbindung
@@ -83,8 +91,11 @@ public final class SchuelerWithCategoriesRepository implements IAdressbuchKontak
 		if (!params.includeRessources || !user.pruefeKompetenz(BenutzerKompetenz.SCHUELER_INDIVIDUALDATEN_ANSEHEN)) {
 			return new ArrayList<>();
 		}
-		final List<DTOSchueler> filteredDtoSchuelers = conn.queryNamed("DTOSchueler.all", DTOSchueler.class).getResultStream()
-				.filter(SCHUELER_FILTER).toList();
+		if (AdressbuchCache.istVerfuegbar(conn))
+			return AdressbuchCache.get().getEintraege(conn, adressbuchId, getKontext(), getVersionen(), this::createKontakte);
+
+		final List<DTOSchueler> filteredDtoSchuelers = conn.queryList(
+				"SELECT e FROM DTOSchueler e WHERE e.Geloescht = ?1 AND e.Status IN ?2", DTOSchueler.class, false, SCHUELER_STATUS);
 
 		if (params.includeEintragIDs && !params.includeEintragPayload) {
 			return filteredDtoSchuelers.stream().map(s -> {
@@ -93,19 +104,91 @@ public final class SchuelerWithCategoriesRepository implements IAdressbuchKontak
 				return a;
 			}).toList();
 		}
+		final Map<Long, AdressbuchEintrag> kontakte = mapDTOSchuelerToKontakte(filteredDtoSchuelers);
+		return filteredDtoSchuelers.stream().map(s -> kontakte.get(s.ID)).toList();
+	}
+
+	@Override
+	public long getVersionByAdressbuch(final String adressbuchId) {
+		if (!AdressbuchCache.istVerfuegbar(conn) || !user.pruefeKompetenz(BenutzerKompetenz.SCHUELER_INDIVIDUALDATEN_ANSEHEN))
+			return 0;
+		return AdressbuchCache.getVersion(getKontext(), getVersionen());
+	}
+
+	/**
+	 * Ermittelt die Versionen aller Schueler, welche im Adressbuch enthalten sind.
+	 * Als Version wird das SyncToken aus {@link DTODavSyncTokenSchueler} genutzt,
+	 * welches von Triggern bei jeder Änderung an den für einen Kontakt relevanten
+	 * Daten des Schuelers aktualisiert wird. Schueler ohne SyncToken wurden seit
+	 * ihrer Anlage nicht verändert und erhalten eine leere Version.
+	 *
+	 * @return die Versionen, zugeordnet zu der ID des Schuelers und sortiert nach
+	 *         der ID
+	 */
+	private Map<Long, String> getVersionen() {
+		if (versionen == null) {
+			final List<Long> schuelerIds = conn.queryList(
+					"SELECT e.ID FROM DTOSchueler e WHERE e.Geloescht = ?1 AND e.Status IN ?2 ORDER BY e.ID", Long.class, false,
+					SCHUELER_STATUS);
+			final Map<Long, String> syncTokens = new HashMap<>();
+			for (final DTODavSyncTokenSchueler dto : conn.queryNamed("DTODavSyncTokenSchueler.all", DTODavSyncTokenSchueler.class)
+					.getResultList())
+				syncTokens.put(dto.ID, dto.SyncToken);
+			versionen = new LinkedHashMap<>();
+			for (final Long id : schuelerIds) {
+				final String syncToken = syncTokens.get(id);
+				versionen.put(id, (syncToken == null) ? "" : syncToken);
+			}
+		}
+		return versionen;
+	}
 
-		final Set<Long> ortIds = filteredDtoSchuelers.stream().map(s -> s.Ort_ID).collect(Collectors.toSet());
-		final List<Long> schuelerIds = filteredDtoSchuelers.stream().map(s -> s.ID).toList();
+	/**
+	 * Ermittelt den Kontext für den {@link AdressbuchCache}. Dieser umfasst die
+	 * Daten, welche alle Kontakte betreffen und nicht über die SyncTokens der
+	 * Schueler erfasst werden: den Namen der Schule, den aktuellen
+	 * Schuljahresabschnitt und die Telefonarten. Da für den Katalog der
+	 * Telefonarten kein Änderungszähler geführt wird, wird dieser direkt gelesen.
+	 *
+	 * @return der Kontext
+	 */
+	private String getKontext() {
+		final String telefonArten = conn.queryAll(DTOTelefonArt.class).stream()
+				.map(ta -> ta.ID + ":" + ta.Bezeichnung + ":" + ta.Sichtbar).collect(Collectors.joining(","));
+		return schulName + "|" + aktuellerSchuljahresabschnitt.ID + "|" + kategorienUtil.getAbschnitt() + "|" + telefonArten;
+	}
+
+	/**
+	 * Erzeugt die Kontakte zu den Schuelern mit den angegebenen IDs
+	 *
+	 * @param schuelerIds die IDs der Schueler
+	 * @return die Kontakte, zugeordnet zu der ID des Schuelers
+	 */
+	private Map<Long, AdressbuchEintrag> createKontakte(final Collection<Long> schuelerIds) {
+		return mapDTOSchuelerToKontakte(conn.queryNamed("DTOSchueler.id.multiple", schuelerIds, DTOSchueler.class));
+	}
+
+	/**
+	 * Ermittelt zu den angegebenen Schuelern die Orte, Telefonnummern und
+	 * Kategorien und erzeugt daraus die Kontakte
+	 *
+	 * @param dtoSchuelers die Schueler
+	 * @return die Kontakte, zugeordnet zu der ID des Schuelers
+	 */
+	private Map<Long, AdressbuchEintrag> mapDTOSchuelerToKontakte(final List<DTOSchueler> dtoSchuelers) {
+		final Set<Long> ortIds = dtoSchuelers.stream().map(s -> s.Ort_ID).collect(Collectors.toSet());
+		final List<Long> schuelerIds = dtoSchuelers.stream().map(s -> s.ID).toList();
 		final Map<Long, DTOOrt> ortByOrtID = IAdressbuchKontaktRepository.queryOrteByOrtIds(ortIds, conn);
 		final Map<Long, List<Telefonnummer>> telefonnummerBySchuelerId = queryTelefonNummernBySchuelerIds(schuelerIds, conn);
 
-		final Map<Long, SchuelerStatus> schuelerStatusById = filteredDtoSchuelers.stream()
+		final Map<Long, SchuelerStatus> schuelerStatusById = dtoSchuelers.stream()
 				.collect(Collectors.toMap(s -> s.ID, s -> s.Status));
 		final Map<Long, Set<String>> categoriesBySchuelerId = getCategoriesBySchuelerId(schuelerStatusById);
-		return filteredDtoSchuelers.stream()
-				.map(s -> IAdressbuchKontaktRepository.mapDTOSchuelerToKontakt(s, telefonnummerBySchuelerId.get(s.ID),
-						ortByOrtID.get(s.Ort_ID), categoriesBySchuelerId.get(s.ID), schulName))
-				.toList();
+		final Map<Long, AdressbuchEintrag> result = new HashMap<>();
+		for (final DTOSchueler s : dtoSchuelers)
+			result.put(s.ID, IAdressbuchKontaktRepository.mapDTOSchuelerToKontakt(s, telefonnummerBySchuelerId.get(s.ID),
+					ortByOrtID.get(s.Ort_ID), categoriesBySchuelerId.get(s.ID), schulName));
+		return result;
 	}
 
 	/**
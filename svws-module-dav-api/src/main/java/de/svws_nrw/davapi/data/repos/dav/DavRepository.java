@@ -17,15 +17,16 @@ import de.svws_nrw.core.types.benutzer.BenutzerKompetenz;
 import de.svws_nrw.core.types.dav.DavRessourceCollectionTyp;
 import de.svws_nrw.davapi.data.CollectionRessourceQueryParameters;
 import de.svws_nrw.davapi.data.IDavRepository;
+import de.svws_nrw.davapi.data.KalenderEintragFilter;
 import de.svws_nrw.davapi.data.repos.dav.DavException.ErrorCode;
 import de.svws_nrw.davapi.util.icalendar.DateTimeUtil;
+import de.svws_nrw.davapi.util.icalendar.VCalendarTyp;
 import de.svws_nrw.db.Benutzer;
 import de.svws_nrw.db.DBEntityManager;
 import de.svws_nrw.db.converter.current.DatumUhrzeitConverter;
 import de.svws_nrw.db.dto.current.svws.dav.DTODavRessource;
 import de.svws_nrw.db.dto.current.svws.dav.DTODavRessourceCollection;
 import de.svws_nrw.db.dto.current.svws.dav.DTODavRessourceCollectionsACL;
-import de.svws_nrw.db.dto.current.schema.DTOSchemaAutoInkremente;
 import jakarta.persistence.TypedQuery;
 
 /**
@@ -79,6 +80,50 @@ public final class DavRepository implements IDavRepository {
 				.toList();
 	}
 
+	@Override
+	public Collection<DavRessource> getDavRessources(final long ressourceCollectionId, final KalenderEintragFilter filter) {
+		final DavRessourceCollectionACLPermissions permissions = getReadableCollectionPermissionsById().get(ressourceCollectionId);
+		if (permissions == null) {
+			return new ArrayList<>();
+		}
+		// Aufbau der Abfrage anhand der gesetzten Filterkriterien, die Parameter werden in der Reihenfolge ihres Auftretens nummeriert
+		final StringBuilder jpql = new StringBuilder(
+				"SELECT r FROM DTODavRessource r WHERE r.DavRessourceCollection_ID = ?1 AND r.geloeschtam IS NULL");
+		final List<Object> params = new ArrayList<>();
+		params.add(ressourceCollectionId);
+		if (filter.syncToken != null) {
+			params.add(toSyncTokenTimestampAsString(filter.syncToken));
+			jpql.append(" AND r.lastModified > ?").append(params.size());
+		}
+		if (filter.hatZeitraum()) {
+			params.add(DateTimeUtil.toSQLTimeStamp(filter.zeitraumEnde));
+			jpql.append(" AND r.KalenderStart <= ?").append(params.size());
+			params.add(DateTimeUtil.toSQLTimeStamp(filter.zeitraumStart));
+			jpql.append(" AND r.KalenderEnde >= ?").append(params.size());
+		}
+		final VCalendarTyp kalenderTyp = filter.getKalenderTyp();
+		if (kalenderTyp != null) {
+			params.add(kalenderTyp.name());
+			jpql.append(" AND r.KalenderTyp = ?").append(params.size());
+		}
+		final List<DTODavRessource> dtos = new ArrayList<>();
+		if (filter.uids == null) {
+			dtos.addAll(conn.queryList(jpql.toString(), DTODavRessource.class, params.toArray()));
+		} else {
+			// die UIDs werden blockweise abgefragt, um die Grenzen des Datenbank-Treibers für die Anzahl der Parameter einzuhalten
+			jpql.append(" AND r.UID IN ?").append(params.size() + 1);
+			final List<String> uids = new ArrayList<>(filter.uids);
+			for (int i = 0; i < uids.size(); i += DBEntityManager.MAX_WERTE_IN_BEDINGUNG) {
+				final List<Object> paramsBlock = new ArrayList<>(params);
+				paramsBlock.add(uids.subList(i, Math.min(i + DBEntityManager.MAX_WERTE_IN_BEDINGUNG, uids.size())));
+				dtos.addAll(conn.queryList(jpql.toString(), DTODavRessource.class, paramsBlock.toArray()));
+			}
+		}
+		return dtos.stream()
+				.map(dto -> mapDTODavRessource(dto, CollectionRessourceQueryParameters.INCLUDE_RESSOURCES_INCLUDE_PAYLOAD, permissions))
+				.toList();
+	}
+
 	@Override
 	public Optional<DavRessourceCollection> upsertDavRessourceCollection(final DavRessourceCollection davRessourceCollection)
 			throws DavException {
@@ -92,7 +137,7 @@ public final class DavRepository implements IDavRepository {
 		conn.transactionBegin();
 		boolean aclEntryNeeded = false;
 		if (davRessourceCollection.id == null) {
-			final Long id = getNextId("DavRessourceCollections");
+			final long id = conn.transactionGetNextID(DTODavRessourceCollection.class);
 			dtoCollection = new DTODavRessourceCollection(davRessourceCollection.besitzer, id,
 					davRessourceCollection.typ, davRessourceCollection.anzeigename, currentSynctoken);
 			dtoCollection.Beschreibung = davRessourceCollection.beschreibung;
@@ -128,7 +173,7 @@ public final class DavRepository implements IDavRepository {
 		if (aclEntryNeeded) {
 			// für neuangelegte Collection wird ein initialer ACL-Eintrag für den besitzer
 			// benötigt
-			final Long id = getNextId("DavRessourceCollectionsACL");
+			final long id = conn.transactionGetNextID(DTODavRessourceCollectionsACL.class);
 
 			final DTODavRessourceCollectionsACL acl = new DTODavRessourceCollectionsACL(id, davRessourceCollection.besitzer,
 					dtoCollection.ID, permissions.toPermissionString());
@@ -141,18 +186,6 @@ public final class DavRepository implements IDavRepository {
 		return Optional.of(mapDTODavRessourceCollection(dtoCollection, permissions));
 	}
 
-	/**
-	 * sucht die nächste id für den gegebenen Tabellennamen
-	 *
-	 * @param tableName der Tabellenname
-	 * @return 1, wenn die Tabelle in {@link DTOSchemaAutoInkremente} noch nicht
-	 *         auftaucht, ansonsten die nächsthöhere ID
-	 */
-	private Long getNextId(final String tableName) {
-		final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, tableName);
-		return lastID == null ? 1 : lastID.MaxID + 1;
-	}
-
 	/**
 	 * Gibt wieder, ob der angemeldete Nutzer die gegebene Collection bearbeiten
 	 * (aktualisieren oder einfügen) darf. Nutzer dürfen ihre eigene Sammlung
@@ -174,8 +207,18 @@ public final class DavRepository implements IDavRepository {
 	 * @return das aktuelle Synctoken
 	 */
 	public String getNewSyncTokenTimestampAsString() {
-		final long now = Instant.now().toEpochMilli();
-		return DatumUhrzeitConverter.instance.convertToEntityAttribute(new Timestamp(now));
+		return toSyncTokenTimestampAsString(Instant.now().toEpochMilli());
+	}
+
+	/**
+	 * Wandelt ein Synctoken in Millisekunden in einen SQL-Timestamp-String um,
+	 * wie er für die Synctoken in der Datenbank verwendet wird.
+	 *
+	 * @param syncTokenMillis das Synctoken in Millisekunden
+	 * @return der SQL-Timestamp-String
+	 */
+	private static String toSyncTokenTimestampAsString(final long syncTokenMillis) {
+		return DatumUhrzeitConverter.instance.convertToEntityAttribute(new Timestamp(syncTokenMillis));
 	}
 
 	@Override
@@ -196,7 +239,7 @@ public final class DavRepository implements IDavRepository {
 			davRessource.id = davRessourcesWithSameUID.get(0).ID;
 		}
 		if (davRessource.id == null) {
-			final Long id = getNextId("DavRessources");
+			final long id = conn.transactionGetNextID(DTODavRessource.class);
 
 			dtoDavRessource = new DTODavRessource(id, davRessource.ressourceCollectionId, davRessource.uid,
 					currentSynctoken, davRessource.kalenderTyp, davRessource.kalenderStart, davRessource.kalenderEnde,
@@ -247,8 +290,7 @@ public final class DavRepository implements IDavRepository {
 			dtoACL.berechtigungen = davRessourceCollectionACLPermissions.toPermissionString();
 		} else {
 
-			final DTOSchemaAutoInkremente lastID = conn.queryByKey(DTOSchemaAutoInkremente.class, "DavRessourceCollectionsACL");
-			final Long id = lastID == null ? 1 : lastID.MaxID + 1;
+			final long id = conn.transactionGetNextID(DTODavRessourceCollectionsACL.class);
 
 			dtoACL = new DTODavRessourceCollectionsACL(id, davRessourceCollectionACLPermissions.getBenutzerId(),
 					davRessourceCollectionACLPermissions.getRessourceCollectionId(),
@@ -367,9 +409,8 @@ public final class DavRepository implements IDavRepository {
 		}
 		// keine eigene Collection vom Typ vorhanden, also anlegen
 
-		final DTOSchemaAutoInkremente lastCollectionsID = conn.queryByKey(DTOSchemaAutoInkremente.class, "DavRessourceCollections");
 		final DTODavRessourceCollection eigenerKalender = new DTODavRessourceCollection(user.getId(),
-				lastCollectionsID == null ? 1 : lastCollectionsID.MaxID + 1, typ, "Eigener Kalender",
+				conn.transactionGetNextID(DTODavRessourceCollection.class), typ, "Eigener Kalender",
 				getNewSyncTokenTimestampAsString());
 		eigenerKalender.Beschreibung = "Ein eigener Kalender mit Lese- und Schreibrechten für Sie.";
 		if (!conn.transactionPersist(eigenerKalender)) {
@@ -377,8 +418,7 @@ public final class DavRepository implements IDavRepository {
 			return;
 		}
 
-		final DTOSchemaAutoInkremente lastACLID = conn.queryByKey(DTOSchemaAutoInkremente.class, "DavRessourceCollectionsACL");
-		final Long newAclID = lastACLID == null ? 1 : lastACLID.MaxID + 1;
+		final long newAclID = conn.transactionGetNextID(DTODavRessourceCollectionsACL.class);
 
 		final DavRessourceCollectionACLPermissions permissions = new DavRessourceCollectionACLPermissions(true, true,
 				eigenerKalender.ID, user.getId());
@@ -394,11 +434,9 @@ public final class DavRepository implements IDavRepository {
 
 	@Override
 	public List<String> getDeletedResourceUIDsSince(final Long collectionId, final Long syncTokenMillis) {
-		return conn.queryNamed("DTODavRessource.davressourcecollection_id", collectionId, DTODavRessource.class)
-				.stream()
-				.filter(dto -> dto.geloeschtam != null
-						&& DateTimeUtil.getTimeInMillis(dto.geloeschtam) >= syncTokenMillis)
-				.map(dto -> dto.UID).toList();
+		return conn.queryList(
+				"SELECT r.UID FROM DTODavRessource r WHERE r.DavRessourceCollection_ID = ?1 AND r.geloeschtam IS NOT NULL AND r.geloeschtam >= ?2",
+				String.class, collectionId, toSyncTokenTimestampAsString(syncTokenMillis));
 	}
 
 	/**
@@ -5,8 +5,10 @@ import java.util.List;
 import java.util.Optional;
 
 import de.svws_nrw.core.data.kalender.Kalender;
+import de.svws_nrw.core.data.kalender.KalenderEintrag;
 import de.svws_nrw.davapi.data.CollectionRessourceQueryParameters;
 import de.svws_nrw.davapi.data.IKalenderRepository;
+import de.svws_nrw.davapi.data.KalenderEintragFilter;
 import de.svws_nrw.db.DBEntityManager;
 
 /**
@@ -37,6 +39,11 @@ public final class GenerierteKalenderRepository implements IKalenderRepository {
 		return new ArrayList<>();
 	}
 
+	@Override
+	public List<KalenderEintrag> getKalenderEintraege(final String kalenderId, final KalenderEintragFilter filter) {
+		return new ArrayList<>();
+	}
+
 	@Override
 	public List<String> getDeletedResourceUIDsSince(final String kalenderId, final Long syncTokenMillis) {
 		return new ArrayList<>();
@@ -9,6 +9,7 @@ import de.svws_nrw.core.data.kalender.Kalender;
 import de.svws_nrw.core.data.kalender.KalenderEintrag;
 import de.svws_nrw.davapi.data.CollectionRessourceQueryParameters;
 import de.svws_nrw.davapi.data.IKalenderRepository;
+import de.svws_nrw.davapi.data.KalenderEintragFilter;
 
 /**
  * Dummy Repository für prototypische Implementierung des
@@ -61,6 +62,16 @@ public final class KalenderDummyRepository implements IKalenderRepository {
 		return List.of();
 	}
 
+	@Override
+	public List<KalenderEintrag> getKalenderEintraege(final String kalenderId, final KalenderEintragFilter filter) {
+		final Optional<Kalender> kalenderById = this.getKalenderById(kalenderId,
+				CollectionRessourceQueryParameters.INCLUDE_RESSOURCES_INCLUDE_PAYLOAD);
+		if (kalenderById.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return kalenderById.get().kalenderEintraege.stream().filter(filter::test).toList();
+	}
+
 	@Override
 	public List<String> getDeletedResourceUIDsSince(final String kalenderId, final Long syncTokenMillis) {
 		return new ArrayList<>();
@@ -15,6 +15,7 @@ import de.svws_nrw.davapi.data.CollectionRessourceQueryParameters;
 import de.svws_nrw.davapi.data.IDavRepository;
 import de.svws_nrw.davapi.data.IKalenderEintragRepository;
 import de.svws_nrw.davapi.data.IKalenderRepository;
+import de.svws_nrw.davapi.data.KalenderEintragFilter;
 import de.svws_nrw.davapi.data.repos.dav.DavException;
 import de.svws_nrw.davapi.data.repos.dav.DavRepository;
 import de.svws_nrw.davapi.data.repos.dav.DavRessource;
@@ -103,6 +104,21 @@ public final class KalenderRepository implements IKalenderRepository, IKalenderE
 		return result;
 	}
 
+	@Override
+	public List<KalenderEintrag> getKalenderEintraege(final String kalenderId, final KalenderEintragFilter filter) {
+		if (!user.pruefeKompetenz(BenutzerKompetenz.KALENDER_ANSEHEN)) {
+			return new ArrayList<>();
+		}
+		if (user.pruefeKompetenz(BenutzerKompetenz.KALENDER_FUNKTIONSBEZOGEN_ANSEHEN)
+				&& KalenderIdUtil.isGenerated(kalenderId)) {
+			return generierteKalenderRepository.getKalenderEintraege(kalenderId, filter);
+		}
+		// die Datenbankabfrage wertet Synctoken, Zeitraum, Kalendertyp und UIDs aus, die übrigen Kriterien
+		// beziehen sich auf den Inhalt und werden auf den gelesenen Einträgen geprüft
+		return davRepository.getDavRessources(KalenderIdUtil.parseId(kalenderId), filter).stream()
+				.map(this::mapDavRessourceToKalenderEintrag).filter(filter::test).toList();
+	}
+
 	/**
 	 * erstellt einen eigenen Kalender für den Benutzer bei gegebener Berechtigung
 	 */
@@ -0,0 +1,133 @@
+package de.svws_nrw.davapi.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.core.data.adressbuch.AdressbuchEintrag;
+import de.svws_nrw.core.data.adressbuch.AdressbuchKontakt;
+import de.svws_nrw.davapi.data.AdressbuchCache;
+import de.svws_nrw.db.DBKatalogCache;
+
+/**
+ * Testklasse für die Versionskennzeichen und die Einträge des {@link AdressbuchCache}
+ *
+ */
+public class AdressbuchCacheTest {
+
+	/**
+	 * Testet, dass das Versionskennzeichen nur vom Kontext und den Versionen
+	 * abhängt, nicht jedoch von der Reihenfolge der Einträge
+	 */
+	@Test
+	void testGetVersion() {
+		final Map<Long, String> versionen = new LinkedHashMap<>();
+		versionen.put(1L, "");
+		versionen.put(2L, "2024-03-01 10:00:00.123");
+		final Map<Long, String> umgekehrt = new LinkedHashMap<>();
+		umgekehrt.put(2L, "2024-03-01 10:00:00.123");
+		umgekehrt.put(1L, "");
+		final long version = AdressbuchCache.getVersion("Schule|1", versionen);
+		assertNotEquals(0, version);
+		assertEquals(version, AdressbuchCache.getVersion("Schule|1", umgekehrt));
+		assertNotEquals(version, AdressbuchCache.getVersion("Schule|2", versionen));
+		umgekehrt.put(1L, "2024-03-02 08:00:00.000");
+		assertNotEquals(version, AdressbuchCache.getVersion("Schule|1", umgekehrt));
+		umgekehrt.remove(1L);
+		assertNotEquals(version, AdressbuchCache.getVersion("Schule|1", umgekehrt));
+	}
+
+
+	/**
+	 * Testet, dass bei einer geänderten Version nur der betroffene Eintrag neu
+	 * erzeugt wird und dessen ETag sich mit dem Inhalt der vCard ändert, während
+	 * unveränderte Einträge aus dem Cache genommen werden. Bei einem geänderten
+	 * Kontext oder einer Invalidierung des Schemas werden alle Einträge neu erzeugt.
+	 */
+	@Test
+	void testGetEintraegeInvalidierung() {
+		final String schema = "AdressbuchCacheTest";
+		final Map<Long, String> nachnamen = new HashMap<>(Map.of(1L, "Müller", 2L, "Meier"));
+		final List<Collection<Long>> aufrufe = new ArrayList<>();
+		final AdressbuchCache cache = AdressbuchCache.get();
+		final Map<Long, String> versionen = new LinkedHashMap<>();
+		versionen.put(1L, "");
+		versionen.put(2L, "2024-03-01 10:00:00.123");
+		final List<AdressbuchEintrag> erste = cache.getEintraege(schema, "schueler", "Schule|1", versionen, ids -> {
+			aufrufe.add(List.copyOf(ids));
+			return erzeugeKontakte(ids, nachnamen);
+		});
+		assertEquals(List.of(List.of(1L, 2L)), aufrufe);
+		assertEquals(2, erste.size());
+		assertEquals("schueler", erste.get(0).adressbuchId);
+		assertNotEquals("", erste.get(0).version);
+
+		// Ohne Änderung werden die Einträge aus dem Cache genommen
+		aufrufe.clear();
+		final List<AdressbuchEintrag> zweite = cache.getEintraege(schema, "schueler", "Schule|1", versionen, ids -> {
+			aufrufe.add(List.copyOf(ids));
+			return erzeugeKontakte(ids, nachnamen);
+		});
+		assertEquals(List.of(), aufrufe);
+		assertSame(erste.get(0), zweite.get(0));
+		assertSame(erste.get(1), zweite.get(1));
+
+		// Bei einer Änderung wird nur der geänderte Eintrag neu erzeugt
+		nachnamen.put(1L, "Müller-Schmidt");
+		versionen.put(1L, "2024-03-02 08:00:00.000");
+		final List<AdressbuchEintrag> dritte = cache.getEintraege(schema, "schueler", "Schule|1", versionen, ids -> {
+			aufrufe.add(List.copyOf(ids));
+			return erzeugeKontakte(ids, nachnamen);
+		});
+		assertEquals(List.of(List.of(1L)), aufrufe);
+		assertNotSame(erste.get(0), dritte.get(0));
+		assertNotEquals(erste.get(0).version, dritte.get(0).version);
+		assertSame(erste.get(1), dritte.get(1));
+		assertTrue(cache.getVCard(dritte.get(0)).contains("Müller-Schmidt"));
+
+		// Ein entfernter Eintrag wird nicht mehr zurückgegeben
+		aufrufe.clear();
+		versionen.remove(2L);
+		assertEquals(List.of(dritte.get(0)), cache.getEintraege(schema, "schueler", "Schule|1", versionen, ids -> {
+			aufrufe.add(List.copyOf(ids));
+			return erzeugeKontakte(ids, nachnamen);
+		}));
+		assertEquals(List.of(), aufrufe);
+
+		// Bei einem geänderten Kontext oder einer Invalidierung des Schemas werden alle Einträge neu erzeugt
+		cache.getEintraege(schema, "schueler", "Schule|2", versionen, ids -> {
+			aufrufe.add(List.copyOf(ids));
+			return erzeugeKontakte(ids, nachnamen);
+		});
+		DBKatalogCache.get().invalidate(schema);
+		cache.getEintraege(schema, "schueler", "Schule|2", versionen, ids -> {
+			aufrufe.add(List.copyOf(ids));
+			return erzeugeKontakte(ids, nachnamen);
+		});
+		assertEquals(List.of(List.of(1L), List.of(1L)), aufrufe);
+	}
+
+	private static Map<Long, AdressbuchEintrag> erzeugeKontakte(final Collection<Long> ids, final Map<Long, String> nachnamen) {
+		final Map<Long, AdressbuchEintrag> result = new HashMap<>();
+		for (final Long id : ids) {
+			final AdressbuchKontakt k = new AdressbuchKontakt();
+			k.id = "Schueler" + id;
+			k.nachname = nachnamen.get(id);
+			k.vorname = "Max";
+			result.put(id, k);
+		}
+		return result;
+	}
+
+}
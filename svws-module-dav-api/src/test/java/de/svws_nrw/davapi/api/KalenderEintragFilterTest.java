@@ -0,0 +1,69 @@
+package de.svws_nrw.davapi.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.core.data.kalender.KalenderEintrag;
+import de.svws_nrw.davapi.data.KalenderEintragFilter;
+import de.svws_nrw.davapi.util.icalendar.DateTimeUtil;
+import de.svws_nrw.davapi.util.icalendar.VCalendarTyp;
+
+/**
+ * Testklasse für den {@link KalenderEintragFilter}
+ *
+ */
+public class KalenderEintragFilterTest {
+
+	private static KalenderEintrag createEintrag(final String uid, final long version, final String typ, final String start,
+			final String ende) {
+		final KalenderEintrag e = new KalenderEintrag();
+		e.uid = uid;
+		e.version = String.valueOf(version);
+		e.data = "BEGIN:VCALENDAR\r\nBEGIN:" + typ + "\r\nEND:" + typ + "\r\nEND:VCALENDAR";
+		e.kalenderTyp = typ;
+		e.kalenderStart = DateTimeUtil.toSQLTimeStamp(Instant.parse(start));
+		e.kalenderEnde = DateTimeUtil.toSQLTimeStamp(Instant.parse(ende));
+		return e;
+	}
+
+	/**
+	 * Testet die Filterung nach Synctoken und UIDs
+	 */
+	@Test
+	void testSyncTokenUndUIDs() {
+		final KalenderEintrag e = createEintrag("abc", 2000, "VEVENT", "2022-07-02T10:00:00Z", "2022-07-02T12:00:00Z");
+		assertTrue(KalenderEintragFilter.ALLE.test(e));
+		assertTrue(KalenderEintragFilter.ofSyncToken(1999).test(e));
+		assertFalse(KalenderEintragFilter.ofSyncToken(2000).test(e));
+		assertTrue(KalenderEintragFilter.ofUIDs(List.of("abc", "def")).test(e));
+		assertFalse(KalenderEintragFilter.ofUIDs(List.of("def")).test(e));
+	}
+
+	/**
+	 * Testet die Filterung nach Ressourcentyp, Komponente und Zeitraum
+	 */
+	@Test
+	void testCompFilter() {
+		final KalenderEintrag e = createEintrag("abc", 2000, "VEVENT", "2022-07-02T10:00:00Z", "2022-07-02T12:00:00Z");
+		assertTrue(KalenderEintragFilter.ofCompFilter("VCALENDAR", "VEVENT", null, null).test(e));
+		assertFalse(KalenderEintragFilter.ofCompFilter("VCARD", null, null, null).test(e));
+		assertFalse(KalenderEintragFilter.ofCompFilter(null, "VTODO", null, null).test(e));
+		assertTrue(KalenderEintragFilter.ofCompFilter(null, null, Instant.parse("2022-07-02T11:00:00Z"),
+				Instant.parse("2022-07-03T00:00:00Z")).test(e));
+		// ein vertauschter Zeitraum wird wie bei DateTimeUtil.intersect behandelt
+		assertTrue(KalenderEintragFilter.ofCompFilter(null, null, Instant.parse("2022-07-03T00:00:00Z"),
+				Instant.parse("2022-07-02T11:00:00Z")).test(e));
+		assertFalse(KalenderEintragFilter.ofCompFilter(null, null, Instant.parse("2022-07-02T12:00:01Z"),
+				Instant.parse("2022-07-03T00:00:00Z")).test(e));
+		assertEquals(VCalendarTyp.VEVENT, KalenderEintragFilter.ofCompFilter(null, "VEVENT", null, null).getKalenderTyp());
+		assertNull(KalenderEintragFilter.ofCompFilter(null, "VTIMEZONE", null, null).getKalenderTyp());
+	}
+
+}
@@ -1,5 +1,6 @@
 package de.svws_nrw.module.reporting.pdf;
 
+import com.openhtmltopdf.extend.impl.FSDefaultCacheStore;
 import com.openhtmltopdf.outputdevice.helper.BaseRendererBuilder;
 import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
 import com.openhtmltopdf.util.XRLog;
@@ -11,13 +12,18 @@ import jakarta.ws.rs.core.Response.Status;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Calendar;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -25,6 +31,22 @@ import java.util.Objects;
  */
 public class PdfBuilder {
 
+	/** Der Pfad zu den Schriftart-Dateien in den Ressourcen des Projektes. */
+	private static final String PFAD_SCHRIFTARTEN = "de/svws_nrw/module/reporting/fonts/liberation/";
+
+	/** Die Inhalte der Schriftart-Dateien zum Dateinamen, welche nur einmalig aus den Ressourcen gelesen werden. */
+	private static final Map<String, byte[]> schriftarten = new ConcurrentHashMap<>();
+
+	/**
+	 * Der von allen PDF-Dokumenten gemeinsam genutzte Cache für die Metriken der Schriftarten, damit diese nicht bei jedem
+	 * Dokument erneut aus den Schriftart-Dateien ermittelt werden müssen.
+	 */
+	private static final FSDefaultCacheStore cacheSchriftarten = new FSDefaultCacheStore();
+
+	static {
+		XRLog.listRegisteredLoggers().forEach(logger -> XRLog.setLevel(logger, java.util.logging.Level.WARNING));
+	}
+
 	/** Das finale html (also keine Datei oder Vorlage), aus dem die PDF-Datei erzeugt werden soll. */
 	private final String html;
 
@@ -109,6 +131,26 @@ public class PdfBuilder {
 	}
 
 
+	/**
+	 * Gibt einen Input-Stream für die Schriftart-Datei mit dem übergebenen Namen zurück. Die Datei wird nur beim
+	 * ersten Zugriff aus den Ressourcen gelesen und danach aus dem Speicher bereitgestellt.
+	 *
+	 * @param dateiname   der Name der Schriftart-Datei
+	 *
+	 * @return der Input-Stream mit dem Inhalt der Datei oder null, wenn die Datei nicht vorhanden ist
+	 */
+	private static InputStream getSchriftart(final String dateiname) {
+		final byte[] daten = schriftarten.computeIfAbsent(dateiname, name -> {
+			try (InputStream in = PDDocument.class.getClassLoader().getResourceAsStream(PFAD_SCHRIFTARTEN + name)) {
+				return (in == null) ? null : in.readAllBytes();
+			} catch (final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		return (daten == null) ? null : new ByteArrayInputStream(daten);
+	}
+
+
 	/**
 	 * Erzeugt das PDF-Dokument mit der Hilfe des PdfRendererBuilder und schreibt in den übergebenen Output-Stream.
 	 *
@@ -118,8 +160,6 @@ public class PdfBuilder {
 	 */
 	private void erzeugePDF(final OutputStream oStream) throws IOException {
 
-		XRLog.listRegisteredLoggers().forEach(logger -> XRLog.setLevel(logger, java.util.logging.Level.WARNING));
-
 		final Calendar now = Calendar.getInstance();
 
 		try (PDDocument doc = new PDDocument()) {
@@ -135,10 +175,11 @@ public class PdfBuilder {
 			final PdfRendererBuilder builder = new PdfRendererBuilder();
 			final String baseURI = Objects.requireNonNull(PDDocument.class.getClassLoader().getResource(ressourcenDateipfad)).toString();
 
-			builder.useFont(() -> PDDocument.class.getClassLoader().getResourceAsStream("de/svws_nrw/module/reporting/fonts/liberation/LiberationSans-Regular.ttf"), "liberation");
-			builder.useFont(() -> PDDocument.class.getClassLoader().getResourceAsStream("de/svws_nrw/module/reporting/fonts/liberation/LiberationSans-Bold.ttf"), "liberation", 700, BaseRendererBuilder.FontStyle.NORMAL, true);
-			builder.useFont(() -> PDDocument.class.getClassLoader().getResourceAsStream("de/svws_nrw/module/reporting/fonts/liberation/LiberationSans-Italic.ttf"), "liberation", 400, BaseRendererBuilder.FontStyle.ITALIC, true);
-			builder.useFont(() -> PDDocument.class.getClassLoader().getResourceAsStream("de/svws_nrw/module/reporting/fonts/liberation/LiberationSans-BoldItalic.ttf"), "liberation", 700, BaseRendererBuilder.FontStyle.ITALIC, true);
+			builder.useCacheStore(BaseRendererBuilder.CacheStore.PDF_FONT_METRICS, cacheSchriftarten);
+			builder.useFont(() -> getSchriftart("LiberationSans-Regular.ttf"), "liberation");
+			builder.useFont(() -> getSchriftart("LiberationSans-Bold.ttf"), "liberation", 700, BaseRendererBuilder.FontStyle.NORMAL, true);
+			builder.useFont(() -> getSchriftart("LiberationSans-Italic.ttf"), "liberation", 400, BaseRendererBuilder.FontStyle.ITALIC, true);
+			builder.useFont(() -> getSchriftart("LiberationSans-BoldItalic.ttf"), "liberation", 700, BaseRendererBuilder.FontStyle.ITALIC, true);
 
 			builder.useFastMode();
 			builder.usePDDocument(doc);
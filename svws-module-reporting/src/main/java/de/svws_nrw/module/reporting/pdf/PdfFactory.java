@@ -10,13 +10,21 @@ import de.svws_nrw.module.reporting.html.HtmlBuilder;
 import de.svws_nrw.module.reporting.html.HtmlTemplateDefinition;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.StreamingOutput;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -26,6 +34,32 @@ import java.util.zip.ZipOutputStream;
  */
 public final class PdfFactory {
 
+	/** Die Anzahl der Threads, die maximal gleichzeitig PDF-Dateien für alle Anfragen erzeugen. */
+	public static final int ANZAHL_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	/** Die Anzahl der PDF-Dateien einer ZIP-Datei, die maximal gleichzeitig in Arbeit sind oder auf das Schreiben warten. */
+	private static final int MAX_PDF_IN_ARBEIT = 2 * ANZAHL_THREADS;
+
+	/** Ein Zähler für die Benennung der Threads des Thread-Pools */
+	private static final AtomicInteger threadNummer = new AtomicInteger();
+
+	/** Der von allen Anfragen gemeinsam genutzte Thread-Pool für die Erzeugung der PDF-Dateien */
+	private static final ExecutorService executor = Executors.newFixedThreadPool(ANZAHL_THREADS, r -> {
+		final Thread t = new Thread(r, "PDF-Erzeugung-" + threadNummer.incrementAndGet());
+		t.setDaemon(true);
+		return t;
+	});
+
+	/**
+	 * Eine erzeugte PDF-Datei.
+	 *
+	 * @param dateiname   der Dateiname der PDF-Datei mit Endung
+	 * @param daten       der Inhalt der PDF-Datei
+	 */
+	private record PdfDatei(String dateiname, byte[] daten) {
+		// kein weiterer Inhalt
+	}
+
 	/** Die Daten für die Report-Ausgabe. */
 	private final ReportingAusgabedaten reportingAusgabedaten;
 
@@ -101,9 +135,8 @@ public final class PdfFactory {
 				if (!reportingAusgabedaten.einzelausgabeHauptdaten || pdfBuilders.size() == 1) {
 					return pdfBuilders.getFirst().getPdfResponse();
 				}
-				final byte[] zipData = createZIP(pdfBuilders);
 				final String encodedFilename = "filename*=UTF-8''" + URLEncoder.encode(htmlTemplateDefinition.getDateiname() + ".zip", StandardCharsets.UTF_8);
-				return Response.ok(zipData, "application/zip").header("Content-Disposition", "attachment; " + encodedFilename).build();
+				return Response.ok(createZIP(pdfBuilders, logger), "application/zip").header("Content-Disposition", "attachment; " + encodedFilename).build();
 			}
 			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, "Es sind keine PDF-Builder generiert worden.");
 		} catch (final Exception e) {
@@ -130,31 +163,90 @@ public final class PdfFactory {
 
 
 	/**
-	 * Erstellt eine ZIP-Datei, die alle PDF-Dateien der übergebenen PDF-Builder enthält.
+	 * Erstellt die Ausgabe einer ZIP-Datei, die alle PDF-Dateien der übergebenen PDF-Builder enthält. Die PDF-Dateien
+	 * werden dabei parallel im Thread-Pool erzeugt und in der Reihenfolge der PDF-Builder direkt in die Ausgabe der
+	 * Response geschrieben, ohne dass die ZIP-Datei vorher vollständig im Speicher erstellt wird. Damit nicht alle
+	 * PDF-Dateien gleichzeitig im Speicher gehalten werden, sind höchstens {@link #MAX_PDF_IN_ARBEIT} PDF-Dateien
+	 * gleichzeitig in Arbeit oder warten auf das Schreiben. <br>
+	 * Die erste PDF-Datei wird bereits vor der Rückgabe erzeugt, so dass ein Fehler, welcher z.B. bei einer fehlerhaften
+	 * Vorlage alle PDF-Dateien betrifft, noch mit einem passenden HTTP-Status-Code beantwortet werden kann. Schlägt erst
+	 * die Erzeugung einer späteren PDF-Datei fehl, so ist der Status-Code 200 bereits gesendet. In diesem Fall wird das
+	 * Schreiben mit einer IOException abgebrochen, die Verbindung beendet und der Client erhält eine unvollständige
+	 * ZIP-Datei ohne Inhaltsverzeichnis, welche beim Entpacken als fehlerhaft erkannt wird.
 	 *
 	 * @param pdfBuilders Liste mit PdfBuilder, die die einzelnen PDF-Dateien erzeugen.
+	 * @param logger      der Logger, über den Fehler bei der Erzeugung einer PDF-Datei protokolliert werden
 	 *
-	 * @return Gibt das ZIP in Form eines ByteArrays zurück.
+	 * @return die Ausgabe, welche die ZIP-Datei beim Senden der Response schreibt
 	 *
-	 * @throws ApiOperationException   im Fehlerfall
+	 * @throws ApiOperationException   falls die erste PDF-Datei nicht erzeugt werden kann
 	 */
-	private static byte[] createZIP(final List<PdfBuilder> pdfBuilders) throws ApiOperationException {
-		final byte[] zipData;
+	static StreamingOutput createZIP(final List<PdfBuilder> pdfBuilders, final Logger logger) throws ApiOperationException {
+		final Deque<Future<PdfDatei>> futures = new ArrayDeque<>();
+		final Iterator<PdfBuilder> iter = pdfBuilders.iterator();
+		while ((futures.size() < MAX_PDF_IN_ARBEIT) && iter.hasNext())
+			futures.add(submit(iter.next()));
+
+		// Warte auf die erste PDF-Datei, bevor die Response erzeugt wird
+		final PdfDatei erste;
 		try {
-			try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-				try (ZipOutputStream zos = new ZipOutputStream(baos)) {
-					for (final PdfBuilder pdfBuilder : pdfBuilders) {
-						zos.putNextEntry(new ZipEntry(pdfBuilder.getDateinameMitEndung()));
-						zos.write(pdfBuilder.getPdfByteArray());
-						zos.closeEntry();
-					}
-					baos.flush();
+			erste = futures.getFirst().get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			abbrechen(futures);
+			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, e, "Die Erzeugung der PDF-Dateien wurde unterbrochen.");
+		} catch (final ExecutionException e) {
+			abbrechen(futures);
+			logger.logLn("Fehler bei der Erzeugung einer PDF-Datei: " + e.getCause().getMessage());
+			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, e.getCause(), "Die PDF-Dateien für die ZIP-Datei konnten nicht erzeugt werden.");
+		}
+		futures.removeFirst();
+
+		return output -> {
+			try (ZipOutputStream zos = new ZipOutputStream(output)) {
+				PdfDatei pdf = erste;
+				while (pdf != null) {
+					if (iter.hasNext())
+						futures.add(submit(iter.next()));
+					zos.putNextEntry(new ZipEntry(pdf.dateiname()));
+					zos.write(pdf.daten());
+					zos.closeEntry();
+					pdf = futures.isEmpty() ? null : futures.removeFirst().get();
 				}
-				zipData = baos.toByteArray();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Die Erzeugung der PDF-Dateien wurde unterbrochen.", e);
+			} catch (final ExecutionException e) {
+				logger.logLn("Fehler bei der Erzeugung einer PDF-Datei: " + e.getCause().getMessage());
+				throw new IOException("Die erzeugten PDF-Dateien konnten nicht als ZIP-Datei zusammengestellt werden.", e.getCause());
+			} finally {
+				// Bei einem Fehler oder einem Abbruch der Verbindung werden noch nicht begonnene PDF-Dateien nicht mehr erzeugt
+				abbrechen(futures);
 			}
-		} catch (@SuppressWarnings("unused") final IOException e) {
-			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, "Die erzeugten PDF-Dateien konnten nicht als ZIP-Datei zusammengestellt werden.");
-		}
-		return zipData;
+		};
+	}
+
+
+	/**
+	 * Bricht die Erzeugung der noch nicht begonnenen PDF-Dateien ab.
+	 *
+	 * @param futures   die Futures der PDF-Dateien
+	 */
+	private static void abbrechen(final Deque<Future<PdfDatei>> futures) {
+		for (final Future<PdfDatei> future : futures)
+			future.cancel(false);
 	}
+
+
+	/**
+	 * Übergibt die Erzeugung der PDF-Datei des übergebenen PDF-Builders an den Thread-Pool.
+	 *
+	 * @param pdfBuilder   der PDF-Builder
+	 *
+	 * @return das Future für die erzeugte PDF-Datei
+	 */
+	private static Future<PdfDatei> submit(final PdfBuilder pdfBuilder) {
+		return executor.submit(() -> new PdfDatei(pdfBuilder.getDateinameMitEndung(), pdfBuilder.getPdfByteArray()));
+	}
+
 }
@@ -7,8 +7,6 @@ import de.svws_nrw.core.data.schueler.SchuelerStammdaten;
 import de.svws_nrw.core.types.Geschlecht;
 import de.svws_nrw.core.types.SchuelerStatus;
 import de.svws_nrw.core.types.schule.Nationalitaeten;
-import de.svws_nrw.data.gost.DBUtilsGostAbitur;
-import de.svws_nrw.data.schueler.DataSchuelerLernabschnittsdaten;
 import de.svws_nrw.db.utils.ApiOperationException;
 import de.svws_nrw.module.reporting.proxytypes.schueler.gost.abitur.ProxyReportingSchuelerGostAbitur;
 import de.svws_nrw.module.reporting.proxytypes.schueler.gost.laufbahnplanung.ProxyReportingSchuelerGostLaufbahnplanung;
@@ -118,6 +116,9 @@ public class ProxyReportingSchueler extends ReportingSchueler {
 
 		// Füge Stammdaten des Schülers für weitere Verwendung in der Map im Repository hinzu.
 		reportingRepository.mapSchuelerStammdaten().putIfAbsent(super.id(), schuelerStammdaten);
+
+		// Merke den Schüler vor, damit weitere Daten beim ersten Zugriff gemeinsam für alle Schüler geladen werden.
+		reportingRepository.vormerkenSchueler(List.of(super.id()));
 	}
 
 
@@ -167,16 +168,15 @@ public class ProxyReportingSchueler extends ReportingSchueler {
 	@Override
 	public ReportingSchuelerGostAbitur gostAbitur() throws ApiOperationException {
 		if (super.gostAbitur() == null) {
-			if (this.reportingRepository.mapGostSchuelerAbiturdaten().containsKey(this.id())) {
-				super.setGostAbitur(new ProxyReportingSchuelerGostAbitur(this.reportingRepository, this.reportingRepository.mapGostSchuelerAbiturdaten().get(this.id())));
-			} else {
-				try {
-					final Abiturdaten abiturdaten = DBUtilsGostAbitur.getAbiturdaten(this.reportingRepository.conn(), this.id());
-					super.setGostAbitur(new ProxyReportingSchuelerGostAbitur(this.reportingRepository, abiturdaten));
-				} catch (final ApiOperationException aoe) {
-					throw new ApiOperationException(Status.NOT_FOUND, aoe, "Es wurde eine Schüler-ID übergeben, für die keine Abiturdaten in der GOSt existieren.");
-				}
+			final Abiturdaten abiturdaten;
+			try {
+				abiturdaten = this.reportingRepository.getGostAbiturdaten(this.id());
+			} catch (final ApiOperationException aoe) {
+				throw new ApiOperationException(Status.NOT_FOUND, aoe, "Es wurde eine Schüler-ID übergeben, für die keine Abiturdaten in der GOSt existieren.");
 			}
+			if (abiturdaten == null)
+				throw new ApiOperationException(Status.NOT_FOUND, "Es wurde eine Schüler-ID übergeben, für die keine Abiturdaten in der GOSt existieren.");
+			super.setGostAbitur(new ProxyReportingSchuelerGostAbitur(this.reportingRepository, abiturdaten));
 		}
 		return super.gostAbitur();
 	}
@@ -208,7 +208,7 @@ public class ProxyReportingSchueler extends ReportingSchueler {
 		if (super.lernabschnitte().isEmpty()) {
 			final List<SchuelerLernabschnittsdaten> schuelerLernabschnittsdaten = new ArrayList<>();
 			try {
-				schuelerLernabschnittsdaten.addAll(new DataSchuelerLernabschnittsdaten(this.reportingRepository().conn()).getListFromSchuelerIDs(new ArrayList<>(List.of(this.id())), true));
+				schuelerLernabschnittsdaten.addAll(this.reportingRepository.getLernabschnittsdaten(this.id()));
 			} catch (final ApiOperationException e) {
 				e.printStackTrace();
 			}
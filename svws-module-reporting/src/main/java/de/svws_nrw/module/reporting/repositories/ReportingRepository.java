@@ -18,11 +18,13 @@ import de.svws_nrw.core.data.schule.SchuleStammdaten;
 import de.svws_nrw.core.data.schule.Schuljahresabschnitt;
 import de.svws_nrw.core.utils.gost.GostFaecherManager;
 import de.svws_nrw.data.faecher.DataFachdaten;
+import de.svws_nrw.data.gost.DBUtilsGostAbitur;
 import de.svws_nrw.data.jahrgaenge.DataJahrgangsdaten;
 import de.svws_nrw.data.kataloge.DataOrte;
 import de.svws_nrw.data.kataloge.DataOrtsteile;
 import de.svws_nrw.data.klassen.DataKlassendaten;
 import de.svws_nrw.data.schueler.DataKatalogSchuelerFoerderschwerpunkte;
+import de.svws_nrw.data.schueler.DataSchuelerLernabschnittsdaten;
 import de.svws_nrw.data.schule.DataReligionen;
 import de.svws_nrw.data.schule.DataSchuleStammdaten;
 import de.svws_nrw.data.schule.DataSchuljahresabschnitte;
@@ -32,8 +34,13 @@ import de.svws_nrw.module.reporting.proxytypes.fach.ProxyReportingFach;
 import de.svws_nrw.module.reporting.types.fach.ReportingFach;
 import jakarta.ws.rs.core.Response.Status;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -69,9 +76,15 @@ public class ReportingRepository {
 	/** Stellt die Religionen aus dem Katalog der Schule zur Religion-ID zur Verfügung */
 	private final Map<Long, ReligionEintrag> katalogReligionen;
 
+	/** Die IDs der Schüler, deren Daten beim ersten Zugriff gemeinsam für alle vorgemerkten Schüler nachgeladen werden. */
+	private final Set<Long> idsSchuelerVorgemerkt = new LinkedHashSet<>();
+
 	/** Stellt die Daten von bereits abgerufenen aktuellen Lernabschnitten zur Schüler-ID zur Verfügung. */
 	private final Map<Long, SchuelerLernabschnittsdaten> mapAktuelleLernabschnittsdaten = new HashMap<>();
 
+	/** Stellt die Daten aller Lernabschnitte von bereits abgerufenen Schülern über eine Map zur Schüler-ID zur Verfügung. */
+	private final Map<Long, List<SchuelerLernabschnittsdaten>> mapSchuelerLernabschnittsdaten = new HashMap<>();
+
 	/** Stellt die Daten der Abiturjahrgänge über eine Map zum Abiturjahr Verfügung. */
 	private final Map<Integer, GostJahrgangsdaten> mapGostAbiturjahrgangDaten = new HashMap<>();
 
@@ -81,7 +94,7 @@ public class ReportingRepository {
 	/** Stellt die Beratungsdaten zur GOSt von bereits abgerufenen Schülern über eine Map zur Schüler-ID zur Verfügung. */
 	private final Map<Long, GostLaufbahnplanungBeratungsdaten> mapGostBeratungsdaten = new HashMap<>();
 
-	/** Stellt die Abiturdaten in der GOSt von bereits abgerufenen Schülern über eine Map zur Schüler-ID zur Verfügung. */
+	/** Stellt die Abiturdaten in der GOSt von bereits abgerufenen Schülern über eine Map zur Schüler-ID zur Verfügung, null bei Schülern ohne Abiturdaten. */
 	private final Map<Long, Abiturdaten> mapGostSchuelerAbiturdaten = new HashMap<>();
 
 	/** Stellt die Stammdaten der Jahrgänge über eine Map zur Jahrgang-ID zur Verfügung */
@@ -226,6 +239,14 @@ public class ReportingRepository {
 		return mapAktuelleLernabschnittsdaten;
 	}
 
+	/**
+	 * Stellt die Daten aller Lernabschnitte von bereits abgerufenen Schülern über eine Map zur Schüler-ID zur Verfügung.
+	 * @return Map der Daten aller Lernabschnitte von bereits abgerufenen Schülern.
+	 */
+	public Map<Long, List<SchuelerLernabschnittsdaten>> mapSchuelerLernabschnittsdaten() {
+		return mapSchuelerLernabschnittsdaten;
+	}
+
 	/**
 	 * Stellt die Daten der Abiturjahrgänge über eine Map zum Abiturjahr Verfügung.
 	 * @return Map der Daten zu den Abiturjahrgängen
@@ -307,4 +328,77 @@ public class ReportingRepository {
 	}
 
 
+
+	/**
+	 * Merkt die Schüler mit den übergebenen IDs für das gemeinsame Nachladen von Daten vor. Wird für einen dieser Schüler
+	 * auf Daten wie die Lernabschnitte oder die Abiturdaten zugegriffen, so werden diese mit wenigen Datenbank-Anfragen
+	 * direkt für alle vorgemerkten Schüler geladen, statt für jeden Schüler einzeln.
+	 *
+	 * @param idsSchueler   die IDs der Schüler
+	 */
+	public void vormerkenSchueler(final Collection<Long> idsSchueler) {
+		idsSchuelerVorgemerkt.addAll(idsSchueler);
+	}
+
+	/**
+	 * Gibt die IDs des übergebenen Schülers und aller vorgemerkten Schüler zurück, welche noch nicht in der übergebenen Map
+	 * enthalten sind.
+	 *
+	 * @param idSchueler   die ID des Schülers, auf dessen Daten zugegriffen wird
+	 * @param map          die Map mit den bereits geladenen Daten zur Schüler-ID
+	 *
+	 * @return die Liste der IDs der Schüler, deren Daten gemeinsam geladen werden
+	 */
+	private List<Long> getIDsZuLaden(final long idSchueler, final Map<Long, ?> map) {
+		final List<Long> ids = new ArrayList<>();
+		ids.add(idSchueler);
+		for (final Long id : idsSchuelerVorgemerkt)
+			if ((id != idSchueler) && !map.containsKey(id))
+				ids.add(id);
+		return ids;
+	}
+
+	/**
+	 * Gibt die Daten aller Lernabschnitte des Schülers mit der übergebenen ID zurück. Sind diese noch nicht geladen, so werden
+	 * sie gemeinsam mit den Lernabschnitten aller vorgemerkten Schüler aus der Datenbank geladen.
+	 *
+	 * @param idSchueler   die ID des Schülers
+	 *
+	 * @return die Liste der Lernabschnittsdaten, welche bei einer Neuaufnahme auch leer sein kann
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	public List<SchuelerLernabschnittsdaten> getLernabschnittsdaten(final long idSchueler) throws ApiOperationException {
+		if (mapSchuelerLernabschnittsdaten.containsKey(idSchueler))
+			return mapSchuelerLernabschnittsdaten.get(idSchueler);
+		final List<Long> ids = getIDsZuLaden(idSchueler, mapSchuelerLernabschnittsdaten);
+		final List<SchuelerLernabschnittsdaten> lernabschnitte = new DataSchuelerLernabschnittsdaten(conn).getListFromSchuelerIDs(ids, true);
+		for (final Long id : ids)
+			mapSchuelerLernabschnittsdaten.put(id, new ArrayList<>());
+		for (final SchuelerLernabschnittsdaten lernabschnitt : lernabschnitte)
+			mapSchuelerLernabschnittsdaten.get(lernabschnitt.schuelerID).add(lernabschnitt);
+		return mapSchuelerLernabschnittsdaten.get(idSchueler);
+	}
+
+	/**
+	 * Gibt die Abiturdaten in der GOSt des Schülers mit der übergebenen ID zurück. Sind diese noch nicht geladen, so werden sie
+	 * gemeinsam mit den Abiturdaten aller vorgemerkten Schüler mit einer festen Anzahl an Datenbank-Anfragen geladen.
+	 *
+	 * @param idSchueler   die ID des Schülers
+	 *
+	 * @return die Abiturdaten oder null, wenn für den Schüler keine Abiturdaten in der Datenbank vorhanden sind
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	public Abiturdaten getGostAbiturdaten(final long idSchueler) throws ApiOperationException {
+		if (mapGostSchuelerAbiturdaten.containsKey(idSchueler))
+			return mapGostSchuelerAbiturdaten.get(idSchueler);
+		final List<Long> ids = getIDsZuLaden(idSchueler, mapGostSchuelerAbiturdaten);
+		final Map<Long, Abiturdaten> abiturdaten = DBUtilsGostAbitur.getAbiturdaten(conn, ids);
+		for (final Long id : ids)
+			mapGostSchuelerAbiturdaten.put(id, abiturdaten.get(id));
+		return mapGostSchuelerAbiturdaten.get(idSchueler);
+	}
+
+
 }
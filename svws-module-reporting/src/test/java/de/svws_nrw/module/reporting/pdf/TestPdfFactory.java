@@ -0,0 +1,84 @@
+package de.svws_nrw.module.reporting.pdf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.core.logger.Logger;
+import de.svws_nrw.db.utils.ApiOperationException;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Diese Klasse testet die Erstellung der ZIP-Datei mit mehreren PDF-Dateien durch die {@link PdfFactory}.
+ */
+class TestPdfFactory {
+
+	/** Der Pfad einer CSS-Datei in den Ressourcen, aus dem die baseURI für die PDF-Erzeugung ermittelt wird */
+	private static final String PFAD_CSS = "de/svws_nrw/module/reporting/gost/kursplanung/GostKursplanungKursMitKursschuelern.css";
+
+	/**
+	 * Prüft, dass die ZIP-Datei für jeden PDF-Builder einen Eintrag in der Reihenfolge der PDF-Builder enthält und
+	 * jeder Eintrag die PDF-Datei mit dem Inhalt des zugehörigen html enthält. Es werden dabei mehr PDF-Dateien
+	 * erzeugt, als gleichzeitig in Arbeit sein dürfen.
+	 *
+	 * @throws IOException             falls beim Schreiben oder Lesen der ZIP-Datei ein Fehler auftritt
+	 * @throws ApiOperationException   falls die erste PDF-Datei nicht erzeugt werden kann
+	 */
+	@Test
+	@DisplayName("Prüfe die Einträge der gestreamten ZIP-Datei")
+	void testCreateZIP() throws IOException, ApiOperationException {
+		final int anzahl = 2 * PdfFactory.ANZAHL_THREADS + 3;
+		final List<PdfBuilder> pdfBuilders = new ArrayList<>();
+		for (int i = 0; i < anzahl; i++)
+			pdfBuilders.add(new PdfBuilder("<html><body><p>Inhalt der Datei " + i + "</p></body></html>", PFAD_CSS, "Datei_" + i));
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		PdfFactory.createZIP(pdfBuilders, new Logger()).write(out);
+
+		try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			for (int i = 0; i < anzahl; i++) {
+				final ZipEntry entry = zis.getNextEntry();
+				assertEquals("Datei_" + i + ".pdf", entry.getName());
+				final byte[] daten = zis.readAllBytes();
+				assertTrue(new String(daten, 0, 5, StandardCharsets.US_ASCII).startsWith("%PDF-"));
+				try (PDDocument pdf = Loader.loadPDF(daten)) {
+					assertEquals(1, pdf.getNumberOfPages());
+					assertTrue(new PDFTextStripper().getText(pdf).contains("Inhalt der Datei " + i));
+				}
+			}
+			assertNull(zis.getNextEntry());
+		}
+	}
+
+
+	/**
+	 * Prüft, dass ein Fehler bei der Erzeugung der ersten PDF-Datei bereits vor dem Senden der Response zu einer
+	 * {@link ApiOperationException} führt, so dass keine unvollständige ZIP-Datei mit dem Status-Code 200 gesendet wird.
+	 */
+	@Test
+	@DisplayName("Prüfe den Fehler bei der Erzeugung der ersten PDF-Datei")
+	void testCreateZIPFehler() {
+		final List<PdfBuilder> pdfBuilders = new ArrayList<>();
+		for (int i = 0; i < 3; i++)
+			pdfBuilders.add(new PdfBuilder("<html><body><p>Inhalt der Datei " + i + "</p></body></html>", "de/svws_nrw/gibt/es/nicht.css", "Datei_" + i));
+		final ApiOperationException e = assertThrows(ApiOperationException.class, () -> PdfFactory.createZIP(pdfBuilders, new Logger()));
+		assertEquals(Status.INTERNAL_SERVER_ERROR, e.getStatus());
+	}
+
+}
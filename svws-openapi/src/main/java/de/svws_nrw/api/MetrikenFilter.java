@@ -0,0 +1,62 @@
+package de.svws_nrw.api;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import de.svws_nrw.metriken.AnfrageMetriken;
+import de.svws_nrw.metriken.Metriken;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Implementiert einen Filter, welcher für jede Anfrage an eine Methode der Rest-API die Metriken
+ * (siehe {@link Metriken}) erfasst. Die Erfassung beginnt, nachdem die Anfrage einer Methode zugeordnet
+ * wurde, und endet nach der Serialisierung der Antwort bzw. direkt nach der Verarbeitung, wenn die
+ * Antwort keinen Inhalt hat.
+ */
+public final class MetrikenFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+	/** Der Name der Eigenschaft der Anfrage, unter der die {@link AnfrageMetriken} abgelegt werden */
+	private static final String PROPERTY_METRIKEN = MetrikenFilter.class.getName();
+
+	/** Die Informationen zu der Methode der Rest-API, welcher die Anfrage zugeordnet wurde */
+	@Context
+	private ResourceInfo resourceInfo;
+
+	@Override
+	public void filter(final ContainerRequestContext requestContext) throws IOException {
+		final Class<?> klasse = resourceInfo.getResourceClass();
+		final Method methode = resourceInfo.getResourceMethod();
+		if ((klasse == null) || (methode == null))
+			return;
+		requestContext.setProperty(PROPERTY_METRIKEN, AnfrageMetriken.starte(klasse.getSimpleName() + "." + methode.getName(), requestContext.getMethod()));
+	}
+
+	@Override
+	public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) throws IOException {
+		if (!(requestContext.getProperty(PROPERTY_METRIKEN) instanceof final AnfrageMetriken anfrage))
+			return;
+		anfrage.setStatus(responseContext.getStatus());
+		// Bei einer Antwort mit Inhalt wird die Erfassung erst nach der Serialisierung abgeschlossen
+		if (!responseContext.hasEntity() || HttpMethod.HEAD.equals(requestContext.getMethod()))
+			anfrage.beende();
+	}
+
+	@Override
+	public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+		try {
+			context.proceed();
+		} finally {
+			if (context.getProperty(PROPERTY_METRIKEN) instanceof final AnfrageMetriken anfrage)
+				anfrage.beende();
+		}
+	}
+
+}
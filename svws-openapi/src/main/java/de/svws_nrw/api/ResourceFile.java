@@ -1,84 +1,328 @@
 package de.svws_nrw.api;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
-import de.svws_nrw.base.FileUtils;
-import de.svws_nrw.db.utils.ApiOperationException;
-import jakarta.servlet.ServletOutputStream;
+import org.eclipse.jetty.server.HttpOutput;
+
+import de.svws_nrw.db.utils.ApiUtils;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.ws.rs.core.Response.Status;
 
 /**
- * Diese Klasse dient als Cache für Datei-Ressourcen.
+ * Diese Klasse dient als Cache für Datei-Ressourcen. <br>
+ * Die Datei wird beim Erstellen der Ressource einmalig gelesen und zusammen mit
+ * ihren komprimierten Varianten im Speicher abgelegt. Liegen neben der Datei
+ * bereits vorkomprimierte Dateien mit der Endung ".br" oder ".gz", so werden
+ * diese als Varianten für Brotli bzw. gzip verwendet, ansonsten wird für
+ * komprimierbare Dateitypen eine gzip-Variante erzeugt. Die Brotli-Varianten
+ * werden beim Build der Web-Clients von Vite erzeugt. Jede Variante hat ein
+ * starkes ETag, welches aus dem Hash-Wert des Datei-Inhaltes bestimmt wird.
+ * Änderungen an der Datei werden erst nach einem Neustart des Servers berücksichtigt.
  */
 public final class ResourceFile {
 
+	/** Die Content-Kodierung für Brotli */
+	public static final String KODIERUNG_BROTLI = "br";
+
+	/** Die Content-Kodierung für gzip */
+	public static final String KODIERUNG_GZIP = "gzip";
+
+	/** Die Content-Kodierung für unkomprimierte Daten */
+	public static final String KODIERUNG_IDENTITY = "identity";
+
+	/** Die Dateiendungen der Dateitypen, für welche eine gzip-Variante erzeugt wird */
+	private static final Set<String> komprimierbar = Set.of("html", "js", "mjs", "map", "css", "json", "svg", "txt", "xml", "ico");
+
+	/** Die Mindestgröße einer Datei in Bytes, ab welcher eine gzip-Variante erzeugt wird */
+	private static final int KOMPRIMIERUNG_MIN_GROESSE = 256;
+
+	/**
+	 * Das Muster für Dateinamen, welche einen Hash-Wert des Inhaltes beinhalten, wie sie von Vite im
+	 * Verzeichnis assets erzeugt werden (z.B. assets/index-1a2b3c4D.js oder assets/index-1a2b3c4D.js.map)
+	 */
+	private static final Pattern musterHashName = Pattern.compile("^assets/[^/]+-[A-Za-z0-9_-]{8}\\.[^/]+$");
+
+
+	/**
+	 * Eine Variante einer Datei-Ressource mit einer Content-Kodierung.
+	 *
+	 * @param kodierung   die Content-Kodierung der Variante
+	 * @param etag        das starke ETag der Variante (ohne Anführungszeichen)
+	 * @param daten       die Daten der Variante als nur lesbarer Puffer
+	 */
+	public record Variante(String kodierung, String etag, ByteBuffer daten) {
+
+		/**
+		 * Gibt einen eigenen Puffer für die Daten der Variante zurück, so dass
+		 * die Variante von mehreren Anfragen gleichzeitig gelesen werden kann.
+		 *
+		 * @return der Puffer mit den Daten
+		 */
+		@Override
+		public ByteBuffer daten() {
+			return daten.duplicate();
+		}
+
+		/**
+		 * Gibt die Größe der Daten der Variante in Bytes zurück.
+		 *
+		 * @return die Größe in Bytes
+		 */
+		public int laenge() {
+			return daten.remaining();
+		}
+
+		/**
+		 * Prüft, ob das ETag dieser Variante in dem Wert eines If-None-Match-Headers
+		 * enthalten ist (siehe {@link ApiUtils#istETagEnthalten(String, String)}).
+		 *
+		 * @param ifNoneMatch   der Wert des If-None-Match-Headers oder null
+		 *
+		 * @return true, wenn die Variante beim Client bereits aktuell vorliegt
+		 */
+		public boolean passtZu(final String ifNoneMatch) {
+			return ApiUtils.istETagEnthalten(ifNoneMatch, etag);
+		}
+
+		/**
+		 * Schreibt die Daten der Variante in den übergebenen Ausgabe-Stream. Handelt es sich um
+		 * den Ausgabe-Stream des Jetty-Servers, so wird der Puffer ohne weiteres Kopieren an die
+		 * Verbindung übergeben.
+		 *
+		 * @param out   der Ausgabe-Stream
+		 *
+		 * @throws IOException   falls beim Schreiben ein Fehler auftritt
+		 */
+		public void write(final OutputStream out) throws IOException {
+			final ByteBuffer buffer = daten();
+			if (out instanceof final HttpOutput httpOutput) {
+				httpOutput.sendContent(buffer);
+				return;
+			}
+			Channels.newChannel(out).write(buffer);
+			out.flush();
+		}
+
+	}
+
+
 	/** Der Datei-Pfad dieser Ressource */
 	private final String path;
 
-	/** Das Datei-Objekt für diese Ressource */
-	private final File file;
-
-	/** Die gecachten Daten dieser Ressource */
-	private byte[] cache;
+	/** Die Varianten dieser Ressource in der Reihenfolge der Bevorzugung, die unkomprimierte Variante ist immer die letzte */
+	private final List<Variante> varianten;
 
-	/** Der Zeitstempel, wann die gecachte Ressource zuletzt verwendet wurde. Dieser dient der Erkennung, ob sich eine Datei verändert hat und deshalb neu geladen werden muss. */
-	private long cacheTimestamp;
+	/** Gibt an, ob der Dateiname einen Hash-Wert des Inhaltes enthält und die Ressource daher unveränderlich ist */
+	private final boolean unveraenderlich;
 
 
 	/**
-	 * Erstellt eine neue Datei-Ressource.
+	 * Erstellt eine neue Datei-Ressource und liest dabei die Datei und ihre Varianten ein.
 	 *
 	 * @param prefix   der Präfix beim Datei-Pfad, der nicht in den Pfad dieser Ressource
 	 *                 übernommen werden soll, da der Pfad der Ressource ein relativer Pfad ist.
 	 * @param file   das {@link File}-Objekt für den Zugriff auf die Datei-Ressource
+	 *
+	 * @throws UncheckedIOException   falls die Datei nicht gelesen werden kann
 	 */
 	ResourceFile(final String prefix, final File file) {
-		this.file = file;
 		final String p = file.getPath().replace('\\', '/');
 		this.path = p.substring(prefix.length(), p.length()).replaceFirst("^/", "");
-		this.cache = null;
-		this.cacheTimestamp = Long.MIN_VALUE;
+		this.unveraenderlich = musterHashName.matcher(path).matches();
+		try {
+			final ByteBuffer daten = read(file);
+			final String hash = hash(daten.duplicate());
+			final List<Variante> liste = new ArrayList<>();
+			final File brotli = new File(file.getPath() + ".br");
+			if (brotli.isFile())
+				liste.add(new Variante(KODIERUNG_BROTLI, hash + "-" + KODIERUNG_BROTLI, read(brotli)));
+			final File gzip = new File(file.getPath() + ".gz");
+			final ByteBuffer gzipDaten = gzip.isFile() ? read(gzip) : compress(daten.duplicate());
+			if (gzipDaten != null)
+				liste.add(new Variante(KODIERUNG_GZIP, hash + "-" + KODIERUNG_GZIP, gzipDaten));
+			liste.add(new Variante(KODIERUNG_IDENTITY, hash, daten));
+			this.varianten = Collections.unmodifiableList(liste);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	/**
+	 * Liest die angegebene Datei in einen nur lesbaren Puffer außerhalb des Java-Heaps ein.
+	 *
+	 * @param file   die Datei
+	 *
+	 * @return der Puffer mit dem Inhalt der Datei
+	 *
+	 * @throws IOException   falls beim Lesen ein Fehler auftritt
+	 */
+	private static ByteBuffer read(final File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(Math.toIntExact(channel.size()));
+			while (buffer.hasRemaining() && (channel.read(buffer) >= 0)) {
+				// lese weiter, bis der Puffer gefüllt ist
+			}
+			return buffer.flip().asReadOnlyBuffer();
+		}
 	}
 
 
 	/**
-	 * Gibt die Daten dieser Ressource zurück. Dabei wird geprüft, ob der
-	 * Cache noch gültige Daten besitzt. Ist dies der Fall, so wird der Cache-Inhalt
-	 * zurückgegeben. Ist dies nicht der Fall, so wird der Cache durch einen Zugriff
-	 * auf die Datei-Ressource aktualisiert.
+	 * Bestimmt den Hash-Wert der übergebenen Daten für die Verwendung als ETag.
 	 *
-	 * @return die Daten dieser Datei-Ressource
+	 * @param daten   die Daten
 	 *
-	 * @throws ApiOperationException   im Fehlerfall
+	 * @return der Hash-Wert in einer Base64-Kodierung, welche für URLs geeignet ist
 	 */
-	public byte[] getData() throws ApiOperationException {
+	private static String hash(final ByteBuffer daten) {
 		try {
-			if ((cache == null) || (cacheTimestamp != file.lastModified())) {
-				this.cache = FileUtils.file2ByteArray(file);
-				this.cacheTimestamp = file.lastModified();
+			final MessageDigest md = MessageDigest.getInstance("SHA-256");
+			md.update(daten);
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(md.digest()).substring(0, 22);
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+
+	/**
+	 * Erzeugt die gzip-Variante für die übergebenen Daten, sofern der Dateityp dieser
+	 * Ressource komprimierbar ist und die Komprimierung die Daten merklich verkleinert.
+	 *
+	 * @param daten   die unkomprimierten Daten
+	 *
+	 * @return der Puffer mit den komprimierten Daten oder null, falls keine Variante erzeugt wird
+	 *
+	 * @throws IOException   falls bei der Komprimierung ein Fehler auftritt
+	 */
+	private ByteBuffer compress(final ByteBuffer daten) throws IOException {
+		final int pos = path.lastIndexOf('.');
+		final String endung = (pos < 0) ? "" : path.substring(pos + 1).toLowerCase(Locale.ROOT);
+		final int groesse = daten.remaining();
+		if (!komprimierbar.contains(endung) || (groesse < KOMPRIMIERUNG_MIN_GROESSE))
+			return null;
+		final ByteArrayOutputStream result = new ByteArrayOutputStream(groesse / 4);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(result) {
+			{
+				def.setLevel(Deflater.BEST_COMPRESSION);
 			}
-		} catch (final SecurityException | IOException e) {
-			throw new ApiOperationException(Status.INTERNAL_SERVER_ERROR, e);
+		}) {
+			Channels.newChannel(gzip).write(daten);
 		}
-		return this.cache;
+		if (result.size() > (groesse * 9L) / 10)
+			return null;
+		return ByteBuffer.allocateDirect(result.size()).put(result.toByteArray()).flip().asReadOnlyBuffer();
 	}
 
 
 	/**
-	 * Schreibt die Daten der Datei-Ressource direkt in eine {@link HttpServletResponse}.
+	 * Wählt anhand des Accept-Encoding-Headers einer Anfrage die zu sendende Variante
+	 * dieser Ressource aus. Brotli wird dabei gzip vorgezogen. Ist keine der
+	 * komprimierten Varianten akzeptiert, so wird die unkomprimierte Variante gewählt.
+	 *
+	 * @param acceptEncoding   der Wert des Accept-Encoding-Headers oder null
+	 *
+	 * @return die Variante
+	 */
+	public Variante getVariante(final String acceptEncoding) {
+		if (acceptEncoding != null)
+			for (final Variante v : varianten)
+				if (!KODIERUNG_IDENTITY.equals(v.kodierung()) && istAkzeptiert(acceptEncoding, v.kodierung()))
+					return v;
+		return varianten.get(varianten.size() - 1);
+	}
+
+
+	/**
+	 * Prüft, ob die Content-Kodierung in dem Wert des Accept-Encoding-Headers mit
+	 * einem Gewicht größer als 0 enthalten ist.
+	 *
+	 * @param acceptEncoding   der Wert des Accept-Encoding-Headers
+	 * @param kodierung        die Content-Kodierung
+	 *
+	 * @return true, wenn die Kodierung akzeptiert wird
+	 */
+	static boolean istAkzeptiert(final String acceptEncoding, final String kodierung) {
+		boolean wildcard = false;
+		for (final String s : acceptEncoding.split(",")) {
+			final String[] teile = s.split(";");
+			final String name = teile[0].trim();
+			boolean akzeptiert = true;
+			for (int i = 1; i < teile.length; i++) {
+				final String parameter = teile[i].trim();
+				if (parameter.startsWith("q=")) {
+					try {
+						akzeptiert = Double.parseDouble(parameter.substring(2)) > 0;
+					} catch (@SuppressWarnings("unused") final NumberFormatException e) {
+						akzeptiert = false;
+					}
+				}
+			}
+			if (name.equalsIgnoreCase(kodierung))
+				return akzeptiert;
+			if ("*".equals(name))
+				wildcard = akzeptiert;
+		}
+		return wildcard;
+	}
+
+
+	/**
+	 * Gibt zurück, ob für diese Ressource komprimierte Varianten vorliegen und die
+	 * Antwort daher von dem Accept-Encoding-Header abhängt.
+	 *
+	 * @return true, wenn komprimierte Varianten vorliegen
+	 */
+	public boolean hatKomprimierteVarianten() {
+		return varianten.size() > 1;
+	}
+
+
+	/**
+	 * Gibt zurück, ob der Dateiname dieser Ressource einen Hash-Wert ihres Inhaltes
+	 * enthält. Solche Ressourcen ändern sich unter ihrem Namen nicht und können vom
+	 * Client dauerhaft zwischengespeichert werden.
+	 *
+	 * @return true, wenn die Ressource unveränderlich ist
+	 */
+	public boolean istUnveraenderlich() {
+		return unveraenderlich;
+	}
+
+
+	/**
+	 * Schreibt die unkomprimierten Daten der Datei-Ressource direkt in eine {@link HttpServletResponse}.
 	 *
 	 * @param response   die HTTP-Response, in welche die Daten der Date-Ressource
 	 *                   geschrieben werden sollen
 	 *
-	 * @throws IOException   diese Exception tritt auf, wenn beim Lesen der Datei-Ressource oder
-	 *                       beim Schreiben in die {@link HttpServletResponse} ein Fehler auftritt
+	 * @throws IOException   diese Exception tritt auf, wenn beim Schreiben in die
+	 *                       {@link HttpServletResponse} ein Fehler auftritt
 	 */
 	public void write(final HttpServletResponse response) throws IOException {
-		try (ServletOutputStream ostream = response.getOutputStream()) {
-			FileUtils.copy(file, ostream);
-		}
+		final Variante variante = varianten.get(varianten.size() - 1);
+		response.setContentLength(variante.laenge());
+		response.setHeader("ETag", "\"" + variante.etag() + "\"");
+		variante.write(response.getOutputStream());
 	}
 
 
@@ -2,22 +2,47 @@ package de.svws_nrw.api;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import de.svws_nrw.config.SVWSKonfiguration;
+import de.svws_nrw.core.logger.LogConsumerConsole;
+import de.svws_nrw.core.logger.LogLevel;
+import de.svws_nrw.core.logger.Logger;
 import de.svws_nrw.db.utils.ApiOperationException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.StreamingOutput;
 
 /**
  * Diese Klasse dient als Cache für Datei-Ressourcen, wie dem SVWS-Client, die über
- * die OpenAPI-Schnisstelle zur Verfügung gestellt werden.
+ * die OpenAPI-Schnisstelle zur Verfügung gestellt werden. <br>
+ * Der Index der Ressourcen wird beim Start des Servers einmalig aufgebaut und danach
+ * nicht mehr verändert. Die Ressourcen werden mit starken ETags, Cache-Control-Headern
+ * und - sofern vom Client akzeptiert - vorkomprimiert ausgeliefert.
  */
 public final class ResourceFileManager {
 
-	/** Eine HashMap mit den {@link ResourceFile}-Objekten zugeordnet zu den Dateinamen,
+	/** Die Angabe für den Cache-Control-Header bei Ressourcen, deren Dateiname einen Hash-Wert des Inhaltes enthält */
+	private static final String CACHE_CONTROL_UNVERAENDERLICH = "public, max-age=31536000, immutable";
+
+	/** Die Angabe für den Cache-Control-Header bei allen anderen Ressourcen, welche vor der Verwendung mit dem ETag geprüft werden müssen */
+	private static final String CACHE_CONTROL_PRUEFEN = "no-cache";
+
+	/** Logger für diese Klasse */
+	private static final Logger logger = createLogger();
+
+	/** Eine unveränderliche Map mit den {@link ResourceFile}-Objekten zugeordnet zu den Dateinamen,
 	 * unter dem auf die Ressource zugegriffen wird. */
-	private final HashMap<String, ResourceFile> files = new HashMap<>();
+	private final Map<String, ResourceFile> files;
 
 
 	/** Verwaltet die Ressourcen des Web-Clients */
@@ -34,8 +59,21 @@ public final class ResourceFileManager {
 	 *
 	 * @param path   der Pfad, aus welchem die Datei-Ressourcen hinzuzufügen sind.
 	 */
-	private ResourceFileManager(final String path) {
-    	addDirectory(path, new File(path));
+	ResourceFileManager(final String path) {
+		final List<File> dateien = new ArrayList<>();
+		addDirectory(new File(path), dateien);
+		// Lese die Dateien parallel ein, da hierbei auch die Hash-Werte und komprimierten Varianten bestimmt werden
+		this.files = dateien.parallelStream().map(f -> new ResourceFile(path, f))
+				.collect(Collectors.toUnmodifiableMap(ResourceFile::getPath, Function.identity()));
+		for (final ResourceFile file : files.values())
+			logger.logLn(LogLevel.INFO, "Datei-Ressource hinzugefügt: " + file.getPath());
+	}
+
+
+	private static Logger createLogger() {
+		final Logger logger = new Logger();
+		logger.addConsumer(new LogConsumerConsole(true, false));
+		return logger;
 	}
 
 	/**
@@ -71,14 +109,15 @@ public final class ResourceFileManager {
 
 
 	/**
-	 * Fügt alle Ressourcen in dem angegebenen Verzeichnis zu den Ressourcen hinzu. Dabei wird das
-	 * angegbene Präfix bei dem Pfadnamen der Dateien nicht für die Registierung als Resource
-	 * verwendet und aus dem Pfad für die Registrierung entfernt.
+	 * Fügt alle Dateien in dem angegebenen Verzeichnis und seinen Unterverzeichnissen zu der Liste
+	 * der Dateien für die Ressourcen hinzu. Vorkomprimierte Dateien mit der Endung ".br" oder ".gz"
+	 * werden nicht hinzugefügt, wenn die zugehörige unkomprimierte Datei vorhanden ist, da sie
+	 * als Variante dieser Datei ausgeliefert werden.
 	 *
-	 * @param prefix   das bei der Registrierung zu ignorierende Präfix des Dateipfades
-	 * @param dir      das Verzeichnis, in dem die hinzuzufügenden Datei-Ressourcen gesucht werden
+	 * @param dir       das Verzeichnis, in dem die hinzuzufügenden Dateien gesucht werden
+	 * @param dateien   die Liste, zu der die Dateien hinzugefügt werden
 	 */
-	private void addDirectory(final String prefix, final File dir) {
+	private static void addDirectory(final File dir, final List<File> dateien) {
 		if (!dir.isDirectory())
 			return;
 		final File[] dir_content = dir.listFiles();
@@ -86,25 +125,17 @@ public final class ResourceFileManager {
 			return;
 		for (final File f : dir_content) {
 			if (f.isFile()) {
-				final ResourceFile file = new ResourceFile(prefix, f);
-				// TODO log info
-				System.out.println("Adding File Resource: " + file.getPath());
-				files.put(file.getPath(), file);
+				final String name = f.getPath();
+				if ((name.endsWith(".br") || name.endsWith(".gz")) && new File(name.substring(0, name.length() - 3)).isFile())
+					continue;
+				dateien.add(f);
 			} else if (f.isDirectory()) {
-				addDirectory(prefix, f);
+				addDirectory(f, dateien);
 			}
 		}
 	}
 
 
-    /**
-     * Entfernt alle registrierten Datei-Ressourcen.
-     */
-	public void clearAll() {
-    	files.clear();
-	}
-
-
 	/**
 	 * Prüft zunächst, ob eine Datei-Ressource unter dem angegebenen Pfad registriert ist.
 	 * Ist dies der Fall, so wird das {@link HttpServletResponse}-Objekt mit den Daten der
@@ -133,22 +164,38 @@ public final class ResourceFileManager {
 
 
     /**
-     * Prüft zunächst, ob eine Datei-Ressource unter dem angegebenen Pfad registriert ist.
-     * Ist die nicht der Fall, so wird null zurückgegeben. Ansonsten werden
-     * die Daten der registrierten Datei-Ressource zurückgeben (siehe auch
-     * {@link ResourceFile#getData()}).
+     * Erstellt die HTTP-Response für die Datei-Ressource unter dem angegebenen Pfad. Dabei wird anhand
+     * des Accept-Encoding-Headers der Anfrage die komprimierte Variante der Ressource gewählt. Stimmt
+     * das ETag der Variante mit dem If-None-Match-Header überein, so wird nur {@link Status#NOT_MODIFIED}
+     * zurückgegeben. Ansonsten werden die Daten der Variante in den Ausgabe-Stream der Response
+     * geschrieben.
      *
-     * @param path   der Pfad der Datei-Ressource
+     * @param path      der Pfad der Datei-Ressource
+     * @param request   die HTTP-Anfrage
      *
-     * @return die Daten der Datei-Ressource oder null im Fehlerfall
-	 *
-	 * @throws ApiOperationException   im Fehlerfall
+     * @return die HTTP-Response
+     *
+     * @throws ApiOperationException   {@link Status#NOT_FOUND}, falls unter dem Pfad keine Datei-Ressource registriert ist
      */
-    public byte[] getData(final String path) throws ApiOperationException {
+    public Response getResponse(final String path, final HttpServletRequest request) throws ApiOperationException {
     	final ResourceFile res = files.get(path);
     	if (res == null)
-    		return new byte[0];
-    	return res.getData();
+    		throw new ApiOperationException(Status.NOT_FOUND);
+    	final ResourceFile.Variante variante = res.getVariante(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    	final ResponseBuilder builder;
+    	if (variante.passtZu(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+    		builder = Response.notModified();
+    	} else {
+    		final StreamingOutput output = variante::write;
+    		builder = Response.ok(output).header(HttpHeaders.CONTENT_LENGTH, variante.laenge());
+    		if (!ResourceFile.KODIERUNG_IDENTITY.equals(variante.kodierung()))
+    			builder.header(HttpHeaders.CONTENT_ENCODING, variante.kodierung());
+    	}
+    	builder.tag(new EntityTag(variante.etag()));
+    	builder.header(HttpHeaders.CACHE_CONTROL, res.istUnveraenderlich() ? CACHE_CONTROL_UNVERAENDERLICH : CACHE_CONTROL_PRUEFEN);
+    	if (res.hatKomprimierteVarianten())
+    		builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    	return builder.build();
     }
 
 }
@@ -18,7 +18,8 @@ public final class RestAppDav extends Application {
 		APIAdressbuch.class,
 		APIKalender.class,
 
-		OpenAPICorsFilter.class
+		OpenAPICorsFilter.class,
+		MetrikenFilter.class
 	);
 
 	@Override
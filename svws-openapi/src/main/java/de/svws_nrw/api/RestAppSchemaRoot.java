@@ -19,6 +19,7 @@ public final class RestAppSchemaRoot extends Application {
 	/// Enthält die API-Klassen für diese Applikation
     private final Set<Class<?>> classes = Set.of(
     	OpenAPICorsFilter.class,
+    	MetrikenFilter.class,
     	APISchemaPrivileged.class,
     	OpenApiSchemaRoot.class
     );
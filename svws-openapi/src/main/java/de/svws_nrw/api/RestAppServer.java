@@ -78,6 +78,7 @@ public final class RestAppServer extends Application {
 		APIOAuth.class,
 		APIReporting.class,
 		OpenAPICorsFilter.class,
+		MetrikenFilter.class,
 		OpenApiServer.class
 	);
 
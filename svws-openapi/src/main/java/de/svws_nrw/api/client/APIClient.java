@@ -1,9 +1,11 @@
 package de.svws_nrw.api.client;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
@@ -26,16 +28,14 @@ public class APIClient {
 	 * {@link ResourceFile} zur Verfügung.
 	 *
 	 * @param filename   der Name der zurückzugebenden Datei
+	 * @param request    die Informationen zur HTTP-Anfrage
 	 *
 	 * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
 	 *         nicht gefunden wurde
 	 */
-    private static Response getFile(final String filename) {
+    private static Response getFile(final String filename, final HttpServletRequest request) {
 		try {
-			final byte[] data = ResourceFileManager.client().getData(filename);
-	    	if ((data == null) || (data.length == 0))
-	    		throw new ApiOperationException(Status.NOT_FOUND);
-	        return Response.ok(data).build();
+			return ResourceFileManager.client().getResponse(filename, request);
 		} catch (final ApiOperationException e) {
 			return e.getResponse();
 		}
@@ -45,14 +45,16 @@ public class APIClient {
     /**
      * Gibt die "index.html"-Datei für das angegebene Schema zurück.
      *
+     * @param request   die Informationen zur HTTP-Anfrage
+     *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
      */
     @GET
     @Produces(MediaType.TEXT_HTML)
     @Path("/")
-    public Response getClientRoot() {
-    	return getFile("index.html");
+    public Response getClientRoot(@Context final HttpServletRequest request) {
+    	return getFile("index.html", request);
     }
 
 
@@ -60,6 +62,7 @@ public class APIClient {
      * Gibt eine html-Datei zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".html"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -67,8 +70,8 @@ public class APIClient {
     @GET
     @Produces(MediaType.TEXT_HTML)
     @Path("/{name}.html")
-    public Response getClientHTML(@PathParam("name") final String name) {
-    	return getFile(name + ".html");
+    public Response getClientHTML(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile(name + ".html", request);
     }
 
 
@@ -76,6 +79,7 @@ public class APIClient {
      * Gibt eine js-Datei zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".js"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -83,8 +87,8 @@ public class APIClient {
     @GET
     @Produces("text/javascript")
     @Path("/{name}.js")
-    public Response getClientfileJS(@PathParam("name") final String name) {
-    	return getFile(name + ".js");
+    public Response getClientfileJS(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile(name + ".js", request);
     }
 
 
@@ -92,6 +96,7 @@ public class APIClient {
      * Gibt eine js-Datei aus dem Ordner js zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".js"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -99,8 +104,8 @@ public class APIClient {
     @GET
     @Produces("text/javascript")
     @Path("/js/{name}.js")
-    public Response getClientFileJSSubdir(@PathParam("name") final String name) {
-    	return getFile("js/" + name + ".js");
+    public Response getClientFileJSSubdir(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("js/" + name + ".js", request);
     }
 
 
@@ -108,6 +113,7 @@ public class APIClient {
      * Gibt eine js-Datei aus dem Ordner assets zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".js"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -115,8 +121,8 @@ public class APIClient {
     @GET
     @Produces("text/javascript")
     @Path("/assets/{name}.js")
-    public Response getClientFileAssetsSubdir(@PathParam("name") final String name) {
-    	return getFile("assets/" + name + ".js");
+    public Response getClientFileAssetsSubdir(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("assets/" + name + ".js", request);
     }
 
 
@@ -124,6 +130,7 @@ public class APIClient {
      * Gibt eine js.map-Datei zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".js.map"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -131,8 +138,8 @@ public class APIClient {
     @GET
     @Produces(MediaType.TEXT_PLAIN)
     @Path("/{name}.js.map")
-    public Response getClientFileJSMAP(@PathParam("name") final String name) {
-    	return getFile(name + ".js.map");
+    public Response getClientFileJSMAP(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile(name + ".js.map", request);
     }
 
 
@@ -140,6 +147,7 @@ public class APIClient {
      * Gibt eine js.map-Datei aus dem Ordner js zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".js.map"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -147,8 +155,8 @@ public class APIClient {
     @GET
     @Produces(MediaType.TEXT_PLAIN)
     @Path("/js/{name}.js.map")
-    public Response getClientFileJSMAPSubdir(@PathParam("name") final String name) {
-    	return getFile("js/" + name + ".js.map");
+    public Response getClientFileJSMAPSubdir(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("js/" + name + ".js.map", request);
     }
 
 
@@ -156,6 +164,7 @@ public class APIClient {
      * Gibt eine js.map-Datei aus dem Ordner assets zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".js.map"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -163,8 +172,8 @@ public class APIClient {
     @GET
     @Produces(MediaType.TEXT_PLAIN)
     @Path("/assets/{name}.js.map")
-    public Response getClientFileAssetJSMAPSubdir(@PathParam("name") final String name) {
-    	return getFile("assets/" + name + ".js.map");
+    public Response getClientFileAssetJSMAPSubdir(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("assets/" + name + ".js.map", request);
     }
 
 
@@ -172,6 +181,7 @@ public class APIClient {
      * Gibt eine css-Datei zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".css"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -179,8 +189,8 @@ public class APIClient {
     @GET
     @Produces("text/css")
     @Path("/{name}.css")
-    public Response getClientFileCSS(@PathParam("name") final String name) {
-    	return getFile(name + ".css");
+    public Response getClientFileCSS(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile(name + ".css", request);
     }
 
 
@@ -188,6 +198,7 @@ public class APIClient {
      * Gibt eine css-Datei aus dem Ordner css zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".css"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -195,8 +206,8 @@ public class APIClient {
     @GET
     @Produces("text/css")
     @Path("/css/{name}.css")
-    public Response getClientFileCSSSubdir(@PathParam("name") final String name) {
-    	return getFile("css/" + name + ".css");
+    public Response getClientFileCSSSubdir(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("css/" + name + ".css", request);
     }
 
 
@@ -204,6 +215,7 @@ public class APIClient {
      * Gibt eine css-Datei aus dem Ordner assets zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".css"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -211,8 +223,8 @@ public class APIClient {
     @GET
     @Produces("text/css")
     @Path("/assets/{name}.css")
-    public Response getClientFileCSSAssetsSubdir(@PathParam("name") final String name) {
-    	return getFile("assets/" + name + ".css");
+    public Response getClientFileCSSAssetsSubdir(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("assets/" + name + ".css", request);
     }
 
 
@@ -220,6 +232,7 @@ public class APIClient {
      * Gibt eine css.map-Datei zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".css.map"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -227,8 +240,8 @@ public class APIClient {
     @GET
     @Produces(MediaType.TEXT_PLAIN)
     @Path("/{name}.css.map")
-    public Response getClientFileCSSMAP(@PathParam("name") final String name) {
-    	return getFile(name + ".css.map");
+    public Response getClientFileCSSMAP(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile(name + ".css.map", request);
     }
 
 
@@ -236,6 +249,7 @@ public class APIClient {
      * Gibt eine css.map-Datei aus dem Ordner css zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".css.map"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -243,8 +257,8 @@ public class APIClient {
     @GET
     @Produces(MediaType.TEXT_PLAIN)
     @Path("/css/{name}.css.map")
-    public Response getClientFileCSSMAPSubdir(@PathParam("name") final String name) {
-    	return getFile("css/" + name + ".css.map");
+    public Response getClientFileCSSMAPSubdir(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("css/" + name + ".css.map", request);
     }
 
 
@@ -252,6 +266,7 @@ public class APIClient {
      * Gibt eine css.map-Datei aus dem Ordner assets zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".css.map"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -259,8 +274,8 @@ public class APIClient {
     @GET
     @Produces(MediaType.TEXT_PLAIN)
     @Path("/assets/{name}.css.map")
-    public Response getClientFileAssetsCSSMAPSubdir(@PathParam("name") final String name) {
-    	return getFile("assets/" + name + ".css.map");
+    public Response getClientFileAssetsCSSMAPSubdir(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("assets/" + name + ".css.map", request);
     }
 
 
@@ -268,6 +283,7 @@ public class APIClient {
      * Gibt eine css-Datei aus dem Ordner fonts zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".css"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -275,8 +291,8 @@ public class APIClient {
     @GET
     @Produces("text/css")
     @Path("/fonts/{name}.css")
-    public Response getClientFileFontsCSS(@PathParam("name") final String name) {
-    	return getFile("fonts/" + name + ".css");
+    public Response getClientFileFontsCSS(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("fonts/" + name + ".css", request);
     }
 
 
@@ -284,6 +300,7 @@ public class APIClient {
      * Gibt eine woff2-Datei aus dem Ordner fonts zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".woff2"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -291,8 +308,8 @@ public class APIClient {
     @GET
     @Produces("font/woff2")
     @Path("/fonts/{name}.woff2")
-    public Response getClientFileFontsWoff2(@PathParam("name") final String name) {
-    	return getFile("fonts/" + name + ".woff2");
+    public Response getClientFileFontsWoff2(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("fonts/" + name + ".woff2", request);
     }
 
 
@@ -300,6 +317,7 @@ public class APIClient {
      * Gibt eine ico-Datei zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".ico"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -307,8 +325,8 @@ public class APIClient {
     @GET
     @Produces("image/x-icon")
     @Path("/{name}.ico")
-    public Response getClientFileICO(@PathParam("name") final String name) {
-    	return getFile(name + ".ico");
+    public Response getClientFileICO(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile(name + ".ico", request);
     }
 
 
@@ -316,6 +334,7 @@ public class APIClient {
      * Gibt eine ico-Datei zurück, welche im Ordner assets in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".ico"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -323,8 +342,8 @@ public class APIClient {
     @GET
     @Produces("image/x-icon")
     @Path("/assets/{name}.ico")
-    public Response getClientFileAssetsICO(@PathParam("name") final String name) {
-    	return getFile("assets/" + name + ".ico");
+    public Response getClientFileAssetsICO(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("assets/" + name + ".ico", request);
     }
 
 
@@ -332,6 +351,7 @@ public class APIClient {
      * Gibt eine png-Datei zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".png"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -339,8 +359,8 @@ public class APIClient {
     @GET
     @Produces("image/png")
     @Path("/{name}.png")
-    public Response getClientFilePNG(@PathParam("name") final String name) {
-    	return getFile(name + ".png");
+    public Response getClientFilePNG(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile(name + ".png", request);
     }
 
 
@@ -348,6 +368,7 @@ public class APIClient {
      * Gibt eine png-Datei aus dem Ordner "/img/icons" zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".png"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -355,8 +376,8 @@ public class APIClient {
     @GET
     @Produces("image/png")
     @Path("/img/icons/{name}.png")
-    public Response getClientFileImgIconsPNG(@PathParam("name") final String name) {
-    	return getFile("img/icons/" + name + ".png");
+    public Response getClientFileImgIconsPNG(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("img/icons/" + name + ".png", request);
     }
 
 
@@ -364,6 +385,7 @@ public class APIClient {
      * Gibt eine png-Datei aus dem Ordner "/assets" zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".png"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -371,8 +393,8 @@ public class APIClient {
     @GET
     @Produces("image/png")
     @Path("/assets/{name}.png")
-    public Response getClientFileAssetsPNG(@PathParam("name") final String name) {
-    	return getFile("assets/" + name + ".png");
+    public Response getClientFileAssetsPNG(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("assets/" + name + ".png", request);
     }
 
 
@@ -380,6 +402,7 @@ public class APIClient {
      * Gibt eine jpg-Datei aus dem Ordner "/assets" zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".jpg"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -387,8 +410,8 @@ public class APIClient {
     @GET
     @Produces("image/jpeg")
     @Path("/assets/{name}.jpg")
-    public Response getClientFileAssetsJPG(@PathParam("name") final String name) {
-    	return getFile("assets/" + name + ".jpg");
+    public Response getClientFileAssetsJPG(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("assets/" + name + ".jpg", request);
     }
 
 
@@ -396,6 +419,7 @@ public class APIClient {
      * Gibt eine svg-Datei zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".svg"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -403,8 +427,8 @@ public class APIClient {
     @GET
     @Produces("image/svg+xml")
     @Path("/{name}.svg")
-    public Response getClientFileSVG(@PathParam("name") final String name) {
-    	return getFile(name + ".svg");
+    public Response getClientFileSVG(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile(name + ".svg", request);
     }
 
 
@@ -412,6 +436,7 @@ public class APIClient {
      * Gibt eine svg-Datei aus dem Ordner "/assets" zurück, welche in den Ressourcen des SVWS-Clients vorhanden ist.
      *
      * @param name   der Name der Datei ohne ".svg"
+     * @param request   die Informationen zur HTTP-Anfrage
      *
      * @return die HTTP-Response mit der Datei oder {@link Status#NOT_FOUND}, falls die Datei
      *         nicht gefunden wurde
@@ -419,8 +444,8 @@ public class APIClient {
     @GET
     @Produces("image/svg+xml")
     @Path("/assets/{name}.svg")
-    public Response getClientFileAssetsSVG(@PathParam("name") final String name) {
-    	return getFile("assets/" + name + ".svg");
+    public Response getClientFileAssetsSVG(@PathParam("name") final String name, @Context final HttpServletRequest request) {
+    	return getFile("assets/" + name + ".svg", request);
     }
 
 }
@@ -6,6 +6,7 @@ import de.svws_nrw.config.SVWSKonfiguration;
 import de.svws_nrw.core.data.BenutzerKennwort;
 import de.svws_nrw.core.data.SimpleOperationResponse;
 import de.svws_nrw.core.data.benutzer.BenutzerListeEintrag;
+import de.svws_nrw.core.data.db.DBPoolStatistik;
 import de.svws_nrw.core.data.db.MigrateBody;
 import de.svws_nrw.core.data.db.SchemaListeEintrag;
 import de.svws_nrw.core.data.schema.DatenbankVerbindungsdaten;
@@ -26,6 +27,7 @@ import de.svws_nrw.data.schema.DataSQLite;
 import de.svws_nrw.data.schule.DataKatalogSchulen;
 import de.svws_nrw.data.schule.DataSchuleStammdaten;
 import de.svws_nrw.db.Benutzer;
+import de.svws_nrw.db.ConnectionManager;
 import de.svws_nrw.db.DBConfig;
 import de.svws_nrw.db.DBDriver;
 import de.svws_nrw.db.DBEntityManager;
@@ -39,6 +41,7 @@ import de.svws_nrw.db.utils.schema.DBMigrationManager;
 import de.svws_nrw.db.utils.schema.DBRootManager;
 import de.svws_nrw.db.utils.schema.DBSchemaManager;
 import de.svws_nrw.db.utils.schema.DBSchemaStatus;
+import de.svws_nrw.metriken.Metriken;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -68,6 +71,10 @@ import jakarta.ws.rs.core.Response.Status;
 @Tag(name = "SchemaPrivileged")
 public class APISchemaPrivileged {
 
+	/** Der Media-Type für das Text-Format von Prometheus */
+	private static final String PROMETHEUS_MEDIA_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+
 	/**
 	 * Erzeugt eine einfache Anwort mit der Angabe, ob die Operation erfolgreich war und
 	 * mit dem Log derOperation.
@@ -222,6 +229,54 @@ public class APISchemaPrivileged {
 
 
 
+	/**
+	 * Die OpenAPI-Methode für die Abfrage der Kennzahlen der Connection-Pools aller Verbindungs-Manager des SVWS-Servers.
+	 *
+	 * @param request       die Informationen zur HTTP-Anfrage
+	 *
+	 * @return              die Liste mit den Kennzahlen der Connection-Pools
+	 */
+	@GET
+	@Path("/api/schema/root/pool/statistik")
+	@Operation(summary = "Liefert die Kennzahlen der Connection-Pools des SVWS-Servers.",
+		description = "Liefert die Kennzahlen der Connection-Pools des SVWS-Servers, d.h. die Anzahl der genutzten, freien und wartenden "
+				+ "Datenbank-Zugriffe und Verbindungen sowie die Wartezeiten. Hierfür werden root-Rechte auf der Datenbank benötigt.")
+	@ApiResponse(responseCode = "200", description = "Die Liste mit den Kennzahlen der Connection-Pools",
+		content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = DBPoolStatistik.class))))
+	@ApiResponse(responseCode = "403", description = "Der angegebene Benutzer besitzt nicht die Rechte, um die Kennzahlen abzufragen. Hierfür werden root-Rechte benötigt")
+	public Response getPoolStatistik(@Context final HttpServletRequest request) {
+		return DBBenutzerUtils.runWithTransaction(conn -> ApiUtils.getResponse(ConnectionManager.getPoolStatistiken()),
+				request, ServerMode.STABLE,
+				BenutzerKompetenz.KEINE);
+	}
+
+
+
+	/**
+	 * Die OpenAPI-Methode für die Abfrage der Metriken des SVWS-Servers im Text-Format von Prometheus.
+	 *
+	 * @param request       die Informationen zur HTTP-Anfrage
+	 *
+	 * @return              die Metriken im Text-Format von Prometheus
+	 */
+	@GET
+	@Path("/api/schema/root/metriken")
+	@Produces(MediaType.TEXT_PLAIN)
+	@Operation(summary = "Liefert die Metriken des SVWS-Servers im Text-Format von Prometheus.",
+		description = "Liefert die Metriken des SVWS-Servers im Text-Format von Prometheus, d.h. die Dauer, die Anzahl der SQL-Anweisungen "
+				+ "und die Datenbank-Zeit der Anfragen je Methode der API, die Kennzahlen der Connection-Pools, die Treffer und "
+				+ "Fehlschläge des Katalog-Caches je Tabelle und die Laufzeiten der Algorithmen. Hierfür werden root-Rechte auf der Datenbank benötigt.")
+	@ApiResponse(responseCode = "200", description = "Die Metriken im Text-Format von Prometheus",
+		content = @Content(mediaType = MediaType.TEXT_PLAIN, schema = @Schema(implementation = String.class)))
+	@ApiResponse(responseCode = "403", description = "Der angegebene Benutzer besitzt nicht die Rechte, um die Metriken abzufragen. Hierfür werden root-Rechte benötigt")
+	public Response getMetriken(@Context final HttpServletRequest request) {
+		return DBBenutzerUtils.runWithTransaction(conn -> Response.ok(Metriken.getPrometheusText()).type(PROMETHEUS_MEDIA_TYPE).build(),
+				request, ServerMode.STABLE,
+				BenutzerKompetenz.KEINE);
+	}
+
+
+
 	/**
 	 * Die OpenAPI-Methode für die Abfrage ob ein Datenbankuser mit bestimmtem Namen bereits existiert.
 	 *
@@ -23,6 +23,7 @@ import de.svws_nrw.data.benutzer.DataBenutzerkompetenzGruppenliste;
 import de.svws_nrw.data.benutzer.DataBenutzerkompetenzliste;
 import de.svws_nrw.data.benutzer.DataBenutzerliste;
 import de.svws_nrw.db.Benutzer;
+import de.svws_nrw.db.BenutzerCache;
 import de.svws_nrw.db.utils.ApiOperationException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -57,6 +58,21 @@ import jakarta.ws.rs.core.Response.Status;
 @Tag(name = "Server")
 public class APIBenutzer {
 
+    /**
+     * Verwirft nach einer Änderung an Benutzern, Kennwörtern, Gruppen oder Kompetenzen die zwischengespeicherten
+     * Anmeldungen des Schemas. Dies erfolgt erst nach Abschluss der Transaktion, damit keine parallele Anmeldung
+     * den alten Stand erneut zwischenspeichert.
+     *
+     * @param schema     das Datenbankschema
+     * @param response   die HTTP-Antwort der Änderung
+     *
+     * @return die übergebene HTTP-Antwort
+     */
+    private static Response invalidiereAnmeldungen(final String schema, final Response response) {
+    	BenutzerCache.get().invalidate(schema);
+    	return response;
+    }
+
     /**
      * Die OpenAPI-Methode für die Abfrage der Liste aller im System vorhandenen
      * Benutzer.
@@ -251,8 +267,8 @@ public class APIBenutzer {
     public Response setBenutzername(@PathParam("schema") final String schema, @PathParam("id") final long id,
             @RequestBody(description = "Der Anmeldename", required = true, content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = String.class))) final InputStream is,
             @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransactionAllowSelf(conn -> new DataBenutzerDaten(conn).setBenutzername(id, JSONMapper.toString(is)),
-        	request, ServerMode.STABLE, id, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransactionAllowSelf(conn -> new DataBenutzerDaten(conn).setBenutzername(id, JSONMapper.toString(is)),
+        	request, ServerMode.STABLE, id, BenutzerKompetenz.ADMIN));
     }
 
     /**
@@ -278,8 +294,8 @@ public class APIBenutzer {
             @PathParam("schema") final String schema, @PathParam("id") final long id,
             @RequestBody(description = "Das Kennwort", required = true, content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = String.class))) final InputStream is,
             @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransactionAllowSelf(conn -> new DataBenutzerDaten(conn).setPassword(id, JSONMapper.toString(is)),
-        	request, ServerMode.STABLE, id, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransactionAllowSelf(conn -> new DataBenutzerDaten(conn).setPassword(id, JSONMapper.toString(is)),
+        	request, ServerMode.STABLE, id, BenutzerKompetenz.ADMIN));
     }
 
     /**
@@ -305,8 +321,8 @@ public class APIBenutzer {
     public Response addBenutzerAdmin(
             @PathParam("schema") final String schema, @PathParam("id") final long id,
             @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzerDaten(conn).addAdmin(id),
-        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzerDaten(conn).addAdmin(id),
+        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN));
     }
 
     /**
@@ -329,8 +345,8 @@ public class APIBenutzer {
     @ApiResponse(responseCode = "409", description = "Die übergebenen Daten sind fehlerhaft")
     @ApiResponse(responseCode = "500", description = "Unspezifizierter Fehler (z.B. beim Datenbankzugriff)")
     public Response removeBenutzerAdmin(@PathParam("schema") final String schema, @PathParam("id") final long id, @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzerDaten(conn).removeAdmin(id),
-        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzerDaten(conn).removeAdmin(id),
+        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN));
     }
 
     /**
@@ -356,8 +372,8 @@ public class APIBenutzer {
             @PathParam("schema") final String schema, @PathParam("id") final long id,
             @RequestBody(description = "Die Kompetenzen", required = true, content = @Content(mediaType = MediaType.APPLICATION_JSON, array = @ArraySchema(schema = @Schema(implementation = Long.class)))) final List<Long> kids,
             @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransactionAllowSelf(conn -> new DataBenutzerDaten(conn).addKompetenzen(id, kids),
-        	request, ServerMode.STABLE, id, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransactionAllowSelf(conn -> new DataBenutzerDaten(conn).addKompetenzen(id, kids),
+        	request, ServerMode.STABLE, id, BenutzerKompetenz.ADMIN));
     }
 
 
@@ -385,8 +401,8 @@ public class APIBenutzer {
             @PathParam("schema") final String schema, @PathParam("id") final long id,
             @RequestBody(description = "Die Kompetenzen", required = true, content = @Content(mediaType = MediaType.APPLICATION_JSON, array = @ArraySchema(schema = @Schema(implementation = Long.class)))) final List<Long> kids,
             @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransactionAllowSelf(conn -> new DataBenutzerDaten(conn).removeKompetenzen(id, kids),
-        	request, ServerMode.STABLE, id, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransactionAllowSelf(conn -> new DataBenutzerDaten(conn).removeKompetenzen(id, kids),
+        	request, ServerMode.STABLE, id, BenutzerKompetenz.ADMIN));
     }
 
 
@@ -486,8 +502,8 @@ public class APIBenutzer {
     @ApiResponse(responseCode = "409", description = "Die übergebenen Daten sind fehlerhaft")
     @ApiResponse(responseCode = "500", description = "Unspezifizierter Fehler (z.B. beim Datenbankzugriff)")
     public Response addBenutzergruppeAdmin(@PathParam("schema") final String schema, @PathParam("id") final long id, @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).addAdmin(id),
-        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).addAdmin(id),
+        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN));
     }
 
 
@@ -511,8 +527,8 @@ public class APIBenutzer {
     @ApiResponse(responseCode = "409", description = "Die übergebenen Daten sind fehlerhaft")
     @ApiResponse(responseCode = "500", description = "Unspezifizierter Fehler (z.B. beim Datenbankzugriff)")
     public Response removeBenutzergruppeAdmin(@PathParam("schema") final String schema, @PathParam("id") final long id, @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).removeAdmin(id),
-        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).removeAdmin(id),
+        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN));
     }
 
     /**
@@ -537,8 +553,8 @@ public class APIBenutzer {
     public Response addBenutzergruppeKompetenzen(@PathParam("schema") final String schema, @PathParam("id") final long id,
             @RequestBody(description = "Die Kompetenzen", required = true, content = @Content(mediaType = MediaType.APPLICATION_JSON, array = @ArraySchema(schema = @Schema(implementation = Long.class)))) final List<Long> kids,
             @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).addKompetenzen(id, kids),
-        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).addKompetenzen(id, kids),
+        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN));
     }
 
     /**
@@ -563,8 +579,8 @@ public class APIBenutzer {
     public Response removeBenutzergruppeKompetenzen(@PathParam("schema") final String schema, @PathParam("id") final long id,
             @RequestBody(description = "Die Kompetenzen", required = true, content = @Content(mediaType = MediaType.APPLICATION_JSON, array = @ArraySchema(schema = @Schema(implementation = Long.class)))) final List<Long> kids,
             @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).removeKompetenzen(id, kids),
-        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).removeKompetenzen(id, kids),
+        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN));
     }
 
     /**
@@ -591,8 +607,8 @@ public class APIBenutzer {
             @PathParam("schema") final String schema, @PathParam("id") final long id,
             @RequestBody(description = "Die Benutzer", required = true, content = @Content(mediaType = MediaType.APPLICATION_JSON, array = @ArraySchema(schema = @Schema(implementation = Long.class)))) final List<Long> bids,
             @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).addBenutzer(id, bids),
-    		request, ServerMode.STABLE, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).addBenutzer(id, bids),
+    		request, ServerMode.STABLE, BenutzerKompetenz.ADMIN));
     }
 
     /**
@@ -619,8 +635,8 @@ public class APIBenutzer {
             @PathParam("schema") final String schema, @PathParam("id") final long id,
             @RequestBody(description = "Die Benutzer", required = true, content = @Content(mediaType = MediaType.APPLICATION_JSON, array = @ArraySchema(schema = @Schema(implementation = Long.class)))) final List<Long> bids,
             @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).removeBenutzer(id, bids),
-        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).removeBenutzer(id, bids),
+        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN));
     }
 
     // TODO Methode setBenutzergruppeKompetenz aufteilen (siehe bei Benutzer) in zwei API-Methoden: addBenutzergruppeKompetenz (POST) und removeBenutzergruppeKompetenz (DELETE)
@@ -676,8 +692,8 @@ public class APIBenutzer {
             @PathParam("schema") final String schema,
             @RequestBody(description = "Die IDs der Benutzer", required = true, content = @Content(mediaType = MediaType.APPLICATION_JSON, array = @ArraySchema(schema = @Schema(implementation = Long.class)))) final List<Long> bids,
             @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzerDaten(conn).removeBenutzerMenge(bids),
-        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzerDaten(conn).removeBenutzerMenge(bids),
+        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN));
     }
 
     /**
@@ -729,8 +745,8 @@ public class APIBenutzer {
     public Response removeBenutzerGruppe(@PathParam("schema") final String schema,
             @RequestBody(description = "Die IDs der Benutzergruppen", required = true, content = @Content(mediaType = MediaType.APPLICATION_JSON, array = @ArraySchema(schema = @Schema(implementation = Long.class)))) final List<Long> bgids,
             @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).remove(bgids),
-        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN);
+    	return invalidiereAnmeldungen(schema, DBBenutzerUtils.runWithTransaction(conn -> new DataBenutzergruppeDaten(conn).remove(bgids),
+        	request, ServerMode.STABLE, BenutzerKompetenz.ADMIN));
     }
 
 
@@ -8,6 +8,7 @@ import de.svws_nrw.core.data.gost.GostBlockungListeneintrag;
 import de.svws_nrw.core.data.gost.GostBlockungRegel;
 import de.svws_nrw.core.data.gost.GostBlockungRegelUpdate;
 import de.svws_nrw.core.data.gost.GostBlockungSchiene;
+import de.svws_nrw.core.data.gost.GostBlockungsberechnung;
 import de.svws_nrw.core.data.gost.GostBlockungsdaten;
 import de.svws_nrw.core.data.gost.GostBlockungsergebnis;
 import de.svws_nrw.core.data.gost.GostBlockungsergebnisKursSchienenZuordnung;
@@ -24,6 +25,7 @@ import de.svws_nrw.data.gost.DataGostBlockungSchiene;
 import de.svws_nrw.data.gost.DataGostBlockungsdaten;
 import de.svws_nrw.data.gost.DataGostBlockungsergebnisse;
 import de.svws_nrw.data.gost.DataGostBlockungsliste;
+import de.svws_nrw.data.gost.GostBlockungsberechnungManager;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -232,6 +234,7 @@ public class APIGostKursplanung {
     @ApiResponse(responseCode = "200", description = "Eine Liste der IDs der Zwischenergebnisse",
                  content = @Content(mediaType = "application/json",
                 		 array = @ArraySchema(schema = @Schema(implementation = Long.class))))
+    @ApiResponse(responseCode = "400", description = "Die angegebene Zeit überschreitet die maximal zulässige Zeit für eine Berechnung.")
     @ApiResponse(responseCode = "403", description = "Der SVWS-Benutzer hat keine Rechte, um die Blockungsdaten der Gymnasialen Oberstufe auf dem Server zu rechnen.")
     @ApiResponse(responseCode = "404", description = "Keine Blockung mit der angegebenen ID gefunden.")
     @ApiResponse(responseCode = "500", description = "Ein unerwarteter Fehler ist beim Blocken aufgetreten.", content = @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class)))
@@ -243,6 +246,99 @@ public class APIGostKursplanung {
     }
 
 
+    /**
+     * Die OpenAPI-Methode für das Starten einer Berechnung einer Blockung mit den in der DB gespeicherten
+     * Blockungsdaten im Hintergrund. Die Methode kehrt sofort zurück. Der Fortschritt kann über
+     * {@link #getGostBlockungsberechnung(String, long, HttpServletRequest)} abgefragt werden. Die
+     * Zwischenergebnisse werden nach dem Ende der Berechnung in der Datenbank gespeichert.
+     *
+     * @param schema     das Datenbankschema, auf welches die Abfrage ausgeführt werden soll
+     * @param id         die ID der Blockung
+     * @param zeit       die Zeit in ms, welche der Blockungsalgorithmus maximal zum Rechnen verwenden soll.
+     * @param request    die Informationen zur HTTP-Anfrage
+     *
+     * @return die HTTP-Antwort mit dem Zustand der gestarteten Berechnung
+     */
+    @POST
+    @Path("/blockungen/{blockungsid : \\d+}/rechne/{zeit : \\d+}/async")
+    @Operation(summary = "Startet für die angegebene Blockung der gymnasialen Oberstufe eine Berechnung im Hintergrund.",
+               description = "Startet für die angegebene Blockung der gymnasialen Oberstufe eine Berechnung im Hintergrund, welche "
+    		    + "parallel auf allen verfügbaren Prozessorkernen des Servers läuft. Die Zwischenergebnisse werden nach dem Ende "
+    		    + "der Berechnung in der DB gespeichert. Dabei wird geprüft, ob der SVWS-Benutzer die notwendige Berechtigung zum "
+    		    + "Rechnen einer Blockung besitzt.")
+    @ApiResponse(responseCode = "200", description = "Der Zustand der gestarteten Berechnung",
+                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = GostBlockungsberechnung.class)))
+    @ApiResponse(responseCode = "400", description = "Die angegebene Zeit überschreitet die maximal zulässige Zeit für eine Berechnung.")
+    @ApiResponse(responseCode = "403", description = "Der SVWS-Benutzer hat keine Rechte, um die Blockungsdaten der Gymnasialen Oberstufe auf dem Server zu rechnen.")
+    @ApiResponse(responseCode = "404", description = "Keine Blockung mit der angegebenen ID gefunden.")
+    @ApiResponse(responseCode = "429", description = "Es laufen bereits zu viele Berechnungen auf dem Server.")
+    @ApiResponse(responseCode = "500", description = "Ein unerwarteter Fehler ist beim Starten der Berechnung aufgetreten.")
+    @ApiResponse(responseCode = "503", description = "Die Berechnung konnte auf dem Server nicht gestartet werden.")
+    public Response starteGostBlockungsberechnung(@PathParam("schema") final String schema, @PathParam("blockungsid") final long id, @PathParam("zeit") final long zeit, @Context final HttpServletRequest request) {
+    	return DBBenutzerUtils.runWithTransaction(conn -> GostBlockungsberechnungManager.starte(conn, id, zeit),
+        		request, ServerMode.STABLE,
+        		BenutzerKompetenz.OBERSTUFE_KURSPLANUNG_ALLGEMEIN,
+    			BenutzerKompetenz.OBERSTUFE_KURSPLANUNG_FUNKTIONSBEZOGEN);
+    }
+
+
+    /**
+     * Die OpenAPI-Methode für die Abfrage des Zustandes einer im Hintergrund laufenden Berechnung einer Blockung.
+     *
+     * @param schema     das Datenbankschema, auf welches die Abfrage ausgeführt werden soll
+     * @param id         die ID der Berechnung
+     * @param request    die Informationen zur HTTP-Anfrage
+     *
+     * @return die HTTP-Antwort mit dem Zustand der Berechnung
+     */
+    @GET
+    @Path("/blockungen/berechnungen/{berechnungsid : \\d+}")
+    @Operation(summary = "Gibt den Zustand der Berechnung einer Blockung der gymnasialen Oberstufe zurück.",
+               description = "Gibt den Zustand der Berechnung einer Blockung der gymnasialen Oberstufe zurück. Nach dem Ende der "
+    		    + "Berechnung sind dort auch die IDs der gespeicherten Zwischenergebnisse enthalten. Dabei wird geprüft, ob der "
+    		    + "SVWS-Benutzer die notwendige Berechtigung zum Rechnen einer Blockung besitzt.")
+    @ApiResponse(responseCode = "200", description = "Der Zustand der Berechnung",
+                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = GostBlockungsberechnung.class)))
+    @ApiResponse(responseCode = "403", description = "Der SVWS-Benutzer hat keine Rechte, um die Blockungsdaten der Gymnasialen Oberstufe auf dem Server zu rechnen, "
+    		    + "oder die Berechnung wurde von einem anderen Benutzer gestartet.")
+    @ApiResponse(responseCode = "404", description = "Keine Berechnung mit der angegebenen ID gefunden.")
+    public Response getGostBlockungsberechnung(@PathParam("schema") final String schema, @PathParam("berechnungsid") final long id, @Context final HttpServletRequest request) {
+    	return DBBenutzerUtils.runWithoutTransaction(conn -> GostBlockungsberechnungManager.getStatus(conn, id),
+        		request, ServerMode.STABLE,
+        		BenutzerKompetenz.OBERSTUFE_KURSPLANUNG_ALLGEMEIN,
+    			BenutzerKompetenz.OBERSTUFE_KURSPLANUNG_FUNKTIONSBEZOGEN);
+    }
+
+
+    /**
+     * Die OpenAPI-Methode für das Abbrechen einer im Hintergrund laufenden Berechnung einer Blockung.
+     * Die bis zum Abbruch gefundenen Zwischenergebnisse werden noch in der Datenbank gespeichert.
+     *
+     * @param schema     das Datenbankschema, auf welches die Abfrage ausgeführt werden soll
+     * @param id         die ID der Berechnung
+     * @param request    die Informationen zur HTTP-Anfrage
+     *
+     * @return die HTTP-Antwort mit dem Zustand der Berechnung
+     */
+    @DELETE
+    @Path("/blockungen/berechnungen/{berechnungsid : \\d+}")
+    @Operation(summary = "Bricht die Berechnung einer Blockung der gymnasialen Oberstufe ab.",
+               description = "Bricht die Berechnung einer Blockung der gymnasialen Oberstufe ab. Die bis dahin gefundenen "
+    		    + "Zwischenergebnisse werden noch in der DB gespeichert. Dabei wird geprüft, ob der SVWS-Benutzer die notwendige "
+    		    + "Berechtigung zum Rechnen einer Blockung besitzt.")
+    @ApiResponse(responseCode = "200", description = "Der Zustand der Berechnung nach dem Abbruch",
+                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = GostBlockungsberechnung.class)))
+    @ApiResponse(responseCode = "403", description = "Der SVWS-Benutzer hat keine Rechte, um die Blockungsdaten der Gymnasialen Oberstufe auf dem Server zu rechnen, "
+    		    + "oder die Berechnung wurde von einem anderen Benutzer gestartet.")
+    @ApiResponse(responseCode = "404", description = "Keine Berechnung mit der angegebenen ID gefunden.")
+    public Response abbrechenGostBlockungsberechnung(@PathParam("schema") final String schema, @PathParam("berechnungsid") final long id, @Context final HttpServletRequest request) {
+    	return DBBenutzerUtils.runWithoutTransaction(conn -> GostBlockungsberechnungManager.abbrechen(conn, id),
+        		request, ServerMode.STABLE,
+        		BenutzerKompetenz.OBERSTUFE_KURSPLANUNG_ALLGEMEIN,
+    			BenutzerKompetenz.OBERSTUFE_KURSPLANUNG_FUNKTIONSBEZOGEN);
+    }
+
+
     /**
      * Die OpenAPI-Methode für das Anpassen der Blockungsdaten der gymnasialen Oberstufe.
      *
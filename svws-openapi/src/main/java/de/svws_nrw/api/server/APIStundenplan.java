@@ -135,8 +135,8 @@ public class APIStundenplan {
     @ApiResponse(responseCode = "403", description = "Der SVWS-Benutzer hat keine Rechte, um die Stundenplandaten anzusehen.")
     @ApiResponse(responseCode = "404", description = "Keine Stundenplandaten gefunden")
     public Response getStundenplan(@PathParam("schema") final String schema, @PathParam("id") final long id, @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataStundenplan(conn).get(id),
-    		request, ServerMode.STABLE, BenutzerKompetenz.STUNDENPLAN_ALLGEMEIN_ANSEHEN);
+    	return DBBenutzerUtils.runWithTransactionAndETag(conn -> new DataStundenplan(conn).get(id),
+    		request, ServerMode.STABLE, DataStundenplan.dtoKlassenStundenplan, BenutzerKompetenz.STUNDENPLAN_ALLGEMEIN_ANSEHEN);
     }
 
 
@@ -1121,8 +1121,8 @@ public class APIStundenplan {
     @ApiResponse(responseCode = "403", description = "Der SVWS-Benutzer hat keine Rechte, um die Stundenplandaten anzusehen.")
     @ApiResponse(responseCode = "404", description = "Keine Stundenplandaten gefunden")
     public Response getStundenplanPausenaufsichten(@PathParam("schema") final String schema, @PathParam("id") final long id, @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataStundenplanPausenaufsichten(conn, id).getList(),
-    		request, ServerMode.STABLE, BenutzerKompetenz.STUNDENPLAN_ALLGEMEIN_ANSEHEN);
+    	return DBBenutzerUtils.runWithTransactionAndETag(conn -> new DataStundenplanPausenaufsichten(conn, id).getList(),
+    		request, ServerMode.STABLE, DataStundenplanPausenaufsichten.dtoKlassenPausenaufsichten, BenutzerKompetenz.STUNDENPLAN_ALLGEMEIN_ANSEHEN);
     }
 
 
@@ -1321,8 +1321,8 @@ public class APIStundenplan {
     @ApiResponse(responseCode = "403", description = "Der SVWS-Benutzer hat keine Rechte, um die Stundenplandaten anzusehen.")
     @ApiResponse(responseCode = "404", description = "Keine Stundenplandaten gefunden")
     public Response getStundenplanUnterrichte(@PathParam("schema") final String schema, @PathParam("id") final long id, @Context final HttpServletRequest request) {
-    	return DBBenutzerUtils.runWithTransaction(conn -> new DataStundenplanUnterricht(conn, id).getList(),
-    		request, ServerMode.STABLE, BenutzerKompetenz.STUNDENPLAN_ALLGEMEIN_ANSEHEN);
+    	return DBBenutzerUtils.runWithTransactionAndETag(conn -> new DataStundenplanUnterricht(conn, id).getList(),
+    		request, ServerMode.STABLE, DataStundenplanUnterricht.dtoKlassenUnterrichte, BenutzerKompetenz.STUNDENPLAN_ALLGEMEIN_ANSEHEN);
     }
 
 
@@ -0,0 +1,225 @@
+package de.svws_nrw.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.svws_nrw.db.utils.ApiOperationException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.StreamingOutput;
+
+/**
+ * Diese Klasse testet die Auswahl der komprimierten Varianten von Datei-Ressourcen und die HTTP-Responses
+ * des {@link ResourceFileManager} mit ETags und Cache-Control-Headern anhand von Dateien in einem
+ * temporären Verzeichnis.
+ */
+class TestResourceFileManager {
+
+	/** Der Pfad einer Ressource mit einem Hash-Wert im Dateinamen und einer erzeugten gzip-Variante */
+	private static final String PFAD_ASSET = "assets/index-1a2b3c4D.js";
+
+	/** Der Pfad einer Ressource mit einer vorkomprimierten Brotli-Variante */
+	private static final String PFAD_HTML = "index.html";
+
+	/** Der Pfad einer Ressource, welche nicht komprimiert wird */
+	private static final String PFAD_BILD = "bild.png";
+
+	/** Die Daten der vorkomprimierten Brotli-Variante, welche vom Manager nicht interpretiert werden */
+	private static final byte[] DATEN_BROTLI = { 1, 2, 3 };
+
+	@TempDir
+	static Path verzeichnis;
+
+	private static byte[] datenAsset;
+
+	private static ResourceFileManager manager;
+
+
+	/**
+	 * Legt die Dateien für die Ressourcen an und erstellt den Manager für das Verzeichnis.
+	 *
+	 * @throws IOException   falls die Dateien nicht geschrieben werden können
+	 */
+	@BeforeAll
+	static void setup() throws IOException {
+		datenAsset = "export const wert = 'Ein gut komprimierbarer Inhalt';\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+		Files.createDirectories(verzeichnis.resolve("assets"));
+		Files.write(verzeichnis.resolve(PFAD_ASSET), datenAsset);
+		Files.writeString(verzeichnis.resolve(PFAD_HTML), "<html><body>" + "<p>Test</p>".repeat(100) + "</body></html>");
+		Files.write(verzeichnis.resolve(PFAD_HTML + ".br"), DATEN_BROTLI);
+		Files.write(verzeichnis.resolve(PFAD_BILD), new byte[] { 0, 1, 2, 3, 4, 5, 6, 7 });
+		manager = new ResourceFileManager(verzeichnis.toString());
+	}
+
+
+	/**
+	 * Erstellt eine HTTP-Anfrage, welche nur die übergebenen Header liefert.
+	 *
+	 * @param acceptEncoding   der Wert des Accept-Encoding-Headers oder null
+	 * @param ifNoneMatch      der Wert des If-None-Match-Headers oder null
+	 *
+	 * @return die HTTP-Anfrage
+	 */
+	private static HttpServletRequest anfrage(final String acceptEncoding, final String ifNoneMatch) {
+		final Map<String, String> header = new HashMap<>();
+		header.put(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+		header.put(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		return (HttpServletRequest) Proxy.newProxyInstance(TestResourceFileManager.class.getClassLoader(), new Class<?>[] { HttpServletRequest.class },
+				(proxy, method, args) -> "getHeader".equals(method.getName()) ? header.get(args[0]) : null);
+	}
+
+
+	/**
+	 * Schreibt die Daten einer Response mit dem Status {@link Status#OK} in ein Byte-Array.
+	 *
+	 * @param response   die Response
+	 *
+	 * @return die Daten der Response
+	 *
+	 * @throws IOException   falls beim Schreiben ein Fehler auftritt
+	 */
+	private static byte[] daten(final Response response) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		((StreamingOutput) response.getEntity()).write(out);
+		return out.toByteArray();
+	}
+
+
+	/**
+	 * Prüft die Auswertung des Accept-Encoding-Headers mit Gewichten und Wildcards.
+	 */
+	@Test
+	@DisplayName("Prüfe die Auswertung des Accept-Encoding-Headers")
+	void testIstAkzeptiert() {
+		assertTrue(ResourceFile.istAkzeptiert("gzip, deflate, br", "br"));
+		assertTrue(ResourceFile.istAkzeptiert("GZIP", "gzip"));
+		assertTrue(ResourceFile.istAkzeptiert("gzip;q=0.5", "gzip"));
+		assertFalse(ResourceFile.istAkzeptiert("gzip;q=0", "gzip"));
+		assertFalse(ResourceFile.istAkzeptiert("gzip;q=x", "gzip"));
+		assertFalse(ResourceFile.istAkzeptiert("deflate", "gzip"));
+		assertTrue(ResourceFile.istAkzeptiert("*", "br"));
+		assertFalse(ResourceFile.istAkzeptiert("br;q=0, *", "br"));
+		assertFalse(ResourceFile.istAkzeptiert("*;q=0", "gzip"));
+	}
+
+
+	/**
+	 * Prüft, dass Brotli gzip vorgezogen wird, nur akzeptierte Kodierungen gewählt werden und nicht
+	 * komprimierbare oder vorkomprimierte Dateien nicht als eigene Ressourcen registriert werden.
+	 */
+	@Test
+	@DisplayName("Prüfe die Auswahl der komprimierten Varianten")
+	void testVarianten() {
+		final ResourceFile html = new ResourceFile(verzeichnis.toString(), verzeichnis.resolve(PFAD_HTML).toFile());
+		assertEquals(PFAD_HTML, html.getPath());
+		assertTrue(html.hatKomprimierteVarianten());
+		assertFalse(html.istUnveraenderlich());
+		final ResourceFile.Variante br = html.getVariante("gzip, deflate, br");
+		assertEquals(ResourceFile.KODIERUNG_BROTLI, br.kodierung());
+		assertEquals(DATEN_BROTLI.length, br.laenge());
+		assertEquals(ResourceFile.KODIERUNG_GZIP, html.getVariante("gzip, br;q=0").kodierung());
+		assertEquals(ResourceFile.KODIERUNG_BROTLI, html.getVariante("*").kodierung());
+		final ResourceFile.Variante identity = html.getVariante(null);
+		assertEquals(ResourceFile.KODIERUNG_IDENTITY, identity.kodierung());
+		assertEquals(identity, html.getVariante("deflate"));
+		assertNotEquals(identity.etag(), br.etag());
+		assertTrue(br.etag().startsWith(identity.etag()));
+
+		final ResourceFile asset = new ResourceFile(verzeichnis.toString(), verzeichnis.resolve(PFAD_ASSET).toFile());
+		assertTrue(asset.istUnveraenderlich());
+		assertEquals(ResourceFile.KODIERUNG_GZIP, asset.getVariante("gzip, br").kodierung());
+
+		final ResourceFile bild = new ResourceFile(verzeichnis.toString(), verzeichnis.resolve(PFAD_BILD).toFile());
+		assertFalse(bild.hatKomprimierteVarianten());
+		assertEquals(ResourceFile.KODIERUNG_IDENTITY, bild.getVariante("gzip, br").kodierung());
+
+		// Die vorkomprimierte Datei ist nur eine Variante und wird nicht als eigene Ressource registriert
+		assertThrows(ApiOperationException.class, () -> manager.getResponse(PFAD_HTML + ".br", anfrage(null, null)));
+	}
+
+
+	/**
+	 * Prüft die Header einer Response mit einer komprimierten Variante und die in den Ausgabe-Stream
+	 * geschriebenen Daten.
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 * @throws IOException             falls beim Schreiben oder Dekomprimieren ein Fehler auftritt
+	 */
+	@Test
+	@DisplayName("Prüfe die Response mit einer komprimierten Variante")
+	void testGetResponse() throws ApiOperationException, IOException {
+		final Response response = manager.getResponse(PFAD_ASSET, anfrage("gzip, br", null));
+		assertEquals(Status.OK.getStatusCode(), response.getStatus());
+		assertEquals(ResourceFile.KODIERUNG_GZIP, response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+		assertEquals("public, max-age=31536000, immutable", response.getHeaderString(HttpHeaders.CACHE_CONTROL));
+		assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaderString(HttpHeaders.VARY));
+		final byte[] gzip = daten(response);
+		assertEquals(String.valueOf(gzip.length), response.getHeaderString(HttpHeaders.CONTENT_LENGTH));
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+			assertArrayEquals(datenAsset, in.readAllBytes());
+		}
+
+		final Response unkomprimiert = manager.getResponse(PFAD_ASSET, anfrage(null, null));
+		assertNull(unkomprimiert.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+		assertArrayEquals(datenAsset, daten(unkomprimiert));
+		assertNotEquals(response.getEntityTag(), unkomprimiert.getEntityTag());
+
+		final Response bild = manager.getResponse(PFAD_BILD, anfrage("gzip", null));
+		assertNull(bild.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+		assertNull(bild.getHeaderString(HttpHeaders.VARY));
+		assertEquals("no-cache", bild.getHeaderString(HttpHeaders.CACHE_CONTROL));
+
+		final ApiOperationException e = assertThrows(ApiOperationException.class, () -> manager.getResponse("unbekannt.js", anfrage(null, null)));
+		assertEquals(Status.NOT_FOUND, e.getStatus());
+	}
+
+
+	/**
+	 * Prüft, dass bei einem passenden ETag im If-None-Match-Header nur {@link Status#NOT_MODIFIED} ohne Daten
+	 * zurückgegeben wird, das ETag einer anderen Variante jedoch nicht passt.
+	 *
+	 * @throws ApiOperationException   im Fehlerfall
+	 */
+	@Test
+	@DisplayName("Prüfe die Auswertung des If-None-Match-Headers")
+	void testNotModified() throws ApiOperationException {
+		final Response response = manager.getResponse(PFAD_HTML, anfrage("br", null));
+		assertEquals(Status.OK.getStatusCode(), response.getStatus());
+		final String etag = "\"" + response.getEntityTag().getValue() + "\"";
+
+		final Response nichtVeraendert = manager.getResponse(PFAD_HTML, anfrage("br", etag));
+		assertEquals(Status.NOT_MODIFIED.getStatusCode(), nichtVeraendert.getStatus());
+		assertNull(nichtVeraendert.getEntity());
+		assertEquals(response.getEntityTag(), nichtVeraendert.getEntityTag());
+		assertEquals("no-cache", nichtVeraendert.getHeaderString(HttpHeaders.CACHE_CONTROL));
+		assertEquals(Status.NOT_MODIFIED.getStatusCode(), manager.getResponse(PFAD_HTML, anfrage("br", "\"anderes\", " + etag)).getStatus());
+		assertEquals(Status.NOT_MODIFIED.getStatusCode(), manager.getResponse(PFAD_HTML, anfrage("br", "*")).getStatus());
+
+		// Das ETag der Brotli-Variante passt nicht zu der gzip-Variante
+		assertEquals(Status.OK.getStatusCode(), manager.getResponse(PFAD_HTML, anfrage("gzip", etag)).getStatus());
+	}
+
+}
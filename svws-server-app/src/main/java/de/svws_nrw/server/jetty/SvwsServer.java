@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.concurrent.Executors;
 
 import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.http2.HTTP2Cipher;
@@ -24,6 +25,7 @@ import org.eclipse.jetty.server.handler.ContextHandlerCollection;
 import org.eclipse.jetty.server.handler.DefaultHandler;
 import org.eclipse.jetty.server.handler.HandlerCollection;
 import org.eclipse.jetty.server.handler.RequestLogHandler;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
@@ -46,6 +48,7 @@ import de.svws_nrw.core.logger.LogConsumerConsole;
 import de.svws_nrw.core.logger.Logger;
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
 
 
 /**
@@ -54,6 +57,9 @@ import jakarta.ws.rs.core.Application;
  */
 public final class SvwsServer {
 
+	/** Die Mindestgröße einer Antwort in Bytes, ab der diese mit gzip komprimiert wird */
+	static final int GZIP_MIN_GROESSE = 1024;
+
 	/** Die Instanz dieses SVWS-Servers */
 	private static SvwsServer _instance = null;
 
@@ -85,10 +91,11 @@ public final class SvwsServer {
 		_logger = new Logger();
 		_logger.addConsumer(new LogConsumerConsole(false, false));
 
-		// Create a server with a threadpool of max. 500 threads
-		final QueuedThreadPool threadPool = new QueuedThreadPool();
-		threadPool.setMaxThreads(500);
-		server = new Server(threadPool);
+		// Create a server with a threadpool of max. 500 threads, ggf. mit virtuellen Threads für die Verarbeitung der Anfragen
+		final boolean useVirtualThreads = SVWSKonfiguration.get().useVirtualThreads();
+		if (useVirtualThreads)
+			_logger.logLn("Die Anfragen werden in virtuellen Threads verarbeitet.");
+		server = new Server(createThreadPool(useVirtualThreads));
 		server.addBean(new ScheduledExecutorScheduler());
 
 		// Server extra options
@@ -107,8 +114,8 @@ public final class SvwsServer {
 		// Ordne die Context-Handler den allgemeinen Handlern zu
 		handlerCollection.setHandlers(new Handler[] { contextHandlerCollection, new DefaultHandler() });
 
-		// Erstelle einen ConstraintSecurityHandler mit dem Login-Service, etc.
-        server.setHandler(createConstraintSecurityHandler(server, loginService, handlerCollection));
+		// Erstelle einen ConstraintSecurityHandler mit dem Login-Service, etc. und komprimiere die Antworten ggf. mit gzip
+        server.setHandler(createGzipHandler(createConstraintSecurityHandler(server, loginService, handlerCollection)));
 
         // Konfiguriere das Logging für API-Zugriffe
         addLoggingHandler(handlerCollection);
@@ -121,6 +128,27 @@ public final class SvwsServer {
 	}
 
 
+	/**
+	 * Erzeugt den Thread-Pool für den Jetty-Server mit max. 500 Plattform-Threads. Werden virtuelle
+	 * Threads genutzt, so verarbeitet Jetty die Anfragen - und damit auch die Servlets von RESTEasy - in
+	 * einem eigenen virtuellen Thread pro Anfrage. Die Plattform-Threads werden dann nur noch für die
+	 * Netzwerk-Verbindungen genutzt. Eine Anfrage, die auf die Datenbank wartet, belegt somit keinen
+	 * Plattform-Thread mehr. Die Anzahl der gleichzeitigen Datenbank-Zugriffe wird weiterhin pro Schema
+	 * durch den Connection-Pool des ConnectionManager beschränkt, so dass weitere Anfragen dort warten.
+	 *
+	 * @param useVirtualThreads   gibt an, ob die Anfragen in virtuellen Threads verarbeitet werden
+	 *
+	 * @return der Thread-Pool
+	 */
+	static QueuedThreadPool createThreadPool(final boolean useVirtualThreads) {
+		final QueuedThreadPool threadPool = new QueuedThreadPool();
+		threadPool.setMaxThreads(500);
+		if (useVirtualThreads)
+			threadPool.setVirtualThreadsExecutor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("svws-anfrage-", 0).factory()));
+		return threadPool;
+	}
+
+
 	/**
 	 * Gibt die Instanz des SVWS-Servers zurück.
 	 *
@@ -180,6 +208,29 @@ public final class SvwsServer {
 	}
 
 
+	/**
+	 * Erzeugt einen {@link GzipHandler}, welcher die Antworten des übergebenen Handlers mit gzip komprimiert,
+	 * sofern der Client dies unterstützt und die Antwort mindestens {@link #GZIP_MIN_GROESSE} Bytes umfasst.
+	 * Es werden nur textbasierte Inhalte wie JSON, HTML, XML, iCalendar und vCards komprimiert. Antworten, welche
+	 * bereits komprimiert sind (z.B. die vorkomprimierten Dateien des Web-Clients mit einem Content-Encoding),
+	 * werden unverändert weitergegeben. Der Handler ergänzt außerdem den Vary-Header und berücksichtigt
+	 * ETags der komprimierten Antworten bei If-None-Match.
+	 *
+	 * @param handler   der Handler, dessen Antworten komprimiert werden sollen
+	 *
+	 * @return der GzipHandler
+	 */
+	static GzipHandler createGzipHandler(final Handler handler) {
+		final GzipHandler gzip = new GzipHandler();
+		gzip.setMinGzipSize(GZIP_MIN_GROESSE);
+		gzip.setIncludedMethods(HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, "PROPFIND", "REPORT");
+		gzip.setIncludedMimeTypes(MediaType.APPLICATION_JSON, MediaType.TEXT_HTML, MediaType.TEXT_PLAIN, MediaType.APPLICATION_XML,
+				MediaType.TEXT_XML, "text/css", "text/javascript", "application/javascript", "text/calendar", "text/vcard");
+		gzip.setHandler(handler);
+		return gzip;
+	}
+
+
 	/**
 	 * Fügt einen Logging-Handler für die API-Anfragen hinzu
 	 *
@@ -0,0 +1,253 @@
+package de.svws_nrw.server.jetty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import de.svws_nrw.core.data.db.DBPoolStatistik;
+import de.svws_nrw.db.Benutzer;
+import de.svws_nrw.db.ConnectionManager;
+import de.svws_nrw.db.DBConfig;
+import de.svws_nrw.db.DBDriver;
+import de.svws_nrw.db.DBEntityManager;
+import de.svws_nrw.db.DBException;
+import jakarta.persistence.PersistenceException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Diese Klasse testet die Verarbeitung der Anfragen des Jetty-Servers mit dem Thread-Pool aus
+ * {@link SvwsServer#createThreadPool(boolean)}. Geprüft wird, dass die Anfragen bei Bedarf in virtuellen
+ * Threads verarbeitet werden und dass Anfragen oberhalb der Beschränkung der Datenbank-Zugriffe durch den
+ * {@link ConnectionManager} auf eine Freigabe warten.
+ */
+class TestSvwsServerThreadPool {
+
+	/** Die Anzahl der Anfragen, welche über die maximale Anzahl an Datenbank-Zugriffen hinaus gestellt werden */
+	private static final int ANZAHL_UEBER_LIMIT = 16;
+
+	private static File dbFile;
+
+	private static Benutzer benutzer;
+
+
+	/**
+	 * Erzeugt den Datenbank-Benutzer für eine temporäre SQLite-Datenbank.
+	 *
+	 * @throws IOException   falls die temporäre Datei nicht erzeugt werden kann
+	 * @throws DBException   falls die Verbindung nicht aufgebaut werden kann
+	 */
+	@BeforeAll
+	static void setup() throws IOException, DBException {
+		dbFile = File.createTempFile("svws_threadpool", ".sqlite");
+		dbFile.delete();
+		benutzer = Benutzer.create(new DBConfig(DBDriver.SQLITE, dbFile.getAbsolutePath(), null, false, null, null, false, true, 0, 0));
+	}
+
+	/**
+	 * Entfernt die temporäre SQLite-Datenbank.
+	 */
+	@AfterAll
+	static void cleanup() {
+		dbFile.delete();
+	}
+
+
+	/** Ein Servlet, welches zurückgibt, ob die Anfrage in einem virtuellen Thread verarbeitet wird */
+	private static final class ThreadServlet extends HttpServlet {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected void doGet(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+			response.setContentType("text/plain");
+			response.getWriter().write(Boolean.toString(Thread.currentThread().isVirtual()));
+		}
+
+	}
+
+
+	/** Ein Servlet, welches einen Datenbank-Zugriff öffnet und bis zur Freigabe durch den Test hält */
+	private static final class HalteServlet extends HttpServlet {
+
+		private static final long serialVersionUID = 1L;
+
+		/** Die Anzahl der aktuell gleichzeitig geöffneten Datenbank-Zugriffe */
+		private final transient AtomicInteger aktiv = new AtomicInteger();
+
+		/** Die maximale Anzahl der gleichzeitig geöffneten Datenbank-Zugriffe */
+		private final transient AtomicInteger maximal = new AtomicInteger();
+
+		/** Der Latch, auf dessen Freigabe vor dem Schließen der Datenbank-Zugriffe gewartet wird */
+		private final transient CountDownLatch freigabe = new CountDownLatch(1);
+
+		@Override
+		protected void doGet(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+			try (DBEntityManager conn = benutzer.getEntityManager()) {
+				maximal.accumulateAndGet(aktiv.incrementAndGet(), Math::max);
+				try {
+					if (!freigabe.await(30, TimeUnit.SECONDS))
+						throw new IllegalStateException("Der Datenbank-Zugriff wurde nicht rechtzeitig freigegeben.");
+				} finally {
+					aktiv.decrementAndGet();
+				}
+			} catch (@SuppressWarnings("unused") final InterruptedException | PersistenceException e) {
+				response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+				return;
+			}
+			response.setContentType("text/plain");
+			response.getWriter().write("OK");
+		}
+
+	}
+
+
+	/**
+	 * Startet einen Jetty-Server mit dem Thread-Pool des SVWS-Servers und dem übergebenen Servlet.
+	 *
+	 * @param useVirtualThreads   gibt an, ob die Anfragen in virtuellen Threads verarbeitet werden
+	 * @param servlet             das Servlet
+	 *
+	 * @return der gestartete Server
+	 *
+	 * @throws Exception   falls der Server nicht gestartet werden kann
+	 */
+	private static Server starteServer(final boolean useVirtualThreads, final HttpServlet servlet) throws Exception {
+		final Server server = new Server(SvwsServer.createThreadPool(useVirtualThreads));
+		final ServerConnector connector = new ServerConnector(server);
+		connector.setPort(0);
+		server.addConnector(connector);
+		final ServletContextHandler context = new ServletContextHandler();
+		context.setContextPath("/");
+		context.addServlet(new ServletHolder(servlet), "/*");
+		server.setHandler(context);
+		server.start();
+		return server;
+	}
+
+
+	/**
+	 * Erzeugt eine GET-Anfrage an den übergebenen Server.
+	 *
+	 * @param server   der Server
+	 *
+	 * @return die Anfrage
+	 */
+	private static HttpRequest anfrage(final Server server) {
+		final int port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/test")).GET().build();
+	}
+
+
+	/**
+	 * Wartet bis zu 30 Sekunden, bis die übergebene Bedingung erfüllt ist.
+	 *
+	 * @param bedingung   die Bedingung
+	 *
+	 * @return true, falls die Bedingung rechtzeitig erfüllt wurde, sonst false
+	 *
+	 * @throws InterruptedException   falls das Warten unterbrochen wird
+	 */
+	private static boolean warteAuf(final BooleanSupplier bedingung) throws InterruptedException {
+		final long ende = System.currentTimeMillis() + 30000;
+		while (!bedingung.getAsBoolean()) {
+			if (System.currentTimeMillis() > ende)
+				return false;
+			Thread.sleep(10);
+		}
+		return true;
+	}
+
+
+	/**
+	 * Prüft, dass die Anfragen nur bei Nutzung virtueller Threads in virtuellen Threads verarbeitet werden.
+	 *
+	 * @throws Exception   im Fehlerfall beim Starten des Servers oder bei der Anfrage
+	 */
+	@Test
+	@DisplayName("Prüfe die Verarbeitung der Anfragen in virtuellen Threads")
+	void testVirtuelleThreads() throws Exception {
+		try (HttpClient httpClient = HttpClient.newHttpClient()) {
+			for (final boolean useVirtualThreads : new boolean[] { true, false }) {
+				final Server server = starteServer(useVirtualThreads, new ThreadServlet());
+				try {
+					final HttpResponse<String> response = httpClient.send(anfrage(server), HttpResponse.BodyHandlers.ofString());
+					assertEquals(200, response.statusCode());
+					assertEquals(Boolean.toString(useVirtualThreads), response.body());
+				} finally {
+					server.stop();
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Prüft bei der Verarbeitung in virtuellen Threads, dass bei mehr gleichzeitigen Anfragen als
+	 * {@link ConnectionManager#POOL_MAX_VERBINDUNGEN} nur die maximale Anzahl an Datenbank-Zugriffen geöffnet
+	 * wird, die übrigen Anfragen auf eine Freigabe warten und nach der Freigabe alle Anfragen erfolgreich
+	 * beantwortet werden.
+	 *
+	 * @throws Exception   im Fehlerfall beim Starten des Servers oder bei der Ausführung der Anfragen
+	 */
+	@Test
+	@DisplayName("Prüfe die Beschränkung der Datenbank-Zugriffe bei virtuellen Threads")
+	void testBeschraenkung() throws Exception {
+		final HalteServlet servlet = new HalteServlet();
+		final Server server = starteServer(true, servlet);
+		final ConnectionManager manager = benutzer.connectionManager;
+		final long zeitueberschreitungenVorher = manager.getPoolStatistik().anzahlZeitueberschreitungen;
+		final ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+		try (HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clients)
+				.connectTimeout(Duration.ofSeconds(30)).build()) {
+			final HttpRequest request = anfrage(server);
+			final List<Future<Integer>> ergebnisse = new ArrayList<>();
+			for (int i = 0; i < ConnectionManager.POOL_MAX_VERBINDUNGEN + ANZAHL_UEBER_LIMIT; i++)
+				ergebnisse.add(clients.submit(() -> httpClient.send(request, HttpResponse.BodyHandlers.ofString()).statusCode()));
+			try {
+				assertTrue(warteAuf(() -> servlet.aktiv.get() == ConnectionManager.POOL_MAX_VERBINDUNGEN));
+				assertTrue(warteAuf(() -> manager.getPoolStatistik().belegungenWartend == ANZAHL_UEBER_LIMIT));
+				assertEquals(ConnectionManager.POOL_MAX_VERBINDUNGEN, manager.getPoolStatistik().belegungenAktiv);
+			} finally {
+				servlet.freigabe.countDown();
+			}
+			for (final Future<Integer> ergebnis : ergebnisse)
+				assertEquals(200, ergebnis.get(30, TimeUnit.SECONDS));
+			assertEquals(ConnectionManager.POOL_MAX_VERBINDUNGEN, servlet.maximal.get());
+			final DBPoolStatistik statistik = manager.getPoolStatistik();
+			assertEquals(0, statistik.belegungenAktiv);
+			assertEquals(0, statistik.belegungenWartend);
+			assertEquals(zeitueberschreitungenVorher, statistik.anzahlZeitueberschreitungen);
+		} finally {
+			clients.shutdownNow();
+			server.stop();
+		}
+	}
+
+}
@@ -3,6 +3,7 @@ import Vue from "@vitejs/plugin-vue";
 import Components from "unplugin-vue-components/vite";
 import Markdown from 'unplugin-vue-markdown/vite'
 import { resolve } from "path";
+import { brotli } from "../vite-plugin-brotli";
 
 export default defineConfig({
 	test: {},
@@ -22,6 +23,7 @@ export default defineConfig({
 			extensions: ['vue', 'md'],
 			include: [/\.vue$/, /\.vue\?vue/, /\.md$/],
 		}),
+		brotli(),
 	],
 	resolve: {
 		alias: {
@@ -40,9 +42,9 @@ export default defineConfig({
 		commonjsOptions: {},
 		rollupOptions: {
 			output: {
-				entryFileNames: `assets/[name].js`,
-				chunkFileNames: `assets/[name].js`,
-				assetFileNames: `assets/[name].[ext]`
+				entryFileNames: `assets/[name]-[hash].js`,
+				chunkFileNames: `assets/[name]-[hash].js`,
+				assetFileNames: `assets/[name]-[hash].[ext]`
 			}
 		}
 	}
@@ -3,6 +3,7 @@ import { ArrayList } from '../java/util/ArrayList';
 import { BenutzerKennwort } from '../core/data/BenutzerKennwort';
 import { BenutzerListeEintrag } from '../core/data/benutzer/BenutzerListeEintrag';
 import { DatenbankVerbindungsdaten } from '../core/data/schema/DatenbankVerbindungsdaten';
+import { DBPoolStatistik } from '../core/data/db/DBPoolStatistik';
 import { List } from '../java/util/List';
 import { MigrateBody } from '../core/data/db/MigrateBody';
 import { SchemaListeEintrag } from '../core/data/db/SchemaListeEintrag';
@@ -858,6 +859,49 @@ export class ApiSchemaPrivileged extends BaseApi {
 	}
 
 
+	/**
+	 * Implementierung der GET-Methode getPoolStatistik für den Zugriff auf die URL https://{hostname}/api/schema/root/pool/statistik
+	 *
+	 * Liefert die Kennzahlen der Connection-Pools des SVWS-Servers, d.h. die Anzahl der genutzten, freien und wartenden Datenbank-Zugriffe und Verbindungen sowie die Wartezeiten. Hierfür werden root-Rechte auf der Datenbank benötigt.
+	 *
+	 * Mögliche HTTP-Antworten:
+	 *   Code 200: Die Liste mit den Kennzahlen der Connection-Pools
+	 *     - Mime-Type: application/json
+	 *     - Rückgabe-Typ: List<DBPoolStatistik>
+	 *   Code 403: Der angegebene Benutzer besitzt nicht die Rechte, um die Kennzahlen abzufragen. Hierfür werden root-Rechte benötigt
+	 *
+	 * @returns Die Liste mit den Kennzahlen der Connection-Pools
+	 */
+	public async getPoolStatistik() : Promise<List<DBPoolStatistik>> {
+		const path = "/api/schema/root/pool/statistik";
+		const result : string = await super.getJSON(path);
+		const obj = JSON.parse(result);
+		const ret = new ArrayList<DBPoolStatistik>();
+		obj.forEach((elem: any) => { const text : string = JSON.stringify(elem); ret.add(DBPoolStatistik.transpilerFromJSON(text)); });
+		return ret;
+	}
+
+
+	/**
+	 * Implementierung der GET-Methode getMetriken für den Zugriff auf die URL https://{hostname}/api/schema/root/metriken
+	 *
+	 * Liefert die Metriken des SVWS-Servers im Text-Format von Prometheus, d.h. die Dauer, die Anzahl der SQL-Anweisungen und die Datenbank-Zeit der Anfragen je Methode der API, die Kennzahlen der Connection-Pools, die Treffer und Fehlschläge des Katalog-Caches je Tabelle und die Laufzeiten der Algorithmen. Hierfür werden root-Rechte auf der Datenbank benötigt.
+	 *
+	 * Mögliche HTTP-Antworten:
+	 *   Code 200: Die Metriken im Text-Format von Prometheus
+	 *     - Mime-Type: text/plain
+	 *     - Rückgabe-Typ: String
+	 *   Code 403: Der angegebene Benutzer besitzt nicht die Rechte, um die Metriken abzufragen. Hierfür werden root-Rechte benötigt
+	 *
+	 * @returns Die Metriken im Text-Format von Prometheus
+	 */
+	public async getMetriken() : Promise<string | null> {
+		const path = "/api/schema/root/metriken";
+		const text : string = await super.getText(path);
+		return text;
+	}
+
+
 	/**
 	 * Implementierung der GET-Methode existsUser für den Zugriff auf die URL https://{hostname}/api/schema/root/user/{user}/exists
 	 *
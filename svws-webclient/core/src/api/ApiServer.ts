@@ -43,6 +43,7 @@ import { GostBlockungListeneintrag } from '../core/data/gost/GostBlockungListene
 import { GostBlockungRegel } from '../core/data/gost/GostBlockungRegel';
 import { GostBlockungRegelUpdate } from '../core/data/gost/GostBlockungRegelUpdate';
 import { GostBlockungSchiene } from '../core/data/gost/GostBlockungSchiene';
+import { GostBlockungsberechnung } from '../core/data/gost/GostBlockungsberechnung';
 import { GostBlockungsdaten } from '../core/data/gost/GostBlockungsdaten';
 import { GostBlockungsergebnis } from '../core/data/gost/GostBlockungsergebnis';
 import { GostBlockungsergebnisKursSchienenZuordnung } from '../core/data/gost/GostBlockungsergebnisKursSchienenZuordnung';
@@ -3386,6 +3387,60 @@ export class ApiServer extends BaseApi {
 	}
 
 
+	/**
+	 * Implementierung der DELETE-Methode abbrechenGostBlockungsberechnung für den Zugriff auf die URL https://{hostname}/db/{schema}/gost/blockungen/berechnungen/{berechnungsid : \d+}
+	 *
+	 * Bricht die Berechnung einer Blockung der gymnasialen Oberstufe ab. Die bis dahin gefundenen Zwischenergebnisse werden noch in der DB gespeichert. Dabei wird geprüft, ob der SVWS-Benutzer die notwendige Berechtigung zum Rechnen einer Blockung besitzt.
+	 *
+	 * Mögliche HTTP-Antworten:
+	 *   Code 200: Der Zustand der Berechnung nach dem Abbruch
+	 *     - Mime-Type: application/json
+	 *     - Rückgabe-Typ: GostBlockungsberechnung
+	 *   Code 403: Der SVWS-Benutzer hat keine Rechte, um die Blockungsdaten der Gymnasialen Oberstufe auf dem Server zu rechnen.
+	 *   Code 404: Keine Berechnung mit der angegebenen ID gefunden.
+	 *
+	 * @param {string} schema - der Pfad-Parameter schema
+	 * @param {number} berechnungsid - der Pfad-Parameter berechnungsid
+	 *
+	 * @returns Der Zustand der Berechnung nach dem Abbruch
+	 */
+	public async abbrechenGostBlockungsberechnung(schema : string, berechnungsid : number) : Promise<GostBlockungsberechnung> {
+		const path = "/db/{schema}/gost/blockungen/berechnungen/{berechnungsid : \\d+}"
+			.replace(/{schema\s*(:[^{}]+({[^{}]+})*)?}/g, schema)
+			.replace(/{berechnungsid\s*(:[^{}]+({[^{}]+})*)?}/g, berechnungsid.toString());
+		const result : string = await super.deleteJSON(path, null);
+		const text = result;
+		return GostBlockungsberechnung.transpilerFromJSON(text);
+	}
+
+
+	/**
+	 * Implementierung der GET-Methode getGostBlockungsberechnung für den Zugriff auf die URL https://{hostname}/db/{schema}/gost/blockungen/berechnungen/{berechnungsid : \d+}
+	 *
+	 * Gibt den Zustand der Berechnung einer Blockung der gymnasialen Oberstufe zurück. Nach dem Ende der Berechnung sind dort auch die IDs der gespeicherten Zwischenergebnisse enthalten. Dabei wird geprüft, ob der SVWS-Benutzer die notwendige Berechtigung zum Rechnen einer Blockung besitzt.
+	 *
+	 * Mögliche HTTP-Antworten:
+	 *   Code 200: Der Zustand der Berechnung
+	 *     - Mime-Type: application/json
+	 *     - Rückgabe-Typ: GostBlockungsberechnung
+	 *   Code 403: Der SVWS-Benutzer hat keine Rechte, um die Blockungsdaten der Gymnasialen Oberstufe auf dem Server zu rechnen.
+	 *   Code 404: Keine Berechnung mit der angegebenen ID gefunden.
+	 *
+	 * @param {string} schema - der Pfad-Parameter schema
+	 * @param {number} berechnungsid - der Pfad-Parameter berechnungsid
+	 *
+	 * @returns Der Zustand der Berechnung
+	 */
+	public async getGostBlockungsberechnung(schema : string, berechnungsid : number) : Promise<GostBlockungsberechnung> {
+		const path = "/db/{schema}/gost/blockungen/berechnungen/{berechnungsid : \\d+}"
+			.replace(/{schema\s*(:[^{}]+({[^{}]+})*)?}/g, schema)
+			.replace(/{berechnungsid\s*(:[^{}]+({[^{}]+})*)?}/g, berechnungsid.toString());
+		const result : string = await super.getJSON(path);
+		const text = result;
+		return GostBlockungsberechnung.transpilerFromJSON(text);
+	}
+
+
 	/**
 	 * Implementierung der GET-Methode restauriereGostBlockung für den Zugriff auf die URL https://{hostname}/db/{schema}/gost/blockungen/{abiturjahr : \d+}/{halbjahr : \d+}/restore
 	 *
@@ -3786,6 +3841,36 @@ export class ApiServer extends BaseApi {
 	}
 
 
+	/**
+	 * Implementierung der POST-Methode starteGostBlockungsberechnung für den Zugriff auf die URL https://{hostname}/db/{schema}/gost/blockungen/{blockungsid : \d+}/rechne/{zeit : \d+}/async
+	 *
+	 * Startet für die angegebene Blockung der gymnasialen Oberstufe eine Berechnung im Hintergrund, welche parallel auf allen verfügbaren Prozessorkernen des Servers läuft. Die Zwischenergebnisse werden nach dem Ende der Berechnung in der DB gespeichert. Dabei wird geprüft, ob der SVWS-Benutzer die notwendige Berechtigung zum Rechnen einer Blockung besitzt.
+	 *
+	 * Mögliche HTTP-Antworten:
+	 *   Code 200: Der Zustand der gestarteten Berechnung
+	 *     - Mime-Type: application/json
+	 *     - Rückgabe-Typ: GostBlockungsberechnung
+	 *   Code 403: Der SVWS-Benutzer hat keine Rechte, um die Blockungsdaten der Gymnasialen Oberstufe auf dem Server zu rechnen.
+	 *   Code 404: Keine Blockung mit der angegebenen ID gefunden.
+	 *   Code 500: Ein unerwarteter Fehler ist beim Starten der Berechnung aufgetreten.
+	 *
+	 * @param {string} schema - der Pfad-Parameter schema
+	 * @param {number} blockungsid - der Pfad-Parameter blockungsid
+	 * @param {number} zeit - der Pfad-Parameter zeit
+	 *
+	 * @returns Der Zustand der gestarteten Berechnung
+	 */
+	public async starteGostBlockungsberechnung(schema : string, blockungsid : number, zeit : number) : Promise<GostBlockungsberechnung> {
+		const path = "/db/{schema}/gost/blockungen/{blockungsid : \\d+}/rechne/{zeit : \\d+}/async"
+			.replace(/{schema\s*(:[^{}]+({[^{}]+})*)?}/g, schema)
+			.replace(/{blockungsid\s*(:[^{}]+({[^{}]+})*)?}/g, blockungsid.toString())
+			.replace(/{zeit\s*(:[^{}]+({[^{}]+})*)?}/g, zeit.toString());
+		const result : string = await super.postJSON(path, null);
+		const text = result;
+		return GostBlockungsberechnung.transpilerFromJSON(text);
+	}
+
+
 	/**
 	 * Implementierung der POST-Methode updateGostBlockungRegeln für den Zugriff auf die URL https://{hostname}/db/{schema}/gost/blockungen/{blockungsid : \d+}/regeln/update
 	 *
@@ -0,0 +1,726 @@
+import { DeveloperNotificationException } from '../../../core/exceptions/DeveloperNotificationException';
+import { SatInput } from '../../../core/adt/sat/SatInput';
+import { SatOutput } from '../../../core/adt/sat/SatOutput';
+import { System } from '../../../java/lang/System';
+import { SatSolver, cast_de_svws_nrw_core_adt_sat_SatSolver } from '../../../core/adt/sat/SatSolver';
+
+export class SatSolverCDCL extends SatSolver {
+
+	/**
+	 * Die Anzahl an Konflikten einer Luby-Einheit zwischen zwei Neustarts.
+	 */
+	private static readonly RESTART_BASIS : number = 100;
+
+	/**
+	 * Der Faktor, mit dem die Variablen-Aktivität nach jedem Konflikt wächst (entspricht einem Zerfall von 0.95).
+	 */
+	private static readonly AKTIVITAET_WACHSTUM : number = 1.0 / 0.95;
+
+	/**
+	 * Ab dieser Aktivität werden alle Aktivitäten herunterskaliert.
+	 */
+	private static readonly AKTIVITAET_GRENZE : number = 1e100;
+
+	/**
+	 * Die Anzahl an Konflikten bis zum ersten Löschen gelernter Klauseln.
+	 */
+	private static readonly REDUKTION_BASIS : number = 2000;
+
+	/**
+	 * Der Zuwachs an Konflikten zwischen zwei Löschvorgängen.
+	 */
+	private static readonly REDUKTION_ZUWACHS : number = 300;
+
+	/**
+	 * Gelernte Klauseln mit einer LBD bis zu diesem Wert werden nie gelöscht.
+	 */
+	private static readonly LBD_BEHALTEN : number = 2;
+
+	/**
+	 * Die größte unterschiedene LBD beim Löschen gelernter Klauseln.
+	 */
+	private static readonly LBD_MAXIMUM : number = 64;
+
+	/**
+	 * Die Anzahl an Variablen.
+	 */
+	private _nVars : number = 0;
+
+	/**
+	 * Alle Klauseln (kodierte Literale). Die Literale an Position 0 und 1 werden beobachtet.
+	 */
+	private _klauseln : Array<Array<number>> = [...Array(0)].map(e => Array(0).fill(0));
+
+	/**
+	 * Die Anzahl der Klauseln in {@link #_klauseln}.
+	 */
+	private _nKlauseln : number = 0;
+
+	/**
+	 * Die Anzahl der Original-Klauseln. Alle Klauseln ab diesem Index sind gelernt.
+	 */
+	private _nOriginal : number = 0;
+
+	/**
+	 * Die LBD (Anzahl unterschiedlicher Entscheidungsebenen) jeder gelernten Klausel.
+	 */
+	private _klauselLbd : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Pro kodiertem Literal die Klauseln, die dieses Literal beobachten. Es werden jeweils Paare aus dem Index der
+	 * Klausel und einem weiteren Literal der Klausel (Blocker) gespeichert. Ist der Blocker TRUE, muss die Klausel
+	 * selbst nicht betrachtet werden.
+	 */
+	private _watches : Array<Array<number>> = [...Array(0)].map(e => Array(0).fill(0));
+
+	/**
+	 * Pro kodiertem Literal die Anzahl der Einträge in {@link #_watches}.
+	 */
+	private _watchesAnzahl : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Die Belegung jeder Variablen: 1 (TRUE), -1 (FALSE) oder 0 (unbelegt).
+	 */
+	private _wert : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Die Entscheidungsebene jeder belegten Variablen.
+	 */
+	private _ebene : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Die Klausel, welche die Belegung der Variablen erzwungen hat, oder -1.
+	 */
+	private _grund : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Die zuletzt belegte Polarität jeder Variablen (Phase-Saving).
+	 */
+	private _phase : Array<boolean> = Array(0).fill(false);
+
+	/**
+	 * Markierung der Variablen während der Konfliktanalyse.
+	 */
+	private _gesehen : Array<boolean> = Array(0).fill(false);
+
+	/**
+	 * Die Aktivität jeder Variablen (VSIDS).
+	 */
+	private _aktivitaet : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Der aktuelle Zuwachs der Aktivität.
+	 */
+	private _aktivitaetZuwachs : number = 1.0;
+
+	/**
+	 * Ein Max-Heap der Variablen nach ihrer Aktivität.
+	 */
+	private _heap : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Die Position jeder Variablen in {@link #_heap} oder -1.
+	 */
+	private _heapPos : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Die Anzahl an Variablen in {@link #_heap}.
+	 */
+	private _heapAnzahl : number = 0;
+
+	/**
+	 * Alle belegten Literale in der Reihenfolge ihrer Belegung.
+	 */
+	private _trail : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Die Anzahl der Einträge in {@link #_trail}.
+	 */
+	private _trailAnzahl : number = 0;
+
+	/**
+	 * Der Index in {@link #_trail}, ab dem noch propagiert werden muss.
+	 */
+	private _trailKopf : number = 0;
+
+	/**
+	 * Pro Entscheidungsebene der Beginn der Ebene in {@link #_trail}.
+	 */
+	private _ebenenBeginn : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Die aktuelle Entscheidungsebene.
+	 */
+	private _ebeneAktuell : number = 0;
+
+	/**
+	 * Ein Puffer für die gerade gelernte Klausel.
+	 */
+	private _gelernt : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Die Anzahl der Literale in {@link #_gelernt}.
+	 */
+	private _gelerntAnzahl : number = 0;
+
+	/**
+	 * Ein Stapel für die Prüfung, ob ein Literal der gelernten Klausel redundant ist.
+	 */
+	private _stapel : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Alle Literale, die während der Redundanz-Prüfung zusätzlich markiert wurden.
+	 */
+	private _markiert : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Die Anzahl der Einträge in {@link #_markiert}.
+	 */
+	private _markiertAnzahl : number = 0;
+
+	/**
+	 * Die Markierung der Ebenen bei der Berechnung der LBD.
+	 */
+	private _ebeneStempel : Array<number> = Array(0).fill(0);
+
+	/**
+	 * Der aktuelle Stempel für {@link #_ebeneStempel}.
+	 */
+	private _stempel : number = 0;
+
+
+	/**
+	 * Ein SAT-Solver nach dem CDCL-Verfahren.
+	 */
+	public constructor() {
+		super();
+	}
+
+	public apply(t : SatInput) : SatOutput {
+		const timeEnd : number = System.currentTimeMillis() + this.maxTimeMillis;
+		const nVars : number = t.getVarCount();
+		DeveloperNotificationException.ifSmaller("nVars", nVars, 1);
+		this.initialisiere(nVars);
+		for (const clause of t.getClauses())
+			if (!this.fuegeOriginalKlauselHinzu(clause))
+				return SatOutput.createUNSATISFIABLE();
+		if (this.propagiere() >= 0)
+			return SatOutput.createUNSATISFIABLE();
+		let reduktionen : number = 0;
+		let konflikteBisReduktion : number = SatSolverCDCL.REDUKTION_BASIS;
+		let neustarts : number = 0;
+		let konflikteBisNeustart : number = SatSolverCDCL.luby(neustarts) * SatSolverCDCL.RESTART_BASIS;
+		while (System.currentTimeMillis() <= timeEnd) {
+			const konflikt : number = this.propagiere();
+			if (konflikt >= 0) {
+				if (this._ebeneAktuell === 0)
+					return SatOutput.createUNSATISFIABLE();
+				const ruecksprung : number = this.analysiere(konflikt);
+				this.setzeZurueck(ruecksprung);
+				this.lerne();
+				this._aktivitaetZuwachs *= SatSolverCDCL.AKTIVITAET_WACHSTUM;
+				konflikteBisNeustart--;
+				konflikteBisReduktion--;
+				continue;
+			}
+			if (konflikteBisNeustart <= 0) {
+				this.setzeZurueck(0);
+				neustarts++;
+				konflikteBisNeustart = SatSolverCDCL.luby(neustarts) * SatSolverCDCL.RESTART_BASIS;
+				if (konflikteBisReduktion <= 0) {
+					this.reduziereGelernteKlauseln();
+					reduktionen++;
+					konflikteBisReduktion = SatSolverCDCL.REDUKTION_BASIS + SatSolverCDCL.REDUKTION_ZUWACHS * reduktionen;
+				}
+				continue;
+			}
+			const v : number = this.gibEntscheidungsVariable();
+			if (v === 0)
+				return SatOutput.createSATISFIABLE(this.gibLoesung());
+			this._ebenenBeginn[this._ebeneAktuell] = this._trailAnzahl;
+			this._ebeneAktuell++;
+			this.belege(this._phase[v] ? (2 * v) : (2 * v + 1), -1);
+		}
+		return SatOutput.createUNKNOWN();
+	}
+
+	private initialisiere(nVars : number) : void {
+		this._nVars = nVars;
+		this._klauseln = [...Array(16)].map(e => Array(0).fill(0));
+		this._nKlauseln = 0;
+		this._nOriginal = 0;
+		this._klauselLbd = Array(16).fill(0);
+		this._watches = [...Array(2 * nVars + 2)].map(e => Array(0).fill(0));
+		this._watchesAnzahl = Array(2 * nVars + 2).fill(0);
+		this._wert = Array(nVars + 1).fill(0);
+		this._ebene = Array(nVars + 1).fill(0);
+		this._grund = Array(nVars + 1).fill(0);
+		this._phase = Array(nVars + 1).fill(false);
+		this._gesehen = Array(nVars + 1).fill(false);
+		this._aktivitaet = Array(nVars + 1).fill(0);
+		this._aktivitaetZuwachs = 1.0;
+		this._heap = Array(nVars).fill(0);
+		this._heapPos = Array(nVars + 1).fill(0);
+		this._heapAnzahl = 0;
+		this._trail = Array(nVars).fill(0);
+		this._trailAnzahl = 0;
+		this._trailKopf = 0;
+		this._ebenenBeginn = Array(nVars + 1).fill(0);
+		this._ebeneAktuell = 0;
+		this._gelernt = Array(nVars).fill(0);
+		this._gelerntAnzahl = 0;
+		this._stapel = Array(nVars).fill(0);
+		this._markiert = Array(nVars).fill(0);
+		this._markiertAnzahl = 0;
+		this._ebeneStempel = Array(nVars + 1).fill(0);
+		this._stempel = 0;
+		for (let v : number = 1; v <= nVars; v++) {
+			this._grund[v] = -1;
+			this._heapPos[v] = -1;
+			this._phase[v] = true;
+			this.heapEinfuegen(v);
+		}
+	}
+
+	/**
+	 * Fügt eine Original-Klausel hinzu. Einelementige Klauseln werden direkt auf Ebene 0 belegt, eine leere Klausel
+	 * ist nie erfüllbar.
+	 *
+	 * @return FALSE, falls die Formel dadurch offensichtlich unlösbar wird.
+	 */
+	private fuegeOriginalKlauselHinzu(clause : Array<number>) : boolean {
+		this._stempel++;
+		this._gelerntAnzahl = 0;
+		for (const literal of clause) {
+			const v : number = Math.abs(literal);
+			const kodiert : number = (literal > 0) ? (2 * v) : (2 * v + 1);
+			if (this._ebeneStempel[v] === this._stempel) {
+				if (this.enthaeltGelernt(kodiert))
+					continue;
+				return true;
+			}
+			this._ebeneStempel[v] = this._stempel;
+			this._gelernt[this._gelerntAnzahl++] = kodiert;
+		}
+		if (this._gelerntAnzahl === 0)
+			return false;
+		if (this._gelerntAnzahl === 1) {
+			const lit : number = this._gelernt[0];
+			const wert : number = this.gibWert(lit);
+			if (wert === 0)
+				this.belege(lit, -1);
+			return wert >= 0;
+		}
+		const klausel : Array<number> = Array(this._gelerntAnzahl).fill(0);
+		System.arraycopy(this._gelernt, 0, klausel, 0, this._gelerntAnzahl);
+		this.fuegeKlauselHinzu(klausel, 0);
+		this._nOriginal = this._nKlauseln;
+		return true;
+	}
+
+	private enthaeltGelernt(lit : number) : boolean {
+		for (let i : number = 0; i < this._gelerntAnzahl; i++)
+			if (this._gelernt[i] === lit)
+				return true;
+		return false;
+	}
+
+	private fuegeKlauselHinzu(klausel : Array<number>, lbd : number) : number {
+		if (this._nKlauseln === this._klauseln.length) {
+			const temp : Array<Array<number>> = [...Array(2 * this._klauseln.length)].map(e => Array(0).fill(0));
+			System.arraycopy(this._klauseln, 0, temp, 0, this._nKlauseln);
+			this._klauseln = temp;
+			const tempLbd : Array<number> = Array(2 * this._klauselLbd.length).fill(0);
+			System.arraycopy(this._klauselLbd, 0, tempLbd, 0, this._nKlauseln);
+			this._klauselLbd = tempLbd;
+		}
+		const index : number = this._nKlauseln++;
+		this._klauseln[index] = klausel;
+		this._klauselLbd[index] = lbd;
+		this.beobachte(klausel[0], index, klausel[1]);
+		this.beobachte(klausel[1], index, klausel[0]);
+		return index;
+	}
+
+	private beobachte(lit : number, klausel : number, blocker : number) : void {
+		const anzahl : number = this._watchesAnzahl[lit];
+		if (anzahl === this._watches[lit].length) {
+			const temp : Array<number> = Array(Math.max(8, 2 * anzahl)).fill(0);
+			System.arraycopy(this._watches[lit], 0, temp, 0, anzahl);
+			this._watches[lit] = temp;
+		}
+		this._watches[lit][anzahl] = klausel;
+		this._watches[lit][anzahl + 1] = blocker;
+		this._watchesAnzahl[lit] = anzahl + 2;
+	}
+
+	/**
+	 * Liefert 1 (TRUE), -1 (FALSE) oder 0 (unbelegt) für das kodierte Literal.
+	 */
+	private gibWert(lit : number) : number {
+		const wert : number = this._wert[lit >> 1];
+		return ((lit & 1) === 0) ? wert : -wert;
+	}
+
+	private belege(lit : number, grund : number) : void {
+		const v : number = lit >> 1;
+		this._wert[v] = ((lit & 1) === 0) ? 1 : -1;
+		this._ebene[v] = this._ebeneAktuell;
+		this._grund[v] = grund;
+		this._trail[this._trailAnzahl++] = lit;
+	}
+
+	/**
+	 * Propagiert alle noch nicht propagierten Belegungen.
+	 *
+	 * @return den Index der Konflikt-Klausel oder -1, falls kein Konflikt auftrat.
+	 */
+	private propagiere() : number {
+		while (this._trailKopf < this._trailAnzahl) {
+			const falsch : number = this._trail[this._trailKopf++] ^ 1;
+			const ws : Array<number> = this._watches[falsch];
+			const n : number = this._watchesAnzahl[falsch];
+			let i : number = 0;
+			let j : number = 0;
+			while (i < n) {
+				const ki : number = ws[i];
+				const blocker : number = ws[i + 1];
+				i += 2;
+				if (this.gibWert(blocker) === 1) {
+					ws[j++] = ki;
+					ws[j++] = blocker;
+					continue;
+				}
+				const k : Array<number> = this._klauseln[ki];
+				if (k[0] === falsch) {
+					k[0] = k[1];
+					k[1] = falsch;
+				}
+				const erstes : number = k[0];
+				if ((erstes !== blocker) && (this.gibWert(erstes) === 1)) {
+					ws[j++] = ki;
+					ws[j++] = erstes;
+					continue;
+				}
+				let gefunden : boolean = false;
+				for (let p : number = 2; p < k.length; p++)
+					if (this.gibWert(k[p]) !== -1) {
+						k[1] = k[p];
+						k[p] = falsch;
+						this.beobachte(k[1], ki, erstes);
+						gefunden = true;
+						break;
+					}
+				if (gefunden)
+					continue;
+				ws[j++] = ki;
+				ws[j++] = erstes;
+				if (this.gibWert(erstes) === -1) {
+					while (i < n)
+						ws[j++] = ws[i++];
+					this._watchesAnzahl[falsch] = j;
+					this._trailKopf = this._trailAnzahl;
+					return ki;
+				}
+				this.belege(erstes, ki);
+			}
+			this._watchesAnzahl[falsch] = j;
+		}
+		return -1;
+	}
+
+	/**
+	 * Analysiert den Konflikt und speichert die gelernte Klausel (1-UIP) in {@link #_gelernt}. Das erste Literal ist
+	 * das nach dem Rücksprung erzwungene Literal, das zweite Literal hat die höchste verbleibende Ebene.
+	 *
+	 * @return die Ebene, auf die zurückgesprungen werden muss.
+	 */
+	private analysiere(konflikt : number) : number {
+		this._gelerntAnzahl = 1;
+		let offen : number = 0;
+		let lit : number = -1;
+		let index : number = this._trailAnzahl - 1;
+		let klausel : number = konflikt;
+		do {
+			const k : Array<number> = this._klauseln[klausel];
+			for (let p : number = (lit < 0) ? 0 : 1; p < k.length; p++) {
+				const q : number = k[p];
+				const v : number = q >> 1;
+				if (this._gesehen[v] || (this._ebene[v] === 0))
+					continue;
+				this.erhoeheAktivitaet(v);
+				this._gesehen[v] = true;
+				if (this._ebene[v] >= this._ebeneAktuell)
+					offen++;
+				else
+					this._gelernt[this._gelerntAnzahl++] = q;
+			}
+			while (!this._gesehen[this._trail[index] >> 1])
+				index--;
+			lit = this._trail[index];
+			index--;
+			klausel = this._grund[lit >> 1];
+			this._gesehen[lit >> 1] = false;
+			offen--;
+		} while (offen > 0);
+		this._gelernt[0] = lit ^ 1;
+		let ebenen : number = 0;
+		for (let i : number = 1; i < this._gelerntAnzahl; i++)
+			ebenen |= this.gibEbenenBit(this._gelernt[i] >> 1);
+		this._markiertAnzahl = 0;
+		let j : number = 1;
+		for (let i : number = 1; i < this._gelerntAnzahl; i++) {
+			const q : number = this._gelernt[i];
+			if ((this._grund[q >> 1] < 0) || (!this.istRedundant(q, ebenen))) {
+				this._gelernt[i] = this._gelernt[j];
+				this._gelernt[j++] = q;
+			}
+		}
+		for (let i : number = 1; i < this._gelerntAnzahl; i++)
+			this._gesehen[this._gelernt[i] >> 1] = false;
+		for (let i : number = 0; i < this._markiertAnzahl; i++)
+			this._gesehen[this._markiert[i] >> 1] = false;
+		this._gelerntAnzahl = j;
+		if (this._gelerntAnzahl === 1)
+			return 0;
+		let maxI : number = 1;
+		for (let i : number = 2; i < this._gelerntAnzahl; i++)
+			if (this._ebene[this._gelernt[i] >> 1] > this._ebene[this._gelernt[maxI] >> 1])
+				maxI = i;
+		const temp : number = this._gelernt[1];
+		this._gelernt[1] = this._gelernt[maxI];
+		this._gelernt[maxI] = temp;
+		return this._ebene[this._gelernt[1] >> 1];
+	}
+
+	private gibEbenenBit(v : number) : number {
+		return 1 << (this._ebene[v] & 31);
+	}
+
+	/**
+	 * Liefert TRUE, falls das Literal der gelernten Klausel aus den markierten Literalen folgt. Dazu werden die Gründe
+	 * rekursiv (mit einem Stapel) verfolgt. Nur Variablen auf Ebenen der gelernten Klausel können dabei helfen.
+	 */
+	private istRedundant(lit : number, ebenen : number) : boolean {
+		const markiertStart : number = this._markiertAnzahl;
+		let oben : number = 0;
+		this._stapel[oben++] = lit;
+		while (oben > 0) {
+			const k : Array<number> = this._klauseln[this._grund[this._stapel[--oben] >> 1]];
+			for (let p : number = 1; p < k.length; p++) {
+				const q : number = k[p];
+				const v : number = q >> 1;
+				if (this._gesehen[v] || (this._ebene[v] === 0))
+					continue;
+				if ((this._grund[v] < 0) || ((this.gibEbenenBit(v) & ebenen) === 0)) {
+					for (let i : number = markiertStart; i < this._markiertAnzahl; i++)
+						this._gesehen[this._markiert[i] >> 1] = false;
+					this._markiertAnzahl = markiertStart;
+					return false;
+				}
+				this._gesehen[v] = true;
+				this._stapel[oben++] = q;
+				this._markiert[this._markiertAnzahl++] = q;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Speichert die Klausel aus {@link #_gelernt} und belegt ihr erstes Literal.
+	 */
+	private lerne() : void {
+		if (this._gelerntAnzahl === 1) {
+			this.belege(this._gelernt[0], -1);
+			return;
+		}
+		const klausel : Array<number> = Array(this._gelerntAnzahl).fill(0);
+		System.arraycopy(this._gelernt, 0, klausel, 0, this._gelerntAnzahl);
+		const index : number = this.fuegeKlauselHinzu(klausel, this.berechneLbd(klausel));
+		this.belege(klausel[0], index);
+	}
+
+	private berechneLbd(klausel : Array<number>) : number {
+		this._stempel++;
+		let lbd : number = 0;
+		for (const lit of klausel) {
+			const e : number = this._ebene[lit >> 1];
+			if (this._ebeneStempel[e] !== this._stempel) {
+				this._ebeneStempel[e] = this._stempel;
+				lbd++;
+			}
+		}
+		return lbd;
+	}
+
+	/**
+	 * Nimmt alle Belegungen oberhalb der übergebenen Ebene zurück.
+	 */
+	private setzeZurueck(ebene : number) : void {
+		if (this._ebeneAktuell <= ebene)
+			return;
+		const beginn : number = this._ebenenBeginn[ebene];
+		for (let i : number = this._trailAnzahl - 1; i >= beginn; i--) {
+			const v : number = this._trail[i] >> 1;
+			this._phase[v] = this._wert[v] > 0;
+			this._wert[v] = 0;
+			this._grund[v] = -1;
+			if (this._heapPos[v] < 0)
+				this.heapEinfuegen(v);
+		}
+		this._trailAnzahl = beginn;
+		this._trailKopf = beginn;
+		this._ebeneAktuell = ebene;
+	}
+
+	/**
+	 * Löscht etwa die Hälfte der gelernten Klauseln mit der höchsten LBD. Darf nur auf Ebene 0 aufgerufen werden, da
+	 * sich die Indizes der Klauseln ändern.
+	 */
+	private reduziereGelernteKlauseln() : void {
+		const histogramm : Array<number> = Array(SatSolverCDCL.LBD_MAXIMUM + 1).fill(0);
+		for (let i : number = this._nOriginal; i < this._nKlauseln; i++)
+			histogramm[Math.min(SatSolverCDCL.LBD_MAXIMUM, this._klauselLbd[i])]++;
+		const zielAnzahl : number = Math.trunc((this._nKlauseln - this._nOriginal) / 2);
+		let grenze : number = SatSolverCDCL.LBD_MAXIMUM;
+		let geloescht : number = histogramm[SatSolverCDCL.LBD_MAXIMUM];
+		while ((grenze > SatSolverCDCL.LBD_BEHALTEN + 1) && (geloescht < zielAnzahl)) {
+			grenze--;
+			geloescht += histogramm[grenze];
+		}
+		let j : number = this._nOriginal;
+		for (let i : number = this._nOriginal; i < this._nKlauseln; i++)
+			if (Math.min(SatSolverCDCL.LBD_MAXIMUM, this._klauselLbd[i]) < grenze) {
+				this._klauseln[j] = this._klauseln[i];
+				this._klauselLbd[j] = this._klauselLbd[i];
+				j++;
+			}
+		for (let i : number = j; i < this._nKlauseln; i++)
+			this._klauseln[i] = Array(0).fill(0);
+		this._nKlauseln = j;
+		for (let i : number = 0; i < this._trailAnzahl; i++)
+			this._grund[this._trail[i] >> 1] = -1;
+		for (let lit : number = 0; lit < this._watchesAnzahl.length; lit++)
+			this._watchesAnzahl[lit] = 0;
+		for (let i : number = 0; i < this._nKlauseln; i++) {
+			this.beobachte(this._klauseln[i][0], i, this._klauseln[i][1]);
+			this.beobachte(this._klauseln[i][1], i, this._klauseln[i][0]);
+		}
+	}
+
+	private erhoeheAktivitaet(v : number) : void {
+		this._aktivitaet[v] += this._aktivitaetZuwachs;
+		if (this._aktivitaet[v] > SatSolverCDCL.AKTIVITAET_GRENZE) {
+			for (let w : number = 1; w <= this._nVars; w++)
+				this._aktivitaet[w] *= 1e-100;
+			this._aktivitaetZuwachs *= 1e-100;
+		}
+		if (this._heapPos[v] >= 0)
+			this.heapNachOben(this._heapPos[v]);
+	}
+
+	/**
+	 * Liefert die unbelegte Variable mit der höchsten Aktivität oder 0, falls alle Variablen belegt sind.
+	 */
+	private gibEntscheidungsVariable() : number {
+		while (this._heapAnzahl > 0) {
+			const v : number = this.heapEntferneMaximum();
+			if (this._wert[v] === 0)
+				return v;
+		}
+		return 0;
+	}
+
+	private gibLoesung() : Array<number> {
+		const loesung : Array<number> = Array(this._nVars + 1).fill(0);
+		for (let v : number = 1; v <= this._nVars; v++)
+			loesung[v] = (this._wert[v] > 0) ? v : -v;
+		return loesung;
+	}
+
+	/**
+	 * Liefert das i-te Element (0-indiziert) der Luby-Folge 1, 1, 2, 1, 1, 2, 4, 1, ...
+	 */
+	private static luby(i : number) : number {
+		let groesse : number = 1;
+		let potenz : number = 0;
+		while (groesse < i + 1) {
+			potenz++;
+			groesse = 2 * groesse + 1;
+		}
+		let x : number = i;
+		while (groesse - 1 !== x) {
+			groesse = (groesse - 1) >> 1;
+			potenz--;
+			x = x % groesse;
+		}
+		let ergebnis : number = 1;
+		for (let p : number = 0; p < potenz; p++)
+			ergebnis *= 2;
+		return ergebnis;
+	}
+
+	private heapEinfuegen(v : number) : void {
+		this._heap[this._heapAnzahl] = v;
+		this._heapPos[v] = this._heapAnzahl;
+		this._heapAnzahl++;
+		this.heapNachOben(this._heapAnzahl - 1);
+	}
+
+	private heapEntferneMaximum() : number {
+		const v : number = this._heap[0];
+		this._heapAnzahl--;
+		this._heapPos[v] = -1;
+		if (this._heapAnzahl > 0) {
+			this._heap[0] = this._heap[this._heapAnzahl];
+			this._heapPos[this._heap[0]] = 0;
+			this.heapNachUnten(0);
+		}
+		return v;
+	}
+
+	private heapNachOben(pos : number) : void {
+		const v : number = this._heap[pos];
+		let i : number = pos;
+		while (i > 0) {
+			const eltern : number = (i - 1) >> 1;
+			if (this._aktivitaet[this._heap[eltern]] >= this._aktivitaet[v])
+				break;
+			this._heap[i] = this._heap[eltern];
+			this._heapPos[this._heap[i]] = i;
+			i = eltern;
+		}
+		this._heap[i] = v;
+		this._heapPos[v] = i;
+	}
+
+	private heapNachUnten(pos : number) : void {
+		const v : number = this._heap[pos];
+		let i : number = pos;
+		while (2 * i + 1 < this._heapAnzahl) {
+			let kind : number = 2 * i + 1;
+			if ((kind + 1 < this._heapAnzahl) && (this._aktivitaet[this._heap[kind + 1]] > this._aktivitaet[this._heap[kind]]))
+				kind++;
+			if (this._aktivitaet[this._heap[kind]] <= this._aktivitaet[v])
+				break;
+			this._heap[i] = this._heap[kind];
+			this._heapPos[this._heap[i]] = i;
+			i = kind;
+		}
+		this._heap[i] = v;
+		this._heapPos[v] = i;
+	}
+
+	transpilerCanonicalName(): string {
+		return 'de.svws_nrw.core.adt.sat.SatSolverCDCL';
+	}
+
+	isTranspiledInstanceOf(name : string): boolean {
+		return ['de.svws_nrw.core.adt.sat.SatSolverCDCL', 'java.util.function.Function', 'de.svws_nrw.core.adt.sat.SatSolver'].includes(name);
+	}
+
+}
+
+export function cast_de_svws_nrw_core_adt_sat_SatSolverCDCL(obj : unknown) : SatSolverCDCL {
+	return obj as SatSolverCDCL;
+}
@@ -0,0 +1,210 @@
+import { JavaObject } from '../../../java/lang/JavaObject';
+
+export class DBPoolStatistik extends JavaObject {
+
+	/**
+	 * Der Name des Schemas.
+	 */
+	public schema : string = "";
+
+	/**
+	 * Der Ort, an dem sich die Datenbank befindet.
+	 */
+	public location : string = "";
+
+	/**
+	 * Der Datenbank-Benutzer, mit welchem die Verbindungen aufgebaut werden.
+	 */
+	public username : string = "";
+
+	/**
+	 * Die Anzahl der aktuell genutzten Datenbank-Verbindungen.
+	 */
+	public verbindungenAktiv : number = 0;
+
+	/**
+	 * Die Anzahl der aktuell freien Datenbank-Verbindungen im Pool.
+	 */
+	public verbindungenFrei : number = 0;
+
+	/**
+	 * Die maximale Anzahl an Datenbank-Verbindungen des Pools.
+	 */
+	public verbindungenMaximal : number = 0;
+
+	/**
+	 * Die Anzahl der aktuell geöffneten Datenbank-Zugriffe (Entity-Manager).
+	 */
+	public belegungenAktiv : number = 0;
+
+	/**
+	 * Die Anzahl der Anfragen, die aktuell auf einen freien Datenbank-Zugriff warten.
+	 */
+	public belegungenWartend : number = 0;
+
+	/**
+	 * Die maximale Anzahl an gleichzeitig geöffneten Datenbank-Zugriffen.
+	 */
+	public belegungenMaximal : number = 0;
+
+	/**
+	 * Die Anzahl aller bisher angeforderten Datenbank-Zugriffe.
+	 */
+	public anzahlBelegungen : number = 0;
+
+	/**
+	 * Die gesamte Wartezeit aller Anforderungen von Datenbank-Zugriffen in Millisekunden.
+	 */
+	public wartezeitGesamtMillis : number = 0;
+
+	/**
+	 * Die maximale Wartezeit einer Anforderung eines Datenbank-Zugriffs in Millisekunden.
+	 */
+	public wartezeitMaxMillis : number = 0;
+
+	/**
+	 * Die Anzahl der Anforderungen, die wegen einer Zeitüberschreitung abgelehnt wurden.
+	 */
+	public anzahlZeitueberschreitungen : number = 0;
+
+	/**
+	 * Die Anzahl der Datenbank-Zugriffe, die nicht rechtzeitig geschlossen wurden und als Leck gemeldet wurden.
+	 */
+	public anzahlLecks : number = 0;
+
+
+	public constructor() {
+		super();
+	}
+
+	transpilerCanonicalName(): string {
+		return 'de.svws_nrw.core.data.db.DBPoolStatistik';
+	}
+
+	isTranspiledInstanceOf(name : string): boolean {
+		return ['de.svws_nrw.core.data.db.DBPoolStatistik'].includes(name);
+	}
+
+	public static transpilerFromJSON(json : string): DBPoolStatistik {
+		const obj = JSON.parse(json);
+		const result = new DBPoolStatistik();
+		if (typeof obj.schema === "undefined")
+			 throw new Error('invalid json format, missing attribute schema');
+		result.schema = obj.schema;
+		if (typeof obj.location === "undefined")
+			 throw new Error('invalid json format, missing attribute location');
+		result.location = obj.location;
+		if (typeof obj.username === "undefined")
+			 throw new Error('invalid json format, missing attribute username');
+		result.username = obj.username;
+		if (typeof obj.verbindungenAktiv === "undefined")
+			 throw new Error('invalid json format, missing attribute verbindungenAktiv');
+		result.verbindungenAktiv = obj.verbindungenAktiv;
+		if (typeof obj.verbindungenFrei === "undefined")
+			 throw new Error('invalid json format, missing attribute verbindungenFrei');
+		result.verbindungenFrei = obj.verbindungenFrei;
+		if (typeof obj.verbindungenMaximal === "undefined")
+			 throw new Error('invalid json format, missing attribute verbindungenMaximal');
+		result.verbindungenMaximal = obj.verbindungenMaximal;
+		if (typeof obj.belegungenAktiv === "undefined")
+			 throw new Error('invalid json format, missing attribute belegungenAktiv');
+		result.belegungenAktiv = obj.belegungenAktiv;
+		if (typeof obj.belegungenWartend === "undefined")
+			 throw new Error('invalid json format, missing attribute belegungenWartend');
+		result.belegungenWartend = obj.belegungenWartend;
+		if (typeof obj.belegungenMaximal === "undefined")
+			 throw new Error('invalid json format, missing attribute belegungenMaximal');
+		result.belegungenMaximal = obj.belegungenMaximal;
+		if (typeof obj.anzahlBelegungen === "undefined")
+			 throw new Error('invalid json format, missing attribute anzahlBelegungen');
+		result.anzahlBelegungen = obj.anzahlBelegungen;
+		if (typeof obj.wartezeitGesamtMillis === "undefined")
+			 throw new Error('invalid json format, missing attribute wartezeitGesamtMillis');
+		result.wartezeitGesamtMillis = obj.wartezeitGesamtMillis;
+		if (typeof obj.wartezeitMaxMillis === "undefined")
+			 throw new Error('invalid json format, missing attribute wartezeitMaxMillis');
+		result.wartezeitMaxMillis = obj.wartezeitMaxMillis;
+		if (typeof obj.anzahlZeitueberschreitungen === "undefined")
+			 throw new Error('invalid json format, missing attribute anzahlZeitueberschreitungen');
+		result.anzahlZeitueberschreitungen = obj.anzahlZeitueberschreitungen;
+		if (typeof obj.anzahlLecks === "undefined")
+			 throw new Error('invalid json format, missing attribute anzahlLecks');
+		result.anzahlLecks = obj.anzahlLecks;
+		return result;
+	}
+
+	public static transpilerToJSON(obj : DBPoolStatistik) : string {
+		let result = '{';
+		result += '"schema" : ' + JSON.stringify(obj.schema!) + ',';
+		result += '"location" : ' + JSON.stringify(obj.location!) + ',';
+		result += '"username" : ' + JSON.stringify(obj.username!) + ',';
+		result += '"verbindungenAktiv" : ' + obj.verbindungenAktiv + ',';
+		result += '"verbindungenFrei" : ' + obj.verbindungenFrei + ',';
+		result += '"verbindungenMaximal" : ' + obj.verbindungenMaximal + ',';
+		result += '"belegungenAktiv" : ' + obj.belegungenAktiv + ',';
+		result += '"belegungenWartend" : ' + obj.belegungenWartend + ',';
+		result += '"belegungenMaximal" : ' + obj.belegungenMaximal + ',';
+		result += '"anzahlBelegungen" : ' + obj.anzahlBelegungen + ',';
+		result += '"wartezeitGesamtMillis" : ' + obj.wartezeitGesamtMillis + ',';
+		result += '"wartezeitMaxMillis" : ' + obj.wartezeitMaxMillis + ',';
+		result += '"anzahlZeitueberschreitungen" : ' + obj.anzahlZeitueberschreitungen + ',';
+		result += '"anzahlLecks" : ' + obj.anzahlLecks + ',';
+		result = result.slice(0, -1);
+		result += '}';
+		return result;
+	}
+
+	public static transpilerToJSONPatch(obj : Partial<DBPoolStatistik>) : string {
+		let result = '{';
+		if (typeof obj.schema !== "undefined") {
+			result += '"schema" : ' + JSON.stringify(obj.schema!) + ',';
+		}
+		if (typeof obj.location !== "undefined") {
+			result += '"location" : ' + JSON.stringify(obj.location!) + ',';
+		}
+		if (typeof obj.username !== "undefined") {
+			result += '"username" : ' + JSON.stringify(obj.username!) + ',';
+		}
+		if (typeof obj.verbindungenAktiv !== "undefined") {
+			result += '"verbindungenAktiv" : ' + obj.verbindungenAktiv + ',';
+		}
+		if (typeof obj.verbindungenFrei !== "undefined") {
+			result += '"verbindungenFrei" : ' + obj.verbindungenFrei + ',';
+		}
+		if (typeof obj.verbindungenMaximal !== "undefined") {
+			result += '"verbindungenMaximal" : ' + obj.verbindungenMaximal + ',';
+		}
+		if (typeof obj.belegungenAktiv !== "undefined") {
+			result += '"belegungenAktiv" : ' + obj.belegungenAktiv + ',';
+		}
+		if (typeof obj.belegungenWartend !== "undefined") {
+			result += '"belegungenWartend" : ' + obj.belegungenWartend + ',';
+		}
+		if (typeof obj.belegungenMaximal !== "undefined") {
+			result += '"belegungenMaximal" : ' + obj.belegungenMaximal + ',';
+		}
+		if (typeof obj.anzahlBelegungen !== "undefined") {
+			result += '"anzahlBelegungen" : ' + obj.anzahlBelegungen + ',';
+		}
+		if (typeof obj.wartezeitGesamtMillis !== "undefined") {
+			result += '"wartezeitGesamtMillis" : ' + obj.wartezeitGesamtMillis + ',';
+		}
+		if (typeof obj.wartezeitMaxMillis !== "undefined") {
+			result += '"wartezeitMaxMillis" : ' + obj.wartezeitMaxMillis + ',';
+		}
+		if (typeof obj.anzahlZeitueberschreitungen !== "undefined") {
+			result += '"anzahlZeitueberschreitungen" : ' + obj.anzahlZeitueberschreitungen + ',';
+		}
+		if (typeof obj.anzahlLecks !== "undefined") {
+			result += '"anzahlLecks" : ' + obj.anzahlLecks + ',';
+		}
+		result = result.slice(0, -1);
+		result += '}';
+		return result;
+	}
+
+}
+
+export function cast_de_svws_nrw_core_data_db_DBPoolStatistik(obj : unknown) : DBPoolStatistik {
+	return obj as DBPoolStatistik;
+}
@@ -0,0 +1,186 @@
+import { JavaObject } from '../../../java/lang/JavaObject';
+import { ArrayList } from '../../../java/util/ArrayList';
+import type { List } from '../../../java/util/List';
+
+export class GostBlockungsberechnung extends JavaObject {
+
+	/**
+	 * Die ID der Berechnung
+	 */
+	public id : number = -1;
+
+	/**
+	 * Die ID der Blockung, für welche die Berechnung durchgeführt wird
+	 */
+	public idBlockung : number = -1;
+
+	/**
+	 * Der Status der Berechnung (wartend, laeuft, beendet, abgebrochen oder fehler)
+	 */
+	public status : string = "wartend";
+
+	/**
+	 * Die maximale Zeit in Millisekunden, welche der Algorithmus für die Berechnung verwenden darf
+	 */
+	public zeitMaximal : number = 0;
+
+	/**
+	 * Die Zeit in Millisekunden, welche seit dem Start der Berechnung vergangen ist
+	 */
+	public zeitVergangen : number = 0;
+
+	/**
+	 * Die Anzahl der Instanzen des Algorithmus, welche parallel rechnen
+	 */
+	public anzahlInstanzen : number = 0;
+
+	/**
+	 * Die Anzahl der Instanzen des Algorithmus, welche ihre Berechnung bereits beendet haben
+	 */
+	public anzahlInstanzenBeendet : number = 0;
+
+	/**
+	 * Die Anzahl der bisher über alle Instanzen hinweg durchgeführten Durchläufe des Algorithmus
+	 */
+	public anzahlDurchlaeufe : number = 0;
+
+	/**
+	 * Die IDs der in der Datenbank gespeicherten Zwischenergebnisse, sobald die Berechnung beendet wurde
+	 */
+	public ergebnisse : List<number> = new ArrayList();
+
+	/**
+	 * Eine Fehlermeldung, falls bei der Berechnung ein Fehler aufgetreten ist, ansonsten null
+	 */
+	public fehlermeldung : string | null = null;
+
+
+	public constructor() {
+		super();
+	}
+
+	transpilerCanonicalName(): string {
+		return 'de.svws_nrw.core.data.gost.GostBlockungsberechnung';
+	}
+
+	isTranspiledInstanceOf(name : string): boolean {
+		return ['de.svws_nrw.core.data.gost.GostBlockungsberechnung'].includes(name);
+	}
+
+	public static transpilerFromJSON(json : string): GostBlockungsberechnung {
+		const obj = JSON.parse(json);
+		const result = new GostBlockungsberechnung();
+		if (typeof obj.id === "undefined")
+			 throw new Error('invalid json format, missing attribute id');
+		result.id = obj.id;
+		if (typeof obj.idBlockung === "undefined")
+			 throw new Error('invalid json format, missing attribute idBlockung');
+		result.idBlockung = obj.idBlockung;
+		if (typeof obj.status === "undefined")
+			 throw new Error('invalid json format, missing attribute status');
+		result.status = obj.status;
+		if (typeof obj.zeitMaximal === "undefined")
+			 throw new Error('invalid json format, missing attribute zeitMaximal');
+		result.zeitMaximal = obj.zeitMaximal;
+		if (typeof obj.zeitVergangen === "undefined")
+			 throw new Error('invalid json format, missing attribute zeitVergangen');
+		result.zeitVergangen = obj.zeitVergangen;
+		if (typeof obj.anzahlInstanzen === "undefined")
+			 throw new Error('invalid json format, missing attribute anzahlInstanzen');
+		result.anzahlInstanzen = obj.anzahlInstanzen;
+		if (typeof obj.anzahlInstanzenBeendet === "undefined")
+			 throw new Error('invalid json format, missing attribute anzahlInstanzenBeendet');
+		result.anzahlInstanzenBeendet = obj.anzahlInstanzenBeendet;
+		if (typeof obj.anzahlDurchlaeufe === "undefined")
+			 throw new Error('invalid json format, missing attribute anzahlDurchlaeufe');
+		result.anzahlDurchlaeufe = obj.anzahlDurchlaeufe;
+		if ((obj.ergebnisse !== undefined) && (obj.ergebnisse !== null)) {
+			for (const elem of obj.ergebnisse) {
+				result.ergebnisse?.add(elem);
+			}
+		}
+		result.fehlermeldung = typeof obj.fehlermeldung === "undefined" ? null : obj.fehlermeldung === null ? null : obj.fehlermeldung;
+		return result;
+	}
+
+	public static transpilerToJSON(obj : GostBlockungsberechnung) : string {
+		let result = '{';
+		result += '"id" : ' + obj.id + ',';
+		result += '"idBlockung" : ' + obj.idBlockung + ',';
+		result += '"status" : ' + JSON.stringify(obj.status!) + ',';
+		result += '"zeitMaximal" : ' + obj.zeitMaximal + ',';
+		result += '"zeitVergangen" : ' + obj.zeitVergangen + ',';
+		result += '"anzahlInstanzen" : ' + obj.anzahlInstanzen + ',';
+		result += '"anzahlInstanzenBeendet" : ' + obj.anzahlInstanzenBeendet + ',';
+		result += '"anzahlDurchlaeufe" : ' + obj.anzahlDurchlaeufe + ',';
+		if (!obj.ergebnisse) {
+			result += '"ergebnisse" : []';
+		} else {
+			result += '"ergebnisse" : [ ';
+			for (let i = 0; i < obj.ergebnisse.size(); i++) {
+				const elem = obj.ergebnisse.get(i);
+				result += elem;
+				if (i < obj.ergebnisse.size() - 1)
+					result += ',';
+			}
+			result += ' ]' + ',';
+		}
+		result += '"fehlermeldung" : ' + ((!obj.fehlermeldung) ? 'null' : JSON.stringify(obj.fehlermeldung)) + ',';
+		result = result.slice(0, -1);
+		result += '}';
+		return result;
+	}
+
+	public static transpilerToJSONPatch(obj : Partial<GostBlockungsberechnung>) : string {
+		let result = '{';
+		if (typeof obj.id !== "undefined") {
+			result += '"id" : ' + obj.id + ',';
+		}
+		if (typeof obj.idBlockung !== "undefined") {
+			result += '"idBlockung" : ' + obj.idBlockung + ',';
+		}
+		if (typeof obj.status !== "undefined") {
+			result += '"status" : ' + JSON.stringify(obj.status!) + ',';
+		}
+		if (typeof obj.zeitMaximal !== "undefined") {
+			result += '"zeitMaximal" : ' + obj.zeitMaximal + ',';
+		}
+		if (typeof obj.zeitVergangen !== "undefined") {
+			result += '"zeitVergangen" : ' + obj.zeitVergangen + ',';
+		}
+		if (typeof obj.anzahlInstanzen !== "undefined") {
+			result += '"anzahlInstanzen" : ' + obj.anzahlInstanzen + ',';
+		}
+		if (typeof obj.anzahlInstanzenBeendet !== "undefined") {
+			result += '"anzahlInstanzenBeendet" : ' + obj.anzahlInstanzenBeendet + ',';
+		}
+		if (typeof obj.anzahlDurchlaeufe !== "undefined") {
+			result += '"anzahlDurchlaeufe" : ' + obj.anzahlDurchlaeufe + ',';
+		}
+		if (typeof obj.ergebnisse !== "undefined") {
+			if (!obj.ergebnisse) {
+				result += '"ergebnisse" : []';
+			} else {
+				result += '"ergebnisse" : [ ';
+				for (let i = 0; i < obj.ergebnisse.size(); i++) {
+					const elem = obj.ergebnisse.get(i);
+					result += elem;
+					if (i < obj.ergebnisse.size() - 1)
+						result += ',';
+				}
+				result += ' ]' + ',';
+			}
+		}
+		if (typeof obj.fehlermeldung !== "undefined") {
+			result += '"fehlermeldung" : ' + ((!obj.fehlermeldung) ? 'null' : JSON.stringify(obj.fehlermeldung)) + ',';
+		}
+		result = result.slice(0, -1);
+		result += '}';
+		return result;
+	}
+
+}
+
+export function cast_de_svws_nrw_core_data_gost_GostBlockungsberechnung(obj : unknown) : GostBlockungsberechnung {
+	return obj as GostBlockungsberechnung;
+}
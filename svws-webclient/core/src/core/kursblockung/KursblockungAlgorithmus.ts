@@ -17,44 +17,90 @@ import { Random } from '../../java/util/Random';
 import { KursblockungDynDaten } from '../../core/kursblockung/KursblockungDynDaten';
 import { KursblockungAlgorithmusSZufaellig } from '../../core/kursblockung/KursblockungAlgorithmusSZufaellig';
 import { KursblockungAlgorithmusK } from '../../core/kursblockung/KursblockungAlgorithmusK';
+import { KursblockungErgebnisSpeicher } from '../../core/kursblockung/KursblockungErgebnisSpeicher';
+import type { Predicate } from '../../java/util/function/Predicate';
 
 export class KursblockungAlgorithmus extends Service<GostBlockungsdatenManager, ArrayList<GostBlockungsergebnisManager>> {
 
 	private readonly _random : Random = new Random();
 
+	/**
+	 * Die maximale Anzahl an Ergebnissen, welche ein Durchlauf zurückliefert.
+	 */
+	private _maxErgebnisse : number = KursblockungErgebnisSpeicher.MAX_ERGEBNISSE_STANDARD;
+
 
 	public constructor() {
 		super();
 	}
 
+	/**
+	 * Setzt die maximale Anzahl an Ergebnissen, welche ein Durchlauf zurückliefert. Es werden dabei nur die besten,
+	 * paarweise verschiedenen Ergebnisse behalten.
+	 *
+	 * @param maxErgebnisse   die maximale Anzahl an Ergebnissen (mindestens 1)
+	 */
+	public setMaxErgebnisse(maxErgebnisse : number) : void {
+		this._maxErgebnisse = Math.max(1, maxErgebnisse);
+	}
+
+	/**
+	 * Liefert die maximale Anzahl an Ergebnissen, welche ein Durchlauf zurückliefert.
+	 *
+	 * @return die maximale Anzahl an Ergebnissen
+	 */
+	public getMaxErgebnisse() : number {
+		return this._maxErgebnisse;
+	}
+
 	public handle(pInput : GostBlockungsdatenManager) : ArrayList<GostBlockungsergebnisManager> {
-		this.logger.modifyIndent(+4);
 		const seed : number = this._random.nextLong();
+		return this.handleMitSeed(pInput, seed, { test : (anzahlDurchlaeufe: number) => true });
+	}
+
+	/**
+	 * Führt den Kursblockungsalgorithmus mit einem vorgegebenen Seed aus. Dies ermöglicht es, mehrere unabhängige
+	 * Instanzen mit unterschiedlichen Seeds (z.B. parallel auf dem Server) zu starten und deren Ergebnisse
+	 * anschließend zusammenzuführen. Nach jedem Durchlauf eines K-Algorithmus wird das Prädikat mit der Anzahl
+	 * der bisherigen Durchläufe aufgerufen. Liefert dieses false, so wird die Berechnung vorzeitig beendet.
+	 *
+	 * @param pInput       die Eingabedaten
+	 * @param seed         der Anfangs-Seed für das {@link Random}-Objekt
+	 * @param fortsetzen   das Prädikat, welches angibt, ob die Berechnung fortgesetzt werden soll
+	 *
+	 * @return die besten, paarweise verschiedenen Blockungsergebnisse dieses Durchlaufs, das beste Ergebnis zuerst
+	 */
+	public handleMitSeed(pInput : GostBlockungsdatenManager, seed : number, fortsetzen : Predicate<number>) : ArrayList<GostBlockungsergebnisManager> {
+		this.logger.modifyIndent(+4);
 		const random : Random = new Random(seed);
 		this.logger.log(LogLevel.APP, "Erster nextInt() Aufruf liefert " + seed);
 		const dynDaten : KursblockungDynDaten = new KursblockungDynDaten(random, this.logger, pInput);
 		const zeitBedarf : number = dynDaten.gibBlockungszeitMillis();
 		const zeitEndeGesamt : number = System.currentTimeMillis() + zeitBedarf;
-		const kursblockungOutputs : ArrayList<GostBlockungsergebnisManager> = new ArrayList();
+		const kursblockungOutputs : KursblockungErgebnisSpeicher = new KursblockungErgebnisSpeicher(this._maxErgebnisse);
 		const algorithmenK : Array<KursblockungAlgorithmusK> = [new KursblockungAlgorithmusKSchnellW(random, this.logger, dynDaten), new KursblockungAlgorithmusKFachwahlmatrix(random, this.logger, dynDaten), new KursblockungAlgorithmusKMatching(random, this.logger, dynDaten), new KursblockungAlgorithmusKSchuelervorschlag(random, this.logger, dynDaten), new KursblockungAlgorithmusKOptimiereBest(random, this.logger, dynDaten)];
 		const algorithmenS : Array<KursblockungAlgorithmusS> = [new KursblockungAlgorithmusSSchnellW(random, this.logger, dynDaten), new KursblockungAlgorithmusSZufaellig(random, this.logger, dynDaten), new KursblockungAlgorithmusSMatching(random, this.logger, dynDaten), new KursblockungAlgorithmusSMatchingW(random, this.logger, dynDaten)];
 		let zeitProK : number = 100;
+		let anzahlDurchlaeufe : number = 0;
+		let abbruch : boolean = false;
 		do {
-			for (let iK : number = 0; iK < algorithmenK.length; iK++) {
+			for (let iK : number = 0; (iK < algorithmenK.length) && (!abbruch); iK++) {
 				const zeitEndeK : number = System.currentTimeMillis() + zeitProK;
 				do {
 					KursblockungAlgorithmus.verwendeAlgorithmusK(algorithmenK[iK], zeitEndeK, dynDaten, algorithmenS, kursblockungOutputs, pInput);
-				} while (System.currentTimeMillis() < zeitEndeK);
+					anzahlDurchlaeufe++;
+					abbruch = !fortsetzen.test(anzahlDurchlaeufe);
+				} while ((System.currentTimeMillis() < zeitEndeK) && (!abbruch));
 				if (System.currentTimeMillis() + zeitProK > zeitEndeGesamt)
 					break;
 			}
 			zeitProK *= 2;
-		} while (System.currentTimeMillis() < zeitEndeGesamt);
+		} while ((System.currentTimeMillis() < zeitEndeGesamt) && (!abbruch));
 		this.logger.modifyIndent(-4);
-		return kursblockungOutputs;
+		return kursblockungOutputs.gibErgebnisse();
 	}
 
-	private static verwendeAlgorithmusK(kursblockungAlgorithmusK : KursblockungAlgorithmusK, zeitEndeK : number, dynDaten : KursblockungDynDaten, algorithmenS : Array<KursblockungAlgorithmusS>, outputs : ArrayList<GostBlockungsergebnisManager>, pInput : GostBlockungsdatenManager) : void {
+	private static verwendeAlgorithmusK(kursblockungAlgorithmusK : KursblockungAlgorithmusK, zeitEndeK : number, dynDaten : KursblockungDynDaten, algorithmenS : Array<KursblockungAlgorithmusS>, outputs : KursblockungErgebnisSpeicher, pInput : GostBlockungsdatenManager) : void {
 		kursblockungAlgorithmusK.berechne(zeitEndeK);
 		dynDaten.aktionZustandSpeichernK();
 		for (let iS : number = 0; iS < algorithmenS.length; iS++) {
@@ -66,8 +112,7 @@ export class KursblockungAlgorithmus extends Service<GostBlockungsdatenManager,
 		if (dynDaten.gibCompareZustandG_NW_KD_FW() > 0) {
 			dynDaten.aktionZustandSpeichernG();
 		}
-		const out : GostBlockungsergebnisManager = dynDaten.gibErzeugtesKursblockungOutput(pInput, outputs.size() + 1);
-		outputs.add(out);
+		outputs.fuegeHinzu(dynDaten, pInput);
 	}
 
 	transpilerCanonicalName(): string {
@@ -880,6 +880,74 @@ export class KursblockungDynDaten extends JavaObject {
 		return out;
 	}
 
+	/**
+	 * Liefert einen kompakten Fingerabdruck des aktuellen Zustandes, d.h. der Kurs-Schienen-Zuordnungen und der
+	 * Kurs-Schüler-Zuordnungen. Zwei Zustände derselben Blockungsdaten sind genau dann identisch, wenn ihre
+	 * Fingerabdrücke übereinstimmen. Die Schienen eines Kurses werden dabei sortiert, die Kurswahlen eines Schülers
+	 * werden in der Reihenfolge seiner Fachwahlen durch die interne Kurs-ID (oder -1 bei einer Nichtwahl) kodiert.
+	 * <br>Der Fingerabdruck ermöglicht es, doppelte Ergebnisse zu erkennen, ohne ein {@link GostBlockungsergebnisManager}-Objekt zu erzeugen.
+	 *
+	 * @return ein kompakter Fingerabdruck des aktuellen Zustandes.
+	 */
+	gibErgebnisFingerabdruck() : Array<number> {
+		let laenge : number = 0;
+		for (const dynKurs of this._kursArr)
+			laenge += dynKurs.gibSchienenAnzahl();
+		for (const dynSchueler of this._schuelerArr)
+			laenge += dynSchueler.gibKurswahlen().length;
+		const fingerabdruck : Array<number> = Array(laenge).fill(0);
+		let index : number = 0;
+		for (const dynKurs of this._kursArr) {
+			const start : number = index;
+			for (const schienenNr of dynKurs.gibSchienenLage()) {
+				let i : number = index;
+				while ((i > start) && (fingerabdruck[i - 1] > schienenNr)) {
+					fingerabdruck[i] = fingerabdruck[i - 1];
+					i--;
+				}
+				fingerabdruck[i] = schienenNr;
+				index++;
+			}
+		}
+		for (const dynSchueler of this._schuelerArr)
+			for (const kurs of dynSchueler.gibKurswahlen())
+				fingerabdruck[index++] = (kurs === null) ? -1 : kurs.gibInternalID();
+		return fingerabdruck;
+	}
+
+	/**
+	 * Liefert einen Bewertungsvektor des aktuellen Zustandes, welcher ohne das Erzeugen eines
+	 * {@link GostBlockungsergebnisManager}-Objektes bestimmt wird. Die Einträge folgen der Priorität der Kriterien
+	 * des {@link de.svws_nrw.core.utils.gost.GostBlockungsergebnisBewertungComparator}: (1) Regelverletzungen,
+	 * (2) Nichtwahlen, (3) das Histogramm der Kursdifferenzen beginnend bei der größten Kursdifferenz und (4) die
+	 * Anzahl an Kursen mit gleicher Fachart pro Schiene. Zwei Vektoren werden daher lexikographisch verglichen,
+	 * kleinere Werte sind besser. Alle Vektoren derselben Blockungsdaten haben dieselbe Länge.
+	 * <br>Regelverletzungen, welche erst durch die Regelvalidierung des {@link GostBlockungsergebnisManager} erkannt
+	 * werden, sind im Vektor nicht enthalten.
+	 *
+	 * @return ein Bewertungsvektor des aktuellen Zustandes.
+	 */
+	gibBewertungsvektor() : Array<number> {
+		const kursdifferenzen : Array<number> = this._statistik.gibBewertungKursdifferenzen();
+		const vektor : Array<number> = Array(kursdifferenzen.length + 3).fill(0);
+		vektor[0] = this._statistik.gibBewertungRegelverletzungen();
+		vektor[1] = this._statistik.gibBewertungNichtwahlen();
+		for (let i : number = 0; i < kursdifferenzen.length; i++)
+			vektor[2 + i] = kursdifferenzen[kursdifferenzen.length - 1 - i];
+		let gleicheFacharten : number = 0;
+		for (const fachart of this._fachartArr)
+			for (let schienenNr : number = 0; schienenNr < this._schienenArr.length; schienenNr++) {
+				let anzahl : number = 0;
+				for (const kurs of fachart.gibKurse())
+					if (kurs.gibIstInSchiene(schienenNr))
+						anzahl++;
+				if (anzahl >= 2)
+					gleicheFacharten += anzahl - 1;
+			}
+		vektor[vektor.length - 1] = gleicheFacharten;
+		return vektor;
+	}
+
 	/**
 	 * Liefert das Logger-Objekt für Benutzerhinweise, Warnungen und Fehler.
 	 *
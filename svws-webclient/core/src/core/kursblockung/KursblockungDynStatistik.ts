@@ -210,6 +210,25 @@ export class KursblockungDynStatistik extends JavaObject {
 		return this.bewertungNichtwahlen;
 	}
 
+	/**
+	 * Liefert die aktuelle Bewertung aller Regelverletzungen.
+	 *
+	 * @return Die aktuelle Bewertung aller Regelverletzungen.
+	 */
+	gibBewertungRegelverletzungen() : number {
+		return this.bewertungRegelverletzungen;
+	}
+
+	/**
+	 * Liefert das aktuelle Histogramm aller Kursdifferenzen. Der Index ist die Kursdifferenz, der Wert die Anzahl
+	 * der Facharten mit dieser Kursdifferenz. Das Array darf nicht verändert werden.
+	 *
+	 * @return Das aktuelle Histogramm aller Kursdifferenzen.
+	 */
+	gibBewertungKursdifferenzen() : Array<number> {
+		return this.bewertungKursdifferenzen;
+	}
+
 	/**
 	 * Liefert die aktuell größte Kursdifferenz (über alle Facharten).
 	 *
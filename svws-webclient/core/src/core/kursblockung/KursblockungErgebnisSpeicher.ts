@@ -0,0 +1,182 @@
+import { JavaObject } from '../../java/lang/JavaObject';
+import { GostBlockungsergebnisManager } from '../../core/utils/gost/GostBlockungsergebnisManager';
+import { KursblockungDynDaten } from '../../core/kursblockung/KursblockungDynDaten';
+import { ArrayList } from '../../java/util/ArrayList';
+import { GostBlockungsergebnisBewertungComparator } from '../../core/utils/gost/GostBlockungsergebnisBewertungComparator';
+import { GostBlockungsdatenManager } from '../../core/utils/gost/GostBlockungsdatenManager';
+
+export class KursblockungErgebnisSpeicher extends JavaObject {
+
+	/**
+	 * Die Standard-Anzahl an Ergebnissen, welche maximal behalten werden.
+	 */
+	public static readonly MAX_ERGEBNISSE_STANDARD : number = 50;
+
+	/**
+	 * Der Modulus für die Berechnung des Hashwertes eines Fingerabdrucks (eine Primzahl, damit auch in TypeScript kein Überlauf entsteht).
+	 */
+	private static readonly HASH_MODULUS : number = 1000000007;
+
+	/**
+	 * Die maximale Anzahl an Ergebnissen.
+	 */
+	private readonly _maxAnzahl : number;
+
+	/**
+	 * Die behaltenen Ergebnisse, sortiert nach ihrem Bewertungsvektor (das beste Ergebnis zuerst).
+	 */
+	private readonly _ergebnisse : ArrayList<GostBlockungsergebnisManager> = new ArrayList<GostBlockungsergebnisManager>();
+
+	/**
+	 * Die Fingerabdrücke der behaltenen Ergebnisse (gleiche Indizierung wie {@link #_ergebnisse}).
+	 */
+	private readonly _fingerabdruecke : ArrayList<Array<number>> = new ArrayList<Array<number>>();
+
+	/**
+	 * Die Hashwerte der Fingerabdrücke der behaltenen Ergebnisse (gleiche Indizierung wie {@link #_ergebnisse}).
+	 */
+	private readonly _hashwerte : ArrayList<number> = new ArrayList<number>();
+
+	/**
+	 * Die Bewertungsvektoren der behaltenen Ergebnisse (gleiche Indizierung wie {@link #_ergebnisse}).
+	 */
+	private readonly _bewertungen : ArrayList<Array<number>> = new ArrayList<Array<number>>();
+
+	/**
+	 * Die Anzahl der bisher erzeugten {@link GostBlockungsergebnisManager}-Objekte, welche auch als Ergebnis-ID dient.
+	 */
+	private _anzahlErzeugt : number = 0;
+
+	/**
+	 * Die Anzahl der bisher als Duplikat erkannten Ergebnisse.
+	 */
+	private _anzahlDuplikate : number = 0;
+
+
+	/**
+	 * Erzeugt einen neuen, leeren Speicher.
+	 *
+	 * @param maxAnzahl  die maximale Anzahl an Ergebnissen, welche behalten werden (mindestens 1).
+	 */
+	public constructor(maxAnzahl : number) {
+		super();
+		this._maxAnzahl = Math.max(1, maxAnzahl);
+	}
+
+	/**
+	 * Übernimmt den aktuellen Zustand der dynamischen Daten als Ergebnis, sofern dieser Zustand noch nicht im Speicher
+	 * vorhanden ist und sein Bewertungsvektor zu den besten gehört. Nur in diesem Fall wird ein
+	 * {@link GostBlockungsergebnisManager}-Objekt erzeugt.
+	 *
+	 * @param dynDaten      die dynamischen Blockungsdaten mit dem aktuellen Zustand.
+	 * @param pDataManager  der Daten-Manager der Blockung.
+	 *
+	 * @return TRUE, falls das Ergebnis in den Speicher übernommen wurde.
+	 */
+	fuegeHinzu(dynDaten : KursblockungDynDaten, pDataManager : GostBlockungsdatenManager) : boolean {
+		const fingerabdruck : Array<number> = dynDaten.gibErgebnisFingerabdruck();
+		const hashwert : number = KursblockungErgebnisSpeicher.gibHashwert(fingerabdruck);
+		for (let i : number = 0; i < this._ergebnisse.size(); i++)
+			if ((this._hashwerte.get(i) === hashwert) && KursblockungErgebnisSpeicher.istGleich(this._fingerabdruecke.get(i), fingerabdruck)) {
+				this._anzahlDuplikate++;
+				return false;
+			}
+		const bewertung : Array<number> = dynDaten.gibBewertungsvektor();
+		let pos : number = this._ergebnisse.size();
+		while ((pos > 0) && (KursblockungErgebnisSpeicher.vergleiche(this._bewertungen.get(pos - 1), bewertung) > 0))
+			pos--;
+		if (pos >= this._maxAnzahl)
+			return false;
+		this._anzahlErzeugt++;
+		const ergebnis : GostBlockungsergebnisManager = dynDaten.gibErzeugtesKursblockungOutput(pDataManager, this._anzahlErzeugt);
+		this._ergebnisse.add(pos, ergebnis);
+		this._fingerabdruecke.add(pos, fingerabdruck);
+		this._hashwerte.add(pos, hashwert);
+		this._bewertungen.add(pos, bewertung);
+		if (this._ergebnisse.size() > this._maxAnzahl) {
+			this._ergebnisse.removeLast();
+			this._fingerabdruecke.removeLast();
+			this._hashwerte.removeLast();
+			this._bewertungen.removeLast();
+		}
+		return true;
+	}
+
+	/**
+	 * Liefert die behaltenen Ergebnisse, sortiert nach ihrer Bewertung gemäß {@link GostBlockungsergebnisBewertungComparator}
+	 * (das beste Ergebnis zuerst).
+	 *
+	 * @return die behaltenen Ergebnisse, sortiert nach ihrer Bewertung (das beste Ergebnis zuerst).
+	 */
+	public gibErgebnisse() : ArrayList<GostBlockungsergebnisManager> {
+		const ergebnisse : ArrayList<GostBlockungsergebnisManager> = new ArrayList<GostBlockungsergebnisManager>(this._ergebnisse);
+		ergebnisse.sort({ compare : (a: GostBlockungsergebnisManager, b: GostBlockungsergebnisManager) => GostBlockungsergebnisBewertungComparator.compareBewertungen(a.getErgebnis().bewertung, b.getErgebnis().bewertung) });
+		return ergebnisse;
+	}
+
+	/**
+	 * Liefert die maximale Anzahl an Ergebnissen, welche behalten werden.
+	 *
+	 * @return die maximale Anzahl an Ergebnissen, welche behalten werden.
+	 */
+	public gibMaxAnzahl() : number {
+		return this._maxAnzahl;
+	}
+
+	/**
+	 * Liefert die Anzahl der bisher erzeugten {@link GostBlockungsergebnisManager}-Objekte.
+	 *
+	 * @return die Anzahl der bisher erzeugten {@link GostBlockungsergebnisManager}-Objekte.
+	 */
+	public gibAnzahlErzeugt() : number {
+		return this._anzahlErzeugt;
+	}
+
+	/**
+	 * Liefert die Anzahl der bisher als Duplikat erkannten und daher verworfenen Ergebnisse.
+	 *
+	 * @return die Anzahl der bisher als Duplikat erkannten und daher verworfenen Ergebnisse.
+	 */
+	public gibAnzahlDuplikate() : number {
+		return this._anzahlDuplikate;
+	}
+
+	private static gibHashwert(fingerabdruck : Array<number>) : number {
+		let hashwert : number = 0;
+		for (const wert of fingerabdruck)
+			hashwert = (hashwert * 31 + wert + 2) % KursblockungErgebnisSpeicher.HASH_MODULUS;
+		return hashwert;
+	}
+
+	private static vergleiche(a : Array<number>, b : Array<number>) : number {
+		for (let i : number = 0; (i < a.length) && (i < b.length); i++) {
+			if (a[i] < b[i])
+				return -1;
+			if (a[i] > b[i])
+				return +1;
+		}
+		return 0;
+	}
+
+	private static istGleich(a : Array<number>, b : Array<number>) : boolean {
+		if (a.length !== b.length)
+			return false;
+		for (let i : number = 0; i < a.length; i++)
+			if (a[i] !== b[i])
+				return false;
+		return true;
+	}
+
+	transpilerCanonicalName(): string {
+		return 'de.svws_nrw.core.kursblockung.KursblockungErgebnisSpeicher';
+	}
+
+	isTranspiledInstanceOf(name : string): boolean {
+		return ['de.svws_nrw.core.kursblockung.KursblockungErgebnisSpeicher'].includes(name);
+	}
+
+}
+
+export function cast_de_svws_nrw_core_kursblockung_KursblockungErgebnisSpeicher(obj : unknown) : KursblockungErgebnisSpeicher {
+	return obj as KursblockungErgebnisSpeicher;
+}
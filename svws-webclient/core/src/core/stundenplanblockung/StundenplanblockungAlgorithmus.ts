@@ -1,14 +1,49 @@
 import { Service } from '../../core/Service';
+import { StundenplanblockungDynDaten } from '../../core/stundenplanblockung/StundenplanblockungDynDaten';
+import { LogLevel } from '../../core/logger/LogLevel';
+import { System } from '../../java/lang/System';
+import { Random } from '../../java/util/Random';
 import { StundenplanblockungManager } from '../../core/utils/stundenplanblockung/StundenplanblockungManager';
 
 export class StundenplanblockungAlgorithmus extends Service<StundenplanblockungManager, StundenplanblockungManager> {
 
+	/**
+	 * Die Anzahl an Schritten der lokalen Suche zwischen zwei Zeitabfragen.
+	 */
+	private static readonly SCHRITTE_PRO_ZEITABFRAGE : number = 256;
+
 
 	public constructor() {
 		super();
 	}
 
 	public handle(pInput : StundenplanblockungManager) : StundenplanblockungManager {
+		return this.handleMitSeed(pInput, new Random().nextLong());
+	}
+
+	/**
+	 * Berechnet den Stundenplan wie {@link #handle(StundenplanblockungManager)}, aber mit einem vorgegebenen Anfangs-Seed,
+	 * z.B. für reproduzierbare Tests.
+	 *
+	 * @param pInput  Der Manager mit den Eingabedaten, in welchen auch das Ergebnis geschrieben wird.
+	 * @param seed    Der Anfangs-Seed für das {@link Random}-Objekt.
+	 *
+	 * @return Der übergebene Manager mit dem Ergebnis.
+	 */
+	public handleMitSeed(pInput : StundenplanblockungManager, seed : number) : StundenplanblockungManager {
+		const random : Random = new Random(seed);
+		const zeitEnde : number = System.currentTimeMillis() + pInput.getMaxTimeMillis();
+		const dynDaten : StundenplanblockungDynDaten = new StundenplanblockungDynDaten(random, pInput);
+		dynDaten.aktionVerteileKonstruktiv();
+		let schritte : number = 0;
+		do {
+			for (let i : number = 0; i < StundenplanblockungAlgorithmus.SCHRITTE_PRO_ZEITABFRAGE; i++)
+				dynDaten.aktionVerbessere();
+			schritte += StundenplanblockungAlgorithmus.SCHRITTE_PRO_ZEITABFRAGE;
+		} while (System.currentTimeMillis() < zeitEnde);
+		dynDaten.aktionZustandLadenBester();
+		dynDaten.aktionSchreibeErgebnis(pInput);
+		this.logger.log(LogLevel.APP, "Stundenplanblockung: " + schritte + " Schritte, " + dynDaten.gibAnzahlNichtVerteilt() + " von " + dynDaten.gibAnzahlElemente() + " Stunden nicht verteilt, Bewertung " + dynDaten.gibBewertung() + ".");
 		return pInput;
 	}
 
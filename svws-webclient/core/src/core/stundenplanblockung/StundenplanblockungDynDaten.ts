@@ -0,0 +1,597 @@
+import { JavaObject } from '../../java/lang/JavaObject';
+import { StundenplanblockungManagerLerngruppe } from '../../core/utils/stundenplanblockung/StundenplanblockungManagerLerngruppe';
+import { StundenplanblockungManagerStatistik } from '../../core/utils/stundenplanblockung/StundenplanblockungManagerStatistik';
+import { StundenplanblockungManager } from '../../core/utils/stundenplanblockung/StundenplanblockungManager';
+import { HashMap } from '../../java/util/HashMap';
+import { ArrayList } from '../../java/util/ArrayList';
+import type { List } from '../../java/util/List';
+import { Random } from '../../java/util/Random';
+import { System } from '../../java/lang/System';
+
+export class StundenplanblockungDynDaten extends JavaObject {
+
+	/**
+	 * Die Gewichtung einer Springstunde einer Klasse.
+	 */
+	private static readonly GEWICHT_SPRINGSTUNDE_KLASSE : number = 10;
+
+	/**
+	 * Die Gewichtung einer Springstunde einer Lehrkraft.
+	 */
+	private static readonly GEWICHT_SPRINGSTUNDE_LEHRKRAFT : number = 2;
+
+	/**
+	 * Die Gewichtung einer weiteren Stunde einer Einheit am selben Tag.
+	 */
+	private static readonly GEWICHT_MEHRFACH_AM_TAG : number = 20;
+
+	/**
+	 * Die Gewichtung einer späten Stunde einer Klasse (pro Stunde nach der letzten "frühen" Stunde).
+	 */
+	private static readonly GEWICHT_SPAETE_STUNDE : number = 1;
+
+	/**
+	 * Die Anzahl der "frühen" Stunden eines Tages, welche für Klassen nicht als spät bewertet werden.
+	 */
+	private static readonly FRUEHE_STUNDEN : number = 6;
+
+	/**
+	 * Ressourcen-Typ einer Lehrkraft.
+	 */
+	private static readonly TYP_LEHRKRAFT : number = 0;
+
+	/**
+	 * Ressourcen-Typ einer Klasse.
+	 */
+	private static readonly TYP_KLASSE : number = 1;
+
+	/**
+	 * Ressourcen-Typ eines Raumes.
+	 */
+	private static readonly TYP_RAUM : number = 2;
+
+	/**
+	 * Ein {@link Random}-Objekt zur Steuerung des Zufalls über einen Anfangs-Seed.
+	 */
+	private readonly _random : Random;
+
+	/**
+	 * Die Anzahl an Unterrichtstagen in der Woche.
+	 */
+	private readonly _tage : number;
+
+	/**
+	 * Die maximale Anzahl an Stunden pro Tag.
+	 */
+	private readonly _stundenProTag : number;
+
+	/**
+	 * Die Anzahl aller Zeitslots.
+	 */
+	private readonly _slots : number;
+
+	/**
+	 * Der Typ jeder Ressource ({@link #TYP_LEHRKRAFT}, {@link #TYP_KLASSE} oder {@link #TYP_RAUM}).
+	 */
+	private readonly _ressourceTyp : Array<number>;
+
+	/**
+	 * Die Belegung jeder Ressource in jedem Zeitslot mit einem Element oder -1.
+	 */
+	private readonly _belegung : Array<Array<number>>;
+
+	/**
+	 * Die Ressourcen jedes Elementes.
+	 */
+	private readonly _elementRessourcen : Array<Array<number>>;
+
+	/**
+	 * Die Einheit jedes Elementes.
+	 */
+	private readonly _elementEinheit : Array<number>;
+
+	/**
+	 * Die Lerngruppen jedes Elementes.
+	 */
+	private readonly _elementLerngruppen : List<List<StundenplanblockungManagerLerngruppe>>;
+
+	/**
+	 * Der Zeitslot jedes Elementes oder -1, falls das Element nicht verteilt ist.
+	 */
+	private readonly _elementSlot : Array<number>;
+
+	/**
+	 * Die Anzahl der Elemente jeder Einheit an jedem Tag.
+	 */
+	private readonly _einheitTagAnzahl : Array<Array<number>>;
+
+	/**
+	 * Alle Lerngruppen, deren Lage am Ende geschrieben wird.
+	 */
+	private readonly _lerngruppen : List<StundenplanblockungManagerLerngruppe>;
+
+	/**
+	 * Die Anzahl der nicht verteilten Elemente.
+	 */
+	private _anzahlNichtVerteilt : number = 0;
+
+	/**
+	 * Die gewichtete Summe aller weichen Kriterien des aktuellen Zustandes.
+	 */
+	private _bewertung : number = 0;
+
+	/**
+	 * Die Zeitslots der Elemente des besten bisher gefundenen Zustandes.
+	 */
+	private readonly _besterSlot : Array<number>;
+
+	/**
+	 * Die Anzahl der nicht verteilten Elemente des besten bisher gefundenen Zustandes.
+	 */
+	private _besterNichtVerteilt : number = 0;
+
+	/**
+	 * Die Bewertung des besten bisher gefundenen Zustandes.
+	 */
+	private _besteBewertung : number = 0;
+
+
+	/**
+	 * Erzeugt die dynamischen Daten aus den Lerngruppen des übergebenen Managers. Zu Beginn ist kein Element verteilt.
+	 *
+	 * @param pRandom  Ein {@link Random}-Objekt zur Steuerung des Zufalls über einen Anfangs-Seed.
+	 * @param pInput   Der Manager mit den Eingabedaten.
+	 */
+	public constructor(pRandom : Random, pInput : StundenplanblockungManager) {
+		super();
+		this._random = pRandom;
+		this._tage = pInput.getSchule().get_tage_pro_woche();
+		this._stundenProTag = pInput.getSchule().get_stunden_pro_tag();
+		this._slots = this._tage * this._stundenProTag;
+		this._lerngruppen = new ArrayList<StundenplanblockungManagerLerngruppe>(pInput.getLerngruppen().getMenge());
+		const nGruppen : number = this._lerngruppen.size();
+		const einheitVon : Array<number> = Array(nGruppen).fill(0);
+		for (let i : number = 0; i < nGruppen; i++)
+			einheitVon[i] = i;
+		const mapKopplung : HashMap<number, number> = new HashMap<number, number>();
+		for (let i : number = 0; i < nGruppen; i++)
+			for (const ko of this._lerngruppen.get(i).getKopplungen()) {
+				const j : number | null = mapKopplung.get(ko.getID());
+				if (j === null)
+					mapKopplung.put(ko.getID(), i);
+				else
+					einheitVon[StundenplanblockungDynDaten.gibWurzel(einheitVon, i)] = StundenplanblockungDynDaten.gibWurzel(einheitVon, j);
+			}
+		const einheitNr : Array<number> = Array(nGruppen).fill(0);
+		let nEinheiten : number = 0;
+		for (let i : number = 0; i < nGruppen; i++)
+			if (StundenplanblockungDynDaten.gibWurzel(einheitVon, i) === i)
+				einheitNr[i] = nEinheiten++;
+		const einheiten : List<List<StundenplanblockungManagerLerngruppe>> = new ArrayList<List<StundenplanblockungManagerLerngruppe>>();
+		for (let u : number = 0; u < nEinheiten; u++)
+			einheiten.add(new ArrayList<StundenplanblockungManagerLerngruppe>());
+		for (let i : number = 0; i < nGruppen; i++)
+			einheiten.get(einheitNr[StundenplanblockungDynDaten.gibWurzel(einheitVon, i)]).add(this._lerngruppen.get(i));
+		const mapLehrkraft : HashMap<number, number> = new HashMap<number, number>();
+		const mapKlasse : HashMap<number, number> = new HashMap<number, number>();
+		const mapRaum : HashMap<number, number> = new HashMap<number, number>();
+		const ressourceTyp : List<number> = new ArrayList<number>();
+		const elementRessourcen : List<Array<number>> = new ArrayList<Array<number>>();
+		const elementEinheit : List<number> = new ArrayList<number>();
+		this._elementLerngruppen = new ArrayList<List<StundenplanblockungManagerLerngruppe>>();
+		for (let u : number = 0; u < nEinheiten; u++) {
+			let maxStunden : number = 0;
+			for (const gr of einheiten.get(u))
+				maxStunden = Math.max(maxStunden, gr.getStunden());
+			for (let stunde : number = 0; stunde < maxStunden; stunde++) {
+				const gruppen : List<StundenplanblockungManagerLerngruppe> = new ArrayList<StundenplanblockungManagerLerngruppe>();
+				const ressourcen : List<number> = new ArrayList<number>();
+				for (const gr of einheiten.get(u)) {
+					if (gr.getStunden() <= stunde)
+						continue;
+					gruppen.add(gr);
+					for (const le of gr.getLehrkraefte())
+						StundenplanblockungDynDaten.fuegeRessourceHinzu(ressourcen, StundenplanblockungDynDaten.gibRessource(mapLehrkraft, le.getID(), StundenplanblockungDynDaten.TYP_LEHRKRAFT, ressourceTyp));
+					for (const kl of gr.getKlassen())
+						StundenplanblockungDynDaten.fuegeRessourceHinzu(ressourcen, StundenplanblockungDynDaten.gibRessource(mapKlasse, kl.getID(), StundenplanblockungDynDaten.TYP_KLASSE, ressourceTyp));
+					for (const ra of gr.getRaeume())
+						StundenplanblockungDynDaten.fuegeRessourceHinzu(ressourcen, StundenplanblockungDynDaten.gibRessource(mapRaum, ra.getID(), StundenplanblockungDynDaten.TYP_RAUM, ressourceTyp));
+				}
+				const arr : Array<number> = Array(ressourcen.size()).fill(0);
+				for (let i : number = 0; i < arr.length; i++)
+					arr[i] = ressourcen.get(i).valueOf();
+				elementRessourcen.add(arr);
+				elementEinheit.add(u);
+				this._elementLerngruppen.add(gruppen);
+			}
+		}
+		const nRessourcen : number = ressourceTyp.size();
+		const nElemente : number = elementRessourcen.size();
+		this._ressourceTyp = Array(nRessourcen).fill(0);
+		for (let r : number = 0; r < nRessourcen; r++)
+			this._ressourceTyp[r] = ressourceTyp.get(r).valueOf();
+		this._belegung = [...Array(nRessourcen)].map(e => Array(this._slots).fill(0));
+		for (let r : number = 0; r < nRessourcen; r++)
+			for (let s : number = 0; s < this._slots; s++)
+				this._belegung[r][s] = -1;
+		this._elementRessourcen = [...Array(nElemente)].map(e => Array(0).fill(0));
+		this._elementEinheit = Array(nElemente).fill(0);
+		this._elementSlot = Array(nElemente).fill(0);
+		this._besterSlot = Array(nElemente).fill(0);
+		for (let e : number = 0; e < nElemente; e++) {
+			this._elementRessourcen[e] = elementRessourcen.get(e);
+			this._elementEinheit[e] = elementEinheit.get(e).valueOf();
+			this._elementSlot[e] = -1;
+			this._besterSlot[e] = -1;
+		}
+		this._einheitTagAnzahl = [...Array(nEinheiten)].map(e => Array(this._tage).fill(0));
+		this._anzahlNichtVerteilt = nElemente;
+		this._besterNichtVerteilt = nElemente;
+		this._besteBewertung = 0;
+	}
+
+	private static gibWurzel(einheitVon : Array<number>, i : number) : number {
+		let w : number = i;
+		while (einheitVon[w] !== w)
+			w = einheitVon[w];
+		return w;
+	}
+
+	private static gibRessource(map : HashMap<number, number>, id : number, typ : number, ressourceTyp : List<number>) : number {
+		const r : number | null = map.get(id);
+		if (r !== null)
+			return r;
+		const neu : number = ressourceTyp.size();
+		ressourceTyp.add(typ);
+		map.put(id, neu);
+		return neu;
+	}
+
+	private static fuegeRessourceHinzu(ressourcen : List<number>, r : number) : void {
+		if (!ressourcen.contains(r))
+			ressourcen.add(r);
+	}
+
+	/**
+	 * Liefert die Anzahl aller Elemente, d.h. aller zu verteilenden Stunden.
+	 *
+	 * @return Die Anzahl aller Elemente.
+	 */
+	public gibAnzahlElemente() : number {
+		return this._elementSlot.length;
+	}
+
+	/**
+	 * Liefert die Anzahl der nicht verteilten Elemente des aktuellen Zustandes.
+	 *
+	 * @return Die Anzahl der nicht verteilten Elemente des aktuellen Zustandes.
+	 */
+	public gibAnzahlNichtVerteilt() : number {
+		return this._anzahlNichtVerteilt;
+	}
+
+	/**
+	 * Liefert die gewichtete Summe aller weichen Kriterien des aktuellen Zustandes.
+	 *
+	 * @return Die gewichtete Summe aller weichen Kriterien des aktuellen Zustandes.
+	 */
+	public gibBewertung() : number {
+		return this._bewertung;
+	}
+
+	private gibBewertungRessourceTag(r : number, tag : number) : number {
+		const typ : number = this._ressourceTyp[r];
+		if (typ === StundenplanblockungDynDaten.TYP_RAUM)
+			return 0;
+		const beginn : number = tag * this._stundenProTag;
+		let erste : number = -1;
+		let letzte : number = -1;
+		let anzahl : number = 0;
+		let spaet : number = 0;
+		for (let stunde : number = 0; stunde < this._stundenProTag; stunde++)
+			if (this._belegung[r][beginn + stunde] >= 0) {
+				if (erste < 0)
+					erste = stunde;
+				letzte = stunde;
+				anzahl++;
+				if (stunde >= StundenplanblockungDynDaten.FRUEHE_STUNDEN)
+					spaet += stunde - StundenplanblockungDynDaten.FRUEHE_STUNDEN + 1;
+			}
+		if (anzahl === 0)
+			return 0;
+		const springstunden : number = letzte - erste + 1 - anzahl;
+		if (typ === StundenplanblockungDynDaten.TYP_KLASSE)
+			return springstunden * StundenplanblockungDynDaten.GEWICHT_SPRINGSTUNDE_KLASSE + spaet * StundenplanblockungDynDaten.GEWICHT_SPAETE_STUNDE;
+		return springstunden * StundenplanblockungDynDaten.GEWICHT_SPRINGSTUNDE_LEHRKRAFT;
+	}
+
+	private gibBewertungElementTag(e : number, tag : number) : number {
+		let summe : number = 0;
+		for (const r of this._elementRessourcen[e])
+			summe += this.gibBewertungRessourceTag(r, tag);
+		const anzahl : number = this._einheitTagAnzahl[this._elementEinheit[e]][tag];
+		if (anzahl > 1)
+			summe += (anzahl - 1) * StundenplanblockungDynDaten.GEWICHT_MEHRFACH_AM_TAG;
+		return summe;
+	}
+
+	private istFrei(e : number, slot : number) : boolean {
+		for (const r of this._elementRessourcen[e])
+			if (this._belegung[r][slot] >= 0)
+				return false;
+		return true;
+	}
+
+	private setze(e : number, slot : number) : void {
+		const tag : number = Math.trunc(slot / this._stundenProTag);
+		this._bewertung -= this.gibBewertungElementTag(e, tag);
+		for (const r of this._elementRessourcen[e])
+			this._belegung[r][slot] = e;
+		this._einheitTagAnzahl[this._elementEinheit[e]][tag]++;
+		this._elementSlot[e] = slot;
+		this._anzahlNichtVerteilt--;
+		this._bewertung += this.gibBewertungElementTag(e, tag);
+	}
+
+	private entferne(e : number) : void {
+		const slot : number = this._elementSlot[e];
+		const tag : number = Math.trunc(slot / this._stundenProTag);
+		this._bewertung -= this.gibBewertungElementTag(e, tag);
+		for (const r of this._elementRessourcen[e])
+			this._belegung[r][slot] = -1;
+		this._einheitTagAnzahl[this._elementEinheit[e]][tag]--;
+		this._elementSlot[e] = -1;
+		this._anzahlNichtVerteilt++;
+		this._bewertung += this.gibBewertungElementTag(e, tag);
+	}
+
+	/**
+	 * Liefert den freien Zeitslot, in welchem das (nicht verteilte) Element die beste Bewertung erzielt, oder -1, falls
+	 * es keinen freien Zeitslot gibt. Bei gleicher Bewertung entscheidet der Zufall über den Startpunkt der Suche.
+	 */
+	private gibBestenFreienSlot(e : number) : number {
+		if (this._slots === 0)
+			return -1;
+		let bester : number = -1;
+		let besteBewertung : number = 0;
+		const start : number = this._random.nextInt(this._slots);
+		for (let i : number = 0; i < this._slots; i++) {
+			const slot : number = (start + i) % this._slots;
+			if (!this.istFrei(e, slot))
+				continue;
+			this.setze(e, slot);
+			if ((bester < 0) || (this._bewertung < besteBewertung)) {
+				bester = slot;
+				besteBewertung = this._bewertung;
+			}
+			this.entferne(e);
+		}
+		return bester;
+	}
+
+	private istBesserAlsBester() : boolean {
+		return (this._anzahlNichtVerteilt < this._besterNichtVerteilt) || ((this._anzahlNichtVerteilt === this._besterNichtVerteilt) && (this._bewertung < this._besteBewertung));
+	}
+
+	private speichereZustandFallsBesser() : void {
+		if (!this.istBesserAlsBester())
+			return;
+		System.arraycopy(this._elementSlot, 0, this._besterSlot, 0, this._elementSlot.length);
+		this._besterNichtVerteilt = this._anzahlNichtVerteilt;
+		this._besteBewertung = this._bewertung;
+	}
+
+	/**
+	 * Verteilt alle Elemente konstruktiv. Elemente mit vielen Ressourcen werden zuerst verteilt und jeweils in den
+	 * freien Zeitslot mit der besten Bewertung gesetzt.
+	 */
+	public aktionVerteileKonstruktiv() : void {
+		const n : number = this._elementSlot.length;
+		for (let e : number = 0; e < n; e++)
+			if (this._elementSlot[e] >= 0)
+				this.entferne(e);
+		const reihenfolge : Array<number> = Array(n).fill(0);
+		for (let i : number = 0; i < n; i++)
+			reihenfolge[i] = i;
+		for (let i : number = n - 1; i > 0; i--) {
+			const j : number = this._random.nextInt(i + 1);
+			const temp : number = reihenfolge[i];
+			reihenfolge[i] = reihenfolge[j];
+			reihenfolge[j] = temp;
+		}
+		for (let i : number = 1; i < n; i++) {
+			const e : number = reihenfolge[i];
+			let j : number = i - 1;
+			while ((j >= 0) && (this._elementRessourcen[reihenfolge[j]].length < this._elementRessourcen[e].length)) {
+				reihenfolge[j + 1] = reihenfolge[j];
+				j--;
+			}
+			reihenfolge[j + 1] = e;
+		}
+		for (const e of reihenfolge) {
+			const slot : number = this.gibBestenFreienSlot(e);
+			if (slot >= 0)
+				this.setze(e, slot);
+		}
+		this.speichereZustandFallsBesser();
+	}
+
+	/**
+	 * Führt einen Schritt der lokalen Suche durch. Ein nicht verteiltes Element wird unter Verdrängung von höchstens
+	 * zwei kollidierenden Elementen gesetzt, ein verteiltes Element wird verschoben oder zwei verteilte Elemente werden
+	 * getauscht. Verschlechterungen werden rückgängig gemacht.
+	 */
+	public aktionVerbessere() : void {
+		const n : number = this._elementSlot.length;
+		if ((n === 0) || (this._slots === 0))
+			return;
+		if ((this._anzahlNichtVerteilt > 0) && this._random.nextBoolean())
+			this.verbessereDurchVerdraengen();
+		else
+			if (this._random.nextBoolean())
+				this.verbessereDurchVerschieben(this._random.nextInt(n));
+			else
+				this.verbessereDurchTauschen(this._random.nextInt(n), this._random.nextInt(n));
+		this.speichereZustandFallsBesser();
+	}
+
+	private verbessereDurchVerdraengen() : void {
+		const n : number = this._elementSlot.length;
+		const start : number = this._random.nextInt(n);
+		let e : number = -1;
+		for (let i : number = 0; (i < n) && (e < 0); i++)
+			if (this._elementSlot[(start + i) % n] < 0)
+				e = (start + i) % n;
+		if (e < 0)
+			return;
+		const slot : number = this._random.nextInt(this._slots);
+		const verdraengt : List<number> = new ArrayList<number>();
+		for (const r of this._elementRessourcen[e]) {
+			const f : number = this._belegung[r][slot];
+			if ((f >= 0) && (!verdraengt.contains(f)))
+				verdraengt.add(f);
+		}
+		if (verdraengt.size() > 2)
+			return;
+		const alteNichtVerteilt : number = this._anzahlNichtVerteilt;
+		const alteBewertung : number = this._bewertung;
+		for (const f of verdraengt)
+			this.entferne(f);
+		this.setze(e, slot);
+		for (const f of verdraengt) {
+			const neuerSlot : number = this.gibBestenFreienSlot(f);
+			if (neuerSlot >= 0)
+				this.setze(f, neuerSlot);
+		}
+		if ((this._anzahlNichtVerteilt < alteNichtVerteilt) || ((this._anzahlNichtVerteilt === alteNichtVerteilt) && (this._bewertung <= alteBewertung)))
+			return;
+		for (const f of verdraengt)
+			if (this._elementSlot[f] >= 0)
+				this.entferne(f);
+		this.entferne(e);
+		for (const f of verdraengt)
+			this.setze(f, slot);
+	}
+
+	private verbessereDurchVerschieben(e : number) : void {
+		const alterSlot : number = this._elementSlot[e];
+		if (alterSlot < 0)
+			return;
+		const neuerSlot : number = this._random.nextInt(this._slots);
+		if ((neuerSlot === alterSlot) || (!this.istFrei(e, neuerSlot)))
+			return;
+		const alteBewertung : number = this._bewertung;
+		this.entferne(e);
+		this.setze(e, neuerSlot);
+		if (this._bewertung <= alteBewertung)
+			return;
+		this.entferne(e);
+		this.setze(e, alterSlot);
+	}
+
+	private verbessereDurchTauschen(e1 : number, e2 : number) : void {
+		const slot1 : number = this._elementSlot[e1];
+		const slot2 : number = this._elementSlot[e2];
+		if ((slot1 < 0) || (slot2 < 0) || (slot1 === slot2))
+			return;
+		const alteBewertung : number = this._bewertung;
+		this.entferne(e1);
+		this.entferne(e2);
+		if (this.istFrei(e1, slot2)) {
+			this.setze(e1, slot2);
+			if (this.istFrei(e2, slot1)) {
+				this.setze(e2, slot1);
+				if (this._bewertung <= alteBewertung)
+					return;
+				this.entferne(e2);
+			}
+			this.entferne(e1);
+		}
+		this.setze(e1, slot1);
+		this.setze(e2, slot2);
+	}
+
+	/**
+	 * Stellt den besten bisher gefundenen Zustand wieder her.
+	 */
+	public aktionZustandLadenBester() : void {
+		for (let e : number = 0; e < this._elementSlot.length; e++)
+			if (this._elementSlot[e] >= 0)
+				this.entferne(e);
+		for (let e : number = 0; e < this._besterSlot.length; e++)
+			if (this._besterSlot[e] >= 0)
+				this.setze(e, this._besterSlot[e]);
+	}
+
+	/**
+	 * Schreibt die Lage des aktuellen Zustandes in die Lerngruppen und die Bewertung in die Statistik des Managers.
+	 *
+	 * @param pInput  Der Manager, in welchen das Ergebnis geschrieben wird.
+	 */
+	public aktionSchreibeErgebnis(pInput : StundenplanblockungManager) : void {
+		const mapLage : HashMap<number, List<number>> = new HashMap<number, List<number>>();
+		for (const gr of this._lerngruppen)
+			mapLage.put(gr.getID(), new ArrayList<number>());
+		for (let e : number = 0; e < this._elementSlot.length; e++)
+			if (this._elementSlot[e] >= 0)
+				for (const gr of this._elementLerngruppen.get(e)) {
+					const lage : List<number> | null = mapLage.get(gr.getID());
+					if (lage !== null)
+						lage.add(this._elementSlot[e]);
+				}
+		for (const gr of this._lerngruppen) {
+			const lage : List<number> | null = mapLage.get(gr.getID());
+			if (lage !== null)
+				gr.setLage(lage);
+		}
+		let springstundenKlassen : number = 0;
+		let springstundenLehrkraefte : number = 0;
+		for (let r : number = 0; r < this._ressourceTyp.length; r++)
+			for (let tag : number = 0; tag < this._tage; tag++)
+				if (this._ressourceTyp[r] === StundenplanblockungDynDaten.TYP_KLASSE)
+					springstundenKlassen += this.gibAnzahlSpringstunden(r, tag);
+				else
+					if (this._ressourceTyp[r] === StundenplanblockungDynDaten.TYP_LEHRKRAFT)
+						springstundenLehrkraefte += this.gibAnzahlSpringstunden(r, tag);
+		let mehrfachAmTag : number = 0;
+		for (const anzahlen of this._einheitTagAnzahl)
+			for (const anzahl of anzahlen)
+				if (anzahl > 1)
+					mehrfachAmTag += anzahl - 1;
+		const statistik : StundenplanblockungManagerStatistik = pInput.getStatistik();
+		statistik.setAnzahlStunden(this._elementSlot.length);
+		statistik.setAnzahlNichtVerteilt(this._anzahlNichtVerteilt);
+		statistik.setAnzahlSpringstundenKlassen(springstundenKlassen);
+		statistik.setAnzahlSpringstundenLehrkraefte(springstundenLehrkraefte);
+		statistik.setAnzahlMehrfachAmTag(mehrfachAmTag);
+		statistik.setBewertung(this._bewertung);
+	}
+
+	private gibAnzahlSpringstunden(r : number, tag : number) : number {
+		const beginn : number = tag * this._stundenProTag;
+		let erste : number = -1;
+		let letzte : number = -1;
+		let anzahl : number = 0;
+		for (let stunde : number = 0; stunde < this._stundenProTag; stunde++)
+			if (this._belegung[r][beginn + stunde] >= 0) {
+				if (erste < 0)
+					erste = stunde;
+				letzte = stunde;
+				anzahl++;
+			}
+		return (anzahl === 0) ? 0 : (letzte - erste + 1 - anzahl);
+	}
+
+	transpilerCanonicalName(): string {
+		return 'de.svws_nrw.core.stundenplanblockung.StundenplanblockungDynDaten';
+	}
+
+	isTranspiledInstanceOf(name : string): boolean {
+		return ['de.svws_nrw.core.stundenplanblockung.StundenplanblockungDynDaten'].includes(name);
+	}
+
+}
+
+export function cast_de_svws_nrw_core_stundenplanblockung_StundenplanblockungDynDaten(obj : unknown) : StundenplanblockungDynDaten {
+	return obj as StundenplanblockungDynDaten;
+}
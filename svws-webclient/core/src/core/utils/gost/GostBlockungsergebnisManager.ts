@@ -54,6 +54,21 @@ import { ListUtils } from '../../../core/utils/ListUtils';
 
 export class GostBlockungsergebnisManager extends JavaObject {
 
+	/**
+	 * Alle Regel-Typen, welche validiert werden, in der Reihenfolge ihrer Validierung.
+	 */
+	private static readonly REGELTYPEN_VALIDIERUNG : Array<number> = [1, 2, 3, 4, 5, 6, 7, 8, 10, 11, 12, 13, 14, 15, 18];
+
+	/**
+	 * Die Regel-Typen, deren Validierung nur von den Kurs-Schienen-Zuordnungen abhängt.
+	 */
+	private static readonly REGELTYPEN_VALIDIERUNG_KURS_SCHIENE : Array<number> = [1, 2, 3, 6, 7, 8, 10, 18];
+
+	/**
+	 * Die Regel-Typen, deren Validierung nur von den Kurs-Schüler-Zuordnungen abhängt.
+	 */
+	private static readonly REGELTYPEN_VALIDIERUNG_KURS_SCHUELER : Array<number> = [4, 5, 11, 12, 13, 14, 15];
+
 	/**
 	 * Der Blockungsdaten-Manager ist das Elternteil dieses Objektes.
 	 */
@@ -204,6 +219,11 @@ export class GostBlockungsergebnisManager extends JavaObject {
 	 */
 	private readonly _regelID_to_verletzungString : JavaMap<number, string> = new HashMap();
 
+	/**
+	 * Von Regel-TYP nach List (alle IDs der verletzten Regeln des Typs, ggf. mehrfach).
+	 */
+	private readonly _regelTyp_to_regelIDverletzungList : JavaMap<number, List<number>> = new HashMap();
+
 	/**
 	 * Textuelle Darstellung aller Regelverletzungen der definierten Regeln.
 	 */
@@ -351,15 +371,9 @@ export class GostBlockungsergebnisManager extends JavaObject {
 				eSchiene.kurse.add(eKurs);
 			}
 		}
-		for (const schiene of this._ergebnis.schienen) {
-			const kursmenge : List<GostBlockungsergebnisKurs> = schiene.kurse;
-			if (this._fachartmenge_sortierung === 1) {
-				kursmenge.sort(this._kursComparator_kursart_fach_kursnummer);
-			} else {
-				kursmenge.sort(this._kursComparator_fach_kursart_kursnummer);
-			}
-		}
 		this._ergebnis.schienen.addAll(this._schienenID_to_schiene.values());
+		for (const schiene of this._ergebnis.schienen)
+			this.stateSchieneKursmengeSortieren(schiene);
 		this.stateClearErgebnisBewertung1();
 		this.stateClearErgebnisBewertung2();
 		this.stateClearErgebnisBewertung3();
@@ -368,40 +382,19 @@ export class GostBlockungsergebnisManager extends JavaObject {
 	}
 
 	private stateClearErgebnisBewertung1() : void {
-		const regelVerletzungen : List<number> = this._ergebnis.bewertung.regelVerletzungen;
-		regelVerletzungen.clear();
 		this._regelTyp_to_verletzungList.clear();
 		this._regelID_to_verletzungString.clear();
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURSART_SPERRE_SCHIENEN_VON_BIS))
-			this.stateRegelvalidierung1_kursart_sperren_in_schiene_von_bis(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURS_FIXIERE_IN_SCHIENE))
-			this.stateRegelvalidierung2_kurs_fixieren_in_schiene(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURS_SPERRE_IN_SCHIENE))
-			this.stateRegelvalidierung3_kurs_sperren_in_schiene(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.SCHUELER_FIXIEREN_IN_KURS))
-			this.stateRegelvalidierung4_schueler_fixieren_in_kurs(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.SCHUELER_VERBIETEN_IN_KURS))
-			this.stateRegelvalidierung5_schueler_verbieten_in_kurs(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURSART_ALLEIN_IN_SCHIENEN_VON_BIS))
-			this.stateRegelvalidierung6_kursart_allein_in_schiene_von_bis(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURS_VERBIETEN_MIT_KURS))
-			this.stateRegelvalidierung7_kurs_verbieten_mit_kurs(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURS_ZUSAMMEN_MIT_KURS))
-			this.stateRegelvalidierung8_kurs_zusammen_mit_kurs(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.LEHRKRAEFTE_BEACHTEN))
-			this.stateRegelvalidierung10_lehrkraefte_beachten(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.SCHUELER_ZUSAMMEN_MIT_SCHUELER_IN_FACH))
-			this.stateRegelvalidierung11_schueler_zusammen_mit_schueler_in_fach(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.SCHUELER_VERBIETEN_MIT_SCHUELER_IN_FACH))
-			this.stateRegelvalidierung12_schueler_verbieten_mit_schueler_in_fach(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.SCHUELER_ZUSAMMEN_MIT_SCHUELER))
-			this.stateRegelvalidierung13_schueler_zusammen_mit_schueler(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.SCHUELER_VERBIETEN_MIT_SCHUELER))
-			this.stateRegelvalidierung14_schueler_verbieten_mit_schueler(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.KURS_MAXIMALE_SCHUELERANZAHL))
-			this.stateRegelvalidierung15_kurs_maximale_schueleranzahl(r, regelVerletzungen);
-		for (const r of this._parent.regelGetListeOfTyp(GostKursblockungRegelTyp.FACH_KURSART_MAXIMALE_ANZAHL_PRO_SCHIENE))
-			this.stateRegelvalidierung18_fach_kursart_maxProSchiene(r, regelVerletzungen);
+		this._regelTyp_to_regelIDverletzungList.clear();
+		for (const idRegeltyp of GostBlockungsergebnisManager.REGELTYPEN_VALIDIERUNG)
+			this.stateRegelvalidierungOfTyp(idRegeltyp);
+		this.stateClearErgebnisBewertung1Zusammenfassen();
+	}
+
+	private stateClearErgebnisBewertung1Zusammenfassen() : void {
+		const regelVerletzungen : List<number> = this._ergebnis.bewertung.regelVerletzungen;
+		regelVerletzungen.clear();
+		for (const idRegeltyp of GostBlockungsergebnisManager.REGELTYPEN_VALIDIERUNG)
+			regelVerletzungen.addAll(MapUtils.getOrCreateArrayList(this._regelTyp_to_regelIDverletzungList, idRegeltyp));
 		this._ergebnis.bewertung.anzahlKurseNichtZugeordnet = 0;
 		for (const idKurs of this._kursID_to_schienenSet.keySet()) {
 			const sizeSoll : number = DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_kurs, idKurs).anzahlSchienen;
@@ -765,51 +758,60 @@ export class GostBlockungsergebnisManager extends JavaObject {
 
 	private update_2_fachartID_to_kursdifferenz() : void {
 		this._fachartID_to_kursdifferenz.clear();
-		for (const idFachart of this._fachartID_to_kurseList.keySet()) {
-			const kursmenge : List<GostBlockungsergebnisKurs> | null = DeveloperNotificationException.ifMapGetIsNull(this._fachartID_to_kurseList, idFachart);
-			let min : number = 10000;
-			let max : number = 0;
-			for (const kurs of kursmenge) {
-				const keyIgnoreID : LongArrayKey = new LongArrayKey([GostKursblockungRegelTyp.KURS_KURSDIFFERENZ_BEI_DER_VISUALISIERUNG_IGNORIEREN.typ, kurs.id]);
-				if (this._parent.regelGetByLongArrayKeyOrNull(keyIgnoreID) !== null)
-					continue;
-				const size : number = DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schuelerIDSet, kurs.id).size() + DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_dummySuS, kurs.id);
-				min = Math.min(min, size);
-				max = Math.max(max, size);
-			}
-			let newKD : number = max - min;
-			if (newKD < 0)
-				newKD = 0;
-			this._fachartID_to_kursdifferenz.put(idFachart, newKD);
+		for (const idFachart of this._fachartID_to_kurseList.keySet())
+			this.update_2_fachartID_to_kursdifferenz_ofFachart(idFachart);
+	}
+
+	private update_2_fachartID_to_kursdifferenz_ofFachart(idFachart : number) : void {
+		const kursmenge : List<GostBlockungsergebnisKurs> | null = DeveloperNotificationException.ifMapGetIsNull(this._fachartID_to_kurseList, idFachart);
+		let min : number = 10000;
+		let max : number = 0;
+		for (const kurs of kursmenge) {
+			const keyIgnoreID : LongArrayKey = new LongArrayKey([GostKursblockungRegelTyp.KURS_KURSDIFFERENZ_BEI_DER_VISUALISIERUNG_IGNORIEREN.typ, kurs.id]);
+			if (this._parent.regelGetByLongArrayKeyOrNull(keyIgnoreID) !== null)
+				continue;
+			const size : number = DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schuelerIDSet, kurs.id).size() + DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_dummySuS, kurs.id);
+			min = Math.min(min, size);
+			max = Math.max(max, size);
 		}
+		let newKD : number = max - min;
+		if (newKD < 0)
+			newKD = 0;
+		this._fachartID_to_kursdifferenz.put(idFachart, newKD);
 	}
 
 	private update_2_schienenID_to_kollisionen() : void {
 		this._schienenID_to_kollisionen.clear();
-		for (const idSchiene of this._schienenID_to_kursIDSet.keySet()) {
-			const kursmenge : JavaSet<number> = DeveloperNotificationException.ifMapGetIsNull(this._schienenID_to_kursIDSet, idSchiene);
-			let summeMitDoppelten : number = 0;
-			const summeOhneDoppelte : HashSet<number> = new HashSet();
-			for (const idKurs of kursmenge) {
-				const schuelermenge : JavaSet<number> = DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schuelerIDSet, idKurs);
-				summeMitDoppelten += schuelermenge.size();
-				summeOhneDoppelte.addAll(schuelermenge);
-			}
-			this._schienenID_to_kollisionen.put(idSchiene, summeMitDoppelten - summeOhneDoppelte.size());
+		for (const idSchiene of this._schienenID_to_kursIDSet.keySet())
+			this.update_2_schienenID_to_kollisionen_ofSchiene(idSchiene);
+	}
+
+	private update_2_schienenID_to_kollisionen_ofSchiene(idSchiene : number) : void {
+		const kursmenge : JavaSet<number> = DeveloperNotificationException.ifMapGetIsNull(this._schienenID_to_kursIDSet, idSchiene);
+		let summeMitDoppelten : number = 0;
+		const summeOhneDoppelte : HashSet<number> = new HashSet();
+		for (const idKurs of kursmenge) {
+			const schuelermenge : JavaSet<number> = DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schuelerIDSet, idKurs);
+			summeMitDoppelten += schuelermenge.size();
+			summeOhneDoppelte.addAll(schuelermenge);
 		}
+		this._schienenID_to_kollisionen.put(idSchiene, summeMitDoppelten - summeOhneDoppelte.size());
 	}
 
 	private update_2_schienenID_to_susAnzahl() : void {
 		this._schienenID_to_susAnzahl.clear();
-		for (const idSchiene of this._schienenID_to_kursIDSet.keySet()) {
-			const kursmenge : JavaSet<number> = DeveloperNotificationException.ifMapGetIsNull(this._schienenID_to_kursIDSet, idSchiene);
-			let summeMitDoppelten : number = 0;
-			for (const idKurs of kursmenge) {
-				const schuelermenge : JavaSet<number> = DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schuelerIDSet, idKurs);
-				summeMitDoppelten += schuelermenge.size();
-			}
-			this._schienenID_to_susAnzahl.put(idSchiene, summeMitDoppelten);
+		for (const idSchiene of this._schienenID_to_kursIDSet.keySet())
+			this.update_2_schienenID_to_susAnzahl_ofSchiene(idSchiene);
+	}
+
+	private update_2_schienenID_to_susAnzahl_ofSchiene(idSchiene : number) : void {
+		const kursmenge : JavaSet<number> = DeveloperNotificationException.ifMapGetIsNull(this._schienenID_to_kursIDSet, idSchiene);
+		let summeMitDoppelten : number = 0;
+		for (const idKurs of kursmenge) {
+			const schuelermenge : JavaSet<number> = DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schuelerIDSet, idKurs);
+			summeMitDoppelten += schuelermenge.size();
 		}
+		this._schienenID_to_susAnzahl.put(idSchiene, summeMitDoppelten);
 	}
 
 	private update_2_schuelerID_schienenID_to_kurseSet() : void {
@@ -830,27 +832,36 @@ export class GostBlockungsergebnisManager extends JavaObject {
 
 	private update_2_schienenID_fachartID_to_kurseList() : void {
 		this._schienenID_fachartID_to_kurseList.clear();
-		for (const eKurs of this._kursID_to_kurs.values()) {
-			const fachartID : number = GostKursart.getFachartID(eKurs.fachID, eKurs.kursart);
-			for (const eSchiene of MapUtils.getOrCreateHashSet(this._kursID_to_schienenSet, eKurs.id))
-				Map2DUtils.getOrCreateArrayList(this._schienenID_fachartID_to_kurseList, eSchiene.id, fachartID).add(eKurs);
-		}
 		for (const idSchiene of this._schienenIDset)
 			for (const idFachart of this._fachartID_to_kurseList.keySet())
-				Map2DUtils.getOrCreateArrayList(this._schienenID_fachartID_to_kurseList, idSchiene, idFachart);
+				this.update_2_schienenID_fachartID_to_kurseList_ofSchieneUndFachart(idSchiene, idFachart);
+	}
+
+	private update_2_schienenID_fachartID_to_kurseList_ofSchieneUndFachart(idSchiene : number, idFachart : number) : void {
+		const eSchiene : GostBlockungsergebnisSchiene = DeveloperNotificationException.ifMapGetIsNull(this._schienenID_to_schiene, idSchiene);
+		const kursmenge : List<GostBlockungsergebnisKurs> = Map2DUtils.getOrCreateArrayList(this._schienenID_fachartID_to_kurseList, idSchiene, idFachart);
+		kursmenge.clear();
+		for (const eKurs of DeveloperNotificationException.ifMapGetIsNull(this._fachartID_to_kurseList, idFachart))
+			if (DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schienenSet, eKurs.id).contains(eSchiene))
+				kursmenge.add(eKurs);
 	}
 
 	private update_3_schuelerID_to_kollisionen() : void {
 		this._schuelerID_to_kollisionen.clear();
-		for (const idSchueler of this._schuelerID_schienenID_to_kurseSet.getKeySet()) {
-			let summeAllerKollisionenDesSchuelers : number = 0;
-			for (const idSchiene of this._schuelerID_schienenID_to_kurseSet.getKeySetOf(idSchueler)) {
-				const kurseInDerSchiene : number = this._schuelerID_schienenID_to_kurseSet.getNonNullOrException(idSchueler, idSchiene).size();
-				if (kurseInDerSchiene >= 2)
-					summeAllerKollisionenDesSchuelers += kurseInDerSchiene - 1;
-			}
-			this._schuelerID_to_kollisionen.put(idSchueler, summeAllerKollisionenDesSchuelers);
+		for (const idSchueler of this._schuelerID_schienenID_to_kurseSet.getKeySet())
+			this.update_3_schuelerID_to_kollisionen_ofSchueler(idSchueler);
+	}
+
+	private update_3_schuelerID_to_kollisionen_ofSchueler(idSchueler : number) : void {
+		if (!this._schuelerID_schienenID_to_kurseSet.containsKey1(idSchueler))
+			return;
+		let summeAllerKollisionenDesSchuelers : number = 0;
+		for (const idSchiene of this._schuelerID_schienenID_to_kurseSet.getKeySetOf(idSchueler)) {
+			const kurseInDerSchiene : number = this._schuelerID_schienenID_to_kurseSet.getNonNullOrException(idSchueler, idSchiene).size();
+			if (kurseInDerSchiene >= 2)
+				summeAllerKollisionenDesSchuelers += kurseInDerSchiene - 1;
 		}
+		this._schuelerID_to_kollisionen.put(idSchueler, summeAllerKollisionenDesSchuelers);
 	}
 
 	private update_3_schuelerID_fachID_to_kurs_or_null() : void {
@@ -863,6 +874,89 @@ export class GostBlockungsergebnisManager extends JavaObject {
 				this._schuelerID_fachID_to_kurs_or_null.put(gFachwahl.schuelerID, gFachwahl.fachID, null);
 	}
 
+	private update_3_schuelerID_fachID_to_kurs_or_null_ofSchueler(idSchueler : number) : void {
+		if (this._schuelerID_fachID_to_kurs_or_null.containsKey1(idSchueler))
+			for (const idFach of this._schuelerID_fachID_to_kurs_or_null.getKeySetOf(idSchueler))
+				this._schuelerID_fachID_to_kurs_or_null.put(idSchueler, idFach, null);
+		for (const eKurs of MapUtils.getOrCreateHashSet(this._schuelerID_to_kurseSet, idSchueler))
+			this._schuelerID_fachID_to_kurs_or_null.put(idSchueler, eKurs.fachID, eKurs);
+	}
+
+	private stateRegelvalidierungOfTyp(idRegeltyp : number) : void {
+		for (const idRegel of MapUtils.getOrCreateArrayList(this._regelTyp_to_regelIDverletzungList, idRegeltyp))
+			this._regelID_to_verletzungString.remove(idRegel);
+		this._regelTyp_to_verletzungList.remove(idRegeltyp);
+		const regelVerletzungen : List<number> = new ArrayList<number>();
+		this._regelTyp_to_regelIDverletzungList.put(idRegeltyp, regelVerletzungen);
+		const typ : GostKursblockungRegelTyp = GostKursblockungRegelTyp.fromTyp(idRegeltyp);
+		for (const r of this._parent.regelGetListeOfTyp(typ))
+			switch (typ) {
+				case GostKursblockungRegelTyp.KURSART_SPERRE_SCHIENEN_VON_BIS: {
+					this.stateRegelvalidierung1_kursart_sperren_in_schiene_von_bis(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.KURS_FIXIERE_IN_SCHIENE: {
+					this.stateRegelvalidierung2_kurs_fixieren_in_schiene(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.KURS_SPERRE_IN_SCHIENE: {
+					this.stateRegelvalidierung3_kurs_sperren_in_schiene(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.SCHUELER_FIXIEREN_IN_KURS: {
+					this.stateRegelvalidierung4_schueler_fixieren_in_kurs(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.SCHUELER_VERBIETEN_IN_KURS: {
+					this.stateRegelvalidierung5_schueler_verbieten_in_kurs(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.KURSART_ALLEIN_IN_SCHIENEN_VON_BIS: {
+					this.stateRegelvalidierung6_kursart_allein_in_schiene_von_bis(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.KURS_VERBIETEN_MIT_KURS: {
+					this.stateRegelvalidierung7_kurs_verbieten_mit_kurs(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.KURS_ZUSAMMEN_MIT_KURS: {
+					this.stateRegelvalidierung8_kurs_zusammen_mit_kurs(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.LEHRKRAEFTE_BEACHTEN: {
+					this.stateRegelvalidierung10_lehrkraefte_beachten(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.SCHUELER_ZUSAMMEN_MIT_SCHUELER_IN_FACH: {
+					this.stateRegelvalidierung11_schueler_zusammen_mit_schueler_in_fach(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.SCHUELER_VERBIETEN_MIT_SCHUELER_IN_FACH: {
+					this.stateRegelvalidierung12_schueler_verbieten_mit_schueler_in_fach(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.SCHUELER_ZUSAMMEN_MIT_SCHUELER: {
+					this.stateRegelvalidierung13_schueler_zusammen_mit_schueler(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.SCHUELER_VERBIETEN_MIT_SCHUELER: {
+					this.stateRegelvalidierung14_schueler_verbieten_mit_schueler(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.KURS_MAXIMALE_SCHUELERANZAHL: {
+					this.stateRegelvalidierung15_kurs_maximale_schueleranzahl(r, regelVerletzungen);
+					break;
+				}
+				case GostKursblockungRegelTyp.FACH_KURSART_MAXIMALE_ANZAHL_PRO_SCHIENE: {
+					this.stateRegelvalidierung18_fach_kursart_maxProSchiene(r, regelVerletzungen);
+					break;
+				}
+				default: {
+					break;
+				}
+			}
+	}
+
 	private stateRegelvalidierung1_kursart_sperren_in_schiene_von_bis(r : GostBlockungRegel, regelVerletzungen : List<number>) : void {
 		for (let schienenNr : number = r.parameter.get(1)!; schienenNr <= r.parameter.get(2)!; schienenNr++)
 			for (const eKurs of this.getSchieneEmitNr(schienenNr).kurse)
@@ -1175,8 +1269,214 @@ export class GostBlockungsergebnisManager extends JavaObject {
 	 * @param  idSchiene  Die Datenbank-ID der Schiene.
 	 */
 	private stateKursSchieneHinzufuegen(idKurs : number, idSchiene : number) : void {
+		const u : GostBlockungsergebnisKursSchienenZuordnungUpdate = new GostBlockungsergebnisKursSchienenZuordnungUpdate();
+		u.listHinzuzufuegen.add(DTOUtils.newGostBlockungsergebnisKursSchienenZuordnung(idKurs, idSchiene));
+		this.kursSchienenUpdateExecute(u);
+	}
+
+	/**
+	 * Fügt den Schüler dem Kurs hinzu und aktualisiert dabei direkt die Datenstrukturen, welche nur von der
+	 * Zuordnung abhängen. Alle abgeleiteten Werte werden erst mit {@link #stateRevalidateKursSchuelerInkrementell}
+	 * aktualisiert. <br>
+	 * Hinweis: Die Wahl des Kurses muss für diesen Schüler gültig sein.
+	 *
+	 * @param  idSchueler Die Datenbank-ID des Schülers.
+	 * @param  idKurs     Die Datenbank-ID des Kurses.
+	 */
+	private stateSchuelerKursHinzufuegenInkrementell(idSchueler : number, idKurs : number) : void {
+		const eKurs : GostBlockungsergebnisKurs = this.getKursE(idKurs);
+		if (!DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schuelerIDSet, idKurs).add(idSchueler))
+			return;
+		this.stateSchuelerKursHinzufuegenOhneRevalidierung(idSchueler, idKurs);
+		MapUtils.getOrCreateHashSet(this._schuelerID_to_kurseSet, idSchueler).add(eKurs);
+		for (const eSchiene of DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schienenSet, idKurs))
+			Map2DUtils.getOrCreateHashSet(this._schuelerID_schienenID_to_kurseSet, idSchueler, eSchiene.id).add(eKurs);
+	}
+
+	/**
+	 * Entfernt den Schüler aus dem Kurs und aktualisiert dabei direkt die Datenstrukturen, welche nur von der
+	 * Zuordnung abhängen. Alle abgeleiteten Werte werden erst mit {@link #stateRevalidateKursSchuelerInkrementell}
+	 * aktualisiert.
+	 *
+	 * @param  idSchueler Die Datenbank-ID des Schülers.
+	 * @param  idKurs     Die Datenbank-ID des Kurses.
+	 */
+	private stateSchuelerKursEntfernenInkrementell(idSchueler : number, idKurs : number) : void {
+		const eKurs : GostBlockungsergebnisKurs = this.getKursE(idKurs);
+		if (!DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schuelerIDSet, idKurs).remove(idSchueler))
+			return;
+		this.stateSchuelerKursEntfernenOhneRevalidierung(idSchueler, idKurs);
+		MapUtils.getOrCreateHashSet(this._schuelerID_to_kurseSet, idSchueler).remove(eKurs);
+		for (const eSchiene of DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schienenSet, idKurs))
+			Map2DUtils.getOrCreateHashSet(this._schuelerID_schienenID_to_kurseSet, idSchueler, eSchiene.id).remove(eKurs);
+	}
+
+	/**
+	 * Fügt den Kurs der Schiene hinzu und aktualisiert dabei direkt die Datenstrukturen, welche nur von der
+	 * Zuordnung abhängen. Alle abgeleiteten Werte werden erst mit {@link #stateRevalidateKursSchienenInkrementell}
+	 * aktualisiert.
+	 *
+	 * @param  idKurs     Die Datenbank-ID des Kurses.
+	 * @param  idSchiene  Die Datenbank-ID der Schiene.
+	 */
+	private stateKursSchieneHinzufuegenInkrementell(idKurs : number, idSchiene : number) : void {
+		const eKurs : GostBlockungsergebnisKurs = this.getKursE(idKurs);
+		const eSchiene : GostBlockungsergebnisSchiene = this.getSchieneE(idSchiene);
+		if (!DeveloperNotificationException.ifMapGetIsNull(this._schienenID_to_kursIDSet, idSchiene).add(idKurs))
+			return;
 		this.stateKursSchieneHinzufuegenOhneRegelvalidierung(idKurs, idSchiene);
-		this.stateRevalidateEverything();
+		DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schienenSet, idKurs).add(eSchiene);
+		for (const idSchueler of DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schuelerIDSet, idKurs))
+			Map2DUtils.getOrCreateHashSet(this._schuelerID_schienenID_to_kurseSet, idSchueler, idSchiene).add(eKurs);
+	}
+
+	/**
+	 * Entfernt den Kurs aus der Schiene und aktualisiert dabei direkt die Datenstrukturen, welche nur von der
+	 * Zuordnung abhängen. Alle abgeleiteten Werte werden erst mit {@link #stateRevalidateKursSchienenInkrementell}
+	 * aktualisiert.
+	 *
+	 * @param  idKurs     Die Datenbank-ID des Kurses.
+	 * @param  idSchiene  Die Datenbank-ID der Schiene.
+	 */
+	private stateKursSchieneEntfernenInkrementell(idKurs : number, idSchiene : number) : void {
+		const eKurs : GostBlockungsergebnisKurs = this.getKursE(idKurs);
+		const eSchiene : GostBlockungsergebnisSchiene = this.getSchieneE(idSchiene);
+		if (!DeveloperNotificationException.ifMapGetIsNull(this._schienenID_to_kursIDSet, idSchiene).remove(idKurs))
+			return;
+		this.stateKursSchieneEntfernenOhneRegelvalidierung(idKurs, idSchiene);
+		DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schienenSet, idKurs).remove(eSchiene);
+		for (const idSchueler of DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schuelerIDSet, idKurs))
+			Map2DUtils.getOrCreateHashSet(this._schuelerID_schienenID_to_kurseSet, idSchueler, idSchiene).remove(eKurs);
+	}
+
+	/**
+	 * Liefert TRUE, falls die Datenstrukturen nach einem Update inkrementell aktualisiert werden können. Andernfalls
+	 * müssen alle Datenstrukturen mit {@link #stateRevalidateEverything()} neu aufgebaut werden. Dies ist der Fall,
+	 * wenn es ungültige Kurs-Schüler-Zuordnungen gibt oder wenn sich Regeln verändern, welche nicht nur bewertet
+	 * werden, sondern die Datenstrukturen selbst beeinflussen (Dummy-SuS und ignorierte Kursdifferenzen).
+	 *
+	 * @param regelUpdates  Die Regel-Veränderungen des Updates.
+	 *
+	 * @return TRUE, falls die Datenstrukturen nach einem Update inkrementell aktualisiert werden können.
+	 */
+	private stateIstInkrementellMoeglich(regelUpdates : GostBlockungRegelUpdate) : boolean {
+		if (!this._schuelerID_to_ungueltigeKurseSet.isEmpty())
+			return false;
+		if (!this._parent.getIstBlockungsVorlage())
+			return true;
+		for (const r of regelUpdates.listEntfernen)
+			if ((r.typ === GostKursblockungRegelTyp.KURS_MIT_DUMMY_SUS_AUFFUELLEN.typ) || (r.typ === GostKursblockungRegelTyp.KURS_KURSDIFFERENZ_BEI_DER_VISUALISIERUNG_IGNORIEREN.typ))
+				return false;
+		for (const r of regelUpdates.listHinzuzufuegen)
+			if ((r.typ === GostKursblockungRegelTyp.KURS_MIT_DUMMY_SUS_AUFFUELLEN.typ) || (r.typ === GostKursblockungRegelTyp.KURS_KURSDIFFERENZ_BEI_DER_VISUALISIERUNG_IGNORIEREN.typ))
+				return false;
+		return true;
+	}
+
+	/**
+	 * Liefert die Menge der Regel-Typen, welche durch die Regel-Veränderungen eines Updates neu validiert werden müssen.
+	 *
+	 * @param regelUpdates  Die Regel-Veränderungen des Updates.
+	 *
+	 * @return die Menge der Regel-Typen, welche durch die Regel-Veränderungen eines Updates neu validiert werden müssen.
+	 */
+	private getRegeltypenOfRegelUpdates(regelUpdates : GostBlockungRegelUpdate) : JavaSet<number> {
+		const regeltypen : JavaSet<number> = new HashSet<number>();
+		if (this._parent.getIstBlockungsVorlage()) {
+			for (const r of regelUpdates.listEntfernen)
+				regeltypen.add(r.typ);
+			for (const r of regelUpdates.listHinzuzufuegen)
+				regeltypen.add(r.typ);
+		}
+		return regeltypen;
+	}
+
+	/**
+	 * Aktualisiert nach Veränderungen der Kurs-Schüler-Zuordnungen nur die abgeleiteten Werte der betroffenen Schienen,
+	 * Facharten und Schüler, sowie alle Regeln deren Validierung von den Kurs-Schüler-Zuordnungen abhängt. Das Ergebnis
+	 * entspricht dem von {@link #stateRevalidateEverything()}.
+	 *
+	 * @param kursIDs      Die IDs der Kurse, deren Schülermenge sich verändert hat.
+	 * @param schuelerIDs  Die IDs der Schüler, deren Kursmenge sich verändert hat.
+	 * @param regeltypen   Die Regel-Typen, welche zusätzlich neu validiert werden müssen.
+	 */
+	private stateRevalidateKursSchuelerInkrementell(kursIDs : JavaSet<number>, schuelerIDs : JavaSet<number>, regeltypen : JavaSet<number>) : void {
+		const schienenIDs : JavaSet<number> = new HashSet<number>();
+		const fachartIDs : JavaSet<number> = new HashSet<number>();
+		for (const idKurs of kursIDs) {
+			const eKurs : GostBlockungsergebnisKurs = this.getKursE(idKurs);
+			fachartIDs.add(GostKursart.getFachartID(eKurs.fachID, eKurs.kursart));
+			for (const eSchiene of DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schienenSet, idKurs))
+				schienenIDs.add(eSchiene.id);
+		}
+		for (const idSchiene of schienenIDs) {
+			this.update_2_schienenID_to_kollisionen_ofSchiene(idSchiene);
+			this.update_2_schienenID_to_susAnzahl_ofSchiene(idSchiene);
+		}
+		for (const idFachart of fachartIDs)
+			this.update_2_fachartID_to_kursdifferenz_ofFachart(idFachart);
+		for (const idSchueler of schuelerIDs) {
+			this.update_3_schuelerID_to_kollisionen_ofSchueler(idSchueler);
+			this.update_3_schuelerID_fachID_to_kurs_or_null_ofSchueler(idSchueler);
+		}
+		for (const idRegeltyp of GostBlockungsergebnisManager.REGELTYPEN_VALIDIERUNG_KURS_SCHUELER)
+			regeltypen.add(idRegeltyp);
+		this.stateRevalidateBewertungInkrementell(regeltypen);
+	}
+
+	/**
+	 * Aktualisiert nach Veränderungen der Kurs-Schienen-Zuordnungen nur die abgeleiteten Werte der betroffenen Schienen
+	 * und Schüler, sowie alle Regeln deren Validierung von den Kurs-Schienen-Zuordnungen abhängt. Das Ergebnis
+	 * entspricht dem von {@link #stateRevalidateEverything()}.
+	 *
+	 * @param kursIDs      Die IDs der Kurse, deren Schienenmenge sich verändert hat.
+	 * @param schienenIDs  Die IDs der Schienen, deren Kursmenge sich verändert hat.
+	 * @param regeltypen   Die Regel-Typen, welche zusätzlich neu validiert werden müssen.
+	 */
+	private stateRevalidateKursSchienenInkrementell(kursIDs : JavaSet<number>, schienenIDs : JavaSet<number>, regeltypen : JavaSet<number>) : void {
+		const schuelerIDs : JavaSet<number> = new HashSet<number>();
+		const fachartIDs : JavaSet<number> = new HashSet<number>();
+		for (const idKurs of kursIDs) {
+			const eKurs : GostBlockungsergebnisKurs = this.getKursE(idKurs);
+			fachartIDs.add(GostKursart.getFachartID(eKurs.fachID, eKurs.kursart));
+			schuelerIDs.addAll(DeveloperNotificationException.ifMapGetIsNull(this._kursID_to_schuelerIDSet, idKurs));
+		}
+		for (const idSchiene of schienenIDs) {
+			this.stateSchieneKursmengeSortieren(this.getSchieneE(idSchiene));
+			this.update_2_schienenID_to_kollisionen_ofSchiene(idSchiene);
+			this.update_2_schienenID_to_susAnzahl_ofSchiene(idSchiene);
+			for (const idFachart of fachartIDs)
+				this.update_2_schienenID_fachartID_to_kurseList_ofSchieneUndFachart(idSchiene, idFachart);
+		}
+		for (const idSchueler of schuelerIDs)
+			this.update_3_schuelerID_to_kollisionen_ofSchueler(idSchueler);
+		for (const idRegeltyp of GostBlockungsergebnisManager.REGELTYPEN_VALIDIERUNG_KURS_SCHIENE)
+			regeltypen.add(idRegeltyp);
+		this.stateRevalidateBewertungInkrementell(regeltypen);
+	}
+
+	/**
+	 * Validiert die übergebenen Regel-Typen neu und aktualisiert anschließend die Bewertung des Ergebnisses. Die
+	 * Bewertungskriterien 2 bis 4 werden dabei nur aus den bereits aktualisierten Datenstrukturen zusammengefasst.
+	 *
+	 * @param regeltypen  Die Regel-Typen, welche neu validiert werden müssen.
+	 */
+	private stateRevalidateBewertungInkrementell(regeltypen : JavaSet<number>) : void {
+		for (const idRegeltyp of regeltypen)
+			this.stateRegelvalidierungOfTyp(idRegeltyp);
+		this.stateClearErgebnisBewertung1Zusammenfassen();
+		this.stateClearErgebnisBewertung2();
+		this.stateClearErgebnisBewertung3();
+		this.stateClearErgebnisBewertung4();
+		this._parent.ergebnisUpdateBewertung(this._ergebnis);
+	}
+
+	private stateSchieneKursmengeSortieren(schiene : GostBlockungsergebnisSchiene) : void {
+		if (this._fachartmenge_sortierung === 1) {
+			schiene.kurse.sort(this._kursComparator_kursart_fach_kursnummer);
+		} else {
+			schiene.kurse.sort(this._kursComparator_fach_kursart_kursnummer);
+		}
 	}
 
 	/**
@@ -4734,6 +5034,20 @@ export class GostBlockungsergebnisManager extends JavaObject {
 		return u;
 	}
 
+	/**
+	 * Liefert TRUE, falls der Schüler der Kurs-Schüler-Zuordnung dem Kurs zugeordnet ist, wobei die bisher bei einem Update
+	 * bestimmten Veränderungen berücksichtigt werden.
+	 *
+	 * @param zustand  Die Zuordnungen (Schüler-ID, Kurs-ID), welche durch das Update bereits verändert wurden.
+	 * @param z        Die Kurs-Schüler-Zuordnung.
+	 *
+	 * @return TRUE, falls der Schüler der Kurs-Schüler-Zuordnung dem Kurs zugeordnet ist.
+	 */
+	private getOfSchuelerOfKursIstZugeordnetNachUpdate(zustand : HashMap2D<number, number, boolean>, z : GostBlockungsergebnisKursSchuelerZuordnung) : boolean {
+		const zugeordnet : boolean | null = zustand.getOrNull(z.idSchueler, z.idKurs);
+		return (zugeordnet !== null) ? zugeordnet : this.getOfSchuelerOfKursIstZugeordnet(z.idSchueler, z.idKurs);
+	}
+
 	/**
 	 * Entfernt erst alle Regeln aus {@link GostBlockungsergebnisKursSchuelerZuordnungUpdate#listEntfernen} und
 	 * fügt dann die neuen Regeln aus {@link GostBlockungsergebnisKursSchuelerZuordnungUpdate#listHinzuzufuegen} hinzu.
@@ -4742,17 +5056,51 @@ export class GostBlockungsergebnisManager extends JavaObject {
 	 * @param update  Das {@link GostBlockungsergebnisKursSchuelerZuordnungUpdate}-Objekt.
 	 */
 	public kursSchuelerUpdateExecute(update : GostBlockungsergebnisKursSchuelerZuordnungUpdate) : void {
+		const zustand : HashMap2D<number, number, boolean> = new HashMap2D();
+		const listEntfernen : List<GostBlockungsergebnisKursSchuelerZuordnung> = new ArrayList<GostBlockungsergebnisKursSchuelerZuordnung>();
+		for (const z of update.listEntfernen)
+			if (this.getOfSchuelerOfKursIstZugeordnetNachUpdate(zustand, z)) {
+				listEntfernen.add(z);
+				zustand.put(z.idSchueler, z.idKurs, false);
+			}
+		const listHinzufuegen : List<GostBlockungsergebnisKursSchuelerZuordnung> = new ArrayList<GostBlockungsergebnisKursSchuelerZuordnung>();
+		for (const z of update.listHinzuzufuegen)
+			if (!this.getOfSchuelerOfKursIstZugeordnetNachUpdate(zustand, z)) {
+				listHinzufuegen.add(z);
+				zustand.put(z.idSchueler, z.idKurs, true);
+			}
+		let inkrementell : boolean = this.stateIstInkrementellMoeglich(update.regelUpdates);
+		for (const z of listHinzufuegen) {
+			const eKurs : GostBlockungsergebnisKurs = this.getKursE(z.idKurs);
+			if ((!this._parent.schuelerGetHatFachart(z.idSchueler, eKurs.fachID, eKurs.kursart)) || this.getOfKursSchienenmenge(z.idKurs).isEmpty())
+				inkrementell = false;
+		}
 		if (this._parent.getIstBlockungsVorlage())
 			this._parent.regelRemoveListe(update.regelUpdates.listEntfernen);
-		for (const z of update.listEntfernen)
-			if (this.getOfSchuelerOfKursIstZugeordnet(z.idSchueler, z.idKurs))
+		const kursIDs : JavaSet<number> = new HashSet<number>();
+		const schuelerIDs : JavaSet<number> = new HashSet<number>();
+		for (const z of listEntfernen) {
+			if (inkrementell)
+				this.stateSchuelerKursEntfernenInkrementell(z.idSchueler, z.idKurs);
+			else
 				this.stateSchuelerKursEntfernenOhneRevalidierung(z.idSchueler, z.idKurs);
-		for (const z of update.listHinzuzufuegen)
-			if (!this.getOfSchuelerOfKursIstZugeordnet(z.idSchueler, z.idKurs))
+			kursIDs.add(z.idKurs);
+			schuelerIDs.add(z.idSchueler);
+		}
+		for (const z of listHinzufuegen) {
+			if (inkrementell)
+				this.stateSchuelerKursHinzufuegenInkrementell(z.idSchueler, z.idKurs);
+			else
 				this.stateSchuelerKursHinzufuegenOhneRevalidierung(z.idSchueler, z.idKurs);
+			kursIDs.add(z.idKurs);
+			schuelerIDs.add(z.idSchueler);
+		}
 		if (this._parent.getIstBlockungsVorlage())
 			this._parent.regelAddListe(update.regelUpdates.listHinzuzufuegen);
-		this.stateRevalidateEverything();
+		if (inkrementell)
+			this.stateRevalidateKursSchuelerInkrementell(kursIDs, schuelerIDs, this.getRegeltypenOfRegelUpdates(update.regelUpdates));
+		else
+			this.stateRevalidateEverything();
 	}
 
 	/**
@@ -4814,6 +5162,20 @@ export class GostBlockungsergebnisManager extends JavaObject {
 		return u;
 	}
 
+	/**
+	 * Liefert TRUE, falls der Kurs der Kurs-Schienen-Zuordnung der Schiene zugeordnet ist, wobei die bisher bei einem Update
+	 * bestimmten Veränderungen berücksichtigt werden.
+	 *
+	 * @param zustand  Die Zuordnungen (Kurs-ID, Schienen-ID), welche durch das Update bereits verändert wurden.
+	 * @param z        Die Kurs-Schienen-Zuordnung.
+	 *
+	 * @return TRUE, falls der Kurs der Kurs-Schienen-Zuordnung der Schiene zugeordnet ist.
+	 */
+	private getOfKursOfSchieneIstZugeordnetNachUpdate(zustand : HashMap2D<number, number, boolean>, z : GostBlockungsergebnisKursSchienenZuordnung) : boolean {
+		const zugeordnet : boolean | null = zustand.getOrNull(z.idKurs, z.idSchiene);
+		return (zugeordnet !== null) ? zugeordnet : this.getOfKursOfSchieneIstZugeordnet(z.idKurs, z.idSchiene);
+	}
+
 	/**
 	 * Entfernt erst alle Regeln aus {@link GostBlockungsergebnisKursSchienenZuordnungUpdate#listEntfernen} und
 	 * fügt dann die neuen Regeln aus {@link GostBlockungsergebnisKursSchienenZuordnungUpdate#listHinzuzufuegen} hinzu.
@@ -4822,17 +5184,49 @@ export class GostBlockungsergebnisManager extends JavaObject {
 	 * @param update  Das {@link GostBlockungsergebnisKursSchienenZuordnungUpdate}-Objekt.
 	 */
 	public kursSchienenUpdateExecute(update : GostBlockungsergebnisKursSchienenZuordnungUpdate) : void {
+		const zustand : HashMap2D<number, number, boolean> = new HashMap2D();
+		const listEntfernen : List<GostBlockungsergebnisKursSchienenZuordnung> = new ArrayList<GostBlockungsergebnisKursSchienenZuordnung>();
+		for (const z of update.listEntfernen)
+			if (this.getOfKursOfSchieneIstZugeordnetNachUpdate(zustand, z)) {
+				listEntfernen.add(z);
+				zustand.put(z.idKurs, z.idSchiene, false);
+			}
+		const listHinzufuegen : List<GostBlockungsergebnisKursSchienenZuordnung> = new ArrayList<GostBlockungsergebnisKursSchienenZuordnung>();
+		for (const z of update.listHinzuzufuegen)
+			if (!this.getOfKursOfSchieneIstZugeordnetNachUpdate(zustand, z)) {
+				listHinzufuegen.add(z);
+				zustand.put(z.idKurs, z.idSchiene, true);
+			}
+		let inkrementell : boolean = this.stateIstInkrementellMoeglich(update.regelUpdates);
 		if (this._parent.getIstBlockungsVorlage())
 			this._parent.regelRemoveListe(update.regelUpdates.listEntfernen);
-		for (const z of update.listEntfernen)
-			if (this.getOfKursOfSchieneIstZugeordnet(z.idKurs, z.idSchiene))
+		const kursIDs : JavaSet<number> = new HashSet<number>();
+		const schienenIDs : JavaSet<number> = new HashSet<number>();
+		for (const z of listEntfernen) {
+			if (inkrementell)
+				this.stateKursSchieneEntfernenInkrementell(z.idKurs, z.idSchiene);
+			else
 				this.stateKursSchieneEntfernenOhneRegelvalidierung(z.idKurs, z.idSchiene);
-		for (const z of update.listHinzuzufuegen)
-			if (!this.getOfKursOfSchieneIstZugeordnet(z.idKurs, z.idSchiene))
+			kursIDs.add(z.idKurs);
+			schienenIDs.add(z.idSchiene);
+		}
+		for (const z of listHinzufuegen) {
+			if (inkrementell)
+				this.stateKursSchieneHinzufuegenInkrementell(z.idKurs, z.idSchiene);
+			else
 				this.stateKursSchieneHinzufuegenOhneRegelvalidierung(z.idKurs, z.idSchiene);
+			kursIDs.add(z.idKurs);
+			schienenIDs.add(z.idSchiene);
+		}
 		if (this._parent.getIstBlockungsVorlage())
 			this._parent.regelAddListe(update.regelUpdates.listHinzuzufuegen);
-		this.stateRevalidateEverything();
+		for (const idKurs of kursIDs)
+			if (this.getOfKursSchienenmenge(idKurs).isEmpty())
+				inkrementell = false;
+		if (inkrementell)
+			this.stateRevalidateKursSchienenInkrementell(kursIDs, schienenIDs, this.getRegeltypenOfRegelUpdates(update.regelUpdates));
+		else
+			this.stateRevalidateEverything();
 	}
 
 	/**
@@ -179,6 +179,44 @@ export class StundenplanManager extends JavaObject {
 		return JavaLong.compare(a.id, b.id);
 	} };
 
+	private static readonly _UPDATE_AUFSICHTSBEREICH : number = 1 << 0;
+
+	private static readonly _UPDATE_FACH : number = 1 << 1;
+
+	private static readonly _UPDATE_JAHRGANG : number = 1 << 2;
+
+	private static readonly _UPDATE_KALENDERWOCHENZUORDNUNG : number = 1 << 3;
+
+	private static readonly _UPDATE_KLASSE : number = 1 << 4;
+
+	private static readonly _UPDATE_KLASSENUNTERRICHT : number = 1 << 5;
+
+	private static readonly _UPDATE_KURS : number = 1 << 6;
+
+	private static readonly _UPDATE_LEHRER : number = 1 << 7;
+
+	private static readonly _UPDATE_PAUSENAUFSICHT : number = 1 << 8;
+
+	private static readonly _UPDATE_PAUSENZEIT : number = 1 << 9;
+
+	private static readonly _UPDATE_RAUM : number = 1 << 10;
+
+	private static readonly _UPDATE_SCHIENE : number = 1 << 11;
+
+	private static readonly _UPDATE_SCHUELER : number = 1 << 12;
+
+	private static readonly _UPDATE_UNTERRICHT : number = 1 << 13;
+
+	private static readonly _UPDATE_ZEITRASTER : number = 1 << 14;
+
+	private static readonly _UPDATE_WOCHENTYPMODELL : number = 1 << 15;
+
+	private static readonly _UPDATE_ALLE : number = (1 << 16) - 1;
+
+	private static readonly _UPDATE_UNTERRICHTMENGE : number = StundenplanManager._UPDATE_UNTERRICHT | StundenplanManager._UPDATE_FACH | StundenplanManager._UPDATE_JAHRGANG | StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_LEHRER;
+
+	private static readonly _UPDATE_KLASSENUNTERRICHTMENGE : number = StundenplanManager._UPDATE_KLASSENUNTERRICHT | StundenplanManager._UPDATE_FACH | StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_LEHRER;
+
 	private readonly _aufsichtsbereich_by_id : HashMap<number, StundenplanAufsichtsbereich> = new HashMap();
 
 	private readonly _aufsichtsbereich_by_kuerzel : HashMap<string, StundenplanAufsichtsbereich> = new HashMap();
@@ -530,88 +568,181 @@ export class StundenplanManager extends JavaObject {
 	}
 
 	private update_all() : void {
-		this.update_kwzmenge_update_kwz_by_jahr_and_kw();
-		this.update_aufsichtsbereichmenge();
-		this.update_fachmenge();
-		this.update_jahrgangmenge();
-		this.update_klassenmenge();
-		this.update_klassenunterrichtmenge();
-		this.update_kursmenge();
-		this.update_lehrermenge();
-		this.update_pausenaufsichtmenge();
-		this.update_raummenge();
-		this.update_schienenmenge();
-		this.update_schuelermenge();
-		this.update_pausenzeitmenge();
-		this.update_unterrichtmenge();
-		this.update_zeitrastermenge();
-		this.update_pausenaufsichtmenge_by_idPausenzeit();
-		this.update_pausenzeitmengeOhnePausenaufsicht();
-		this.update_unterrichtmenge_by_idZeitraster();
-		this.update_zeitrastermengeOhneLeereUnterrichtmenge();
-		this.update_pausenzeit_by_tag_and_beginn_and_ende();
-		this.update_aufsichtsbereich_by_kuerzel();
-		this.update_raum_by_kuerzel();
-		this.update_klassenmenge_by_idJahrgang();
-		this.update_jahrgangmenge_by_idKlasse();
-		this.update_klassenunterrichtmenge_by_idKlasse();
-		this.update_klassenunterrichtmenge_by_idSchueler();
-		this.update_klassenunterrichtmenge_by_idLehrer();
-		this.update_klassenunterrichtmenge_by_idSchiene();
-		this.update_kursmenge_by_idSchueler();
-		this.update_kursmenge_by_idLehrer();
-		this.update_kursmenge_by_idSchiene();
-		this.update_schuelermenge_by_idKurs();
-		this.update_kursmenge_by_idJahrgang();
-		this.update_jahrgangmenge_by_idKurs();
-		this.update_pausenaufsichtmenge_by_wochentag();
-		this.update_pausenaufsichtmenge_by_idLehrer();
-		this.update_pausenaufsichtmenge_by_idLehrer_and_idPausenzeit();
-		this.update_pausenaufsichtmenge_by_idAufsichtsbereich();
-		this.update_pausenzeitmenge_by_idLehrer();
-		this.update_pausenzeitmenge_by_wochentag();
-		this.update_klassenmenge_by_idPausenzeit();
-		this.update_schienenmenge_by_idJahrgang();
-		this.update_schuelermenge_by_idKlasse();
-		this.update_klassenmenge_by_idSchueler();
-		this.update_lehrermenge_by_idUnterricht();
-		this.update_schienenmenge_by_idUnterricht();
-		this.update_unterrichtmenge_by_idSchiene();
-		this.update_unterrichtmenge_by_idKurs();
-		this.update_unterrichtmenge_by_idKlasse_and_idFach();
-		this.update_unterrichtmenge_by_idZeitraster_and_wochentyp();
-		this.update_unterrichtmenge_by_idLehrer();
-		this.update_unterrichtmenge_by_idLehrer_and_idZeitraster();
-		this.update_unterrichtmenge_by_idRaum();
-		this.update_unterrichtmenge_by_idRaum_and_idZeitraster();
-		this.update_zeitraster_by_wochentag_and_stunde();
-		this.update_zeitrastermenge_by_wochentag();
-		this.update_zeitrastermenge_by_stunde();
-		this.update_kursmenge_by_idKlasse();
-		this.update_klassenmenge_by_idKurs();
-		this.update_pausenzeitmenge_by_idLehrer_and_wochentag();
-		this.update_pausenzeitmenge_by_idKlasse();
-		this.update_pausenzeitmenge_by_idJahrgang();
-		this.update_pausenzeitmenge_by_idSchueler();
-		this.update_pausenaufsichtmenge_by_idKlasse_and_idPausenzeit();
-		this.update_pausenaufsichtmenge_by_idJahrgang_and_idPausenzeit();
-		this.update_pausenaufsichtmenge_by_idSchueler_and_idPausenzeit();
-		this.update_unterrichtmenge_by_idJahrgang();
-		this.update_unterrichtmenge_by_idSchueler();
-		this.update_klassenunterrichtmenge_by_idKlasse_and_idSchiene();
-		this.update_wertWochenminuten_by_idKurs();
-		this.update_wertWochenminuten_by_idKlasse_und_idFach();
-		this.update_unterrichtmenge_by_idUnterricht();
-		this.update_pausenzeitmenge_by_idKlasse_and_wochentag();
-		this.update_pausenzeitmenge_by_idJahrgang_and_wochentag();
-		this.update_pausenzeitmenge_by_idSchueler_and_wochentag();
-		this.update_unterrichtmenge_by_idKlasse();
-		this.update_unterrichtmenge_by_idKlasse_and_idZeitraster();
-		this.update_klassenmenge_by_idUnterricht();
-		this.update_unterrichtmenge_by_idJahrgang_and_idZeitraster();
-		this.update_unterrichtmenge_by_idSchueler_and_idZeitraster();
-		this.update_schienenmenge_by_idKlasse();
-		this.update_kursmenge_by_idKlasse_and_idSchiene();
+		this.update(StundenplanManager._UPDATE_ALLE);
+	}
+
+	/**
+	 * Aktualisiert alle Datenstrukturen, welche direkt oder indirekt (auch über die Comparatoren) von den
+	 * Objekten abhängen, deren Änderung in den Bits von aenderung vermerkt ist. Die Reihenfolge der Aufrufe
+	 * entspricht dabei der Ordnung der Abhängigkeiten, so dass das Ergebnis identisch zu {@link #update_all()} ist.
+	 *
+	 * @param aenderung  die Bits (_UPDATE_...) der geänderten Objekt-Typen, inklusive aller Kaskaden.
+	 */
+	private update(aenderung : number) : void {
+		if ((aenderung & (StundenplanManager._UPDATE_KALENDERWOCHENZUORDNUNG | StundenplanManager._UPDATE_WOCHENTYPMODELL)) !== 0)
+			this.update_kwzmenge_update_kwz_by_jahr_and_kw();
+		if ((aenderung & StundenplanManager._UPDATE_AUFSICHTSBEREICH) !== 0)
+			this.update_aufsichtsbereichmenge();
+		if ((aenderung & StundenplanManager._UPDATE_FACH) !== 0)
+			this.update_fachmenge();
+		if ((aenderung & StundenplanManager._UPDATE_JAHRGANG) !== 0)
+			this.update_jahrgangmenge();
+		if ((aenderung & StundenplanManager._UPDATE_KLASSE) !== 0)
+			this.update_klassenmenge();
+		if ((aenderung & StundenplanManager._UPDATE_KLASSENUNTERRICHTMENGE) !== 0)
+			this.update_klassenunterrichtmenge();
+		if ((aenderung & StundenplanManager._UPDATE_KURS) !== 0)
+			this.update_kursmenge();
+		if ((aenderung & StundenplanManager._UPDATE_LEHRER) !== 0)
+			this.update_lehrermenge();
+		if ((aenderung & StundenplanManager._UPDATE_PAUSENAUFSICHT) !== 0)
+			this.update_pausenaufsichtmenge();
+		if ((aenderung & StundenplanManager._UPDATE_RAUM) !== 0)
+			this.update_raummenge();
+		if ((aenderung & StundenplanManager._UPDATE_SCHIENE) !== 0)
+			this.update_schienenmenge();
+		if ((aenderung & StundenplanManager._UPDATE_SCHUELER) !== 0)
+			this.update_schuelermenge();
+		if ((aenderung & StundenplanManager._UPDATE_PAUSENZEIT) !== 0)
+			this.update_pausenzeitmenge();
+		if ((aenderung & StundenplanManager._UPDATE_UNTERRICHTMENGE) !== 0)
+			this.update_unterrichtmenge();
+		if ((aenderung & StundenplanManager._UPDATE_ZEITRASTER) !== 0)
+			this.update_zeitrastermenge();
+		if ((aenderung & StundenplanManager._UPDATE_PAUSENAUFSICHT) !== 0)
+			this.update_pausenaufsichtmenge_by_idPausenzeit();
+		if ((aenderung & (StundenplanManager._UPDATE_PAUSENAUFSICHT | StundenplanManager._UPDATE_PAUSENZEIT)) !== 0)
+			this.update_pausenzeitmengeOhnePausenaufsicht();
+		if ((aenderung & StundenplanManager._UPDATE_UNTERRICHTMENGE) !== 0)
+			this.update_unterrichtmenge_by_idZeitraster();
+		if ((aenderung & (StundenplanManager._UPDATE_UNTERRICHTMENGE | StundenplanManager._UPDATE_ZEITRASTER)) !== 0)
+			this.update_zeitrastermengeOhneLeereUnterrichtmenge();
+		if ((aenderung & StundenplanManager._UPDATE_PAUSENZEIT) !== 0)
+			this.update_pausenzeit_by_tag_and_beginn_and_ende();
+		if ((aenderung & StundenplanManager._UPDATE_AUFSICHTSBEREICH) !== 0)
+			this.update_aufsichtsbereich_by_kuerzel();
+		if ((aenderung & StundenplanManager._UPDATE_RAUM) !== 0)
+			this.update_raum_by_kuerzel();
+		if ((aenderung & StundenplanManager._UPDATE_KLASSE) !== 0)
+			this.update_klassenmenge_by_idJahrgang();
+		if ((aenderung & (StundenplanManager._UPDATE_JAHRGANG | StundenplanManager._UPDATE_KLASSE)) !== 0)
+			this.update_jahrgangmenge_by_idKlasse();
+		if ((aenderung & StundenplanManager._UPDATE_KLASSENUNTERRICHTMENGE) !== 0)
+			this.update_klassenunterrichtmenge_by_idKlasse();
+		if ((aenderung & StundenplanManager._UPDATE_KLASSENUNTERRICHTMENGE) !== 0)
+			this.update_klassenunterrichtmenge_by_idSchueler();
+		if ((aenderung & StundenplanManager._UPDATE_KLASSENUNTERRICHTMENGE) !== 0)
+			this.update_klassenunterrichtmenge_by_idLehrer();
+		if ((aenderung & StundenplanManager._UPDATE_KLASSENUNTERRICHTMENGE) !== 0)
+			this.update_klassenunterrichtmenge_by_idSchiene();
+		if ((aenderung & StundenplanManager._UPDATE_KURS) !== 0)
+			this.update_kursmenge_by_idSchueler();
+		if ((aenderung & StundenplanManager._UPDATE_KURS) !== 0)
+			this.update_kursmenge_by_idLehrer();
+		if ((aenderung & StundenplanManager._UPDATE_KURS) !== 0)
+			this.update_kursmenge_by_idSchiene();
+		if ((aenderung & (StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_schuelermenge_by_idKurs();
+		if ((aenderung & StundenplanManager._UPDATE_KURS) !== 0)
+			this.update_kursmenge_by_idJahrgang();
+		if ((aenderung & (StundenplanManager._UPDATE_JAHRGANG | StundenplanManager._UPDATE_KURS)) !== 0)
+			this.update_jahrgangmenge_by_idKurs();
+		if ((aenderung & (StundenplanManager._UPDATE_PAUSENAUFSICHT | StundenplanManager._UPDATE_PAUSENZEIT)) !== 0)
+			this.update_pausenaufsichtmenge_by_wochentag();
+		if ((aenderung & StundenplanManager._UPDATE_PAUSENAUFSICHT) !== 0)
+			this.update_pausenaufsichtmenge_by_idLehrer();
+		if ((aenderung & StundenplanManager._UPDATE_PAUSENAUFSICHT) !== 0)
+			this.update_pausenaufsichtmenge_by_idLehrer_and_idPausenzeit();
+		if ((aenderung & StundenplanManager._UPDATE_PAUSENAUFSICHT) !== 0)
+			this.update_pausenaufsichtmenge_by_idAufsichtsbereich();
+		if ((aenderung & (StundenplanManager._UPDATE_PAUSENAUFSICHT | StundenplanManager._UPDATE_PAUSENZEIT)) !== 0)
+			this.update_pausenzeitmenge_by_idLehrer();
+		if ((aenderung & StundenplanManager._UPDATE_PAUSENZEIT) !== 0)
+			this.update_pausenzeitmenge_by_wochentag();
+		if ((aenderung & (StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_PAUSENZEIT)) !== 0)
+			this.update_klassenmenge_by_idPausenzeit();
+		if ((aenderung & StundenplanManager._UPDATE_SCHIENE) !== 0)
+			this.update_schienenmenge_by_idJahrgang();
+		if ((aenderung & StundenplanManager._UPDATE_SCHUELER) !== 0)
+			this.update_schuelermenge_by_idKlasse();
+		if ((aenderung & (StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_klassenmenge_by_idSchueler();
+		if ((aenderung & StundenplanManager._UPDATE_UNTERRICHTMENGE) !== 0)
+			this.update_lehrermenge_by_idUnterricht();
+		if ((aenderung & (StundenplanManager._UPDATE_UNTERRICHTMENGE | StundenplanManager._UPDATE_SCHIENE)) !== 0)
+			this.update_schienenmenge_by_idUnterricht();
+		if ((aenderung & StundenplanManager._UPDATE_UNTERRICHTMENGE) !== 0)
+			this.update_unterrichtmenge_by_idSchiene();
+		if ((aenderung & StundenplanManager._UPDATE_UNTERRICHTMENGE) !== 0)
+			this.update_unterrichtmenge_by_idKurs();
+		if ((aenderung & StundenplanManager._UPDATE_UNTERRICHTMENGE) !== 0)
+			this.update_unterrichtmenge_by_idKlasse_and_idFach();
+		if ((aenderung & StundenplanManager._UPDATE_UNTERRICHTMENGE) !== 0)
+			this.update_unterrichtmenge_by_idZeitraster_and_wochentyp();
+		if ((aenderung & StundenplanManager._UPDATE_UNTERRICHTMENGE) !== 0)
+			this.update_unterrichtmenge_by_idLehrer();
+		if ((aenderung & StundenplanManager._UPDATE_UNTERRICHTMENGE) !== 0)
+			this.update_unterrichtmenge_by_idLehrer_and_idZeitraster();
+		if ((aenderung & StundenplanManager._UPDATE_UNTERRICHTMENGE) !== 0)
+			this.update_unterrichtmenge_by_idRaum();
+		if ((aenderung & StundenplanManager._UPDATE_UNTERRICHTMENGE) !== 0)
+			this.update_unterrichtmenge_by_idRaum_and_idZeitraster();
+		if ((aenderung & StundenplanManager._UPDATE_ZEITRASTER) !== 0)
+			this.update_zeitraster_by_wochentag_and_stunde();
+		if ((aenderung & StundenplanManager._UPDATE_ZEITRASTER) !== 0)
+			this.update_zeitrastermenge_by_wochentag();
+		if ((aenderung & StundenplanManager._UPDATE_ZEITRASTER) !== 0)
+			this.update_zeitrastermenge_by_stunde();
+		if ((aenderung & (StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_kursmenge_by_idKlasse();
+		if ((aenderung & (StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_klassenmenge_by_idKurs();
+		if ((aenderung & (StundenplanManager._UPDATE_PAUSENAUFSICHT | StundenplanManager._UPDATE_PAUSENZEIT)) !== 0)
+			this.update_pausenzeitmenge_by_idLehrer_and_wochentag();
+		if ((aenderung & (StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_PAUSENZEIT)) !== 0)
+			this.update_pausenzeitmenge_by_idKlasse();
+		if ((aenderung & (StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_PAUSENZEIT)) !== 0)
+			this.update_pausenzeitmenge_by_idJahrgang();
+		if ((aenderung & (StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_PAUSENZEIT | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_pausenzeitmenge_by_idSchueler();
+		if ((aenderung & (StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_PAUSENAUFSICHT | StundenplanManager._UPDATE_PAUSENZEIT)) !== 0)
+			this.update_pausenaufsichtmenge_by_idKlasse_and_idPausenzeit();
+		if ((aenderung & (StundenplanManager._UPDATE_JAHRGANG | StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_PAUSENAUFSICHT | StundenplanManager._UPDATE_PAUSENZEIT)) !== 0)
+			this.update_pausenaufsichtmenge_by_idJahrgang_and_idPausenzeit();
+		if ((aenderung & (StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_PAUSENAUFSICHT | StundenplanManager._UPDATE_PAUSENZEIT | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_pausenaufsichtmenge_by_idSchueler_and_idPausenzeit();
+		if ((aenderung & (StundenplanManager._UPDATE_UNTERRICHTMENGE | StundenplanManager._UPDATE_KURS)) !== 0)
+			this.update_unterrichtmenge_by_idJahrgang();
+		if ((aenderung & (StundenplanManager._UPDATE_UNTERRICHTMENGE | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_unterrichtmenge_by_idSchueler();
+		if ((aenderung & StundenplanManager._UPDATE_KLASSENUNTERRICHTMENGE) !== 0)
+			this.update_klassenunterrichtmenge_by_idKlasse_and_idSchiene();
+		if ((aenderung & (StundenplanManager._UPDATE_UNTERRICHTMENGE | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_ZEITRASTER | StundenplanManager._UPDATE_WOCHENTYPMODELL)) !== 0)
+			this.update_wertWochenminuten_by_idKurs();
+		if ((aenderung & (StundenplanManager._UPDATE_UNTERRICHTMENGE | StundenplanManager._UPDATE_ZEITRASTER | StundenplanManager._UPDATE_WOCHENTYPMODELL)) !== 0)
+			this.update_wertWochenminuten_by_idKlasse_und_idFach();
+		if ((aenderung & StundenplanManager._UPDATE_UNTERRICHTMENGE) !== 0)
+			this.update_unterrichtmenge_by_idUnterricht();
+		if ((aenderung & (StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_PAUSENZEIT)) !== 0)
+			this.update_pausenzeitmenge_by_idKlasse_and_wochentag();
+		if ((aenderung & (StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_PAUSENZEIT)) !== 0)
+			this.update_pausenzeitmenge_by_idJahrgang_and_wochentag();
+		if ((aenderung & (StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_PAUSENZEIT | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_pausenzeitmenge_by_idSchueler_and_wochentag();
+		if ((aenderung & (StundenplanManager._UPDATE_UNTERRICHTMENGE | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_unterrichtmenge_by_idKlasse();
+		if ((aenderung & (StundenplanManager._UPDATE_UNTERRICHTMENGE | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_unterrichtmenge_by_idKlasse_and_idZeitraster();
+		if ((aenderung & (StundenplanManager._UPDATE_UNTERRICHTMENGE | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_klassenmenge_by_idUnterricht();
+		if ((aenderung & (StundenplanManager._UPDATE_UNTERRICHTMENGE | StundenplanManager._UPDATE_KURS)) !== 0)
+			this.update_unterrichtmenge_by_idJahrgang_and_idZeitraster();
+		if ((aenderung & (StundenplanManager._UPDATE_UNTERRICHTMENGE | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_unterrichtmenge_by_idSchueler_and_idZeitraster();
+		if ((aenderung & (StundenplanManager._UPDATE_KLASSENUNTERRICHTMENGE | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHIENE | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_schienenmenge_by_idKlasse();
+		if ((aenderung & (StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHUELER)) !== 0)
+			this.update_kursmenge_by_idKlasse_and_idSchiene();
 	}
 
 	private update_pausenzeit_by_tag_and_beginn_and_ende() : void {
@@ -1043,6 +1174,7 @@ export class StundenplanManager extends JavaObject {
 		this._klassenmenge_sortiert.clear();
 		this._klassenmenge_sortiert.addAll(this._klasse_by_id.values());
 		this._klassenmenge_sortiert.sort(StundenplanManager._compKlasse);
+		this._klassenmenge_sichtbar_sortiert.clear();
 		for (const kl of this._klassenmenge_sortiert)
 			if (kl.istSichtbar)
 				this._klassenmenge_sichtbar_sortiert.add(kl);
@@ -1399,7 +1531,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public aufsichtsbereichAddAll(listAufsichtsbereich : List<StundenplanAufsichtsbereich>) : void {
 		this.aufsichtsbereichAddAllOhneUpdate(listAufsichtsbereich);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_AUFSICHTSBEREICH);
 	}
 
 	private aufsichtsbereichAddAllOhneUpdate(list : List<StundenplanAufsichtsbereich>) : void {
@@ -1466,7 +1598,7 @@ export class StundenplanManager extends JavaObject {
 		StundenplanManager.aufsichtsbereichCheckAttributes(aufsichtsbereich);
 		DeveloperNotificationException.ifMapRemoveFailes(this._aufsichtsbereich_by_id, aufsichtsbereich.id);
 		DeveloperNotificationException.ifMapPutOverwrites(this._aufsichtsbereich_by_id, aufsichtsbereich.id, aufsichtsbereich);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_AUFSICHTSBEREICH);
 	}
 
 	private aufsichtsbereichRemoveOhneUpdateById(idAufsichtsbereich : number) : void {
@@ -1483,7 +1615,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public aufsichtsbereichRemoveById(idAufsichtsbereich : number) : void {
 		this.aufsichtsbereichRemoveOhneUpdateById(idAufsichtsbereich);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_AUFSICHTSBEREICH | StundenplanManager._UPDATE_PAUSENAUFSICHT);
 	}
 
 	/**
@@ -1501,7 +1633,7 @@ export class StundenplanManager extends JavaObject {
 		}
 		for (const aufsichtsbereich of listAufsichtsbereich)
 			this.aufsichtsbereichRemoveOhneUpdateById(aufsichtsbereich.id);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_AUFSICHTSBEREICH | StundenplanManager._UPDATE_PAUSENAUFSICHT);
 	}
 
 	/**
@@ -1546,7 +1678,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public fachAddAll(listFach : List<StundenplanFach>) : void {
 		this.fachAddAllOhneUpdate(listFach);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_FACH);
 	}
 
 	private fachAddAllOhneUpdate(list : List<StundenplanFach>) : void {
@@ -1602,7 +1734,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public jahrgangAddAll(listJahrgang : List<StundenplanJahrgang>) : void {
 		this.jahrgangAddAllOhneUpdate(listJahrgang);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_JAHRGANG);
 	}
 
 	private jahrgangAddAllOhneUpdate(list : List<StundenplanJahrgang>) : void {
@@ -1670,7 +1802,7 @@ export class StundenplanManager extends JavaObject {
 		StundenplanManager.jahrgangCheckAttributes(jahrgang);
 		DeveloperNotificationException.ifMapRemoveFailes(this._jahrgang_by_id, jahrgang.id);
 		DeveloperNotificationException.ifMapPutOverwrites(this._jahrgang_by_id, jahrgang.id, jahrgang);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_JAHRGANG);
 	}
 
 	private jahrgangRemoveOhneUpdateById(idJahrgang : number) : void {
@@ -1691,7 +1823,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public jahrgangRemoveById(idJahrgang : number) : void {
 		this.jahrgangRemoveOhneUpdateById(idJahrgang);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_JAHRGANG | StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_KLASSENUNTERRICHT | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHIENE | StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -1702,7 +1834,7 @@ export class StundenplanManager extends JavaObject {
 	public jahrgangRemoveAll(listJahrgang : List<StundenplanJahrgang>) : void {
 		for (const jahrgang of listJahrgang)
 			this.jahrgangRemoveOhneUpdateById(jahrgang.id);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_JAHRGANG | StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_KLASSENUNTERRICHT | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHIENE | StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -1721,7 +1853,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public kalenderwochenzuordnungAddAll(listKWZ : List<StundenplanKalenderwochenzuordnung>) : void {
 		this.kalenderwochenzuordnungAddAllOhneUpdate(listKWZ);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KALENDERWOCHENZUORDNUNG);
 	}
 
 	private kalenderwochenzuordnungAddAllOhneUpdate(list : List<StundenplanKalenderwochenzuordnung>) : void {
@@ -1925,7 +2057,7 @@ export class StundenplanManager extends JavaObject {
 		this.kalenderwochenzuordnungCheck(kwz, true);
 		DeveloperNotificationException.ifMapRemoveFailes(this._kwz_by_id, kwz.id);
 		DeveloperNotificationException.ifMapPutOverwrites(this._kwz_by_id, kwz.id, kwz);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KALENDERWOCHENZUORDNUNG);
 	}
 
 	private kalenderwochenzuordnungRemoveOhneUpdateById(idKWZ : number) : void {
@@ -1939,7 +2071,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public kalenderwochenzuordnungRemoveById(idKWZ : number) : void {
 		this.kalenderwochenzuordnungRemoveOhneUpdateById(idKWZ);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KALENDERWOCHENZUORDNUNG);
 	}
 
 	/**
@@ -1950,7 +2082,7 @@ export class StundenplanManager extends JavaObject {
 	public kalenderwochenzuordnungRemoveAll(listKWZ : List<StundenplanKalenderwochenzuordnung>) : void {
 		for (const kwz of listKWZ)
 			this.kalenderwochenzuordnungRemoveOhneUpdateById(kwz.id);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KALENDERWOCHENZUORDNUNG);
 	}
 
 	/**
@@ -1969,7 +2101,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public klasseAddAll(listKlasse : List<StundenplanKlasse>) : void {
 		this.klasseAddAllOhneUpdate(listKlasse);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KLASSE);
 	}
 
 	private klasseAddAllOhneUpdate(list : List<StundenplanKlasse>) : void {
@@ -2058,7 +2190,7 @@ export class StundenplanManager extends JavaObject {
 		this.klasseCheckAttributes(klasse);
 		DeveloperNotificationException.ifMapRemoveFailes(this._klasse_by_id, klasse.id);
 		DeveloperNotificationException.ifMapPutOverwrites(this._klasse_by_id, klasse.id, klasse);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KLASSE);
 	}
 
 	private klasseRemoveOhneUpdateById(idKlasse : number) : void {
@@ -2076,7 +2208,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public klasseRemoveById(idKlasse : number) : void {
 		this.klasseRemoveOhneUpdateById(idKlasse);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_KLASSENUNTERRICHT | StundenplanManager._UPDATE_PAUSENZEIT | StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -2087,7 +2219,7 @@ export class StundenplanManager extends JavaObject {
 	public klasseRemoveAll(listKlasse : List<StundenplanKlasse>) : void {
 		for (const klasse of listKlasse)
 			this.klasseRemoveOhneUpdateById(klasse.id);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_KLASSENUNTERRICHT | StundenplanManager._UPDATE_PAUSENZEIT | StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -2106,7 +2238,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public klassenunterrichtAddAll(listKlassenunterricht : List<StundenplanKlassenunterricht>) : void {
 		this.klassenunterrichtAddAllOhneUpdate(listKlassenunterricht);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KLASSENUNTERRICHT);
 	}
 
 	private klassenunterrichtAddAllOhneUpdate(list : List<StundenplanKlassenunterricht>) : void {
@@ -2331,7 +2463,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public klassenunterrichtRemoveById(idKlasse : number, idFach : number) : void {
 		this.klassenunterrichtRemoveOhneUpdateById(idKlasse, idFach);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KLASSENUNTERRICHT | StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -2342,7 +2474,7 @@ export class StundenplanManager extends JavaObject {
 	public klassenunterrichtRemoveAll(listKlassenunterricht : List<StundenplanKlassenunterricht>) : void {
 		for (const klassenunterricht of listKlassenunterricht)
 			this.klassenunterrichtRemoveOhneUpdateById(klassenunterricht.idKlasse, klassenunterricht.idFach);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KLASSENUNTERRICHT | StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	private static gerundetAufZweiNachkommastellen(d : number) : number {
@@ -2367,7 +2499,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public kursAddAll(listKurs : List<StundenplanKurs>) : void {
 		this.kursAddAllOhneUpdate(listKurs);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KURS);
 	}
 
 	private kursAddAllOhneUpdate(list : List<StundenplanKurs>) : void {
@@ -2636,7 +2768,7 @@ export class StundenplanManager extends JavaObject {
 		this.kursCheckAttributes(kurs);
 		DeveloperNotificationException.ifMapRemoveFailes(this._kurs_by_id, kurs.id);
 		DeveloperNotificationException.ifMapPutOverwrites(this._kurs_by_id, kurs.id, kurs);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KURS);
 	}
 
 	private kursRemoveAllOhneUpdate(idKurse : JavaSet<number>) : void {
@@ -2656,7 +2788,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public kursRemoveById(idKurs : number) : void {
 		this.kursRemoveAllOhneUpdate(SetUtils.create1(idKurs));
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -2669,7 +2801,7 @@ export class StundenplanManager extends JavaObject {
 		for (const kurs of listKurs)
 			idKurse.add(kurs.id);
 		this.kursRemoveAllOhneUpdate(idKurse);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -2688,7 +2820,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public lehrerAddAll(listLehrer : List<StundenplanLehrer>) : void {
 		this.lehrerAddAllOhneUpdate(listLehrer);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_LEHRER);
 	}
 
 	private lehrerAddAllOhneUpdate(list : List<StundenplanLehrer>) : void {
@@ -2767,7 +2899,7 @@ export class StundenplanManager extends JavaObject {
 		this.lehrerCheckAttributes(lehrer);
 		DeveloperNotificationException.ifMapRemoveFailes(this._lehrer_by_id, lehrer.id);
 		DeveloperNotificationException.ifMapPutOverwrites(this._lehrer_by_id, lehrer.id, lehrer);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_LEHRER);
 	}
 
 	private lehrerRemoveOhneUpdateById(idLehrer : number) : void {
@@ -2789,7 +2921,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public lehrerRemoveById(idLehrer : number) : void {
 		this.lehrerRemoveOhneUpdateById(idLehrer);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KLASSENUNTERRICHT | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_LEHRER | StundenplanManager._UPDATE_PAUSENAUFSICHT | StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -2807,7 +2939,7 @@ export class StundenplanManager extends JavaObject {
 		}
 		for (const lehrer of listLehrer)
 			this.lehrerRemoveOhneUpdateById(lehrer.id);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KLASSENUNTERRICHT | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_LEHRER | StundenplanManager._UPDATE_PAUSENAUFSICHT | StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -2826,7 +2958,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public pausenaufsichtAddAll(listPausenaufsicht : List<StundenplanPausenaufsicht>) : void {
 		this.pausenaufsichtAddAllOhneUpdate(listPausenaufsicht);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_PAUSENAUFSICHT);
 	}
 
 	private pausenaufsichtAddAllOhneUpdate(list : List<StundenplanPausenaufsicht>) : void {
@@ -2988,7 +3120,7 @@ export class StundenplanManager extends JavaObject {
 		this.pausenaufsichtCheckAttributes(pausenaufsicht);
 		DeveloperNotificationException.ifMapRemoveFailes(this._pausenaufsicht_by_id, pausenaufsicht.id);
 		DeveloperNotificationException.ifMapPutOverwrites(this._pausenaufsicht_by_id, pausenaufsicht.id, pausenaufsicht);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_PAUSENAUFSICHT);
 	}
 
 	private pausenaufsichtRemoveOhneUpdateById(idPausenaufsicht : number) : void {
@@ -3003,7 +3135,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public pausenaufsichtRemoveById(idPausenaufsicht : number) : void {
 		this.pausenaufsichtRemoveOhneUpdateById(idPausenaufsicht);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_PAUSENAUFSICHT);
 	}
 
 	/**
@@ -3013,7 +3145,6 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public pausenzeitAdd(pausenzeit : StundenplanPausenzeit) : void {
 		this.pausenzeitAddAll(ListUtils.create1(pausenzeit));
-		this.update_all();
 	}
 
 	/**
@@ -3023,7 +3154,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public pausenzeitAddAll(listPausenzeit : List<StundenplanPausenzeit>) : void {
 		this.pausenzeitAddAllOhneUpdate(listPausenzeit);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_PAUSENZEIT);
 	}
 
 	private pausenzeitAddAllOhneUpdate(list : List<StundenplanPausenzeit>) : void {
@@ -3365,7 +3496,7 @@ export class StundenplanManager extends JavaObject {
 		StundenplanManager.pausenzeitCheckAttributes(pausenzeit);
 		DeveloperNotificationException.ifMapRemoveFailes(this._pausenzeit_by_id, pausenzeit.id);
 		DeveloperNotificationException.ifMapPutOverwrites(this._pausenzeit_by_id, pausenzeit.id, pausenzeit);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_PAUSENZEIT);
 	}
 
 	private pausenzeitRemoveOhneUpdateById(idPausenzeit : number) : void {
@@ -3381,7 +3512,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public pausenzeitRemoveById(idPausenzeit : number) : void {
 		this.pausenzeitRemoveOhneUpdateById(idPausenzeit);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_PAUSENAUFSICHT | StundenplanManager._UPDATE_PAUSENZEIT);
 	}
 
 	/**
@@ -3392,7 +3523,7 @@ export class StundenplanManager extends JavaObject {
 	public pausenzeitRemoveAll(listPausenzeit : List<StundenplanPausenzeit>) : void {
 		for (const pausenzeit of listPausenzeit)
 			this.pausenzeitRemoveOhneUpdateById(pausenzeit.id);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_PAUSENAUFSICHT | StundenplanManager._UPDATE_PAUSENZEIT);
 	}
 
 	/**
@@ -3411,7 +3542,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public raumAddAll(listRaum : List<StundenplanRaum>) : void {
 		this.raumAddAllOhneUpdate(listRaum);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_RAUM);
 	}
 
 	private raumAddAllOhneUpdate(list : List<StundenplanRaum>) : void {
@@ -3481,7 +3612,7 @@ export class StundenplanManager extends JavaObject {
 		StundenplanManager.raumCheckAttributes(raum);
 		DeveloperNotificationException.ifMapRemoveFailes(this._raum_by_id, raum.id);
 		DeveloperNotificationException.ifMapPutOverwrites(this._raum_by_id, raum.id, raum);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_RAUM);
 	}
 
 	private raumRemoveOhneUpdateById(idRaum : number) : void {
@@ -3497,7 +3628,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public raumRemoveById(idRaum : number) : void {
 		this.raumRemoveOhneUpdateById(idRaum);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_RAUM | StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -3515,7 +3646,7 @@ export class StundenplanManager extends JavaObject {
 		}
 		for (const raum of listRaum)
 			this.raumRemoveOhneUpdateById(raum.id);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_RAUM | StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -3534,7 +3665,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public schieneAddAll(listSchiene : List<StundenplanSchiene>) : void {
 		this.schieneAddAllOhneUpdate(listSchiene);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_SCHIENE);
 	}
 
 	private schieneAddAllOhneUpdate(list : List<StundenplanSchiene>) : void {
@@ -3683,7 +3814,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public schuelerAddAll(listSchueler : List<StundenplanSchueler>) : void {
 		this.schuelerAddAllOhneUpdate(listSchueler);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_SCHUELER);
 	}
 
 	private schuelerAddAllOhneUpdate(list : List<StundenplanSchueler>) : void {
@@ -3803,7 +3934,7 @@ export class StundenplanManager extends JavaObject {
 			kurs.schueler.remove(idSchueler);
 		for (const ku of MapUtils.getOrCreateArrayList(this._klassenunterrichtmenge_by_idSchueler, idSchueler))
 			ku.schueler.remove(idSchueler);
-		DeveloperNotificationException.ifMapRemoveFailes(this._schiene_by_id, idSchueler);
+		DeveloperNotificationException.ifMapRemoveFailes(this._schueler_by_id, idSchueler);
 	}
 
 	/**
@@ -3814,7 +3945,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public schuelerRemoveById(idSchueler : number) : void {
 		this.schuelerRemoveOhneUpdateById(idSchueler);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KLASSE | StundenplanManager._UPDATE_KLASSENUNTERRICHT | StundenplanManager._UPDATE_KURS | StundenplanManager._UPDATE_SCHUELER);
 	}
 
 	/**
@@ -3898,7 +4029,7 @@ export class StundenplanManager extends JavaObject {
 				u.wochentyp = 0;
 		this._kwz_by_id.clear();
 		this._stundenplanWochenTypModell = modellTyp;
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_KALENDERWOCHENZUORDNUNG | StundenplanManager._UPDATE_UNTERRICHT | StundenplanManager._UPDATE_WOCHENTYPMODELL);
 	}
 
 	/**
@@ -3961,7 +4092,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public unterrichtAddAll(listUnterricht : List<StundenplanUnterricht>) : void {
 		this.unterrichtAddAllOhneUpdate(listUnterricht);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	private unterrichtAddAllOhneUpdate(list : List<StundenplanUnterricht>) : void {
@@ -4627,7 +4758,7 @@ export class StundenplanManager extends JavaObject {
 			DeveloperNotificationException.ifMapRemoveFailes(this._unterricht_by_id, u.id);
 			DeveloperNotificationException.ifMapPutOverwrites(this._unterricht_by_id, u.id, u);
 		}
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	private unterrichtRemoveByIdOhneUpdate(idUnterricht : number) : void {
@@ -4641,7 +4772,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public unterrichtRemoveById(idUnterricht : number) : void {
 		this.unterrichtRemoveByIdOhneUpdate(idUnterricht);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -4652,7 +4783,7 @@ export class StundenplanManager extends JavaObject {
 	public unterrichtRemoveAll(listUnterricht : List<StundenplanUnterricht>) : void {
 		for (const unterricht of listUnterricht)
 			this.unterrichtRemoveByIdOhneUpdate(unterricht.id);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_UNTERRICHT);
 	}
 
 	/**
@@ -4725,7 +4856,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public zeitrasterAddAll(listZeitraster : List<StundenplanZeitraster>) : void {
 		this.zeitrasterAddAllOhneUpdate(listZeitraster);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_ZEITRASTER);
 	}
 
 	private zeitrasterAddAllOhneUpdate(list : List<StundenplanZeitraster>) : void {
@@ -5434,7 +5565,7 @@ export class StundenplanManager extends JavaObject {
 			DeveloperNotificationException.ifMapRemoveFailes(this._zeitraster_by_id, z.id);
 			DeveloperNotificationException.ifMapPutOverwrites(this._zeitraster_by_id, z.id, z);
 		}
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_ZEITRASTER);
 	}
 
 	private zeitrasterRemoveOhneUpdate(idZeitraster : number) : void {
@@ -5451,7 +5582,7 @@ export class StundenplanManager extends JavaObject {
 	 */
 	public zeitrasterRemoveById(idZeitraster : number) : void {
 		this.zeitrasterRemoveOhneUpdate(idZeitraster);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_UNTERRICHT | StundenplanManager._UPDATE_ZEITRASTER);
 	}
 
 	/**
@@ -5463,7 +5594,7 @@ export class StundenplanManager extends JavaObject {
 	public zeitrasterRemoveAll(listZeitraster : List<StundenplanZeitraster>) : void {
 		for (const zeitraster of listZeitraster)
 			this.zeitrasterRemoveOhneUpdate(zeitraster.id);
-		this.update_all();
+		this.update(StundenplanManager._UPDATE_UNTERRICHT | StundenplanManager._UPDATE_ZEITRASTER);
 	}
 
 	/**
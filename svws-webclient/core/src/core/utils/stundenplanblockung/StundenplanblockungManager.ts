@@ -26,6 +26,11 @@ export class StundenplanblockungManager extends JavaObject {
 
 	private readonly _manager_st : StundenplanblockungManagerStatistik;
 
+	/**
+	 * Die maximale Zeit in Millisekunden, welche der Algorithmus für die Berechnung verwenden darf.
+	 */
+	private _maxTimeMillis : number = 1000;
+
 
 	/**
 	 * Erzeugt einen neuen, leeren Manager.
@@ -105,6 +110,33 @@ export class StundenplanblockungManager extends JavaObject {
 		return this._manager_ko;
 	}
 
+	/**
+	 * Liefert den Manager zur Verwaltung der Bewertung der Stundenplan-Lage.
+	 *
+	 * @return Den Manager zur Verwaltung der Bewertung der Stundenplan-Lage.
+	 */
+	public getStatistik() : StundenplanblockungManagerStatistik {
+		return this._manager_st;
+	}
+
+	/**
+	 * Liefert die maximale Zeit in Millisekunden, welche der Algorithmus für die Berechnung verwenden darf.
+	 *
+	 * @return Die maximale Zeit in Millisekunden.
+	 */
+	public getMaxTimeMillis() : number {
+		return this._maxTimeMillis;
+	}
+
+	/**
+	 * Setzt die maximale Zeit in Millisekunden, welche der Algorithmus für die Berechnung verwenden darf.
+	 *
+	 * @param pZeit  Die maximale Zeit in Millisekunden.
+	 */
+	public setMaxTimeMillis(pZeit : number) : void {
+		this._maxTimeMillis = pZeit;
+	}
+
 	/**
 	 * Überprüft alle Daten auf ihre Konsistenz. <br>
 	 * Wirft eine Exception, falls die Daten nicht konsistent sind.
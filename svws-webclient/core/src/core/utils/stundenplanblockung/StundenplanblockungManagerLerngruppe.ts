@@ -4,6 +4,7 @@ import { StundenplanblockungManagerRaum } from '../../../core/utils/stundenplanb
 import { StundenplanblockungManagerLehrkraft } from '../../../core/utils/stundenplanblockung/StundenplanblockungManagerLehrkraft';
 import { NullPointerException } from '../../../java/lang/NullPointerException';
 import { ArrayList } from '../../../java/util/ArrayList';
+import type { List } from '../../../java/util/List';
 import { StundenplanblockungManagerKlasse } from '../../../core/utils/stundenplanblockung/StundenplanblockungManagerKlasse';
 import { StundenplanblockungManagerKopplung } from '../../../core/utils/stundenplanblockung/StundenplanblockungManagerKopplung';
 
@@ -22,12 +23,12 @@ export class StundenplanblockungManagerLerngruppe extends JavaObject {
 	/**
 	 * Die Lehrkräfte der Lerngruppe.
 	 */
-	_menge_le : ArrayList<StundenplanblockungManagerLehrkraft | null> = new ArrayList();
+	_menge_le : ArrayList<StundenplanblockungManagerLehrkraft> = new ArrayList();
 
 	/**
 	 * Die Klassen der Lerngruppe.
 	 */
-	_menge_kl : ArrayList<StundenplanblockungManagerKlasse | null> = new ArrayList();
+	_menge_kl : ArrayList<StundenplanblockungManagerKlasse> = new ArrayList();
 
 	/**
 	 * Die Fächer Lerngruppe.
@@ -37,12 +38,17 @@ export class StundenplanblockungManagerLerngruppe extends JavaObject {
 	/**
 	 * Die Räume Lerngruppe.
 	 */
-	_menge_ra : ArrayList<StundenplanblockungManagerRaum | null> = new ArrayList();
+	_menge_ra : ArrayList<StundenplanblockungManagerRaum> = new ArrayList();
 
 	/**
 	 * Die Kopplungen Lerngruppe.
 	 */
-	_menge_ko : ArrayList<StundenplanblockungManagerKopplung | null> = new ArrayList();
+	_menge_ko : ArrayList<StundenplanblockungManagerKopplung> = new ArrayList();
+
+	/**
+	 * Die Lage der verteilten Stunden als Zeitslots (Tag * Stunden pro Tag + Stunde, jeweils 0-basiert).
+	 */
+	_lage : ArrayList<number> = new ArrayList();
 
 
 	/**
@@ -64,6 +70,79 @@ export class StundenplanblockungManagerLerngruppe extends JavaObject {
 		return this._id;
 	}
 
+	/**
+	 * Liefert die Anzahl an Stunden im Stundenplan.
+	 *
+	 * @return Die Anzahl an Stunden im Stundenplan.
+	 */
+	public getStunden() : number {
+		return this.stunden;
+	}
+
+	/**
+	 * Setzt die Anzahl an Stunden im Stundenplan.
+	 *
+	 * @param pStunden  Die neue Anzahl an Stunden im Stundenplan.
+	 */
+	public setStunden(pStunden : number) : void {
+		this.stunden = pStunden;
+	}
+
+	/**
+	 * Liefert die Lehrkräfte der Lerngruppe.
+	 *
+	 * @return Die Lehrkräfte der Lerngruppe.
+	 */
+	public getLehrkraefte() : List<StundenplanblockungManagerLehrkraft> {
+		return this._menge_le;
+	}
+
+	/**
+	 * Liefert die Klassen der Lerngruppe.
+	 *
+	 * @return Die Klassen der Lerngruppe.
+	 */
+	public getKlassen() : List<StundenplanblockungManagerKlasse> {
+		return this._menge_kl;
+	}
+
+	/**
+	 * Liefert die Räume der Lerngruppe.
+	 *
+	 * @return Die Räume der Lerngruppe.
+	 */
+	public getRaeume() : List<StundenplanblockungManagerRaum> {
+		return this._menge_ra;
+	}
+
+	/**
+	 * Liefert die Kopplungen der Lerngruppe.
+	 *
+	 * @return Die Kopplungen der Lerngruppe.
+	 */
+	public getKopplungen() : List<StundenplanblockungManagerKopplung> {
+		return this._menge_ko;
+	}
+
+	/**
+	 * Liefert die Lage der verteilten Stunden als Zeitslots (Tag * Stunden pro Tag + Stunde, jeweils 0-basiert).
+	 *
+	 * @return Die Lage der verteilten Stunden.
+	 */
+	public getLage() : List<number> {
+		return this._lage;
+	}
+
+	/**
+	 * Setzt die Lage der verteilten Stunden als Zeitslots (Tag * Stunden pro Tag + Stunde, jeweils 0-basiert).
+	 *
+	 * @param pLage  Die neue Lage der verteilten Stunden.
+	 */
+	public setLage(pLage : List<number>) : void {
+		this._lage.clear();
+		this._lage.addAll(pLage);
+	}
+
 	/**
 	 * Fügt der Lerngruppe die Lehrkraft hinzu (und umgekehrt).
 	 *
@@ -100,6 +179,30 @@ export class StundenplanblockungManagerLerngruppe extends JavaObject {
 		pFa._menge_gr.add(this);
 	}
 
+	/**
+	 * Fügt der Lerngruppe den Raum hinzu (und umgekehrt).
+	 *
+	 * @param pRa Das Objekt, welches hinzugefügt werden soll.
+	 */
+	public addRaumOrException(pRa : StundenplanblockungManagerRaum) : void {
+		if (this._menge_ra.contains(pRa))
+			throw new NullPointerException("Lerngruppe " + this._id + " hat bereits Raum " + pRa.getID() + "!")
+		this._menge_ra.add(pRa);
+		pRa._lerngruppen.add(this);
+	}
+
+	/**
+	 * Fügt der Lerngruppe die Kopplung hinzu (und umgekehrt).
+	 *
+	 * @param pKo Das Objekt, welches hinzugefügt werden soll.
+	 */
+	public addKopplungOrException(pKo : StundenplanblockungManagerKopplung) : void {
+		if (this._menge_ko.contains(pKo))
+			throw new NullPointerException("Lerngruppe " + this._id + " hat bereits Kopplung " + pKo.getID() + "!")
+		this._menge_ko.add(pKo);
+		pKo._lerngruppen.add(this);
+	}
+
 	/**
 	 * Liefert TRUE, falls der Lerngruppe die Lehrkraft zugeordnet ist.
 	 *
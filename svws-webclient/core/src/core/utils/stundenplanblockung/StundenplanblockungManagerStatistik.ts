@@ -2,6 +2,36 @@ import { JavaObject } from '../../../java/lang/JavaObject';
 
 export class StundenplanblockungManagerStatistik extends JavaObject {
 
+	/**
+	 * Die Anzahl aller zu verteilenden Stunden (gekoppelte Lerngruppen zählen dabei als eine Stunde).
+	 */
+	private _anzahlStunden : number = 0;
+
+	/**
+	 * Die Anzahl der Stunden, welche nicht kollisionsfrei verteilt werden konnten.
+	 */
+	private _anzahlNichtVerteilt : number = 0;
+
+	/**
+	 * Die Anzahl der Springstunden aller Klassen.
+	 */
+	private _anzahlSpringstundenKlassen : number = 0;
+
+	/**
+	 * Die Anzahl der Springstunden aller Lehrkräfte.
+	 */
+	private _anzahlSpringstundenLehrkraefte : number = 0;
+
+	/**
+	 * Die Anzahl der Stunden, welche eine Lerngruppe zusätzlich am selben Tag hat.
+	 */
+	private _anzahlMehrfachAmTag : number = 0;
+
+	/**
+	 * Die gewichtete Summe aller weichen Kriterien. Kleinere Werte sind besser.
+	 */
+	private _bewertung : number = 0;
+
 
 	/**
 	 * Erzeugt ein neues Objekt.
@@ -11,6 +41,114 @@ export class StundenplanblockungManagerStatistik extends JavaObject {
 		// empty block
 	}
 
+	/**
+	 * Liefert die Anzahl aller zu verteilenden Stunden (gekoppelte Lerngruppen zählen dabei als eine Stunde).
+	 *
+	 * @return Die Anzahl aller zu verteilenden Stunden.
+	 */
+	public getAnzahlStunden() : number {
+		return this._anzahlStunden;
+	}
+
+	/**
+	 * Setzt die Anzahl aller zu verteilenden Stunden.
+	 *
+	 * @param pAnzahl  Die Anzahl aller zu verteilenden Stunden.
+	 */
+	public setAnzahlStunden(pAnzahl : number) : void {
+		this._anzahlStunden = pAnzahl;
+	}
+
+	/**
+	 * Liefert die Anzahl der Stunden, welche nicht kollisionsfrei verteilt werden konnten.
+	 *
+	 * @return Die Anzahl der Stunden, welche nicht kollisionsfrei verteilt werden konnten.
+	 */
+	public getAnzahlNichtVerteilt() : number {
+		return this._anzahlNichtVerteilt;
+	}
+
+	/**
+	 * Setzt die Anzahl der Stunden, welche nicht kollisionsfrei verteilt werden konnten.
+	 *
+	 * @param pAnzahl  Die Anzahl der Stunden, welche nicht kollisionsfrei verteilt werden konnten.
+	 */
+	public setAnzahlNichtVerteilt(pAnzahl : number) : void {
+		this._anzahlNichtVerteilt = pAnzahl;
+	}
+
+	/**
+	 * Liefert die Anzahl der Springstunden aller Klassen.
+	 *
+	 * @return Die Anzahl der Springstunden aller Klassen.
+	 */
+	public getAnzahlSpringstundenKlassen() : number {
+		return this._anzahlSpringstundenKlassen;
+	}
+
+	/**
+	 * Setzt die Anzahl der Springstunden aller Klassen.
+	 *
+	 * @param pAnzahl  Die Anzahl der Springstunden aller Klassen.
+	 */
+	public setAnzahlSpringstundenKlassen(pAnzahl : number) : void {
+		this._anzahlSpringstundenKlassen = pAnzahl;
+	}
+
+	/**
+	 * Liefert die Anzahl der Springstunden aller Lehrkräfte.
+	 *
+	 * @return Die Anzahl der Springstunden aller Lehrkräfte.
+	 */
+	public getAnzahlSpringstundenLehrkraefte() : number {
+		return this._anzahlSpringstundenLehrkraefte;
+	}
+
+	/**
+	 * Setzt die Anzahl der Springstunden aller Lehrkräfte.
+	 *
+	 * @param pAnzahl  Die Anzahl der Springstunden aller Lehrkräfte.
+	 */
+	public setAnzahlSpringstundenLehrkraefte(pAnzahl : number) : void {
+		this._anzahlSpringstundenLehrkraefte = pAnzahl;
+	}
+
+	/**
+	 * Liefert die Anzahl der Stunden, welche eine Lerngruppe zusätzlich am selben Tag hat.
+	 *
+	 * @return Die Anzahl der Stunden, welche eine Lerngruppe zusätzlich am selben Tag hat.
+	 */
+	public getAnzahlMehrfachAmTag() : number {
+		return this._anzahlMehrfachAmTag;
+	}
+
+	/**
+	 * Setzt die Anzahl der Stunden, welche eine Lerngruppe zusätzlich am selben Tag hat.
+	 *
+	 * @param pAnzahl  Die Anzahl der Stunden, welche eine Lerngruppe zusätzlich am selben Tag hat.
+	 */
+	public setAnzahlMehrfachAmTag(pAnzahl : number) : void {
+		this._anzahlMehrfachAmTag = pAnzahl;
+	}
+
+	/**
+	 * Liefert die gewichtete Summe aller weichen Kriterien. Kleinere Werte sind besser.
+	 *
+	 * @return Die gewichtete Summe aller weichen Kriterien.
+	 */
+	public getBewertung() : number {
+		return this._bewertung;
+	}
+
+	/**
+	 * Setzt die gewichtete Summe aller weichen Kriterien.
+	 *
+	 * @param pBewertung  Die gewichtete Summe aller weichen Kriterien.
+	 */
+	public setBewertung(pBewertung : number) : void {
+		this._bewertung = pBewertung;
+	}
+
 	transpilerCanonicalName(): string {
 		return 'de.svws_nrw.core.utils.stundenplanblockung.StundenplanblockungManagerStatistik';
 	}
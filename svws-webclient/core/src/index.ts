@@ -73,6 +73,7 @@ export { HashMap5D } from './core/adt/map/HashMap5D';
 export { SatInput } from './core/adt/sat/SatInput';
 export { SatOutput } from './core/adt/sat/SatOutput';
 export { SatSolver } from './core/adt/sat/SatSolver';
+export { SatSolverCDCL } from './core/adt/sat/SatSolverCDCL';
 export { SatSolverSimple1 } from './core/adt/sat/SatSolverSimple1';
 export { SatWrapper1 } from './core/adt/sat/SatWrapper1';
 export { AVLSet } from './core/adt/set/AVLSet';
@@ -111,6 +112,7 @@ export { BKBildungsplanKatalogIndex } from './core/data/bk/BKBildungsplanKatalog
 export { BKFBFach } from './core/data/bk/BKFBFach';
 export { BKFachklassenSchluessel } from './core/data/bk/BKFachklassenSchluessel';
 export { BKLernfeld } from './core/data/bk/BKLernfeld';
+export { DBPoolStatistik } from './core/data/db/DBPoolStatistik';
 export { DBSchemaListeEintrag } from './core/data/db/DBSchemaListeEintrag';
 export { MigrateBody } from './core/data/db/MigrateBody';
 export { SchemaListeEintrag } from './core/data/db/SchemaListeEintrag';
@@ -158,6 +160,7 @@ export { GostBlockungListeneintrag } from './core/data/gost/GostBlockungListenei
 export { GostBlockungRegel } from './core/data/gost/GostBlockungRegel';
 export { GostBlockungRegelUpdate } from './core/data/gost/GostBlockungRegelUpdate';
 export { GostBlockungSchiene } from './core/data/gost/GostBlockungSchiene';
+export { GostBlockungsberechnung } from './core/data/gost/GostBlockungsberechnung';
 export { GostBlockungsdaten } from './core/data/gost/GostBlockungsdaten';
 export { GostBlockungsergebnis } from './core/data/gost/GostBlockungsergebnis';
 export { GostBlockungsergebnisBewertung } from './core/data/gost/GostBlockungsergebnisBewertung';
@@ -409,6 +412,7 @@ export { KursblockungDynKurs } from './core/kursblockung/KursblockungDynKurs';
 export { KursblockungDynSchiene } from './core/kursblockung/KursblockungDynSchiene';
 export { KursblockungDynSchueler } from './core/kursblockung/KursblockungDynSchueler';
 export { KursblockungDynStatistik } from './core/kursblockung/KursblockungDynStatistik';
+export { KursblockungErgebnisSpeicher } from './core/kursblockung/KursblockungErgebnisSpeicher';
 export { KursblockungMatrix } from './core/kursblockung/KursblockungMatrix';
 export { KursblockungStatic } from './core/kursblockung/KursblockungStatic';
 export { SchuelerblockungAlgorithmus } from './core/kursblockung/SchuelerblockungAlgorithmus';
@@ -419,6 +423,7 @@ export { LogData } from './core/logger/LogData';
 export { LogLevel } from './core/logger/LogLevel';
 export { Logger } from './core/logger/Logger';
 export { StundenplanblockungAlgorithmus } from './core/stundenplanblockung/StundenplanblockungAlgorithmus';
+export { StundenplanblockungDynDaten } from './core/stundenplanblockung/StundenplanblockungDynDaten';
 export { DQR } from './core/types/DQR';
 export { Geschlecht } from './core/types/Geschlecht';
 export { KursFortschreibungsart } from './core/types/KursFortschreibungsart';
@@ -0,0 +1,45 @@
+import type { Plugin } from "vite";
+import { readFileSync, writeFileSync } from "node:fs";
+import { resolve } from "node:path";
+import { brotliCompressSync, constants } from "node:zlib";
+
+/** Die Dateiendungen der Dateitypen, für welche eine Brotli-Variante erzeugt wird (siehe ResourceFile im SVWS-Server) */
+const komprimierbar = /\.(html|js|mjs|map|css|json|svg|txt|xml|ico)$/i;
+
+/** Die Mindestgröße einer Datei in Bytes, ab welcher eine Brotli-Variante erzeugt wird */
+const minGroesse = 256;
+
+/**
+ * Erzeugt nach dem Schreiben des Builds für alle komprimierbaren Dateien eine Brotli-Variante
+ * mit der Endung ".br" neben der Datei. Der SVWS-Server liefert diese Variante aus, wenn der
+ * Client Brotli akzeptiert. Varianten, welche die Datei nicht merklich verkleinern, werden nicht
+ * geschrieben.
+ *
+ * @returns das Vite-Plugin
+ */
+export function brotli(): Plugin {
+	return {
+		name: "svws-brotli",
+		apply: "build",
+		enforce: "post",
+		writeBundle(options, bundle) {
+			const dir = options.dir ?? "";
+			for (const fileName of Object.keys(bundle)) {
+				if (!komprimierbar.test(fileName))
+					continue;
+				const datei = resolve(dir, fileName);
+				const daten = readFileSync(datei);
+				if (daten.length < minGroesse)
+					continue;
+				const komprimiert = brotliCompressSync(daten, {
+					params: {
+						[constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY,
+						[constants.BROTLI_PARAM_SIZE_HINT]: daten.length,
+					}
+				});
+				if (komprimiert.length <= (daten.length * 9) / 10)
+					writeFileSync(datei + ".br", komprimiert);
+			}
+		},
+	};
+}